@@ -0,0 +1,115 @@
+package com.comp2042;
+
+import com.comp2042.fumen.FumenConverter;
+import com.comp2042.sim.TrainingDataReader;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Command-line entry point that converts files of fumen strings to and
+ * from the engine's text form of positions, one entry per line, and
+ * exports the games recorded by {@code HeadlessMain --dataset} as fumen.
+ *
+ * <pre>
+ * --decode FILE            fumen strings to convert to text
+ * --encode FILE            text lines to convert to fumen strings
+ * --dataset DIR            export every recorded game in DIR as one fumen
+ * --prefix NAME            shard name prefix (default placements)
+ * --output FILE            file to write (default: standard output)
+ * --threads N              (default: all cores)
+ * </pre>
+ */
+public class FumenMain {
+
+    private FumenMain() {
+    }
+
+    /**
+     * Main entry point.
+     *
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        Path decode = null;
+        Path encode = null;
+        Path dataset = null;
+        String prefix = "placements";
+        Path output = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (option.equals("--help") || option.equals("-h")) {
+                    printUsage();
+                    return;
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--decode" -> decode = Path.of(value);
+                    case "--encode" -> encode = Path.of(value);
+                    case "--dataset" -> dataset = Path.of(value);
+                    case "--prefix" -> prefix = value;
+                    case "--output" -> output = Path.of(value);
+                    case "--threads" -> threads = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+            int sources = (decode != null ? 1 : 0) + (encode != null ? 1 : 0) + (dataset != null ? 1 : 0);
+            if (sources != 1) {
+                throw new IllegalArgumentException("Give exactly one of --decode, --encode or --dataset");
+            }
+
+            long startNanos = System.nanoTime();
+            List<String> results;
+            if (dataset != null) {
+                List<Path> shards = TrainingDataReader.shards(dataset, prefix);
+                if (shards.isEmpty()) {
+                    throw new IOException("No " + prefix + " shards in " + dataset);
+                }
+                results = FumenConverter.exportGames(shards);
+            } else {
+                List<String> lines = Files.readAllLines(decode != null ? decode : encode, StandardCharsets.UTF_8);
+                FumenConverter converter = new FumenConverter(threads);
+                results = decode != null ? converter.toText(lines) : converter.toFumen(lines);
+            }
+            long elapsedNanos = System.nanoTime() - startNanos;
+
+            if (output != null) {
+                try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+                    for (String result : results) {
+                        writer.write(result);
+                        writer.write('\n');
+                    }
+                }
+            } else {
+                PrintStream out = System.out;
+                for (String result : results) {out.println(result);}
+                out.flush();
+            }
+            System.err.printf(Locale.ROOT, "Converted %d entries in %.1f ms%n", results.size(), elapsedNanos / 1e6);
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            printUsage();
+            System.exit(2);
+        }
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: FumenMain (--decode FILE | --encode FILE | --dataset DIR [--prefix NAME])"
+                + " [--output FILE] [--threads N]");
+    }
+}
@@ -0,0 +1,73 @@
+package com.comp2042;
+
+import com.comp2042.fuzz.Divergence;
+import com.comp2042.fuzz.EngineFuzzer;
+import com.comp2042.fuzz.FuzzResult;
+
+/**
+ * Command-line entry point for the differential engine fuzzer. Prints the
+ * case and step counts with the step rate, and on a divergence prints the
+ * shrunk steps that reproduce it and exits with status 1.
+ *
+ * <pre>
+ * --cases N                (default 10000)
+ * --steps N                steps per case (default 1000)
+ * --seed N                 seed of the first case (default 0)
+ * --threads N              (default: all cores)
+ * </pre>
+ */
+public class FuzzMain {
+
+    private FuzzMain() {
+    }
+
+    /**
+     * Main entry point.
+     *
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        int cases = 10_000;
+        int steps = 1000;
+        long seed = 0;
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (option.equals("--help") || option.equals("-h")) {
+                    printUsage();
+                    return;
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--cases" -> cases = Integer.parseInt(value);
+                    case "--steps" -> steps = Integer.parseInt(value);
+                    case "--seed" -> seed = Long.parseLong(value);
+                    case "--threads" -> threads = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+
+            FuzzResult result = new EngineFuzzer(threads).run(seed, cases, steps);
+            System.out.println(result);
+            Divergence divergence = result.getDivergence();
+            if (divergence != null) {
+                System.out.println("Reproduce with seed " + divergence.getSeed() + " and steps:");
+                System.out.print(divergence.describeSteps());
+                System.exit(1);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            printUsage();
+            System.exit(2);
+        }
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: FuzzMain [--cases N] [--steps N] [--seed N] [--threads N]");
+    }
+}
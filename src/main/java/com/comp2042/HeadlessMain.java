@@ -0,0 +1,194 @@
+package com.comp2042;
+
+import com.comp2042.book.BookPlayer;
+import com.comp2042.book.OpeningBook;
+import com.comp2042.bot.PlayerType;
+import com.comp2042.model.GameMode;
+import com.comp2042.sim.BatchSimulator;
+import com.comp2042.sim.BatchSummary;
+import com.comp2042.sim.DistributedSimulator;
+import com.comp2042.sim.GameSimulator;
+import com.comp2042.sim.OutputFormat;
+import com.comp2042.sim.SimulationConfig;
+import com.comp2042.sim.SimulationResult;
+import com.comp2042.sim.TrainingDataWriter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Command-line entry point that plays complete games without a window.
+ * Summary statistics go to standard output; a throughput line goes to
+ * standard error so the output stays machine-readable.
+ *
+ * <pre>
+ * --mode NORMAL|FORTY_LINES|TWO_MINUTES   (default NORMAL)
+ * --seed N                                (default 1)
+ * --pieces N                              (default 1000)
+ * --player RANDOM|GREEDY|HEURISTIC|BEAM|PARALLEL|MONTE_CARLO
+ *                                         (default GREEDY)
+ * --format JSON|CSV                       (default JSON)
+ * --games N                               seeds seed..seed+N-1 (default 1)
+ * --ms-per-piece N                        simulated time per piece (default 500)
+ * --threads N                             play the games in parallel and print
+ *                                         only the aggregate (default: sequential)
+ * --listen PORT                           hand the games to WorkerMain processes that
+ *                                         connect to this port and print only the aggregate
+ * --games-per-job N                       games sent to a worker at a time (default 4)
+ * --dataset DIR                           also write every placement as a training record to
+ *                                         compressed shards in DIR (not with --listen)
+ * --book FILE                             play the opening from an OpeningBookMain book, then
+ *                                         hand over to --player (sequential games only)
+ * </pre>
+ */
+public class HeadlessMain {
+
+    private static final String DATASET_PREFIX = "placements";
+
+    private HeadlessMain() {
+    }
+
+    /**
+     * Main entry point.
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        GameMode mode = GameMode.NORMAL;
+        long seed = 1;
+        int pieces = 1000;
+        PlayerType player = PlayerType.GREEDY;
+        OutputFormat format = OutputFormat.JSON;
+        int games = 1;
+        long msPerPiece = SimulationConfig.DEFAULT_MS_PER_PIECE;
+        int threads = 0;
+        int listenPort = -1;
+        int gamesPerJob = DistributedSimulator.DEFAULT_GAMES_PER_JOB;
+        Path dataset = null;
+        Path bookFile = null;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (option.equals("--help") || option.equals("-h")) {
+                    printUsage();
+                    return;
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--mode" -> mode = GameMode.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "--seed" -> seed = Long.parseLong(value);
+                    case "--pieces" -> pieces = Integer.parseInt(value);
+                    case "--player" -> player = PlayerType.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "--format" -> format = OutputFormat.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "--games" -> games = Integer.parseInt(value);
+                    case "--ms-per-piece" -> msPerPiece = Long.parseLong(value);
+                    case "--threads" -> threads = Integer.parseInt(value);
+                    case "--listen" -> listenPort = Integer.parseInt(value);
+                    case "--games-per-job" -> gamesPerJob = Integer.parseInt(value);
+                    case "--dataset" -> dataset = Path.of(value);
+                    case "--book" -> bookFile = Path.of(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+            if (games < 1) {
+                throw new IllegalArgumentException("--games must be at least 1");
+            }
+            if (dataset != null && listenPort >= 0) {
+                throw new IllegalArgumentException("--dataset cannot be used with --listen");
+            }
+            if (bookFile != null && (threads > 0 || listenPort >= 0)) {
+                throw new IllegalArgumentException("--book cannot be used with --threads or --listen");
+            }
+            OpeningBook book = bookFile != null ? OpeningBook.open(bookFile) : null;
+            SimulationConfig config = new SimulationConfig(mode, seed, pieces, player, msPerPiece);
+            if (listenPort >= 0) {
+                runDistributed(config, games, listenPort, gamesPerJob, format);
+            } else {
+                TrainingDataWriter writer = dataset != null
+                        ? new TrainingDataWriter(dataset, DATASET_PREFIX) : null;
+                try (writer) {
+                    if (threads > 0) {
+                        runBatch(config, games, threads, format, writer);
+                    } else {
+                        run(config, games, format, writer, book);
+                    }
+                }
+                // Counted after close, so the last shard is included
+                if (writer != null) {
+                    System.err.printf(Locale.ROOT, "%d training records in %d shards written to %s"
+                                    + " (%d waits for the writer)%n", writer.getRecords(), writer.getShards(),
+                            dataset, writer.getBufferWaits());
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            printUsage();
+            System.exit(2);
+        }
+    }
+
+    private static void run(SimulationConfig config, int games, OutputFormat format, TrainingDataWriter dataset,
+                            OpeningBook book) {
+        List<SimulationResult> results = new ArrayList<>();
+        long totalPieces = 0;
+        long bookMoves = 0;
+        long startNanos = System.nanoTime();
+
+        for (int i = 0; i < games; i++) {
+            SimulationConfig game = config.withSeed(config.getSeed() + i);
+            BookPlayer player = book != null
+                    ? new BookPlayer(book, game.getPlayerType().create(game.getSeed())) : null;
+            SimulationResult result = new GameSimulator(game, player, dataset).run();
+            results.add(result);
+            totalPieces += result.getPieces();
+            if (player != null) {
+                bookMoves += player.getBookMoves();
+                player.close();
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        System.out.print(format.format(results));
+        System.err.printf(Locale.ROOT, "%d games, %d pieces in %.1f ms (%.0f pieces/s)%n",
+                games, totalPieces, elapsedNanos / 1e6,
+                elapsedNanos == 0 ? 0.0 : totalPieces * 1e9 / elapsedNanos);
+        if (book != null) {
+            System.err.printf(Locale.ROOT, "%d pieces played from the book%n", bookMoves);
+        }
+    }
+
+    private static void runBatch(SimulationConfig config, int games, int threads, OutputFormat format,
+                                 TrainingDataWriter dataset) {
+        BatchSummary summary = new BatchSimulator(threads).run(config, games, dataset);
+        System.out.print(format.formatSummary(summary));
+        System.err.println(summary);
+    }
+
+    private static void runDistributed(SimulationConfig config, int games, int port, int gamesPerJob,
+                                       OutputFormat format) throws IOException {
+        try (DistributedSimulator coordinator = new DistributedSimulator(port, gamesPerJob)) {
+            System.err.println("Waiting for workers: WorkerMain --host <this host> --port " + coordinator.getPort());
+            BatchSummary summary = coordinator.run(config, games);
+            System.out.print(format.formatSummary(summary));
+            System.err.println(summary);
+            System.err.printf(Locale.ROOT, "%d workers lost, %d jobs requeued, %d jobs stolen%n",
+                    coordinator.getLostWorkers(), coordinator.getRequeuedJobs(), coordinator.getStolenJobs());
+        }
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: HeadlessMain [--mode NORMAL|FORTY_LINES|TWO_MINUTES] [--seed N]"
+                + " [--pieces N] [--player RANDOM|GREEDY|HEURISTIC|BEAM|PARALLEL|MONTE_CARLO] [--format JSON|CSV] [--games N]"
+                + " [--ms-per-piece N] [--threads N] [--listen PORT] [--games-per-job N] [--dataset DIR]"
+                + " [--book FILE]");
+    }
+}
@@ -0,0 +1,98 @@
+package com.comp2042;
+
+import com.comp2042.book.OpeningBook;
+import com.comp2042.book.OpeningBookBuilder;
+import com.comp2042.sim.TrainingDataReader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Command-line entry point that builds an opening book from the training
+ * shards written by {@code HeadlessMain --dataset}.
+ *
+ * <pre>
+ * --dataset DIR            directory holding the shards (required)
+ * --prefix NAME            shard name prefix (default placements)
+ * --output FILE            book to write (default openings.book)
+ * --pieces N               pieces read from the start of each game (default 10)
+ * --queue N                preview pieces that are part of a position, 0-5 (default 2)
+ * --success-lines N        lines a game must clear to succeed (default 40)
+ * --threads N              (default: all cores)
+ * </pre>
+ */
+public class OpeningBookMain {
+
+    private OpeningBookMain() {
+    }
+
+    /**
+     * Main entry point.
+     *
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        Path dataset = null;
+        String prefix = "placements";
+        Path output = Path.of("openings.book");
+        int pieces = OpeningBookBuilder.DEFAULT_MAX_PIECES;
+        int queue = OpeningBookBuilder.DEFAULT_QUEUE_LENGTH;
+        int successLines = OpeningBookBuilder.DEFAULT_SUCCESS_LINES;
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (option.equals("--help") || option.equals("-h")) {
+                    printUsage();
+                    return;
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--dataset" -> dataset = Path.of(value);
+                    case "--prefix" -> prefix = value;
+                    case "--output" -> output = Path.of(value);
+                    case "--pieces" -> pieces = Integer.parseInt(value);
+                    case "--queue" -> queue = Integer.parseInt(value);
+                    case "--success-lines" -> successLines = Integer.parseInt(value);
+                    case "--threads" -> threads = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+            if (dataset == null) {
+                throw new IllegalArgumentException("--dataset is required");
+            }
+            List<Path> shards = TrainingDataReader.shards(dataset, prefix);
+            if (shards.isEmpty()) {
+                throw new IOException("No " + prefix + " shards in " + dataset);
+            }
+
+            OpeningBookBuilder builder = new OpeningBookBuilder(pieces, queue, successLines, threads);
+            long startNanos = System.nanoTime();
+            builder.build(shards, output);
+            long elapsedNanos = System.nanoTime() - startNanos;
+            OpeningBook book = OpeningBook.open(output);
+            System.out.printf(Locale.ROOT, "%d positions from %d games (%d records) in %d slots written to %s%n",
+                    book.getPositions(), builder.getGames(), builder.getRecords(), book.getSlots(), output);
+            System.err.printf(Locale.ROOT, "%d shards in %.1f ms (%.0f records/s)%n", shards.size(),
+                    elapsedNanos / 1e6, elapsedNanos == 0 ? 0.0 : builder.getRecords() * 1e9 / elapsedNanos);
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            printUsage();
+            System.exit(2);
+        }
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: OpeningBookMain --dataset DIR [--prefix NAME] [--output FILE]"
+                + " [--pieces N] [--queue N] [--success-lines N] [--threads N]");
+    }
+}
@@ -0,0 +1,130 @@
+package com.comp2042;
+
+import com.comp2042.bot.BitBoard;
+import com.comp2042.bot.PerfectClearSolution;
+import com.comp2042.bot.PerfectClearSolver;
+import com.comp2042.bot.PieceShape;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Command-line entry point for the perfect clear solver. Prints the first
+ * solution with its inputs, or every solution up to a limit, and the
+ * time the search took.
+ *
+ * <pre>
+ * --queue LETTERS        current piece and next pieces, e.g. TILJSZOIOLJ (required)
+ * --hold LETTER          held piece (default none)
+ * --stack ROWS           bottom rows of the stack, top row first, e.g. "##....####,###...####"
+ * --all N                list up to N solutions instead of the first
+ * --threads N            threads used with --all (default: all cores)
+ * --max-height N         highest perfect clear to try (default 4)
+ * </pre>
+ */
+public class PerfectClearMain {
+
+    private static final int BOARD_WIDTH = 10;
+    private static final int BOARD_HEIGHT = 25;
+
+    private PerfectClearMain() {
+    }
+
+    /**
+     * Main entry point.
+     *
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        String queue = null;
+        PieceShape hold = null;
+        String stack = "";
+        int limit = 0;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int maxHeight = PerfectClearSolver.DEFAULT_MAX_HEIGHT;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (option.equals("--help") || option.equals("-h")) {
+                    printUsage();
+                    return;
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--queue" -> queue = value.toUpperCase(Locale.ROOT);
+                    case "--hold" -> hold = PieceShape.ofLetter(value.charAt(0));
+                    case "--stack" -> stack = value;
+                    case "--all" -> limit = Integer.parseInt(value);
+                    case "--threads" -> threads = Integer.parseInt(value);
+                    case "--max-height" -> maxHeight = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+            if (queue == null || queue.isEmpty()) {
+                throw new IllegalArgumentException("--queue is required");
+            }
+
+            BitBoard board = BitBoard.fromMatrix(parseStack(stack));
+            PerfectClearSolver solver = new PerfectClearSolver(threads, maxHeight);
+            long start = System.nanoTime();
+            if (limit > 0) {
+                List<PerfectClearSolution> solutions = solver.findAll(board, queue, hold, limit);
+                double millis = (System.nanoTime() - start) / 1e6;
+                solutions.forEach(System.out::println);
+                System.out.printf(Locale.ROOT, "%d solutions in %.1f ms%n", solutions.size(), millis);
+            } else {
+                PerfectClearSolution solution = solver.findFirst(board, queue, hold);
+                double millis = (System.nanoTime() - start) / 1e6;
+                if (solution == null) {
+                    System.out.printf(Locale.ROOT, "No perfect clear (%.1f ms)%n", millis);
+                } else {
+                    System.out.println(solution);
+                    for (int step = 0; step < solution.size(); step++) {
+                        System.out.println("  " + solution.getPieces().charAt(step) + ": "
+                                + solution.getInputs(step));
+                    }
+                    System.out.printf(Locale.ROOT, "%d-line perfect clear in %.1f ms%n",
+                            solution.getHeight(), millis);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            printUsage();
+            System.exit(2);
+        }
+    }
+
+    /**
+     * Builds a board matrix with the given rows at the bottom.
+     */
+    private static int[][] parseStack(String stack) {
+        int[][] matrix = new int[BOARD_HEIGHT][BOARD_WIDTH];
+        if (stack.isBlank()) {
+            return matrix;
+        }
+        String[] rows = stack.split(",");
+        if (rows.length > BOARD_HEIGHT) {
+            throw new IllegalArgumentException("Stack is taller than the board");
+        }
+        for (int r = 0; r < rows.length; r++) {
+            String row = rows[r].trim();
+            if (row.length() != BOARD_WIDTH) {
+                throw new IllegalArgumentException("Stack rows must be " + BOARD_WIDTH + " cells: " + row);
+            }
+            for (int c = 0; c < BOARD_WIDTH; c++) {
+                // Any filled cell will do; the solver only looks at occupancy
+                matrix[BOARD_HEIGHT - rows.length + r][c] = row.charAt(c) == '.' ? 0 : 8;
+            }
+        }
+        return matrix;
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: PerfectClearMain --queue LETTERS [--hold LETTER] [--stack ROWS]"
+                + " [--all N] [--threads N] [--max-height N]");
+    }
+}
@@ -0,0 +1,76 @@
+package com.comp2042;
+
+import com.comp2042.bot.Perft;
+import com.comp2042.bot.PerftPosition;
+import com.comp2042.bot.PerftResult;
+
+import java.util.Locale;
+
+/**
+ * Command-line entry point for the move-generation perft. Prints one
+ * line per depth so the counts can be compared between builds, followed
+ * by the node rate.
+ *
+ * <pre>
+ * --position EMPTY|OVERHANG|TSPIN_SLOT|TALL_STACK   (default EMPTY)
+ * --depth N                                         (default 3)
+ * --threads N                                       (default 1)
+ * --distinct                                        also count distinct leaf boards
+ * </pre>
+ */
+public class PerftMain {
+
+    private PerftMain() {
+    }
+
+    /**
+     * Main entry point.
+     *
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        PerftPosition position = PerftPosition.EMPTY;
+        int depth = 3;
+        int threads = 1;
+        boolean distinct = false;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (option.equals("--help") || option.equals("-h")) {
+                    printUsage();
+                    return;
+                }
+                if (option.equals("--distinct")) {
+                    distinct = true;
+                    continue;
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--position" -> position = PerftPosition.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "--depth" -> depth = Integer.parseInt(value);
+                    case "--threads" -> threads = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+
+            Perft perft = new Perft(threads);
+            for (int d = 1; d <= depth; d++) {
+                PerftResult result = perft.run(position, d, distinct);
+                System.out.println(result);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            printUsage();
+            System.exit(2);
+        }
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: PerftMain [--position EMPTY|OVERHANG|TSPIN_SLOT|TALL_STACK]"
+                + " [--depth N] [--threads N] [--distinct]");
+    }
+}
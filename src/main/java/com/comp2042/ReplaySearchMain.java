@@ -0,0 +1,118 @@
+package com.comp2042;
+
+import com.comp2042.replay.CellPattern;
+import com.comp2042.replay.ReplayIndex;
+import com.comp2042.replay.ReplayIndexBuilder;
+import com.comp2042.replay.SearchResult;
+import com.comp2042.sim.TrainingDataReader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Command-line entry point that indexes the training shards written by
+ * {@code HeadlessMain --dataset} and searches them for a pattern of cells.
+ * With {@code --dataset} the index is (re)built first; with
+ * {@code --pattern} it is then searched.
+ *
+ * <pre>
+ * --index DIR              index directory (required)
+ * --dataset DIR            build the index from the shards in DIR
+ * --prefix NAME            shard name prefix (default placements)
+ * --gram-rows N            rows per n-gram, the tallest pattern (default 3)
+ * --pattern ROWS           rows top to bottom separated by '/', X filled,
+ *                          '.' empty, '?' either, e.g. X../.../X.X
+ * --limit N                positions to list (default 20)
+ * --threads N              (default: all cores)
+ * </pre>
+ */
+public class ReplaySearchMain {
+
+    private ReplaySearchMain() {
+    }
+
+    /**
+     * Main entry point.
+     *
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        Path index = null;
+        Path dataset = null;
+        String prefix = "placements";
+        int gramRows = ReplayIndexBuilder.DEFAULT_GRAM_ROWS;
+        CellPattern pattern = null;
+        int limit = 20;
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (option.equals("--help") || option.equals("-h")) {
+                    printUsage();
+                    return;
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--index" -> index = Path.of(value);
+                    case "--dataset" -> dataset = Path.of(value);
+                    case "--prefix" -> prefix = value;
+                    case "--gram-rows" -> gramRows = Integer.parseInt(value);
+                    case "--pattern" -> pattern = CellPattern.parse(value);
+                    case "--limit" -> limit = Integer.parseInt(value);
+                    case "--threads" -> threads = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+            if (index == null) {
+                throw new IllegalArgumentException("--index is required");
+            }
+            if (dataset == null && pattern == null) {
+                throw new IllegalArgumentException("Give --dataset to build, --pattern to search, or both");
+            }
+
+            if (dataset != null) {
+                List<Path> shards = TrainingDataReader.shards(dataset, prefix);
+                if (shards.isEmpty()) {
+                    throw new IOException("No " + prefix + " shards in " + dataset);
+                }
+                long startNanos = System.nanoTime();
+                int positions = new ReplayIndexBuilder(gramRows, threads).build(shards, index);
+                System.err.printf(Locale.ROOT, "Indexed %d positions from %d shards in %.1f ms%n",
+                        positions, shards.size(), (System.nanoTime() - startNanos) / 1e6);
+            }
+
+            if (pattern != null) {
+                try (ReplayIndex replays = ReplayIndex.open(index, threads)) {
+                    long startNanos = System.nanoTime();
+                    SearchResult result = replays.search(pattern, limit);
+                    long elapsedNanos = System.nanoTime() - startNanos;
+                    for (int position : result.getPositions()) {
+                        System.out.printf(Locale.ROOT, "%d\t%s\t%d%n", position,
+                                replays.getShard(position).getFileName(), replays.getRecordIndex(position));
+                    }
+                    System.err.printf(Locale.ROOT, "%d%s of %d positions match %s (%d grams) in %.1f ms%n",
+                            result.getPositions().length, result.isComplete() ? "" : "+", replays.getPositions(),
+                            pattern, result.getMatchingGrams(), elapsedNanos / 1e6);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            printUsage();
+            System.exit(2);
+        }
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: ReplaySearchMain --index DIR [--dataset DIR] [--prefix NAME] [--gram-rows N]"
+                + " [--pattern ROWS] [--limit N] [--threads N]");
+    }
+}
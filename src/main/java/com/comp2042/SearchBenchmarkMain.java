@@ -0,0 +1,86 @@
+package com.comp2042;
+
+import com.comp2042.bot.SearchBenchmark;
+
+/**
+ * Command-line entry point comparing the parallel search at several
+ * thread counts on the same positions.
+ *
+ * <pre>
+ * --threads LIST      comma-separated thread counts (default 1,2,4,8,16)
+ * --seeds N           seeds 1..N (default 4)
+ * --positions N       decisions measured per seed (default 25)
+ * --budget-ms N       time budget per decision (default 10)
+ * </pre>
+ */
+public class SearchBenchmarkMain {
+
+    private SearchBenchmarkMain() {
+    }
+
+    /**
+     * Main entry point.
+     *
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        int[] threads = {1, 2, 4, 8, 16};
+        int seeds = 4;
+        int positions = 25;
+        long budgetMs = 10;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (option.equals("--help") || option.equals("-h")) {
+                    printUsage();
+                    return;
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--threads" -> threads = parseList(value);
+                    case "--seeds" -> seeds = Integer.parseInt(value);
+                    case "--positions" -> positions = Integer.parseInt(value);
+                    case "--budget-ms" -> budgetMs = Long.parseLong(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+            if (seeds < 1) {
+                throw new IllegalArgumentException("--seeds must be at least 1");
+            }
+
+            long[] seedList = new long[seeds];
+            for (int i = 0; i < seeds; i++) {
+                seedList[i] = i + 1;
+            }
+            System.out.println("Available processors: " + Runtime.getRuntime().availableProcessors());
+            new SearchBenchmark(threads, budgetMs * 1_000_000L, positions)
+                    .run(seedList)
+                    .forEach(System.out::println);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            printUsage();
+            System.exit(2);
+        }
+    }
+
+    private static int[] parseList(String value) {
+        String[] parts = value.split(",");
+        int[] counts = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            counts[i] = Integer.parseInt(parts[i].trim());
+            if (counts[i] < 1) {
+                throw new IllegalArgumentException("Thread counts must be at least 1");
+            }
+        }
+        return counts;
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: SearchBenchmarkMain [--threads 1,2,4,8,16] [--seeds N]"
+                + " [--positions N] [--budget-ms N]");
+    }
+}
@@ -0,0 +1,114 @@
+package com.comp2042;
+
+import com.comp2042.bot.EvaluationWeights;
+import com.comp2042.tuning.SelfPlayConfig;
+import com.comp2042.tuning.SelfPlaySnapshot;
+import com.comp2042.tuning.SelfPlayTrainer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Command-line entry point for learning evaluation weights from
+ * self-play. Starts from the El-Tetris weights, or resumes from the
+ * snapshot file if it already exists.
+ *
+ * <pre>
+ * --snapshot FILE          (default self-play.properties)
+ * --updates N              total transitions to learn from (default 5000000)
+ * --snapshot-every N       transitions between snapshots (default 100000)
+ * --actors N               game-playing threads (default: all cores but one)
+ * --learning-rate F        (default 0.01)
+ * --discount F             (default 0.95)
+ * --exploration F          share of random placements (default 0.05)
+ * --pieces N               piece limit per game (default 2000)
+ * --seed N                 (default 1)
+ * </pre>
+ */
+public class SelfPlayMain {
+
+    private SelfPlayMain() {
+    }
+
+    /**
+     * Main entry point.
+     *
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        Path snapshotFile = Path.of("self-play.properties");
+        long updates = 5_000_000;
+        long snapshotEvery = 100_000;
+        int actors = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        double learningRate = SelfPlayConfig.DEFAULT_LEARNING_RATE;
+        double discount = SelfPlayConfig.DEFAULT_DISCOUNT;
+        double exploration = SelfPlayConfig.DEFAULT_EXPLORATION;
+        int pieces = SelfPlayConfig.DEFAULT_PIECE_LIMIT;
+        long seed = 1;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (option.equals("--help") || option.equals("-h")) {
+                    printUsage();
+                    return;
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--snapshot" -> snapshotFile = Path.of(value);
+                    case "--updates" -> updates = Long.parseLong(value);
+                    case "--snapshot-every" -> snapshotEvery = Long.parseLong(value);
+                    case "--actors" -> actors = Integer.parseInt(value);
+                    case "--learning-rate" -> learningRate = Double.parseDouble(value);
+                    case "--discount" -> discount = Double.parseDouble(value);
+                    case "--exploration" -> exploration = Double.parseDouble(value);
+                    case "--pieces" -> pieces = Integer.parseInt(value);
+                    case "--seed" -> seed = Long.parseLong(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+
+            SelfPlaySnapshot start;
+            if (Files.exists(snapshotFile)) {
+                start = SelfPlaySnapshot.load(snapshotFile);
+                System.err.println("Resuming " + snapshotFile + " after " + start.getUpdates() + " updates");
+            } else {
+                start = SelfPlaySnapshot.initial(EvaluationWeights.DEFAULT);
+            }
+
+            SelfPlayConfig config = new SelfPlayConfig(actors, learningRate, discount, exploration, pieces, seed);
+            SelfPlayTrainer trainer = new SelfPlayTrainer(config);
+            long[] previous = {start.getGames(), start.getLines()};
+            SelfPlaySnapshot result = trainer.run(start, updates, snapshotEvery, snapshotFile, snapshot -> {
+                long games = snapshot.getGames() - previous[0];
+                long lines = snapshot.getLines() - previous[1];
+                previous[0] = snapshot.getGames();
+                previous[1] = snapshot.getLines();
+                System.out.printf(Locale.ROOT, "%d updates: %d games, %.1f lines per game, %.0f transitions/s%n",
+                        snapshot.getUpdates(), games, games == 0 ? Double.NaN : (double) lines / games,
+                        trainer.getLastTransitionsPerSecond());
+            });
+
+            System.err.println(trainer.getQueueFullWaits() + " waits for a full queue");
+            System.out.println("Learned weights: " + result.getWeights());
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            printUsage();
+            System.exit(2);
+        }
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: SelfPlayMain [--snapshot FILE] [--updates N] [--snapshot-every N]"
+                + " [--actors N] [--learning-rate F] [--discount F]"
+                + " [--exploration F] [--pieces N] [--seed N]");
+    }
+}
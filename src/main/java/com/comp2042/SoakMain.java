@@ -0,0 +1,124 @@
+package com.comp2042;
+
+import com.comp2042.bot.PlayerType;
+import com.comp2042.soak.SoakReport;
+import com.comp2042.soak.SoakRunner;
+import com.comp2042.soak.SoakSample;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Command-line entry point for the endurance soak. Plays pieces through
+ * the game controller without a window, writes the time series of heap,
+ * allocation rate and live threads as CSV while it runs, and exits with
+ * status 1 if retained heap, live threads or scheduled tasks grew.
+ *
+ * <pre>
+ * --pieces N                  (default 20000000)
+ * --sample-every N            pieces between samples (default 1000000)
+ * --player RANDOM|GREEDY|HEURISTIC|BEAM|PARALLEL|MONTE_CARLO
+ *                             (default GREEDY)
+ * --seed N                    (default 1)
+ * --games-per-mode N          games before switching mode (default 50)
+ * --heap-tolerance-mb N       retained heap growth allowed (default 16)
+ * --thread-tolerance N        live thread growth allowed (default 0)
+ * --task-tolerance N          pending clock task growth allowed (default 4)
+ * --output FILE               CSV file (default: standard output)
+ * </pre>
+ */
+public class SoakMain {
+
+    private SoakMain() {
+    }
+
+    /**
+     * Main entry point.
+     *
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        long pieces = 20_000_000;
+        long sampleEvery = 1_000_000;
+        PlayerType player = PlayerType.GREEDY;
+        long seed = 1;
+        int gamesPerMode = 50;
+        long heapToleranceMb = 16;
+        int threadTolerance = 0;
+        int taskTolerance = 4;
+        Path output = null;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (option.equals("--help") || option.equals("-h")) {
+                    printUsage();
+                    return;
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--pieces" -> pieces = Long.parseLong(value);
+                    case "--sample-every" -> sampleEvery = Long.parseLong(value);
+                    case "--player" -> player = PlayerType.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "--seed" -> seed = Long.parseLong(value);
+                    case "--games-per-mode" -> gamesPerMode = Integer.parseInt(value);
+                    case "--heap-tolerance-mb" -> heapToleranceMb = Long.parseLong(value);
+                    case "--thread-tolerance" -> threadTolerance = Integer.parseInt(value);
+                    case "--task-tolerance" -> taskTolerance = Integer.parseInt(value);
+                    case "--output" -> output = Path.of(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+
+            if (sampleEvery < 1 || pieces / sampleEvery < 3) {
+                throw new IllegalArgumentException("--pieces must be at least three times --sample-every");
+            }
+            SoakRunner runner = new SoakRunner(player, seed, gamesPerMode);
+            SoakReport report;
+            try (Writer writer = output != null ? Files.newBufferedWriter(output, StandardCharsets.UTF_8)
+                    : new OutputStreamWriter(System.out, StandardCharsets.UTF_8)) {
+                writer.write(SoakSample.CSV_HEADER + "\n");
+                List<SoakSample> samples = runner.run(pieces, sampleEvery, sample -> {
+                    try {
+                        writer.write(sample.toCsvRow() + "\n");
+                        writer.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    System.err.println(sample);
+                });
+                report = new SoakReport(samples, heapToleranceMb * 1_000_000, threadTolerance, taskTolerance);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            System.err.println(report);
+            if (!report.isFlat()) {
+                System.exit(1);
+            }
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            printUsage();
+            System.exit(2);
+        }
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: SoakMain [--pieces N] [--sample-every N] [--player TYPE] [--seed N]"
+                + " [--games-per-mode N] [--heap-tolerance-mb N] [--thread-tolerance N]"
+                + " [--task-tolerance N] [--output FILE]");
+    }
+}
@@ -0,0 +1,124 @@
+package com.comp2042;
+
+import com.comp2042.bot.BotRegistry;
+import com.comp2042.tournament.MatchFormat;
+import com.comp2042.tournament.MatchResult;
+import com.comp2042.tournament.MatchRunner;
+import com.comp2042.tournament.RatingTable;
+import com.comp2042.tournament.Tournament;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Command-line entry point for bot-vs-bot tournaments. Prints one line
+ * per finished match to standard error and a rating table per format,
+ * plus an overall one, to standard output.
+ *
+ * <pre>
+ * --bots A,B,...                 registered bot names (default: all registered bots)
+ * --format SPRINT|BATTLE|BOTH    (default BOTH)
+ * --seeds N                      seeds per pair and format (default 10)
+ * --seed N                       first seed (default 1)
+ * --pieces N                     piece limit per bot and match (default 1000)
+ * --budget-ms N                  time per move, 0 for unlimited (default 0)
+ * --threads N                    matches played at once (default: all cores)
+ * --checkpoint FILE              append results here and resume from it
+ * </pre>
+ */
+public class TournamentMain {
+
+    private TournamentMain() {
+    }
+
+    /**
+     * Main entry point.
+     *
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        List<String> bots = null;
+        Set<MatchFormat> formats = EnumSet.allOf(MatchFormat.class);
+        int seeds = 10;
+        long seed = 1;
+        int pieces = 1000;
+        long budgetMillis = 0;
+        int threads = Runtime.getRuntime().availableProcessors();
+        Path checkpoint = null;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (option.equals("--help") || option.equals("-h")) {
+                    printUsage();
+                    return;
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--bots" -> bots = List.of(value.toLowerCase(Locale.ROOT).split(","));
+                    case "--format" -> formats = value.equalsIgnoreCase("BOTH")
+                            ? EnumSet.allOf(MatchFormat.class)
+                            : EnumSet.of(MatchFormat.valueOf(value.toUpperCase(Locale.ROOT)));
+                    case "--seeds" -> seeds = Integer.parseInt(value);
+                    case "--seed" -> seed = Long.parseLong(value);
+                    case "--pieces" -> pieces = Integer.parseInt(value);
+                    case "--budget-ms" -> budgetMillis = Long.parseLong(value);
+                    case "--threads" -> threads = Integer.parseInt(value);
+                    case "--checkpoint" -> checkpoint = Path.of(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+            if (bots == null) {
+                bots = BotRegistry.names();
+            }
+            for (String bot : bots) {
+                BotRegistry.create(bot).close();
+            }
+
+            MatchRunner runner = new MatchRunner(pieces, TimeUnit.MILLISECONDS.toNanos(budgetMillis));
+            Tournament tournament = new Tournament(bots, formats, seed, seeds, runner, threads);
+            int total = tournament.schedule().size();
+            AtomicInteger finished = new AtomicInteger();
+            long startNanos = System.nanoTime();
+            List<MatchResult> results = tournament.run(checkpoint, result ->
+                    System.err.printf(Locale.ROOT, "[%d] %s%n", finished.incrementAndGet(), result));
+
+            System.err.printf(Locale.ROOT, "%d of %d matches played this run in %.1f s, %d failed%n",
+                    finished.get(), total, (System.nanoTime() - startNanos) / 1e9, tournament.getFailures());
+            for (MatchFormat format : formats) {
+                List<MatchResult> ofFormat = new ArrayList<>();
+                for (MatchResult result : results) {
+                    if (result.getMatch().getFormat() == format) {ofFormat.add(result);}
+                }
+                System.out.println(format + " (" + format.getDescription() + ")");
+                System.out.println(RatingTable.of(ofFormat));
+            }
+            if (formats.size() > 1) {
+                System.out.println("OVERALL");
+                System.out.println(RatingTable.of(results));
+            }
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            printUsage();
+            System.exit(2);
+        }
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: TournamentMain [--bots A,B,...] [--format SPRINT|BATTLE|BOTH] [--seeds N]"
+                + " [--seed N] [--pieces N] [--budget-ms N] [--threads N] [--checkpoint FILE]");
+    }
+}
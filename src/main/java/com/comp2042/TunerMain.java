@@ -0,0 +1,114 @@
+package com.comp2042;
+
+import com.comp2042.bot.EvaluationWeights;
+import com.comp2042.model.GameMode;
+import com.comp2042.tuning.CrossEntropyTuner;
+import com.comp2042.tuning.TunerCheckpoint;
+import com.comp2042.tuning.TunerConfig;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Command-line entry point for tuning the heuristic player's evaluation
+ * weights. Starts from the El-Tetris weights, or resumes from the
+ * checkpoint file if it already exists; a resumed run keeps the settings
+ * stored in the checkpoint and only takes the generation target and
+ * thread count from the command line.
+ *
+ * <pre>
+ * --checkpoint FILE                       (default tuner-checkpoint.properties)
+ * --generations N                         total generations (default 50)
+ * --population N                          candidates per generation (default 50)
+ * --elite F                               fraction refitted to (default 0.2)
+ * --games N                               games per candidate (default 8)
+ * --pieces N                              piece limit per game (default 1000)
+ * --mode NORMAL|FORTY_LINES|TWO_MINUTES   (default NORMAL)
+ * --seed N                                (default 1)
+ * --threads N                             (default: all cores)
+ * </pre>
+ */
+public class TunerMain {
+
+    private TunerMain() {
+    }
+
+    /**
+     * Main entry point.
+     *
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        Path checkpoint = Path.of("tuner-checkpoint.properties");
+        int generations = 50;
+        int population = TunerConfig.DEFAULT_POPULATION;
+        double elite = TunerConfig.DEFAULT_ELITE_FRACTION;
+        int games = TunerConfig.DEFAULT_GAMES_PER_CANDIDATE;
+        int pieces = TunerConfig.DEFAULT_PIECE_LIMIT;
+        GameMode mode = GameMode.NORMAL;
+        long seed = 1;
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (option.equals("--help") || option.equals("-h")) {
+                    printUsage();
+                    return;
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--checkpoint" -> checkpoint = Path.of(value);
+                    case "--generations" -> generations = Integer.parseInt(value);
+                    case "--population" -> population = Integer.parseInt(value);
+                    case "--elite" -> elite = Double.parseDouble(value);
+                    case "--games" -> games = Integer.parseInt(value);
+                    case "--pieces" -> pieces = Integer.parseInt(value);
+                    case "--mode" -> mode = GameMode.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "--seed" -> seed = Long.parseLong(value);
+                    case "--threads" -> threads = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+
+            TunerCheckpoint start;
+            if (Files.exists(checkpoint)) {
+                start = TunerCheckpoint.load(checkpoint);
+                System.err.println("Resuming " + checkpoint + " after generation " + start.getGeneration());
+            } else {
+                TunerConfig config = new TunerConfig(mode, population, elite, games, pieces,
+                        TunerConfig.DEFAULT_INITIAL_STD_DEV, TunerConfig.DEFAULT_NOISE, seed);
+                start = TunerCheckpoint.initial(config, EvaluationWeights.DEFAULT);
+            }
+
+            CrossEntropyTuner tuner = new CrossEntropyTuner(threads);
+            TunerCheckpoint result = tuner.run(start, generations, checkpoint, state ->
+                    System.out.printf(Locale.ROOT, "generation %d: mean %.1f lines, best %.1f, %.0f pieces/s%n",
+                            state.getGeneration(), state.getMeanFitness(), state.getBestFitness(),
+                            tuner.getLastPiecesPerSecond()));
+
+            System.out.println("Mean weights: " + result.getMeanWeights());
+            if (result.getBestWeights() != null) {
+                System.out.println("Best weights: " + result.getBestWeights());
+            }
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            printUsage();
+            System.exit(2);
+        }
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: TunerMain [--checkpoint FILE] [--generations N] [--population N]"
+                + " [--elite F] [--games N] [--pieces N] [--mode NORMAL|FORTY_LINES|TWO_MINUTES]"
+                + " [--seed N] [--threads N]");
+    }
+}
@@ -0,0 +1,78 @@
+package com.comp2042;
+
+import com.comp2042.sim.SimulationWorker;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Command-line entry point for a simulation worker. Connects to a
+ * {@code HeadlessMain --listen} coordinator, plays the games it is sent
+ * and exits when the batch is done.
+ *
+ * <pre>
+ * --host HOST          coordinator host (default localhost)
+ * --port N             coordinator port (required)
+ * --threads N          jobs played at once (default: all cores)
+ * --wait-seconds N     keep retrying while the coordinator is not up yet (default 30)
+ * </pre>
+ */
+public class WorkerMain {
+
+    private WorkerMain() {
+    }
+
+    /**
+     * Main entry point.
+     *
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        String host = "localhost";
+        int port = -1;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long waitSeconds = 30;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (option.equals("--help") || option.equals("-h")) {
+                    printUsage();
+                    return;
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--host" -> host = value;
+                    case "--port" -> port = Integer.parseInt(value);
+                    case "--threads" -> threads = Integer.parseInt(value);
+                    case "--wait-seconds" -> waitSeconds = Long.parseLong(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+            if (port < 1 || port > 65535) {
+                throw new IllegalArgumentException("--port must be between 1 and 65535");
+            }
+
+            SimulationWorker worker = new SimulationWorker(host, port, threads);
+            long startNanos = System.nanoTime();
+            worker.run(TimeUnit.SECONDS.toMillis(waitSeconds));
+            System.err.printf(Locale.ROOT, "%d jobs, %d games in %.1f s%n",
+                    worker.getJobs(), worker.getGames(), (System.nanoTime() - startNanos) / 1e9);
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            printUsage();
+            System.exit(2);
+        }
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: WorkerMain --port N [--host HOST] [--threads N] [--wait-seconds N]");
+    }
+}
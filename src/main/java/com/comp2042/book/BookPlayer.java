@@ -0,0 +1,151 @@
+package com.comp2042.book;
+
+import com.comp2042.bot.BitBoard;
+import com.comp2042.bot.PieceShape;
+import com.comp2042.bot.Placement;
+import com.comp2042.bot.Player;
+import com.comp2042.core.Board;
+import com.comp2042.sim.GameSimulator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plays the first pieces of a game from an {@link OpeningBook} and hands
+ * over to another player once the book runs out.
+ *
+ * <p>Each piece looks up both the position as it is and, when hold is
+ * allowed, the position after holding, and plays the stored move with the
+ * best success rate (smoothed, so one lucky game does not beat a move
+ * played many times). A move is only used if the piece lands where it
+ * was recorded when dropped from the top of the board, so a hash
+ * collision or a recorded tuck falls back to the other player instead of
+ * misplacing the piece. After the book's piece limit, or after the first
+ * position the book does not have, the other player decides every piece.
+ *
+ * <p>Like every player it keeps per-game state, but the book itself can be
+ * shared by any number of players. Closing it closes the other player if
+ * that one owns threads.
+ */
+public class BookPlayer implements Player, AutoCloseable {
+
+    private final OpeningBook book;
+    private final Player fallback;
+    private final int minGames;
+    private final BitBoard bits = new BitBoard(GameSimulator.BOARD_WIDTH, GameSimulator.BOARD_HEIGHT);
+    private final List<PieceShape> queue = new ArrayList<>();
+
+    private int pieces;
+    private int bookMoves;
+    private boolean outOfBook;
+
+    /**
+     * Creates a player that trusts any move in the book.
+     *
+     * @param book the opening book
+     * @param fallback player for the pieces the book does not cover
+     */
+    public BookPlayer(OpeningBook book, Player fallback) {
+        this(book, fallback, 1);
+    }
+
+    /**
+     * Creates a new BookPlayer.
+     *
+     * @param book the opening book
+     * @param fallback player for the pieces the book does not cover
+     * @param minGames games a position needs in the book to be played from it
+     */
+    public BookPlayer(OpeningBook book, Player fallback, int minGames) {
+        this.book = book;
+        this.fallback = fallback;
+        this.minGames = minGames;
+    }
+
+    @Override
+    public Placement choosePlacement(Board board) {
+        Placement placement = null;
+        if (!outOfBook && pieces < book.getMaxPieces()) {
+            placement = lookUp(board);
+            outOfBook = placement == null;
+        }
+        pieces++;
+        if (placement != null) {
+            bookMoves++;
+            return placement;
+        }
+        return fallback.choosePlacement(board);
+    }
+
+    private Placement lookUp(Board board) {
+        int[][] matrix = board.getBoardMatrix();
+        if (matrix.length != bits.getHeight() || matrix[0].length != bits.getWidth()) {
+            return null;
+        }
+        bits.load(matrix);
+        PieceShape piece = PieceShape.of(board.getCurrentBrick());
+        PieceShape hold = PieceShape.of(board.getHoldBrickData());
+        queue.clear();
+        for (int[][] next : board.getNextBricksData(book.getQueueLength() + 1)) {
+            queue.add(PieceShape.of(next));
+        }
+
+        Placement best = null;
+        double bestRate = -1;
+        int slot = book.find(bits, piece, hold, queue);
+        if (slot >= 0 && book.getGames(slot) >= minGames) {
+            int move = bestMove(slot, piece);
+            if (move >= 0) {
+                best = book.getMove(slot, move);
+                bestRate = rate(slot, move);
+            }
+        }
+        if (board.canHold() && !queue.isEmpty()) {
+            PieceShape swapped = hold != null ? hold : queue.get(0);
+            List<PieceShape> after = hold != null ? queue : queue.subList(1, queue.size());
+            int held = book.find(bits, swapped, piece, after);
+            if (held >= 0 && book.getGames(held) >= minGames) {
+                int move = bestMove(held, swapped);
+                if (move >= 0 && rate(held, move) > bestRate) {
+                    Placement p = book.getMove(held, move);
+                    best = new Placement(p.getRotation(), p.getX(), p.getY(), true);
+                }
+            }
+        }
+        return best;
+    }
+
+    private int bestMove(int slot, PieceShape piece) {
+        int best = -1;
+        double bestRate = -1;
+        for (int i = 0; i < book.getMoveCount(slot); i++) {
+            Placement move = book.getMove(slot, i);
+            if (!reachable(piece, move) || rate(slot, i) <= bestRate) {continue;}
+            best = i;
+            bestRate = rate(slot, i);
+        }
+        return best;
+    }
+
+    private boolean reachable(PieceShape piece, Placement move) {
+        int y = bits.spawnY();
+        return move.getRotation() < piece.getRotations()
+                && !bits.collides(piece, move.getRotation(), move.getX(), y)
+                && bits.dropY(piece, move.getRotation(), move.getX(), y) == move.getY();
+    }
+
+    private double rate(int slot, int move) {
+        return (book.getMoveSuccesses(slot, move) + 1.0) / (book.getMoveGames(slot, move) + 2.0);
+    }
+
+    /**
+     * Gets how many pieces were placed from the book.
+     * @return book moves played this game
+     */
+    public int getBookMoves() {return bookMoves;}
+
+    @Override
+    public void close() {
+        Player.closeQuietly(fallback);
+    }
+}
@@ -0,0 +1,288 @@
+package com.comp2042.book;
+
+import com.comp2042.bot.BitBoard;
+import com.comp2042.bot.PieceShape;
+import com.comp2042.bot.Placement;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Read-only opening book: recommended placements for early-game positions,
+ * with how often each was played and how often its game succeeded.
+ *
+ * <p>The book is one file written by {@link OpeningBookBuilder} and holds
+ * an open-addressing hash table of fixed 64-byte slots. Opening it maps
+ * the file instead of reading it, so it is ready at once whatever its
+ * size, and every process that opens the same book shares the operating
+ * system's copy of its pages. A lookup hashes the position and probes a
+ * few slots of the mapping without allocating, well under a microsecond.
+ * Lookups only read the mapping, so one book can serve any number of
+ * threads.
+ *
+ * <p>A position is the stack, with filled cells only so the colours that
+ * filled them do not matter, the piece to place, the hold slot and the
+ * first {@link #getQueueLength()} preview pieces. Positions are stored by
+ * a 64-bit hash of those, so two positions only share a slot if their
+ * hashes are equal.
+ *
+ * <pre>
+ * header  64 bytes: magic, version, slot size, slot count (log2), positions,
+ *                   preview length, piece limit, success line goal, games, records
+ * slot    64 bytes: key (0 when empty), games, successes, then up to four
+ *                   moves of rotation, x, y, a pad byte, games and successes
+ * </pre>
+ */
+public final class OpeningBook {
+
+    static final int MAGIC = 0x4F424B31;
+    static final short VERSION = 1;
+    static final int HEADER_BYTES = 64;
+    static final int SLOT_BYTES = 64;
+    static final int MOVES_PER_SLOT = 4;
+    static final int MAX_QUEUE_LENGTH = 5;
+
+    static final int HEADER_SLOT_SIZE = 6;
+    static final int HEADER_SLOT_BITS = 8;
+    static final int HEADER_POSITIONS = 12;
+    static final int HEADER_QUEUE_LENGTH = 16;
+    static final int HEADER_MAX_PIECES = 20;
+    static final int HEADER_SUCCESS_LINES = 24;
+    static final int HEADER_GAMES = 32;
+    static final int HEADER_RECORDS = 40;
+
+    static final int SLOT_KEY = 0;
+    static final int SLOT_GAMES = 8;
+    static final int SLOT_SUCCESSES = 12;
+    static final int SLOT_MOVES = 16;
+    static final int MOVE_BYTES = 12;
+    static final int MOVE_ROTATION = 0;
+    static final int MOVE_X = 1;
+    static final int MOVE_Y = 2;
+    static final int MOVE_GAMES = 4;
+    static final int MOVE_SUCCESSES = 8;
+
+    static final long SEED = 0x9E3779B97F4A7C15L;
+    static final int COLOR_BITS = 3;
+
+    private final MappedByteBuffer map;
+    private final int mask;
+    private final int positions;
+    private final int queueLength;
+    private final int maxPieces;
+    private final int successLines;
+    private final long games;
+    private final long records;
+
+    private OpeningBook(MappedByteBuffer map) {
+        this.map = map;
+        this.mask = (1 << map.getInt(HEADER_SLOT_BITS)) - 1;
+        this.positions = map.getInt(HEADER_POSITIONS);
+        this.queueLength = map.getInt(HEADER_QUEUE_LENGTH);
+        this.maxPieces = map.getInt(HEADER_MAX_PIECES);
+        this.successLines = map.getInt(HEADER_SUCCESS_LINES);
+        this.games = map.getLong(HEADER_GAMES);
+        this.records = map.getLong(HEADER_RECORDS);
+    }
+
+    /**
+     * Maps a book file and checks its header.
+     *
+     * @param file book file
+     * @return the book
+     * @throws IOException if the file cannot be read or is not a book
+     */
+    public static OpeningBook open(Path file) throws IOException {
+        MappedByteBuffer map;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Book " + file + " is larger than 2 GiB");
+            }
+            map = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (map.capacity() < HEADER_BYTES || map.getInt(0) != MAGIC) {
+            throw new IOException(file + " is not an opening book");
+        }
+        if (map.getShort(Integer.BYTES) != VERSION) {
+            throw new IOException("Unsupported book version " + map.getShort(Integer.BYTES) + " in " + file);
+        }
+        if (map.getShort(HEADER_SLOT_SIZE) != SLOT_BYTES) {
+            throw new IOException("Unexpected slot size " + map.getShort(HEADER_SLOT_SIZE) + " in " + file);
+        }
+        int bits = map.getInt(HEADER_SLOT_BITS);
+        if (bits < 1 || bits > 24 || map.capacity() != HEADER_BYTES + ((long) SLOT_BYTES << bits)) {
+            throw new IOException("Truncated opening book " + file);
+        }
+        return new OpeningBook(map);
+    }
+
+    /**
+     * Computes the key of a position.
+     *
+     * @param board the stack, without the piece to place
+     * @param piece the piece to place
+     * @param hold the held piece, or null
+     * @param queue the preview pieces, next first; only the first
+     *              {@code queueLength} are used
+     * @param queueLength preview pieces that are part of the position
+     * @return position key, never 0
+     */
+    public static long key(BitBoard board, PieceShape piece, PieceShape hold, List<PieceShape> queue,
+                           int queueLength) {
+        long h = SEED;
+        for (int y = board.topRow(); y < board.getHeight(); y++) {
+            h = mixRow(h, board.row(y), y);
+        }
+        int pieces = piece.getColor() | color(hold) << COLOR_BITS;
+        for (int i = 0; i < queueLength; i++) {
+            pieces |= color(i < queue.size() ? queue.get(i) : null) << (2 + i) * COLOR_BITS;
+        }
+        return finish(h, pieces);
+    }
+
+    /**
+     * Adds one row to a key. Empty rows are skipped by callers, so a key
+     * only depends on the filled cells.
+     */
+    static long mixRow(long h, int row, int y) {
+        if (row == 0) {return h;}
+        h = (h ^ (row | (long) y << 32)) * 0xBF58476D1CE4E5B9L;
+        return h ^ h >>> 31;
+    }
+
+    /**
+     * Adds the colour codes of the piece, hold and preview, packed three
+     * bits each in that order, to a key.
+     */
+    static long finish(long h, int pieces) {
+        h = (h ^ pieces) * 0x94D049BB133111EBL;
+        h ^= h >>> 29;
+        return h == 0 ? 1 : h;
+    }
+
+    static int color(PieceShape shape) {return shape == null ? 0 : shape.getColor();}
+
+    static int home(long key, int mask) {return (int) (key ^ key >>> 32) & mask;}
+
+    /**
+     * Finds the slot of a position.
+     *
+     * @param key position key from {@link #key}
+     * @return slot index, or -1 if the book does not have the position
+     */
+    public int find(long key) {
+        for (int slot = home(key, mask), probes = 0; probes <= mask; slot = (slot + 1) & mask, probes++) {
+            long stored = map.getLong(offset(slot) + SLOT_KEY);
+            if (stored == key) {return slot;}
+            if (stored == 0) {return -1;}
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the slot of a position.
+     *
+     * @param board the stack, without the piece to place
+     * @param piece the piece to place
+     * @param hold the held piece, or null
+     * @param queue the preview pieces, next first
+     * @return slot index, or -1 if the book does not have the position
+     */
+    public int find(BitBoard board, PieceShape piece, PieceShape hold, List<PieceShape> queue) {
+        return find(key(board, piece, hold, queue, queueLength));
+    }
+
+    private static int offset(int slot) {return HEADER_BYTES + slot * SLOT_BYTES;}
+
+    private static int moveOffset(int slot, int move) {
+        if (move < 0 || move >= MOVES_PER_SLOT) {
+            throw new IndexOutOfBoundsException("Move " + move);
+        }
+        return offset(slot) + SLOT_MOVES + move * MOVE_BYTES;
+    }
+
+    /**
+     * Gets how many recorded games reached a position.
+     * @param slot slot from {@link #find}
+     * @return games
+     */
+    public int getGames(int slot) {return map.getInt(offset(slot) + SLOT_GAMES);}
+
+    /**
+     * Gets how many of the games that reached a position succeeded.
+     * @param slot slot from {@link #find}
+     * @return successful games
+     */
+    public int getSuccesses(int slot) {return map.getInt(offset(slot) + SLOT_SUCCESSES);}
+
+    /**
+     * Gets how many moves are stored for a position, most played first.
+     * @param slot slot from {@link #find}
+     * @return move count, at most four
+     */
+    public int getMoveCount(int slot) {
+        int count = 0;
+        while (count < MOVES_PER_SLOT && getMoveGames(slot, count) > 0) {count++;}
+        return count;
+    }
+
+    /**
+     * Gets one of the moves of a position.
+     *
+     * @param slot slot from {@link #find}
+     * @param move move index, below {@link #getMoveCount}
+     * @return the placement, without hold
+     */
+    public Placement getMove(int slot, int move) {
+        int at = moveOffset(slot, move);
+        return new Placement(map.get(at + MOVE_ROTATION), map.get(at + MOVE_X), map.get(at + MOVE_Y));
+    }
+
+    /**
+     * Gets how many games played a move.
+     *
+     * @param slot slot from {@link #find}
+     * @param move move index
+     * @return games, 0 for an unused move
+     */
+    public int getMoveGames(int slot, int move) {return map.getInt(moveOffset(slot, move) + MOVE_GAMES);}
+
+    /**
+     * Gets how many of the games that played a move succeeded.
+     *
+     * @param slot slot from {@link #find}
+     * @param move move index
+     * @return successful games
+     */
+    public int getMoveSuccesses(int slot, int move) {return map.getInt(moveOffset(slot, move) + MOVE_SUCCESSES);}
+
+    public int getPositions() {return positions;}
+
+    public int getSlots() {return mask + 1;}
+
+    /**
+     * Gets how many preview pieces are part of a position.
+     * @return preview length of the keys
+     */
+    public int getQueueLength() {return queueLength;}
+
+    /**
+     * Gets how many pieces from the start of each game were ingested.
+     * @return piece limit of the book
+     */
+    public int getMaxPieces() {return maxPieces;}
+
+    /**
+     * Gets the line count a game had to reach to succeed.
+     * @return success line goal
+     */
+    public int getSuccessLines() {return successLines;}
+
+    public long getTotalGames() {return games;}
+
+    public long getTotalRecords() {return records;}
+}
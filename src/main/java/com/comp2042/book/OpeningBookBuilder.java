@@ -0,0 +1,313 @@
+package com.comp2042.book;
+
+import com.comp2042.bot.Placement;
+import com.comp2042.sim.GameSimulator;
+import com.comp2042.sim.TrainingDataReader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Builds an {@link OpeningBook} from training-data shards written by
+ * {@link com.comp2042.sim.TrainingDataWriter}.
+ *
+ * <p>Only the first pieces of each game are read. The shards are counted
+ * on a fork/join pool: each task tallies its own shards into a private
+ * map and the halves are merged as the tasks return, so workers never
+ * share a table. A game succeeds when it cleared at least the success
+ * line goal, 40 by default to match {@code FORTY_LINES}. Every position
+ * keeps its four most played moves.
+ *
+ * <p>Slots are filled in key order, so the same shards always give the
+ * same file whatever the parallelism. The book is written under a
+ * {@code .tmp} name and moved into place, so processes that have the old
+ * book mapped keep reading it undisturbed.
+ */
+public final class OpeningBookBuilder {
+
+    public static final int DEFAULT_MAX_PIECES = 10;
+    public static final int DEFAULT_QUEUE_LENGTH = 2;
+    public static final int DEFAULT_SUCCESS_LINES = 40;
+
+    private static final int MAX_SLOT_BITS = 24;
+
+    private final int maxPieces;
+    private final int queueLength;
+    private final int successLines;
+    private final int parallelism;
+
+    private long games;
+    private long records;
+    private int positions;
+
+    /**
+     * Creates a builder with the default settings that uses every core.
+     */
+    public OpeningBookBuilder() {
+        this(DEFAULT_MAX_PIECES, DEFAULT_QUEUE_LENGTH, DEFAULT_SUCCESS_LINES,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new OpeningBookBuilder.
+     *
+     * @param maxPieces pieces read from the start of each game
+     * @param queueLength preview pieces that are part of a position, 0 to 5
+     * @param successLines lines a game must clear to count as a success
+     * @param parallelism number of worker threads
+     */
+    public OpeningBookBuilder(int maxPieces, int queueLength, int successLines, int parallelism) {
+        if (maxPieces < 1) {
+            throw new IllegalArgumentException("maxPieces must be at least 1");
+        }
+        if (queueLength < 0 || queueLength > OpeningBook.MAX_QUEUE_LENGTH) {
+            throw new IllegalArgumentException("queueLength must be between 0 and " + OpeningBook.MAX_QUEUE_LENGTH);
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        this.maxPieces = maxPieces;
+        this.queueLength = queueLength;
+        this.successLines = successLines;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Reads shards and writes the book.
+     *
+     * @param shards shard files, for example from
+     *               {@link TrainingDataReader#shards(Path, String)}
+     * @param output book file to create or replace
+     * @return number of positions in the book
+     * @throws IOException if a shard cannot be read or the book cannot be written
+     */
+    public int build(List<Path> shards, Path output) throws IOException {
+        Tally tally;
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            tally = pool.invoke(new ShardRangeTask(shards, 0, shards.size()));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            pool.shutdown();
+        }
+        games = tally.games;
+        records = tally.records;
+        positions = tally.positions.size();
+        write(tally, output);
+        return positions;
+    }
+
+    /**
+     * Gets how many games the last build found.
+     * @return games
+     */
+    public long getGames() {return games;}
+
+    /**
+     * Gets how many records the last build counted, which excludes those
+     * past the piece limit.
+     * @return records
+     */
+    public long getRecords() {return records;}
+
+    public int getPositions() {return positions;}
+
+    /**
+     * Splits a range of shards in half until each task reads one shard,
+     * then merges the tallies on the way back up.
+     */
+    private final class ShardRangeTask extends RecursiveTask<Tally> {
+
+        private final List<Path> shards;
+        private final int from;
+        private final int to;
+
+        ShardRangeTask(List<Path> shards, int from, int to) {
+            this.shards = shards;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from <= 1) {
+                Tally tally = new Tally();
+                if (to > from) {
+                    try {
+                        read(shards.get(from), tally);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return tally;
+            }
+            int mid = (from + to) >>> 1;
+            ShardRangeTask right = new ShardRangeTask(shards, mid, to);
+            right.fork();
+            Tally left = new ShardRangeTask(shards, from, mid).compute();
+            return left.merge(right.join());
+        }
+    }
+
+    private void read(Path shard, Tally tally) throws IOException {
+        try (TrainingDataReader reader = TrainingDataReader.open(shard)) {
+            while (reader.next()) {
+                if (reader.getPieceIndex() >= maxPieces) {continue;}
+                if (reader.getPieceIndex() == 0) {tally.games++;}
+                tally.records++;
+
+                long h = OpeningBook.SEED;
+                for (int y = 0; y < GameSimulator.BOARD_HEIGHT; y++) {
+                    h = OpeningBook.mixRow(h, reader.row(y), y);
+                }
+                int pieces = reader.getPiece().getColor() | OpeningBook.color(reader.getHold()) << OpeningBook.COLOR_BITS;
+                for (int i = 0; i < queueLength; i++) {
+                    pieces |= OpeningBook.color(reader.getQueue(i)) << (2 + i) * OpeningBook.COLOR_BITS;
+                }
+                long key = OpeningBook.finish(h, pieces);
+
+                boolean success = reader.getGameLines() >= successLines;
+                Placement placement = reader.getPlacement();
+                int move = packMove(placement.getRotation(), placement.getX(), placement.getY());
+                tally.positions.computeIfAbsent(key, k -> new Position()).add(move, 1, success ? 1 : 0);
+            }
+        }
+    }
+
+    private static int packMove(int rotation, int x, int y) {
+        return (rotation & 0xFF) | (x & 0xFF) << 8 | (y & 0xFF) << 16;
+    }
+
+    private void write(Tally tally, Path output) throws IOException {
+        int bits = 1;
+        while ((1L << bits) < 2L * tally.positions.size()) {bits++;}
+        if (bits > MAX_SLOT_BITS) {
+            throw new IOException(tally.positions.size() + " positions do not fit in one book;"
+                    + " lower the piece limit or the preview length");
+        }
+        int mask = (1 << bits) - 1;
+        ByteBuffer book = ByteBuffer.allocate(OpeningBook.HEADER_BYTES + (OpeningBook.SLOT_BYTES << bits));
+        book.putInt(0, OpeningBook.MAGIC);
+        book.putShort(Integer.BYTES, OpeningBook.VERSION);
+        book.putShort(OpeningBook.HEADER_SLOT_SIZE, (short) OpeningBook.SLOT_BYTES);
+        book.putInt(OpeningBook.HEADER_SLOT_BITS, bits);
+        book.putInt(OpeningBook.HEADER_POSITIONS, tally.positions.size());
+        book.putInt(OpeningBook.HEADER_QUEUE_LENGTH, queueLength);
+        book.putInt(OpeningBook.HEADER_MAX_PIECES, maxPieces);
+        book.putInt(OpeningBook.HEADER_SUCCESS_LINES, successLines);
+        book.putLong(OpeningBook.HEADER_GAMES, tally.games);
+        book.putLong(OpeningBook.HEADER_RECORDS, tally.records);
+
+        long[] keys = new long[tally.positions.size()];
+        int n = 0;
+        for (long key : tally.positions.keySet()) {keys[n++] = key;}
+        Arrays.sort(keys);
+        for (long key : keys) {
+            int slot = OpeningBook.home(key, mask);
+            while (book.getLong(OpeningBook.HEADER_BYTES + slot * OpeningBook.SLOT_BYTES) != 0) {
+                slot = (slot + 1) & mask;
+            }
+            tally.positions.get(key).write(book, OpeningBook.HEADER_BYTES + slot * OpeningBook.SLOT_BYTES, key);
+        }
+
+        Path absolute = output.toAbsolutePath();
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (book.hasRemaining()) {
+                channel.write(book);
+            }
+        }
+        try {
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Counts of one part of the corpus.
+     */
+    private static final class Tally {
+
+        final Map<Long, Position> positions = new HashMap<>();
+        long games;
+        long records;
+
+        Tally merge(Tally other) {
+            Tally smaller = positions.size() < other.positions.size() ? this : other;
+            Tally larger = smaller == this ? other : this;
+            for (Map.Entry<Long, Position> entry : smaller.positions.entrySet()) {
+                larger.positions.merge(entry.getKey(), entry.getValue(), Position::merge);
+            }
+            larger.games = games + other.games;
+            larger.records = records + other.records;
+            return larger;
+        }
+    }
+
+    /**
+     * Counts of one position and of every move played from it.
+     */
+    private static final class Position {
+
+        private final Map<Integer, int[]> moves = new HashMap<>(4);
+        private int games;
+        private int successes;
+
+        void add(int move, int games, int successes) {
+            this.games += games;
+            this.successes += successes;
+            int[] counts = moves.computeIfAbsent(move, m -> new int[2]);
+            counts[0] += games;
+            counts[1] += successes;
+        }
+
+        Position merge(Position other) {
+            for (Map.Entry<Integer, int[]> entry : other.moves.entrySet()) {
+                add(entry.getKey(), entry.getValue()[0], entry.getValue()[1]);
+            }
+            return this;
+        }
+
+        /**
+         * Writes the slot with the most played moves first; ties go to the
+         * more successful move, then the lower packed move, so the order
+         * does not depend on hash map iteration.
+         */
+        void write(ByteBuffer book, int at, long key) {
+            List<Map.Entry<Integer, int[]>> sorted = new ArrayList<>(moves.entrySet());
+            sorted.sort((a, b) -> a.getValue()[0] != b.getValue()[0] ? Integer.compare(b.getValue()[0], a.getValue()[0])
+                    : a.getValue()[1] != b.getValue()[1] ? Integer.compare(b.getValue()[1], a.getValue()[1])
+                    : Integer.compare(a.getKey(), b.getKey()));
+            book.putLong(at + OpeningBook.SLOT_KEY, key);
+            book.putInt(at + OpeningBook.SLOT_GAMES, games);
+            book.putInt(at + OpeningBook.SLOT_SUCCESSES, successes);
+            for (int i = 0; i < Math.min(OpeningBook.MOVES_PER_SLOT, sorted.size()); i++) {
+                int move = sorted.get(i).getKey();
+                int[] counts = sorted.get(i).getValue();
+                int m = at + OpeningBook.SLOT_MOVES + i * OpeningBook.MOVE_BYTES;
+                book.put(m + OpeningBook.MOVE_ROTATION, (byte) move);
+                book.put(m + OpeningBook.MOVE_X, (byte) (move >>> 8));
+                book.put(m + OpeningBook.MOVE_Y, (byte) (move >>> 16));
+                book.putInt(m + OpeningBook.MOVE_GAMES, counts[0]);
+                book.putInt(m + OpeningBook.MOVE_SUCCESSES, counts[1]);
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.comp2042.bot;
+
+import com.comp2042.brick.Brick;
+import com.comp2042.controller.InputEventListener;
+import com.comp2042.core.Board;
+import com.comp2042.event.EventSource;
+import com.comp2042.event.EventType;
+import com.comp2042.event.MoveEvent;
+
+/**
+ * Turns the placements chosen by a {@link Player} into one input at a
+ * time, so a game can be played at a visible pace through the same
+ * actions a human uses.
+ *
+ * <p>A new placement is planned whenever the current brick changes, except
+ * when the change is caused by its own hold. The player then holds if the
+ * placement asks for it, rotates, shifts towards the target column and
+ * finally asks for a hard drop. If a shift does not move the brick the target is
+ * unreachable and it drops where it is.
+ */
+public class AutoPlayer {
+
+    private final Player player;
+
+    private Brick plannedBrick;
+    private Placement target;
+    private boolean holdSent;
+    private int rotationsSent;
+    private int lastX;
+
+    public AutoPlayer(Player player) {
+        this.player = player;
+    }
+
+    /**
+     * Decides the next input for the current brick.
+     *
+     * @param board the board being played
+     * @return the next action; never null
+     */
+    public BotAction nextAction(Board board) {
+        Brick brick = board.getCurrentBrick();
+        if (brick != plannedBrick) {
+            plannedBrick = brick;
+            if (holdSent) {
+                // The swap we asked for; keep following the same placement
+                holdSent = false;
+            } else {
+                target = player.choosePlacement(board);
+                rotationsSent = 0;
+                lastX = Integer.MIN_VALUE;
+                if (target != null && target.isHold() && board.canHold()) {
+                    holdSent = true;
+                    return BotAction.HOLD;
+                }
+            }
+        } else if (holdSent) {
+            // Hold was refused; place the current brick instead
+            holdSent = false;
+        }
+        if (target == null) {return BotAction.HARD_DROP;}
+
+        if (rotationsSent < target.getRotation()) {
+            rotationsSent++;
+            return BotAction.ROTATE;
+        }
+
+        int x = board.getViewData().getxPosition();
+        if (x == target.getX() || x == lastX) {return BotAction.HARD_DROP;}
+        lastX = x;
+        return x < target.getX() ? BotAction.RIGHT : BotAction.LEFT;
+    }
+
+    /**
+     * Decides the next input and sends movement inputs to the listener as
+     * {@link EventSource#THREAD} events. Hold and hard drop are only
+     * returned, since they are not listener events; the caller performs
+     * them in whichever way it handles holding and locking.
+     *
+     * @param listener the game receiving the inputs
+     * @param board the board being played
+     * @return the action taken or requested
+     */
+    public BotAction step(InputEventListener listener, Board board) {
+        BotAction action = nextAction(board);
+        switch (action) {
+            case ROTATE -> listener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.THREAD));
+            case LEFT -> listener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.THREAD));
+            case RIGHT -> listener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.THREAD));
+            case SOFT_DROP -> listener.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+            default -> { }
+        }
+        return action;
+    }
+
+    /**
+     * Forgets the current plan, for example after a restart.
+     */
+    public void reset() {
+        plannedBrick = null;
+        target = null;
+        holdSent = false;
+    }
+}
@@ -0,0 +1,162 @@
+package com.comp2042.bot;
+
+import com.comp2042.core.Board;
+import com.comp2042.core.BoardSnapshot;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs a {@link Player}, or any other search from a board to the cells it
+ * picks, on a background thread for the brick that has just spawned and
+ * hands back the cells its placement would cover.
+ *
+ * <p>{@link #request} copies the board into a {@link BoardSnapshot} on the
+ * calling thread, which costs a few small array copies, and returns at
+ * once. Every request or {@link #cancel()} starts a new generation and
+ * cancels the search of the previous one. A result is passed to the
+ * delivery executor only if its generation is still the latest, and
+ * checked again there before the consumer runs, so a consumer on the game
+ * thread never sees a hint for a brick that is gone.
+ *
+ * <p>The search thread stops after a second without work, so an unused
+ * planner holds no thread.
+ */
+public class BackgroundPlanner implements AutoCloseable {
+
+    private static final long IDLE_SECONDS = 1;
+
+    private final Function<? super Board, int[][]> planner;
+    private final Executor delivery;
+    private final ThreadPoolExecutor searcher;
+    private final AtomicLong generation = new AtomicLong();
+
+    private Future<?> pending;
+
+    /**
+     * Creates a new BackgroundPlanner.
+     *
+     * @param player player to run; only ever called from the search thread
+     * @param delivery executor that runs the consumers, e.g. the game thread
+     */
+    public BackgroundPlanner(Player player, Executor delivery) {
+        this(delivery, board -> {
+            Placement placement = player.choosePlacement(board);
+            return placement == null ? null : cellsOf(board, placement);
+        });
+    }
+
+    private BackgroundPlanner(Executor delivery, Function<? super Board, int[][]> planner) {
+        this.planner = planner;
+        this.delivery = delivery;
+        this.searcher = new ThreadPoolExecutor(1, 1, IDLE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                task -> {
+                    Thread thread = new Thread(task, "placement-planner");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.searcher.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Creates a planner for a search that returns cells directly. The
+     * search thread is interrupted when its request is superseded, so a
+     * long search should check {@link Thread#isInterrupted()} and give up.
+     *
+     * @param planner gets the cells to show for a board snapshot, or null;
+     *                only ever called from the search thread
+     * @param delivery executor that runs the consumers, e.g. the game thread
+     * @return the planner
+     */
+    public static BackgroundPlanner ofCells(Function<? super Board, int[][]> planner, Executor delivery) {
+        return new BackgroundPlanner(delivery, planner);
+    }
+
+    /**
+     * Starts planning the current brick of a board, replacing any earlier
+     * request.
+     *
+     * @param board the board, read on the calling thread only
+     * @param consumer receives the covered {x, y} board cells, or null if
+     *                 the brick has no placement
+     */
+    public synchronized void request(Board board, Consumer<int[][]> consumer) {
+        cancel();
+        BoardSnapshot snapshot = BoardSnapshot.of(board);
+        long ticket = generation.get();
+        pending = searcher.submit(() -> {
+            int[][] cells = planner.apply(snapshot);
+            if (isCurrent(ticket)) {
+                delivery.execute(() -> {
+                    if (isCurrent(ticket)) {
+                        consumer.accept(cells);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Drops the current request; its result is never delivered.
+     */
+    public synchronized void cancel() {
+        generation.incrementAndGet();
+        if (pending != null) {
+            pending.cancel(true);
+            pending = null;
+        }
+    }
+
+    /**
+     * Cancels the current request and stops the search thread.
+     */
+    @Override
+    public void close() {
+        cancel();
+        searcher.shutdownNow();
+    }
+
+    private boolean isCurrent(long ticket) {
+        return generation.get() == ticket;
+    }
+
+    /**
+     * Gets the cells a placement covers. Rotations count rotate presses
+     * from the state the brick is in, which is the spawn rotation for a
+     * brick taken out of hold or the queue.
+     *
+     * @param board the board the placement was chosen for
+     * @param placement the placement
+     * @return {x, y} board cells
+     */
+    static int[][] cellsOf(Board board, Placement placement) {
+        PieceShape piece;
+        int start = 0;
+        if (!placement.isHold()) {
+            piece = PieceShape.of(board.getCurrentBrick());
+            start = Math.max(0, piece.rotationOf(board.getViewData().getBrickData()));
+        } else {
+            PieceShape held = PieceShape.of(board.getHoldBrickData());
+            piece = held != null ? held : PieceShape.of(board.getNextBricksData(1).get(0));
+        }
+        int rotation = (start + placement.getRotation()) % piece.getRotations();
+
+        int[][] cells = new int[4][];
+        int count = 0;
+        for (int row = 0; row < piece.size(); row++) {
+            int mask = piece.rowMask(rotation, row);
+            for (int col = 0; col < piece.size(); col++) {
+                if ((mask >>> col & 1) != 0) {
+                    cells[count++] = new int[]{placement.getX() + col, placement.getY() + row};
+                }
+            }
+        }
+        return cells;
+    }
+}
@@ -0,0 +1,76 @@
+package com.comp2042.bot;
+
+import java.util.SplittableRandom;
+
+/**
+ * Samples piece sequences that a 7-bag randomizer could deal next.
+ *
+ * <p>Bags are tracked as bit masks of piece colors: bit {@code c - 1} is
+ * set while a piece of color {@code c} is still in the bag. A mask of
+ * {@link #UNKNOWN} means the pieces are not dealt from bags, and every
+ * piece is then drawn independently.
+ */
+final class BagSampler {
+
+    /** Pieces in one bag. */
+    static final int BAG_SIZE = 7;
+
+    /** Mask for a generator that does not deal from bags. */
+    static final int UNKNOWN = -1;
+
+    private static final int FULL_BAG = (1 << BAG_SIZE) - 1;
+
+    private BagSampler() {
+    }
+
+    /**
+     * Works out which pieces are left in the bag after a known stream of
+     * pieces. The stream must start at a bag boundary.
+     *
+     * @param colors piece colors in dealing order
+     * @param length number of colors in the stream
+     * @return mask of the pieces still in the bag; 0 if the next piece starts a new bag
+     */
+    static int remaining(int[] colors, int length) {
+        int start = length - length % BAG_SIZE;
+        int bag = FULL_BAG;
+        for (int i = start; i < length; i++) {
+            bag &= ~(1 << (colors[i] - 1));
+        }
+        return bag == FULL_BAG ? 0 : bag;
+    }
+
+    /**
+     * Fills {@code out[from..to)} with a random continuation: the pieces
+     * left in the current bag in random order, then shuffled full bags.
+     *
+     * @param out destination for piece colors
+     * @param from first index to fill
+     * @param to index after the last one to fill
+     * @param remaining pieces left in the current bag, or {@link #UNKNOWN}
+     * @param random random source
+     */
+    static void fill(int[] out, int from, int to, int remaining, SplittableRandom random) {
+        if (remaining == UNKNOWN) {
+            for (int i = from; i < to; i++) {
+                out[i] = 1 + random.nextInt(BAG_SIZE);
+            }
+            return;
+        }
+        int bag = remaining == 0 ? FULL_BAG : remaining;
+        for (int i = from; i < to; i++) {
+            // Pick the k-th piece still in the bag
+            int k = random.nextInt(Integer.bitCount(bag));
+            int pieces = bag;
+            for (int skip = 0; skip < k; skip++) {
+                pieces &= pieces - 1;
+            }
+            int bit = Integer.numberOfTrailingZeros(pieces);
+            out[i] = bit + 1;
+            bag &= ~(1 << bit);
+            if (bag == 0) {
+                bag = FULL_BAG;
+            }
+        }
+    }
+}
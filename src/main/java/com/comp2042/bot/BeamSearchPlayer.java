@@ -0,0 +1,407 @@
+package com.comp2042.bot;
+
+import com.comp2042.core.Board;
+import com.comp2042.model.ViewData;
+
+import java.util.List;
+
+/**
+ * Player that looks ahead through the five preview bricks and the hold
+ * slot with a beam search.
+ *
+ * <p>Each layer places one more brick on every board kept in the beam
+ * (directly, from hold, or by holding it first) and keeps the
+ * {@code beamWidth} best results. A result's score is the sum of the
+ * placement features along its path plus the board features of its final
+ * board, using {@link BoardEvaluator}. A board reached twice in the same
+ * layer is kept once: a {@link TranspositionTable} maps it to its beam
+ * slot, and a later path that scores higher takes the slot over, root move
+ * included. The move played
+ * is the first placement of the best board in the deepest layer finished
+ * within the time budget; the first layer always finishes.
+ *
+ * <p>Boards, scores and the table are allocated once per board size and
+ * reused for every decision.
+ */
+public class BeamSearchPlayer implements Player {
+
+    /** Boards kept per layer by default. */
+    public static final int DEFAULT_BEAM_WIDTH = 32;
+
+    /** Default time budget per decision. */
+    public static final long DEFAULT_BUDGET_NANOS = 10_000_000L;
+
+    private static final int PREVIEW_COUNT = 5;
+    private static final int TABLE_BITS = 15;
+    private static final int ROOT_OPTIONS = 2;
+    private static final int NO_HOLD = 0;
+
+    private final BoardEvaluator evaluator;
+    private final int beamWidth;
+    private final long budgetNanos;
+    private final TranspositionTable table = new TranspositionTable(TABLE_BITS);
+    private final PieceShape[] sequence = new PieceShape[1 + PREVIEW_COUNT];
+
+    private BitBoard root;
+    private BitBoard scratch;
+    private Beam current;
+    private Beam next;
+    private ShiftDropMoves moves;
+
+    private int[] rootRotation;
+    private int[] rootX;
+    private int[] rootY;
+    private boolean[] rootHold;
+    private int rootCount;
+
+    private int lastDepth;
+    private long lastNodes;
+
+    /**
+     * Creates a player with the default weights, beam width and budget.
+     */
+    public BeamSearchPlayer() {
+        this(EvaluationWeights.DEFAULT, DEFAULT_BEAM_WIDTH, DEFAULT_BUDGET_NANOS);
+    }
+
+    /**
+     * Creates a new BeamSearchPlayer.
+     *
+     * @param weights feature weights
+     * @param beamWidth boards kept per layer
+     * @param budgetNanos time allowed per decision
+     */
+    public BeamSearchPlayer(EvaluationWeights weights, int beamWidth, long budgetNanos) {
+        if (beamWidth < 1) {
+            throw new IllegalArgumentException("beamWidth must be at least 1");
+        }
+        if (budgetNanos < 0) {
+            throw new IllegalArgumentException("budgetNanos must not be negative");
+        }
+        this.evaluator = new BoardEvaluator(weights);
+        this.beamWidth = beamWidth;
+        this.budgetNanos = budgetNanos;
+    }
+
+    @Override
+    public Placement choosePlacement(Board game) {
+        return plan(game, System.nanoTime() + budgetNanos);
+    }
+
+    @Override
+    public Placement choosePlacement(Board game, long deadlineNanos) {
+        return plan(game, Player.earlierDeadline(deadlineNanos, budgetNanos));
+    }
+
+    private Placement plan(Board game, long deadline) {
+        int[][] matrix = game.getBoardMatrix();
+        ensureCapacity(matrix[0].length, matrix.length);
+        root.load(matrix);
+
+        int length = 0;
+        sequence[length++] = PieceShape.of(game.getCurrentBrick());
+        List<int[][]> previews = game.getNextBricksData(PREVIEW_COUNT);
+        for (int[][] preview : previews) {
+            PieceShape piece = PieceShape.of(preview);
+            if (piece == null || length == sequence.length) {break;}
+            sequence[length++] = piece;
+        }
+        PieceShape held = PieceShape.of(game.getHoldBrickData());
+
+        ViewData view = game.getViewData();
+        return search(length, held == null ? NO_HOLD : held.getColor(), game.canHold(),
+                view.getxPosition(), view.getyPosition(), deadline);
+    }
+
+    /**
+     * Gets how many bricks of the queue the deepest finished layer of the
+     * last decision has consumed, counting the current brick.
+     * @return search depth reached
+     */
+    public int getLastDepth() {return lastDepth;}
+
+    /**
+     * Gets the number of boards evaluated in the last decision.
+     * @return evaluated boards
+     */
+    public long getLastNodes() {return lastNodes;}
+
+    private void ensureCapacity(int width, int height) {
+        if (root != null && root.getWidth() == width && root.getHeight() == height) {
+            return;
+        }
+        root = new BitBoard(width, height);
+        scratch = new BitBoard(width, height);
+        current = new Beam(beamWidth, width, height);
+        next = new Beam(beamWidth, width, height);
+        moves = new ShiftDropMoves(width);
+
+        int rootCapacity = ROOT_OPTIONS * 4 * (width + 8);
+        rootRotation = new int[rootCapacity];
+        rootX = new int[rootCapacity];
+        rootY = new int[rootCapacity];
+        rootHold = new boolean[rootCapacity];
+    }
+
+    private Placement search(int length, int hold, boolean canHold, int startX, int startY, long deadline) {
+        lastDepth = 0;
+        lastNodes = 0;
+        rootCount = 0;
+        table.clear();
+        next.clear();
+
+        // Layer 1: every first move, each remembered as a root move
+        PieceShape active = sequence[0];
+        expandRoot(active, false, hold, 1, startX, startY);
+        if (canHold) {
+            if (hold != NO_HOLD) {
+                expandRoot(PieceShape.ofColor(hold), true, active.getColor(), 1,
+                        root.spawnX(), BitBoard.DEFAULT_SPAWN_Y);
+            } else if (length > 1) {
+                expandRoot(sequence[1], true, active.getColor(), 2, root.spawnX(), root.spawnY());
+            }
+        }
+        if (next.size == 0) {
+            return null;
+        }
+        int bestRoot = next.rootMove[next.best()];
+        lastDepth = next.maxNextIndex();
+
+        while (true) {
+            Beam swap = current;
+            current = next;
+            next = swap;
+            next.clear();
+            table.clear();
+
+            boolean expanded = false;
+            boolean timedOut = false;
+            for (int node = 0; node < current.size; node++) {
+                if (System.nanoTime() > deadline) {
+                    timedOut = true;
+                    break;
+                }
+                expanded |= expand(node, length);
+            }
+            if (timedOut || !expanded || next.size == 0) {
+                break;
+            }
+            bestRoot = next.rootMove[next.best()];
+            lastDepth = next.maxNextIndex();
+        }
+        return new Placement(rootRotation[bestRoot], rootX[bestRoot], rootY[bestRoot], rootHold[bestRoot]);
+    }
+
+    private void expandRoot(PieceShape piece, boolean useHold, int newHold, int nextIndex, int x, int y) {
+        int count = moves.generate(root, piece, x, y);
+        for (int i = 0; i < count; i++) {
+            int move = rootCount++;
+            rootRotation[move] = moves.rotation(i);
+            rootX[move] = moves.x(i);
+            rootY[move] = moves.y(i);
+            rootHold[move] = useHold;
+            offer(root, 0.0, piece, moves.rotation(i), moves.x(i), moves.y(i), newHold, nextIndex, move);
+        }
+    }
+
+    /**
+     * Places the next brick of one beam board in every way.
+     *
+     * @return false if the board had no bricks left and was carried over
+     */
+    private boolean expand(int node, int length) {
+        BitBoard board = current.boards[node];
+        int index = current.nextIndex[node];
+        int hold = current.hold[node];
+        double score = current.moveScore[node];
+        int rootMove = current.rootMove[node];
+
+        if (index >= length) {
+            keep(board, score, current.total[node], hold, index, rootMove, current.key[node]);
+            return false;
+        }
+        PieceShape spawned = sequence[index];
+        if (board.isTopRowFilled() || board.spawnBlocked(spawned)) {
+            return true;
+        }
+
+        expandWith(board, score, spawned, board.spawnX(), board.spawnY(), hold, index + 1, rootMove);
+        if (hold != NO_HOLD) {
+            expandWith(board, score, PieceShape.ofColor(hold), board.spawnX(), BitBoard.DEFAULT_SPAWN_Y,
+                    spawned.getColor(), index + 1, rootMove);
+        } else if (index + 1 < length) {
+            expandWith(board, score, sequence[index + 1], board.spawnX(), board.spawnY(),
+                    spawned.getColor(), index + 2, rootMove);
+        }
+        return true;
+    }
+
+    private void expandWith(BitBoard board, double score, PieceShape piece, int x, int y,
+                            int newHold, int nextIndex, int rootMove) {
+        int count = moves.generate(board, piece, x, y);
+        for (int i = 0; i < count; i++) {
+            offer(board, score, piece, moves.rotation(i), moves.x(i), moves.y(i), newHold, nextIndex, rootMove);
+        }
+    }
+
+    private void offer(BitBoard parent, double parentScore, PieceShape piece, int rotation, int x, int y,
+                       int hold, int nextIndex, int rootMove) {
+        scratch.copyFrom(parent);
+        int lines = scratch.place(piece, rotation, x, y);
+        lastNodes++;
+        if (scratch.isTopRowFilled()) {
+            return;
+        }
+
+        double moveScore = parentScore + evaluator.moveScore(scratch.getHeight(), piece, rotation, y,
+                lines, scratch.getLastErodedCells());
+        double total = moveScore + evaluator.boardScore(scratch);
+        long key = scratch.hash() ^ (hold * 0x9E3779B97F4A7C15L) ^ ((long) nextIndex << 56);
+        keep(scratch, moveScore, total, hold, nextIndex, rootMove, key);
+    }
+
+    private void keep(BitBoard board, double moveScore, double total, int hold, int nextIndex, int rootMove,
+                      long key) {
+        int seen = table.get(key);
+        // A slot whose board was evicted holds another key by now, so stale entries fail this check
+        if (seen >= 0 && seen < next.size && next.key[seen] == key) {
+            // Same board by another path: keep whichever scores higher
+            if (total > next.total[seen]) {
+                next.replace(seen, board, moveScore, total, rootMove);
+            }
+            return;
+        }
+        if (next.accepts(total)) {
+            table.put(key, next.add(board, moveScore, total, hold, nextIndex, rootMove, key));
+        }
+    }
+
+    /**
+     * Fixed-capacity set of the best boards of one layer, kept as a
+     * min-heap on total score so the worst board is replaced first. Boards
+     * stay in the slot they were written to; the heap orders slot numbers.
+     */
+    private static final class Beam {
+
+        final BitBoard[] boards;
+        final double[] moveScore;
+        final double[] total;
+        final int[] hold;
+        final int[] nextIndex;
+        final int[] rootMove;
+        final long[] key;
+        final int[] heap;
+        final int[] heapIndex;
+        int size;
+
+        Beam(int capacity, int width, int height) {
+            boards = new BitBoard[capacity];
+            for (int i = 0; i < capacity; i++) {
+                boards[i] = new BitBoard(width, height);
+            }
+            moveScore = new double[capacity];
+            total = new double[capacity];
+            hold = new int[capacity];
+            nextIndex = new int[capacity];
+            rootMove = new int[capacity];
+            key = new long[capacity];
+            heap = new int[capacity];
+            heapIndex = new int[capacity];
+        }
+
+        void clear() {size = 0;}
+
+        boolean accepts(double score) {
+            return size < boards.length || score > total[heap[0]];
+        }
+
+        /**
+         * Adds a board, replacing the worst one if the beam is full.
+         *
+         * @return the slot written, or -1 if the board was not good enough
+         */
+        int add(BitBoard board, double move, double score, int heldColor, int index, int root, long boardKey) {
+            int slot;
+            if (size < boards.length) {
+                slot = size;
+                heap[size] = slot;
+                heapIndex[slot] = size;
+                size++;
+                write(slot, board, move, score, heldColor, index, root, boardKey);
+                siftUp(size - 1);
+            } else if (score > total[heap[0]]) {
+                slot = heap[0];
+                write(slot, board, move, score, heldColor, index, root, boardKey);
+                siftDown(0);
+            } else {
+                return -1;
+            }
+            return slot;
+        }
+
+        /**
+         * Gives a slot's board a higher-scoring path to it.
+         */
+        void replace(int slot, BitBoard board, double move, double score, int root) {
+            write(slot, board, move, score, hold[slot], nextIndex[slot], root, key[slot]);
+            siftDown(heapIndex[slot]);
+        }
+
+        int maxNextIndex() {
+            int max = 0;
+            for (int i = 0; i < size; i++) {
+                max = Math.max(max, nextIndex[i]);
+            }
+            return max;
+        }
+
+        int best() {
+            int best = 0;
+            for (int i = 1; i < size; i++) {
+                if (total[i] > total[best]) {best = i;}
+            }
+            return best;
+        }
+
+        private void write(int slot, BitBoard board, double move, double score, int heldColor, int index, int root,
+                           long boardKey) {
+            boards[slot].copyFrom(board);
+            moveScore[slot] = move;
+            total[slot] = score;
+            hold[slot] = heldColor;
+            nextIndex[slot] = index;
+            rootMove[slot] = root;
+            key[slot] = boardKey;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (total[heap[i]] >= total[heap[parent]]) {break;}
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int smallest = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < size && total[heap[left]] < total[heap[smallest]]) {smallest = left;}
+                if (right < size && total[heap[right]] < total[heap[smallest]]) {smallest = right;}
+                if (smallest == i) {return;}
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int tmp = heap[a];
+            heap[a] = heap[b];
+            heap[b] = tmp;
+            heapIndex[heap[a]] = a;
+            heapIndex[heap[b]] = b;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.comp2042.bot;
+
+/**
+ * Compact, mutable copy of the board for search: one int bit mask per row,
+ * bit {@code x} set when column {@code x} is filled.
+ *
+ * <p>Collision, rotation and spawning follow the exact rules of
+ * {@link com.comp2042.core.MatrixOperations#intersect},
+ * {@link com.comp2042.core.board.BrickRotationHandler} and
+ * {@link com.comp2042.core.board.BrickSpawner}, so a placement found here
+ * can be replayed on the real board with the same result.
+ */
+public final class BitBoard {
+
+    /** Returned by {@link #rotate} when every kick position is blocked. */
+    public static final int ROTATION_BLOCKED = Integer.MIN_VALUE;
+
+    private static final int SPAWN_X_OFFSET = 2;
+    /** Vertical offset a held brick is swapped back in at, whatever the stack height. */
+    public static final int DEFAULT_SPAWN_Y = -1;
+    private static final int EMERGENCY_SPAWN_Y = -2;
+    private static final int MAX_WALL_KICK = 3;
+
+    private final int width;
+    private final int height;
+    private final int fullRow;
+    private final int[] rows;
+
+    private int lastErodedCells;
+
+    /**
+     * Creates an empty board.
+     *
+     * @param width board width in cells (at most 30)
+     * @param height board height in cells
+     */
+    public BitBoard(int width, int height) {
+        if (width < 1 || width > 30) {
+            throw new IllegalArgumentException("width must be between 1 and 30");
+        }
+        this.width = width;
+        this.height = height;
+        this.fullRow = (1 << width) - 1;
+        this.rows = new int[height];
+    }
+
+    /**
+     * Creates a board holding the contents of a game matrix.
+     *
+     * @param matrix board matrix in [row][col] form
+     * @return a new BitBoard
+     */
+    public static BitBoard fromMatrix(int[][] matrix) {
+        BitBoard board = new BitBoard(matrix[0].length, matrix.length);
+        board.load(matrix);
+        return board;
+    }
+
+    /**
+     * Overwrites this board with a game matrix of the same size.
+     * @param matrix board matrix in [row][col] form
+     */
+    public void load(int[][] matrix) {
+        for (int row = 0; row < height; row++) {
+            int mask = 0;
+            int[] cells = matrix[row];
+            for (int col = 0; col < width; col++) {
+                if (cells[col] != 0) {
+                    mask |= 1 << col;
+                }
+            }
+            rows[row] = mask;
+        }
+    }
+
+    /**
+     * Overwrites this board with another board of the same size.
+     * @param other the board to copy
+     */
+    public void copyFrom(BitBoard other) {
+        System.arraycopy(other.rows, 0, rows, 0, height);
+    }
+
+    /**
+     * Checks whether a piece overlaps walls, floor or filled cells.
+     * Cells above the board only check the side walls.
+     *
+     * @param piece the piece
+     * @param rotation rotation index
+     * @param x horizontal offset of the shape matrix
+     * @param y vertical offset of the shape matrix
+     * @return true on collision
+     */
+    public boolean collides(PieceShape piece, int rotation, int x, int y) {
+        for (int i = 0; i < piece.size(); i++) {
+            int mask = piece.rowMask(rotation, i);
+            if (mask == 0) {continue;}
+            int shifted;
+            if (x < 0) {
+                if ((mask & ((1 << -x) - 1)) != 0) {return true;}
+                shifted = mask >>> -x;
+            } else {
+                shifted = mask << x;
+            }
+            if ((shifted & ~fullRow) != 0) {return true;}
+            int targetY = y + i;
+            if (targetY < 0) {continue;}
+            if (targetY >= height || (rows[targetY] & shifted) != 0) {return true;}
+        }
+        return false;
+    }
+
+    /**
+     * Finds where a piece comes to rest when dropped from a position.
+     *
+     * @param piece the piece
+     * @param rotation rotation index
+     * @param x horizontal offset
+     * @param y starting vertical offset (must not collide)
+     * @return resting vertical offset
+     */
+    public int dropY(PieceShape piece, int rotation, int x, int y) {
+        while (!collides(piece, rotation, x, y + 1)) {
+            y++;
+        }
+        return y;
+    }
+
+    /**
+     * Applies one rotate press with the engine's wall kicks: the rotated
+     * shape is tried in place, then up to three cells left, then up to
+     * three cells right.
+     *
+     * @param piece the piece
+     * @param rotation current rotation index
+     * @param x current horizontal offset
+     * @param y current vertical offset
+     * @return horizontal offset after rotating, or {@link #ROTATION_BLOCKED}
+     */
+    public int rotate(PieceShape piece, int rotation, int x, int y) {
+        int next = (rotation + 1) % piece.getRotations();
+        if (!collides(piece, next, x, y)) {return x;}
+        for (int kick = 1; kick <= MAX_WALL_KICK; kick++) {
+            if (!collides(piece, next, x - kick, y)) {return x - kick;}
+        }
+        for (int kick = 1; kick <= MAX_WALL_KICK; kick++) {
+            if (!collides(piece, next, x + kick, y)) {return x + kick;}
+        }
+        return ROTATION_BLOCKED;
+    }
+
+    /**
+     * Gets the horizontal spawn offset for new bricks.
+     * @return spawn X
+     */
+    public int spawnX() {return width / 2 - SPAWN_X_OFFSET;}
+
+    /**
+     * Gets the vertical spawn offset, raised when the stack is near the top.
+     * @return spawn Y
+     */
+    public int spawnY() {
+        return (rows[0] | rows[1]) != 0 ? EMERGENCY_SPAWN_Y : DEFAULT_SPAWN_Y;
+    }
+
+    /**
+     * Checks whether a freshly spawned piece would end the game, using the
+     * same test as {@link com.comp2042.core.board.BrickSpawner#createNewBrick()}.
+     *
+     * @param piece the piece about to spawn
+     * @return true if spawning tops out
+     */
+    public boolean spawnBlocked(PieceShape piece) {
+        return collides(piece, 0, spawnX(), spawnY() + 1);
+    }
+
+    /**
+     * Checks the engine's game over condition: anything in the top row.
+     * @return true if the top row is occupied
+     */
+    public boolean isTopRowFilled() {return rows[0] != 0;}
+
+    /**
+     * Merges a piece into the board and removes completed rows.
+     * The number of piece cells removed by the clear is available from
+     * {@link #getLastErodedCells()} afterwards.
+     *
+     * @param piece the piece
+     * @param rotation rotation index
+     * @param x horizontal offset
+     * @param y vertical offset
+     * @return number of lines cleared
+     */
+    public int place(PieceShape piece, int rotation, int x, int y) {
+        int cleared = 0;
+        int eroded = 0;
+        for (int i = 0; i < piece.size(); i++) {
+            int mask = piece.rowMask(rotation, i);
+            int targetY = y + i;
+            if (mask == 0 || targetY < 0 || targetY >= height) {continue;}
+            int shifted = x < 0 ? mask >>> -x : mask << x;
+            rows[targetY] |= shifted & fullRow;
+            if (rows[targetY] == fullRow) {
+                cleared++;
+                eroded += Integer.bitCount(shifted & fullRow);
+            }
+        }
+        lastErodedCells = eroded;
+        if (cleared > 0) {
+            removeFullRows();
+        }
+        return cleared;
+    }
+
+    private void removeFullRows() {
+        int write = height - 1;
+        for (int read = height - 1; read >= 0; read--) {
+            if (rows[read] != fullRow) {
+                rows[write--] = rows[read];
+            }
+        }
+        while (write >= 0) {
+            rows[write--] = 0;
+        }
+    }
+
+    /**
+     * Gets the number of cells of the last placed piece that were removed
+     * by its line clear.
+     * @return eroded piece cells
+     */
+    public int getLastErodedCells() {return lastErodedCells;}
+
+    /**
+     * Computes a 64-bit hash of the board contents.
+     * @return hash of all rows
+     */
+    public long hash() {
+        long h = 0x9E3779B97F4A7C15L;
+        for (int row = topRow(); row < height; row++) {
+            h = (h ^ (rows[row] | (long) row << 32)) * 0xBF58476D1CE4E5B9L;
+            h ^= h >>> 31;
+        }
+        return h;
+    }
+
+    /**
+     * Gets one row mask.
+     * @param row row index, 0 at the top
+     * @return bit mask of filled columns
+     */
+    public int row(int row) {return rows[row];}
+
+    /**
+     * Checks whether a cell is filled.
+     *
+     * @param x column
+     * @param y row
+     * @return true if filled
+     */
+    public boolean isFilled(int x, int y) {return (rows[y] >>> x & 1) != 0;}
+
+    /**
+     * Gets the index of the highest non-empty row.
+     * @return row index, or {@code height} if the board is empty
+     */
+    public int topRow() {
+        for (int row = 0; row < height; row++) {
+            if (rows[row] != 0) {
+                return row;
+            }
+        }
+        return height;
+    }
+
+    public int getWidth() {return width;}
+
+    public int getHeight() {return height;}
+
+    /**
+     * Gets the mask of a completely filled row.
+     * @return full row mask
+     */
+    public int getFullRow() {return fullRow;}
+}
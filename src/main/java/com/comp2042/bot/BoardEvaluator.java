@@ -0,0 +1,184 @@
+package com.comp2042.bot;
+
+/**
+ * Scores a board after a placement using the Dellacherie features:
+ * landing height, eroded piece cells, row and column transitions, holes
+ * and well sums. Higher scores are better.
+ *
+ * <p>All features are computed with row bit masks, so an evaluation costs
+ * a few hundred integer operations. Not thread-safe; each player keeps its
+ * own evaluator.
+ */
+public final class BoardEvaluator {
+
+    private final EvaluationWeights weights;
+    private int[] wellDepth = new int[0];
+
+    public BoardEvaluator(EvaluationWeights weights) {
+        this.weights = weights;
+    }
+
+    /**
+     * Scores a board that a piece has just been placed on.
+     *
+     * @param board the board after placing and clearing
+     * @param piece the placed piece
+     * @param rotation rotation the piece was placed in
+     * @param y vertical offset the piece was placed at
+     * @param linesCleared lines cleared by the placement
+     * @param erodedCells piece cells removed by the clear
+     * @return weighted score
+     */
+    public double evaluate(BitBoard board, PieceShape piece, int rotation, int y,
+                           int linesCleared, int erodedCells) {
+        return moveScore(board.getHeight(), piece, rotation, y, linesCleared, erodedCells) + boardScore(board);
+    }
+
+    /**
+     * Writes the unweighted feature values of a placement, in
+     * {@link EvaluationWeights} order, so that their dot product with the
+     * weights equals {@link #evaluate}.
+     *
+     * @param board the board after placing and clearing
+     * @param piece the placed piece
+     * @param rotation rotation the piece was placed in
+     * @param y vertical offset the piece was placed at
+     * @param linesCleared lines cleared by the placement
+     * @param erodedCells piece cells removed by the clear
+     * @param out array to write {@value EvaluationWeights#FEATURE_COUNT} values into
+     * @param offset index of the first value
+     */
+    public void features(BitBoard board, PieceShape piece, int rotation, int y,
+                         int linesCleared, int erodedCells, double[] out, int offset) {
+        int bottom = board.getHeight() - 1 - (y + piece.maxRow(rotation));
+        out[offset] = bottom + (piece.maxRow(rotation) - piece.minRow(rotation)) / 2.0;
+        out[offset + 1] = linesCleared * erodedCells;
+        out[offset + 2] = rowTransitions(board);
+        out[offset + 3] = columnTransitions(board);
+        out[offset + 4] = holes(board);
+        out[offset + 5] = wellSums(board);
+    }
+
+    /**
+     * Scores the placement-only features: landing height and eroded cells.
+     *
+     * @param boardHeight board height in rows
+     * @param piece the placed piece
+     * @param rotation rotation the piece was placed in
+     * @param y vertical offset the piece was placed at
+     * @param linesCleared lines cleared by the placement
+     * @param erodedCells piece cells removed by the clear
+     * @return weighted placement score
+     */
+    public double moveScore(int boardHeight, PieceShape piece, int rotation, int y,
+                            int linesCleared, int erodedCells) {
+        int bottom = boardHeight - 1 - (y + piece.maxRow(rotation));
+        double landingHeight = bottom + (piece.maxRow(rotation) - piece.minRow(rotation)) / 2.0;
+        return weights.getLandingHeight() * landingHeight
+                + weights.getErodedCells() * (linesCleared * erodedCells);
+    }
+
+    /**
+     * Scores the board-shape features: transitions, holes and wells.
+     *
+     * @param board the board
+     * @return weighted board score
+     */
+    public double boardScore(BitBoard board) {
+        return weights.getRowTransitions() * rowTransitions(board)
+                + weights.getColumnTransitions() * columnTransitions(board)
+                + weights.getHoles() * holes(board)
+                + weights.getWellSums() * wellSums(board);
+    }
+
+    /**
+     * Counts filled/empty changes along every row, treating both walls as filled.
+     * Every empty row above the stack counts its two wall edges.
+     *
+     * @param board the board
+     * @return row transitions
+     */
+    static int rowTransitions(BitBoard board) {
+        int width = board.getWidth();
+        int edges = (1 << (width + 1)) - 1;
+        int walls = 1 | (1 << (width + 1));
+        int top = board.topRow();
+        int count = 2 * top;
+        for (int row = top; row < board.getHeight(); row++) {
+            int line = (board.row(row) << 1) | walls;
+            count += Integer.bitCount((line ^ (line >>> 1)) & edges);
+        }
+        return count;
+    }
+
+    /**
+     * Counts filled/empty changes down every column, treating the floor as filled.
+     *
+     * @param board the board
+     * @return column transitions
+     */
+    static int columnTransitions(BitBoard board) {
+        int count = 0;
+        int above = 0;
+        // Empty rows above the stack add nothing
+        for (int row = board.topRow(); row < board.getHeight(); row++) {
+            int line = board.row(row);
+            count += Integer.bitCount(line ^ above);
+            above = line;
+        }
+        return count + Integer.bitCount(~above & board.getFullRow());
+    }
+
+    /**
+     * Counts empty cells with at least one filled cell above them.
+     *
+     * @param board the board
+     * @return holes
+     */
+    static int holes(BitBoard board) {
+        int count = 0;
+        int covered = 0;
+        for (int row = board.topRow(); row < board.getHeight(); row++) {
+            int line = board.row(row);
+            count += Integer.bitCount(covered & ~line);
+            covered |= line;
+        }
+        return count;
+    }
+
+    /**
+     * Sums the depth of every well cell, so a well of depth n adds
+     * 1 + 2 + ... + n. A well cell is empty with both neighbours filled
+     * or walls.
+     *
+     * @param board the board
+     * @return cumulative well depth
+     */
+    int wellSums(BitBoard board) {
+        int width = board.getWidth();
+        int full = board.getFullRow();
+        if (wellDepth.length != width) {
+            wellDepth = new int[width];
+        }
+
+        int sum = 0;
+        int open = 0;
+        for (int row = board.topRow(); row < board.getHeight(); row++) {
+            int line = board.row(row);
+            int leftFilled = (line << 1) | 1;
+            int rightFilled = (line >>> 1) | (1 << (width - 1));
+            int wells = ~line & leftFilled & rightFilled & full;
+            // An open cell below a well still deepens it
+            int deepen = wells | (~line & open);
+            for (int cells = deepen; cells != 0; cells &= cells - 1) {
+                int col = Integer.numberOfTrailingZeros(cells);
+                if ((open >>> col & 1) == 0) {
+                    wellDepth[col] = 0;
+                }
+                sum += ++wellDepth[col];
+            }
+            open = deepen;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,44 @@
+package com.comp2042.bot;
+
+import com.comp2042.core.BoardSnapshot;
+
+/**
+ * Service-provider interface for automated players that are found at run
+ * time instead of being listed in {@link PlayerType}.
+ *
+ * <p>Implementations are registered in
+ * {@code META-INF/services/com.comp2042.bot.Bot} and loaded by
+ * {@link BotRegistry}. Each game gets a fresh instance, so a bot may keep
+ * state between moves. Constructors should be cheap, since the registry
+ * creates an instance to read a bot's name; allocate search state on the
+ * first move instead.
+ *
+ * <p>Bots are called on a worker thread by {@link BudgetedPlayer}. A bot
+ * that is still searching at the deadline is interrupted and its move is
+ * forfeited, so long searches should watch the deadline or
+ * {@link Thread#isInterrupted()}.
+ */
+public interface Bot extends AutoCloseable {
+
+    /**
+     * Gets the name the bot is selected by.
+     * @return short unique name, e.g. "heuristic"
+     */
+    String getName();
+
+    /**
+     * Chooses a placement for the current brick.
+     *
+     * @param board read-only copy of the board, including hold and previews
+     * @param deadlineNanos {@link System#nanoTime()} by which the move must be returned
+     * @return the chosen placement, or null to drop the brick where it is
+     */
+    Placement choosePlacement(BoardSnapshot board, long deadlineNanos);
+
+    /**
+     * Releases threads or other resources held by the bot.
+     */
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,13 @@
+package com.comp2042.bot;
+
+/**
+ * Single input an {@link AutoPlayer} sends to the game.
+ */
+public enum BotAction {
+    ROTATE,
+    LEFT,
+    RIGHT,
+    SOFT_DROP,
+    HOLD,
+    HARD_DROP
+}
@@ -0,0 +1,44 @@
+package com.comp2042.bot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Finds the {@link Bot} implementations registered with
+ * {@link ServiceLoader} on the class path.
+ */
+public final class BotRegistry {
+
+    private BotRegistry() {
+    }
+
+    /**
+     * Lists the names of all registered bots.
+     * @return bot names in class path order
+     */
+    public static List<String> names() {
+        List<String> names = new ArrayList<>();
+        for (Bot bot : ServiceLoader.load(Bot.class)) {
+            names.add(bot.getName());
+        }
+        return names;
+    }
+
+    /**
+     * Creates a fresh instance of a registered bot.
+     *
+     * @param name bot name, in any case
+     * @return a new bot
+     * @throws IllegalArgumentException if no registered bot has the name
+     */
+    public static Bot create(String name) {
+        for (Bot bot : ServiceLoader.load(Bot.class)) {
+            if (bot.getName().equalsIgnoreCase(name)) {
+                return bot;
+            }
+        }
+        throw new IllegalArgumentException("Unknown bot '" + name + "'; available: "
+                + String.join(", ", names()));
+    }
+}
@@ -0,0 +1,175 @@
+package com.comp2042.bot;
+
+import com.comp2042.core.Board;
+import com.comp2042.core.BoardSnapshot;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Runs a {@link Bot} as a {@link Player} under a time budget per move.
+ *
+ * <p>Every move is searched on the bot's own worker thread against a
+ * {@link BoardSnapshot}, and the caller waits at most the budget. A bot
+ * that is late is interrupted and forfeits the move: null is returned, so
+ * the game drops the brick where it is. If a late bot ignores the
+ * interrupt and is still running at its next move, its thread is
+ * abandoned and a new one started, so one runaway bot can never hold up
+ * the caller for more than one budget per move. Bots need not be
+ * thread-safe, so the abandoned bot is closed and a fresh one created
+ * for the new thread instead of calling it while its old call runs.
+ *
+ * <p>The budget is enforced on wall-clock time, which bounds the CPU time
+ * as well. Both are recorded per move in {@link LatencyHistogram}s; CPU
+ * time well below wall time means the bot was waiting for a core.
+ */
+public class BudgetedPlayer implements Player, AutoCloseable {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final Supplier<? extends Bot> bots;
+    private final long budgetNanos;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LatencyHistogram cpuTime = new LatencyHistogram();
+
+    private Bot bot;
+    private ExecutorService worker;
+    private AtomicBoolean lastMoveRunning;
+    private int overruns;
+    private int failures;
+    private int abandonedThreads;
+
+    /**
+     * Creates a new BudgetedPlayer.
+     *
+     * @param bots creates the bot, and a fresh one whenever a bot is
+     *             abandoned; every bot is closed when it is replaced or
+     *             together with this player
+     * @param budgetNanos time allowed per move
+     */
+    public BudgetedPlayer(Supplier<? extends Bot> bots, long budgetNanos) {
+        if (budgetNanos < 1) {
+            throw new IllegalArgumentException("budgetNanos must be positive");
+        }
+        this.bots = bots;
+        this.budgetNanos = budgetNanos;
+        this.bot = bots.get();
+        this.worker = newWorker();
+    }
+
+    @Override
+    public Placement choosePlacement(Board board) {
+        if (lastMoveRunning != null && lastMoveRunning.get()) {
+            // Still running past an earlier deadline despite the interrupt
+            worker.shutdownNow();
+            bot.close();
+            bot = bots.get();
+            worker = newWorker();
+            abandonedThreads++;
+        }
+        Bot current = bot;
+        BoardSnapshot snapshot = BoardSnapshot.of(board);
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+        AtomicBoolean running = new AtomicBoolean();
+        lastMoveRunning = running;
+        Future<Placement> move = worker.submit(() -> {
+            running.set(true);
+            long cpuStart = threadCpuTime();
+            try {
+                return current.choosePlacement(snapshot, deadline);
+            } finally {
+                running.set(false);
+                long cpuEnd = threadCpuTime();
+                if (cpuStart >= 0 && cpuEnd >= 0) {
+                    cpuTime.record(cpuEnd - cpuStart);
+                }
+            }
+        });
+        try {
+            return move.get(budgetNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            move.cancel(true);
+            overruns++;
+            return null;
+        } catch (ExecutionException e) {
+            failures++;
+            System.err.println("Bot " + bot.getName() + " failed: " + e.getCause());
+            return null;
+        } catch (InterruptedException e) {
+            move.cancel(true);
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            latency.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Gets the bot that plays the next move.
+     * @return the current bot
+     */
+    public Bot getBot() {return bot;}
+
+    /**
+     * Gets the wall-clock time per move as seen by the caller, capped at
+     * the budget.
+     * @return latency histogram
+     */
+    public LatencyHistogram getLatency() {return latency;}
+
+    /**
+     * Gets the CPU time the bot's thread used per finished move. Empty if
+     * the JVM cannot measure thread CPU time.
+     * @return CPU time histogram
+     */
+    public LatencyHistogram getCpuTime() {return cpuTime;}
+
+    /**
+     * Gets the number of moves forfeited by missing the deadline.
+     * @return late moves
+     */
+    public int getOverruns() {return overruns;}
+
+    /**
+     * Gets the number of moves forfeited because the bot threw.
+     * @return failed moves
+     */
+    public int getFailures() {return failures;}
+
+    /**
+     * Gets the number of worker threads, and the bots on them, given up
+     * on because the bot kept running after being interrupted.
+     * @return abandoned threads
+     */
+    public int getAbandonedThreads() {return abandonedThreads;}
+
+    /**
+     * Interrupts any running move, stops the worker and closes the bot.
+     */
+    @Override
+    public void close() {
+        worker.shutdownNow();
+        bot.close();
+    }
+
+    private ExecutorService newWorker() {
+        return Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "bot-" + bot.getName());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static long threadCpuTime() {
+        return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : -1;
+    }
+}
@@ -0,0 +1,76 @@
+package com.comp2042.bot;
+
+import com.comp2042.core.BoardSnapshot;
+
+import java.util.Locale;
+
+/**
+ * The {@link PlayerType} players registered as {@link Bot}s, so the same
+ * registry lists built-in and third-party bots. Each nested class is one
+ * provider entry; the player itself is created on the first move.
+ */
+public final class BuiltInBots {
+
+    private BuiltInBots() {
+    }
+
+    /**
+     * Adapter from a built-in player type to the bot interface. The
+     * deadline is passed on, so a player with its own time budget stops
+     * at whichever comes first.
+     */
+    public abstract static class PlayerTypeBot implements Bot {
+
+        private static final long SEED = 1L;
+
+        private final PlayerType type;
+        private Player player;
+
+        protected PlayerTypeBot(PlayerType type) {
+            this.type = type;
+        }
+
+        @Override
+        public String getName() {
+            return type.name().toLowerCase(Locale.ROOT);
+        }
+
+        @Override
+        public Placement choosePlacement(BoardSnapshot board, long deadlineNanos) {
+            if (player == null) {
+                player = type.create(SEED);
+            }
+            return player.choosePlacement(board, deadlineNanos);
+        }
+
+        @Override
+        public void close() {
+            Player.closeQuietly(player);
+            player = null;
+        }
+    }
+
+    public static final class Random extends PlayerTypeBot {
+        public Random() {super(PlayerType.RANDOM);}
+    }
+
+    public static final class Greedy extends PlayerTypeBot {
+        public Greedy() {super(PlayerType.GREEDY);}
+    }
+
+    public static final class Heuristic extends PlayerTypeBot {
+        public Heuristic() {super(PlayerType.HEURISTIC);}
+    }
+
+    public static final class Beam extends PlayerTypeBot {
+        public Beam() {super(PlayerType.BEAM);}
+    }
+
+    public static final class Parallel extends PlayerTypeBot {
+        public Parallel() {super(PlayerType.PARALLEL);}
+    }
+
+    public static final class MonteCarlo extends PlayerTypeBot {
+        public MonteCarlo() {super(PlayerType.MONTE_CARLO);}
+    }
+}
@@ -0,0 +1,46 @@
+package com.comp2042.bot;
+
+import com.comp2042.brick.Brick;
+import com.comp2042.core.MatrixOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Enumerates the hard-drop placements of a brick: every rotation shifted
+ * to every column that is free at spawn height, dropped straight down.
+ */
+final class DropPlacements {
+
+    private static final int MAX_LEFT_OVERHANG = 3;
+
+    private DropPlacements() {
+    }
+
+    /**
+     * Lists all straight-drop placements for a brick.
+     *
+     * @param matrix the board matrix (not modified)
+     * @param brick the brick to place
+     * @param spawnY vertical offset the brick starts from
+     * @return placements in rotation-then-column order
+     */
+    static List<Placement> enumerate(int[][] matrix, Brick brick, int spawnY) {
+        List<Placement> placements = new ArrayList<>();
+        List<int[][]> shapes = brick.getShapeMatrix();
+        int width = matrix[0].length;
+
+        for (int rotation = 0; rotation < shapes.size(); rotation++) {
+            int[][] shape = shapes.get(rotation);
+            for (int x = -MAX_LEFT_OVERHANG; x < width; x++) {
+                if (MatrixOperations.intersect(matrix, shape, x, spawnY)) {continue;}
+                int y = spawnY;
+                while (!MatrixOperations.intersect(matrix, shape, x, y + 1)) {
+                    y++;
+                }
+                placements.add(new Placement(rotation, x, y));
+            }
+        }
+        return placements;
+    }
+}
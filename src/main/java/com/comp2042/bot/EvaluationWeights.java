@@ -0,0 +1,102 @@
+package com.comp2042.bot;
+
+import java.util.Arrays;
+
+/**
+ * Weights of the board features scored by {@link BoardEvaluator}.
+ *
+ * <p>The defaults are the El-Tetris weights for the six Dellacherie
+ * features. Instances are immutable.
+ */
+public final class EvaluationWeights {
+
+    /** Number of weighted features. */
+    public static final int FEATURE_COUNT = 6;
+
+    /** El-Tetris weights. */
+    public static final EvaluationWeights DEFAULT = new EvaluationWeights(
+            -4.500158825082766,
+            3.4181268101392694,
+            -3.2178882868487753,
+            -9.348695305445199,
+            -7.899265427351652,
+            -3.3855972247263626
+    );
+
+    private final double landingHeight;
+    private final double erodedCells;
+    private final double rowTransitions;
+    private final double columnTransitions;
+    private final double holes;
+    private final double wellSums;
+
+    /**
+     * Creates a set of weights.
+     *
+     * @param landingHeight weight of the height the piece lands at
+     * @param erodedCells weight of lines cleared times piece cells cleared
+     * @param rowTransitions weight of filled/empty changes along rows
+     * @param columnTransitions weight of filled/empty changes down columns
+     * @param holes weight of empty cells covered by filled cells
+     * @param wellSums weight of the cumulative well depths
+     */
+    public EvaluationWeights(double landingHeight, double erodedCells, double rowTransitions,
+                             double columnTransitions, double holes, double wellSums) {
+        this.landingHeight = landingHeight;
+        this.erodedCells = erodedCells;
+        this.rowTransitions = rowTransitions;
+        this.columnTransitions = columnTransitions;
+        this.holes = holes;
+        this.wellSums = wellSums;
+    }
+
+    /**
+     * Creates weights from an array in feature order.
+     *
+     * @param values {@value #FEATURE_COUNT} weights
+     * @return the weights
+     */
+    public static EvaluationWeights of(double[] values) {
+        if (values.length != FEATURE_COUNT) {
+            throw new IllegalArgumentException("Expected " + FEATURE_COUNT + " weights, got " + values.length);
+        }
+        return new EvaluationWeights(values[0], values[1], values[2], values[3], values[4], values[5]);
+    }
+
+    /**
+     * Gets the weights as an array in feature order.
+     * @return a new array
+     */
+    public double[] toArray() {
+        return new double[] {landingHeight, erodedCells, rowTransitions, columnTransitions, holes, wellSums};
+    }
+
+    public double getLandingHeight() {return landingHeight;}
+
+    public double getErodedCells() {return erodedCells;}
+
+    public double getRowTransitions() {return rowTransitions;}
+
+    public double getColumnTransitions() {return columnTransitions;}
+
+    public double getHoles() {return holes;}
+
+    public double getWellSums() {return wellSums;}
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {return true;}
+        if (!(o instanceof EvaluationWeights)) {return false;}
+        return Arrays.equals(toArray(), ((EvaluationWeights) o).toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return "EvaluationWeights" + Arrays.toString(toArray());
+    }
+}
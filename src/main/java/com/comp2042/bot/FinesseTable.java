@@ -0,0 +1,182 @@
+package com.comp2042.bot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Fewest key presses that bring each piece from spawn to each rotation and
+ * column, on a board with nothing in the way.
+ *
+ * <p>Placing a piece with more presses than this is a finesse fault. The
+ * keys are those of the game: a tap left or right, holding left or right
+ * until the piece reaches the wall (DAS), and the one rotate key, which
+ * turns the piece with the engine's wall kicks. Drops are not counted.
+ *
+ * <p>The table is found once by a breadth-first search over (rotation,
+ * column) for every piece, a few milliseconds at startup, and packs each
+ * entry into one int: the press count in the low bits and the keys of one
+ * shortest sequence above it. A lookup is a single array read.
+ */
+public final class FinesseTable {
+
+    /**
+     * A key press as finesse counts it.
+     */
+    public enum Key {
+        LEFT, RIGHT, DAS_LEFT, DAS_RIGHT, ROTATE
+    }
+
+    private static final int COLORS = 8;
+    private static final int MAX_ROTATIONS = 4;
+    private static final int SHAPE_MARGIN = 4;
+    private static final int COUNT_BITS = 4;
+    private static final int KEY_BITS = 3;
+    private static final int MAX_KEYS = (Integer.SIZE - 1 - COUNT_BITS) / KEY_BITS;
+    private static final int UNREACHABLE = -1;
+    private static final Key[] KEYS = Key.values();
+
+    private final int slots;
+    private final int[] entries;
+
+    /**
+     * Builds the table for a board size.
+     *
+     * @param width board width
+     * @param height board height
+     */
+    public FinesseTable(int width, int height) {
+        this.slots = width + 2 * SHAPE_MARGIN;
+        this.entries = new int[COLORS * MAX_ROTATIONS * slots];
+        Arrays.fill(entries, UNREACHABLE);
+        BitBoard empty = new BitBoard(width, height);
+        for (int color = 1; color < COLORS; color++) {
+            search(empty, PieceShape.ofColor(color));
+        }
+    }
+
+    /**
+     * Gets the table for the game's 10x25 board, built on first use.
+     * @return the shared table
+     */
+    public static FinesseTable standard() {
+        return Standard.TABLE;
+    }
+
+    private static final class Standard {
+        static final FinesseTable TABLE = new FinesseTable(10, 25);
+    }
+
+    private void search(BitBoard board, PieceShape piece) {
+        int states = MAX_ROTATIONS * slots;
+        int[] previous = new int[states];
+        int[] key = new int[states];
+        int[] presses = new int[states];
+        Arrays.fill(presses, UNREACHABLE);
+        int[] queue = new int[states];
+        int head = 0;
+        int tail = 0;
+
+        int y = BitBoard.DEFAULT_SPAWN_Y;
+        int start = state(0, board.spawnX());
+        presses[start] = 0;
+        previous[start] = -1;
+        queue[tail++] = start;
+        while (head < tail) {
+            int current = queue[head++];
+            int rotation = current / slots;
+            int x = current % slots - SHAPE_MARGIN;
+            for (Key k : KEYS) {
+                int nextRotation = rotation;
+                int nextX = x;
+                switch (k) {
+                    case LEFT -> nextX = board.collides(piece, rotation, x - 1, y) ? x : x - 1;
+                    case RIGHT -> nextX = board.collides(piece, rotation, x + 1, y) ? x : x + 1;
+                    case DAS_LEFT -> {
+                        while (!board.collides(piece, rotation, nextX - 1, y)) {nextX--;}
+                    }
+                    case DAS_RIGHT -> {
+                        while (!board.collides(piece, rotation, nextX + 1, y)) {nextX++;}
+                    }
+                    case ROTATE -> {
+                        nextX = board.rotate(piece, rotation, x, y);
+                        if (nextX == BitBoard.ROTATION_BLOCKED) {continue;}
+                        nextRotation = (rotation + 1) % piece.getRotations();
+                    }
+                }
+                int next = state(nextRotation, nextX);
+                if (presses[next] != UNREACHABLE) {continue;}
+                presses[next] = presses[current] + 1;
+                previous[next] = current;
+                key[next] = k.ordinal();
+                queue[tail++] = next;
+            }
+        }
+
+        for (int s = 0; s < states; s++) {
+            if (presses[s] == UNREACHABLE) {continue;}
+            if (presses[s] > MAX_KEYS) {
+                throw new IllegalStateException("Finesse sequence too long to pack");
+            }
+            int sequence = 0;
+            for (int at = s; previous[at] >= 0; at = previous[at]) {
+                sequence = sequence << KEY_BITS | key[at];
+            }
+            entries[index(piece.getColor(), s / slots, s % slots - SHAPE_MARGIN)] =
+                    sequence << COUNT_BITS | presses[s];
+        }
+    }
+
+    private int state(int rotation, int x) {
+        return rotation * slots + x + SHAPE_MARGIN;
+    }
+
+    private int index(int color, int rotation, int x) {
+        return (color * MAX_ROTATIONS + rotation) * slots + x + SHAPE_MARGIN;
+    }
+
+    private int entry(PieceShape piece, int rotation, int x) {
+        if (rotation < 0 || rotation >= piece.getRotations()
+                || x < -SHAPE_MARGIN || x >= slots - SHAPE_MARGIN) {
+            return UNREACHABLE;
+        }
+        return entries[index(piece.getColor(), rotation, x)];
+    }
+
+    /**
+     * Gets the fewest presses that reach a position.
+     *
+     * @param piece the piece
+     * @param rotation rotation index of the placement
+     * @param x horizontal offset of the placement
+     * @return press count, or -1 if no key sequence reaches the position
+     */
+    public int minimumPresses(PieceShape piece, int rotation, int x) {
+        int entry = entry(piece, rotation, x);
+        return entry == UNREACHABLE ? UNREACHABLE : entry & ((1 << COUNT_BITS) - 1);
+    }
+
+    /**
+     * Gets one shortest key sequence that reaches a position.
+     *
+     * @param piece the piece
+     * @param rotation rotation index of the placement
+     * @param x horizontal offset of the placement
+     * @return keys in the order to press them, empty if the piece can be
+     *         dropped where it spawns, or null if the position is unreachable
+     */
+    public List<Key> keys(PieceShape piece, int rotation, int x) {
+        int entry = entry(piece, rotation, x);
+        if (entry == UNREACHABLE) {
+            return null;
+        }
+        List<Key> keys = new ArrayList<>();
+        int sequence = entry >>> COUNT_BITS;
+        for (int i = entry & ((1 << COUNT_BITS) - 1); i > 0; i--) {
+            keys.add(KEYS[sequence & ((1 << KEY_BITS) - 1)]);
+            sequence >>>= KEY_BITS;
+        }
+        return Collections.unmodifiableList(keys);
+    }
+}
@@ -0,0 +1,53 @@
+package com.comp2042.bot;
+
+import com.comp2042.core.Board;
+import com.comp2042.core.MatrixOperations;
+
+import java.util.List;
+
+/**
+ * Simple greedy player: clears as many lines as possible with the current
+ * brick and otherwise keeps the stack as low as possible.
+ */
+public class GreedyPlayer implements Player {
+
+    @Override
+    public Placement choosePlacement(Board board) {
+        int[][] matrix = board.getBoardMatrix();
+        List<Placement> placements = DropPlacements.enumerate(
+                matrix,
+                board.getCurrentBrick(),
+                board.getViewData().getyPosition()
+        );
+        List<int[][]> shapes = board.getCurrentBrick().getShapeMatrix();
+
+        Placement best = null;
+        int bestLines = -1;
+        int bestTop = Integer.MIN_VALUE;
+        for (Placement placement : placements) {
+            int[][] shape = shapes.get(placement.getRotation());
+            int[][] merged = MatrixOperations.merge(matrix, shape, placement.getX(), placement.getY());
+            int lines = MatrixOperations.checkRemoving(merged).getLinesRemoved();
+            int top = placement.getY() + firstFilledRow(shape);
+
+            // Larger Y means lower on screen
+            if (lines > bestLines || (lines == bestLines && top > bestTop)) {
+                best = placement;
+                bestLines = lines;
+                bestTop = top;
+            }
+        }
+        return best;
+    }
+
+    private static int firstFilledRow(int[][] shape) {
+        for (int row = 0; row < shape.length; row++) {
+            for (int cell : shape[row]) {
+                if (cell != 0) {
+                    return row;
+                }
+            }
+        }
+        return shape.length;
+    }
+}
@@ -0,0 +1,90 @@
+package com.comp2042.bot;
+
+import com.comp2042.core.Board;
+import com.comp2042.model.ViewData;
+
+/**
+ * Player that scores every reachable hard-drop placement of the current
+ * brick with {@link BoardEvaluator} and picks the best one.
+ *
+ * <p>Placements are generated the way {@link PlacementExecutor} plays
+ * them: rotate at spawn (with wall kicks), shift sideways until the target
+ * column, then drop. The board is copied once into a {@link BitBoard} and
+ * each candidate is tried on a reused scratch copy, so a decision takes
+ * only microseconds.
+ */
+public class HeuristicPlayer implements Player {
+
+    private final BoardEvaluator evaluator;
+
+    private BitBoard board;
+    private BitBoard scratch;
+    private ShiftDropMoves moves;
+    private int lastEvaluated;
+
+    /**
+     * Creates a player using the default El-Tetris weights.
+     */
+    public HeuristicPlayer() {
+        this(EvaluationWeights.DEFAULT);
+    }
+
+    /**
+     * Creates a player with custom weights.
+     * @param weights feature weights
+     */
+    public HeuristicPlayer(EvaluationWeights weights) {
+        this.evaluator = new BoardEvaluator(weights);
+    }
+
+    @Override
+    public Placement choosePlacement(Board game) {
+        int[][] matrix = game.getBoardMatrix();
+        if (board == null || board.getHeight() != matrix.length || board.getWidth() != matrix[0].length) {
+            board = new BitBoard(matrix[0].length, matrix.length);
+        }
+        board.load(matrix);
+
+        ViewData view = game.getViewData();
+        return choosePlacement(board, PieceShape.of(game.getCurrentBrick()), view.getxPosition(), view.getyPosition());
+    }
+
+    /**
+     * Chooses a placement on a bit board.
+     *
+     * @param start the board before placing (not modified)
+     * @param piece the piece to place, in rotation 0
+     * @param spawnX current horizontal offset of the piece
+     * @param spawnY current vertical offset of the piece
+     * @return the best placement, or null if the piece cannot move at all
+     */
+    public Placement choosePlacement(BitBoard start, PieceShape piece, int spawnX, int spawnY) {
+        if (scratch == null || scratch.getHeight() != start.getHeight() || scratch.getWidth() != start.getWidth()) {
+            scratch = new BitBoard(start.getWidth(), start.getHeight());
+            moves = new ShiftDropMoves(start.getWidth());
+        }
+
+        Placement best = null;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        int count = moves.generate(start, piece, spawnX, spawnY);
+        lastEvaluated = count;
+        for (int i = 0; i < count; i++) {
+            int rotation = moves.rotation(i);
+            int y = moves.y(i);
+            scratch.copyFrom(start);
+            int lines = scratch.place(piece, rotation, moves.x(i), y);
+            double score = evaluator.evaluate(scratch, piece, rotation, y, lines, scratch.getLastErodedCells());
+            if (score > bestScore) {
+                bestScore = score;
+                best = new Placement(rotation, moves.x(i), y);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Gets how many placements the last decision evaluated.
+     * @return at most one per rotation and column
+     */
+    public int getLastEvaluatedCount() {return lastEvaluated;}
+}
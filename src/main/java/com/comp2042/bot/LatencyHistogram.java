@@ -0,0 +1,114 @@
+package com.comp2042.bot;
+
+import java.util.Locale;
+
+/**
+ * Histogram of durations in nanoseconds with log-linear buckets: every
+ * power of two is split into eight buckets, so any reported percentile is
+ * within 12.5% of the recorded value. Recording is a few shifts and an
+ * increment, and the whole range up to hours fits in under 500 counters.
+ * Thread-safe.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BITS) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long total;
+    private long max;
+
+    /**
+     * Adds one duration.
+     * @param nanos duration; negative values count as zero
+     */
+    public synchronized void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[indexOf(value)]++;
+        count++;
+        total += value;
+        max = Math.max(max, value);
+    }
+
+    public synchronized long getCount() {return count;}
+
+    public synchronized long getMax() {return max;}
+
+    /**
+     * Gets the mean of the recorded durations.
+     * @return mean in nanoseconds, or 0 if nothing was recorded
+     */
+    public synchronized double getMean() {
+        return count == 0 ? 0.0 : (double) total / count;
+    }
+
+    /**
+     * Gets the duration that the given fraction of records do not exceed.
+     *
+     * @param fraction between 0 and 1, e.g. 0.99
+     * @return upper bound of the bucket holding that record, at most the
+     *         maximum; 0 if nothing was recorded
+     */
+    public synchronized long percentile(double fraction) {
+        if (fraction < 0 || fraction > 1) {
+            throw new IllegalArgumentException("fraction must be between 0 and 1");
+        }
+        if (count == 0) {return 0;}
+        long rank = Math.max(1, (long) Math.ceil(fraction * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(max, lowerBound(i + 1) - 1);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Adds all records of another histogram to this one.
+     * @param other the histogram to add
+     */
+    public void add(LatencyHistogram other) {
+        long[] otherCounts;
+        long otherCount;
+        long otherTotal;
+        long otherMax;
+        synchronized (other) {
+            otherCounts = other.counts.clone();
+            otherCount = other.count;
+            otherTotal = other.total;
+            otherMax = other.max;
+        }
+        synchronized (this) {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] += otherCounts[i];
+            }
+            count += otherCount;
+            total += otherTotal;
+            max = Math.max(max, otherMax);
+        }
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {return (int) value;}
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long lowerBound(int index) {
+        int block = index / SUB_BUCKETS;
+        int sub = index % SUB_BUCKETS;
+        if (block == 0) {return sub;}
+        return (long) (SUB_BUCKETS + sub) << (block - 1);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format(Locale.ROOT, "n=%d mean=%.2f ms p50=%.2f ms p99=%.2f ms max=%.2f ms",
+                count, getMean() / 1e6, percentile(0.5) / 1e6, percentile(0.99) / 1e6, max / 1e6);
+    }
+}
@@ -0,0 +1,442 @@
+package com.comp2042.bot;
+
+import com.comp2042.core.Board;
+import com.comp2042.model.ViewData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Player that judges its best placements by playing them out against
+ * sampled futures of the hidden piece queue.
+ *
+ * <p>The current brick (directly, or through hold) is placed in every
+ * way and the {@code candidates} best placements by {@link BoardEvaluator}
+ * score are kept. Each candidate is then played on for {@code depth}
+ * more bricks in {@code rollouts} rollouts: the rollout queue is the
+ * rest of the visible previews followed by pieces drawn from the bags the
+ * generator can still deal, as reported by
+ * {@link Board#getDealtFromBagData()}. Rollouts place greedily without
+ * hold, and a rollout is worth the placement scores it collects plus the
+ * score of the board it ends on. The candidate with the best average
+ * rollout wins.
+ *
+ * <p>Rollout {@code r} sees the same sampled future for every candidate,
+ * so the candidates are compared on equal luck. Rollouts run as
+ * fork/join tasks on per-thread board buffers and write their values into
+ * fixed slots, so the chosen move does not depend on the number of
+ * threads. Given a deadline, rollouts that have not started by then are
+ * skipped, and the candidates are compared on the rollouts every one of
+ * them finished; if there are none, the best static score wins.
+ *
+ * <p>Players made with the default constructor share the common
+ * {@link ForkJoinPool}, so many of them running at once, as under
+ * {@code BatchSimulator} or the tournament runner, add no threads beyond
+ * it. A player given its own parallelism owns a pool of that size; call
+ * {@link #close()} when it is no longer needed.
+ */
+public class MonteCarloPlayer implements Player, AutoCloseable {
+
+    /** Placements played out per decision by default. */
+    public static final int DEFAULT_CANDIDATES = 6;
+
+    /** Rollouts per candidate by default. */
+    public static final int DEFAULT_ROLLOUTS = 32;
+
+    /** Bricks placed per rollout after the candidate by default. */
+    public static final int DEFAULT_DEPTH = 10;
+
+    private static final int PREVIEW_COUNT = 5;
+    private static final int NO_HOLD = 0;
+    private static final int ROLLOUTS_PER_TASK = 4;
+    private static final double TOPPED_OUT = -1e9;
+
+    private final EvaluationWeights weights;
+    private final int parallelism;
+    private final int candidates;
+    private final int rollouts;
+    private final int depth;
+    private final long seed;
+    private final ForkJoinPool pool;
+    private final boolean ownsPool;
+    private final ThreadLocal<Worker> workers;
+    private final LongAdder pieces = new LongAdder();
+    private final int[] sequence = new int[1 + PREVIEW_COUNT];
+
+    private int length;
+    private int remaining;
+    private int width;
+    private int height;
+    private long decision;
+    private boolean bounded;
+    private long deadline;
+
+    private long lastPieces;
+    private long lastNanos;
+
+    /**
+     * Creates a player with the default settings on the common fork/join
+     * pool.
+     *
+     * @param seed seed for sampling the hidden queue
+     */
+    public MonteCarloPlayer(long seed) {
+        this(EvaluationWeights.DEFAULT, ForkJoinPool.getCommonPoolParallelism(), ForkJoinPool.commonPool(),
+                DEFAULT_CANDIDATES, DEFAULT_ROLLOUTS, DEFAULT_DEPTH, seed);
+    }
+
+    /**
+     * Creates a new MonteCarloPlayer.
+     *
+     * @param weights feature weights for the candidates and the rollouts
+     * @param parallelism number of worker threads
+     * @param candidates placements played out per decision
+     * @param rollouts rollouts per candidate
+     * @param depth bricks placed per rollout after the candidate
+     * @param seed seed for sampling the hidden queue
+     */
+    public MonteCarloPlayer(EvaluationWeights weights, int parallelism, int candidates,
+                            int rollouts, int depth, long seed) {
+        this(weights, parallelism, null, candidates, rollouts, depth, seed);
+    }
+
+    private MonteCarloPlayer(EvaluationWeights weights, int parallelism, ForkJoinPool sharedPool, int candidates,
+                             int rollouts, int depth, long seed) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        if (candidates < 1) {
+            throw new IllegalArgumentException("candidates must be at least 1");
+        }
+        if (rollouts < 1) {
+            throw new IllegalArgumentException("rollouts must be at least 1");
+        }
+        if (depth < 0) {
+            throw new IllegalArgumentException("depth must not be negative");
+        }
+        this.weights = weights;
+        this.parallelism = parallelism;
+        this.candidates = candidates;
+        this.rollouts = rollouts;
+        this.depth = depth;
+        this.seed = seed;
+        this.ownsPool = sharedPool == null;
+        this.pool = ownsPool ? new ForkJoinPool(parallelism) : sharedPool;
+        this.workers = ThreadLocal.withInitial(Worker::new);
+    }
+
+    @Override
+    public Placement choosePlacement(Board game) {
+        bounded = false;
+        return plan(game);
+    }
+
+    @Override
+    public Placement choosePlacement(Board game, long deadlineNanos) {
+        bounded = true;
+        deadline = deadlineNanos;
+        return plan(game);
+    }
+
+    private Placement plan(Board game) {
+        int[][] matrix = game.getBoardMatrix();
+        width = matrix[0].length;
+        height = matrix.length;
+        BitBoard root = BitBoard.fromMatrix(matrix);
+
+        length = 0;
+        sequence[length++] = PieceShape.of(game.getCurrentBrick()).getColor();
+        List<int[][]> previews = game.getNextBricksData(PREVIEW_COUNT);
+        for (int[][] preview : previews) {
+            PieceShape piece = PieceShape.of(preview);
+            if (piece == null || length == sequence.length) {break;}
+            sequence[length++] = piece.getColor();
+        }
+        remaining = bagRemaining(game.getDealtFromBagData(), previews);
+        PieceShape held = PieceShape.of(game.getHoldBrickData());
+
+        ViewData view = game.getViewData();
+        return decide(root, held == null ? NO_HOLD : held.getColor(), game.canHold(),
+                view.getxPosition(), view.getyPosition());
+    }
+
+    /**
+     * Gets the number of bricks placed by the rollouts of the last
+     * decision.
+     * @return rollout bricks
+     */
+    public long getLastPieces() {return lastPieces;}
+
+    /**
+     * Gets the rollout throughput of the last decision.
+     * @return bricks placed per millisecond of wall time
+     */
+    public double getLastPiecesPerMillisecond() {
+        return lastNanos == 0 ? 0 : lastPieces * 1e6 / lastNanos;
+    }
+
+    /**
+     * Gets the number of worker threads.
+     * @return parallelism
+     */
+    public int getParallelism() {return parallelism;}
+
+    /**
+     * Shuts down the worker threads if the player owns them.
+     */
+    @Override
+    public void close() {
+        if (ownsPool) {pool.shutdown();}
+    }
+
+    /**
+     * Pieces left in the bag after the dealt pieces and the previews.
+     */
+    private static int bagRemaining(List<int[][]> dealt, List<int[][]> previews) {
+        if (dealt == null) {
+            return BagSampler.UNKNOWN;
+        }
+        int[] stream = new int[dealt.size() + previews.size()];
+        int count = 0;
+        for (int[][] shape : dealt) {
+            stream[count++] = PieceShape.of(shape).getColor();
+        }
+        for (int[][] shape : previews) {
+            stream[count++] = PieceShape.of(shape).getColor();
+        }
+        return BagSampler.remaining(stream, count);
+    }
+
+    private Placement decide(BitBoard root, int hold, boolean canHold, int startX, int startY) {
+        long start = System.nanoTime();
+        pieces.reset();
+        lastPieces = 0;
+        lastNanos = 0;
+        decision++;
+
+        List<Candidate> options = candidates(root, hold, canHold, startX, startY);
+        if (options.isEmpty()) {
+            return null;
+        }
+        Candidate best = options.get(0);
+        if (options.size() > 1) {
+            Candidate[] played = options.toArray(new Candidate[0]);
+            double[] values = new double[played.length * rollouts];
+            pool.invoke(new RolloutRangeTask(played, values, 0, values.length));
+
+            // Only rollouts finished for every candidate count, so all are compared on equal luck
+            boolean[] finished = new boolean[rollouts];
+            int counted = 0;
+            for (int r = 0; r < rollouts; r++) {
+                finished[r] = true;
+                for (int c = 0; c < played.length; c++) {
+                    finished[r] &= !Double.isNaN(values[c * rollouts + r]);
+                }
+                if (finished[r]) {counted++;}
+            }
+
+            // Sum in slot order so the totals do not depend on the threads
+            double bestMean = Double.NEGATIVE_INFINITY;
+            for (int c = 0; c < played.length && counted > 0; c++) {
+                double sum = 0;
+                for (int r = 0; r < rollouts; r++) {
+                    if (finished[r]) {sum += values[c * rollouts + r];}
+                }
+                double mean = sum / counted;
+                if (mean > bestMean) {
+                    bestMean = mean;
+                    best = played[c];
+                }
+            }
+            lastPieces = pieces.sum();
+        }
+        lastNanos = System.nanoTime() - start;
+        return new Placement(best.rotation, best.x, best.y, best.hold);
+    }
+
+    /**
+     * Places the current brick (directly, or through hold) in every way
+     * and keeps the best by static score.
+     */
+    private List<Candidate> candidates(BitBoard root, int hold, boolean canHold, int startX, int startY) {
+        Worker worker = workers.get();
+        worker.ensureCapacity();
+        List<Candidate> options = new ArrayList<>();
+        PieceShape active = PieceShape.ofColor(sequence[0]);
+        addCandidates(options, worker, root, active, false, 1, startX, startY);
+        if (canHold) {
+            if (hold != NO_HOLD) {
+                addCandidates(options, worker, root, PieceShape.ofColor(hold), true, 1,
+                        root.spawnX(), BitBoard.DEFAULT_SPAWN_Y);
+            } else if (length > 1) {
+                addCandidates(options, worker, root, PieceShape.ofColor(sequence[1]), true, 2,
+                        root.spawnX(), root.spawnY());
+            }
+        }
+        // List.sort is stable, so equal scores keep generation order
+        options.sort((a, b) -> Double.compare(b.total, a.total));
+        return options.size() > candidates ? new ArrayList<>(options.subList(0, candidates)) : options;
+    }
+
+    private void addCandidates(List<Candidate> options, Worker worker, BitBoard root, PieceShape piece,
+                               boolean useHold, int nextIndex, int x, int y) {
+        ShiftDropMoves moves = worker.moves;
+        int count = moves.generate(root, piece, x, y);
+        for (int i = 0; i < count; i++) {
+            BitBoard board = new BitBoard(width, height);
+            board.copyFrom(root);
+            int lines = board.place(piece, moves.rotation(i), moves.x(i), moves.y(i));
+            if (board.isTopRowFilled()) {continue;}
+            double score = worker.evaluator.moveScore(height, piece, moves.rotation(i), moves.y(i),
+                    lines, board.getLastErodedCells());
+            options.add(new Candidate(moves.rotation(i), moves.x(i), moves.y(i), useHold, board, score,
+                    score + worker.evaluator.boardScore(board), nextIndex));
+        }
+    }
+
+    /**
+     * Seed of rollout {@code r} of the current decision, shared by all
+     * candidates.
+     */
+    private long rolloutSeed(int r) {
+        return seed * 0x9E3779B97F4A7C15L + decision * 0xBF58476D1CE4E5B9L + r * 0x94D049BB133111EBL;
+    }
+
+    /**
+     * One placement of the current brick and the board it leaves behind.
+     */
+    private static final class Candidate {
+
+        final int rotation;
+        final int x;
+        final int y;
+        final boolean hold;
+        final BitBoard board;
+        final double moveScore;
+        final double total;
+        final int nextIndex;
+
+        Candidate(int rotation, int x, int y, boolean hold, BitBoard board, double moveScore,
+                  double total, int nextIndex) {
+            this.rotation = rotation;
+            this.x = x;
+            this.y = y;
+            this.hold = hold;
+            this.board = board;
+            this.moveScore = moveScore;
+            this.total = total;
+            this.nextIndex = nextIndex;
+        }
+    }
+
+    /**
+     * Runs the rollouts of a range of (candidate, rollout) slots, splitting
+     * it in halves until it is small.
+     */
+    private final class RolloutRangeTask extends RecursiveAction {
+
+        private final Candidate[] played;
+        private final double[] values;
+        private final int from;
+        private final int to;
+
+        RolloutRangeTask(Candidate[] played, double[] values, int from, int to) {
+            this.played = played;
+            this.values = values;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= ROLLOUTS_PER_TASK) {
+                Worker worker = workers.get();
+                worker.ensureCapacity();
+                for (int slot = from; slot < to; slot++) {
+                    values[slot] = bounded && System.nanoTime() - deadline > 0
+                            ? Double.NaN
+                            : worker.rollout(played[slot / rollouts], slot % rollouts);
+                }
+                pieces.add(worker.localPieces);
+                worker.localPieces = 0;
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RolloutRangeTask(played, values, from, mid),
+                    new RolloutRangeTask(played, values, mid, to));
+        }
+    }
+
+    /**
+     * Per-thread rollout buffers: the rollout board, a scratch board, a
+     * move list and the sampled queue, allocated once per board size.
+     */
+    private final class Worker {
+
+        private final BoardEvaluator evaluator = new BoardEvaluator(weights);
+        private int[] queue = new int[0];
+        private BitBoard board;
+        private BitBoard scratch;
+        private ShiftDropMoves moves;
+        private long localPieces;
+
+        void ensureCapacity() {
+            if (queue.length < depth) {
+                queue = new int[depth];
+            }
+            if (board != null && board.getWidth() == width && board.getHeight() == height) {
+                return;
+            }
+            board = new BitBoard(width, height);
+            scratch = new BitBoard(width, height);
+            moves = new ShiftDropMoves(width);
+        }
+
+        /**
+         * Plays {@code depth} bricks greedily after a candidate and
+         * scores the result.
+         */
+        double rollout(Candidate candidate, int r) {
+            int[] upcoming = queue;
+            int visible = Math.min(depth, length - candidate.nextIndex);
+            System.arraycopy(sequence, candidate.nextIndex, upcoming, 0, visible);
+            // The hidden part only depends on r, so every candidate sees the same future
+            BagSampler.fill(upcoming, visible, depth, remaining, new SplittableRandom(rolloutSeed(r)));
+
+            board.copyFrom(candidate.board);
+            double value = candidate.moveScore;
+            for (int i = 0; i < depth; i++) {
+                PieceShape piece = PieceShape.ofColor(upcoming[i]);
+                if (board.isTopRowFilled() || board.spawnBlocked(piece)) {
+                    return TOPPED_OUT;
+                }
+                int count = moves.generate(board, piece, board.spawnX(), board.spawnY());
+                int bestMove = -1;
+                double bestTotal = Double.NEGATIVE_INFINITY;
+                for (int m = 0; m < count; m++) {
+                    scratch.copyFrom(board);
+                    int lines = scratch.place(piece, moves.rotation(m), moves.x(m), moves.y(m));
+                    if (scratch.isTopRowFilled()) {continue;}
+                    double total = evaluator.evaluate(scratch, piece, moves.rotation(m), moves.y(m),
+                            lines, scratch.getLastErodedCells());
+                    if (total > bestTotal) {
+                        bestTotal = total;
+                        bestMove = m;
+                    }
+                }
+                localPieces++;
+                if (bestMove < 0) {
+                    return TOPPED_OUT;
+                }
+                int lines = board.place(piece, moves.rotation(bestMove), moves.x(bestMove), moves.y(bestMove));
+                value += evaluator.moveScore(height, piece, moves.rotation(bestMove), moves.y(bestMove),
+                        lines, board.getLastErodedCells());
+            }
+            return value + evaluator.boardScore(board);
+        }
+    }
+}
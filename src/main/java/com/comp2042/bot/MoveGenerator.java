@@ -0,0 +1,251 @@
+package com.comp2042.bot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Finds every final resting place of a piece that can be reached with the
+ * game's inputs, together with the shortest input sequence to reach it.
+ *
+ * <p>The search is a breadth-first walk over (rotation, x, y) states using
+ * left, right, soft drop and rotate (with the engine's wall kicks), so
+ * tucks under overhangs and kick spins are found as well as plain drops.
+ * Every state can end with a hard drop, which locks the piece where a
+ * straight drop from that state comes to rest.
+ *
+ * <p>All buffers are allocated once per board size and reused: a visited
+ * bit set, a fixed-size queue and parent links. A search allocates nothing
+ * unless {@link #getPath(int)} is called. Not thread-safe; use one
+ * generator per thread.
+ */
+public final class MoveGenerator {
+
+    /** Inputs in the order they are expanded; shorter paths prefer earlier inputs. */
+    private static final BotAction[] INPUTS = {
+            BotAction.LEFT, BotAction.RIGHT, BotAction.ROTATE, BotAction.SOFT_DROP
+    };
+    private static final int MAX_ROTATIONS = 4;
+    private static final int SHAPE_MARGIN = 4;
+    private static final int NO_PARENT = -1;
+
+    private final int width;
+    private final int height;
+    private final int xSpan;
+    private final int ySpan;
+    private final int stateCount;
+
+    private final long[] visited;
+    private final long[] landed;
+    private final int[] queue;
+    private final int[] parent;
+    private final byte[] input;
+    private final int[] depth;
+    private final int[] restY;
+    private final int[] restStamp;
+    private int stamp;
+
+    private final int[] resultState;
+    private final int[] resultFrom;
+    private int resultCount;
+
+    /**
+     * Creates a generator for one board size.
+     *
+     * @param width board width
+     * @param height board height
+     */
+    public MoveGenerator(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.xSpan = width + 2 * SHAPE_MARGIN;
+        this.ySpan = height + SHAPE_MARGIN;
+        this.stateCount = MAX_ROTATIONS * xSpan * ySpan;
+
+        this.visited = new long[(stateCount + 63) >>> 6];
+        this.landed = new long[(stateCount + 63) >>> 6];
+        this.queue = new int[stateCount];
+        this.parent = new int[stateCount];
+        this.input = new byte[stateCount];
+        this.depth = new int[stateCount];
+        this.restY = new int[stateCount];
+        this.restStamp = new int[stateCount];
+        this.resultState = new int[stateCount];
+        this.resultFrom = new int[stateCount];
+    }
+
+    /**
+     * Finds all reachable resting placements of a piece.
+     *
+     * @param board the board (not modified)
+     * @param piece the piece
+     * @param rotation the piece's current rotation
+     * @param x the piece's current horizontal offset
+     * @param y the piece's current vertical offset
+     * @return number of placements found
+     */
+    public int generate(BitBoard board, PieceShape piece, int rotation, int x, int y) {
+        if (board.getWidth() != width || board.getHeight() != height) {
+            throw new IllegalArgumentException("Generator is sized for " + width + "x" + height);
+        }
+        Arrays.fill(visited, 0L);
+        Arrays.fill(landed, 0L);
+        resultCount = 0;
+        stamp++;
+        if (board.collides(piece, rotation, x, y)) {
+            return 0;
+        }
+
+        int rotations = piece.getRotations();
+        int head = 0;
+        int tail = 0;
+        int start = encode(rotation, x, y);
+        mark(visited, start);
+        parent[start] = NO_PARENT;
+        depth[start] = 0;
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int state = queue[head++];
+            int r = rotationOf(state);
+            int sx = xOf(state);
+            int sy = yOf(state);
+
+            int rest = encode(r, sx, restY(board, piece, r, sx, sy));
+            if (!isMarked(landed, rest)) {
+                mark(landed, rest);
+                resultState[resultCount] = rest;
+                resultFrom[resultCount] = state;
+                resultCount++;
+            }
+
+            for (int i = 0; i < INPUTS.length; i++) {
+                int nr = r;
+                int nx = sx;
+                int ny = sy;
+                switch (INPUTS[i]) {
+                    case LEFT -> nx--;
+                    case RIGHT -> nx++;
+                    case SOFT_DROP -> ny++;
+                    default -> {
+                        nx = board.rotate(piece, r, sx, sy);
+                        if (nx == BitBoard.ROTATION_BLOCKED) {continue;}
+                        nr = (r + 1) % rotations;
+                    }
+                }
+                if (INPUTS[i] != BotAction.ROTATE && board.collides(piece, nr, nx, ny)) {continue;}
+
+                int next = encode(nr, nx, ny);
+                if (isMarked(visited, next)) {continue;}
+                mark(visited, next);
+                parent[next] = state;
+                input[next] = (byte) i;
+                depth[next] = depth[state] + 1;
+                queue[tail++] = next;
+            }
+        }
+        return resultCount;
+    }
+
+    /**
+     * Gets the number of placements found by the last search.
+     * @return placement count
+     */
+    public int getCount() {return resultCount;}
+
+    public int getRotation(int index) {return rotationOf(resultState[index]);}
+
+    public int getX(int index) {return xOf(resultState[index]);}
+
+    public int getY(int index) {return yOf(resultState[index]);}
+
+    /**
+     * Gets the length of the shortest input path to a placement, including
+     * the final hard drop.
+     *
+     * @param index placement index
+     * @return number of inputs
+     */
+    public int getPathLength(int index) {return depth[resultFrom[index]] + 1;}
+
+    /**
+     * Writes the shortest input path to a placement into a buffer.
+     *
+     * @param index placement index
+     * @param out buffer of at least {@link #getPathLength(int)} entries
+     * @return number of inputs written
+     */
+    public int copyPath(int index, BotAction[] out) {
+        int length = getPathLength(index);
+        out[length - 1] = BotAction.HARD_DROP;
+        int state = resultFrom[index];
+        for (int i = length - 2; i >= 0; i--) {
+            out[i] = INPUTS[input[state]];
+            state = parent[state];
+        }
+        return length;
+    }
+
+    /**
+     * Gets the shortest input path to a placement.
+     *
+     * @param index placement index
+     * @return inputs ending with {@link BotAction#HARD_DROP}
+     */
+    public List<BotAction> getPath(int index) {
+        BotAction[] path = new BotAction[getPathLength(index)];
+        copyPath(index, path);
+        return new ArrayList<>(Arrays.asList(path));
+    }
+
+    /**
+     * Gets a placement found by the last search.
+     *
+     * @param index placement index
+     * @return the placement
+     */
+    public Placement getPlacement(int index) {
+        return new Placement(getRotation(index), getX(index), getY(index));
+    }
+
+    /**
+     * Drop height from a free position, memoised per search so states in
+     * the same column share one downward scan.
+     */
+    private int restY(BitBoard board, PieceShape piece, int rotation, int x, int y) {
+        int top = y;
+        while (true) {
+            int state = encode(rotation, x, y);
+            if (restStamp[state] == stamp) {
+                y = restY[state];
+                break;
+            }
+            if (board.collides(piece, rotation, x, y + 1)) {break;}
+            y++;
+        }
+        for (int fill = top; fill <= y; fill++) {
+            int state = encode(rotation, x, fill);
+            restY[state] = y;
+            restStamp[state] = stamp;
+        }
+        return y;
+    }
+
+    private int encode(int rotation, int x, int y) {
+        return (rotation * ySpan + (y + SHAPE_MARGIN)) * xSpan + (x + SHAPE_MARGIN);
+    }
+
+    private int rotationOf(int state) {return state / (xSpan * ySpan);}
+
+    private int xOf(int state) {return state % xSpan - SHAPE_MARGIN;}
+
+    private int yOf(int state) {return state / xSpan % ySpan - SHAPE_MARGIN;}
+
+    private static boolean isMarked(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static void mark(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+}
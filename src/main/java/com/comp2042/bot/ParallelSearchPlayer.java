@@ -0,0 +1,508 @@
+package com.comp2042.bot;
+
+import com.comp2042.core.Board;
+import com.comp2042.model.ViewData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Player that searches the preview queue and hold depth-first on several
+ * cores.
+ *
+ * <p>Every first placement becomes a fork/join task that searches its
+ * subtree on its own board copy with its worker thread's buffers. Below
+ * the first placement only the {@code childWidth} best placements of each
+ * board (by {@link BoardEvaluator} score) are followed. The search deepens
+ * one brick at a time until the time budget runs out and plays the best
+ * first placement of the deepest finished depth; depth one always
+ * finishes.
+ *
+ * <p>The tasks share only two things: the best leaf score found so far,
+ * which cuts subtrees that can no longer reach it, and a
+ * {@link StripedTranspositionTable} that stops a board reached twice from
+ * being searched twice. Ties on both are broken by task order, so the
+ * chosen move does not depend on the number of threads.
+ *
+ * <p>Players made with the default constructor share the common
+ * {@link ForkJoinPool}, so many of them running at once, as under
+ * {@code BatchSimulator} or the tournament runner, add no threads beyond
+ * it. A player given its own parallelism owns a pool of that size; call
+ * {@link #close()} when it is no longer needed.
+ */
+public class ParallelSearchPlayer implements Player, AutoCloseable {
+
+    /** Placements followed per board below the first placement by default. */
+    public static final int DEFAULT_CHILD_WIDTH = 8;
+
+    private static final int PREVIEW_COUNT = 5;
+    private static final int ROOT_OPTIONS = 2;
+    private static final int NO_HOLD = 0;
+    private static final int STRIPE_BITS = 6;
+    private static final int SLOT_BITS = 12;
+    private static final int MAX_ERODED_SCORE = 4 * 4;
+    private static final double TOPPED_OUT = -1e12;
+
+    private final EvaluationWeights weights;
+    private final int parallelism;
+    private final int childWidth;
+    private final long budgetNanos;
+    private final ForkJoinPool pool;
+    private final boolean ownsPool;
+    private final ThreadLocal<Worker> workers;
+    private final StripedTranspositionTable table = new StripedTranspositionTable(STRIPE_BITS, SLOT_BITS);
+    private final AtomicLong bestLeaf = new AtomicLong();
+    private final LongAdder nodes = new LongAdder();
+    private final PieceShape[] sequence = new PieceShape[1 + PREVIEW_COUNT];
+
+    private volatile long deadline;
+    private volatile boolean aborted;
+    private int length;
+    private int width;
+    private int height;
+
+    private int lastDepth;
+    private long lastNodes;
+
+    /**
+     * Creates a player with the default weights, child width and budget
+     * on the common fork/join pool.
+     */
+    public ParallelSearchPlayer() {
+        this(EvaluationWeights.DEFAULT, ForkJoinPool.getCommonPoolParallelism(), ForkJoinPool.commonPool(),
+                DEFAULT_CHILD_WIDTH, BeamSearchPlayer.DEFAULT_BUDGET_NANOS);
+    }
+
+    /**
+     * Creates a new ParallelSearchPlayer.
+     *
+     * @param weights feature weights
+     * @param parallelism number of worker threads
+     * @param childWidth placements followed per board below the first placement
+     * @param budgetNanos time allowed per decision
+     */
+    public ParallelSearchPlayer(EvaluationWeights weights, int parallelism, int childWidth, long budgetNanos) {
+        this(weights, parallelism, null, childWidth, budgetNanos);
+    }
+
+    private ParallelSearchPlayer(EvaluationWeights weights, int parallelism, ForkJoinPool sharedPool,
+                                 int childWidth, long budgetNanos) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        if (childWidth < 1) {
+            throw new IllegalArgumentException("childWidth must be at least 1");
+        }
+        if (budgetNanos < 0) {
+            throw new IllegalArgumentException("budgetNanos must not be negative");
+        }
+        this.weights = weights;
+        this.parallelism = parallelism;
+        this.childWidth = childWidth;
+        this.budgetNanos = budgetNanos;
+        this.ownsPool = sharedPool == null;
+        this.pool = ownsPool ? new ForkJoinPool(parallelism) : sharedPool;
+        this.workers = ThreadLocal.withInitial(Worker::new);
+    }
+
+    @Override
+    public Placement choosePlacement(Board game) {
+        return plan(game, System.nanoTime() + budgetNanos);
+    }
+
+    @Override
+    public Placement choosePlacement(Board game, long deadlineNanos) {
+        return plan(game, Player.earlierDeadline(deadlineNanos, budgetNanos));
+    }
+
+    private Placement plan(Board game, long searchDeadline) {
+        int[][] matrix = game.getBoardMatrix();
+        width = matrix[0].length;
+        height = matrix.length;
+        BitBoard root = BitBoard.fromMatrix(matrix);
+
+        length = 0;
+        sequence[length++] = PieceShape.of(game.getCurrentBrick());
+        List<int[][]> previews = game.getNextBricksData(PREVIEW_COUNT);
+        for (int[][] preview : previews) {
+            PieceShape piece = PieceShape.of(preview);
+            if (piece == null || length == sequence.length) {break;}
+            sequence[length++] = piece;
+        }
+        PieceShape held = PieceShape.of(game.getHoldBrickData());
+
+        ViewData view = game.getViewData();
+        return search(root, held == null ? NO_HOLD : held.getColor(), game.canHold(),
+                view.getxPosition(), view.getyPosition(), searchDeadline);
+    }
+
+    /**
+     * Gets how many bricks of the queue the deepest finished depth of the
+     * last decision has consumed, counting the current brick.
+     * @return search depth reached
+     */
+    public int getLastDepth() {return lastDepth;}
+
+    /**
+     * Gets the number of boards evaluated in the last decision.
+     * @return evaluated boards
+     */
+    public long getLastNodes() {return lastNodes;}
+
+    /**
+     * Gets the number of worker threads.
+     * @return parallelism
+     */
+    public int getParallelism() {return parallelism;}
+
+    /**
+     * Shuts down the worker threads if the player owns them.
+     */
+    @Override
+    public void close() {
+        if (ownsPool) {pool.shutdown();}
+    }
+
+    private Placement search(BitBoard root, int hold, boolean canHold, int startX, int startY,
+                             long searchDeadline) {
+        deadline = searchDeadline;
+        aborted = false;
+        nodes.reset();
+        lastDepth = 0;
+        lastNodes = 0;
+
+        List<RootMove> roots = rootMoves(root, hold, canHold, startX, startY);
+        if (roots.isEmpty()) {
+            return null;
+        }
+
+        // Depth 1: the first placements are the leaves, already sorted best first
+        RootMove best = roots.get(0);
+        lastDepth = 1;
+        for (int depth = 2; depth <= length; depth++) {
+            table.clear();
+            bestLeaf.set(Double.doubleToLongBits(Double.NEGATIVE_INFINITY));
+            RootTask[] tasks = new RootTask[roots.size()];
+            for (int i = 0; i < tasks.length; i++) {
+                tasks[i] = new RootTask(roots.get(i), i, depth);
+            }
+            pool.invoke(new RootBatch(tasks));
+            if (aborted) {
+                break;
+            }
+
+            RootTask depthBest = tasks[0];
+            for (RootTask task : tasks) {
+                if (task.value > depthBest.value) {
+                    depthBest = task;
+                }
+            }
+            best = depthBest.move;
+            lastDepth = depth;
+        }
+        lastNodes = nodes.sum() + roots.size();
+        return new Placement(best.rotation, best.x, best.y, best.hold);
+    }
+
+    /**
+     * Places the current brick (directly, or through hold) in every way,
+     * each on its own board, best static score first.
+     */
+    private List<RootMove> rootMoves(BitBoard root, int hold, boolean canHold, int startX, int startY) {
+        Worker worker = workers.get();
+        worker.ensureCapacity();
+        List<RootMove> roots = new ArrayList<>(ROOT_OPTIONS * 4 * (width + 8));
+        PieceShape active = sequence[0];
+        addRootMoves(roots, worker, root, active, false, hold, 1, startX, startY);
+        if (canHold) {
+            if (hold != NO_HOLD) {
+                addRootMoves(roots, worker, root, PieceShape.ofColor(hold), true, active.getColor(), 1,
+                        root.spawnX(), BitBoard.DEFAULT_SPAWN_Y);
+            } else if (length > 1) {
+                addRootMoves(roots, worker, root, sequence[1], true, active.getColor(), 2,
+                        root.spawnX(), root.spawnY());
+            }
+        }
+        // List.sort is stable, so equal scores keep generation order
+        roots.sort((a, b) -> Double.compare(b.total, a.total));
+        return roots;
+    }
+
+    private void addRootMoves(List<RootMove> roots, Worker worker, BitBoard root, PieceShape piece,
+                              boolean useHold, int newHold, int nextIndex, int x, int y) {
+        ShiftDropMoves moves = worker.moves[0];
+        int count = moves.generate(root, piece, x, y);
+        for (int i = 0; i < count; i++) {
+            BitBoard board = new BitBoard(width, height);
+            board.copyFrom(root);
+            int lines = board.place(piece, moves.rotation(i), moves.x(i), moves.y(i));
+            if (board.isTopRowFilled()) {continue;}
+            double score = worker.evaluator.moveScore(height, piece, moves.rotation(i), moves.y(i),
+                    lines, board.getLastErodedCells());
+            roots.add(new RootMove(moves.rotation(i), moves.x(i), moves.y(i), useHold, board, score,
+                    score + worker.evaluator.boardScore(board), newHold, nextIndex));
+        }
+    }
+
+    private void raiseBestLeaf(double score) {
+        long current = bestLeaf.get();
+        while (score > Double.longBitsToDouble(current)) {
+            if (bestLeaf.compareAndSet(current, Double.doubleToLongBits(score))) {
+                return;
+            }
+            current = bestLeaf.get();
+        }
+    }
+
+    /**
+     * Upper bound on the score one more placement can add.
+     */
+    private double maxMoveGain() {
+        return Math.max(0, weights.getErodedCells()) * MAX_ERODED_SCORE
+                + Math.max(0, weights.getLandingHeight()) * height;
+    }
+
+    /**
+     * Upper bound on any board score. A row that is not full has at least
+     * two row transitions and the other features are never negative, so
+     * the bound is finite only when every board weight is at most zero.
+     */
+    private double maxBoardScore() {
+        if (weights.getRowTransitions() > 0 || weights.getColumnTransitions() > 0
+                || weights.getHoles() > 0 || weights.getWellSums() > 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return weights.getRowTransitions() * 2 * height;
+    }
+
+    /**
+     * One first placement and the board it leaves behind.
+     */
+    private static final class RootMove {
+
+        final int rotation;
+        final int x;
+        final int y;
+        final boolean hold;
+        final BitBoard board;
+        final double moveScore;
+        final double total;
+        final int heldColor;
+        final int nextIndex;
+
+        RootMove(int rotation, int x, int y, boolean hold, BitBoard board, double moveScore,
+                 double total, int heldColor, int nextIndex) {
+            this.rotation = rotation;
+            this.x = x;
+            this.y = y;
+            this.hold = hold;
+            this.board = board;
+            this.moveScore = moveScore;
+            this.total = total;
+            this.heldColor = heldColor;
+            this.nextIndex = nextIndex;
+        }
+    }
+
+    /**
+     * Runs every root task inside the pool and waits for all of them.
+     */
+    private static final class RootBatch extends RecursiveAction {
+
+        private final RootTask[] tasks;
+
+        RootBatch(RootTask[] tasks) {
+            this.tasks = tasks;
+        }
+
+        @Override
+        protected void compute() {
+            invokeAll(tasks);
+        }
+    }
+
+    /**
+     * Searches the subtree below one first placement.
+     */
+    private final class RootTask extends RecursiveAction {
+
+        private final RootMove move;
+        private final int branch;
+        private final int depth;
+        private double value;
+
+        RootTask(RootMove move, int branch, int depth) {
+            this.move = move;
+            this.branch = branch;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            Worker worker = workers.get();
+            worker.ensureCapacity();
+            worker.boards[0].copyFrom(move.board);
+            value = worker.search(0, depth, move.moveScore, move.heldColor, move.nextIndex, branch);
+            nodes.add(worker.localNodes);
+            worker.localNodes = 0;
+        }
+    }
+
+    /**
+     * Per-thread search buffers: a board, two move lists and a child list
+     * per level, allocated once per board size.
+     */
+    private final class Worker {
+
+        private final BoardEvaluator evaluator = new BoardEvaluator(weights);
+        private BitBoard[] boards;
+        private ShiftDropMoves[] moves;
+        private int[][] childMove;
+        private int[][] childOption;
+        private double[][] childScore;
+        private double[][] childTotal;
+        private int[][] order;
+        private long localNodes;
+
+        void ensureCapacity() {
+            if (boards != null && boards[0].getWidth() == width && boards[0].getHeight() == height) {
+                return;
+            }
+            int levels = sequence.length;
+            int capacity = ROOT_OPTIONS * 4 * (width + 8);
+            boards = new BitBoard[levels + 1];
+            for (int i = 0; i < boards.length; i++) {
+                boards[i] = new BitBoard(width, height);
+            }
+            moves = new ShiftDropMoves[levels * ROOT_OPTIONS];
+            for (int i = 0; i < moves.length; i++) {
+                moves[i] = new ShiftDropMoves(width);
+            }
+            childMove = new int[levels][capacity];
+            childOption = new int[levels][capacity];
+            childScore = new double[levels][capacity];
+            childTotal = new double[levels][capacity];
+            order = new int[levels][capacity];
+        }
+
+        /**
+         * Best leaf score reachable from {@code boards[level]} once
+         * {@code depth} bricks of the queue are consumed.
+         */
+        double search(int level, int depth, double score, int hold, int index, int branch) {
+            BitBoard board = boards[level];
+            if (index >= depth || index >= length) {
+                double leaf = score + evaluator.boardScore(board);
+                raiseBestLeaf(leaf);
+                return leaf;
+            }
+            if (aborted || System.nanoTime() > deadline) {
+                aborted = true;
+                return Double.NEGATIVE_INFINITY;
+            }
+            int remaining = Math.min(depth, length) - index;
+            double bound = score + remaining * maxMoveGain() + maxBoardScore();
+            if (bound < Double.longBitsToDouble(bestLeaf.get())) {
+                return Double.NEGATIVE_INFINITY;
+            }
+
+            PieceShape spawned = sequence[index];
+            if (board.isTopRowFilled() || board.spawnBlocked(spawned)) {
+                return TOPPED_OUT;
+            }
+            int count = collect(level, board, score, spawned, 0, board.spawnX(), board.spawnY(), 0);
+            if (hold != NO_HOLD) {
+                count = collect(level, board, score, PieceShape.ofColor(hold), 1,
+                        board.spawnX(), BitBoard.DEFAULT_SPAWN_Y, count);
+            } else if (index + 1 < length) {
+                count = collect(level, board, score, sequence[index + 1], 1,
+                        board.spawnX(), board.spawnY(), count);
+            }
+            localNodes += count;
+            sortByTotal(level, count);
+
+            double best = TOPPED_OUT;
+            BitBoard child = boards[level + 1];
+            int followed = Math.min(count, childWidth);
+            for (int k = 0; k < followed; k++) {
+                int c = order[level][k];
+                int option = childOption[level][c];
+                ShiftDropMoves generated = moves[level * ROOT_OPTIONS + option];
+                int move = childMove[level][c];
+                PieceShape piece;
+                int newHold;
+                int newIndex;
+                if (option == 0) {
+                    piece = spawned;
+                    newHold = hold;
+                    newIndex = index + 1;
+                } else if (hold != NO_HOLD) {
+                    piece = PieceShape.ofColor(hold);
+                    newHold = spawned.getColor();
+                    newIndex = index + 1;
+                } else {
+                    piece = sequence[index + 1];
+                    newHold = spawned.getColor();
+                    newIndex = index + 2;
+                }
+
+                child.copyFrom(board);
+                child.place(piece, generated.rotation(move), generated.x(move), generated.y(move));
+                double childScore = this.childScore[level][c];
+                long key = child.hash() ^ (newHold * 0x9E3779B97F4A7C15L) ^ ((long) newIndex << 56);
+                if (!table.offer(key, childScore, branch)) {
+                    continue;
+                }
+                best = Math.max(best, search(level + 1, depth, childScore, newHold, newIndex, branch));
+            }
+            return best;
+        }
+
+        /**
+         * Places one brick in every way and records each child's path
+         * score and static score.
+         */
+        private int collect(int level, BitBoard board, double score, PieceShape piece, int option,
+                            int x, int y, int count) {
+            ShiftDropMoves generator = moves[level * ROOT_OPTIONS + option];
+            BitBoard scratch = boards[level + 1];
+            int generated = generator.generate(board, piece, x, y);
+            for (int i = 0; i < generated; i++) {
+                scratch.copyFrom(board);
+                int lines = scratch.place(piece, generator.rotation(i), generator.x(i), generator.y(i));
+                if (scratch.isTopRowFilled()) {continue;}
+                double moveScore = score + evaluator.moveScore(height, piece, generator.rotation(i),
+                        generator.y(i), lines, scratch.getLastErodedCells());
+                childMove[level][count] = i;
+                childOption[level][count] = option;
+                childScore[level][count] = moveScore;
+                childTotal[level][count] = moveScore + evaluator.boardScore(scratch);
+                order[level][count] = count;
+                count++;
+            }
+            return count;
+        }
+
+        /**
+         * Orders the children of one level best first. Insertion sort is
+         * stable, so equal scores keep generation order.
+         */
+        private void sortByTotal(int level, int count) {
+            int[] indices = order[level];
+            double[] totals = childTotal[level];
+            for (int i = 1; i < count; i++) {
+                int value = indices[i];
+                int j = i - 1;
+                while (j >= 0 && totals[indices[j]] < totals[value]) {
+                    indices[j + 1] = indices[j];
+                    j--;
+                }
+                indices[j + 1] = value;
+            }
+        }
+    }
+}
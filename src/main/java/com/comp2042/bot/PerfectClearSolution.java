@@ -0,0 +1,98 @@
+package com.comp2042.bot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A sequence of placements that empties the board, found by
+ * {@link PerfectClearSolver}.
+ *
+ * <p>Step {@code i} places the {@code i}-th piece of {@link #getPieces()}.
+ * Its placement uses the board as it is after the earlier steps and their
+ * line clears, and {@link Placement#isHold()} tells whether hold is pressed
+ * before it. The input path of every step starts from the piece's spawn
+ * state (for the first step: from where the current piece is), so
+ * placements that need a tuck or spin can be replayed as well.
+ */
+public final class PerfectClearSolution {
+
+    private final String pieces;
+    private final List<Placement> placements;
+    private final List<List<BotAction>> inputs;
+    private final int height;
+
+    PerfectClearSolution(String pieces, List<Placement> placements, List<List<BotAction>> inputs, int height) {
+        this.pieces = pieces;
+        this.placements = Collections.unmodifiableList(new ArrayList<>(placements));
+        List<List<BotAction>> copies = new ArrayList<>(inputs.size());
+        for (List<BotAction> path : inputs) {
+            copies.add(Collections.unmodifiableList(new ArrayList<>(path)));
+        }
+        this.inputs = Collections.unmodifiableList(copies);
+        this.height = height;
+    }
+
+    /**
+     * Gets the letters of the placed pieces in placement order.
+     * @return piece letters, e.g. "TILJ"
+     */
+    public String getPieces() {return pieces;}
+
+    public List<Placement> getPlacements() {return placements;}
+
+    /**
+     * Gets the number of pieces the solution places.
+     * @return step count
+     */
+    public int size() {return placements.size();}
+
+    /**
+     * Gets the inputs for one step, starting with {@link BotAction#HOLD}
+     * if the step holds and ending with {@link BotAction#HARD_DROP}.
+     *
+     * @param step step index
+     * @return input sequence
+     */
+    public List<BotAction> getInputs(int step) {return inputs.get(step);}
+
+    /**
+     * Gets the number of rows the perfect clear fills.
+     * @return perfect clear height
+     */
+    public int getHeight() {return height;}
+
+    /**
+     * Gets the board cells covered by one step's piece.
+     *
+     * @param step step index
+     * @return {x, y} pairs in board coordinates
+     */
+    public int[][] getCells(int step) {
+        PieceShape piece = PieceShape.ofLetter(pieces.charAt(step));
+        Placement placement = placements.get(step);
+        int[][] cells = new int[4][];
+        int count = 0;
+        for (int row = 0; row < piece.size(); row++) {
+            int mask = piece.rowMask(placement.getRotation(), row);
+            for (int col = 0; col < piece.size(); col++) {
+                if ((mask >>> col & 1) != 0) {
+                    cells[count++] = new int[]{placement.getX() + col, placement.getY() + row};
+                }
+            }
+        }
+        return cells;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(pieces).append(':');
+        for (int i = 0; i < placements.size(); i++) {
+            Placement placement = placements.get(i);
+            builder.append(' ').append(placement.isHold() ? "hold " : "")
+                    .append(pieces.charAt(i)).append(" r").append(placement.getRotation())
+                    .append(" (").append(placement.getX()).append(',').append(placement.getY()).append(')');
+        }
+        return builder.toString();
+    }
+}
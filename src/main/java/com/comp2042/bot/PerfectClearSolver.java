@@ -0,0 +1,696 @@
+package com.comp2042.bot;
+
+import com.comp2042.core.Board;
+import com.comp2042.model.ViewData;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Searches for a sequence of placements that clears the whole board (a
+ * perfect clear) with the pieces of a known queue and the hold slot.
+ *
+ * <p>The search is depth-first. Every placement must stay inside the
+ * bottom rows that the perfect clear fills, and these checks cut
+ * branches that cannot succeed:
+ * <ul>
+ *     <li>the empty cells of those rows must be a multiple of four, and
+ *         the queue must have enough pieces to fill them. Every placement
+ *         uses up one queue piece, since playing the held piece puts the
+ *         current one in its place;</li>
+ *     <li>every region of empty cells must hold a multiple of four cells.
+ *         Cells are in the same region when they touch in a row or share a
+ *         column, since a later line clear can join cells of one column;</li>
+ *     <li>cell parity: the difference between empty cells in even and odd
+ *         columns must be one the remaining I, T, L and J pieces can
+ *         cancel;</li>
+ *     <li>boards that already failed with the same queue position and hold
+ *         are remembered and not searched again.</li>
+ * </ul>
+ * Placements come from {@link MoveGenerator}, so tucks and spins are
+ * found, and the moves of one piece that leave the same board are tried
+ * only once, those with the fewest covered cells first.
+ *
+ * <p>{@link #findAll} hands every first placement to its own fork/join
+ * task; each worker thread keeps its own buffers and failure memo.
+ */
+public class PerfectClearSolver {
+
+    /** Highest perfect clear tried by default. */
+    public static final int DEFAULT_MAX_HEIGHT = 4;
+
+    private static final int PREVIEW_COUNT = 5;
+    private static final int NO_HOLD = 0;
+    private static final int OPTIONS = 2;
+    private static final int MEMO_BITS = 18;
+
+    private final int parallelism;
+    private final int maxHeight;
+
+    /**
+     * Creates a single-threaded solver for perfect clears up to four rows.
+     */
+    public PerfectClearSolver() {
+        this(1, DEFAULT_MAX_HEIGHT);
+    }
+
+    /**
+     * Creates a new PerfectClearSolver.
+     *
+     * @param parallelism worker threads used by {@link #findAll}
+     * @param maxHeight highest perfect clear, in rows, to look for
+     */
+    public PerfectClearSolver(int parallelism, int maxHeight) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        if (maxHeight < 1) {
+            throw new IllegalArgumentException("maxHeight must be at least 1");
+        }
+        this.parallelism = parallelism;
+        this.maxHeight = maxHeight;
+    }
+
+    /**
+     * Looks for a perfect clear in a running game, using the current
+     * brick where it is now, the visible previews and the hold slot.
+     *
+     * <p>The search gives up when the calling thread is interrupted, so a
+     * solve on a background thread can be cancelled.
+     *
+     * @param game the board holding the current brick
+     * @return a solution, or null if the visible pieces cannot clear the
+     *         board or the thread was interrupted first
+     */
+    public PerfectClearSolution solve(Board game) {
+        List<PieceShape> queue = new ArrayList<>();
+        PieceShape current = PieceShape.of(game.getCurrentBrick());
+        queue.add(current);
+        for (int[][] preview : game.getNextBricksData(PREVIEW_COUNT)) {
+            PieceShape piece = PieceShape.of(preview);
+            if (piece == null) {break;}
+            queue.add(piece);
+        }
+        ViewData view = game.getViewData();
+        int rotation = Math.max(0, current.rotationOf(view.getBrickData()));
+        List<PerfectClearSolution> found = search(BitBoard.fromMatrix(game.getBoardMatrix()),
+                queue.toArray(new PieceShape[0]), PieceShape.of(game.getHoldBrickData()), game.canHold(),
+                rotation, view.getxPosition(), view.getyPosition(), 1, false);
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    /**
+     * Finds one perfect clear, with the first piece starting at its spawn
+     * position.
+     *
+     * @param board the stack (not modified)
+     * @param queue letters of the current piece followed by the next pieces
+     * @param hold the held piece, or null
+     * @return a solution of the lowest possible height, or null if there is none
+     */
+    public PerfectClearSolution findFirst(BitBoard board, String queue, PieceShape hold) {
+        List<PerfectClearSolution> found = search(board, letters(queue), hold, true, 0,
+                board.spawnX(), board.spawnY(), 1, false);
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    /**
+     * Enumerates perfect clears of the lowest height that has any, on all
+     * worker threads. Solutions that leave the same boards are listed once.
+     * If there are fewer than {@code limit} solutions, the result does not
+     * depend on the number of threads; otherwise which ones are kept may.
+     *
+     * @param board the stack (not modified)
+     * @param queue letters of the current piece followed by the next pieces
+     * @param hold the held piece, or null
+     * @param limit maximum number of solutions to return
+     * @return the solutions, in the order of their first placement
+     */
+    public List<PerfectClearSolution> findAll(BitBoard board, String queue, PieceShape hold, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        return search(board, letters(queue), hold, true, 0, board.spawnX(), board.spawnY(), limit,
+                parallelism > 1);
+    }
+
+    private static PieceShape[] letters(String queue) {
+        PieceShape[] pieces = new PieceShape[queue.length()];
+        for (int i = 0; i < pieces.length; i++) {
+            pieces[i] = PieceShape.ofLetter(queue.charAt(i));
+        }
+        return pieces;
+    }
+
+    private List<PerfectClearSolution> search(BitBoard board, PieceShape[] queue, PieceShape hold, boolean canHold,
+                                              int rotation, int x, int y, int limit, boolean parallel) {
+        if (queue.length == 0) {
+            return List.of();
+        }
+        int holdColor = hold == null ? NO_HOLD : hold.getColor();
+        // Each placement uses up one queue piece, whether it is played or held
+        int pieces = queue.length;
+        int lowest = board.getHeight() - board.topRow();
+        for (int height = Math.max(1, lowest); height <= Math.min(maxHeight, board.getHeight()); height++) {
+            int empty = height * board.getWidth() - filledCells(board, height);
+            if (empty % 4 != 0 || empty / 4 > pieces) {
+                continue;
+            }
+            Context context = new Context(board, queue, limit, height);
+            List<PerfectClearSolution> found = parallel
+                    ? searchParallel(context, holdColor, canHold, height, rotation, x, y)
+                    : context.newSearch().run(holdColor, canHold, height, rotation, x, y);
+            if (!found.isEmpty()) {
+                return found.size() > limit ? found.subList(0, limit) : found;
+            }
+            if (context.stopped) {
+                break;
+            }
+        }
+        return List.of();
+    }
+
+    private List<PerfectClearSolution> searchParallel(Context context, int hold, boolean canHold, int height,
+                                                      int rotation, int x, int y) {
+        List<RootChoice> choices = context.newSearch().rootChoices(hold, canHold, height, rotation, x, y);
+        ThreadLocal<Search> searches = ThreadLocal.withInitial(context::newSearch);
+        RootTask[] tasks = new RootTask[choices.size()];
+        for (int i = 0; i < tasks.length; i++) {
+            tasks[i] = new RootTask(choices.get(i), searches);
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new RecursiveTask<Void>() {
+                @Override
+                protected Void compute() {
+                    invokeAll(tasks);
+                    return null;
+                }
+            });
+        } finally {
+            pool.shutdown();
+        }
+        List<PerfectClearSolution> found = new ArrayList<>();
+        for (RootTask task : tasks) {
+            found.addAll(task.getRawResult());
+        }
+        return found;
+    }
+
+    private static int filledCells(BitBoard board, int rows) {
+        int count = 0;
+        for (int row = board.getHeight() - rows; row < board.getHeight(); row++) {
+            count += Integer.bitCount(board.row(row));
+        }
+        return count;
+    }
+
+    /**
+     * Inputs of one search shared by all its threads.
+     */
+    private static final class Context {
+
+        final BitBoard start;
+        final PieceShape[] queue;
+        final int limit;
+        final int rows;
+        final AtomicInteger solutions = new AtomicInteger();
+        volatile boolean stopped;
+
+        Context(BitBoard start, PieceShape[] queue, int limit, int rows) {
+            this.start = start;
+            this.queue = queue;
+            this.limit = limit;
+            this.rows = rows;
+        }
+
+        Search newSearch() {
+            return new Search(this);
+        }
+    }
+
+    /**
+     * A first placement with the state it leads to.
+     */
+    private static final class RootChoice {
+
+        final BitBoard board;
+        final int index;
+        final int hold;
+        final int region;
+        final char piece;
+        final Placement placement;
+        final List<BotAction> inputs;
+
+        RootChoice(BitBoard board, int index, int hold, int region, char piece, Placement placement,
+                   List<BotAction> inputs) {
+            this.board = board;
+            this.index = index;
+            this.hold = hold;
+            this.region = region;
+            this.piece = piece;
+            this.placement = placement;
+            this.inputs = inputs;
+        }
+    }
+
+    /**
+     * Searches the subtree below one first placement with the worker's search.
+     */
+    private static final class RootTask extends RecursiveTask<List<PerfectClearSolution>> {
+
+        private final RootChoice choice;
+        private final ThreadLocal<Search> searches;
+
+        RootTask(RootChoice choice, ThreadLocal<Search> searches) {
+            this.choice = choice;
+            this.searches = searches;
+        }
+
+        @Override
+        protected List<PerfectClearSolution> compute() {
+            return searches.get().runFrom(choice);
+        }
+    }
+
+    /**
+     * Depth-first search with one board, two move generators and the
+     * chosen move per level, plus the failure memo.
+     */
+    private static final class Search {
+
+        private final Context context;
+        private final PieceShape[] queue;
+        private final int width;
+        private final int height;
+        private final BitBoard[] boards;
+        private final MoveGenerator[][] generators;
+        private final long[][] seen;
+        private final int[][] order;
+        private final char[] chosenPiece;
+        private final int[] chosenOption;
+        private final int[] chosenMove;
+        private final boolean[] chosenHold;
+        private final int[] chosenDrop;
+        private final int[] columnRoot;
+        private final int evenColumns;
+        private final int[] suffixI;
+        private final int[] suffixTLJ;
+        private final int[] columnEmpty;
+        private final TranspositionTable failed = new TranspositionTable(MEMO_BITS);
+
+        private RootChoice prefix;
+        private List<PerfectClearSolution> found;
+
+        Search(Context context) {
+            this.context = context;
+            this.queue = context.queue;
+            this.width = context.start.getWidth();
+            this.height = context.start.getHeight();
+            int levels = queue.length + 1;
+            boards = new BitBoard[levels + 1];
+            for (int i = 0; i < boards.length; i++) {
+                boards[i] = new BitBoard(width, height);
+            }
+            generators = new MoveGenerator[levels][OPTIONS];
+            for (MoveGenerator[] level : generators) {
+                for (int o = 0; o < OPTIONS; o++) {
+                    level[o] = new MoveGenerator(width, height);
+                }
+            }
+            seen = new long[levels][];
+            order = new int[levels][];
+            chosenPiece = new char[levels];
+            chosenOption = new int[levels];
+            chosenMove = new int[levels];
+            chosenHold = new boolean[levels];
+            chosenDrop = new int[levels];
+            columnRoot = new int[width];
+            int even = 0;
+            for (int column = 0; column < width; column += 2) {
+                even |= 1 << column;
+            }
+            evenColumns = even;
+            suffixI = new int[queue.length + 1];
+            suffixTLJ = new int[queue.length + 1];
+            for (int i = queue.length - 1; i >= 0; i--) {
+                suffixI[i] = suffixI[i + 1] + (queue[i].getLetter() == 'I' ? 1 : 0);
+                suffixTLJ[i] = suffixTLJ[i + 1] + (isTLJ(queue[i].getColor()) ? 1 : 0);
+            }
+            columnEmpty = new int[width];
+        }
+
+        List<PerfectClearSolution> run(int hold, boolean canHold, int region, int rotation, int x, int y) {
+            found = new ArrayList<>();
+            prefix = null;
+            boards[0].copyFrom(context.start);
+            search(0, 0, hold, canHold, region, rotation, x, y);
+            return found;
+        }
+
+        List<PerfectClearSolution> runFrom(RootChoice choice) {
+            found = new ArrayList<>();
+            prefix = choice;
+            boards[1].copyFrom(choice.board);
+            search(1, choice.index, choice.hold, true, choice.region, 0, 0, 0);
+            return found;
+        }
+
+        /**
+         * Lists every distinct first placement and the state it leaves.
+         */
+        List<RootChoice> rootChoices(int hold, boolean canHold, int region, int rotation, int x, int y) {
+            List<RootChoice> choices = new ArrayList<>();
+            BitBoard board = boards[0];
+            board.copyFrom(context.start);
+            PieceShape current = queue[0];
+            collectRoot(choices, current, false, 0, 1, hold, region, rotation, x, y);
+            if (canHold && hold != NO_HOLD) {
+                collectRoot(choices, PieceShape.ofColor(hold), true, 1, 1, current.getColor(), region,
+                        0, board.spawnX(), BitBoard.DEFAULT_SPAWN_Y);
+            } else if (canHold && queue.length > 1) {
+                collectRoot(choices, queue[1], true, 1, 2, current.getColor(), region,
+                        0, board.spawnX(), board.spawnY());
+            }
+            return choices;
+        }
+
+        private void collectRoot(List<RootChoice> choices, PieceShape piece, boolean holdPressed, int option,
+                                 int index, int hold, int region, int rotation, int x, int y) {
+            MoveGenerator generator = generators[0][option];
+            int startY = airStart(y, region, piece);
+            int count = generator.generate(boards[0], piece, rotation, x, startY);
+            long[] hashes = seenBuffer(0, count);
+            int distinct = 0;
+            List<RootChoice> options = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                BitBoard child = new BitBoard(width, height);
+                child.copyFrom(boards[0]);
+                int newRegion = region - child.place(piece, generator.getRotation(i), generator.getX(i),
+                        generator.getY(i));
+                if (child.topRow() < height - newRegion || isDuplicate(hashes, distinct, child.hash())) {
+                    continue;
+                }
+                hashes[distinct++] = child.hash();
+                options.add(new RootChoice(child, index, hold, newRegion, piece.getLetter(),
+                        new Placement(generator.getRotation(i), generator.getX(i), generator.getY(i), holdPressed),
+                        inputs(generator, i, holdPressed, startY - y)));
+            }
+            // Same order as the sequential search, so the results come out in the same order
+            options.sort(Comparator.comparingInt(choice -> orderScore(choice.board)));
+            choices.addAll(options);
+        }
+
+        /**
+         * Searches below {@code boards[level]}.
+         *
+         * @return solutions found
+         */
+        private int search(int level, int index, int hold, boolean canHold, int region,
+                           int rotation, int x, int y) {
+            BitBoard board = boards[level];
+            if (region == 0) {
+                record(level);
+                return 1;
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                context.stopped = true;
+            }
+            if (context.stopped || !feasible(board, region, index, hold)) {
+                return 0;
+            }
+            // With hold free, holding T and playing I is the same position as
+            // holding I and playing T, so the pair is stored in order
+            int playing = index < queue.length ? queue[index].getColor() : NO_HOLD;
+            int pair = canHold && hold > playing ? playing << 3 | hold : hold << 3 | playing;
+            long key = board.hash() ^ (index * 0x9E3779B97F4A7C15L) ^ ((long) pair << 48)
+                    ^ ((long) region << 56) ^ (canHold ? 0 : 1L << 40);
+            if (failed.contains(key)) {
+                return 0;
+            }
+
+            int solutions = 0;
+            if (index < queue.length) {
+                PieceShape current = queue[index];
+                if (level > 0) {
+                    if (board.spawnBlocked(current)) {
+                        return 0;
+                    }
+                    rotation = 0;
+                    x = board.spawnX();
+                    y = board.spawnY();
+                }
+                solutions += expand(level, current, false, 0, index + 1, hold, region, rotation, x, y);
+                if (canHold && hold != NO_HOLD) {
+                    solutions += expand(level, PieceShape.ofColor(hold), true, 1, index + 1, current.getColor(),
+                            region, 0, board.spawnX(), BitBoard.DEFAULT_SPAWN_Y);
+                } else if (canHold && index + 1 < queue.length) {
+                    solutions += expand(level, queue[index + 1], true, 1, index + 2, current.getColor(),
+                            region, 0, board.spawnX(), board.spawnY());
+                }
+            }
+
+            if (solutions == 0 && !context.stopped) {
+                failed.add(key);
+            }
+            return solutions;
+        }
+
+        private int expand(int level, PieceShape piece, boolean holdPressed, int option, int index,
+                           int hold, int region, int rotation, int x, int y) {
+            BitBoard board = boards[level];
+            BitBoard child = boards[level + 1];
+            MoveGenerator generator = generators[level][option];
+            int startY = airStart(y, region, piece);
+            int count = generator.generate(board, piece, rotation, x, startY);
+            long[] hashes = seenBuffer(level, count);
+            int[] order = orderBuffer(level, count);
+            int distinct = 0;
+            for (int i = 0; i < count; i++) {
+                child.copyFrom(board);
+                int newRegion = region - child.place(piece, generator.getRotation(i), generator.getX(i),
+                        generator.getY(i));
+                if (child.topRow() < height - newRegion) {
+                    continue;
+                }
+                long hash = child.hash();
+                if (isDuplicate(hashes, distinct, hash)) {
+                    continue;
+                }
+                // Fewest covered cells and lowest stacks first, so solutions are met early
+                int key = orderScore(child) << 16 | i;
+                int at = distinct++;
+                while (at > 0 && order[at - 1] > key) {
+                    order[at] = order[at - 1];
+                    hashes[at] = hashes[at - 1];
+                    at--;
+                }
+                order[at] = key;
+                hashes[at] = hash;
+            }
+
+            int solutions = 0;
+            for (int c = 0; c < distinct && !context.stopped; c++) {
+                int i = order[c] & 0xFFFF;
+                child.copyFrom(board);
+                int newRegion = region - child.place(piece, generator.getRotation(i), generator.getX(i),
+                        generator.getY(i));
+                chosenPiece[level] = piece.getLetter();
+                chosenOption[level] = option;
+                chosenMove[level] = i;
+                chosenHold[level] = holdPressed;
+                chosenDrop[level] = startY - y;
+                solutions += search(level + 1, index, hold, true, newRegion, 0, 0, 0);
+            }
+            return solutions;
+        }
+
+        /**
+         * Counting and region checks for the empty cells of the perfect
+         * clear rows.
+         */
+        private boolean feasible(BitBoard board, int region, int index, int hold) {
+            int top = height - region;
+            int empty = region * width;
+            for (int column = 0; column < width; column++) {
+                columnRoot[column] = column;
+                columnEmpty[column] = 0;
+            }
+            int full = board.getFullRow();
+            int imbalance = 0;
+            for (int row = top; row < height; row++) {
+                int open = ~board.row(row) & full;
+                empty -= width - Integer.bitCount(open);
+                imbalance += Integer.bitCount(open & evenColumns) - Integer.bitCount(open & ~evenColumns);
+                for (int bits = open; bits != 0; bits &= bits - 1) {
+                    columnEmpty[Integer.numberOfTrailingZeros(bits)]++;
+                }
+                // Neighbouring open cells in a row join their columns
+                for (int pairs = open & (open >>> 1); pairs != 0; pairs &= pairs - 1) {
+                    int column = Integer.numberOfTrailingZeros(pairs);
+                    union(column, column + 1);
+                }
+            }
+            if (empty % 4 != 0 || empty / 4 > queue.length - index) {
+                return false;
+            }
+            if (!parityReachable(Math.abs(imbalance), empty / 4, index, hold)) {
+                return false;
+            }
+            for (int column = 0; column < width; column++) {
+                int root = find(column);
+                if (root != column) {
+                    columnEmpty[root] += columnEmpty[column];
+                    columnEmpty[column] = 0;
+                }
+            }
+            for (int column = 0; column < width; column++) {
+                if (columnEmpty[column] % 4 != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Column parity: counting empty cells in even minus odd columns, an
+         * upright I changes the difference by four, an upright T or any L or
+         * J by two, and every other placement by nothing. Line clears do not
+         * move cells between columns, so the pieces still to come must be
+         * able to cancel the difference.
+         */
+        private boolean parityReachable(int imbalance, int needed, int index, int hold) {
+            if (imbalance == 0) {
+                return true;
+            }
+            int pieceI = suffixI[index] + (hold == PieceShape.ofLetter('I').getColor() ? 1 : 0);
+            int pieceTLJ = suffixTLJ[index] + (isTLJ(hold) ? 1 : 0);
+            int usedI = Math.min(pieceI, needed);
+            int reach = 4 * usedI + 2 * Math.min(pieceTLJ, needed - usedI);
+            return imbalance <= reach && (imbalance % 4 == 0 || pieceTLJ > 0);
+        }
+
+        private static boolean isTLJ(int color) {
+            if (color == NO_HOLD) {
+                return false;
+            }
+            char letter = PieceShape.ofColor(color).getLetter();
+            return letter == 'T' || letter == 'L' || letter == 'J';
+        }
+
+        private int find(int column) {
+            while (columnRoot[column] != column) {
+                columnRoot[column] = columnRoot[columnRoot[column]];
+                column = columnRoot[column];
+            }
+            return column;
+        }
+
+        private void union(int a, int b) {
+            int rootA = find(a);
+            int rootB = find(b);
+            if (rootA != rootB) {
+                columnRoot[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+            }
+        }
+
+        private long[] seenBuffer(int level, int count) {
+            if (seen[level] == null || seen[level].length < count) {
+                seen[level] = new long[Math.max(count, 64)];
+            }
+            return seen[level];
+        }
+
+        private int[] orderBuffer(int level, int count) {
+            if (order[level] == null || order[level].length < count) {
+                order[level] = new int[Math.max(count, 64)];
+            }
+            return order[level];
+        }
+
+        /**
+         * Sort key for a child board: covered empty cells first, then the
+         * height of the stack.
+         */
+        private int orderScore(BitBoard board) {
+            int covered = 0;
+            int holes = 0;
+            for (int row = board.topRow(); row < height; row++) {
+                holes += Integer.bitCount(covered & ~board.row(row));
+                covered |= board.row(row);
+            }
+            return holes << 8 | height - board.topRow();
+        }
+
+        private static boolean isDuplicate(long[] hashes, int count, long hash) {
+            for (int i = 0; i < count; i++) {
+                if (hashes[i] == hash) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void record(int level) {
+            if (context.solutions.getAndIncrement() >= context.limit) {
+                context.stopped = true;
+                return;
+            }
+            StringBuilder pieces = new StringBuilder(level);
+            List<Placement> placements = new ArrayList<>(level);
+            List<List<BotAction>> inputs = new ArrayList<>(level);
+            int first = 0;
+            if (prefix != null) {
+                pieces.append(prefix.piece);
+                placements.add(prefix.placement);
+                inputs.add(prefix.inputs);
+                first = 1;
+            }
+            for (int l = first; l < level; l++) {
+                MoveGenerator generator = generators[l][chosenOption[l]];
+                int move = chosenMove[l];
+                pieces.append(chosenPiece[l]);
+                placements.add(new Placement(generator.getRotation(move), generator.getX(move),
+                        generator.getY(move), chosenHold[l]));
+                inputs.add(inputs(generator, move, chosenHold[l], chosenDrop[l]));
+            }
+            found.add(new PerfectClearSolution(pieces.toString(), placements, inputs, context.rows));
+            if (context.solutions.get() >= context.limit) {
+                context.stopped = true;
+            }
+        }
+
+        /**
+         * Moves a search start that is above the perfect clear rows down to
+         * just above them. Every rotation and column is reachable in the
+         * empty rows above, so the same placements are found with far fewer
+         * states to visit.
+         */
+        private int airStart(int y, int region, PieceShape piece) {
+            return Math.max(y, height - region - piece.size());
+        }
+
+        /**
+         * Builds the inputs of a step from the generator's path, adding the
+         * soft drops skipped by {@link #airStart} in front of the first soft
+         * drop. Paths without one only shift and rotate in the air, which
+         * works the same from the real start.
+         */
+        private static List<BotAction> inputs(MoveGenerator generator, int move, boolean holdPressed, int skipped) {
+            List<BotAction> path = generator.getPath(move);
+            int firstDrop = path.indexOf(BotAction.SOFT_DROP);
+            if (firstDrop >= 0) {
+                path.addAll(firstDrop, Collections.nCopies(skipped, BotAction.SOFT_DROP));
+            }
+            if (holdPressed) {
+                path.add(0, BotAction.HOLD);
+            }
+            return path;
+        }
+    }
+}
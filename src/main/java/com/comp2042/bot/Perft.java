@@ -0,0 +1,234 @@
+package com.comp2042.bot;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts every sequence of reachable placements for a fixed piece order,
+ * in the manner of chess perft.
+ *
+ * <p>Each level spawns the next piece the way the engine does, finds all
+ * of its resting places with {@link MoveGenerator}, places it and clears
+ * lines. A branch ends early when the game would be over: the top row is
+ * filled or the next piece cannot spawn. The leaf count at a fixed depth
+ * is a regression oracle for the movement, rotation and line clear rules,
+ * and the node rate is a throughput figure for the search code.
+ *
+ * <p>The parallel version forks one task per placement for the first
+ * levels and finishes each subtree sequentially with per-thread buffers.
+ */
+public class Perft {
+
+    private static final int PARALLEL_LEVELS = 2;
+
+    private final int parallelism;
+
+    /**
+     * Creates a single-threaded perft.
+     */
+    public Perft() {
+        this(1);
+    }
+
+    /**
+     * Creates a perft using a number of worker threads.
+     * @param parallelism number of threads; 1 runs on the calling thread
+     */
+    public Perft(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Runs perft on a reference position.
+     *
+     * @param position the position
+     * @param depth number of pieces to place
+     * @param countDistinct whether to also count distinct leaf boards
+     * @return the counts and timing
+     */
+    public PerftResult run(PerftPosition position, int depth, boolean countDistinct) {
+        return run(position.createBoard(), position.getPieces(), depth, countDistinct);
+    }
+
+    /**
+     * Runs perft from a board and piece sequence.
+     *
+     * @param start the starting board (not modified)
+     * @param pieces piece letters, at least {@code depth} of them
+     * @param depth number of pieces to place
+     * @param countDistinct whether to also count distinct leaf boards
+     * @return the counts and timing
+     */
+    public PerftResult run(BitBoard start, String pieces, int depth, boolean countDistinct) {
+        if (depth < 0 || depth > pieces.length()) {
+            throw new IllegalArgumentException("depth must be between 0 and " + pieces.length());
+        }
+        PieceShape[] sequence = new PieceShape[depth];
+        for (int i = 0; i < depth; i++) {
+            sequence[i] = PieceShape.ofLetter(pieces.charAt(i));
+        }
+        Set<BoardKey> distinct = countDistinct ? ConcurrentHashMap.newKeySet() : null;
+        LongAdder nodes = new LongAdder();
+
+        long startNanos = System.nanoTime();
+        long leaves;
+        if (parallelism == 1 || depth <= 1) {
+            Search search = new Search(start, sequence, nodes, distinct);
+            search.boards[0].copyFrom(start);
+            leaves = search.count(0);
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                ThreadLocal<Search> searches = ThreadLocal.withInitial(
+                        () -> new Search(start, sequence, nodes, distinct));
+                leaves = pool.invoke(new SubtreeTask(start, 0, sequence, searches));
+            } finally {
+                pool.shutdown();
+            }
+        }
+        long elapsed = System.nanoTime() - startNanos;
+
+        return new PerftResult(depth, leaves, nodes.sum(), distinct == null ? -1 : distinct.size(),
+                elapsed, parallelism == 1 || depth <= 1 ? 1 : parallelism);
+    }
+
+    /**
+     * Depth-first counter with one generator and one board per level, so
+     * nothing is allocated while counting (apart from distinct-board keys).
+     */
+    private static final class Search {
+
+        private final PieceShape[] sequence;
+        private final MoveGenerator[] generators;
+        private final BitBoard[] boards;
+        private final LongAdder nodes;
+        private final Set<BoardKey> distinct;
+
+        Search(BitBoard template, PieceShape[] sequence, LongAdder nodes, Set<BoardKey> distinct) {
+            this.sequence = sequence;
+            this.nodes = nodes;
+            this.distinct = distinct;
+            this.generators = new MoveGenerator[sequence.length];
+            this.boards = new BitBoard[sequence.length + 1];
+            for (int i = 0; i < boards.length; i++) {
+                boards[i] = new BitBoard(template.getWidth(), template.getHeight());
+                if (i < sequence.length) {
+                    generators[i] = new MoveGenerator(template.getWidth(), template.getHeight());
+                }
+            }
+        }
+
+        /**
+         * Counts leaves below {@code boards[level]}.
+         */
+        long count(int level) {
+            if (level == sequence.length) {
+                if (distinct != null) {
+                    distinct.add(new BoardKey(boards[level]));
+                }
+                return 1;
+            }
+            BitBoard board = boards[level];
+            PieceShape piece = sequence[level];
+            if (board.isTopRowFilled() || board.spawnBlocked(piece)) {
+                return 0;
+            }
+
+            MoveGenerator generator = generators[level];
+            int count = generator.generate(board, piece, 0, board.spawnX(), board.spawnY());
+            nodes.add(count);
+
+            long leaves = 0;
+            BitBoard child = boards[level + 1];
+            for (int i = 0; i < count; i++) {
+                child.copyFrom(board);
+                child.place(piece, generator.getRotation(i), generator.getX(i), generator.getY(i));
+                leaves += count(level + 1);
+            }
+            return leaves;
+        }
+    }
+
+    /**
+     * Forks one task per placement for the first levels, then hands the
+     * subtree to the worker's sequential search.
+     */
+    private static final class SubtreeTask extends RecursiveTask<Long> {
+
+        private final BitBoard board;
+        private final int level;
+        private final PieceShape[] sequence;
+        private final ThreadLocal<Search> searches;
+
+        SubtreeTask(BitBoard board, int level, PieceShape[] sequence, ThreadLocal<Search> searches) {
+            this.board = board;
+            this.level = level;
+            this.sequence = sequence;
+            this.searches = searches;
+        }
+
+        @Override
+        protected Long compute() {
+            Search search = searches.get();
+            if (level >= PARALLEL_LEVELS || level >= sequence.length - 1) {
+                search.boards[level].copyFrom(board);
+                return search.count(level);
+            }
+
+            PieceShape piece = sequence[level];
+            if (board.isTopRowFilled() || board.spawnBlocked(piece)) {
+                return 0L;
+            }
+            MoveGenerator generator = new MoveGenerator(board.getWidth(), board.getHeight());
+            int count = generator.generate(board, piece, 0, board.spawnX(), board.spawnY());
+            search.nodes.add(count);
+
+            SubtreeTask[] children = new SubtreeTask[count];
+            for (int i = 0; i < count; i++) {
+                BitBoard child = new BitBoard(board.getWidth(), board.getHeight());
+                child.copyFrom(board);
+                child.place(piece, generator.getRotation(i), generator.getX(i), generator.getY(i));
+                children[i] = new SubtreeTask(child, level + 1, sequence, searches);
+            }
+            invokeAll(children);
+
+            long leaves = 0;
+            for (SubtreeTask child : children) {
+                leaves += child.join();
+            }
+            return leaves;
+        }
+    }
+
+    /**
+     * Exact copy of a board's rows, used to count distinct leaf boards.
+     */
+    private static final class BoardKey {
+
+        private final int[] rows;
+        private final int hash;
+
+        BoardKey(BitBoard board) {
+            rows = new int[board.getHeight()];
+            for (int row = 0; row < rows.length; row++) {
+                rows[row] = board.row(row);
+            }
+            hash = Arrays.hashCode(rows);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof BoardKey && Arrays.equals(rows, ((BoardKey) o).rows);
+        }
+
+        @Override
+        public int hashCode() {return hash;}
+    }
+}
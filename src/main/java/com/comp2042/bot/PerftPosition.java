@@ -0,0 +1,74 @@
+package com.comp2042.bot;
+
+/**
+ * Reference positions for {@link Perft}. Their counts are pinned in the
+ * tests, so any change to collision, rotation or line clearing that
+ * alters the set of reachable boards shows up as a count mismatch.
+ *
+ * <p>Rows are listed top to bottom and fill the bottom of a 10x25 board;
+ * {@code X} is a filled cell.
+ */
+public enum PerftPosition {
+
+    EMPTY("Empty board", "TIOLJSZ"),
+
+    OVERHANG("Roof with space to tuck under", "OTIJLSZ",
+            "XXXX......",
+            "..........",
+            "..........",
+            "XXXXXXX..X"),
+
+    TSPIN_SLOT("T-spin double slot", "TTIOJLS",
+            "XX........",
+            "X...XXXXXX",
+            "XX.XXXXXXX"),
+
+    TALL_STACK("Stack two rows below the spawn area", "IZSTOLJ",
+            stackRows());
+
+    public static final int WIDTH = 10;
+    public static final int HEIGHT = 25;
+
+    private final String description;
+    private final String pieces;
+    private final String[] rows;
+
+    PerftPosition(String description, String pieces, String... rows) {
+        this.description = description;
+        this.pieces = pieces;
+        this.rows = rows;
+    }
+
+    private static String[] stackRows() {
+        String[] rows = new String[HEIGHT - 4];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = i % 2 == 0 ? "XXXXXXXX.." : "..XXXXXXXX";
+        }
+        return rows;
+    }
+
+    /**
+     * Builds the starting board.
+     * @return a new BitBoard
+     */
+    public BitBoard createBoard() {
+        int[][] matrix = new int[HEIGHT][WIDTH];
+        int top = HEIGHT - rows.length;
+        for (int i = 0; i < rows.length; i++) {
+            for (int col = 0; col < WIDTH; col++) {
+                if (rows[i].charAt(col) == 'X') {
+                    matrix[top + i][col] = 1;
+                }
+            }
+        }
+        return BitBoard.fromMatrix(matrix);
+    }
+
+    /**
+     * Gets the piece sequence as letters, one per depth.
+     * @return piece letters
+     */
+    public String getPieces() {return pieces;}
+
+    public String getDescription() {return description;}
+}
@@ -0,0 +1,66 @@
+package com.comp2042.bot;
+
+import java.util.Locale;
+
+/**
+ * Outcome of one {@link Perft} run.
+ */
+public final class PerftResult {
+
+    private final int depth;
+    private final long leaves;
+    private final long nodes;
+    private final long distinctBoards;
+    private final long elapsedNanos;
+    private final int threads;
+
+    PerftResult(int depth, long leaves, long nodes, long distinctBoards, long elapsedNanos, int threads) {
+        this.depth = depth;
+        this.leaves = leaves;
+        this.nodes = nodes;
+        this.distinctBoards = distinctBoards;
+        this.elapsedNanos = elapsedNanos;
+        this.threads = threads;
+    }
+
+    public int getDepth() {return depth;}
+
+    /**
+     * Gets the perft count: placement sequences of exactly {@code depth} pieces.
+     * @return leaf count
+     */
+    public long getLeaves() {return leaves;}
+
+    /**
+     * Gets every placement generated on the way, interior nodes included.
+     * @return node count
+     */
+    public long getNodes() {return nodes;}
+
+    /**
+     * Gets the number of different boards among the leaves.
+     * @return distinct boards, or -1 if they were not counted
+     */
+    public long getDistinctBoards() {return distinctBoards;}
+
+    public long getElapsedNanos() {return elapsedNanos;}
+
+    public int getThreads() {return threads;}
+
+    /**
+     * Gets the generation throughput.
+     * @return nodes per second
+     */
+    public double getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : nodes * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "perft(%d) = %d leaves, %d nodes%s in %.1f ms on %d thread%s (%.0f nodes/s)",
+                depth, leaves, nodes,
+                distinctBoards >= 0 ? ", " + distinctBoards + " distinct boards" : "",
+                elapsedNanos / 1e6, threads, threads == 1 ? "" : "s", getNodesPerSecond());
+    }
+}
@@ -0,0 +1,192 @@
+package com.comp2042.bot;
+
+import com.comp2042.brick.Brick;
+import com.comp2042.brick.pieces.*;
+
+import java.util.List;
+
+/**
+ * Precomputed bit-mask form of one brick type, used by the automated
+ * players to test collisions without copying matrices.
+ *
+ * <p>Each rotation is stored as four row masks where bit {@code c} is set
+ * when column {@code c} of the 4x4 shape matrix is filled. Instances are
+ * immutable and shared, one per brick colour code.
+ */
+public final class PieceShape {
+
+    private static final int SHAPE_SIZE = 4;
+    private static final String LETTERS = ".IJLOSTZ";
+    private static final PieceShape[] BY_COLOR = {
+            null,
+            new PieceShape(new IBrick()),
+            new PieceShape(new JBrick()),
+            new PieceShape(new LBrick()),
+            new PieceShape(new OBrick()),
+            new PieceShape(new SBrick()),
+            new PieceShape(new TBrick()),
+            new PieceShape(new ZBrick())
+    };
+
+    private final int color;
+    private final int[][] rowMasks;
+    private final int[] minRow;
+    private final int[] maxRow;
+    private final int[] minCol;
+    private final int[] maxCol;
+
+    private PieceShape(Brick brick) {
+        List<int[][]> shapes = brick.getShapeMatrix();
+        int rotations = shapes.size();
+        this.rowMasks = new int[rotations][SHAPE_SIZE];
+        this.minRow = new int[rotations];
+        this.maxRow = new int[rotations];
+        this.minCol = new int[rotations];
+        this.maxCol = new int[rotations];
+        this.color = colorOf(shapes.get(0));
+
+        for (int r = 0; r < rotations; r++) {
+            int[][] shape = shapes.get(r);
+            minRow[r] = SHAPE_SIZE;
+            minCol[r] = SHAPE_SIZE;
+            maxRow[r] = -1;
+            maxCol[r] = -1;
+            for (int row = 0; row < shape.length; row++) {
+                for (int col = 0; col < shape[row].length; col++) {
+                    if (shape[row][col] != 0) {
+                        rowMasks[r][row] |= 1 << col;
+                        minRow[r] = Math.min(minRow[r], row);
+                        maxRow[r] = Math.max(maxRow[r], row);
+                        minCol[r] = Math.min(minCol[r], col);
+                        maxCol[r] = Math.max(maxCol[r], col);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Looks up the shape of a brick.
+     *
+     * @param brick any brick instance
+     * @return the shared PieceShape for its type
+     */
+    public static PieceShape of(Brick brick) {
+        return ofColor(colorOf(brick.getShapeMatrix().get(0)));
+    }
+
+    /**
+     * Looks up the shape from a shape matrix, such as a next-brick preview.
+     *
+     * @param shape any rotation of a brick
+     * @return the shared PieceShape, or null for an empty matrix
+     */
+    public static PieceShape of(int[][] shape) {
+        int color = colorOf(shape);
+        return color == 0 ? null : ofColor(color);
+    }
+
+    /**
+     * Looks up the shape by colour code.
+     *
+     * @param color brick colour code (1-7)
+     * @return the shared PieceShape
+     */
+    public static PieceShape ofColor(int color) {
+        if (color < 1 || color >= BY_COLOR.length) {
+            throw new IllegalArgumentException("Unknown brick color " + color);
+        }
+        return BY_COLOR[color];
+    }
+
+    /**
+     * Looks up the shape by its usual letter.
+     *
+     * @param letter one of I, J, L, O, S, T, Z (either case)
+     * @return the shared PieceShape
+     */
+    public static PieceShape ofLetter(char letter) {
+        int color = LETTERS.indexOf(Character.toUpperCase(letter));
+        if (color < 1) {
+            throw new IllegalArgumentException("Unknown brick letter '" + letter + "'");
+        }
+        return BY_COLOR[color];
+    }
+
+    private static int colorOf(int[][] shape) {
+        for (int[] row : shape) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    return cell;
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the brick colour code, which also identifies the brick type.
+     * @return colour code (1-7)
+     */
+    public int getColor() {return color;}
+
+    /**
+     * Gets the usual letter of the brick type.
+     * @return I, J, L, O, S, T or Z
+     */
+    public char getLetter() {return LETTERS.charAt(color);}
+
+    /**
+     * Gets the number of distinct rotation states.
+     * @return rotation count (1, 2 or 4)
+     */
+    public int getRotations() {return rowMasks.length;}
+
+    /**
+     * Finds which rotation a shape matrix of this brick type shows.
+     *
+     * @param shape a 4x4 shape matrix, such as the brick data of a view
+     * @return rotation index, or -1 if the matrix is not a rotation of this brick
+     */
+    public int rotationOf(int[][] shape) {
+        for (int r = 0; r < rowMasks.length; r++) {
+            boolean matches = true;
+            for (int row = 0; row < SHAPE_SIZE && matches; row++) {
+                int mask = 0;
+                if (row < shape.length) {
+                    for (int col = 0; col < shape[row].length; col++) {
+                        if (shape[row][col] != 0) {mask |= 1 << col;}
+                    }
+                }
+                matches = mask == rowMasks[r][row];
+            }
+            if (matches) {
+                return r;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the column mask of one row of a rotation.
+     *
+     * @param rotation rotation index
+     * @param row row inside the 4x4 shape
+     * @return bit mask of filled columns
+     */
+    public int rowMask(int rotation, int row) {return rowMasks[rotation][row];}
+
+    public int minRow(int rotation) {return minRow[rotation];}
+
+    public int maxRow(int rotation) {return maxRow[rotation];}
+
+    public int minCol(int rotation) {return minCol[rotation];}
+
+    public int maxCol(int rotation) {return maxCol[rotation];}
+
+    /**
+     * Gets the shape size of the matrices.
+     * @return 4
+     */
+    public int size() {return SHAPE_SIZE;}
+}
@@ -0,0 +1,88 @@
+package com.comp2042.bot;
+
+/**
+ * Immutable description of where an automated player wants the current
+ * brick to end up.
+ *
+ * <p>The rotation is expressed as the number of rotate presses applied at
+ * spawn (the same counter-clockwise cycle used by
+ * {@link com.comp2042.core.Board#rotateLeftBrick()}), and the position uses
+ * the same X/Y offset convention as {@link com.comp2042.model.ViewData}.
+ * When {@code hold} is set the current brick is held first and the
+ * placement applies to the brick that replaces it.
+ */
+public final class Placement {
+
+    private final int rotation;
+    private final int x;
+    private final int y;
+    private final boolean hold;
+
+    /**
+     * Creates a new Placement without hold.
+     *
+     * @param rotation rotation index (number of rotate presses from spawn)
+     * @param x target horizontal offset of the shape matrix
+     * @param y expected landing vertical offset of the shape matrix
+     */
+    public Placement(int rotation, int x, int y) {
+        this(rotation, x, y, false);
+    }
+
+    /**
+     * Creates a new Placement.
+     *
+     * @param rotation rotation index (number of rotate presses from spawn)
+     * @param x target horizontal offset of the shape matrix
+     * @param y expected landing vertical offset of the shape matrix
+     * @param hold whether to hold the current brick first
+     */
+    public Placement(int rotation, int x, int y, boolean hold) {
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.hold = hold;
+    }
+
+    /**
+     * Gets the rotation index.
+     * @return rotation index (0 to N-1)
+     */
+    public int getRotation() {return rotation;}
+
+    /**
+     * Gets the target X offset.
+     * @return horizontal position
+     */
+    public int getX() {return x;}
+
+    /**
+     * Gets the expected landing Y offset.
+     * @return vertical position
+     */
+    public int getY() {return y;}
+
+    /**
+     * Checks whether the current brick is held before placing.
+     * @return true if the placement uses hold
+     */
+    public boolean isHold() {return hold;}
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Placement)) return false;
+        Placement other = (Placement) o;
+        return rotation == other.rotation && x == other.x && y == other.y && hold == other.hold;
+    }
+
+    @Override
+    public int hashCode() {
+        return ((rotation * 31 + x) * 31 + y) * 31 + (hold ? 1 : 0);
+    }
+
+    @Override
+    public String toString() {
+        return "Placement{rotation=" + rotation + ", x=" + x + ", y=" + y + (hold ? ", hold" : "") + "}";
+    }
+}
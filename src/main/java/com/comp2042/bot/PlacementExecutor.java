@@ -0,0 +1,40 @@
+package com.comp2042.bot;
+
+import com.comp2042.core.Board;
+
+/**
+ * Applies a {@link Placement} to a board using the same primitive moves a
+ * human player has: rotate, shift left/right and drop.
+ */
+public final class PlacementExecutor {
+
+    private PlacementExecutor() {
+    }
+
+    /**
+     * Holds if the placement asks for it, rotates and shifts the current
+     * brick towards the placement, then drops it until it rests. The brick is not merged; the caller decides
+     * how to lock it. Blocked moves are skipped, so the brick may rest
+     * somewhere other than planned if the path is obstructed.
+     *
+     * @param board the board holding the current brick
+     * @param placement the target placement
+     * @return the number of rows the brick was dropped
+     */
+    public static int execute(Board board, Placement placement) {
+        if (placement.isHold()) {
+            board.holdCurrentBrick();
+        }
+        for (int i = 0; i < placement.getRotation(); i++) {
+            board.rotateLeftBrick();
+        }
+
+        int x = board.getViewData().getxPosition();
+        while (x < placement.getX() && board.moveBrickRight()) {x++;}
+        while (x > placement.getX() && board.moveBrickLeft()) {x--;}
+
+        int dropDistance = 0;
+        while (board.moveBrickDown()) {dropDistance++;}
+        return dropDistance;
+    }
+}
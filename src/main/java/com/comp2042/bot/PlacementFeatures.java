@@ -0,0 +1,95 @@
+package com.comp2042.bot;
+
+/**
+ * Lists the placements {@link HeuristicPlayer} chooses between together
+ * with the unweighted {@link BoardEvaluator} features of each, for code
+ * that learns or inspects the weights instead of just applying them.
+ *
+ * <p>Results are written into reused arrays, so a call allocates nothing
+ * once the board size is known. Not thread-safe.
+ */
+public final class PlacementFeatures {
+
+    private final BoardEvaluator evaluator = new BoardEvaluator(EvaluationWeights.DEFAULT);
+
+    private ShiftDropMoves moves;
+    private BitBoard scratch;
+    private int[] lines = new int[0];
+    private double[] features = new double[0];
+    private int count;
+
+    /**
+     * Lists every placement of a piece and computes its features.
+     *
+     * @param start the board before placing (not modified)
+     * @param piece the piece to place, in rotation 0
+     * @param spawnX current horizontal offset of the piece
+     * @param spawnY current vertical offset of the piece
+     * @return number of placements, 0 if the piece cannot move at all
+     */
+    public int generate(BitBoard start, PieceShape piece, int spawnX, int spawnY) {
+        if (scratch == null || scratch.getHeight() != start.getHeight() || scratch.getWidth() != start.getWidth()) {
+            scratch = new BitBoard(start.getWidth(), start.getHeight());
+            moves = new ShiftDropMoves(start.getWidth());
+        }
+        count = moves.generate(start, piece, spawnX, spawnY);
+        if (lines.length < count) {
+            lines = new int[count];
+            features = new double[count * EvaluationWeights.FEATURE_COUNT];
+        }
+        for (int i = 0; i < count; i++) {
+            scratch.copyFrom(start);
+            lines[i] = scratch.place(piece, moves.rotation(i), moves.x(i), moves.y(i));
+            evaluator.features(scratch, piece, moves.rotation(i), moves.y(i), lines[i],
+                    scratch.getLastErodedCells(), features, i * EvaluationWeights.FEATURE_COUNT);
+        }
+        return count;
+    }
+
+    /**
+     * Gets the number of placements found by the last call to {@link #generate}.
+     * @return placement count
+     */
+    public int count() {return count;}
+
+    /**
+     * Gets a placement in the form {@link PlacementExecutor} plays.
+     *
+     * @param index placement index
+     * @return the placement
+     */
+    public Placement placement(int index) {
+        return new Placement(moves.rotation(index), moves.x(index), moves.y(index));
+    }
+
+    /**
+     * Gets the lines a placement clears.
+     *
+     * @param index placement index
+     * @return lines cleared
+     */
+    public int lines(int index) {return lines[index];}
+
+    /**
+     * Gets one unweighted feature value of a placement.
+     *
+     * @param index placement index
+     * @param feature feature index in {@link EvaluationWeights} order
+     * @return feature value
+     */
+    public double feature(int index, int feature) {
+        return features[index * EvaluationWeights.FEATURE_COUNT + feature];
+    }
+
+    /**
+     * Copies the features of a placement.
+     *
+     * @param index placement index
+     * @param out destination
+     * @param offset index of the first value in {@code out}
+     */
+    public void copyFeatures(int index, double[] out, int offset) {
+        System.arraycopy(features, index * EvaluationWeights.FEATURE_COUNT, out, offset,
+                EvaluationWeights.FEATURE_COUNT);
+    }
+}
@@ -0,0 +1,62 @@
+package com.comp2042.bot;
+
+import com.comp2042.core.Board;
+
+/**
+ * An automated player that decides where the current brick should go.
+ * Implementations only inspect the board; applying the decision is done
+ * by {@link PlacementExecutor}.
+ */
+public interface Player {
+
+    /**
+     * Chooses a placement for the board's current brick.
+     *
+     * @param board the board holding the freshly spawned brick
+     * @return the chosen placement, or null if the brick has no legal placement
+     */
+    Placement choosePlacement(Board board);
+
+    /**
+     * Chooses a placement by a deadline. Players that search for as long
+     * as their time budget allows stop at the deadline or the end of the
+     * budget, whichever comes first; the others ignore the deadline.
+     *
+     * @param board the board holding the freshly spawned brick
+     * @param deadlineNanos {@link System#nanoTime()} by which to return
+     * @return the chosen placement, or null if the brick has no legal placement
+     */
+    default Placement choosePlacement(Board board, long deadlineNanos) {
+        return choosePlacement(board);
+    }
+
+    /**
+     * Gets the earlier of a caller's deadline and the end of a budget
+     * starting now.
+     *
+     * @param deadlineNanos {@link System#nanoTime()} deadline
+     * @param budgetNanos the player's own budget
+     * @return the deadline to search by
+     */
+    static long earlierDeadline(long deadlineNanos, long budgetNanos) {
+        long own = System.nanoTime() + budgetNanos;
+        return deadlineNanos - own < 0 ? deadlineNanos : own;
+    }
+
+    /**
+     * Closes a player if it is {@link AutoCloseable}, ignoring failures.
+     * Only players that own threads are closeable, and there is nothing
+     * to recover if shutting them down fails.
+     *
+     * @param player the player, or null
+     */
+    static void closeQuietly(Player player) {
+        if (player instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                // Nothing to recover
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.comp2042.bot;
+
+/**
+ * Built-in automated players selectable from the command line.
+ */
+public enum PlayerType {
+    RANDOM("Random drops") {
+        @Override
+        public Player create(long seed) {return new RandomPlayer(seed);}
+    },
+    GREEDY("Clear lines, otherwise stay low") {
+        @Override
+        public Player create(long seed) {return new GreedyPlayer();}
+    },
+    HEURISTIC("Weighted Dellacherie/El-Tetris board features") {
+        @Override
+        public Player create(long seed) {return new HeuristicPlayer();}
+    },
+    BEAM("Beam search through the previews and hold") {
+        @Override
+        public Player create(long seed) {return new BeamSearchPlayer();}
+    },
+    PARALLEL("Depth-first search through the previews on every core") {
+        @Override
+        public Player create(long seed) {return new ParallelSearchPlayer();}
+    },
+    MONTE_CARLO("Greedy rollouts over sampled future bags on every core") {
+        @Override
+        public Player create(long seed) {return new MonteCarloPlayer(seed);}
+    };
+
+    private final String description;
+
+    PlayerType(String description) {
+        this.description = description;
+    }
+
+    /**
+     * Creates a new player instance. Players are stateful, so each game
+     * needs its own.
+     *
+     * @param seed seed for players that make random choices
+     * @return a fresh Player
+     */
+    public abstract Player create(long seed);
+
+    /**
+     * Gets the description of this player.
+     * @return short description
+     */
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,36 @@
+package com.comp2042.bot;
+
+import com.comp2042.core.Board;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Baseline player that drops every brick at a uniformly random
+ * reachable rotation and column.
+ */
+public class RandomPlayer implements Player {
+
+    private final Random random;
+
+    /**
+     * Creates a new RandomPlayer.
+     * @param seed seed for the placement choices
+     */
+    public RandomPlayer(long seed) {
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public Placement choosePlacement(Board board) {
+        List<Placement> placements = DropPlacements.enumerate(
+                board.getBoardMatrix(),
+                board.getCurrentBrick(),
+                board.getViewData().getyPosition()
+        );
+        if (placements.isEmpty()) {
+            return null;
+        }
+        return placements.get(random.nextInt(placements.size()));
+    }
+}
@@ -0,0 +1,181 @@
+package com.comp2042.bot;
+
+import com.comp2042.core.SimpleBoard;
+import com.comp2042.sim.GameSimulator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Measures how far {@link ParallelSearchPlayer} searches within a fixed
+ * time budget for several thread counts.
+ *
+ * <p>Every seed plays a game with {@link HeuristicPlayer}; at each of the
+ * first positions, one player per thread count makes a decision on the
+ * same board. All thread counts therefore see identical positions, and
+ * the reported speedup is the node rate relative to the first thread
+ * count. Each player makes a few untimed decisions first so that every
+ * thread count is measured with compiled code.
+ */
+public class SearchBenchmark {
+
+    private static final int WARMUP_DECISIONS = 20;
+
+    private final int[] threadCounts;
+    private final long budgetNanos;
+    private final int positionsPerSeed;
+
+    /**
+     * Creates a new SearchBenchmark.
+     *
+     * @param threadCounts thread counts to compare, the first being the baseline
+     * @param budgetNanos time budget per decision
+     * @param positionsPerSeed decisions measured per seed
+     */
+    public SearchBenchmark(int[] threadCounts, long budgetNanos, int positionsPerSeed) {
+        if (threadCounts.length == 0) {
+            throw new IllegalArgumentException("At least one thread count is required");
+        }
+        if (positionsPerSeed < 1) {
+            throw new IllegalArgumentException("positionsPerSeed must be at least 1");
+        }
+        this.threadCounts = threadCounts.clone();
+        this.budgetNanos = budgetNanos;
+        this.positionsPerSeed = positionsPerSeed;
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param seeds game seeds
+     * @return one row per thread count, in the order given
+     */
+    public List<Row> run(long[] seeds) {
+        ParallelSearchPlayer[] players = new ParallelSearchPlayer[threadCounts.length];
+        long[] depthSum = new long[threadCounts.length];
+        long[] nodes = new long[threadCounts.length];
+        long[] nanos = new long[threadCounts.length];
+        int decisions = 0;
+        try {
+            for (int i = 0; i < players.length; i++) {
+                players[i] = new ParallelSearchPlayer(EvaluationWeights.DEFAULT, threadCounts[i],
+                        ParallelSearchPlayer.DEFAULT_CHILD_WIDTH, budgetNanos);
+            }
+            HeuristicPlayer driver = new HeuristicPlayer();
+            warmUp(players, driver, seeds.length == 0 ? 0 : seeds[0]);
+            for (long seed : seeds) {
+                SimpleBoard board = new SimpleBoard(GameSimulator.BOARD_WIDTH, GameSimulator.BOARD_HEIGHT, seed);
+                if (board.createNewBrick()) {
+                    continue;
+                }
+                for (int position = 0; position < positionsPerSeed; position++) {
+                    for (int i = 0; i < players.length; i++) {
+                        long start = System.nanoTime();
+                        players[i].choosePlacement(board);
+                        nanos[i] += System.nanoTime() - start;
+                        depthSum[i] += players[i].getLastDepth();
+                        nodes[i] += players[i].getLastNodes();
+                    }
+                    decisions++;
+                    if (!advance(board, driver)) {
+                        break;
+                    }
+                }
+            }
+        } finally {
+            for (ParallelSearchPlayer player : players) {
+                if (player != null) {player.close();}
+            }
+        }
+
+        List<Row> rows = new ArrayList<>(threadCounts.length);
+        double baseline = rate(nodes[0], nanos[0]);
+        for (int i = 0; i < threadCounts.length; i++) {
+            double rate = rate(nodes[i], nanos[i]);
+            rows.add(new Row(threadCounts[i], decisions,
+                    decisions == 0 ? 0.0 : (double) depthSum[i] / decisions,
+                    rate, baseline == 0 ? 0.0 : rate / baseline));
+        }
+        return rows;
+    }
+
+    private static void warmUp(ParallelSearchPlayer[] players, Player driver, long seed) {
+        SimpleBoard board = new SimpleBoard(GameSimulator.BOARD_WIDTH, GameSimulator.BOARD_HEIGHT, seed);
+        if (board.createNewBrick()) {
+            return;
+        }
+        for (int decision = 0; decision < WARMUP_DECISIONS; decision++) {
+            for (ParallelSearchPlayer player : players) {
+                player.choosePlacement(board);
+            }
+            if (!advance(board, driver)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Plays one heuristic move and spawns the next brick.
+     *
+     * @return false if the game is over
+     */
+    private static boolean advance(SimpleBoard board, Player driver) {
+        Placement placement = driver.choosePlacement(board);
+        if (placement == null) {
+            return false;
+        }
+        PlacementExecutor.execute(board, placement);
+        board.mergeBrickToBackground();
+        board.clearRows();
+        return !board.checkGameOver() && !board.createNewBrick();
+    }
+
+    private static double rate(long nodes, long nanos) {
+        return nanos == 0 ? 0.0 : nodes * 1e9 / nanos;
+    }
+
+    /**
+     * Averages for one thread count.
+     */
+    public static final class Row {
+
+        private final int threads;
+        private final int decisions;
+        private final double meanDepth;
+        private final double nodesPerSecond;
+        private final double speedup;
+
+        Row(int threads, int decisions, double meanDepth, double nodesPerSecond, double speedup) {
+            this.threads = threads;
+            this.decisions = decisions;
+            this.meanDepth = meanDepth;
+            this.nodesPerSecond = nodesPerSecond;
+            this.speedup = speedup;
+        }
+
+        public int getThreads() {return threads;}
+
+        public int getDecisions() {return decisions;}
+
+        /**
+         * Gets the average number of queue bricks searched through per decision.
+         * @return mean depth
+         */
+        public double getMeanDepth() {return meanDepth;}
+
+        public double getNodesPerSecond() {return nodesPerSecond;}
+
+        /**
+         * Gets the node rate relative to the first thread count.
+         * @return speedup factor
+         */
+        public double getSpeedup() {return speedup;}
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%3d thread%s: depth %.2f, %.0f nodes/s, speedup %.2fx (%d decisions)",
+                    threads, threads == 1 ? " " : "s", meanDepth, nodesPerSecond, speedup, decisions);
+        }
+    }
+}
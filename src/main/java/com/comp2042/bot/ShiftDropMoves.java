@@ -0,0 +1,71 @@
+package com.comp2042.bot;
+
+/**
+ * Enumerates the placements {@link PlacementExecutor} can play: rotate at
+ * spawn (with the engine's wall kicks), shift sideways, then drop.
+ *
+ * <p>Results are written into reused arrays, so a call allocates nothing.
+ * Rotations are recorded as rotate presses from the starting rotation.
+ */
+final class ShiftDropMoves {
+
+    private static final int MAX_ROTATIONS = 4;
+    private static final int SHAPE_MARGIN = 4;
+
+    private final int[] rotation;
+    private final int[] x;
+    private final int[] y;
+    private int count;
+
+    ShiftDropMoves(int width) {
+        int capacity = MAX_ROTATIONS * (width + 2 * SHAPE_MARGIN);
+        this.rotation = new int[capacity];
+        this.x = new int[capacity];
+        this.y = new int[capacity];
+    }
+
+    /**
+     * Lists all placements for a piece in rotation 0 at a start position.
+     *
+     * @param board the board (not modified)
+     * @param piece the piece
+     * @param startX starting horizontal offset
+     * @param startY starting vertical offset
+     * @return number of placements
+     */
+    int generate(BitBoard board, PieceShape piece, int startX, int startY) {
+        count = 0;
+        int r = 0;
+        int sx = startX;
+        for (int presses = 0; presses < piece.getRotations(); presses++) {
+            if (presses > 0) {
+                sx = board.rotate(piece, r, sx, startY);
+                if (sx == BitBoard.ROTATION_BLOCKED) {break;}
+                r = (r + 1) % piece.getRotations();
+            }
+            if (board.collides(piece, r, sx, startY)) {continue;}
+
+            int left = sx;
+            while (!board.collides(piece, r, left - 1, startY)) {left--;}
+            int right = sx;
+            while (!board.collides(piece, r, right + 1, startY)) {right++;}
+
+            for (int targetX = left; targetX <= right; targetX++) {
+                rotation[count] = presses;
+                x[count] = targetX;
+                y[count] = board.dropY(piece, r, targetX, startY);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    int count() {return count;}
+
+    /** Rotate presses, which equals the rotation index for a piece starting in rotation 0. */
+    int rotation(int index) {return rotation[index];}
+
+    int x(int index) {return x[index];}
+
+    int y(int index) {return y[index];}
+}
@@ -0,0 +1,121 @@
+package com.comp2042.bot;
+
+import java.util.Arrays;
+
+/**
+ * Thread-safe transposition table for the parallel search: the key space
+ * is split into independently locked stripes so threads rarely contend.
+ *
+ * <p>Each entry keeps the best path score seen for a position and the
+ * search branch that reached it. A position is worth expanding again only
+ * when it is reached with a better score, or with the same score by a
+ * lower-numbered branch; the tie rule makes the branch that owns each
+ * position independent of thread timing.
+ * Like {@link TranspositionTable}, it is cleared by bumping a stamp and
+ * never grows; keys that find no free slot are reported as new.
+ */
+final class StripedTranspositionTable {
+
+    private static final int MAX_PROBES = 8;
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    /**
+     * Creates a table.
+     *
+     * @param stripeBits log2 of the number of stripes
+     * @param slotBits log2 of the slots per stripe
+     */
+    StripedTranspositionTable(int stripeBits, int slotBits) {
+        if (stripeBits < 0 || stripeBits > 10 || slotBits < 1 || slotBits > 24) {
+            throw new IllegalArgumentException("Unsupported table size");
+        }
+        this.stripes = new Stripe[1 << stripeBits];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe(1 << slotBits);
+        }
+        this.stripeMask = stripes.length - 1;
+    }
+
+    /**
+     * Forgets every entry.
+     */
+    void clear() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    /**
+     * Records a position reached with a path score.
+     *
+     * @param key position key
+     * @param score path score on arrival
+     * @param branch number of the search branch reaching the position
+     * @return true if the position should be expanded by this branch
+     */
+    boolean offer(long key, double score, int branch) {
+        Stripe stripe = stripes[(int) (key >>> 40) & stripeMask];
+        synchronized (stripe) {
+            return stripe.offer(key, score, branch);
+        }
+    }
+
+    /**
+     * Gets the total number of slots.
+     * @return capacity
+     */
+    int capacity() {return stripes.length * stripes[0].keys.length;}
+
+    private static final class Stripe {
+
+        private final long[] keys;
+        private final double[] scores;
+        private final int[] branches;
+        private final int[] stamps;
+        private final int mask;
+        private int stamp = 1;
+
+        Stripe(int slots) {
+            keys = new long[slots];
+            scores = new double[slots];
+            branches = new int[slots];
+            stamps = new int[slots];
+            mask = slots - 1;
+        }
+
+        void clear() {
+            stamp++;
+            if (stamp == 0) {
+                Arrays.fill(stamps, 0);
+                stamp = 1;
+            }
+        }
+
+        boolean offer(long key, double score, int branch) {
+            int index = (int) (key ^ (key >>> 32)) & mask;
+            for (int probe = 0; probe < MAX_PROBES; probe++) {
+                int slot = (index + probe) & mask;
+                if (stamps[slot] != stamp) {
+                    stamps[slot] = stamp;
+                    keys[slot] = key;
+                    scores[slot] = score;
+                    branches[slot] = branch;
+                    return true;
+                }
+                if (keys[slot] == key) {
+                    if (score > scores[slot] || (score == scores[slot] && branch < branches[slot])) {
+                        scores[slot] = score;
+                        branches[slot] = branch;
+                        return true;
+                    }
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
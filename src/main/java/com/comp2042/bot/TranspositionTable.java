@@ -0,0 +1,141 @@
+package com.comp2042.bot;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size, open-addressing set of 64-bit position keys used to skip
+ * search states that were already reached another way. Each key can also
+ * carry an int value, such as where the search stored that state.
+ *
+ * <p>Entries are tagged with a generation stamp, so {@link #clear()} is
+ * O(1) and the table never allocates after construction. When every slot
+ * in a probe window is taken the key is simply not recorded: the search
+ * may then expand a duplicate, but it never fails or grows.
+ */
+final class TranspositionTable {
+
+    private static final int MAX_PROBES = 8;
+
+    private final long[] keys;
+    private final int[] values;
+    private final int[] stamps;
+    private final int mask;
+    private int stamp = 1;
+
+    /**
+     * Creates a table with {@code 2^bits} slots.
+     * @param bits log2 of the slot count
+     */
+    TranspositionTable(int bits) {
+        if (bits < 1 || bits > 28) {
+            throw new IllegalArgumentException("bits must be between 1 and 28");
+        }
+        this.keys = new long[1 << bits];
+        this.values = new int[1 << bits];
+        this.stamps = new int[1 << bits];
+        this.mask = (1 << bits) - 1;
+    }
+
+    /**
+     * Forgets every key.
+     */
+    void clear() {
+        stamp++;
+        if (stamp == 0) {
+            // Stamp wrapped around: old entries could look current again
+            Arrays.fill(stamps, 0);
+            stamp = 1;
+        }
+    }
+
+    /**
+     * Records a key.
+     *
+     * @param key position key
+     * @return true if the key was not present (including when the table
+     *         had no room to record it)
+     */
+    boolean add(long key) {
+        int index = (int) (key ^ (key >>> 32)) & mask;
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            int slot = (index + probe) & mask;
+            if (stamps[slot] != stamp) {
+                stamps[slot] = stamp;
+                keys[slot] = key;
+                return true;
+            }
+            if (keys[slot] == key) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records a key with a value, replacing the value if the key is present.
+     * If there is no room the key is not recorded and {@link #get(long)}
+     * keeps reporting it absent.
+     *
+     * @param key position key
+     * @param value value to store
+     */
+    void put(long key, int value) {
+        int index = (int) (key ^ (key >>> 32)) & mask;
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            int slot = (index + probe) & mask;
+            if (stamps[slot] != stamp || keys[slot] == key) {
+                stamps[slot] = stamp;
+                keys[slot] = key;
+                values[slot] = value;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Gets the value recorded with a key.
+     *
+     * @param key position key
+     * @return the value given to {@link #put(long, int)} since the last
+     *         clear, or -1 if the key is absent
+     */
+    int get(long key) {
+        int index = (int) (key ^ (key >>> 32)) & mask;
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            int slot = (index + probe) & mask;
+            if (stamps[slot] != stamp) {
+                return -1;
+            }
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks for a key without recording it.
+     *
+     * @param key position key
+     * @return true if the key was added since the last clear
+     */
+    boolean contains(long key) {
+        int index = (int) (key ^ (key >>> 32)) & mask;
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            int slot = (index + probe) & mask;
+            if (stamps[slot] != stamp) {
+                return false;
+            }
+            if (keys[slot] == key) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the number of slots.
+     * @return capacity
+     */
+    int capacity() {return keys.length;}
+}
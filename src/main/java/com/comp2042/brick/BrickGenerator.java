@@ -23,4 +23,16 @@ public interface BrickGenerator {
      * @return list of upcoming bricks
      */
     List<Brick> getNextBricks(int count);
+
+    /**
+     * Gets the bricks already dealt from the bag the next brick comes
+     * from, in dealing order, so that players can work out which pieces
+     * the bag still holds.
+     *
+     * @return dealt bricks of the current bag, or null if the generator
+     *         does not deal from bags
+     */
+    default List<Brick> getDealtFromBag() {
+        return null;
+    }
 }
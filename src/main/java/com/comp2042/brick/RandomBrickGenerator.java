@@ -6,7 +6,7 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.Random;
 
 /**
  * Random brick generator using the 7-bag randomization system.
@@ -19,14 +19,32 @@ import java.util.concurrent.ThreadLocalRandom;
 public class RandomBrickGenerator implements BrickGenerator {
 
     private final Deque<Brick> nextBricks = new ArrayDeque<>();
+    private final List<Brick> dealtFromBag = new ArrayList<>();
+    private final Random random;
 
     private static final int QUEUE_SIZE = 14; // Keep 2 bags worth (2 × 7 = 14)
+    private static final int BAG_SIZE = 7;
 
     /**
      * Creates a new random brick generator.
      * Initializes with two full bags (14 pieces) in the queue.
      */
     public RandomBrickGenerator() {
+        this(new Random());
+    }
+
+    /**
+     * Creates a seeded generator whose piece sequence is fully reproducible.
+     * Used by headless simulations so that a game can be replayed from its seed.
+     *
+     * @param seed the seed for the bag shuffler
+     */
+    public RandomBrickGenerator(long seed) {
+        this(new Random(seed));
+    }
+
+    private RandomBrickGenerator(Random random) {
+        this.random = random;
         // Initialize with 2 full bags
         fillBag();
         fillBag();
@@ -45,7 +63,27 @@ public class RandomBrickGenerator implements BrickGenerator {
             fillBag();
         }
 
-        return nextBricks.poll();
+        // Bags are queued whole, so every seventh brick starts a new one
+        if (dealtFromBag.size() == BAG_SIZE) {
+            dealtFromBag.clear();
+        }
+        Brick brick = nextBricks.poll();
+        dealtFromBag.add(brick);
+        return brick;
+    }
+
+    /**
+     * Gets the bricks dealt so far from the bag the next brick belongs to.
+     * Empty when the next brick starts a new bag.
+     *
+     * @return dealt bricks in dealing order
+     */
+    @Override
+    public List<Brick> getDealtFromBag() {
+        if (dealtFromBag.size() == BAG_SIZE) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(dealtFromBag);
     }
 
     /**
@@ -91,7 +129,7 @@ public class RandomBrickGenerator implements BrickGenerator {
 
         // Shuffle the bag using Fisher-Yates algorithm
         for (int i = bag.size() - 1; i > 0; i--) {
-            int j = ThreadLocalRandom.current().nextInt(i + 1);
+            int j = random.nextInt(i + 1);
             // Swap
             Brick temp = bag.get(i);
             bag.set(i, bag.get(j));
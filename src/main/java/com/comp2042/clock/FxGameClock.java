@@ -0,0 +1,111 @@
+package com.comp2042.clock;
+
+import javafx.animation.Animation;
+import javafx.animation.AnimationTimer;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.util.Duration;
+
+/**
+ * Clock backed by the system time and the JavaFX animation pulse. Tasks
+ * are {@link Timeline}s and frame callbacks an {@link AnimationTimer}, so
+ * they run on the JavaFX application thread.
+ */
+public final class FxGameClock implements GameClock {
+
+    @Override
+    public long millis() {return System.currentTimeMillis();}
+
+    @Override
+    public ScheduledTask repeat(long periodMillis, int cycles, Runnable action) {
+        if (periodMillis <= 0) {
+            throw new IllegalArgumentException("periodMillis must be positive: " + periodMillis);
+        }
+        if (cycles < 1 && cycles != INDEFINITE) {
+            throw new IllegalArgumentException("cycles must be positive or INDEFINITE: " + cycles);
+        }
+        Timeline timeline = new Timeline(new KeyFrame(Duration.millis(periodMillis), event -> action.run()));
+        timeline.setCycleCount(cycles == INDEFINITE ? Animation.INDEFINITE : cycles);
+        timeline.play();
+        return new TimelineTask(timeline);
+    }
+
+    @Override
+    public ScheduledTask everyFrame(Runnable action) {
+        FrameTask task = new FrameTask(action);
+        task.resume();
+        return task;
+    }
+
+    private static final class TimelineTask implements ScheduledTask {
+
+        private final Timeline timeline;
+        private boolean cancelled;
+
+        TimelineTask(Timeline timeline) {
+            this.timeline = timeline;
+        }
+
+        @Override
+        public void pause() {
+            if (isActive()) {timeline.pause();}
+        }
+
+        @Override
+        public void resume() {
+            if (!cancelled && timeline.getStatus() == Animation.Status.PAUSED) {timeline.play();}
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            timeline.stop();
+        }
+
+        @Override
+        public boolean isActive() {
+            return !cancelled && timeline.getStatus() == Animation.Status.RUNNING;
+        }
+    }
+
+    private static final class FrameTask extends AnimationTimer implements ScheduledTask {
+
+        private final Runnable action;
+        private boolean running;
+        private boolean cancelled;
+
+        FrameTask(Runnable action) {
+            this.action = action;
+        }
+
+        @Override
+        public void handle(long now) {
+            action.run();
+        }
+
+        @Override
+        public void pause() {
+            if (running) {
+                running = false;
+                stop();
+            }
+        }
+
+        @Override
+        public void resume() {
+            if (!running && !cancelled) {
+                running = true;
+                start();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            pause();
+        }
+
+        @Override
+        public boolean isActive() {return running;}
+    }
+}
@@ -0,0 +1,59 @@
+package com.comp2042.clock;
+
+/**
+ * Source of time and timers for the game loop.
+ *
+ * <p>Gravity, lock delay, the countdown and the two-minute limit all read
+ * the time and schedule their callbacks through a clock instead of calling
+ * {@link System#currentTimeMillis()} or building JavaFX animations
+ * themselves. The application uses {@link FxGameClock}; tests use
+ * {@link VirtualGameClock}, which only moves when it is advanced, so a
+ * whole timed game runs in milliseconds and the same way every time.
+ *
+ * <p>Callbacks run on the thread that drives the clock: the JavaFX
+ * application thread for {@link FxGameClock}, the caller of
+ * {@link VirtualGameClock#advance(long)} for the virtual one.
+ */
+public interface GameClock {
+
+    /**
+     * Cycle count for a task that repeats until it is cancelled.
+     */
+    int INDEFINITE = -1;
+
+    /**
+     * Gets the current time.
+     * @return milliseconds; only differences between readings are meaningful
+     */
+    long millis();
+
+    /**
+     * Runs an action once after a delay.
+     *
+     * @param delayMillis delay in milliseconds, positive
+     * @param action the action to run
+     * @return a handle to pause or cancel the task
+     */
+    default ScheduledTask schedule(long delayMillis, Runnable action) {
+        return repeat(delayMillis, 1, action);
+    }
+
+    /**
+     * Runs an action at the end of each period, the first one period from
+     * now.
+     *
+     * @param periodMillis period in milliseconds, positive
+     * @param cycles how many times to run, or {@link #INDEFINITE}
+     * @param action the action to run
+     * @return a handle to pause or cancel the task
+     */
+    ScheduledTask repeat(long periodMillis, int cycles, Runnable action);
+
+    /**
+     * Runs an action on every rendered frame until it is cancelled.
+     *
+     * @param action the action to run
+     * @return a handle to pause or cancel the task
+     */
+    ScheduledTask everyFrame(Runnable action);
+}
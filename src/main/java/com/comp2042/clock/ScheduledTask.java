@@ -0,0 +1,30 @@
+package com.comp2042.clock;
+
+/**
+ * Handle to a task scheduled on a {@link GameClock}.
+ */
+public interface ScheduledTask {
+
+    /**
+     * Stops the task and keeps how far it was into its current period, so
+     * that {@link #resume()} carries on from there. Does nothing if the
+     * task is not running.
+     */
+    void pause();
+
+    /**
+     * Continues a paused task. Does nothing if the task is not paused.
+     */
+    void resume();
+
+    /**
+     * Stops the task for good; it cannot be resumed.
+     */
+    void cancel();
+
+    /**
+     * Checks whether the task will run again without being resumed.
+     * @return false once it is paused, cancelled or has run all its cycles
+     */
+    boolean isActive();
+}
@@ -0,0 +1,188 @@
+package com.comp2042.clock;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Clock that stands still until {@link #advance(long)} moves it. Tasks
+ * that fall due on the way run in order of their due time, ties in the
+ * order they were scheduled, and see {@link #millis()} read exactly their
+ * due time; tasks they schedule run in the same advance if they fall due
+ * before it ends. Frames come every {@code frameMillis}.
+ *
+ * <p>Nothing depends on the wall clock or another thread, so a timed game
+ * driven by this clock runs as fast as its callbacks and gives the same
+ * result on every run.
+ *
+ * <pre>
+ * VirtualGameClock clock = new VirtualGameClock();
+ * TimerManager timers = new TimerManager(gameState, display::add, clock);
+ * timers.startGameTimer();
+ * clock.advance(120_000);
+ * </pre>
+ */
+public final class VirtualGameClock implements GameClock {
+
+    /**
+     * Frame period used by the no-argument constructor, about 60 frames
+     * per second.
+     */
+    public static final long DEFAULT_FRAME_MILLIS = 16;
+
+    private static final Comparator<VirtualTask> DUE_ORDER =
+            Comparator.<VirtualTask>comparingLong(task -> task.due).thenComparingLong(task -> task.sequence);
+
+    private final long frameMillis;
+    private final PriorityQueue<VirtualTask> queue = new PriorityQueue<>(DUE_ORDER);
+    private long now;
+    private long nextSequence;
+    private boolean advancing;
+
+    /**
+     * Creates a clock at time zero with frames every
+     * {@value #DEFAULT_FRAME_MILLIS} ms.
+     */
+    public VirtualGameClock() {
+        this(0, DEFAULT_FRAME_MILLIS);
+    }
+
+    /**
+     * Creates a clock.
+     *
+     * @param startMillis the time the clock reads before it is advanced
+     * @param frameMillis time between frames, positive
+     */
+    public VirtualGameClock(long startMillis, long frameMillis) {
+        if (frameMillis <= 0) {
+            throw new IllegalArgumentException("frameMillis must be positive: " + frameMillis);
+        }
+        this.now = startMillis;
+        this.frameMillis = frameMillis;
+    }
+
+    @Override
+    public long millis() {return now;}
+
+    @Override
+    public ScheduledTask repeat(long periodMillis, int cycles, Runnable action) {
+        if (periodMillis <= 0) {
+            throw new IllegalArgumentException("periodMillis must be positive: " + periodMillis);
+        }
+        if (cycles < 1 && cycles != INDEFINITE) {
+            throw new IllegalArgumentException("cycles must be positive or INDEFINITE: " + cycles);
+        }
+        if (action == null) {
+            throw new IllegalArgumentException("action must not be null");
+        }
+        VirtualTask task = new VirtualTask(periodMillis, cycles, action);
+        task.arm(periodMillis);
+        return task;
+    }
+
+    @Override
+    public ScheduledTask everyFrame(Runnable action) {
+        return repeat(frameMillis, INDEFINITE, action);
+    }
+
+    /**
+     * Moves the clock forward, running every task that falls due on the
+     * way.
+     *
+     * @param millis how far to move, not negative
+     * @return the number of task runs
+     */
+    public int advance(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("millis must not be negative: " + millis);
+        }
+        if (advancing) {
+            throw new IllegalStateException("advance called from a task");
+        }
+        long target = now + millis;
+        int runs = 0;
+        advancing = true;
+        try {
+            while (!queue.isEmpty() && queue.peek().due <= target) {
+                VirtualTask task = queue.poll();
+                now = task.due;
+                task.fire();
+                runs++;
+            }
+        } finally {
+            advancing = false;
+        }
+        now = target;
+        return runs;
+    }
+
+    /**
+     * Gets the number of tasks waiting to run. Paused tasks are not
+     * counted.
+     * @return task count
+     */
+    public int getPendingCount() {return queue.size();}
+
+    private final class VirtualTask implements ScheduledTask {
+
+        private final long period;
+        private final Runnable action;
+        private int cyclesLeft;
+        private long due;
+        private long sequence;
+        private long remaining;
+        private boolean queued;
+        private boolean paused;
+        private boolean cancelled;
+
+        VirtualTask(long period, int cycles, Runnable action) {
+            this.period = period;
+            this.cyclesLeft = cycles;
+            this.action = action;
+        }
+
+        void arm(long delay) {
+            due = now + delay;
+            sequence = nextSequence++;
+            queued = true;
+            queue.add(this);
+        }
+
+        void fire() {
+            queued = false;
+            if (cyclesLeft != INDEFINITE) {cyclesLeft--;}
+            if (cyclesLeft != 0) {arm(period);}
+            action.run();
+        }
+
+        @Override
+        public void pause() {
+            if (queued) {
+                queue.remove(this);
+                queued = false;
+                remaining = due - now;
+                paused = true;
+            }
+        }
+
+        @Override
+        public void resume() {
+            if (paused && !cancelled) {
+                paused = false;
+                arm(remaining);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            paused = false;
+            if (queued) {
+                queue.remove(this);
+                queued = false;
+            }
+        }
+
+        @Override
+        public boolean isActive() {return queued;}
+    }
+}
@@ -0,0 +1,49 @@
+package com.comp2042.controller;
+
+import com.comp2042.model.ViewData;
+import com.comp2042.ui.initialization.GuiController;
+import javafx.beans.property.IntegerProperty;
+
+/**
+ * GUI controller with no window, so that a {@link GameController} can run
+ * without the JavaFX toolkit. It keeps the listener the controller
+ * registers and ignores every drawing call. The soak runner plays through
+ * it, and the test stub extends it to record which calls were made.
+ */
+public class HeadlessGuiController extends GuiController {
+
+    private InputEventListener listener;
+
+    @Override
+    public void initialize(java.net.URL location, java.util.ResourceBundle resources) {
+    }
+
+    @Override
+    public void setEventListener(InputEventListener listener) {this.listener = listener;}
+
+    @Override
+    public void initGameView(int[][] boardMatrix, ViewData brick) {
+    }
+
+    @Override
+    public void bindScore(IntegerProperty prop) {
+    }
+
+    @Override
+    public void updateNextDisplay() {
+    }
+
+    @Override
+    public void refreshGameBackground(int[][] boardMatrix) {
+    }
+
+    @Override
+    public void gameOver() {
+    }
+
+    /**
+     * Gets the listener the game controller registered.
+     * @return the listener, or null before one registered
+     */
+    public InputEventListener getListener() {return listener;}
+}
@@ -2,6 +2,7 @@ package com.comp2042.controller;
 
 import com.comp2042.ui.initialization.GuiController;
 import com.comp2042.model.GameMode;
+import com.comp2042.ui.render.AttractModeRenderer;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -23,9 +24,14 @@ public class MainMenuController {
     @FXML private Button howToPlayButton;
     @FXML private Button exitButton;
     @FXML private StackPane howToPlayPanel;
+    @FXML private StackPane menuRoot;
+
+    private AttractModeRenderer attractMode;
 
     @FXML
     public void initialize() {
+        startAttractMode();
+
         // Mode Buttons with NEW colors
         setupButton(normalModeButton, "#EAE2B7"); // Beige
         setupButton(fortyLinesButton, "#FCBF49"); // Orange-Yellow
@@ -36,6 +42,17 @@ public class MainMenuController {
         setupButton(exitButton, "#ff4444");       // Red
     }
 
+    /**
+     * Plays an auto-played game behind the menu buttons until a game is
+     * started. The game also checks the engine on every brick.
+     */
+    private void startAttractMode() {
+        if (menuRoot == null) return;
+        attractMode = new AttractModeRenderer(System.nanoTime());
+        menuRoot.getChildren().add(0, attractMode.getCanvas());
+        attractMode.start();
+    }
+
     private void setupButton(Button btn, String colorHex) {
         if (btn == null) return;
         // Base Style
@@ -129,6 +146,9 @@ public class MainMenuController {
     }
 
     private void startGame(ActionEvent event, GameMode mode) {
+        if (attractMode != null) {
+            attractMode.stop();
+        }
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/gameLayout.fxml"));
             Parent root = loader.load();
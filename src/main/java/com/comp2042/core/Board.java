@@ -83,6 +83,12 @@ public interface Board {
      */
     boolean holdCurrentBrick();
 
+    /**
+     * Checks whether hold is allowed for the current brick.
+     * @return true if the current brick has not been swapped yet
+     */
+    boolean canHold();
+
     /**
      * Gets the shape matrix of the held brick.
      * @return 2D array of held brick, or empty array if none
@@ -97,6 +103,13 @@ public interface Board {
      */
     List<int[][]> getNextBricksData(int count);
 
+    /**
+     * Gets the bricks already dealt from the bag the next brick comes from.
+     *
+     * @return shape matrices in dealing order, or null if the pieces are not dealt from bags
+     */
+    List<int[][]> getDealtFromBagData();
+
     /**
      * Gets the number of pieces placed on the board.
      *
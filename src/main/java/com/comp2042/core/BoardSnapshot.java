@@ -0,0 +1,133 @@
+package com.comp2042.core;
+
+import com.comp2042.brick.Brick;
+import com.comp2042.model.ClearRow;
+import com.comp2042.model.ViewData;
+import com.comp2042.state.Score;
+
+import java.util.List;
+
+/**
+ * Read-only copy of everything a player can see of a board: the stack,
+ * the current brick and where it is, the hold slot and the previews.
+ *
+ * <p>A snapshot is taken on the game thread and can then be searched on
+ * another thread while the game moves on. The query methods answer from
+ * the copy; moving, locking and spawning bricks throw
+ * {@link UnsupportedOperationException}.
+ */
+public final class BoardSnapshot implements Board {
+
+    /** Previews kept in a snapshot, as many as the game shows. */
+    public static final int PREVIEW_COUNT = 5;
+
+    private final int[][] matrix;
+    private final ViewData viewData;
+    private final Brick currentBrick;
+    private final int[][] holdBrickData;
+    private final boolean canHold;
+    private final List<int[][]> nextBricks;
+    private final List<int[][]> dealtFromBag;
+    private final int piecesPlaced;
+    private final int linesCleared;
+
+    private BoardSnapshot(Board board) {
+        this.matrix = MatrixOperations.copy(board.getBoardMatrix());
+        ViewData view = board.getViewData();
+        this.viewData = new ViewData(view.getBrickData(), view.getxPosition(), view.getyPosition(),
+                view.getNextBrickData());
+        this.currentBrick = board.getCurrentBrick();
+        this.holdBrickData = MatrixOperations.copy(board.getHoldBrickData());
+        this.canHold = board.canHold();
+        this.nextBricks = MatrixOperations.deepCopyList(board.getNextBricksData(PREVIEW_COUNT));
+        List<int[][]> dealt = board.getDealtFromBagData();
+        this.dealtFromBag = dealt == null ? null : MatrixOperations.deepCopyList(dealt);
+        this.piecesPlaced = board.getPiecesPlaced();
+        this.linesCleared = board.getLinesCleared();
+    }
+
+    /**
+     * Copies the visible state of a board.
+     *
+     * @param board the board, read on the calling thread
+     * @return a snapshot that no longer changes with the board
+     */
+    public static BoardSnapshot of(Board board) {
+        return new BoardSnapshot(board);
+    }
+
+    @Override
+    public boolean moveBrickDown() {throw readOnly();}
+
+    @Override
+    public boolean moveBrickLeft() {throw readOnly();}
+
+    @Override
+    public boolean moveBrickRight() {throw readOnly();}
+
+    @Override
+    public boolean rotateLeftBrick() {throw readOnly();}
+
+    @Override
+    public boolean createNewBrick() {throw readOnly();}
+
+    @Override
+    public boolean checkGameOver() {
+        for (int cell : matrix[0]) {
+            if (cell != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int[][] getBoardMatrix() {return matrix;}
+
+    @Override
+    public ViewData getViewData() {return viewData;}
+
+    @Override
+    public void mergeBrickToBackground() {throw readOnly();}
+
+    @Override
+    public ClearRow clearRows() {throw readOnly();}
+
+    @Override
+    public Score getScore() {throw readOnly();}
+
+    @Override
+    public void newGame() {throw readOnly();}
+
+    @Override
+    public boolean holdCurrentBrick() {throw readOnly();}
+
+    @Override
+    public boolean canHold() {return canHold;}
+
+    @Override
+    public int[][] getHoldBrickData() {return MatrixOperations.copy(holdBrickData);}
+
+    @Override
+    public List<int[][]> getNextBricksData(int count) {
+        return MatrixOperations.deepCopyList(nextBricks.subList(0, Math.min(count, nextBricks.size())));
+    }
+
+    @Override
+    public List<int[][]> getDealtFromBagData() {
+        return dealtFromBag == null ? null : MatrixOperations.deepCopyList(dealtFromBag);
+    }
+
+    @Override
+    public int getPiecesPlaced() {return piecesPlaced;}
+
+    @Override
+    public int getLinesCleared() {return linesCleared;}
+
+    @Override
+    public Brick getCurrentBrick() {return currentBrick;}
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Board snapshots are read-only");
+    }
+}
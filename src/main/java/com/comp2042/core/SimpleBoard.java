@@ -1,13 +1,16 @@
 package com.comp2042.core;
 
 import com.comp2042.brick.Brick;
+import com.comp2042.brick.BrickGenerator;
 import com.comp2042.brick.BrickRotator;
+import com.comp2042.brick.RandomBrickGenerator;
 import com.comp2042.core.board.*;
 import com.comp2042.model.*;
 import com.comp2042.state.Score;
 
 import java.awt.Point;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Main board implementation that coordinates all board-related operations.
@@ -27,6 +30,9 @@ import java.util.List;
 
 public class SimpleBoard implements Board {
 
+    /** Cell value of garbage rows; outside the brick colour codes 1-7. */
+    public static final int GARBAGE_COLOR = 8;
+
     private final int width;
     private final int height;
 
@@ -40,6 +46,29 @@ public class SimpleBoard implements Board {
     private final Score score;
 
     public SimpleBoard(int width, int height) {
+        this(width, height, RandomBrickGenerator::new);
+    }
+
+    /**
+     * Creates a board whose piece sequence is determined by the given seed.
+     * Every {@link #newGame()} replays the same sequence.
+     *
+     * @param width board width in cells
+     * @param height board height in cells
+     * @param seed seed for the 7-bag generator
+     */
+    public SimpleBoard(int width, int height, long seed) {
+        this(width, height, () -> new RandomBrickGenerator(seed));
+    }
+
+    /**
+     * Creates a board that takes its brick generators from a factory.
+     *
+     * @param width board width in cells
+     * @param height board height in cells
+     * @param generatorFactory supplies a fresh generator for each game
+     */
+    public SimpleBoard(int width, int height, Supplier<BrickGenerator> generatorFactory) {
         this.width = width;
         this.height = height;
 
@@ -49,7 +78,7 @@ public class SimpleBoard implements Board {
         this.stateManager = new BoardStateManager(width, height);
         this.brickMover = new BrickMover(width, brickRotator, stateManager);
 
-        this.brickSpawner = new BrickSpawner(width, brickRotator, stateManager, brickMover);
+        this.brickSpawner = new BrickSpawner(width, brickRotator, stateManager, brickMover, generatorFactory);
 
         this.rotationHandler = new BrickRotationHandler(width, height, brickRotator, stateManager, brickMover);
         this.holdManager = new HoldManager(width, brickRotator, brickSpawner, brickMover);
@@ -141,6 +170,18 @@ public class SimpleBoard implements Board {
         createNewBrick();
     }
 
+    /**
+     * Adds garbage rows below the stack, as received in a head-to-head
+     * battle. Call between locking a brick and spawning the next one.
+     *
+     * @param count number of rows to add
+     * @param holeColumn column left empty in every added row
+     * @return true if the stack was pushed off the top
+     */
+    public boolean addGarbageRows(int count, int holeColumn) {
+        return stateManager.addGarbageRows(count, holeColumn, GARBAGE_COLOR);
+    }
+
     @Override
     public boolean checkGameOver() {
         return stateManager.checkGameOver();
@@ -151,6 +192,11 @@ public class SimpleBoard implements Board {
         return holdManager.holdCurrentBrick();
     }
 
+    @Override
+    public boolean canHold() {
+        return holdManager.canHold();
+    }
+
     @Override
     public int[][] getHoldBrickData() {
         return holdManager.getHoldBrickData();
@@ -160,4 +206,9 @@ public class SimpleBoard implements Board {
     public List<int[][]> getNextBricksData(int count) {
         return brickSpawner.getNextBricksData(count);
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<int[][]> getDealtFromBagData() {
+        return brickSpawner.getDealtFromBagData();
+    }
+}
@@ -4,6 +4,7 @@ import com.comp2042.model.ClearRow;
 import com.comp2042.core.MatrixOperations;
 
 import java.awt.Point;
+import java.util.Arrays;
 
 /**
  * Manages the game board matrix state including merging bricks,
@@ -87,6 +88,42 @@ public class BoardStateManager {
         return clearRow;
     }
 
+    /**
+     * Pushes the stack up and fills the bottom rows with garbage, each row
+     * full except for one hole in the same column.
+     *
+     * @param count number of rows to add
+     * @param holeColumn column left empty in every added row
+     * @param color cell value of the garbage
+     * @return true if filled cells were pushed off the top of the board
+     */
+    public boolean addGarbageRows(int count, int holeColumn, int color) {
+        if (holeColumn < 0 || holeColumn >= width) {
+            throw new IllegalArgumentException("holeColumn out of range: " + holeColumn);
+        }
+        int rows = Math.min(count, height);
+        boolean overflow = false;
+        for (int row = 0; row < rows && !overflow; row++) {
+            for (int cell : currentGameMatrix[row]) {
+                if (cell != 0) {
+                    overflow = true;
+                    break;
+                }
+            }
+        }
+        int[][] next = new int[height][];
+        for (int row = 0; row < height - rows; row++) {
+            next[row] = currentGameMatrix[row + rows];
+        }
+        for (int row = height - rows; row < height; row++) {
+            next[row] = new int[width];
+            Arrays.fill(next[row], color);
+            next[row][holeColumn] = 0;
+        }
+        currentGameMatrix = next;
+        return overflow;
+    }
+
     /**
      * Checks if the game is over by examining the top row.
      * @return true if any blocks exist in the top row
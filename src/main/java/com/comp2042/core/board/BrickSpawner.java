@@ -8,6 +8,7 @@ import com.comp2042.brick.RandomBrickGenerator;
 import java.awt.Point;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Handles brick creation and next brick preview management.
@@ -23,6 +24,7 @@ public class BrickSpawner {
     private final BoardStateManager stateManager;
     private final BrickMover brickMover;  // Added reference to BrickMover
 
+    private final Supplier<BrickGenerator> generatorFactory;
     private BrickGenerator brickGenerator;
 
     /**
@@ -35,11 +37,28 @@ public class BrickSpawner {
      */
     public BrickSpawner(int boardWidth, BrickRotator brickRotator,
                         BoardStateManager stateManager, BrickMover brickMover) {
+        this(boardWidth, brickRotator, stateManager, brickMover, RandomBrickGenerator::new);
+    }
+
+    /**
+     * Creates a new BrickSpawner that draws its generators from a factory.
+     * The factory is invoked again on every {@link #reset()}.
+     *
+     * @param boardWidth width of the game board
+     * @param brickRotator brick rotator for setting new bricks
+     * @param stateManager board state for spawn collision checks
+     * @param brickMover brick mover for positioning new bricks
+     * @param generatorFactory supplies the brick generator for each game
+     */
+    public BrickSpawner(int boardWidth, BrickRotator brickRotator,
+                        BoardStateManager stateManager, BrickMover brickMover,
+                        Supplier<BrickGenerator> generatorFactory) {
         this.boardWidth = boardWidth;
         this.brickRotator = brickRotator;
         this.stateManager = stateManager;
         this.brickMover = brickMover;  // Store reference
-        this.brickGenerator = new RandomBrickGenerator();
+        this.generatorFactory = generatorFactory;
+        this.brickGenerator = generatorFactory.get();
     }
 
     /**
@@ -103,11 +122,29 @@ public class BrickSpawner {
         return nextBricks;
     }
 
+    /**
+     * Gets shape data for the bricks already dealt from the current bag.
+     * @return shape matrices in dealing order, or null if the generator does not use bags
+     */
+    public List<int[][]> getDealtFromBagData() {
+        List<Brick> bricks = brickGenerator.getDealtFromBag();
+        if (bricks == null) {
+            return null;
+        }
+        List<int[][]> dealt = new ArrayList<>();
+        for (Brick brick : bricks) {
+            if (isValidBrick(brick)) {
+                dealt.add(brick.getShapeMatrix().get(0));
+            }
+        }
+        return dealt;
+    }
+
     private boolean isValidBrick(Brick brick) {
         return brick != null
                 && brick.getShapeMatrix() != null
                 && !brick.getShapeMatrix().isEmpty();
     }
 
-    public void reset() {brickGenerator = new RandomBrickGenerator();}
+    public void reset() {brickGenerator = generatorFactory.get();}
 }
\ No newline at end of file
@@ -96,6 +96,12 @@ public class HoldManager {
         return new int[EMPTY_HOLD_SIZE][EMPTY_HOLD_SIZE];
     }
 
+    /**
+     * Checks whether hold is currently allowed.
+     * @return true if the current brick may be held
+     */
+    public boolean canHold() {return canHold;}
+
     /**
      * Sets whether hold is currently allowed.
      * @param canHold true to enable hold, false to disable
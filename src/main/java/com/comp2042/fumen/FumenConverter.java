@@ -0,0 +1,260 @@
+package com.comp2042.fumen;
+
+import com.comp2042.bot.PieceShape;
+import com.comp2042.bot.Placement;
+import com.comp2042.sim.GameSimulator;
+import com.comp2042.sim.TrainingDataReader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Converts between fumen strings and the engine's one-line text form of a
+ * sequence of positions, and exports recorded games as fumen.
+ *
+ * <p>In the text form a line holds the pages separated by ';'. A page is
+ * its field as rows top to bottom separated by '/', in the letters of
+ * {@link FumenPiece#getLetter()} with the empty rows above the stack left
+ * out, then optionally {@code @} and the piece as
+ * {@link FumenOperation#toString()} writes it, then optionally {@code #}
+ * and the comment, escaped so that it holds no ';'. A page without a
+ * comment keeps the one before it. For example
+ * {@code XXXXXX..XX/XXXXXXX.XX@T,reverse,7,1#TSD;XXXXXX.XXX}.
+ *
+ * <p>Batches are split into chunks converted in parallel on a fork/join
+ * pool; each string is decoded in one pass without building a matrix per
+ * page.
+ */
+public final class FumenConverter {
+
+    private static final int CHUNK = 256;
+
+    private final int parallelism;
+
+    /**
+     * Creates a new FumenConverter.
+     *
+     * @param parallelism number of worker threads
+     */
+    public FumenConverter(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Converts a fumen string to a line of text.
+     *
+     * @param fumen fumen v115 data
+     * @return the pages as text
+     * @throws IllegalArgumentException if the data is malformed
+     */
+    public static String toText(CharSequence fumen) {
+        FumenReader reader = new FumenReader(fumen);
+        StringBuilder out = new StringBuilder();
+        String comment = "";
+        while (reader.next()) {
+            if (reader.getPageIndex() > 0) {out.append(';');}
+            reader.getField().appendRows(out);
+            if (reader.getOperation() != null) {out.append('@').append(reader.getOperation());}
+            if (!reader.getComment().equals(comment)) {
+                comment = reader.getComment();
+                out.append('#').append(FumenFormat.escape(comment));
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Converts a line of text to a fumen string.
+     *
+     * @param text pages as {@link #toText} writes them
+     * @return fumen v115 data
+     * @throws IllegalArgumentException if the text is malformed
+     */
+    public static String toFumen(CharSequence text) {
+        FumenWriter writer = new FumenWriter();
+        FumenField field = new FumenField();
+        int start = 0;
+        while (start <= text.length()) {
+            int end = start;
+            while (end < text.length() && text.charAt(end) != ';') {end++;}
+            int commentAt = indexOf(text, '#', start, end);
+            int operationAt = indexOf(text, '@', start, commentAt);
+            field.loadRows(text, start, operationAt);
+            FumenOperation operation = operationAt < commentAt
+                    ? FumenOperation.parse(text.subSequence(operationAt + 1, commentAt).toString()) : null;
+            String comment = commentAt < end
+                    ? FumenFormat.unescape(text.subSequence(commentAt + 1, end)) : null;
+            writer.addPage(field, operation, comment);
+            start = end + 1;
+        }
+        return writer.toString();
+    }
+
+    private static int indexOf(CharSequence text, char c, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (text.charAt(i) == c) {return i;}
+        }
+        return to;
+    }
+
+    /**
+     * Converts fumen strings to lines of text in parallel.
+     *
+     * @param fumens fumen v115 data, one per entry
+     * @return the text of each, in the same order
+     * @throws IllegalArgumentException naming the first malformed entry
+     */
+    public List<String> toText(List<String> fumens) {
+        return convert(fumens, true);
+    }
+
+    /**
+     * Converts lines of text to fumen strings in parallel.
+     *
+     * @param lines pages as {@link #toText} writes them, one line per entry
+     * @return the fumen of each, in the same order
+     * @throws IllegalArgumentException naming the first malformed entry
+     */
+    public List<String> toFumen(List<String> lines) {
+        return convert(lines, false);
+    }
+
+    private List<String> convert(List<String> input, boolean decode) {
+        String[] output = new String[input.size()];
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new ConvertTask(input, output, decode, 0, input.size()));
+        } finally {
+            pool.shutdown();
+        }
+        return Arrays.asList(output);
+    }
+
+    /**
+     * Splits a range of entries in half until it is one chunk.
+     */
+    private static final class ConvertTask extends RecursiveAction {
+
+        private final List<String> input;
+        private final String[] output;
+        private final boolean decode;
+        private final int from;
+        private final int to;
+
+        ConvertTask(List<String> input, String[] output, boolean decode, int from, int to) {
+            this.input = input;
+            this.output = output;
+            this.decode = decode;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK) {
+                for (int i = from; i < to; i++) {
+                    try {
+                        output[i] = decode ? toText(input.get(i)) : toFumen(input.get(i));
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("Entry " + (i + 1) + ": " + e.getMessage(), e);
+                    }
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ConvertTask(input, output, decode, from, mid),
+                    new ConvertTask(input, output, decode, mid, to));
+        }
+    }
+
+    /**
+     * Exports every game recorded in training shards as one fumen string
+     * per game. Each page shows the stack and the piece placed on it; the
+     * stack takes the colours of the pieces placed before it, and cells
+     * the replay cannot account for, such as garbage, are gray. A game is
+     * cut off at the first placement that reaches above the 23 rows a
+     * fumen field can show. The shards are read in order, since a game
+     * may continue into the next shard.
+     *
+     * @param shards shard files, for example from
+     *               {@link TrainingDataReader#shards(Path, String)}
+     * @return one fumen per game, in recording order
+     * @throws IOException if a shard cannot be read
+     */
+    public static List<String> exportGames(List<Path> shards) throws IOException {
+        List<String> games = new ArrayList<>();
+        FumenWriter writer = null;
+        FumenField field = new FumenField();
+        int[] xs = new int[4];
+        int[] ys = new int[4];
+        long gameId = 0;
+        boolean cutOff = false;
+        for (Path shard : shards) {
+            try (TrainingDataReader reader = TrainingDataReader.open(shard)) {
+                while (reader.next()) {
+                    if (writer == null || reader.getGameId() != gameId) {
+                        if (writer != null && writer.getPageCount() > 0) {games.add(writer.toString());}
+                        writer = new FumenWriter();
+                        gameId = reader.getGameId();
+                        cutOff = false;
+                    }
+                    if (cutOff) {continue;}
+                    cutOff = !loadStack(reader, writer, field) || !pieceCells(reader, xs, ys);
+                    if (!cutOff) {
+                        FumenPiece piece = FumenPiece.ofLetter(reader.getPiece().getLetter());
+                        writer.addPage(field, FumenOperation.ofCells(piece, xs, ys), null);
+                    }
+                }
+            }
+        }
+        if (writer != null && writer.getPageCount() > 0) {games.add(writer.toString());}
+        return games;
+    }
+
+    /** Sets the field to the recorded stack, keeping the colours the writer's replay gave it. */
+    private static boolean loadStack(TrainingDataReader reader, FumenWriter writer, FumenField field) {
+        field.copyFrom(writer.getLockedField());
+        byte[] cells = field.cells;
+        for (int row = 0; row < GameSimulator.BOARD_HEIGHT; row++) {
+            int y = GameSimulator.BOARD_HEIGHT - 1 - row;
+            int mask = reader.row(row);
+            if (y >= FumenField.HEIGHT) {
+                if (mask != 0) {return false;}
+                continue;
+            }
+            int from = (FumenField.HEIGHT - 1 - y) * FumenField.WIDTH;
+            for (int x = 0; x < FumenField.WIDTH; x++) {
+                boolean filled = (mask >>> x & 1) != 0;
+                if (filled != (cells[from + x] != 0)) {
+                    cells[from + x] = (byte) (filled ? FumenPiece.GRAY.ordinal() : 0);
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean pieceCells(TrainingDataReader reader, int[] xs, int[] ys) {
+        PieceShape piece = reader.getPiece();
+        Placement placement = reader.getPlacement();
+        int n = 0;
+        for (int row = 0; row < piece.size(); row++) {
+            int mask = piece.rowMask(placement.getRotation(), row);
+            for (int col = 0; col < piece.size(); col++) {
+                if ((mask >>> col & 1) == 0) {continue;}
+                xs[n] = placement.getX() + col;
+                ys[n] = GameSimulator.BOARD_HEIGHT - 1 - (placement.getY() + row);
+                if (ys[n] >= FumenField.HEIGHT) {return false;}
+                n++;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,276 @@
+package com.comp2042.fumen;
+
+import com.comp2042.core.SimpleBoard;
+
+import java.util.Arrays;
+
+/**
+ * The 10x23 field of a fumen page, plus the garbage row below the floor
+ * that a page can raise into the field.
+ *
+ * <p>Cells are held as fumen codes in one array, in the order the format
+ * stores them: from the top left, row by row, with the garbage row last.
+ * Rows are counted from the floor, 0 being the bottom row of the field and
+ * -1 the garbage row. A field converts to and from the cell matrix of a
+ * board, aligned at the bottom, and to a text of rows written top to
+ * bottom, for example {@code T........./TT......../TIIII.....}, with
+ * empty rows above the stack left out.
+ */
+public final class FumenField {
+
+    public static final int WIDTH = 10;
+    public static final int HEIGHT = 23;
+
+    /** Index of the first garbage-row cell. */
+    private static final int GARBAGE = HEIGHT * WIDTH;
+
+    private static final FumenPiece[] PIECES = FumenPiece.values();
+
+    final byte[] cells = new byte[(HEIGHT + 1) * WIDTH];
+
+    /**
+     * Creates an empty field.
+     */
+    public FumenField() {
+    }
+
+    /**
+     * Creates a field from rows of text.
+     *
+     * @param rows rows top to bottom separated by '/', using the letters of
+     *             {@link FumenPiece#getLetter()}; the last row is the floor
+     * @return the field
+     */
+    public static FumenField parse(CharSequence rows) {
+        FumenField field = new FumenField();
+        field.loadRows(rows, 0, rows.length());
+        return field;
+    }
+
+    private static int index(int x, int y) {
+        if (x < 0 || x >= WIDTH || y < -1 || y >= HEIGHT) {
+            throw new IndexOutOfBoundsException("Cell " + x + "," + y + " is outside the field");
+        }
+        return (HEIGHT - 1 - y) * WIDTH + x;
+    }
+
+    public FumenPiece get(int x, int y) {return PIECES[cells[index(x, y)]];}
+
+    public void set(int x, int y, FumenPiece piece) {cells[index(x, y)] = (byte) piece.ordinal();}
+
+    /**
+     * Empties every cell, including the garbage row.
+     */
+    public void clear() {Arrays.fill(cells, (byte) 0);}
+
+    /**
+     * Copies every cell of another field.
+     *
+     * @param other field to copy
+     */
+    public void copyFrom(FumenField other) {System.arraycopy(other.cells, 0, cells, 0, cells.length);}
+
+    /**
+     * Checks whether the field and the garbage row are empty.
+     * @return true if no cell is filled
+     */
+    public boolean isEmpty() {
+        for (byte cell : cells) {
+            if (cell != 0) {return false;}
+        }
+        return true;
+    }
+
+    /**
+     * Fills the cells of a piece with its type.
+     *
+     * @param operation piece to place
+     * @throws IllegalArgumentException if a mino is outside the field
+     */
+    public void put(FumenOperation operation) {
+        byte code = (byte) operation.getPiece().ordinal();
+        for (int mino = 0; mino < 4; mino++) {
+            int x = operation.getCellX(mino);
+            int y = operation.getCellY(mino);
+            if (x < 0 || x >= WIDTH || y < 0 || y >= HEIGHT) {
+                throw new IllegalArgumentException(operation + " is outside the field");
+            }
+            cells[(HEIGHT - 1 - y) * WIDTH + x] = code;
+        }
+    }
+
+    /**
+     * Removes the full rows of the field and drops the rows above them.
+     * @return number of rows removed
+     */
+    public int clearLines() {
+        int target = GARBAGE;
+        for (int from = GARBAGE - WIDTH; from >= 0; from -= WIDTH) {
+            if (isFull(from)) {continue;}
+            target -= WIDTH;
+            if (target != from) {System.arraycopy(cells, from, cells, target, WIDTH);}
+        }
+        Arrays.fill(cells, 0, target, (byte) 0);
+        return target / WIDTH;
+    }
+
+    private boolean isFull(int from) {
+        for (int i = from; i < from + WIDTH; i++) {
+            if (cells[i] == 0) {return false;}
+        }
+        return true;
+    }
+
+    /**
+     * Pushes the field up one row, moving the garbage row onto the floor
+     * and emptying it. The top row is lost.
+     */
+    public void rise() {
+        System.arraycopy(cells, WIDTH, cells, 0, GARBAGE);
+        Arrays.fill(cells, GARBAGE, cells.length, (byte) 0);
+    }
+
+    /**
+     * Flips the field left to right; the garbage row is left as it is.
+     */
+    public void mirror() {
+        for (int from = 0; from < GARBAGE; from += WIDTH) {
+            for (int left = from, right = from + WIDTH - 1; left < right; left++, right--) {
+                byte cell = cells[left];
+                cells[left] = cells[right];
+                cells[right] = cell;
+            }
+        }
+    }
+
+    /**
+     * Sets the field from a board matrix, aligned at the bottom. The
+     * garbage row is emptied.
+     *
+     * @param matrix cell values by row, top row first, {@value #WIDTH} wide
+     * @throws IllegalArgumentException if a filled cell is above the top
+     *         of the field
+     */
+    public void load(int[][] matrix) {
+        checkWidth(matrix);
+        Arrays.fill(cells, (byte) 0);
+        for (int row = 0; row < matrix.length; row++) {
+            int y = matrix.length - 1 - row;
+            int[] cellsOfRow = matrix[row];
+            for (int x = 0; x < WIDTH; x++) {
+                if (cellsOfRow[x] == 0) {continue;}
+                if (y >= HEIGHT) {
+                    throw new IllegalArgumentException("Row " + row + " is above the " + HEIGHT + " rows of a fumen field");
+                }
+                cells[(HEIGHT - 1 - y) * WIDTH + x] = (byte) FumenPiece.ofColor(cellsOfRow[x]).ordinal();
+            }
+        }
+    }
+
+    /**
+     * Writes the field into a board matrix, aligned at the bottom; rows of
+     * the matrix above the field are emptied.
+     *
+     * @param matrix cell values by row, top row first, {@value #WIDTH} wide
+     * @throws IllegalArgumentException if the matrix is too low for the stack
+     */
+    public void copyTo(int[][] matrix) {
+        checkWidth(matrix);
+        for (int from = 0; from < (HEIGHT - matrix.length) * WIDTH; from++) {
+            if (cells[from] != 0) {
+                throw new IllegalArgumentException("The stack is higher than the " + matrix.length + "-row matrix");
+            }
+        }
+        for (int row = 0; row < matrix.length; row++) {
+            int y = matrix.length - 1 - row;
+            int[] cellsOfRow = matrix[row];
+            if (y >= HEIGHT) {
+                Arrays.fill(cellsOfRow, 0);
+                continue;
+            }
+            int from = (HEIGHT - 1 - y) * WIDTH;
+            for (int x = 0; x < WIDTH; x++) {cellsOfRow[x] = PIECES[cells[from + x]].getColor();}
+        }
+    }
+
+    /**
+     * Replaces the stack of a board with this field, as a puzzle setup.
+     * The current brick is left where it is, so call this after
+     * {@link SimpleBoard#newGame()}.
+     *
+     * @param board a board {@value #WIDTH} cells wide
+     */
+    public void copyTo(SimpleBoard board) {copyTo(board.getBoardMatrix());}
+
+    private static void checkWidth(int[][] matrix) {
+        if (matrix.length > 0 && matrix[0].length != WIDTH) {
+            throw new IllegalArgumentException("Fumen fields are " + WIDTH + " cells wide, not " + matrix[0].length);
+        }
+    }
+
+    /**
+     * Sets the field from rows of text; the garbage row is emptied.
+     *
+     * @param text text holding the rows
+     * @param from index of the first character of the rows
+     * @param to index after the last character
+     */
+    void loadRows(CharSequence text, int from, int to) {
+        Arrays.fill(cells, (byte) 0);
+        if (from == to) {return;}
+        int rows = 1;
+        for (int i = from; i < to; i++) {
+            if (text.charAt(i) == '/') {rows++;}
+        }
+        if (rows > HEIGHT) {
+            throw new IllegalArgumentException(rows + " rows do not fit in a fumen field");
+        }
+        int at = (HEIGHT - rows) * WIDTH;
+        int column = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c == '/') {
+                if (column != WIDTH) {break;}
+                column = 0;
+                continue;
+            }
+            if (column == WIDTH) {break;}
+            cells[at++] = (byte) FumenPiece.ofLetter(c).ordinal();
+            column++;
+        }
+        if (column != WIDTH || at != GARBAGE) {
+            throw new IllegalArgumentException("Field rows must be " + WIDTH + " cells wide: "
+                    + text.subSequence(from, to));
+        }
+    }
+
+    /**
+     * Appends the rows of the field as text, from the highest filled row
+     * down to the floor; nothing for an empty field.
+     *
+     * @param out text to append to
+     */
+    void appendRows(StringBuilder out) {
+        int from = 0;
+        while (from < GARBAGE && cells[from] == 0) {from++;}
+        for (int row = from - from % WIDTH; row < GARBAGE; row += WIDTH) {
+            if (row != from - from % WIDTH) {out.append('/');}
+            for (int x = 0; x < WIDTH; x++) {out.append(PIECES[cells[row + x]].getLetter());}
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof FumenField && Arrays.equals(cells, ((FumenField) o).cells);
+    }
+
+    @Override
+    public int hashCode() {return Arrays.hashCode(cells);}
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder();
+        appendRows(out);
+        return out.toString();
+    }
+}
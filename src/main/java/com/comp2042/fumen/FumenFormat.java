@@ -0,0 +1,113 @@
+package com.comp2042.fumen;
+
+import java.util.Arrays;
+
+/**
+ * Constants and text helpers of the fumen v115 format shared by
+ * {@link FumenReader} and {@link FumenWriter}.
+ *
+ * <p>Numbers are written little-endian in base 64, one character per
+ * digit. Comments are first escaped the way JavaScript's {@code escape}
+ * does, then packed four printable characters to five digits.
+ */
+final class FumenFormat {
+
+    static final String PREFIX = "v115@";
+    static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+    static final int BASE = 64;
+    /** Cells of the field plus the garbage row below it, as one page stores them. */
+    static final int FIELD_BLOCKS = (FumenField.HEIGHT + 1) * FumenField.WIDTH;
+    /** Field difference code that leaves a cell unchanged. */
+    static final int UNCHANGED = 8;
+    static final int COMMENT_BASE = 96;
+    static final int MAX_COMMENT = BASE * BASE - 1;
+    /** Characters between the '?' line breaks fumen puts in long data. */
+    static final int FIRST_LINE = 42;
+    static final int LINE = 47;
+
+    private static final byte[] DIGITS = new byte[128];
+    private static final String SAFE = "@*_+-./";
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    static {
+        Arrays.fill(DIGITS, (byte) -1);
+        for (int i = 0; i < BASE; i++) {DIGITS[ALPHABET.charAt(i)] = (byte) i;}
+    }
+
+    private FumenFormat() {
+    }
+
+    /**
+     * Gets the value of one base-64 digit.
+     *
+     * @param c data character
+     * @return 0-63, or -1 if the character is not a digit
+     */
+    static int digit(char c) {
+        return c < DIGITS.length ? DIGITS[c] : -1;
+    }
+
+    /**
+     * Escapes a comment as JavaScript's {@code escape} does.
+     *
+     * @param text comment
+     * @return printable ASCII text
+     */
+    static String escape(String text) {
+        StringBuilder out = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 128 && (Character.isLetterOrDigit(c) || SAFE.indexOf(c) >= 0)) {
+                out.append(c);
+            } else if (c < 256) {
+                out.append('%').append(HEX[c >> 4]).append(HEX[c & 15]);
+            } else {
+                out.append("%u").append(HEX[c >> 12]).append(HEX[c >> 8 & 15])
+                        .append(HEX[c >> 4 & 15]).append(HEX[c & 15]);
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Reverses {@link #escape}; a '%' not followed by a valid escape is kept.
+     *
+     * @param text escaped comment
+     * @return the comment
+     */
+    static String unescape(CharSequence text) {
+        StringBuilder out = new StringBuilder(text.length());
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (c == '%') {
+                int value = i + 1 < text.length() && text.charAt(i + 1) == 'u' ? hex(text, i + 2, 4) : -1;
+                if (value >= 0) {
+                    out.append((char) value);
+                    i += 6;
+                    continue;
+                }
+                value = hex(text, i + 1, 2);
+                if (value >= 0) {
+                    out.append((char) value);
+                    i += 3;
+                    continue;
+                }
+            }
+            out.append(c);
+            i++;
+        }
+        return out.toString();
+    }
+
+    private static int hex(CharSequence text, int from, int digits) {
+        if (from + digits > text.length()) {return -1;}
+        int value = 0;
+        for (int i = from; i < from + digits; i++) {
+            int d = Character.digit(text.charAt(i), 16);
+            if (d < 0) {return -1;}
+            value = value << 4 | d;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,205 @@
+package com.comp2042.fumen;
+
+import java.util.Locale;
+
+/**
+ * A tetromino shown on a fumen page: its type, orientation and the cell of
+ * its rotation centre, with x from the left wall and y from the floor.
+ *
+ * <p>The centre follows the guideline rotation system. The format itself
+ * stores the older fumen centre, which differs for some orientations of
+ * I, O, S and Z; {@link #getPosition()} and {@link #ofPosition} convert.
+ */
+public final class FumenOperation {
+
+    /**
+     * Orientation of a piece, in the order of the fumen rotation codes.
+     */
+    public enum Rotation {
+        REVERSE, RIGHT, SPAWN, LEFT;
+
+        private static final Rotation[] BY_CODE = values();
+
+        /**
+         * Looks up an orientation by name.
+         *
+         * @param name spawn, right, reverse or left (either case)
+         * @return the orientation
+         */
+        public static Rotation parse(String name) {
+            for (Rotation rotation : BY_CODE) {
+                if (rotation.name().equalsIgnoreCase(name)) {return rotation;}
+            }
+            throw new IllegalArgumentException("Unknown rotation " + name);
+        }
+    }
+
+    private final FumenPiece piece;
+    private final Rotation rotation;
+    private final int x;
+    private final int y;
+
+    /**
+     * Creates a new FumenOperation.
+     *
+     * @param piece a tetromino
+     * @param rotation orientation
+     * @param x column of the rotation centre
+     * @param y row of the rotation centre, 0 at the floor
+     */
+    public FumenOperation(FumenPiece piece, Rotation rotation, int x, int y) {
+        if (!piece.isMino()) {
+            throw new IllegalArgumentException(piece + " is not a tetromino");
+        }
+        this.piece = piece;
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Decodes the position stored in a page.
+     *
+     * @param piece a tetromino
+     * @param rotation orientation
+     * @param position cell of the fumen centre, counted from the top left
+     *                 of the field
+     * @return the operation
+     */
+    static FumenOperation ofPosition(FumenPiece piece, Rotation rotation, int position) {
+        return new FumenOperation(piece, rotation,
+                position % FumenField.WIDTH + centerShiftX(piece, rotation),
+                FumenField.HEIGHT - 1 - position / FumenField.WIDTH + centerShiftY(piece, rotation));
+    }
+
+    /**
+     * Encodes the position for a page.
+     * @return cell of the fumen centre, counted from the top left of the field
+     */
+    int getPosition() {
+        int fumenX = x - centerShiftX(piece, rotation);
+        int fumenY = y - centerShiftY(piece, rotation);
+        return (FumenField.HEIGHT - 1 - fumenY) * FumenField.WIDTH + fumenX;
+    }
+
+    // The fumen centre keeps one cell for every orientation with the same
+    // shape, so these pieces move from it as the guideline centre turns.
+    private static int centerShiftX(FumenPiece piece, Rotation rotation) {
+        return switch (piece) {
+            case O -> rotation == Rotation.REVERSE || rotation == Rotation.LEFT ? 1 : 0;
+            case I -> rotation == Rotation.REVERSE ? 1 : 0;
+            case S -> rotation == Rotation.RIGHT ? -1 : 0;
+            case Z -> rotation == Rotation.LEFT ? 1 : 0;
+            default -> 0;
+        };
+    }
+
+    private static int centerShiftY(FumenPiece piece, Rotation rotation) {
+        return switch (piece) {
+            case O -> rotation == Rotation.SPAWN || rotation == Rotation.LEFT ? -1 : 0;
+            case I -> rotation == Rotation.LEFT ? -1 : 0;
+            case S, Z -> rotation == Rotation.SPAWN ? -1 : 0;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Finds the operation that covers exactly the given cells. Where two
+     * orientations cover the same cells, the first of spawn, right,
+     * reverse and left is chosen.
+     *
+     * @param piece a tetromino
+     * @param xs columns of the four cells
+     * @param ys rows of the four cells, 0 at the floor
+     * @return the operation, or null if the cells are not that piece
+     */
+    public static FumenOperation ofCells(FumenPiece piece, int[] xs, int[] ys) {
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        for (int i = 0; i < xs.length; i++) {
+            minX = Math.min(minX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+        }
+        for (Rotation rotation : new Rotation[]{Rotation.SPAWN, Rotation.RIGHT, Rotation.REVERSE, Rotation.LEFT}) {
+            int offsetMinX = Integer.MAX_VALUE;
+            int offsetMinY = Integer.MAX_VALUE;
+            for (int mino = 0; mino < 4; mino++) {
+                offsetMinX = Math.min(offsetMinX, piece.offsetX(rotation, mino));
+                offsetMinY = Math.min(offsetMinY, piece.offsetY(rotation, mino));
+            }
+            FumenOperation candidate = new FumenOperation(piece, rotation, minX - offsetMinX, minY - offsetMinY);
+            if (candidate.covers(xs, ys)) {return candidate;}
+        }
+        return null;
+    }
+
+    private boolean covers(int[] xs, int[] ys) {
+        if (xs.length != 4) {return false;}
+        for (int mino = 0; mino < 4; mino++) {
+            boolean found = false;
+            for (int i = 0; i < 4 && !found; i++) {
+                found = xs[i] == getCellX(mino) && ys[i] == getCellY(mino);
+            }
+            if (!found) {return false;}
+        }
+        return true;
+    }
+
+    /**
+     * Parses the text form written by {@link #toString()}.
+     *
+     * @param text piece letter, rotation name, x and y separated by commas,
+     *             for example {@code T,spawn,4,0}
+     * @return the operation
+     */
+    public static FumenOperation parse(String text) {
+        String[] parts = text.split(",");
+        if (parts.length != 4 || parts[0].length() != 1) {
+            throw new IllegalArgumentException("Expected piece,rotation,x,y but got '" + text + "'");
+        }
+        return new FumenOperation(FumenPiece.ofLetter(parts[0].charAt(0)), Rotation.parse(parts[1]),
+                Integer.parseInt(parts[2]), Integer.parseInt(parts[3]));
+    }
+
+    /**
+     * Gets the column of one mino.
+     *
+     * @param mino mino index 0-3
+     * @return column
+     */
+    public int getCellX(int mino) {return x + piece.offsetX(rotation, mino);}
+
+    /**
+     * Gets the row of one mino.
+     *
+     * @param mino mino index 0-3
+     * @return row, 0 at the floor
+     */
+    public int getCellY(int mino) {return y + piece.offsetY(rotation, mino);}
+
+    public FumenPiece getPiece() {return piece;}
+
+    public Rotation getRotation() {return rotation;}
+
+    public int getX() {return x;}
+
+    public int getY() {return y;}
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {return true;}
+        if (!(o instanceof FumenOperation)) {return false;}
+        FumenOperation other = (FumenOperation) o;
+        return piece == other.piece && rotation == other.rotation && x == other.x && y == other.y;
+    }
+
+    @Override
+    public int hashCode() {
+        return ((piece.ordinal() * 4 + rotation.ordinal()) * 31 + x) * 31 + y;
+    }
+
+    @Override
+    public String toString() {
+        return piece.getLetter() + "," + rotation.name().toLowerCase(Locale.ROOT) + "," + x + "," + y;
+    }
+}
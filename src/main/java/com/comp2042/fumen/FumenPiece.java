@@ -0,0 +1,143 @@
+package com.comp2042.fumen;
+
+import com.comp2042.bot.PieceShape;
+import com.comp2042.core.SimpleBoard;
+
+/**
+ * Cell and piece types of the fumen format, in the order of their codes.
+ *
+ * <p>Each tetromino also carries its mino offsets around the rotation
+ * centre in spawn orientation, with y pointing up, as the guideline
+ * rotation system defines them. {@link #GRAY} appears only in fields.
+ */
+public enum FumenPiece {
+
+    EMPTY('.'),
+    I('I', 0, 0, -1, 0, 1, 0, 2, 0),
+    L('L', 0, 0, -1, 0, 1, 0, 1, 1),
+    O('O', 0, 0, 1, 0, 0, 1, 1, 1),
+    Z('Z', 0, 0, 1, 0, 0, 1, -1, 1),
+    T('T', 0, 0, -1, 0, 1, 0, 0, 1),
+    J('J', 0, 0, -1, 0, 1, 0, -1, 1),
+    S('S', 0, 0, -1, 0, 0, 1, 1, 1),
+    GRAY('X');
+
+    private static final FumenPiece[] BY_CODE = values();
+    private static final FumenPiece[] BY_COLOR = new FumenPiece[SimpleBoard.GARBAGE_COLOR + 1];
+
+    static {
+        for (FumenPiece piece : BY_CODE) {BY_COLOR[piece.color] = piece;}
+    }
+
+    private final char letter;
+    private final int color;
+    private final int[] spawnOffsets;
+
+    FumenPiece(char letter, int... spawnOffsets) {
+        this.letter = letter;
+        this.spawnOffsets = spawnOffsets;
+        if (spawnOffsets.length > 0) {
+            this.color = PieceShape.ofLetter(letter).getColor();
+        } else {
+            this.color = letter == '.' ? 0 : SimpleBoard.GARBAGE_COLOR;
+        }
+    }
+
+    /**
+     * Looks up a type by its fumen code.
+     *
+     * @param code 0 for empty, 1-7 for I, L, O, Z, T, J, S and 8 for gray
+     * @return the type
+     */
+    public static FumenPiece ofCode(int code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Unknown fumen piece " + code);
+        }
+        return BY_CODE[code];
+    }
+
+    /**
+     * Looks up the type of a board cell.
+     *
+     * @param color cell value of a board matrix; values other than the
+     *              brick colours 1-7 count as garbage
+     * @return the type, {@link #EMPTY} for 0
+     */
+    public static FumenPiece ofColor(int color) {
+        return color >= 0 && color < BY_COLOR.length ? BY_COLOR[color] : GRAY;
+    }
+
+    /**
+     * Looks up a type by its letter.
+     *
+     * @param letter '.', one of I, L, O, Z, T, J, S or X for gray (either case)
+     * @return the type
+     */
+    public static FumenPiece ofLetter(char letter) {
+        char upper = Character.toUpperCase(letter);
+        for (FumenPiece piece : BY_CODE) {
+            if (piece.letter == upper) {return piece;}
+        }
+        throw new IllegalArgumentException("Unknown fumen cell '" + letter + "'");
+    }
+
+    /**
+     * Gets the fumen code.
+     * @return 0-8
+     */
+    public int getCode() {return ordinal();}
+
+    /**
+     * Gets the board cell value of this type.
+     * @return brick colour code, {@link SimpleBoard#GARBAGE_COLOR} for gray or 0
+     */
+    public int getColor() {return color;}
+
+    /**
+     * Gets the letter used for the type in text.
+     * @return '.', a piece letter or X
+     */
+    public char getLetter() {return letter;}
+
+    /**
+     * Checks whether this is one of the seven tetrominoes.
+     * @return false for {@link #EMPTY} and {@link #GRAY}
+     */
+    public boolean isMino() {return spawnOffsets.length > 0;}
+
+    /**
+     * Gets the column of one mino relative to the rotation centre.
+     *
+     * @param rotation orientation
+     * @param mino mino index, 0 for the centre
+     * @return column offset
+     */
+    public int offsetX(FumenOperation.Rotation rotation, int mino) {
+        int dx = spawnOffsets[2 * mino];
+        int dy = spawnOffsets[2 * mino + 1];
+        return switch (rotation) {
+            case SPAWN -> dx;
+            case RIGHT -> dy;
+            case REVERSE -> -dx;
+            case LEFT -> -dy;
+        };
+    }
+
+    /**
+     * Gets the row of one mino relative to the rotation centre, counting up.
+     *
+     * @param rotation orientation
+     * @param mino mino index, 0 for the centre
+     * @return row offset
+     */
+    public int offsetY(FumenOperation.Rotation rotation, int mino) {
+        int dx = spawnOffsets[2 * mino];
+        int dy = spawnOffsets[2 * mino + 1];
+        return switch (rotation) {
+            case SPAWN -> dy;
+            case RIGHT -> -dx;
+            case REVERSE -> -dy;
+            case LEFT -> dx;
+        };
+    }
+}
@@ -0,0 +1,218 @@
+package com.comp2042.fumen;
+
+/**
+ * Decodes the pages of a fumen v115 string one at a time.
+ *
+ * <p>The reader is a cursor: {@link #next()} decodes the following page
+ * into one field that every page shares, applying the page's changes to
+ * what the previous page left behind, and the getters describe the
+ * current page. Nothing is allocated per page apart from the piece and
+ * changed comments, so a long replay is read in a single pass over its
+ * text.
+ *
+ * <pre>
+ * FumenReader reader = new FumenReader(text);
+ * while (reader.next()) {
+ *     ... reader.getField(), reader.getOperation(), reader.getComment() ...
+ * }
+ * </pre>
+ *
+ * A page whose piece is locked adds the piece to the field, clears full
+ * rows and then, if flagged, raises the garbage row and mirrors the
+ * field; the next page starts from the result.
+ */
+public final class FumenReader {
+
+    private static final FumenOperation.Rotation[] ROTATIONS = FumenOperation.Rotation.values();
+
+    private final String data;
+    private final int end;
+    private final FumenField field = new FumenField();
+    private final StringBuilder commentChars = new StringBuilder();
+
+    private int at;
+    private int page = -1;
+    private int repeatPages;
+    private FumenOperation operation;
+    private boolean lock;
+    private boolean rise;
+    private boolean mirror;
+    private String comment = "";
+
+    /**
+     * Creates a reader positioned before the first page.
+     *
+     * @param fumen fumen data starting with {@code v115@}, on its own or
+     *              as part of a link
+     * @throws IllegalArgumentException if there is no v115 data
+     */
+    public FumenReader(CharSequence fumen) {
+        this.data = fumen.toString();
+        int start = data.indexOf(FumenFormat.PREFIX);
+        if (start < 0) {
+            throw new IllegalArgumentException("Not v115 fumen data: " + abbreviate(data));
+        }
+        int last = data.length();
+        while (last > start && Character.isWhitespace(data.charAt(last - 1))) {last--;}
+        this.at = start + FumenFormat.PREFIX.length();
+        this.end = last;
+    }
+
+    private static String abbreviate(String text) {
+        return text.length() <= 40 ? text : text.substring(0, 40) + "...";
+    }
+
+    /**
+     * Moves to the next page.
+     *
+     * @return false once every page has been read
+     * @throws IllegalArgumentException if the data is malformed
+     */
+    public boolean next() {
+        if (page >= 0 && lock) {
+            if (operation != null) {field.put(operation);}
+            field.clearLines();
+            if (rise) {field.rise();}
+            if (mirror) {field.mirror();}
+        }
+        while (at < end && data.charAt(at) == '?') {at++;}
+        if (at >= end) {
+            lock = false;
+            return false;
+        }
+        page++;
+        if (repeatPages > 0) {
+            repeatPages--;
+        } else {
+            readField();
+        }
+        readAction();
+        return true;
+    }
+
+    private void readField() {
+        byte[] cells = field.cells;
+        int index = 0;
+        while (index < FumenFormat.FIELD_BLOCKS) {
+            int run = poll(2);
+            int diff = run / FumenFormat.FIELD_BLOCKS;
+            int count = run % FumenFormat.FIELD_BLOCKS + 1;
+            if (index + count > FumenFormat.FIELD_BLOCKS || diff > 2 * FumenFormat.UNCHANGED) {
+                throw malformed("field run overflows the field");
+            }
+            if (diff == FumenFormat.UNCHANGED && count == FumenFormat.FIELD_BLOCKS) {
+                repeatPages = poll(1);
+            }
+            if (diff != FumenFormat.UNCHANGED) {
+                for (int i = index; i < index + count; i++) {
+                    int cell = cells[i] + diff - FumenFormat.UNCHANGED;
+                    if (cell < 0 || cell > FumenPiece.GRAY.ordinal()) {
+                        throw malformed("cell value " + cell);
+                    }
+                    cells[i] = (byte) cell;
+                }
+            }
+            index += count;
+        }
+    }
+
+    private void readAction() {
+        int value = poll(3);
+        int type = value % 8;
+        value /= 8;
+        FumenOperation.Rotation rotation = ROTATIONS[value % 4];
+        value /= 4;
+        int position = value % FumenFormat.FIELD_BLOCKS;
+        value /= FumenFormat.FIELD_BLOCKS;
+        rise = (value & 1) != 0;
+        mirror = (value & 2) != 0;
+        boolean hasComment = (value & 8) != 0;
+        lock = (value & 16) == 0;
+        operation = type == 0 ? null : FumenOperation.ofPosition(FumenPiece.ofCode(type), rotation, position);
+        if (hasComment) {
+            readComment();
+        }
+    }
+
+    private void readComment() {
+        int length = poll(2);
+        commentChars.setLength(0);
+        for (int i = 0; i < length; i += 4) {
+            int value = poll(5);
+            for (int c = 0; c < 4; c++) {
+                commentChars.append((char) (' ' + value % FumenFormat.COMMENT_BASE));
+                value /= FumenFormat.COMMENT_BASE;
+            }
+        }
+        commentChars.setLength(length);
+        comment = FumenFormat.unescape(commentChars);
+    }
+
+    /** Reads a number of {@code digits} base-64 digits, skipping line breaks. */
+    private int poll(int digits) {
+        int value = 0;
+        int scale = 1;
+        for (int i = 0; i < digits; i++) {
+            while (at < end && data.charAt(at) == '?') {at++;}
+            if (at >= end) {
+                throw malformed("data ends early");
+            }
+            int digit = FumenFormat.digit(data.charAt(at));
+            if (digit < 0) {
+                throw malformed("unexpected character '" + data.charAt(at) + "'");
+            }
+            at++;
+            value += digit * scale;
+            scale *= FumenFormat.BASE;
+        }
+        return value;
+    }
+
+    private IllegalArgumentException malformed(String reason) {
+        return new IllegalArgumentException("Malformed fumen page " + (page + 1) + ": " + reason);
+    }
+
+    /**
+     * Gets the number of the current page.
+     * @return page index, 0 for the first
+     */
+    public int getPageIndex() {return page;}
+
+    /**
+     * Gets the field of the current page, before its piece is locked. The
+     * same object is updated by every call to {@link #next()}.
+     * @return the shared field
+     */
+    public FumenField getField() {return field;}
+
+    /**
+     * Gets the piece shown on the current page.
+     * @return the piece, or null if the page has none
+     */
+    public FumenOperation getOperation() {return operation;}
+
+    /**
+     * Gets the comment of the current page; a page without its own comment
+     * keeps the one before it.
+     * @return the comment, empty if there is none
+     */
+    public String getComment() {return comment;}
+
+    /**
+     * Checks whether the piece is locked into the field for the next page.
+     * @return true if the next page starts from the locked field
+     */
+    public boolean isLock() {return lock;}
+
+    /**
+     * Checks whether the garbage row rises after the lock.
+     * @return true if the field is pushed up
+     */
+    public boolean isRise() {return rise;}
+
+    /**
+     * Checks whether the field is mirrored after the lock.
+     * @return true if the field is flipped left to right
+     */
+    public boolean isMirror() {return mirror;}
+}
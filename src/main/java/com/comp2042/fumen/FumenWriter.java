@@ -0,0 +1,177 @@
+package com.comp2042.fumen;
+
+/**
+ * Encodes pages into a fumen v115 string.
+ *
+ * <p>Every page stores only how its field differs from the field the
+ * page before it left behind, with runs of equal differences written as
+ * one number, and a run of pages that change nothing costs one character
+ * for up to 64 pages. Pieces are always locked: the next page starts from
+ * the page's field with its piece added and full rows cleared.
+ *
+ * <pre>
+ * FumenWriter writer = new FumenWriter();
+ * writer.addPage(field, new FumenOperation(FumenPiece.T, FumenOperation.Rotation.SPAWN, 4, 0), "TSD");
+ * String fumen = writer.toString();
+ * </pre>
+ */
+public final class FumenWriter {
+
+    private static final int UNCHANGED_FIELD = FumenFormat.UNCHANGED * FumenFormat.FIELD_BLOCKS
+            + FumenFormat.FIELD_BLOCKS - 1;
+
+    private final StringBuilder data = new StringBuilder();
+    private final FumenField locked = new FumenField();
+    private final FumenField scratch = new FumenField();
+
+    private int pages;
+    private int repeatAt = -1;
+    private String comment = "";
+
+    /**
+     * Adds a page.
+     *
+     * @param field field of the page, before the piece locks
+     * @param operation piece shown on the page, or null for none
+     * @param comment comment of the page; null keeps the previous one
+     * @throws IllegalArgumentException if the piece is outside the field or
+     *         the comment is too long
+     */
+    public void addPage(FumenField field, FumenOperation operation, String comment) {
+        String text = comment == null ? this.comment : comment;
+        String escaped = text.equals(this.comment) ? null : FumenFormat.escape(text);
+        if (escaped != null && escaped.length() > FumenFormat.MAX_COMMENT) {
+            throw new IllegalArgumentException("Comment longer than " + FumenFormat.MAX_COMMENT
+                    + " escaped characters");
+        }
+        if (operation != null) {
+            for (int mino = 0; mino < 4; mino++) {
+                int x = operation.getCellX(mino);
+                int y = operation.getCellY(mino);
+                if (x < 0 || x >= FumenField.WIDTH || y < 0 || y >= FumenField.HEIGHT) {
+                    throw new IllegalArgumentException(operation + " is outside the field");
+                }
+            }
+        }
+
+        writeField(field);
+        int value = escaped != null ? 1 : 0;
+        value = value * 2 + (pages == 0 ? 1 : 0);
+        value = value * 4 * FumenFormat.FIELD_BLOCKS;
+        if (operation != null) {
+            value += operation.getPosition();
+            value = (value * 4 + operation.getRotation().ordinal()) * 8 + operation.getPiece().ordinal();
+        } else {
+            value *= 4 * 8;
+        }
+        push(value, 3);
+        if (escaped != null) {
+            writeComment(escaped);
+            this.comment = text;
+        }
+
+        locked.copyFrom(field);
+        if (operation != null) {locked.put(operation);}
+        locked.clearLines();
+        pages++;
+    }
+
+    /**
+     * Adds a page whose field is a board matrix.
+     *
+     * @param matrix cell values by row, top row first, aligned at the bottom
+     *               of the field
+     * @param operation piece shown on the page, or null for none
+     * @param comment comment of the page; null keeps the previous one
+     */
+    public void addPage(int[][] matrix, FumenOperation operation, String comment) {
+        scratch.load(matrix);
+        addPage(scratch, operation, comment);
+    }
+
+    /**
+     * Adds a page that starts from the field the previous page left, as
+     * the next move of a replay does.
+     *
+     * @param operation piece shown on the page, or null for none
+     * @param comment comment of the page; null keeps the previous one
+     */
+    public void addPage(FumenOperation operation, String comment) {
+        scratch.copyFrom(locked);
+        addPage(scratch, operation, comment);
+    }
+
+    private void writeField(FumenField field) {
+        byte[] previous = locked.cells;
+        byte[] cells = field.cells;
+        int runStart = 0;
+        int runDiff = cells[0] - previous[0] + FumenFormat.UNCHANGED;
+        for (int i = 1; i <= FumenFormat.FIELD_BLOCKS; i++) {
+            int diff = i < FumenFormat.FIELD_BLOCKS ? cells[i] - previous[i] + FumenFormat.UNCHANGED : -1;
+            if (diff == runDiff) {continue;}
+            int run = runDiff * FumenFormat.FIELD_BLOCKS + i - runStart - 1;
+            if (run != UNCHANGED_FIELD) {
+                push(run, 2);
+                repeatAt = -1;
+            } else if (repeatAt < 0 || data.charAt(repeatAt) == FumenFormat.ALPHABET.charAt(FumenFormat.BASE - 1)) {
+                push(run, 2);
+                push(0, 1);
+                repeatAt = data.length() - 1;
+            } else {
+                data.setCharAt(repeatAt, FumenFormat.ALPHABET.charAt(FumenFormat.digit(data.charAt(repeatAt)) + 1));
+            }
+            runStart = i;
+            runDiff = diff;
+        }
+    }
+
+    private void writeComment(String escaped) {
+        push(escaped.length(), 2);
+        for (int i = 0; i < escaped.length(); i += 4) {
+            int value = 0;
+            int scale = 1;
+            for (int c = i; c < Math.min(i + 4, escaped.length()); c++) {
+                value += (escaped.charAt(c) - ' ') * scale;
+                scale *= FumenFormat.COMMENT_BASE;
+            }
+            push(value, 5);
+        }
+    }
+
+    private void push(int value, int digits) {
+        for (int i = 0; i < digits; i++) {
+            data.append(FumenFormat.ALPHABET.charAt(value % FumenFormat.BASE));
+            value /= FumenFormat.BASE;
+        }
+    }
+
+    /**
+     * Gets the field the next page starts from: the last page's field with
+     * its piece locked and full rows cleared.
+     * @return the writer's own field, not to be changed
+     */
+    FumenField getLockedField() {return locked;}
+
+    /**
+     * Gets the number of pages added.
+     * @return page count
+     */
+    public int getPageCount() {return pages;}
+
+    /**
+     * Gets the fumen string, with the '?' line breaks fumen puts in long
+     * data.
+     * @return data starting with {@code v115@}
+     */
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder(FumenFormat.PREFIX.length() + data.length() * 48 / 47 + 1);
+        out.append(FumenFormat.PREFIX);
+        int line = Math.min(FumenFormat.FIRST_LINE, data.length());
+        out.append(data, 0, line);
+        for (int i = line; i < data.length(); i += FumenFormat.LINE) {
+            out.append('?').append(data, i, Math.min(i + FumenFormat.LINE, data.length()));
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,60 @@
+package com.comp2042.fuzz;
+
+/**
+ * A step sequence after which the production board and the
+ * {@link ReferenceBoard} no longer agree.
+ */
+public final class Divergence {
+
+    private final long seed;
+    private final int[] steps;
+    private final String description;
+
+    Divergence(long seed, int[] steps, String description) {
+        this.seed = seed;
+        this.steps = steps.clone();
+        this.description = description;
+    }
+
+    /**
+     * Gets the seed of the piece sequence both boards were dealt.
+     * @return brick generator seed
+     */
+    public long getSeed() {return seed;}
+
+    /**
+     * Gets the steps, ending with the one after which the boards differ.
+     * An empty sequence means they differ straight after a new game.
+     * @return encoded steps, see {@link EngineFuzzer#describe(int)}
+     */
+    public int[] getSteps() {return steps.clone();}
+
+    /**
+     * Gets the number of steps to reproduce the difference.
+     * @return step count
+     */
+    public int getLength() {return steps.length;}
+
+    /**
+     * Gets what differs after the last step.
+     * @return for example {@code "x: reference 3, engine 4"}
+     */
+    public String getDescription() {return description;}
+
+    /**
+     * Gets the steps as text, one per line, for a bug report.
+     * @return steps in the form {@code GARBAGE 2 hole 7}
+     */
+    public String describeSteps() {
+        StringBuilder out = new StringBuilder();
+        for (int step : steps) {
+            out.append(EngineFuzzer.describe(step)).append('\n');
+        }
+        return out.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "seed " + seed + ", " + steps.length + " steps: " + description;
+    }
+}
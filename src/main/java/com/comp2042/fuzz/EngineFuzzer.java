@@ -0,0 +1,430 @@
+package com.comp2042.fuzz;
+
+import com.comp2042.brick.RandomBrickGenerator;
+import com.comp2042.core.Board;
+import com.comp2042.core.SimpleBoard;
+import com.comp2042.model.ClearRow;
+import com.comp2042.model.ViewData;
+import com.comp2042.sim.GameSimulator;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+/**
+ * Differential fuzzer that plays the same random inputs on the production
+ * {@link SimpleBoard} and on the frozen {@link ReferenceBoard}, and
+ * compares everything the {@link Board} interface shows after every step:
+ * the return value, the stack, the brick and its position, hold, the
+ * previews and the counters.
+ *
+ * <p>A case is a seed: it picks both the piece sequence and the steps.
+ * Cases run in parallel on a fork/join pool, split by seed range, until
+ * they are all done or one diverges. The divergence is then shrunk to a
+ * sequence from which no single step can be removed without the boards
+ * agreeing again, which is usually a handful of steps.
+ *
+ * <pre>
+ * FuzzResult result = new EngineFuzzer(4).run(0, 10_000, 500);
+ * if (result.getDivergence() != null) System.out.print(result.getDivergence().describeSteps());
+ * </pre>
+ */
+public final class EngineFuzzer {
+
+    /**
+     * What a step does. A step that cannot move the brick further down
+     * locks it, clears rows and spawns the next brick, starting a new
+     * game if that one cannot spawn.
+     */
+    public enum Action {
+        LEFT(200), RIGHT(200), DOWN(250), ROTATE(200), HOLD(40), HARD_DROP(94), GARBAGE(12), NEW_GAME(4);
+
+        private final int weight;
+
+        Action(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private static final Action[] ACTIONS = Action.values();
+    private static final int ACTION_BITS = 3;
+    private static final int MAX_GARBAGE = 4;
+    private static final int CASES_PER_TASK = 8;
+    private static final long LOCKED = 1L << 32;
+    private static final long GAME_OVER = 1L << 33;
+
+    private final int parallelism;
+    private final LongFunction<? extends SimpleBoard> engineFactory;
+
+    /**
+     * Creates a fuzzer for the production board.
+     * @param parallelism number of worker threads
+     */
+    public EngineFuzzer(int parallelism) {
+        this(parallelism, seed -> new SimpleBoard(GameSimulator.BOARD_WIDTH, GameSimulator.BOARD_HEIGHT, seed));
+    }
+
+    /**
+     * Creates a fuzzer for another board implementation.
+     *
+     * @param parallelism number of worker threads
+     * @param engineFactory creates the board under test for a seed; it must
+     *                      be {@link GameSimulator#BOARD_WIDTH} by
+     *                      {@link GameSimulator#BOARD_HEIGHT} and deal from
+     *                      {@code new RandomBrickGenerator(seed)}
+     */
+    public EngineFuzzer(int parallelism, LongFunction<? extends SimpleBoard> engineFactory) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+        this.engineFactory = engineFactory;
+    }
+
+    // ========== Steps ==========
+
+    /**
+     * Encodes a step without arguments.
+     * @param action any action but {@link Action#GARBAGE}
+     * @return the step
+     */
+    public static int step(Action action) {
+        if (action == Action.GARBAGE) {
+            throw new IllegalArgumentException("Use garbage(count, hole) for garbage steps");
+        }
+        return action.ordinal();
+    }
+
+    /**
+     * Encodes a garbage step.
+     *
+     * @param count rows to add, 1 to 4
+     * @param hole column of the hole
+     * @return the step
+     */
+    public static int garbage(int count, int hole) {
+        if (count < 1 || count > MAX_GARBAGE || hole < 0 || hole >= GameSimulator.BOARD_WIDTH) {
+            throw new IllegalArgumentException("Bad garbage " + count + " hole " + hole);
+        }
+        return Action.GARBAGE.ordinal() | (count - 1 | hole << 2) << ACTION_BITS;
+    }
+
+    /**
+     * Decodes the action of a step.
+     * @param step encoded step
+     * @return its action
+     */
+    public static Action actionOf(int step) {return ACTIONS[step & (1 << ACTION_BITS) - 1];}
+
+    /**
+     * Describes a step for people.
+     * @param step encoded step
+     * @return for example {@code ROTATE} or {@code GARBAGE 2 hole 7}
+     */
+    public static String describe(int step) {
+        Action action = actionOf(step);
+        if (action != Action.GARBAGE) {return action.name();}
+        int args = step >>> ACTION_BITS;
+        return action.name() + " " + ((args & 3) + 1) + " hole " + (args >>> 2);
+    }
+
+    /**
+     * Draws the random steps of a case.
+     *
+     * @param seed case seed
+     * @param count number of steps
+     * @return encoded steps
+     */
+    public static int[] generate(long seed, int count) {
+        int total = 0;
+        for (Action action : ACTIONS) {total += action.weight;}
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] steps = new int[count];
+        for (int i = 0; i < count; i++) {
+            int pick = random.nextInt(total);
+            Action action = ACTIONS[0];
+            for (Action candidate : ACTIONS) {
+                action = candidate;
+                pick -= candidate.weight;
+                if (pick < 0) {break;}
+            }
+            steps[i] = action == Action.GARBAGE
+                    ? garbage(1 + random.nextInt(MAX_GARBAGE), random.nextInt(GameSimulator.BOARD_WIDTH))
+                    : action.ordinal();
+        }
+        return steps;
+    }
+
+    // ========== Checking ==========
+
+    /**
+     * Plays steps on a fresh pair of boards and compares them after each.
+     *
+     * @param seed seed of the piece sequence
+     * @param steps encoded steps
+     * @return the steps up to the first difference, or null if the boards
+     *         agree throughout
+     */
+    public Divergence check(long seed, int[] steps) {
+        return check(seed, steps, null);
+    }
+
+    private Divergence check(long seed, int[] steps, LongAdder applied) {
+        ReferenceBoard reference = new ReferenceBoard(GameSimulator.BOARD_WIDTH, GameSimulator.BOARD_HEIGHT,
+                () -> new RandomBrickGenerator(seed));
+        SimpleBoard engine = engineFactory.apply(seed);
+        String difference = compareCalls(reference, engine, -1);
+        for (int i = 0; difference == null && i < steps.length; i++) {
+            difference = compareCalls(reference, engine, steps[i]);
+            if (applied != null) {applied.increment();}
+            if (difference != null) {
+                return new Divergence(seed, Arrays.copyOf(steps, i + 1), difference);
+            }
+        }
+        return difference == null ? null : new Divergence(seed, new int[0], difference);
+    }
+
+    /** Applies a step, or a new game for -1, to both boards and returns what differs. */
+    private static String compareCalls(ReferenceBoard reference, SimpleBoard engine, int step) {
+        String expected;
+        String actual;
+        try {
+            expected = Long.toHexString(apply(reference, step));
+        } catch (RuntimeException e) {
+            expected = e.toString();
+        }
+        try {
+            actual = Long.toHexString(apply(engine, step));
+        } catch (RuntimeException e) {
+            actual = e.toString();
+        }
+        if (!expected.equals(actual)) {
+            return "result: reference " + expected + ", engine " + actual;
+        }
+        return compareState(reference, engine);
+    }
+
+    /**
+     * Applies a step to a board.
+     * @return the step's results packed into one number
+     */
+    private static long apply(Board board, int step) {
+        if (step < 0) {
+            board.newGame();
+            return 0;
+        }
+        return switch (actionOf(step)) {
+            case LEFT -> board.moveBrickLeft() ? 1 : 0;
+            case RIGHT -> board.moveBrickRight() ? 1 : 0;
+            case ROTATE -> board.rotateLeftBrick() ? 1 : 0;
+            case HOLD -> board.holdCurrentBrick() ? 1 : 0;
+            case DOWN -> board.moveBrickDown() ? 1 : lock(board);
+            case HARD_DROP -> {
+                long distance = 0;
+                while (board.moveBrickDown()) {distance++;}
+                yield distance | lock(board);
+            }
+            case GARBAGE -> {
+                int args = step >>> ACTION_BITS;
+                boolean overflow = board instanceof SimpleBoard
+                        ? ((SimpleBoard) board).addGarbageRows((args & 3) + 1, args >>> 2)
+                        : ((ReferenceBoard) board).addGarbageRows((args & 3) + 1, args >>> 2);
+                if (overflow) {board.newGame();}
+                yield overflow ? GAME_OVER : 0;
+            }
+            case NEW_GAME -> {
+                board.newGame();
+                yield 0;
+            }
+        };
+    }
+
+    private static long lock(Board board) {
+        board.mergeBrickToBackground();
+        ClearRow cleared = board.clearRows();
+        boolean gameOver = board.createNewBrick();
+        if (gameOver) {board.newGame();}
+        return LOCKED | (gameOver ? GAME_OVER : 0)
+                | (long) cleared.getLinesRemoved() << 8 | (long) cleared.getScoreBonus() << 12;
+    }
+
+    private static String compareState(Board reference, Board engine) {
+        String difference = compareMatrix("stack", reference.getBoardMatrix(), engine.getBoardMatrix());
+        if (difference != null) {return difference;}
+        ViewData expected = reference.getViewData();
+        ViewData actual = engine.getViewData();
+        difference = compareMatrix("brick", expected.getBrickData(), actual.getBrickData());
+        if (difference != null) {return difference;}
+        if (expected.getxPosition() != actual.getxPosition()) {
+            return "x: reference " + expected.getxPosition() + ", engine " + actual.getxPosition();
+        }
+        if (expected.getyPosition() != actual.getyPosition()) {
+            return "y: reference " + expected.getyPosition() + ", engine " + actual.getyPosition();
+        }
+        difference = compareMatrix("next brick", expected.getNextBrickData(), actual.getNextBrickData());
+        if (difference != null) {return difference;}
+        difference = compareMatrix("hold", reference.getHoldBrickData(), engine.getHoldBrickData());
+        if (difference != null) {return difference;}
+        if (reference.canHold() != engine.canHold()) {
+            return "canHold: reference " + reference.canHold() + ", engine " + engine.canHold();
+        }
+        difference = compareShapes("preview", reference.getNextBricksData(5), engine.getNextBricksData(5));
+        if (difference != null) {return difference;}
+        difference = compareShapes("bag", reference.getDealtFromBagData(), engine.getDealtFromBagData());
+        if (difference != null) {return difference;}
+        if (reference.getPiecesPlaced() != engine.getPiecesPlaced()) {
+            return "pieces: reference " + reference.getPiecesPlaced() + ", engine " + engine.getPiecesPlaced();
+        }
+        if (reference.getLinesCleared() != engine.getLinesCleared()) {
+            return "lines: reference " + reference.getLinesCleared() + ", engine " + engine.getLinesCleared();
+        }
+        if (reference.checkGameOver() != engine.checkGameOver()) {
+            return "game over: reference " + reference.checkGameOver() + ", engine " + engine.checkGameOver();
+        }
+        return null;
+    }
+
+    private static String compareShapes(String what, List<int[][]> expected, List<int[][]> actual) {
+        if (expected == null || actual == null) {
+            return expected == actual ? null : what + ": reference " + expected + ", engine " + actual;
+        }
+        if (expected.size() != actual.size()) {
+            return what + " size: reference " + expected.size() + ", engine " + actual.size();
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            String difference = compareMatrix(what + " " + i, expected.get(i), actual.get(i));
+            if (difference != null) {return difference;}
+        }
+        return null;
+    }
+
+    private static String compareMatrix(String what, int[][] expected, int[][] actual) {
+        if (expected.length != actual.length) {
+            return what + " rows: reference " + expected.length + ", engine " + actual.length;
+        }
+        for (int row = 0; row < expected.length; row++) {
+            if (Arrays.equals(expected[row], actual[row])) {continue;}
+            return what + " row " + row + ": reference " + Arrays.toString(expected[row])
+                    + ", engine " + Arrays.toString(actual[row]);
+        }
+        return null;
+    }
+
+    // ========== Shrinking ==========
+
+    /**
+     * Removes steps from a divergence while the boards still disagree,
+     * first in large blocks and then one at a time, until no single step
+     * can be removed.
+     *
+     * @param divergence a divergence found by this fuzzer
+     * @return a divergence with the same seed and no more steps
+     */
+    public Divergence shrink(Divergence divergence) {
+        Divergence smallest = divergence;
+        int block = Math.max(1, smallest.getLength() / 2);
+        while (true) {
+            boolean removed = false;
+            int[] steps = smallest.getSteps();
+            for (int from = 0; from < steps.length; ) {
+                int[] candidate = new int[steps.length - Math.min(block, steps.length - from)];
+                System.arraycopy(steps, 0, candidate, 0, from);
+                System.arraycopy(steps, from + steps.length - candidate.length, candidate, from,
+                        candidate.length - from);
+                Divergence smaller = check(smallest.getSeed(), candidate);
+                if (smaller != null) {
+                    smallest = smaller;
+                    steps = smaller.getSteps();
+                    removed = true;
+                } else {
+                    from += block;
+                }
+            }
+            if (block == 1 && !removed) {
+                return smallest;
+            }
+            if (!removed) {
+                block = Math.max(1, block / 2);
+            }
+        }
+    }
+
+    // ========== Running ==========
+
+    /**
+     * Fuzzes a range of seeds, stopping at the first divergence.
+     *
+     * @param firstSeed seed of the first case
+     * @param cases number of cases, one seed each
+     * @param stepsPerCase steps played in each case
+     * @return counts, timing and the shrunk divergence if one was found
+     */
+    public FuzzResult run(long firstSeed, int cases, int stepsPerCase) {
+        if (cases < 0 || stepsPerCase < 0) {
+            throw new IllegalArgumentException("cases and stepsPerCase must not be negative");
+        }
+        LongAdder casesRun = new LongAdder();
+        LongAdder steps = new LongAdder();
+        AtomicReference<Divergence> found = new AtomicReference<>();
+
+        long startNanos = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new SeedRangeTask(firstSeed, firstSeed + cases, stepsPerCase, casesRun, steps, found));
+        } finally {
+            pool.shutdown();
+        }
+        long elapsed = System.nanoTime() - startNanos;
+
+        Divergence divergence = found.get();
+        return new FuzzResult(casesRun.sum(), steps.sum(), elapsed, parallelism,
+                divergence == null ? null : shrink(divergence));
+    }
+
+    /**
+     * Splits a range of seeds in half until it is a few cases, which are
+     * then run in order unless another task has already found a divergence.
+     */
+    private final class SeedRangeTask extends RecursiveAction {
+
+        private final long from;
+        private final long to;
+        private final int stepsPerCase;
+        private final LongAdder cases;
+        private final LongAdder steps;
+        private final AtomicReference<Divergence> found;
+
+        SeedRangeTask(long from, long to, int stepsPerCase, LongAdder cases, LongAdder steps,
+                      AtomicReference<Divergence> found) {
+            this.from = from;
+            this.to = to;
+            this.stepsPerCase = stepsPerCase;
+            this.cases = cases;
+            this.steps = steps;
+            this.found = found;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CASES_PER_TASK) {
+                for (long seed = from; seed < to && found.get() == null; seed++) {
+                    Divergence divergence = check(seed, generate(seed, stepsPerCase), steps);
+                    cases.increment();
+                    if (divergence != null) {
+                        found.accumulateAndGet(divergence,
+                                (a, b) -> a == null || b.getSeed() < a.getSeed() ? b : a);
+                    }
+                }
+                return;
+            }
+            long mid = from + (to - from) / 2;
+            invokeAll(new SeedRangeTask(from, mid, stepsPerCase, cases, steps, found),
+                    new SeedRangeTask(mid, to, stepsPerCase, cases, steps, found));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.comp2042.fuzz;
+
+import java.util.Locale;
+
+/**
+ * Outcome of one {@link EngineFuzzer} run.
+ */
+public final class FuzzResult {
+
+    private final long cases;
+    private final long steps;
+    private final long elapsedNanos;
+    private final int threads;
+    private final Divergence divergence;
+
+    FuzzResult(long cases, long steps, long elapsedNanos, int threads, Divergence divergence) {
+        this.cases = cases;
+        this.steps = steps;
+        this.elapsedNanos = elapsedNanos;
+        this.threads = threads;
+        this.divergence = divergence;
+    }
+
+    /**
+     * Gets the number of cases run to the end or to a divergence.
+     * @return case count
+     */
+    public long getCases() {return cases;}
+
+    /**
+     * Gets the number of steps applied to both boards and compared.
+     * @return step count
+     */
+    public long getSteps() {return steps;}
+
+    public long getElapsedNanos() {return elapsedNanos;}
+
+    public int getThreads() {return threads;}
+
+    /**
+     * Gets the shrunk divergence with the lowest seed found.
+     * @return the divergence, or null if the boards always agreed
+     */
+    public Divergence getDivergence() {return divergence;}
+
+    /**
+     * Gets the fuzzing throughput.
+     * @return steps per second
+     */
+    public double getStepsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : steps * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%d cases, %d steps in %.1f ms on %d threads (%.0f steps/s)%s",
+                cases, steps, elapsedNanos / 1e6, threads, getStepsPerSecond(),
+                divergence == null ? "" : ", diverged: " + divergence);
+    }
+}
@@ -0,0 +1,368 @@
+package com.comp2042.fuzz;
+
+import com.comp2042.brick.Brick;
+import com.comp2042.brick.BrickGenerator;
+import com.comp2042.core.Board;
+import com.comp2042.core.SimpleBoard;
+import com.comp2042.model.ClearRow;
+import com.comp2042.model.ViewData;
+import com.comp2042.state.Score;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Frozen copy of the board rules as {@link SimpleBoard} implemented them
+ * when the engine was a set of plain matrix operations: movement, rotation
+ * with wall kicks, spawning, hold, line clearing and garbage.
+ *
+ * <p>Everything lives in this one class and shares nothing with the
+ * production board but the {@link Board} interface, the bricks and the
+ * garbage colour, so that board and its matrix, mover and rotation
+ * classes can be rewritten for speed while this one keeps the old
+ * behaviour for {@link EngineFuzzer} to compare against. It favours being
+ * obviously right over being fast; do not optimise it.
+ */
+public final class ReferenceBoard implements Board {
+
+    private static final int SPAWN_X_OFFSET = 2;
+    private static final int NORMAL_SPAWN_Y = -1;
+    private static final int EMERGENCY_SPAWN_Y = -2;
+    private static final int MAX_WALL_KICK = 3;
+    private static final int PREVIEW_COUNT = 5;
+    private static final int EMPTY_HOLD_SIZE = 4;
+
+    private final int width;
+    private final int height;
+    private final Supplier<BrickGenerator> generatorFactory;
+    private final Score score = new Score();
+
+    private BrickGenerator generator;
+    private int[][] matrix;
+    private Brick brick;
+    private List<int[][]> rotations = List.of();
+    private int rotation;
+    private int x;
+    private int y;
+    private Brick holdBrick;
+    private boolean canHold = true;
+    private int piecesPlaced;
+    private int linesCleared;
+
+    /**
+     * Creates a reference board.
+     *
+     * @param width board width in cells
+     * @param height board height in cells
+     * @param generatorFactory supplies a fresh generator for each game
+     */
+    public ReferenceBoard(int width, int height, Supplier<BrickGenerator> generatorFactory) {
+        this.width = width;
+        this.height = height;
+        this.generatorFactory = generatorFactory;
+        this.generator = generatorFactory.get();
+        this.matrix = new int[height][width];
+        this.x = width / 2 - SPAWN_X_OFFSET;
+        this.y = NORMAL_SPAWN_Y;
+    }
+
+    // ========== Matrix rules ==========
+
+    private static boolean intersect(int[][] matrix, int[][] shape, int x, int y) {
+        for (int row = 0; row < shape.length; row++) {
+            for (int col = 0; col < shape[row].length; col++) {
+                if (shape[row][col] == 0) {
+                    continue;
+                }
+                int targetX = x + col;
+                int targetY = y + row;
+                if (targetY < 0) {
+                    if (targetX < 0 || targetX >= matrix[0].length) {
+                        return true;
+                    }
+                    continue;
+                }
+                if (targetX < 0 || targetY >= matrix.length || targetX >= matrix[targetY].length
+                        || matrix[targetY][targetX] != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int[][] copy(int[][] original) {
+        int[][] copy = new int[original.length][];
+        for (int i = 0; i < original.length; i++) {
+            copy[i] = original[i].clone();
+        }
+        return copy;
+    }
+
+    private int[][] currentShape() {
+        return rotations.isEmpty() ? new int[0][0] : rotations.get(rotation);
+    }
+
+    /** Makes a brick current in its first rotation; its shapes are copied once here. */
+    private void setBrick(Brick brick) {
+        this.brick = brick;
+        this.rotations = brick == null ? List.of() : brick.getShapeMatrix();
+        this.rotation = 0;
+    }
+
+    // ========== Movement ==========
+
+    @Override
+    public boolean moveBrickDown() {return tryMove(0, 1);}
+
+    @Override
+    public boolean moveBrickLeft() {return tryMove(-1, 0);}
+
+    @Override
+    public boolean moveBrickRight() {return tryMove(1, 0);}
+
+    private boolean tryMove(int dx, int dy) {
+        if (intersect(matrix, currentShape(), x + dx, y + dy)) {
+            return false;
+        }
+        x += dx;
+        y += dy;
+        return true;
+    }
+
+    /**
+     * Rotates to the next rotation state, trying the brick in place, then
+     * up to three cells left, then up to three cells right.
+     */
+    @Override
+    public boolean rotateLeftBrick() {
+        int next = rotations.isEmpty() ? 0 : (rotation + 1) % rotations.size();
+        int[][] shape = rotations.isEmpty() ? new int[0][0] : rotations.get(next);
+        if (fitsAfterRotation(shape, x, y)) {
+            rotation = next;
+            return true;
+        }
+        for (int direction = -1; direction <= 1; direction += 2) {
+            for (int kick = 1; kick <= MAX_WALL_KICK; kick++) {
+                if (fitsAfterRotation(shape, x + direction * kick, y)) {
+                    x += direction * kick;
+                    rotation = next;
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean fitsAfterRotation(int[][] shape, int x, int y) {
+        for (int row = 0; row < shape.length; row++) {
+            for (int col = 0; col < shape[row].length; col++) {
+                if (shape[row][col] != 0 && (x + col < 0 || x + col >= width || y + row >= height)) {
+                    return false;
+                }
+            }
+        }
+        return !intersect(matrix, shape, x, y);
+    }
+
+    // ========== Pieces ==========
+
+    @Override
+    public boolean createNewBrick() {
+        canHold = true;
+        return spawn();
+    }
+
+    /** Deals the next brick at the spawn point; true if it cannot drop one row. */
+    private boolean spawn() {
+        setBrick(generator.getBrick());
+        x = width / 2 - SPAWN_X_OFFSET;
+        y = isStackNearTop() ? EMERGENCY_SPAWN_Y : NORMAL_SPAWN_Y;
+        return intersect(matrix, currentShape(), x, y + 1);
+    }
+
+    private boolean isStackNearTop() {
+        for (int row = 0; row <= 1; row++) {
+            for (int col = 0; col < width; col++) {
+                if (matrix[row][col] != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean holdCurrentBrick() {
+        if (!canHold) {
+            return false;
+        }
+        if (holdBrick == null) {
+            holdBrick = brick;
+            spawn();
+        } else {
+            Brick held = holdBrick;
+            holdBrick = brick;
+            setBrick(held);
+            x = width / 2 - SPAWN_X_OFFSET;
+            y = NORMAL_SPAWN_Y;
+        }
+        canHold = false;
+        return true;
+    }
+
+    @Override
+    public boolean canHold() {return canHold;}
+
+    @Override
+    public int[][] getHoldBrickData() {
+        return holdBrick == null ? new int[EMPTY_HOLD_SIZE][EMPTY_HOLD_SIZE] : holdBrick.getShapeMatrix().get(0);
+    }
+
+    // ========== Stack ==========
+
+    @Override
+    public void mergeBrickToBackground() {
+        int[][] shape = currentShape();
+        int[][] merged = copy(matrix);
+        for (int row = 0; row < shape.length; row++) {
+            for (int col = 0; col < shape[row].length; col++) {
+                int targetX = x + col;
+                int targetY = y + row;
+                if (shape[row][col] != 0 && targetY >= 0 && targetX >= 0
+                        && targetY < merged.length && targetX < merged[0].length) {
+                    merged[targetY][targetX] = shape[row][col];
+                }
+            }
+        }
+        matrix = merged;
+        piecesPlaced++;
+    }
+
+    @Override
+    public ClearRow clearRows() {
+        List<int[]> kept = new ArrayList<>();
+        int removed = 0;
+        for (int[] row : matrix) {
+            boolean full = true;
+            for (int cell : row) {
+                if (cell == 0) {
+                    full = false;
+                }
+            }
+            if (full) {
+                removed++;
+            } else {
+                kept.add(row.clone());
+            }
+        }
+        int[][] cleared = new int[height][width];
+        for (int i = 0; i < kept.size(); i++) {
+            cleared[height - kept.size() + i] = kept.get(i);
+        }
+        matrix = cleared;
+        linesCleared += removed;
+        return new ClearRow(removed, cleared, 50 * removed * removed);
+    }
+
+    /**
+     * Pushes the stack up and fills the bottom rows with garbage.
+     *
+     * @param count number of rows to add
+     * @param holeColumn column left empty in every added row
+     * @return true if filled cells were pushed off the top of the board
+     */
+    public boolean addGarbageRows(int count, int holeColumn) {
+        if (holeColumn < 0 || holeColumn >= width) {
+            throw new IllegalArgumentException("holeColumn out of range: " + holeColumn);
+        }
+        int rows = Math.min(count, height);
+        boolean overflow = false;
+        for (int row = 0; row < rows; row++) {
+            for (int cell : matrix[row]) {
+                if (cell != 0) {
+                    overflow = true;
+                }
+            }
+        }
+        int[][] raised = new int[height][];
+        for (int row = 0; row < height; row++) {
+            if (row < height - rows) {
+                raised[row] = matrix[row + rows];
+            } else {
+                raised[row] = new int[width];
+                for (int col = 0; col < width; col++) {
+                    raised[row][col] = col == holeColumn ? 0 : SimpleBoard.GARBAGE_COLOR;
+                }
+            }
+        }
+        matrix = raised;
+        return overflow;
+    }
+
+    @Override
+    public boolean checkGameOver() {
+        for (int cell : matrix[0]) {
+            if (cell != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void newGame() {
+        matrix = new int[height][width];
+        piecesPlaced = 0;
+        linesCleared = 0;
+        generator = generatorFactory.get();
+        holdBrick = null;
+        score.reset();
+        createNewBrick();
+    }
+
+    // ========== Views ==========
+
+    @Override
+    public int[][] getBoardMatrix() {return matrix;}
+
+    @Override
+    public ViewData getViewData() {
+        List<int[][]> next = getNextBricksData(PREVIEW_COUNT);
+        return new ViewData(currentShape(), x, y, next.isEmpty() ? new int[4][4] : next.get(0));
+    }
+
+    @Override
+    public List<int[][]> getNextBricksData(int count) {
+        return shapes(generator.getNextBricks(count));
+    }
+
+    @Override
+    public List<int[][]> getDealtFromBagData() {
+        List<Brick> dealt = generator.getDealtFromBag();
+        return dealt == null ? null : shapes(dealt);
+    }
+
+    private static List<int[][]> shapes(List<Brick> bricks) {
+        List<int[][]> shapes = new ArrayList<>();
+        for (Brick b : bricks) {
+            if (b != null && b.getShapeMatrix() != null && !b.getShapeMatrix().isEmpty()) {
+                shapes.add(b.getShapeMatrix().get(0));
+            }
+        }
+        return shapes;
+    }
+
+    @Override
+    public Score getScore() {return score;}
+
+    @Override
+    public int getPiecesPlaced() {return piecesPlaced;}
+
+    @Override
+    public int getLinesCleared() {return linesCleared;}
+
+    @Override
+    public Brick getCurrentBrick() {return brick;}
+}
@@ -0,0 +1,176 @@
+package com.comp2042.protocol;
+
+import com.comp2042.bot.BotAction;
+import com.comp2042.bot.Placement;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One decoded protocol message. Only the fields of the message's
+ * {@link Type} are set; the others are null, zero or false.
+ */
+public final class BotMessage {
+
+    /**
+     * Message types. The first three are sent by the bot, the others by
+     * the game.
+     */
+    public enum Type {
+        /** Bot: name and author, sent once on start-up. */
+        INFO,
+        /** Bot: rules accepted. */
+        READY,
+        /** Bot: the last message could not be handled. */
+        ERROR,
+        /** Bot: the move for a {@code suggest} request. */
+        SUGGESTION,
+        /** Game: board size, sent once after {@code info}. */
+        RULES,
+        /** Game: the state to move in. */
+        SUGGEST,
+        /** Game: the bot should exit. */
+        QUIT
+    }
+
+    private final Type type;
+    private String name;
+    private String author;
+    private String reason;
+    private long move;
+    private Placement placement;
+    private List<BotAction> inputs;
+    private int width;
+    private int height;
+    private int[][] board;
+    private char current;
+    private int x;
+    private int y;
+    private int rotation;
+    private char hold;
+    private boolean canHold;
+    private String queue;
+
+    BotMessage(Type type) {
+        this.type = type;
+    }
+
+    public Type getType() {return type;}
+
+    /**
+     * Gets the bot's name ({@link Type#INFO}).
+     * @return bot name
+     */
+    public String getName() {return name;}
+
+    /**
+     * Gets the bot's author ({@link Type#INFO}).
+     * @return author, or null if not given
+     */
+    public String getAuthor() {return author;}
+
+    /**
+     * Gets the reason of an {@link Type#ERROR}.
+     * @return error text
+     */
+    public String getReason() {return reason;}
+
+    /**
+     * Gets the move number a {@link Type#SUGGEST} asks about or a
+     * {@link Type#SUGGESTION} answers.
+     * @return move number
+     */
+    public long getMove() {return move;}
+
+    /**
+     * Gets the suggested placement; rotation counts rotate presses from
+     * the state the brick is in ({@link Type#SUGGESTION}).
+     * @return placement, or null if the bot sent inputs
+     */
+    public Placement getPlacement() {return placement;}
+
+    /**
+     * Gets the suggested inputs ({@link Type#SUGGESTION}).
+     * @return inputs, or null if the bot sent a placement
+     */
+    public List<BotAction> getInputs() {return inputs;}
+
+    /**
+     * Gets the board width ({@link Type#RULES}).
+     * @return columns
+     */
+    public int getWidth() {return width;}
+
+    /**
+     * Gets the board height ({@link Type#RULES}).
+     * @return rows
+     */
+    public int getHeight() {return height;}
+
+    /**
+     * Gets the stack, top row first, as piece colors with 8 for cells
+     * whose piece is unknown ({@link Type#SUGGEST}).
+     * @return board matrix
+     */
+    public int[][] getBoard() {return board;}
+
+    /**
+     * Gets the letter of the falling piece ({@link Type#SUGGEST}).
+     * @return piece letter
+     */
+    public char getCurrent() {return current;}
+
+    public int getX() {return x;}
+
+    public int getY() {return y;}
+
+    /**
+     * Gets the rotation the falling piece is in ({@link Type#SUGGEST}).
+     * @return rotation index
+     */
+    public int getRotation() {return rotation;}
+
+    /**
+     * Gets the letter of the held piece ({@link Type#SUGGEST}).
+     * @return piece letter, or 0 if the hold slot is empty
+     */
+    public char getHold() {return hold;}
+
+    public boolean canHold() {return canHold;}
+
+    /**
+     * Gets the preview letters in order ({@link Type#SUGGEST}).
+     * @return preview queue, e.g. "SZOLJ"
+     */
+    public String getQueue() {return queue;}
+
+    void setInfo(String name, String author) {
+        this.name = name;
+        this.author = author;
+    }
+
+    void setReason(String reason) {this.reason = reason;}
+
+    void setMove(long move) {this.move = move;}
+
+    void setPlacement(Placement placement) {this.placement = placement;}
+
+    void setInputs(List<BotAction> inputs) {this.inputs = Collections.unmodifiableList(inputs);}
+
+    void setRules(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    void setState(int[][] board, char current, int x, int y, int rotation, char hold, boolean canHold,
+                  String queue) {
+        this.board = board;
+        this.current = current;
+        this.x = x;
+        this.y = y;
+        this.rotation = rotation;
+        this.hold = hold;
+        this.canHold = canHold;
+        this.queue = queue;
+    }
+}
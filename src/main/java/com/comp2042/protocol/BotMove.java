@@ -0,0 +1,151 @@
+package com.comp2042.protocol;
+
+import com.comp2042.bot.BitBoard;
+import com.comp2042.bot.BotAction;
+import com.comp2042.bot.PieceShape;
+import com.comp2042.bot.Placement;
+import com.comp2042.bot.PlacementExecutor;
+import com.comp2042.core.Board;
+import com.comp2042.model.ViewData;
+
+import java.util.List;
+
+/**
+ * A move suggested by an external bot, given either as a placement or as
+ * the inputs to press.
+ */
+public final class BotMove {
+
+    private final Placement placement;
+    private final List<BotAction> inputs;
+
+    private BotMove(Placement placement, List<BotAction> inputs) {
+        this.placement = placement;
+        this.inputs = inputs;
+    }
+
+    /**
+     * Takes the move out of a suggestion message.
+     *
+     * @param message a {@link BotMessage.Type#SUGGESTION}
+     * @return the move
+     */
+    static BotMove of(BotMessage message) {
+        return new BotMove(message.getPlacement(), message.getInputs());
+    }
+
+    /**
+     * Gets the suggested placement.
+     * @return placement, or null if the bot sent inputs
+     */
+    public Placement getPlacement() {return placement;}
+
+    /**
+     * Gets the suggested inputs.
+     * @return inputs, or null if the bot sent a placement
+     */
+    public List<BotAction> getInputs() {return inputs;}
+
+    /**
+     * Plays the move on a board: a placement through
+     * {@link PlacementExecutor}, inputs one by one as given. Inputs after
+     * the first hard drop are ignored, and the brick is dropped at the end
+     * if the inputs did not do so. The brick is not merged.
+     *
+     * @param board the board holding the current brick
+     * @return the number of rows the brick was hard dropped
+     */
+    public int applyTo(Board board) {
+        if (placement != null) {
+            return PlacementExecutor.execute(board, placement);
+        }
+        for (BotAction input : inputs) {
+            switch (input) {
+                case ROTATE -> board.rotateLeftBrick();
+                case LEFT -> board.moveBrickLeft();
+                case RIGHT -> board.moveBrickRight();
+                case SOFT_DROP -> board.moveBrickDown();
+                case HOLD -> board.holdCurrentBrick();
+                case HARD_DROP -> {
+                    return hardDrop(board);
+                }
+            }
+        }
+        return hardDrop(board);
+    }
+
+    /**
+     * Reduces the move to a placement for callers that can only execute
+     * placements. The inputs are replayed on a copy of the stack and the
+     * resting rotation and position are returned. The placement reaches
+     * that position by rotating first and then shifting, so inputs that
+     * tuck or spin the brick under an overhang may end elsewhere; use
+     * {@link #applyTo(Board)} to play them exactly.
+     *
+     * @param board the board holding the current brick
+     * @return the placement
+     */
+    public Placement toPlacement(Board board) {
+        if (placement != null) {return placement;}
+
+        BitBoard stack = BitBoard.fromMatrix(board.getBoardMatrix());
+        ViewData view = board.getViewData();
+        PieceShape piece = PieceShape.of(board.getCurrentBrick());
+        int rotation = piece.rotationOf(view.getBrickData());
+        int x = view.getxPosition();
+        int y = view.getyPosition();
+        boolean held = false;
+
+        for (BotAction input : inputs) {
+            if (input == BotAction.HARD_DROP) {break;}
+            switch (input) {
+                case HOLD -> {
+                    if (held || !board.canHold()) {break;}
+                    PieceShape hold = PieceShape.of(board.getHoldBrickData());
+                    held = true;
+                    rotation = 0;
+                    x = stack.spawnX();
+                    if (hold != null) {
+                        piece = hold;
+                        y = BitBoard.DEFAULT_SPAWN_Y;
+                    } else {
+                        piece = PieceShape.of(board.getNextBricksData(1).get(0));
+                        y = stack.spawnY();
+                    }
+                }
+                case ROTATE -> {
+                    int kicked = stack.rotate(piece, rotation, x, y);
+                    if (kicked != BitBoard.ROTATION_BLOCKED) {
+                        rotation = (rotation + 1) % piece.getRotations();
+                        x = kicked;
+                    }
+                }
+                case LEFT -> {
+                    if (!stack.collides(piece, rotation, x - 1, y)) {x--;}
+                }
+                case RIGHT -> {
+                    if (!stack.collides(piece, rotation, x + 1, y)) {x++;}
+                }
+                case SOFT_DROP -> {
+                    if (!stack.collides(piece, rotation, x, y + 1)) {y++;}
+                }
+                default -> { }
+            }
+        }
+
+        int startRotation = held ? 0 : piece.rotationOf(view.getBrickData());
+        int presses = Math.floorMod(rotation - startRotation, piece.getRotations());
+        return new Placement(presses, x, stack.dropY(piece, rotation, x, y), held);
+    }
+
+    private static int hardDrop(Board board) {
+        int distance = 0;
+        while (board.moveBrickDown()) {distance++;}
+        return distance;
+    }
+
+    @Override
+    public String toString() {
+        return placement != null ? placement.toString() : "BotMove" + inputs;
+    }
+}
@@ -0,0 +1,305 @@
+package com.comp2042.protocol;
+
+import com.comp2042.bot.BotAction;
+import com.comp2042.bot.PieceShape;
+import com.comp2042.bot.Placement;
+import com.comp2042.core.Board;
+import com.comp2042.model.ViewData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Encodes and decodes the messages of the external bot protocol.
+ *
+ * <p>The protocol follows the shape of the Tetris Bot Protocol: one JSON
+ * object per line, each with a {@code "type"} field. Unlike TBP the game
+ * sends the whole state with every request instead of incremental updates,
+ * and positions use this engine's own coordinates: {@code x}/{@code y} are
+ * the top-left corner of the 4x4 shape matrix, {@code y} counts rows down
+ * from the top, and rotations are indices into the brick's rotation list.
+ *
+ * <pre>
+ * bot  → {"type":"info","name":"echo","author":"..."}
+ * game → {"type":"rules","width":10,"height":25}
+ * bot  → {"type":"ready"}   or   {"type":"error","reason":"..."}
+ * game → {"type":"suggest","move":1,"board":["..........", ...],
+ *         "current":"T","rotation":0,"x":3,"y":-1,
+ *         "hold":null,"can_hold":true,"queue":["S","Z","O","L","J"]}
+ * bot  → {"type":"suggestion","move":1,
+ *         "placement":{"rotation":1,"x":0,"y":22,"hold":false}}
+ *   or → {"type":"suggestion","move":1,"inputs":["rotate","left","hard_drop"]}
+ * game → {"type":"quit"}
+ * </pre>
+ *
+ * <p>Board rows are listed top first, one character per cell: {@code .} for
+ * empty, a piece letter for a cell of that piece, {@code G} for anything
+ * else. A placement's rotation counts rotate presses from the current
+ * rotation, as in {@link Placement}. Input names are the lower-case
+ * {@link BotAction} names. Unknown fields are ignored.
+ */
+public final class BotProtocol {
+
+    private static final String CELL_LETTERS = ".IJLOSTZ";
+    private static final char UNKNOWN_CELL = 'G';
+    private static final int UNKNOWN_COLOR = 8;
+    private static final int PREVIEW_COUNT = 5;
+
+    private BotProtocol() {
+    }
+
+    // ========== Bot to game ==========
+
+    public static String info(String name, String author) {
+        StringBuilder sb = new StringBuilder(64).append("{\"type\":\"info\",\"name\":");
+        quote(sb, name);
+        sb.append(",\"author\":");
+        quote(sb, author);
+        return sb.append('}').toString();
+    }
+
+    public static String ready() {
+        return "{\"type\":\"ready\"}";
+    }
+
+    public static String error(String reason) {
+        StringBuilder sb = new StringBuilder(64).append("{\"type\":\"error\",\"reason\":");
+        quote(sb, reason);
+        return sb.append('}').toString();
+    }
+
+    /**
+     * Encodes a suggestion given as a placement.
+     *
+     * @param move the move number being answered
+     * @param placement the placement
+     * @return one protocol line
+     */
+    public static String suggestion(long move, Placement placement) {
+        return new StringBuilder(96)
+                .append("{\"type\":\"suggestion\",\"move\":").append(move)
+                .append(",\"placement\":{\"rotation\":").append(placement.getRotation())
+                .append(",\"x\":").append(placement.getX())
+                .append(",\"y\":").append(placement.getY())
+                .append(",\"hold\":").append(placement.isHold())
+                .append("}}").toString();
+    }
+
+    /**
+     * Encodes a suggestion given as inputs.
+     *
+     * @param move the move number being answered
+     * @param inputs the inputs, normally ending in a hard drop
+     * @return one protocol line
+     */
+    public static String suggestion(long move, List<BotAction> inputs) {
+        StringBuilder sb = new StringBuilder(64 + inputs.size() * 12)
+                .append("{\"type\":\"suggestion\",\"move\":").append(move)
+                .append(",\"inputs\":[");
+        for (int i = 0; i < inputs.size(); i++) {
+            if (i > 0) {sb.append(',');}
+            sb.append('"').append(inputs.get(i).name().toLowerCase(Locale.ROOT)).append('"');
+        }
+        return sb.append("]}").toString();
+    }
+
+    // ========== Game to bot ==========
+
+    public static String rules(int width, int height) {
+        return "{\"type\":\"rules\",\"width\":" + width + ",\"height\":" + height + "}";
+    }
+
+    /**
+     * Encodes the state of a board as a move request.
+     *
+     * @param move the move number, echoed by the reply
+     * @param board the board holding the current brick
+     * @return one protocol line
+     */
+    public static String suggest(long move, Board board) {
+        int[][] matrix = board.getBoardMatrix();
+        ViewData view = board.getViewData();
+        PieceShape current = PieceShape.of(board.getCurrentBrick());
+        PieceShape hold = PieceShape.of(board.getHoldBrickData());
+
+        StringBuilder sb = new StringBuilder(160 + matrix.length * (matrix[0].length + 3));
+        sb.append("{\"type\":\"suggest\",\"move\":").append(move).append(",\"board\":[");
+        for (int row = 0; row < matrix.length; row++) {
+            if (row > 0) {sb.append(',');}
+            sb.append('"');
+            for (int cell : matrix[row]) {
+                sb.append(cell >= 0 && cell < CELL_LETTERS.length() ? CELL_LETTERS.charAt(cell) : UNKNOWN_CELL);
+            }
+            sb.append('"');
+        }
+        sb.append("],\"current\":\"").append(current.getLetter())
+                .append("\",\"rotation\":").append(current.rotationOf(view.getBrickData()))
+                .append(",\"x\":").append(view.getxPosition())
+                .append(",\"y\":").append(view.getyPosition())
+                .append(",\"hold\":");
+        if (hold == null) {
+            sb.append("null");
+        } else {
+            sb.append('"').append(hold.getLetter()).append('"');
+        }
+        sb.append(",\"can_hold\":").append(board.canHold()).append(",\"queue\":[");
+        List<int[][]> next = board.getNextBricksData(PREVIEW_COUNT);
+        for (int i = 0; i < next.size(); i++) {
+            if (i > 0) {sb.append(',');}
+            sb.append('"').append(PieceShape.of(next.get(i)).getLetter()).append('"');
+        }
+        return sb.append("]}").toString();
+    }
+
+    public static String quit() {
+        return "{\"type\":\"quit\"}";
+    }
+
+    // ========== Decoding ==========
+
+    /**
+     * Decodes one protocol line.
+     *
+     * @param line the line, without its line break
+     * @return the message
+     * @throws IllegalArgumentException if the line is not valid JSON, has
+     *         an unknown type or lacks a field its type needs
+     */
+    public static BotMessage parse(String line) {
+        if (!(JsonReader.parse(line) instanceof Map<?, ?> json)) {
+            throw new IllegalArgumentException("Message is not a JSON object");
+        }
+        String type = string(json, "type", true);
+        BotMessage message;
+        switch (type) {
+            case "info" -> {
+                message = new BotMessage(BotMessage.Type.INFO);
+                message.setInfo(string(json, "name", true), string(json, "author", false));
+            }
+            case "ready" -> message = new BotMessage(BotMessage.Type.READY);
+            case "error" -> {
+                message = new BotMessage(BotMessage.Type.ERROR);
+                message.setReason(string(json, "reason", false));
+            }
+            case "suggestion" -> {
+                message = new BotMessage(BotMessage.Type.SUGGESTION);
+                message.setMove(number(json, "move"));
+                if (json.get("placement") instanceof Map<?, ?> placement) {
+                    message.setPlacement(new Placement((int) number(placement, "rotation"),
+                            (int) number(placement, "x"), (int) number(placement, "y"),
+                            Boolean.TRUE.equals(placement.get("hold"))));
+                } else if (json.get("inputs") instanceof List<?> inputs) {
+                    message.setInputs(inputs(inputs));
+                } else {
+                    throw new IllegalArgumentException("Suggestion needs a placement or inputs");
+                }
+            }
+            case "rules" -> {
+                message = new BotMessage(BotMessage.Type.RULES);
+                message.setRules((int) number(json, "width"), (int) number(json, "height"));
+            }
+            case "suggest" -> {
+                message = new BotMessage(BotMessage.Type.SUGGEST);
+                message.setMove(number(json, "move"));
+                String hold = string(json, "hold", false);
+                message.setState(board(json.get("board")), letter(string(json, "current", true)),
+                        (int) number(json, "x"), (int) number(json, "y"), (int) number(json, "rotation"),
+                        hold == null ? 0 : letter(hold), Boolean.TRUE.equals(json.get("can_hold")),
+                        queue(json.get("queue")));
+            }
+            case "quit" -> message = new BotMessage(BotMessage.Type.QUIT);
+            default -> throw new IllegalArgumentException("Unknown message type '" + type + "'");
+        }
+        return message;
+    }
+
+    private static List<BotAction> inputs(List<?> names) {
+        List<BotAction> inputs = new ArrayList<>(names.size());
+        for (Object name : names) {
+            if (!(name instanceof String text)) {
+                throw new IllegalArgumentException("Input must be a string");
+            }
+            try {
+                inputs.add(BotAction.valueOf(text.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown input '" + text + "'");
+            }
+        }
+        return inputs;
+    }
+
+    private static int[][] board(Object value) {
+        if (!(value instanceof List<?> rows)) {
+            throw new IllegalArgumentException("Missing board");
+        }
+        int[][] board = new int[rows.size()][];
+        for (int row = 0; row < board.length; row++) {
+            if (!(rows.get(row) instanceof String cells)) {
+                throw new IllegalArgumentException("Board row must be a string");
+            }
+            board[row] = new int[cells.length()];
+            for (int col = 0; col < cells.length(); col++) {
+                int color = CELL_LETTERS.indexOf(cells.charAt(col));
+                board[row][col] = color < 0 ? UNKNOWN_COLOR : color;
+            }
+        }
+        return board;
+    }
+
+    private static String queue(Object value) {
+        StringBuilder sb = new StringBuilder();
+        if (value instanceof List<?> letters) {
+            for (Object letter : letters) {
+                if (!(letter instanceof String text)) {
+                    throw new IllegalArgumentException("Queue entry must be a string");
+                }
+                sb.append(letter(text));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static char letter(String text) {
+        return PieceShape.ofLetter(text.isEmpty() ? '?' : text.charAt(0)).getLetter();
+    }
+
+    private static String string(Map<?, ?> json, String key, boolean required) {
+        Object value = json.get(key);
+        if (value instanceof String text) {return text;}
+        if (value == null && !required) {return null;}
+        throw new IllegalArgumentException("Field '" + key + "' must be a string");
+    }
+
+    private static long number(Map<?, ?> json, String key) {
+        if (json.get(key) instanceof Number number) {return number.longValue();}
+        throw new IllegalArgumentException("Field '" + key + "' must be a number");
+    }
+
+    private static void quote(StringBuilder sb, String text) {
+        if (text == null) {
+            sb.append("null");
+            return;
+        }
+        sb.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+}
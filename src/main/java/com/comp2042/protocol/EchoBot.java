@@ -0,0 +1,104 @@
+package com.comp2042.protocol;
+
+import com.comp2042.bot.BitBoard;
+import com.comp2042.bot.BotAction;
+import com.comp2042.bot.PieceShape;
+import com.comp2042.bot.Placement;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Reference bot for the {@link BotProtocol}: it drops every brick straight
+ * down from where it is. Useful to test a game's side of the protocol and
+ * as a starting point for writing a bot.
+ *
+ * <p>In placement mode it answers with the current rotation and column and
+ * the row the brick would land in; in input mode it answers with a single
+ * hard drop. It runs until it reads {@code quit} or its input ends.
+ *
+ * <pre>
+ * java com.comp2042.protocol.EchoBot [--inputs]
+ * </pre>
+ */
+public final class EchoBot {
+
+    private static final List<BotAction> HARD_DROP = List.of(BotAction.HARD_DROP);
+
+    private final boolean inputs;
+
+    /**
+     * Creates a new EchoBot.
+     *
+     * @param inputs answer with inputs instead of placements
+     */
+    public EchoBot(boolean inputs) {
+        this.inputs = inputs;
+    }
+
+    /**
+     * Main entry point; talks the protocol over standard input and output.
+     *
+     * @param args {@code --inputs} to answer with inputs
+     * @throws IOException if standard output fails
+     */
+    public static void main(String[] args) throws IOException {
+        boolean inputs = args.length > 0 && args[0].equals("--inputs");
+        new EchoBot(inputs).run(
+                new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)),
+                new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Plays one session.
+     *
+     * @param in messages from the game
+     * @param out messages to the game; flushed after every reply
+     * @throws IOException if reading or writing fails
+     */
+    public void run(BufferedReader in, Writer out) throws IOException {
+        write(out, BotProtocol.info(inputs ? "echo-inputs" : "echo", "CWK2025DMS"));
+        String line;
+        while ((line = in.readLine()) != null) {
+            BotMessage message;
+            try {
+                message = BotProtocol.parse(line);
+            } catch (IllegalArgumentException e) {
+                write(out, BotProtocol.error(e.getMessage()));
+                continue;
+            }
+            switch (message.getType()) {
+                case RULES -> write(out, message.getWidth() > 0 && message.getHeight() > 0
+                        ? BotProtocol.ready()
+                        : BotProtocol.error("Unsupported board size"));
+                case SUGGEST -> write(out, reply(message));
+                case QUIT -> {
+                    return;
+                }
+                default -> { }
+            }
+        }
+    }
+
+    private String reply(BotMessage request) {
+        if (inputs) {
+            return BotProtocol.suggestion(request.getMove(), HARD_DROP);
+        }
+        PieceShape piece = PieceShape.ofLetter(request.getCurrent());
+        BitBoard board = BitBoard.fromMatrix(request.getBoard());
+        int y = board.dropY(piece, request.getRotation(), request.getX(), request.getY());
+        return BotProtocol.suggestion(request.getMove(), new Placement(0, request.getX(), y));
+    }
+
+    private static void write(Writer out, String line) throws IOException {
+        out.write(line);
+        out.write('\n');
+        out.flush();
+    }
+}
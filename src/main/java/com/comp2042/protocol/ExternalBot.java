@@ -0,0 +1,229 @@
+package com.comp2042.protocol;
+
+import com.comp2042.bot.Placement;
+import com.comp2042.bot.Player;
+import com.comp2042.core.Board;
+import com.comp2042.sim.GameSimulator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Player} backed by a bot in another process that speaks the
+ * {@link BotProtocol} over its standard input and output.
+ *
+ * <p>The constructor waits for the bot's {@code info}, sends the rules and
+ * waits for {@code ready}. Each move then sends the full state and waits
+ * up to the move timeout for the matching {@code suggestion}. A bot that
+ * misses the timeout forfeits the move, which makes
+ * {@link #choosePlacement} return null so the game drops the brick in
+ * place; its late reply is recognised by the move number and skipped.
+ * Lines that do not parse are reported on {@code System.err} and skipped.
+ * All I/O runs on the {@link LineChannel} threads, so a hung bot never
+ * blocks the caller for longer than the timeout.
+ */
+public class ExternalBot implements Player, AutoCloseable {
+
+    /** Time a bot gets to start up and accept the rules. */
+    public static final long HANDSHAKE_TIMEOUT_MILLIS = 5000;
+
+    /** Time a bot gets per move by default. */
+    public static final long DEFAULT_MOVE_TIMEOUT_MILLIS = 1000;
+
+    private final LineChannel channel;
+    private final long moveTimeoutNanos;
+    private final String name;
+    private final String author;
+
+    private Process process;
+    private long move;
+    private int timeouts;
+    private int staleReplies;
+    private int badLines;
+
+    /**
+     * Connects to a bot over a pair of streams and performs the handshake
+     * for the standard board size.
+     *
+     * @param fromBot the bot's output
+     * @param toBot the bot's input
+     * @param moveTimeoutMillis time the bot gets per move
+     * @throws IOException if the bot does not complete the handshake
+     */
+    public ExternalBot(InputStream fromBot, OutputStream toBot, long moveTimeoutMillis) throws IOException {
+        if (moveTimeoutMillis < 1) {
+            throw new IllegalArgumentException("moveTimeoutMillis must be at least 1");
+        }
+        this.channel = new LineChannel(fromBot, toBot, "external-bot");
+        this.moveTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(moveTimeoutMillis);
+        try {
+            BotMessage info = await(BotMessage.Type.INFO);
+            this.name = info.getName();
+            this.author = info.getAuthor();
+            send(BotProtocol.rules(GameSimulator.BOARD_WIDTH, GameSimulator.BOARD_HEIGHT));
+            await(BotMessage.Type.READY);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Starts a bot process and connects to it. Its standard error is passed
+     * through to this process.
+     *
+     * @param command program and arguments
+     * @param moveTimeoutMillis time the bot gets per move
+     * @return the connected bot; closing it also ends the process
+     * @throws IOException if the process cannot be started or does not
+     *         complete the handshake
+     */
+    public static ExternalBot launch(List<String> command, long moveTimeoutMillis) throws IOException {
+        Process process = new ProcessBuilder(command)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        try {
+            ExternalBot bot = new ExternalBot(process.getInputStream(), process.getOutputStream(), moveTimeoutMillis);
+            bot.process = process;
+            return bot;
+        } catch (IOException e) {
+            process.destroyForcibly();
+            throw e;
+        }
+    }
+
+    @Override
+    public Placement choosePlacement(Board board) {
+        BotMove suggestion = requestMove(board);
+        return suggestion == null ? null : suggestion.toPlacement(board);
+    }
+
+    /**
+     * Asks the bot for its move.
+     *
+     * @param board the board holding the current brick
+     * @return the bot's move, or null if it timed out, reported an error or
+     *         has exited
+     */
+    public BotMove requestMove(Board board) {
+        long current = ++move;
+        if (!channel.offer(BotProtocol.suggest(current, board))) {
+            timeouts++;
+            return null;
+        }
+        long deadline = System.nanoTime() + moveTimeoutNanos;
+        try {
+            while (true) {
+                long remaining = deadline - System.nanoTime();
+                String line = remaining > 0 ? channel.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                if (line == null) {
+                    if (!channel.isInputEnded()) {timeouts++;}
+                    return null;
+                }
+                BotMessage message = parse(line);
+                if (message == null) {continue;}
+                if (message.getType() == BotMessage.Type.ERROR) {
+                    System.err.println("Bot " + name + " reported: " + message.getReason());
+                    return null;
+                }
+                if (message.getType() != BotMessage.Type.SUGGESTION) {continue;}
+                if (message.getMove() == current) {
+                    return BotMove.of(message);
+                }
+                staleReplies++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    public String getName() {return name;}
+
+    public String getAuthor() {return author;}
+
+    /**
+     * Gets the number of moves the bot forfeited by not answering in time.
+     * @return timed out moves
+     */
+    public int getTimeouts() {return timeouts;}
+
+    /**
+     * Gets the number of replies that arrived after their move had timed
+     * out and were skipped.
+     * @return late replies
+     */
+    public int getStaleReplies() {return staleReplies;}
+
+    /**
+     * Gets the number of received lines that could not be parsed.
+     * @return skipped lines
+     */
+    public int getBadLines() {return badLines;}
+
+    /**
+     * Tells the bot to quit and closes the connection. A launched process
+     * that has not exited shortly afterwards is killed.
+     */
+    @Override
+    public void close() {
+        channel.offer(BotProtocol.quit());
+        channel.close();
+        if (process != null) {
+            try {
+                if (!process.waitFor(1, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private BotMessage await(BotMessage.Type type) throws IOException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(HANDSHAKE_TIMEOUT_MILLIS);
+        try {
+            while (true) {
+                long remaining = deadline - System.nanoTime();
+                String line = remaining > 0 ? channel.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                if (line == null) {
+                    throw new IOException(channel.isInputEnded()
+                            ? "Bot exited before sending " + type.name().toLowerCase(Locale.ROOT)
+                            : "Bot did not send " + type.name().toLowerCase(Locale.ROOT) + " in time");
+                }
+                BotMessage message = parse(line);
+                if (message == null) {continue;}
+                if (message.getType() == type) {
+                    return message;
+                }
+                if (message.getType() == BotMessage.Type.ERROR) {
+                    throw new IOException("Bot refused the rules: " + message.getReason());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the bot", e);
+        }
+    }
+
+    private void send(String line) throws IOException {
+        if (!channel.offer(line)) {
+            throw new IOException("Bot is not reading its input");
+        }
+    }
+
+    private BotMessage parse(String line) {
+        try {
+            return BotProtocol.parse(line);
+        } catch (IllegalArgumentException e) {
+            badLines++;
+            System.err.println("Skipping bad line from bot: " + e.getMessage());
+            return null;
+        }
+    }
+}
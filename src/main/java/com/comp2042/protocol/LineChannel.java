@@ -0,0 +1,220 @@
+package com.comp2042.protocol;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Line-based connection to another process, with one daemon thread
+ * reading and one writing so the game thread never blocks on a pipe.
+ *
+ * <p>Both directions go through bounded queues. {@link #offer} gives up at
+ * once when the outgoing queue is full instead of waiting for a bot that
+ * stopped reading, and the reader stops taking input while the incoming
+ * queue is full, which in turn blocks a bot that floods the pipe. Lines
+ * longer than the limit close the channel. The writer flushes only when
+ * its queue runs empty, so a burst of lines shares one system call.
+ */
+public class LineChannel implements AutoCloseable {
+
+    /** Lines buffered in each direction by default. */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    /** Longest accepted incoming line by default, in characters. */
+    public static final int DEFAULT_MAX_LINE_LENGTH = 1 << 16;
+
+    private static final int READ_BUFFER_SIZE = 8192;
+    // Marks the end of either stream; compared by identity
+    private static final String END = new String("end of stream");
+
+    private final InputStream in;
+    private final OutputStream out;
+    private final int maxLineLength;
+    private final BlockingQueue<String> incoming;
+    private final BlockingQueue<String> outgoing;
+    private final Thread reader;
+    private final Thread writer;
+
+    private volatile boolean closed;
+    private volatile boolean inputEnded;
+    private volatile boolean outputFailed;
+    private volatile IOException failure;
+
+    /**
+     * Creates a channel with the default buffer sizes and starts its
+     * threads.
+     *
+     * @param in stream to read lines from
+     * @param out stream to write lines to
+     * @param name prefix of the thread names
+     */
+    public LineChannel(InputStream in, OutputStream out, String name) {
+        this(in, out, name, DEFAULT_CAPACITY, DEFAULT_MAX_LINE_LENGTH);
+    }
+
+    /**
+     * Creates a channel and starts its threads.
+     *
+     * @param in stream to read lines from
+     * @param out stream to write lines to
+     * @param name prefix of the thread names
+     * @param capacity lines buffered in each direction
+     * @param maxLineLength longest accepted incoming line
+     */
+    public LineChannel(InputStream in, OutputStream out, String name, int capacity, int maxLineLength) {
+        if (capacity < 1 || maxLineLength < 1) {
+            throw new IllegalArgumentException("capacity and maxLineLength must be at least 1");
+        }
+        this.in = in;
+        this.out = out;
+        this.maxLineLength = maxLineLength;
+        this.incoming = new ArrayBlockingQueue<>(capacity);
+        this.outgoing = new ArrayBlockingQueue<>(capacity);
+        this.reader = new Thread(this::readLoop, name + "-reader");
+        this.writer = new Thread(this::writeLoop, name + "-writer");
+        reader.setDaemon(true);
+        writer.setDaemon(true);
+        reader.start();
+        writer.start();
+    }
+
+    /**
+     * Queues a line for sending without waiting.
+     *
+     * @param line the line, without a line break
+     * @return false if the channel is closed or broken, or the outgoing
+     *         queue is full
+     */
+    public boolean offer(String line) {
+        return !closed && !outputFailed && outgoing.offer(line);
+    }
+
+    /**
+     * Takes the next received line, waiting at most the given time.
+     *
+     * @param timeout longest wait
+     * @param unit unit of the timeout
+     * @return the line, or null on timeout or once the input has ended
+     * @throws InterruptedException if the calling thread is interrupted
+     */
+    public String poll(long timeout, TimeUnit unit) throws InterruptedException {
+        if (inputEnded) {return null;}
+        String line = incoming.poll(timeout, unit);
+        if (line == END) {
+            inputEnded = true;
+            return null;
+        }
+        return line;
+    }
+
+    /**
+     * Checks whether the other side closed its output, or the channel
+     * failed or was closed.
+     *
+     * @return true if no more lines will arrive
+     */
+    public boolean isInputEnded() {return inputEnded || closed;}
+
+    /**
+     * Gets the error that stopped the reader or writer.
+     * @return the error, or null if neither failed
+     */
+    public IOException getFailure() {return failure;}
+
+    /**
+     * Stops both threads and closes both streams. Lines still queued for
+     * sending are written first if the writer can do so without blocking
+     * for long.
+     */
+    @Override
+    public void close() {
+        if (closed) {return;}
+        closed = true;
+        outgoing.offer(END);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer.interrupt();
+        reader.interrupt();
+        closeQuietly(out);
+        closeQuietly(in);
+    }
+
+    private void readLoop() {
+        Reader source = new InputStreamReader(in, StandardCharsets.UTF_8);
+        char[] buffer = new char[READ_BUFFER_SIZE];
+        StringBuilder line = new StringBuilder();
+        try {
+            int count;
+            while (!closed && (count = source.read(buffer)) >= 0) {
+                int start = 0;
+                for (int i = 0; i < count; i++) {
+                    if (buffer[i] != '\n') {continue;}
+                    int end = i > start && buffer[i - 1] == '\r' ? i - 1 : i;
+                    line.append(buffer, start, end - start);
+                    checkLength(line);
+                    incoming.put(line.toString());
+                    line.setLength(0);
+                    start = i + 1;
+                }
+                line.append(buffer, start, count - start);
+                checkLength(line);
+            }
+            // Lines already received stay readable before the end marker
+            incoming.put(END);
+            return;
+        } catch (IOException e) {
+            if (!closed) {failure = e;}
+        } catch (InterruptedException e) {
+            // Closed
+        }
+        incoming.clear();
+        incoming.offer(END);
+    }
+
+    private void checkLength(StringBuilder line) throws IOException {
+        if (line.length() > maxLineLength) {
+            throw new IOException("Line longer than " + maxLineLength + " characters");
+        }
+    }
+
+    private void writeLoop() {
+        Writer sink = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), READ_BUFFER_SIZE);
+        try {
+            while (true) {
+                String line = outgoing.take();
+                if (line == END) {break;}
+                sink.write(line);
+                sink.write('\n');
+                if (outgoing.isEmpty()) {
+                    sink.flush();
+                }
+            }
+            sink.flush();
+        } catch (IOException e) {
+            if (!closed) {failure = e;}
+            outputFailed = true;
+        } catch (InterruptedException e) {
+            // Closed
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            // Already closed or broken; nothing left to release
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.comp2042.replay;
+
+import java.util.Arrays;
+
+/**
+ * A small block of cells to look for anywhere on a stack: cells that must
+ * be filled, cells that must be empty and cells that do not matter.
+ *
+ * <p>Rows are listed top to bottom; {@code X} is a filled cell, {@code .}
+ * an empty one and {@code ?} either. A T-spin double slot, for example, is
+ *
+ * <pre>
+ * CellPattern.parse("X..", "...", "X.X")
+ * </pre>
+ *
+ * <p>A pattern needs at least one filled cell, so it never matches empty
+ * rows alone.
+ */
+public final class CellPattern {
+
+    private final int[] filled;
+    private final int[] empty;
+    private final int width;
+
+    private CellPattern(int[] filled, int[] empty, int width) {
+        this.filled = filled;
+        this.empty = empty;
+        this.width = width;
+    }
+
+    /**
+     * Parses a pattern.
+     *
+     * @param rows rows top to bottom, all the same length
+     * @return the pattern
+     * @throws IllegalArgumentException if the rows are malformed or no cell
+     *                                  must be filled
+     */
+    public static CellPattern parse(String... rows) {
+        if (rows.length == 0 || rows[0].isEmpty()) {
+            throw new IllegalArgumentException("Pattern is empty");
+        }
+        int width = rows[0].length();
+        int[] filled = new int[rows.length];
+        int[] empty = new int[rows.length];
+        boolean anyFilled = false;
+        for (int y = 0; y < rows.length; y++) {
+            if (rows[y].length() != width) {
+                throw new IllegalArgumentException("Pattern rows must all be " + width + " cells wide");
+            }
+            for (int x = 0; x < width; x++) {
+                switch (rows[y].charAt(x)) {
+                    case 'X' -> {
+                        filled[y] |= 1 << x;
+                        anyFilled = true;
+                    }
+                    case '.' -> empty[y] |= 1 << x;
+                    case '?' -> { }
+                    default -> throw new IllegalArgumentException("Unknown pattern cell '" + rows[y].charAt(x)
+                            + "'; use X, . or ?");
+                }
+            }
+        }
+        if (!anyFilled) {
+            throw new IllegalArgumentException("Pattern needs at least one filled cell");
+        }
+        return new CellPattern(filled, empty, width);
+    }
+
+    /**
+     * Parses a pattern written on one line with rows separated by commas
+     * or slashes, such as {@code X../.../X.X}.
+     *
+     * @param text the pattern
+     * @return the pattern
+     */
+    public static CellPattern parse(String text) {
+        return parse(text.split("[,/]"));
+    }
+
+    public int getHeight() {return filled.length;}
+
+    public int getWidth() {return width;}
+
+    /**
+     * Checks whether the pattern appears in consecutive rows of a stack,
+     * with its top row at {@code rows[from]} and its left column at
+     * {@code x}.
+     *
+     * @param rows row bit masks, bit {@code c} for column {@code c}
+     * @param from index of the row under the pattern's top row
+     * @param x column under the pattern's left column
+     * @return true if every filled and empty cell matches
+     */
+    public boolean matchesAt(int[] rows, int from, int x) {
+        for (int i = 0; i < filled.length; i++) {
+            int row = rows[from + i];
+            int f = filled[i] << x;
+            if ((row & f) != f || (row & empty[i] << x) != 0) {return false;}
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the pattern appears anywhere in a run of rows.
+     *
+     * @param rows row bit masks
+     * @param boardWidth columns per row
+     * @return true if the pattern matches at some row and column
+     */
+    public boolean matchesAnywhere(int[] rows, int boardWidth) {
+        for (int from = 0; from + filled.length <= rows.length; from++) {
+            for (int x = 0; x + width <= boardWidth; x++) {
+                if (matchesAt(rows, from, x)) {return true;}
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CellPattern)) return false;
+        CellPattern other = (CellPattern) o;
+        return width == other.width && Arrays.equals(filled, other.filled) && Arrays.equals(empty, other.empty);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(filled) + Arrays.hashCode(empty) + width;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (int y = 0; y < filled.length; y++) {
+            if (y > 0) {text.append('/');}
+            for (int x = 0; x < width; x++) {
+                text.append((filled[y] >>> x & 1) != 0 ? 'X' : (empty[y] >>> x & 1) != 0 ? '.' : '?');
+            }
+        }
+        return text.toString();
+    }
+}
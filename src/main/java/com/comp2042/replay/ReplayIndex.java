@@ -0,0 +1,400 @@
+package com.comp2042.replay;
+
+import com.comp2042.sim.GameSimulator;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Finds the recorded positions whose stack contains a {@link CellPattern},
+ * using the inverted index written by {@link ReplayIndexBuilder}.
+ *
+ * <p>The index has three files: the sorted n-gram keys with the offset of
+ * each gram's posting list, the posting lists themselves (ascending
+ * position numbers) and a properties file naming the shards. The first
+ * two are memory-mapped, so opening an index reads nothing up front and
+ * indexes larger than the heap can be searched.
+ *
+ * <p>A search runs in two parallel passes. The first tests every distinct
+ * n-gram against the pattern at each row and column it fits, which is
+ * far less work than testing every position because most positions share
+ * their grams. The second marks the postings of the matching grams in one
+ * bitmap per block of positions and lists the marked positions in order.
+ * Blocks are handed out in ascending order, and once the blocks before a
+ * given block already hold {@code limit} matches the later blocks are
+ * skipped, so a search for the first few matches stops early. Matches are
+ * exact: a gram contains whole rows, so a matching gram is a matching
+ * position.
+ *
+ * <p>Patterns can be at most {@link #getGramRows()} rows tall.
+ */
+public final class ReplayIndex implements AutoCloseable {
+
+    static final String GRAMS_FILE = "grams.idx";
+    static final String POSTINGS_FILE = "postings.idx";
+    static final String SHARDS_FILE = "shards.properties";
+    static final int MAGIC = 0x52504931;
+    static final short VERSION = 1;
+    static final int HEADER_BYTES = 64;
+
+    private static final int GRAM_BLOCK = 1 << 14;
+    private static final int POSITION_BLOCK = 1 << 18;
+
+    private final LongBuffer keys;
+    private final LongBuffer offsets;
+    private final IntBuffer postings;
+    private final int gramRows;
+    private final int width;
+    private final int grams;
+    private final int positions;
+    private final Path[] shards;
+    private final long[] firstPositions;
+    private final ForkJoinPool pool;
+
+    private ReplayIndex(MappedByteBuffer gramMap, MappedByteBuffer postingMap, Path[] shards,
+                        long[] firstPositions, int parallelism) {
+        this.gramRows = gramMap.getInt(8);
+        this.width = gramMap.getInt(12);
+        this.grams = gramMap.getInt(16);
+        this.positions = gramMap.getInt(20);
+        this.keys = gramMap.slice(HEADER_BYTES, grams * Long.BYTES).asLongBuffer();
+        this.offsets = gramMap.slice(HEADER_BYTES + grams * Long.BYTES, (grams + 1) * Long.BYTES).asLongBuffer();
+        this.postings = postingMap.asIntBuffer();
+        this.shards = shards;
+        this.firstPositions = firstPositions;
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Maps an index.
+     *
+     * @param directory directory the builder wrote to
+     * @param parallelism threads to search with
+     * @return the index; close it to stop its threads
+     * @throws IOException if the files cannot be read or are not an index
+     */
+    public static ReplayIndex open(Path directory, int parallelism) throws IOException {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        MappedByteBuffer gramMap = map(directory.resolve(GRAMS_FILE));
+        if (gramMap.capacity() < HEADER_BYTES || gramMap.getInt(0) != MAGIC) {
+            throw new IOException(directory + " does not hold a replay index");
+        }
+        if (gramMap.getShort(Integer.BYTES) != VERSION) {
+            throw new IOException("Unsupported replay index version " + gramMap.getShort(Integer.BYTES));
+        }
+        long grams = gramMap.getInt(16);
+        if (gramMap.getInt(12) != GameSimulator.BOARD_WIDTH
+                || gramMap.capacity() != HEADER_BYTES + (2 * grams + 1) * Long.BYTES) {
+            throw new IOException("Truncated replay index in " + directory);
+        }
+        MappedByteBuffer postingMap = map(directory.resolve(POSTINGS_FILE));
+        if (postingMap.capacity() != gramMap.getLong(HEADER_BYTES + (int) (2 * grams) * Long.BYTES) * Integer.BYTES) {
+            throw new IOException("Truncated replay postings in " + directory);
+        }
+
+        Properties manifest = new Properties();
+        try (Reader reader = Files.newBufferedReader(directory.resolve(SHARDS_FILE), StandardCharsets.UTF_8)) {
+            manifest.load(reader);
+        }
+        try {
+            int count = Integer.parseInt(manifest.getProperty("shards"));
+            Path[] shards = new Path[count];
+            long[] firstPositions = new long[count];
+            for (int i = 0; i < count; i++) {
+                shards[i] = Path.of(manifest.getProperty("shard." + i));
+                firstPositions[i] = Long.parseLong(manifest.getProperty("shard." + i + ".first"));
+            }
+            return new ReplayIndex(gramMap, postingMap, shards, firstPositions, parallelism);
+        } catch (NumberFormatException | NullPointerException e) {
+            throw new IOException("Malformed " + SHARDS_FILE + " in " + directory, e);
+        }
+    }
+
+    private static MappedByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(file + " is larger than 2 GiB");
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Packs {@code count} rows starting at {@code from} into a gram key,
+     * the top row in the highest bits.
+     *
+     * @return the key, 0 if every row is empty
+     */
+    static long gramKey(int[] rows, int from, int count) {
+        long key = 0;
+        for (int i = 0; i < count; i++) {
+            key = key << GameSimulator.BOARD_WIDTH | rows[from + i];
+        }
+        return key;
+    }
+
+    /**
+     * Lists the positions that contain a pattern.
+     *
+     * @param pattern the pattern
+     * @param limit most positions to list
+     * @return the first {@code limit} matching positions in order
+     * @throws IllegalArgumentException if the pattern is taller than the
+     *                                  grams or wider than the board
+     */
+    public SearchResult search(CellPattern pattern, int limit) {
+        if (pattern.getHeight() > gramRows || pattern.getWidth() > width) {
+            throw new IllegalArgumentException("Pattern " + pattern + " does not fit in " + gramRows
+                    + " rows of " + width + " columns");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        int[] matching = matchingGrams(pattern);
+        return collect(matching, limit);
+    }
+
+    /**
+     * Counts the positions that contain a pattern.
+     *
+     * @param pattern the pattern
+     * @return number of matching positions
+     */
+    public int count(CellPattern pattern) {
+        return search(pattern, Integer.MAX_VALUE).getPositions().length;
+    }
+
+    private int[] matchingGrams(CellPattern pattern) {
+        int blocks = (grams + GRAM_BLOCK - 1) / GRAM_BLOCK;
+        int[][] found = new int[blocks][];
+        AtomicInteger next = new AtomicInteger();
+        runWorkers(() -> {
+            int[] rows = new int[gramRows];
+            int[] block = new int[GRAM_BLOCK];
+            for (int b = next.getAndIncrement(); b < blocks; b = next.getAndIncrement()) {
+                int n = 0;
+                int end = Math.min(grams, (b + 1) * GRAM_BLOCK);
+                for (int g = b * GRAM_BLOCK; g < end; g++) {
+                    unpack(keys.get(g), rows);
+                    if (pattern.matchesAnywhere(rows, width)) {block[n++] = g;}
+                }
+                found[b] = Arrays.copyOf(block, n);
+            }
+        });
+        int total = 0;
+        for (int[] block : found) {total += block.length;}
+        int[] matching = new int[total];
+        int at = 0;
+        for (int[] block : found) {
+            System.arraycopy(block, 0, matching, at, block.length);
+            at += block.length;
+        }
+        return matching;
+    }
+
+    private void unpack(long key, int[] rows) {
+        int mask = (1 << width) - 1;
+        for (int i = gramRows - 1; i >= 0; i--) {
+            rows[i] = (int) key & mask;
+            key >>>= width;
+        }
+    }
+
+    private SearchResult collect(int[] matching, int limit) {
+        int blocks = (positions + POSITION_BLOCK - 1) / POSITION_BLOCK;
+        BlockResults results = new BlockResults(blocks, limit);
+        AtomicInteger next = new AtomicInteger();
+        runWorkers(() -> {
+            long[] bits = new long[POSITION_BLOCK / Long.SIZE];
+            // A worker's blocks ascend, so each list is searched from where its last block ended
+            int[] cursors = new int[matching.length];
+            for (int m = 0; m < matching.length; m++) {cursors[m] = (int) offsets.get(matching[m]);}
+            for (int b = next.getAndIncrement(); b < blocks && !results.isSatisfiedBefore(b);
+                 b = next.getAndIncrement()) {
+                Arrays.fill(bits, 0);
+                int start = b * POSITION_BLOCK;
+                int end = (int) Math.min(positions, (long) start + POSITION_BLOCK);
+                for (int m = 0; m < matching.length; m++) {
+                    if ((m & 1023) == 0 && results.isSatisfiedBefore(b)) {break;}
+                    int to = (int) offsets.get(matching[m] + 1);
+                    int i = gallop(start, cursors[m], to);
+                    for (; i < to; i++) {
+                        int position = postings.get(i);
+                        if (position >= end) {break;}
+                        int bit = position - start;
+                        bits[bit >>> 6] |= 1L << bit;
+                    }
+                    cursors[m] = i;
+                }
+                results.complete(b, list(bits, start, limit));
+            }
+        });
+        return results.merge(matching.length);
+    }
+
+    /**
+     * Finds the first posting at or after a position, probing 1, 2, 4, ...
+     * entries ahead before a binary search, so nearby targets are cheap.
+     */
+    private int gallop(int position, int from, int to) {
+        if (from >= to || postings.get(from) >= position) {return from;}
+        int step = 1;
+        while (from + step < to && postings.get(from + step) < position) {
+            from += step;
+            step <<= 1;
+        }
+        return firstAtLeast(position, from + 1, Math.min(to, from + step + 1));
+    }
+
+    private int firstAtLeast(int position, int from, int to) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (postings.get(mid) < position) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    private static int[] list(long[] bits, int start, int limit) {
+        int count = 0;
+        for (long word : bits) {count += Long.bitCount(word);}
+        int[] listed = new int[Math.min(count, limit)];
+        int n = 0;
+        for (int w = 0; w < bits.length && n < listed.length; w++) {
+            for (long word = bits[w]; word != 0 && n < listed.length; word &= word - 1) {
+                listed[n++] = start + w * Long.SIZE + Long.numberOfTrailingZeros(word);
+            }
+        }
+        return listed;
+    }
+
+    private void runWorkers(Runnable worker) {
+        List<Callable<Void>> workers = new ArrayList<>();
+        for (int i = 0; i < pool.getParallelism(); i++) {
+            workers.add(() -> {
+                worker.run();
+                return null;
+            });
+        }
+        for (Future<Void> future : pool.invokeAll(workers)) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Search interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Search failed", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Matches of every position block, and how far the blocks completed in
+     * order already reach the limit.
+     */
+    private static final class BlockResults {
+
+        private final int[][] blocks;
+        private final int limit;
+        private int completedPrefix;
+        private long prefixMatches;
+        private volatile int satisfiedAt = Integer.MAX_VALUE;
+
+        BlockResults(int blocks, int limit) {
+            this.blocks = new int[blocks][];
+            this.limit = limit;
+        }
+
+        /**
+         * Checks whether the blocks before one already hold enough matches.
+         */
+        boolean isSatisfiedBefore(int block) {return block > satisfiedAt;}
+
+        synchronized void complete(int block, int[] matches) {
+            blocks[block] = matches;
+            while (completedPrefix < blocks.length && blocks[completedPrefix] != null) {
+                prefixMatches += blocks[completedPrefix].length;
+                if (prefixMatches >= limit && satisfiedAt == Integer.MAX_VALUE) {
+                    satisfiedAt = completedPrefix;
+                }
+                completedPrefix++;
+            }
+        }
+
+        synchronized SearchResult merge(int matchingGrams) {
+            int[] listed = new int[(int) Math.min(limit, prefixMatches)];
+            int n = 0;
+            for (int b = 0; b < completedPrefix && n < listed.length; b++) {
+                int take = Math.min(blocks[b].length, listed.length - n);
+                System.arraycopy(blocks[b], 0, listed, n, take);
+                n += take;
+            }
+            return new SearchResult(listed, satisfiedAt == Integer.MAX_VALUE, matchingGrams);
+        }
+    }
+
+    /**
+     * Gets the shard a position was read from.
+     * @param position position number
+     * @return the shard file
+     */
+    public Path getShard(int position) {return shards[shardOf(position)];}
+
+    /**
+     * Gets the index of a position's record within its shard, for
+     * {@link com.comp2042.sim.TrainingDataReader#next()} counting from 0.
+     * @param position position number
+     * @return record index in the shard
+     */
+    public int getRecordIndex(int position) {return (int) (position - firstPositions[shardOf(position)]);}
+
+    private int shardOf(int position) {
+        if (position < 0 || position >= positions) {
+            throw new IndexOutOfBoundsException("Position " + position);
+        }
+        int found = Arrays.binarySearch(firstPositions, position);
+        if (found >= 0) {
+            // Skip shards without records that start at the same position
+            while (found + 1 < firstPositions.length && firstPositions[found + 1] == position) {found++;}
+            return found;
+        }
+        return -found - 2;
+    }
+
+    /**
+     * Gets the rows per n-gram, the tallest pattern the index answers.
+     * @return gram height
+     */
+    public int getGramRows() {return gramRows;}
+
+    public int getGrams() {return grams;}
+
+    public int getPositions() {return positions;}
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+}
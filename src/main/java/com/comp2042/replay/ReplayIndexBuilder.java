@@ -0,0 +1,235 @@
+package com.comp2042.replay;
+
+import com.comp2042.sim.GameSimulator;
+import com.comp2042.sim.TrainingDataReader;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Builds a {@link ReplayIndex} over the positions in training-data shards
+ * written by {@link com.comp2042.sim.TrainingDataWriter}.
+ *
+ * <p>Every record is one position, numbered from 0 in shard order. Each
+ * run of {@code gramRows} consecutive rows of its stack that is not
+ * entirely empty is an n-gram, and the index lists, for every distinct
+ * n-gram, the positions that contain it. Shards are read in parallel on a
+ * fork/join pool into one table per shard, and the tables are then
+ * written out gram by gram in key order, so the files do not depend on
+ * the thread count. The postings are held on the heap while building,
+ * about four bytes for every non-empty window of every position.
+ */
+public final class ReplayIndexBuilder {
+
+    /** Rows per n-gram when none is given; a T-spin slot is three rows tall. */
+    public static final int DEFAULT_GRAM_ROWS = 3;
+
+    private static final int MAX_GRAM_ROWS = Long.SIZE / GameSimulator.BOARD_WIDTH;
+
+    private final int gramRows;
+    private final int parallelism;
+
+    /**
+     * Creates a new ReplayIndexBuilder.
+     *
+     * @param gramRows rows per n-gram, the tallest pattern the index can answer
+     * @param parallelism number of worker threads
+     */
+    public ReplayIndexBuilder(int gramRows, int parallelism) {
+        if (gramRows < 1 || gramRows > MAX_GRAM_ROWS) {
+            throw new IllegalArgumentException("gramRows must be between 1 and " + MAX_GRAM_ROWS);
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        this.gramRows = gramRows;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Indexes shards into a directory, replacing any index already there.
+     *
+     * @param shards shard files, for example from
+     *               {@link TrainingDataReader#shards(Path, String)}
+     * @param directory directory for the index files
+     * @return number of positions indexed
+     * @throws IOException if a shard cannot be read or the index cannot be written
+     */
+    public int build(List<Path> shards, Path directory) throws IOException {
+        ShardGrams[] tables = new ShardGrams[shards.size()];
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new ShardRangeTask(shards, tables, 0, shards.size()));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            pool.shutdown();
+        }
+
+        long[] firstPositions = new long[shards.size()];
+        long positions = 0;
+        for (int i = 0; i < tables.length; i++) {
+            firstPositions[i] = positions;
+            positions += tables[i].records;
+        }
+        if (positions > Integer.MAX_VALUE) {
+            throw new IOException(positions + " positions do not fit in one index");
+        }
+
+        long postings = 0;
+        for (ShardGrams table : tables) {
+            for (IntList list : table.grams.values()) {postings += list.size;}
+        }
+        if (postings > Integer.MAX_VALUE / Integer.BYTES) {
+            throw new IOException(postings + " postings do not fit in one index; use fewer shards per index");
+        }
+
+        Files.createDirectories(directory);
+        long[] keys = distinctKeys(tables);
+        long[] offsets = new long[keys.length + 1];
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(directory.resolve(ReplayIndex.POSTINGS_FILE)), 1 << 16))) {
+            long written = 0;
+            for (int g = 0; g < keys.length; g++) {
+                offsets[g] = written;
+                for (int s = 0; s < tables.length; s++) {
+                    IntList list = tables[s].grams.get(keys[g]);
+                    if (list == null) {continue;}
+                    for (int i = 0; i < list.size; i++) {
+                        out.writeInt((int) (firstPositions[s] + list.values[i]));
+                    }
+                    written += list.size;
+                }
+            }
+            offsets[keys.length] = written;
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(directory.resolve(ReplayIndex.GRAMS_FILE)), 1 << 16))) {
+            out.writeInt(ReplayIndex.MAGIC);
+            out.writeShort(ReplayIndex.VERSION);
+            out.writeShort(0);
+            out.writeInt(gramRows);
+            out.writeInt(GameSimulator.BOARD_WIDTH);
+            out.writeInt(keys.length);
+            out.writeInt((int) positions);
+            out.write(new byte[ReplayIndex.HEADER_BYTES - 6 * Integer.BYTES]);
+            for (long key : keys) {out.writeLong(key);}
+            for (long offset : offsets) {out.writeLong(offset);}
+        }
+
+        Properties manifest = new Properties();
+        manifest.setProperty("shards", Integer.toString(shards.size()));
+        for (int i = 0; i < shards.size(); i++) {
+            manifest.setProperty("shard." + i, shards.get(i).toAbsolutePath().toString());
+            manifest.setProperty("shard." + i + ".first", Long.toString(firstPositions[i]));
+        }
+        try (Writer writer = Files.newBufferedWriter(directory.resolve(ReplayIndex.SHARDS_FILE),
+                StandardCharsets.UTF_8)) {
+            manifest.store(writer, "Shards of the replay index, with the number of their first position");
+        }
+        return (int) positions;
+    }
+
+    private static long[] distinctKeys(ShardGrams[] tables) {
+        int total = 0;
+        for (ShardGrams table : tables) {total += table.grams.size();}
+        long[] keys = new long[total];
+        int n = 0;
+        for (ShardGrams table : tables) {
+            for (long key : table.grams.keySet()) {keys[n++] = key;}
+        }
+        Arrays.sort(keys);
+        int distinct = 0;
+        for (int i = 0; i < n; i++) {
+            if (distinct == 0 || keys[distinct - 1] != keys[i]) {keys[distinct++] = keys[i];}
+        }
+        return Arrays.copyOf(keys, distinct);
+    }
+
+    /**
+     * Splits a range of shards in half until each task reads one shard.
+     */
+    private final class ShardRangeTask extends RecursiveAction {
+
+        private final List<Path> shards;
+        private final ShardGrams[] tables;
+        private final int from;
+        private final int to;
+
+        ShardRangeTask(List<Path> shards, ShardGrams[] tables, int from, int to) {
+            this.shards = shards;
+            this.tables = tables;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (to > from) {
+                    try {
+                        tables[from] = read(shards.get(from));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ShardRangeTask(shards, tables, from, mid), new ShardRangeTask(shards, tables, mid, to));
+        }
+    }
+
+    private ShardGrams read(Path shard) throws IOException {
+        ShardGrams table = new ShardGrams();
+        int[] rows = new int[GameSimulator.BOARD_HEIGHT];
+        try (TrainingDataReader reader = TrainingDataReader.open(shard)) {
+            while (reader.next()) {
+                int position = table.records++;
+                for (int y = 0; y < rows.length; y++) {rows[y] = reader.row(y);}
+                for (int y = 0; y + gramRows <= rows.length; y++) {
+                    long key = ReplayIndex.gramKey(rows, y, gramRows);
+                    if (key == 0) {continue;}
+                    table.grams.computeIfAbsent(key, k -> new IntList()).addOnce(position);
+                }
+            }
+        }
+        return table;
+    }
+
+    /**
+     * The n-grams of one shard, with positions numbered within the shard.
+     */
+    private static final class ShardGrams {
+        final Map<Long, IntList> grams = new HashMap<>();
+        int records;
+    }
+
+    /**
+     * Growable list of ascending positions.
+     */
+    private static final class IntList {
+        int[] values = new int[4];
+        int size;
+
+        void addOnce(int value) {
+            if (size > 0 && values[size - 1] == value) {return;}
+            if (size == values.length) {values = Arrays.copyOf(values, size * 2);}
+            values[size++] = value;
+        }
+    }
+}
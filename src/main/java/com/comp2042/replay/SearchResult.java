@@ -0,0 +1,36 @@
+package com.comp2042.replay;
+
+/**
+ * Positions found by a {@link ReplayIndex} search.
+ */
+public final class SearchResult {
+
+    private final int[] positions;
+    private final boolean complete;
+    private final int matchingGrams;
+
+    SearchResult(int[] positions, boolean complete, int matchingGrams) {
+        this.positions = positions;
+        this.complete = complete;
+        this.matchingGrams = matchingGrams;
+    }
+
+    /**
+     * Gets the matching positions.
+     * @return position numbers in ascending order
+     */
+    public int[] getPositions() {return positions.clone();}
+
+    /**
+     * Checks whether every match is listed, that is the search did not
+     * stop at its limit.
+     * @return true if no more positions match
+     */
+    public boolean isComplete() {return complete;}
+
+    /**
+     * Gets how many distinct n-grams contain the pattern.
+     * @return matching gram count
+     */
+    public int getMatchingGrams() {return matchingGrams;}
+}
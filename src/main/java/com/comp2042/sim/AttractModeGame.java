@@ -0,0 +1,159 @@
+package com.comp2042.sim;
+
+import com.comp2042.bot.HeuristicPlayer;
+import com.comp2042.bot.Placement;
+import com.comp2042.bot.PlacementExecutor;
+import com.comp2042.bot.Player;
+import com.comp2042.core.SimpleBoard;
+import com.comp2042.model.ViewData;
+
+/**
+ * Endless auto-played game shown behind the main menu.
+ *
+ * <p>Each {@link #step()} places one brick on a real {@link SimpleBoard}
+ * and starts a new game with the next seed once the stack tops out or the
+ * piece limit is reached. Every step also checks the engine: the brick
+ * must come to rest where the player planned it, and the stack must gain
+ * four cells less a full row per cleared line. Violations are counted and
+ * written to {@code System.err}, so every launch doubles as a smoke test.
+ */
+public class AttractModeGame {
+
+    /** Pieces after which a game is restarted even if it is still going. */
+    public static final int DEFAULT_PIECE_LIMIT = 300;
+
+    private static final int CELLS_PER_BRICK = 4;
+
+    private final Player player;
+    private final int pieceLimit;
+
+    private SimpleBoard board;
+    private long seed;
+    private int games;
+    private long pieces;
+    private int gamePieces;
+    private int failures;
+    private String lastFailure;
+
+    /**
+     * Creates an attract-mode game played by the heuristic player.
+     *
+     * @param seed seed of the first game; later games use the following seeds
+     */
+    public AttractModeGame(long seed) {
+        this(new HeuristicPlayer(), seed, DEFAULT_PIECE_LIMIT);
+    }
+
+    /**
+     * Creates a new AttractModeGame.
+     *
+     * @param player the player
+     * @param seed seed of the first game; later games use the following seeds
+     * @param pieceLimit pieces after which a game is restarted
+     */
+    public AttractModeGame(Player player, long seed, int pieceLimit) {
+        if (pieceLimit < 1) {
+            throw new IllegalArgumentException("pieceLimit must be at least 1");
+        }
+        this.player = player;
+        this.seed = seed - 1;
+        this.pieceLimit = pieceLimit;
+        newGame();
+    }
+
+    /**
+     * Places the current brick and spawns the next one, or starts a new
+     * game if the current one is over.
+     */
+    public void step() {
+        int before = filledCells(board.getBoardMatrix());
+        Placement placement = player.choosePlacement(board);
+        if (placement == null) {
+            newGame();
+            return;
+        }
+
+        PlacementExecutor.execute(board, placement);
+        ViewData view = board.getViewData();
+        if (view.getxPosition() != placement.getX() || view.getyPosition() != placement.getY()) {
+            fail("brick came to rest at (" + view.getxPosition() + "," + view.getyPosition()
+                    + ") instead of (" + placement.getX() + "," + placement.getY() + ")");
+        }
+        board.mergeBrickToBackground();
+        int lines = board.clearRows().getLinesRemoved();
+        int[][] matrix = board.getBoardMatrix();
+        int expected = before + CELLS_PER_BRICK - lines * matrix[0].length;
+        int after = filledCells(matrix);
+        if (after != expected) {
+            fail("stack has " + after + " cells after clearing " + lines + " lines, expected " + expected);
+        }
+        pieces++;
+        gamePieces++;
+
+        if (gamePieces >= pieceLimit || board.checkGameOver() || board.createNewBrick()) {
+            newGame();
+        }
+    }
+
+    /**
+     * Gets the stack without the falling brick.
+     * @return board matrix; not to be modified
+     */
+    public int[][] getBoardMatrix() {return board.getBoardMatrix();}
+
+    /**
+     * Gets the falling brick and its position.
+     * @return view data of the current brick
+     */
+    public ViewData getViewData() {return board.getViewData();}
+
+    /**
+     * Gets the number of games started, counting the current one.
+     * @return games started
+     */
+    public int getGames() {return games;}
+
+    /**
+     * Gets the number of bricks placed over all games.
+     * @return bricks placed
+     */
+    public long getPieces() {return pieces;}
+
+    /**
+     * Gets the number of engine checks that failed.
+     * @return failed checks
+     */
+    public int getFailures() {return failures;}
+
+    /**
+     * Gets the description of the last failed check.
+     * @return failure message, or null if every check passed
+     */
+    public String getLastFailure() {return lastFailure;}
+
+    private void newGame() {
+        seed++;
+        games++;
+        gamePieces = 0;
+        board = new SimpleBoard(GameSimulator.BOARD_WIDTH, GameSimulator.BOARD_HEIGHT, seed);
+        if (board.createNewBrick()) {
+            fail("game " + seed + " topped out on its first brick");
+        }
+    }
+
+    private void fail(String message) {
+        failures++;
+        lastFailure = "seed " + seed + ", piece " + gamePieces + ": " + message;
+        System.err.println("Attract mode engine check failed: " + lastFailure);
+    }
+
+    private static int filledCells(int[][] matrix) {
+        int count = 0;
+        for (int[] row : matrix) {
+            for (int cell : row) {
+                if (cell != 0) {count++;}
+            }
+        }
+        return count;
+    }
+}
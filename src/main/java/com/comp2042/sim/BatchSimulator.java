@@ -0,0 +1,104 @@
+package com.comp2042.sim;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs many independent headless games concurrently on a fork/join pool.
+ *
+ * <p>Every game builds its own board, game state, scoring manager and
+ * player inside its task, so no engine state is shared between workers.
+ * The only shared object is the lock-free {@link BatchStatistics}.
+ */
+public class BatchSimulator {
+
+    private final int parallelism;
+
+    /**
+     * Creates a simulator that uses every available core.
+     */
+    public BatchSimulator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new BatchSimulator.
+     * @param parallelism number of worker threads
+     */
+    public BatchSimulator(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Plays {@code games} games using seeds {@code base.getSeed()} upwards.
+     *
+     * @param base settings shared by every game; only the seed varies
+     * @param games number of games to play
+     * @return aggregated statistics
+     */
+    public BatchSummary run(SimulationConfig base, int games) {
+        return run(base, games, null);
+    }
+
+    /**
+     * Plays {@code games} games and records every placement as training
+     * data. Workers only copy finished games into the writer's buffer, so
+     * they do not wait for the disk.
+     *
+     * @param base settings shared by every game; only the seed varies
+     * @param games number of games to play
+     * @param dataset writer for the placements, or null to record nothing
+     * @return aggregated statistics
+     */
+    public BatchSummary run(SimulationConfig base, int games, TrainingDataWriter dataset) {
+        BatchStatistics statistics = new BatchStatistics();
+        long startNanos = System.nanoTime();
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new GameRangeTask(base, statistics, dataset, 0, games));
+        } finally {
+            pool.shutdown();
+        }
+        return statistics.snapshot(System.nanoTime() - startNanos, parallelism);
+    }
+
+    /**
+     * Splits a range of game indices in half until each task plays one game,
+     * so idle workers can steal the remaining halves.
+     */
+    private static final class GameRangeTask extends RecursiveAction {
+
+        private final SimulationConfig base;
+        private final BatchStatistics statistics;
+        private final TrainingDataWriter dataset;
+        private final int from;
+        private final int to;
+
+        GameRangeTask(SimulationConfig base, BatchStatistics statistics, TrainingDataWriter dataset,
+                      int from, int to) {
+            this.base = base;
+            this.statistics = statistics;
+            this.dataset = dataset;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (to > from) {
+                    SimulationConfig config = base.withSeed(base.getSeed() + from);
+                    statistics.record(new GameSimulator(config, null, dataset).run());
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new GameRangeTask(base, statistics, dataset, from, mid),
+                    new GameRangeTask(base, statistics, dataset, mid, to));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.comp2042.sim;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free accumulator for the results of many concurrent games.
+ * Any number of worker threads may call {@link #record(SimulationResult)}
+ * at the same time; contention is spread across the adders' cells.
+ */
+public class BatchStatistics {
+
+    private final LongAdder games = new LongAdder();
+    private final LongAdder pieces = new LongAdder();
+    private final LongAdder lines = new LongAdder();
+    private final LongAdder score = new LongAdder();
+    private final LongAdder toppedOut = new LongAdder();
+    private final LongAdder tetrises = new LongAdder();
+    private final LongAdder gameNanos = new LongAdder();
+    private final LongAccumulator maxScore = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator maxLines = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Adds one finished game.
+     * @param result the game's summary
+     */
+    public void record(SimulationResult result) {
+        games.increment();
+        pieces.add(result.getPieces());
+        lines.add(result.getLines());
+        score.add(result.getScore());
+        tetrises.add(result.getClears(4));
+        gameNanos.add(result.getWallNanos());
+        if (result.isToppedOut()) {
+            toppedOut.increment();
+        }
+        maxScore.accumulate(result.getScore());
+        maxLines.accumulate(result.getLines());
+    }
+
+    /**
+     * Takes a snapshot of the totals. Only exact once all recording threads
+     * have finished.
+     *
+     * @param elapsedNanos real time the whole batch took
+     * @param parallelism number of worker threads used
+     * @return immutable summary
+     */
+    public BatchSummary snapshot(long elapsedNanos, int parallelism) {
+        return new BatchSummary(
+                games.sum(), pieces.sum(), lines.sum(), score.sum(),
+                toppedOut.sum(), tetrises.sum(), maxScore.get(), maxLines.get(),
+                gameNanos.sum(), elapsedNanos, parallelism
+        );
+    }
+}
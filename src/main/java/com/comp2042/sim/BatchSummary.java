@@ -0,0 +1,109 @@
+package com.comp2042.sim;
+
+import java.util.Locale;
+
+/**
+ * Aggregated statistics of a batch of simulated games.
+ */
+public final class BatchSummary {
+
+    private final long games;
+    private final long pieces;
+    private final long lines;
+    private final long score;
+    private final long toppedOut;
+    private final long tetrises;
+    private final long maxScore;
+    private final long maxLines;
+    private final long gameNanos;
+    private final long elapsedNanos;
+    private final int parallelism;
+
+    /**
+     * Creates a new BatchSummary.
+     *
+     * @param games games played
+     * @param pieces total pieces placed
+     * @param lines total lines cleared
+     * @param score total score
+     * @param toppedOut games that ended by topping out
+     * @param tetrises total four-line clears
+     * @param maxScore best single-game score
+     * @param maxLines most lines in a single game
+     * @param gameNanos sum of the per-game run times
+     * @param elapsedNanos real time the batch took
+     * @param parallelism worker threads used
+     */
+    public BatchSummary(long games, long pieces, long lines, long score, long toppedOut,
+                        long tetrises, long maxScore, long maxLines,
+                        long gameNanos, long elapsedNanos, int parallelism) {
+        this.games = games;
+        this.pieces = pieces;
+        this.lines = lines;
+        this.score = score;
+        this.toppedOut = toppedOut;
+        this.tetrises = tetrises;
+        this.maxScore = maxScore;
+        this.maxLines = maxLines;
+        this.gameNanos = gameNanos;
+        this.elapsedNanos = elapsedNanos;
+        this.parallelism = parallelism;
+    }
+
+    public long getGames() {return games;}
+
+    public long getPieces() {return pieces;}
+
+    public long getLines() {return lines;}
+
+    public long getScore() {return score;}
+
+    public long getToppedOut() {return toppedOut;}
+
+    public long getTetrises() {return tetrises;}
+
+    public long getMaxScore() {return maxScore;}
+
+    public long getMaxLines() {return maxLines;}
+
+    public long getElapsedNanos() {return elapsedNanos;}
+
+    public int getParallelism() {return parallelism;}
+
+    /**
+     * Gets the fraction of games that topped out.
+     * @return top-out rate between 0 and 1
+     */
+    public double getTopOutRate() {return games == 0 ? 0 : (double) toppedOut / games;}
+
+    public double getMeanLines() {return games == 0 ? 0 : (double) lines / games;}
+
+    public double getMeanScore() {return games == 0 ? 0 : (double) score / games;}
+
+    public double getMeanPieces() {return games == 0 ? 0 : (double) pieces / games;}
+
+    /**
+     * Gets the aggregate engine throughput across all workers.
+     * @return pieces placed per real second
+     */
+    public double getPiecesPerSecond() {
+        return elapsedNanos == 0 ? 0 : pieces * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Gets how much faster the batch ran than playing its games one after another.
+     * @return summed per-game time divided by elapsed time
+     */
+    public double getSpeedup() {
+        return elapsedNanos == 0 ? 0 : (double) gameNanos / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "%d games on %d threads: mean lines %.2f, mean score %.1f, mean pieces %.1f, "
+                        + "top-out rate %.3f, %.0f pieces/s, speedup %.2fx",
+                games, parallelism, getMeanLines(), getMeanScore(), getMeanPieces(),
+                getTopOutRate(), getPiecesPerSecond(), getSpeedup());
+    }
+}
@@ -0,0 +1,295 @@
+package com.comp2042.sim;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Coordinator that plays a batch of games on {@link SimulationWorker}s in
+ * other JVMs, which connect to it over TCP. It produces the same
+ * {@link BatchSummary} as {@link BatchSimulator} for the same seeds, but
+ * the games' memory and garbage collection are spread over the workers;
+ * the coordinator only keeps the running totals.
+ *
+ * <p>The seeds are cut into jobs of a few games each. A worker is sent one
+ * job per slot it offered and a new one for every result it returns, so
+ * jobs that have not started stay in the coordinator's queue, where any
+ * idle worker can take them. Once the queue is empty, an idle worker
+ * steals a job that another worker is still playing and plays a second
+ * copy; whichever copy finishes first counts and the other is discarded.
+ * A slow or overloaded worker therefore cannot hold up the end of the
+ * batch. If a worker disconnects, the jobs it was playing go back to the
+ * front of the queue unless another copy is still running.
+ *
+ * <p>Workers may join at any time during a run. A run with no workers
+ * waits until one connects.
+ */
+public class DistributedSimulator implements AutoCloseable {
+
+    /** Games per job unless another size is given. */
+    public static final int DEFAULT_GAMES_PER_JOB = 4;
+
+    private static final int ACCEPT_POLL_MILLIS = 50;
+
+    private final ServerSocket server;
+    private final int gamesPerJob;
+
+    private volatile Schedule lastRun;
+
+    /**
+     * Starts listening for workers.
+     *
+     * @param port port to listen on, or 0 for any free port
+     * @param gamesPerJob games in each job sent to a worker
+     * @throws IOException if the port cannot be opened
+     */
+    public DistributedSimulator(int port, int gamesPerJob) throws IOException {
+        if (gamesPerJob < 1) {
+            throw new IllegalArgumentException("gamesPerJob must be at least 1");
+        }
+        this.server = new ServerSocket(port);
+        this.gamesPerJob = gamesPerJob;
+    }
+
+    /**
+     * Gets the port workers connect to.
+     * @return local port
+     */
+    public int getPort() {return server.getLocalPort();}
+
+    /**
+     * Plays {@code games} games using seeds {@code base.getSeed()} upwards.
+     *
+     * @param base settings shared by every game; only the seed varies
+     * @param games number of games to play
+     * @return aggregated statistics; the parallelism is the total number
+     *         of worker slots that joined
+     * @throws IOException if the coordinator stops accepting connections
+     */
+    public BatchSummary run(SimulationConfig base, int games) throws IOException {
+        long startNanos = System.nanoTime();
+        Schedule schedule = new Schedule(base, games);
+        lastRun = schedule;
+        server.setSoTimeout(ACCEPT_POLL_MILLIS);
+        while (!schedule.isFinished()) {
+            Socket socket;
+            try {
+                socket = server.accept();
+            } catch (SocketTimeoutException e) {
+                continue;
+            }
+            Thread thread = new Thread(() -> new Connection(socket, schedule).run(),
+                    "simulation-coordinator-" + socket.getRemoteSocketAddress());
+            thread.setDaemon(true);
+            thread.start();
+        }
+        return schedule.statistics.snapshot(System.nanoTime() - startNanos, Math.max(1, schedule.slots));
+    }
+
+    /**
+     * Gets the number of workers that dropped out during the last run
+     * while they had jobs.
+     * @return lost workers
+     */
+    public int getLostWorkers() {return lastRun == null ? 0 : lastRun.lostWorkers;}
+
+    /**
+     * Gets the number of jobs put back in the queue after a worker dropped
+     * out in the last run.
+     * @return requeued jobs
+     */
+    public int getRequeuedJobs() {return lastRun == null ? 0 : lastRun.requeued;}
+
+    /**
+     * Gets the number of second copies of running jobs handed to idle
+     * workers in the last run.
+     * @return stolen jobs
+     */
+    public int getStolenJobs() {return lastRun == null ? 0 : lastRun.stolen;}
+
+    /**
+     * Stops listening. Workers still connected finish their current job
+     * and are then sent away.
+     *
+     * @throws IOException if the socket cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        server.close();
+    }
+
+    /**
+     * Job queue and results of one run. All changes lock the schedule; the
+     * counters can be read without it.
+     */
+    private final class Schedule {
+
+        final BatchStatistics statistics = new BatchStatistics();
+        final Deque<SimulationWire.Job> pending = new ArrayDeque<>();
+        final SimulationWire.Job[] jobs;
+        final boolean[] done;
+        final int[] copies;
+        int remaining;
+        int firstOpen;
+        volatile int slots;
+        volatile int lostWorkers;
+        volatile int requeued;
+        volatile int stolen;
+
+        Schedule(SimulationConfig base, int games) {
+            int count = (games + gamesPerJob - 1) / gamesPerJob;
+            jobs = new SimulationWire.Job[count];
+            for (int id = 0; id < count; id++) {
+                int first = id * gamesPerJob;
+                jobs[id] = new SimulationWire.Job(id, base.withSeed(base.getSeed() + first),
+                        Math.min(gamesPerJob, games - first));
+                pending.add(jobs[id]);
+            }
+            done = new boolean[count];
+            copies = new int[count];
+            remaining = count;
+        }
+
+        synchronized boolean isFinished() {return remaining == 0;}
+
+        synchronized void joined(int workerSlots) {slots += workerSlots;}
+
+        SimulationWire.Job job(int id) {
+            return id >= 0 && id < jobs.length ? jobs[id] : null;
+        }
+
+        /**
+         * Hands out the next job for a worker.
+         *
+         * @param running jobs the worker is already playing
+         * @param wait whether to wait for a job if none is free now
+         * @return a job, or null if the run is finished, or none is free
+         *         and {@code wait} is false
+         */
+        synchronized SimulationWire.Job take(List<SimulationWire.Job> running, boolean wait) {
+            while (remaining > 0) {
+                SimulationWire.Job job;
+                while ((job = pending.pollFirst()) != null) {
+                    if (!done[job.id]) {
+                        copies[job.id]++;
+                        return job;
+                    }
+                }
+                while (firstOpen < jobs.length && done[firstOpen]) {firstOpen++;}
+                for (int id = firstOpen; id < jobs.length; id++) {
+                    SimulationWire.Job candidate = jobs[id];
+                    if (!done[candidate.id] && copies[candidate.id] == 1 && !running.contains(candidate)) {
+                        copies[candidate.id]++;
+                        stolen++;
+                        return candidate;
+                    }
+                }
+                if (!wait) {return null;}
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+            }
+            return null;
+        }
+
+        synchronized void complete(SimulationWire.Job job, SimulationResult[] results) {
+            copies[job.id]--;
+            if (!done[job.id]) {
+                done[job.id] = true;
+                remaining--;
+                for (SimulationResult result : results) {
+                    statistics.record(result);
+                }
+            }
+            notifyAll();
+        }
+
+        synchronized void lost(List<SimulationWire.Job> running) {
+            if (running.isEmpty()) {return;}
+            lostWorkers++;
+            for (int i = running.size() - 1; i >= 0; i--) {
+                SimulationWire.Job job = running.get(i);
+                if (--copies[job.id] == 0 && !done[job.id]) {
+                    pending.addFirst(job);
+                    requeued++;
+                }
+            }
+            notifyAll();
+        }
+    }
+
+    /**
+     * One worker's connection, served on its own thread.
+     */
+    private static final class Connection {
+
+        private final Socket socket;
+        private final Schedule schedule;
+        private final List<SimulationWire.Job> running = new ArrayList<>();
+
+        Connection(Socket socket, Schedule schedule) {
+            this.socket = socket;
+            this.schedule = schedule;
+        }
+
+        void run() {
+            try (socket) {
+                socket.setTcpNoDelay(true);
+                socket.setKeepAlive(true);
+                DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+                int slots = SimulationWire.readHello(in);
+                schedule.joined(slots);
+                serve(in, out, slots);
+            } catch (IOException e) {
+                if (!running.isEmpty()) {
+                    System.err.println("Lost worker " + socket.getRemoteSocketAddress() + ": "
+                            + (e instanceof EOFException ? "connection closed" : e.getMessage()));
+                }
+                schedule.lost(running);
+            }
+        }
+
+        private void serve(DataInputStream in, DataOutputStream out, int slots) throws IOException {
+            while (true) {
+                while (running.size() < slots) {
+                    SimulationWire.Job job = schedule.take(running, running.isEmpty());
+                    if (job == null) {break;}
+                    SimulationWire.writeJob(out, job);
+                    running.add(job);
+                }
+                if (running.isEmpty()) {
+                    out.writeByte(SimulationWire.BYE);
+                    out.flush();
+                    return;
+                }
+                out.flush();
+
+                int type = in.readByte();
+                if (type != SimulationWire.RESULT) {
+                    throw new IOException("Unexpected message type " + type);
+                }
+                SimulationWire.Job job = schedule.job(in.readInt());
+                if (job == null || !running.contains(job)) {
+                    throw new IOException("Result for a job the worker was not given");
+                }
+                SimulationResult[] results = SimulationWire.readResults(in, job);
+                running.remove(job);
+                schedule.complete(job, results);
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.comp2042.sim;
+
+import com.comp2042.bot.BitBoard;
+import com.comp2042.bot.PieceShape;
+import com.comp2042.core.Board;
+import com.comp2042.model.ViewData;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Collects the placements of one game for a {@link TrainingDataWriter}.
+ *
+ * <p>The outcome of the game is part of every record but only known at
+ * the end, so the records are kept in memory until {@link #finish} fills
+ * it in and hands them to the writer in one piece. A recorder belongs to
+ * the thread that plays its game and works with any {@link Board}, so
+ * human games can be recorded through the same call as simulated ones.
+ */
+public final class GameRecorder {
+
+    private static final int INITIAL_RECORDS = 256;
+
+    private final TrainingDataWriter writer;
+    private final long gameId;
+    private final BitBoard bits = new BitBoard(TrainingRecord.WIDTH, TrainingRecord.HEIGHT);
+    private final long[] words = new long[TrainingRecord.BOARD_WORDS];
+
+    private ByteBuffer records = ByteBuffer.allocate(INITIAL_RECORDS * TrainingRecord.SIZE);
+    private int count;
+    private int lines;
+    private boolean finished;
+
+    GameRecorder(TrainingDataWriter writer, long gameId) {
+        this.writer = writer;
+        this.gameId = gameId;
+    }
+
+    /**
+     * Records the placement of the current brick. Call it once the brick
+     * is in its final position and before it is merged into the board.
+     *
+     * @param board a {@value TrainingRecord#WIDTH}x{@value TrainingRecord#HEIGHT} board
+     * @return lines the placement will clear
+     * @throws IllegalStateException if the game was already finished
+     */
+    public int record(Board board) {
+        if (finished) {
+            throw new IllegalStateException("Game " + gameId + " is already finished");
+        }
+        int[][] matrix = board.getBoardMatrix();
+        if (matrix.length != TrainingRecord.HEIGHT || matrix[0].length != TrainingRecord.WIDTH) {
+            throw new IllegalArgumentException("Training records need a "
+                    + TrainingRecord.WIDTH + "x" + TrainingRecord.HEIGHT + " board");
+        }
+        ViewData view = board.getViewData();
+        PieceShape piece = PieceShape.of(board.getCurrentBrick());
+        int rotation = Math.max(0, piece.rotationOf(view.getBrickData()));
+        int x = view.getxPosition();
+        int y = view.getyPosition();
+
+        if (records.capacity() < (count + 1) * TrainingRecord.SIZE) {
+            ByteBuffer larger = ByteBuffer.allocate(records.capacity() * 2);
+            larger.put(0, records, 0, count * TrainingRecord.SIZE);
+            records = larger;
+        }
+        int at = count * TrainingRecord.SIZE;
+        records.putLong(at + TrainingRecord.GAME_ID, gameId);
+        records.putInt(at + TrainingRecord.PIECE_INDEX, count);
+
+        bits.load(matrix);
+        Arrays.fill(words, 0);
+        for (int row = 0; row < TrainingRecord.HEIGHT; row++) {
+            long mask = bits.row(row);
+            int bit = row * TrainingRecord.WIDTH;
+            words[bit >>> 6] |= mask << (bit & 63);
+            if ((bit & 63) + TrainingRecord.WIDTH > 64) {
+                words[(bit >>> 6) + 1] |= mask >>> (64 - (bit & 63));
+            }
+        }
+        for (int w = 0; w < TrainingRecord.BOARD_WORDS; w++) {
+            records.putLong(at + TrainingRecord.BOARD + w * Long.BYTES, words[w]);
+        }
+
+        records.put(at + TrainingRecord.PIECE, (byte) piece.getColor());
+        PieceShape hold = PieceShape.of(board.getHoldBrickData());
+        records.put(at + TrainingRecord.HOLD, (byte) (hold == null ? 0 : hold.getColor()));
+        List<int[][]> next = board.getNextBricksData(TrainingRecord.QUEUE_LENGTH);
+        for (int i = 0; i < TrainingRecord.QUEUE_LENGTH; i++) {
+            PieceShape shape = i < next.size() ? PieceShape.of(next.get(i)) : null;
+            records.put(at + TrainingRecord.QUEUE + i, (byte) (shape == null ? 0 : shape.getColor()));
+        }
+        records.put(at + TrainingRecord.ROTATION, (byte) rotation);
+        records.put(at + TrainingRecord.X, (byte) x);
+        records.put(at + TrainingRecord.Y, (byte) y);
+
+        int cleared = bits.place(piece, rotation, x, y);
+        records.put(at + TrainingRecord.LINES, (byte) cleared);
+        count++;
+        lines += cleared;
+        return cleared;
+    }
+
+    /**
+     * Stores the outcome in every record of the game and passes them to
+     * the writer. The recorder cannot be used afterwards.
+     *
+     * @param endReason how the game ended
+     */
+    public void finish(SimulationResult.EndReason endReason) {
+        if (finished) {
+            throw new IllegalStateException("Game " + gameId + " is already finished");
+        }
+        finished = true;
+        for (int i = 0; i < count; i++) {
+            int at = i * TrainingRecord.SIZE;
+            records.putInt(at + TrainingRecord.GAME_LINES, lines);
+            records.putInt(at + TrainingRecord.GAME_PIECES, count);
+            records.put(at + TrainingRecord.END_REASON, (byte) endReason.ordinal());
+        }
+        writer.append(records, count * TrainingRecord.SIZE);
+        records = null;
+    }
+
+    /**
+     * Gets the number of placements recorded so far.
+     * @return record count
+     */
+    public int getRecords() {return count;}
+}
@@ -0,0 +1,160 @@
+package com.comp2042.sim;
+
+import com.comp2042.bot.PlacementExecutor;
+import com.comp2042.bot.Placement;
+import com.comp2042.bot.Player;
+import com.comp2042.core.SimpleBoard;
+import com.comp2042.model.ClearRow;
+import com.comp2042.model.GameMode;
+import com.comp2042.state.GameState;
+import com.comp2042.state.ScoringManager;
+
+/**
+ * Plays one complete game without any UI.
+ *
+ * <p>Gravity and lock delay are not simulated: the player's placement is
+ * applied instantly and hard dropped, and simulated time advances by a
+ * fixed amount per piece. The game therefore runs as fast as the engine
+ * allows, while the 2-minute limit is still measured in game time.
+ */
+public class GameSimulator {
+
+    public static final int BOARD_WIDTH = 10;
+    public static final int BOARD_HEIGHT = 25;
+
+    private static final int FORTY_LINES_GOAL = 40;
+    private static final long TWO_MINUTES_MS = 120_000;
+
+    private final SimulationConfig config;
+    private final Player customPlayer;
+    private final TrainingDataWriter dataset;
+
+    /**
+     * Creates a new GameSimulator.
+     * @param config settings for the game
+     */
+    public GameSimulator(SimulationConfig config) {
+        this(config, null);
+    }
+
+    /**
+     * Creates a simulator that plays with a given player instead of a new
+     * one of the config's player type. The player must not be shared with
+     * another game that runs at the same time.
+     *
+     * @param config settings for the game
+     * @param player the player, or null to use the config's player type
+     */
+    public GameSimulator(SimulationConfig config, Player player) {
+        this(config, player, null);
+    }
+
+    /**
+     * Creates a simulator that also records every placement of the game
+     * as training data.
+     *
+     * @param config settings for the game
+     * @param player the player, or null to use the config's player type
+     * @param dataset writer for the placements, or null to record nothing
+     */
+    public GameSimulator(SimulationConfig config, Player player, TrainingDataWriter dataset) {
+        this.config = config;
+        this.customPlayer = player;
+        this.dataset = dataset;
+    }
+
+    /**
+     * Plays the game to the end.
+     * @return summary statistics
+     */
+    public SimulationResult run() {
+        long startNanos = System.nanoTime();
+
+        GameMode mode = config.getMode();
+        SimpleBoard board = new SimpleBoard(BOARD_WIDTH, BOARD_HEIGHT, config.getSeed());
+        GameState gameState = new GameState();
+        gameState.setCurrentGameMode(mode);
+        ScoringManager scoringManager = new ScoringManager(gameState);
+        Player player = customPlayer != null ? customPlayer : config.getPlayerType().create(config.getSeed());
+        GameRecorder recorder = dataset != null ? dataset.newGame(config.getSeed()) : null;
+
+        int pieces = 0;
+        int lineScore = 0;
+        int[] clearsBySize = new int[5];
+        int combo = 0;
+        int maxCombo = 0;
+        long simulatedMillis = 0;
+
+        SimulationResult.EndReason endReason = board.createNewBrick()
+                ? SimulationResult.EndReason.TOPPED_OUT : null;
+
+        while (endReason == null) {
+            if (pieces >= config.getPieceLimit()) {
+                endReason = SimulationResult.EndReason.PIECE_LIMIT;
+                break;
+            }
+            if (mode == GameMode.TWO_MINUTES && simulatedMillis >= TWO_MINUTES_MS) {
+                endReason = SimulationResult.EndReason.TIME_UP;
+                break;
+            }
+
+            Placement placement = player.choosePlacement(board);
+            int dropDistance = placement != null
+                    ? PlacementExecutor.execute(board, placement)
+                    : dropInPlace(board);
+            scoringManager.addHardDropBonus(dropDistance);
+
+            if (recorder != null) {
+                recorder.record(board);
+            }
+            board.mergeBrickToBackground();
+            pieces++;
+            simulatedMillis += config.getMsPerPiece();
+
+            ClearRow clearRow = board.clearRows();
+            int lines = clearRow.getLinesRemoved();
+            if (lines > 0) {
+                lineScore += scoringManager.calculateTetrisScore(lines);
+                clearsBySize[Math.min(lines, 4)]++;
+                combo++;
+                maxCombo = Math.max(maxCombo, combo);
+            } else {
+                scoringManager.resetCombo();
+                combo = 0;
+            }
+
+            if (mode == GameMode.FORTY_LINES && board.getLinesCleared() >= FORTY_LINES_GOAL) {
+                endReason = SimulationResult.EndReason.LINES_GOAL;
+            } else if (board.checkGameOver() || board.createNewBrick()) {
+                endReason = SimulationResult.EndReason.TOPPED_OUT;
+            }
+        }
+
+        if (recorder != null) {
+            recorder.finish(endReason);
+        }
+        if (customPlayer == null) {
+            Player.closeQuietly(player);
+        }
+
+        return new SimulationResult(
+                mode,
+                config.getSeed(),
+                config.getPlayerType(),
+                endReason,
+                pieces,
+                board.getLinesCleared(),
+                scoringManager.getCurrentScore() + lineScore,
+                clearsBySize,
+                maxCombo,
+                simulatedMillis,
+                System.nanoTime() - startNanos
+        );
+    }
+
+    private static int dropInPlace(SimpleBoard board) {
+        int dropDistance = 0;
+        while (board.moveBrickDown()) {dropDistance++;}
+        return dropDistance;
+    }
+}
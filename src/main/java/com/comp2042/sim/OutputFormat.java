@@ -0,0 +1,127 @@
+package com.comp2042.sim;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Machine-readable formats for simulation summaries.
+ */
+public enum OutputFormat {
+    JSON {
+        @Override
+        public String format(List<SimulationResult> results) {
+            StringBuilder sb = new StringBuilder();
+            if (results.size() == 1) {
+                appendJson(sb, results.get(0));
+                return sb.append('\n').toString();
+            }
+            sb.append("[\n");
+            for (int i = 0; i < results.size(); i++) {
+                sb.append("  ");
+                appendJson(sb, results.get(i));
+                sb.append(i < results.size() - 1 ? ",\n" : "\n");
+            }
+            return sb.append("]\n").toString();
+        }
+
+        @Override
+        public String formatSummary(BatchSummary summary) {
+            String[] values = summaryValues(summary);
+            StringBuilder sb = new StringBuilder("{");
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) sb.append(", ");
+                sb.append('"').append(SUMMARY_COLUMNS[i]).append("\": ").append(values[i]);
+            }
+            return sb.append("}\n").toString();
+        }
+    },
+    CSV {
+        @Override
+        public String format(List<SimulationResult> results) {
+            StringBuilder sb = new StringBuilder(String.join(",", COLUMNS)).append('\n');
+            for (SimulationResult r : results) {
+                Object[] values = columnValues(r);
+                for (int i = 0; i < values.length; i++) {
+                    if (i > 0) sb.append(',');
+                    sb.append(values[i]);
+                }
+                sb.append('\n');
+            }
+            return sb.toString();
+        }
+
+        @Override
+        public String formatSummary(BatchSummary summary) {
+            return String.join(",", SUMMARY_COLUMNS) + "\n"
+                    + String.join(",", summaryValues(summary)) + "\n";
+        }
+    };
+
+    private static final String[] COLUMNS = {
+            "mode", "seed", "player", "endReason", "pieces", "lines", "score",
+            "singles", "doubles", "triples", "tetrises", "maxCombo",
+            "simulatedMillis", "wallMillis", "piecesPerSecond"
+    };
+
+    private static final String[] SUMMARY_COLUMNS = {
+            "games", "threads", "meanPieces", "meanLines", "meanScore", "maxScore", "maxLines",
+            "tetrises", "topOutRate", "elapsedMillis", "piecesPerSecond", "speedup"
+    };
+
+    /**
+     * Formats a list of results.
+     *
+     * @param results results in output order
+     * @return the formatted text, ending with a newline
+     */
+    public abstract String format(List<SimulationResult> results);
+
+    /**
+     * Formats the aggregate of a batch run.
+     *
+     * @param summary the batch summary
+     * @return the formatted text, ending with a newline
+     */
+    public abstract String formatSummary(BatchSummary summary);
+
+    private static String[] summaryValues(BatchSummary s) {
+        return new String[]{
+                String.valueOf(s.getGames()), String.valueOf(s.getParallelism()),
+                String.format(Locale.ROOT, "%.2f", s.getMeanPieces()),
+                String.format(Locale.ROOT, "%.2f", s.getMeanLines()),
+                String.format(Locale.ROOT, "%.2f", s.getMeanScore()),
+                String.valueOf(s.getMaxScore()), String.valueOf(s.getMaxLines()),
+                String.valueOf(s.getTetrises()),
+                String.format(Locale.ROOT, "%.4f", s.getTopOutRate()),
+                String.valueOf(s.getElapsedNanos() / 1_000_000),
+                String.format(Locale.ROOT, "%.1f", s.getPiecesPerSecond()),
+                String.format(Locale.ROOT, "%.2f", s.getSpeedup())
+        };
+    }
+
+    private static Object[] columnValues(SimulationResult r) {
+        return new Object[]{
+                r.getMode(), r.getSeed(), r.getPlayerType(), r.getEndReason(),
+                r.getPieces(), r.getLines(), r.getScore(),
+                r.getClears(1), r.getClears(2), r.getClears(3), r.getClears(4),
+                r.getMaxCombo(), r.getSimulatedMillis(), r.getWallNanos() / 1_000_000,
+                String.format(Locale.ROOT, "%.1f", r.getPiecesPerSecond())
+        };
+    }
+
+    private static void appendJson(StringBuilder sb, SimulationResult r) {
+        Object[] values = columnValues(r);
+        sb.append('{');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append('"').append(COLUMNS[i]).append("\": ");
+            Object value = values[i];
+            if (value instanceof Enum) {
+                sb.append('"').append(value).append('"');
+            } else {
+                sb.append(value);
+            }
+        }
+        sb.append('}');
+    }
+}
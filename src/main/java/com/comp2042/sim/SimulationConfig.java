@@ -0,0 +1,75 @@
+package com.comp2042.sim;
+
+import com.comp2042.bot.PlayerType;
+import com.comp2042.model.GameMode;
+
+/**
+ * Immutable settings for a single headless game.
+ */
+public final class SimulationConfig {
+
+    /** Default simulated time a player spends on each piece. */
+    public static final long DEFAULT_MS_PER_PIECE = 500;
+
+    private final GameMode mode;
+    private final long seed;
+    private final int pieceLimit;
+    private final PlayerType playerType;
+    private final long msPerPiece;
+
+    /**
+     * Creates a new SimulationConfig using the default time per piece.
+     *
+     * @param mode game mode whose end conditions apply
+     * @param seed seed for the piece sequence and the player
+     * @param pieceLimit maximum number of pieces to place
+     * @param playerType built-in player that makes the moves
+     */
+    public SimulationConfig(GameMode mode, long seed, int pieceLimit, PlayerType playerType) {
+        this(mode, seed, pieceLimit, playerType, DEFAULT_MS_PER_PIECE);
+    }
+
+    /**
+     * Creates a new SimulationConfig.
+     *
+     * @param mode game mode whose end conditions apply
+     * @param seed seed for the piece sequence and the player
+     * @param pieceLimit maximum number of pieces to place
+     * @param playerType built-in player that makes the moves
+     * @param msPerPiece simulated milliseconds that pass for every placed piece
+     */
+    public SimulationConfig(GameMode mode, long seed, int pieceLimit,
+                            PlayerType playerType, long msPerPiece) {
+        if (pieceLimit < 0) {
+            throw new IllegalArgumentException("pieceLimit must not be negative");
+        }
+        if (msPerPiece <= 0) {
+            throw new IllegalArgumentException("msPerPiece must be positive");
+        }
+        this.mode = mode;
+        this.seed = seed;
+        this.pieceLimit = pieceLimit;
+        this.playerType = playerType;
+        this.msPerPiece = msPerPiece;
+    }
+
+    /**
+     * Returns a copy of this config with a different seed.
+     *
+     * @param newSeed the seed to use
+     * @return a new SimulationConfig
+     */
+    public SimulationConfig withSeed(long newSeed) {
+        return new SimulationConfig(mode, newSeed, pieceLimit, playerType, msPerPiece);
+    }
+
+    public GameMode getMode() {return mode;}
+
+    public long getSeed() {return seed;}
+
+    public int getPieceLimit() {return pieceLimit;}
+
+    public PlayerType getPlayerType() {return playerType;}
+
+    public long getMsPerPiece() {return msPerPiece;}
+}
@@ -0,0 +1,101 @@
+package com.comp2042.sim;
+
+import com.comp2042.bot.PlayerType;
+import com.comp2042.model.GameMode;
+
+/**
+ * Summary statistics of one headless game.
+ */
+public final class SimulationResult {
+
+    /**
+     * Why a simulated game stopped.
+     */
+    public enum EndReason {
+        TOPPED_OUT, PIECE_LIMIT, LINES_GOAL, TIME_UP
+    }
+
+    private final GameMode mode;
+    private final long seed;
+    private final PlayerType playerType;
+    private final EndReason endReason;
+    private final int pieces;
+    private final int lines;
+    private final int score;
+    private final int[] clearsBySize;
+    private final int maxCombo;
+    private final long simulatedMillis;
+    private final long wallNanos;
+
+    /**
+     * Creates a new SimulationResult.
+     *
+     * @param mode game mode that was played
+     * @param seed seed of the game
+     * @param playerType player that made the moves
+     * @param endReason why the game stopped
+     * @param pieces pieces placed
+     * @param lines lines cleared
+     * @param score final score (drop bonuses plus line clear points)
+     * @param clearsBySize index n holds the number of n-line clears (1-4)
+     * @param maxCombo longest run of consecutive clearing pieces
+     * @param simulatedMillis simulated game time at the end
+     * @param wallNanos real time the simulation took
+     */
+    public SimulationResult(GameMode mode, long seed, PlayerType playerType, EndReason endReason,
+                            int pieces, int lines, int score, int[] clearsBySize, int maxCombo,
+                            long simulatedMillis, long wallNanos) {
+        this.mode = mode;
+        this.seed = seed;
+        this.playerType = playerType;
+        this.endReason = endReason;
+        this.pieces = pieces;
+        this.lines = lines;
+        this.score = score;
+        this.clearsBySize = clearsBySize.clone();
+        this.maxCombo = maxCombo;
+        this.simulatedMillis = simulatedMillis;
+        this.wallNanos = wallNanos;
+    }
+
+    public GameMode getMode() {return mode;}
+
+    public long getSeed() {return seed;}
+
+    public PlayerType getPlayerType() {return playerType;}
+
+    public EndReason getEndReason() {return endReason;}
+
+    public int getPieces() {return pieces;}
+
+    public int getLines() {return lines;}
+
+    public int getScore() {return score;}
+
+    /**
+     * Gets how many clears of the given size happened.
+     * @param size lines cleared at once (1-4)
+     * @return number of such clears
+     */
+    public int getClears(int size) {return clearsBySize[size];}
+
+    public int getMaxCombo() {return maxCombo;}
+
+    public long getSimulatedMillis() {return simulatedMillis;}
+
+    public long getWallNanos() {return wallNanos;}
+
+    /**
+     * Gets the engine throughput for this game.
+     * @return pieces placed per real second
+     */
+    public double getPiecesPerSecond() {
+        return wallNanos == 0 ? 0 : pieces * 1_000_000_000.0 / wallNanos;
+    }
+
+    /**
+     * Checks whether the game ended by the stack reaching the top.
+     * @return true if topped out
+     */
+    public boolean isToppedOut() {return endReason == EndReason.TOPPED_OUT;}
+}
@@ -0,0 +1,182 @@
+package com.comp2042.sim;
+
+import com.comp2042.bot.PlayerType;
+import com.comp2042.model.GameMode;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Binary messages between a {@link DistributedSimulator} and its
+ * {@link SimulationWorker}s. All values are big-endian as written by
+ * {@link DataOutputStream}; enums travel as their ordinal in one byte.
+ *
+ * <pre>
+ * worker hello:  int MAGIC, byte VERSION, int slots
+ * job:           byte JOB, int id, byte mode, byte player, long firstSeed,
+ *                int games, int pieceLimit, long msPerPiece
+ * bye:           byte BYE
+ * result:        byte RESULT, int id, int games, then per game
+ *                long seed, byte endReason, int pieces, int lines, int score,
+ *                int singles, int doubles, int triples, int tetrises,
+ *                int maxCombo, long simulatedMillis, long wallNanos
+ * </pre>
+ *
+ * A job plays the seeds firstSeed to firstSeed+games-1 and its result
+ * carries one record of 57 bytes per game in seed order.
+ */
+final class SimulationWire {
+
+    static final int MAGIC = 0x43574B53;
+    static final byte VERSION = 1;
+
+    static final byte JOB = 1;
+    static final byte BYE = 2;
+    static final byte RESULT = 3;
+
+    private static final GameMode[] MODES = GameMode.values();
+    private static final PlayerType[] PLAYERS = PlayerType.values();
+    private static final SimulationResult.EndReason[] END_REASONS = SimulationResult.EndReason.values();
+
+    private SimulationWire() {
+    }
+
+    /**
+     * A range of seeds handed to one worker.
+     */
+    static final class Job {
+        final int id;
+        final SimulationConfig config;
+        final int games;
+
+        /**
+         * Creates a new Job.
+         *
+         * @param id job number, unique within one run
+         * @param config settings of the first game; later games add one to the seed
+         * @param games number of games
+         */
+        Job(int id, SimulationConfig config, int games) {
+            this.id = id;
+            this.config = config;
+            this.games = games;
+        }
+    }
+
+    static void writeHello(DataOutputStream out, int slots) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeInt(slots);
+    }
+
+    /**
+     * Reads a worker's hello.
+     *
+     * @return the number of jobs the worker runs at once
+     * @throws IOException if the peer is not a compatible worker
+     */
+    static int readHello(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Peer is not a simulation worker");
+        }
+        int version = in.readByte();
+        if (version != VERSION) {
+            throw new IOException("Worker speaks protocol version " + version + ", expected " + VERSION);
+        }
+        int slots = in.readInt();
+        if (slots < 1) {
+            throw new IOException("Worker offered " + slots + " slots");
+        }
+        return slots;
+    }
+
+    static void writeJob(DataOutputStream out, Job job) throws IOException {
+        SimulationConfig config = job.config;
+        out.writeByte(JOB);
+        out.writeInt(job.id);
+        out.writeByte(config.getMode().ordinal());
+        out.writeByte(config.getPlayerType().ordinal());
+        out.writeLong(config.getSeed());
+        out.writeInt(job.games);
+        out.writeInt(config.getPieceLimit());
+        out.writeLong(config.getMsPerPiece());
+    }
+
+    /**
+     * Reads a job whose type byte has already been read.
+     */
+    static Job readJob(DataInputStream in) throws IOException {
+        int id = in.readInt();
+        GameMode mode = valueOf(MODES, in.readByte());
+        PlayerType player = valueOf(PLAYERS, in.readByte());
+        long seed = in.readLong();
+        int games = in.readInt();
+        int pieceLimit = in.readInt();
+        long msPerPiece = in.readLong();
+        try {
+            return new Job(id, new SimulationConfig(mode, seed, pieceLimit, player, msPerPiece), games);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Bad job: " + e.getMessage(), e);
+        }
+    }
+
+    static void writeResult(DataOutputStream out, int id, SimulationResult[] results) throws IOException {
+        out.writeByte(RESULT);
+        out.writeInt(id);
+        out.writeInt(results.length);
+        for (SimulationResult result : results) {
+            out.writeLong(result.getSeed());
+            out.writeByte(result.getEndReason().ordinal());
+            out.writeInt(result.getPieces());
+            out.writeInt(result.getLines());
+            out.writeInt(result.getScore());
+            for (int size = 1; size <= 4; size++) {
+                out.writeInt(result.getClears(size));
+            }
+            out.writeInt(result.getMaxCombo());
+            out.writeLong(result.getSimulatedMillis());
+            out.writeLong(result.getWallNanos());
+        }
+    }
+
+    /**
+     * Reads the games of a result whose type byte and id have already been
+     * read.
+     *
+     * @param job the job the result belongs to, for the settings that are
+     *            not sent back
+     */
+    static SimulationResult[] readResults(DataInputStream in, Job job) throws IOException {
+        int count = in.readInt();
+        if (count != job.games) {
+            throw new IOException("Job " + job.id + " returned " + count + " games, expected " + job.games);
+        }
+        SimulationResult[] results = new SimulationResult[count];
+        int[] clearsBySize = new int[5];
+        for (int i = 0; i < count; i++) {
+            long seed = in.readLong();
+            SimulationResult.EndReason endReason = valueOf(END_REASONS, in.readByte());
+            int pieces = in.readInt();
+            int lines = in.readInt();
+            int score = in.readInt();
+            for (int size = 1; size <= 4; size++) {
+                clearsBySize[size] = in.readInt();
+            }
+            int maxCombo = in.readInt();
+            long simulatedMillis = in.readLong();
+            long wallNanos = in.readLong();
+            results[i] = new SimulationResult(job.config.getMode(), seed, job.config.getPlayerType(), endReason,
+                    pieces, lines, score, clearsBySize, maxCombo, simulatedMillis, wallNanos);
+        }
+        return results;
+    }
+
+    private static <E> E valueOf(E[] values, int ordinal) throws IOException {
+        if (ordinal < 0 || ordinal >= values.length) {
+            throw new IOException("Unknown " + values.getClass().getComponentType().getSimpleName()
+                    + " " + ordinal);
+        }
+        return values[ordinal];
+    }
+}
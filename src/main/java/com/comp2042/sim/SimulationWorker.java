@@ -0,0 +1,143 @@
+package com.comp2042.sim;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.Socket;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plays games for a {@link DistributedSimulator} in another JVM, possibly
+ * on another host.
+ *
+ * <p>The worker connects to the coordinator, offers a number of slots and
+ * then plays every job it is sent on a pool with one thread per slot,
+ * sending each job's results back as soon as it finishes. The coordinator
+ * never sends more jobs than there are slots, so the worker needs no
+ * queue of its own. It stops when the coordinator says goodbye or the
+ * connection drops.
+ */
+public class SimulationWorker {
+
+    private static final long RETRY_MILLIS = 200;
+
+    private final String host;
+    private final int port;
+    private final int slots;
+
+    private int jobs;
+    private long games;
+
+    /**
+     * Creates a new SimulationWorker.
+     *
+     * @param host coordinator host
+     * @param port coordinator port
+     * @param slots jobs to play at the same time
+     */
+    public SimulationWorker(String host, int port, int slots) {
+        if (slots < 1) {
+            throw new IllegalArgumentException("slots must be at least 1");
+        }
+        this.host = host;
+        this.port = port;
+        this.slots = slots;
+    }
+
+    /**
+     * Connects and plays jobs until the coordinator has no more.
+     *
+     * @param connectTimeoutMillis how long to keep retrying while the
+     *                             coordinator is not listening yet
+     * @throws IOException if no connection could be made, or it broke
+     *         before the coordinator said goodbye
+     */
+    public void run(long connectTimeoutMillis) throws IOException {
+        try (Socket socket = connect(connectTimeoutMillis)) {
+            socket.setTcpNoDelay(true);
+            socket.setKeepAlive(true);
+            serve(new DataInputStream(new BufferedInputStream(socket.getInputStream())),
+                    new DataOutputStream(new BufferedOutputStream(socket.getOutputStream())));
+        }
+    }
+
+    private Socket connect(long timeoutMillis) throws IOException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (true) {
+            try {
+                return new Socket(host, port);
+            } catch (ConnectException e) {
+                if (System.nanoTime() - deadline >= 0) {throw e;}
+                try {
+                    Thread.sleep(RETRY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void serve(DataInputStream in, DataOutputStream out) throws IOException {
+        SimulationWire.writeHello(out, slots);
+        out.flush();
+        ExecutorService pool = Executors.newFixedThreadPool(slots, runnable -> {
+            Thread thread = new Thread(runnable, "simulation-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            while (true) {
+                int type;
+                try {
+                    type = in.readByte();
+                } catch (EOFException e) {
+                    throw new IOException("Coordinator closed the connection", e);
+                }
+                if (type == SimulationWire.BYE) {return;}
+                if (type != SimulationWire.JOB) {
+                    throw new IOException("Unexpected message type " + type);
+                }
+                SimulationWire.Job job = SimulationWire.readJob(in);
+                jobs++;
+                games += job.games;
+                pool.execute(() -> play(job, out));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void play(SimulationWire.Job job, DataOutputStream out) {
+        SimulationResult[] results = new SimulationResult[job.games];
+        for (int i = 0; i < job.games; i++) {
+            results[i] = new GameSimulator(job.config.withSeed(job.config.getSeed() + i)).run();
+        }
+        synchronized (out) {
+            try {
+                SimulationWire.writeResult(out, job.id, results);
+                out.flush();
+            } catch (IOException e) {
+                // The reading thread sees the broken connection and stops
+            }
+        }
+    }
+
+    /**
+     * Gets the number of jobs received so far.
+     * @return jobs
+     */
+    public int getJobs() {return jobs;}
+
+    /**
+     * Gets the number of games received so far.
+     * @return games
+     */
+    public long getGames() {return games;}
+}
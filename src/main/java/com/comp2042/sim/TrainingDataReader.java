@@ -0,0 +1,257 @@
+package com.comp2042.sim;
+
+import com.comp2042.bot.PieceShape;
+import com.comp2042.bot.Placement;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Scans the records of one shard written by a {@link TrainingDataWriter}.
+ *
+ * <p>The shard is memory-mapped, so the operating system reads it ahead
+ * and no copy of the file is made on the Java heap; frames are inflated
+ * straight from the mapping into one reused buffer. The reader is a
+ * cursor: {@link #next()} moves to the following record and the getters
+ * describe the current one without creating objects, apart from
+ * {@link #getPlacement()}.
+ *
+ * <pre>
+ * try (TrainingDataReader reader = TrainingDataReader.open(shard)) {
+ *     while (reader.next()) {
+ *         ... reader.getPiece(), reader.isFilled(x, y), reader.getPlacement() ...
+ *     }
+ * }
+ * </pre>
+ */
+public final class TrainingDataReader implements AutoCloseable {
+
+    private static final int HEADER_BYTES = Integer.BYTES + 2 * Short.BYTES;
+    private static final int FRAME_HEADER_BYTES = 2 * Integer.BYTES;
+    private static final SimulationResult.EndReason[] END_REASONS = SimulationResult.EndReason.values();
+
+    private final Path file;
+    private final MappedByteBuffer map;
+    private final Inflater inflater = new Inflater();
+    private ByteBuffer frame = ByteBuffer.allocate(0);
+    private int frameRecords;
+    private int index;
+    private int at = -TrainingRecord.SIZE;
+
+    private TrainingDataReader(Path file, MappedByteBuffer map) {
+        this.file = file;
+        this.map = map;
+    }
+
+    /**
+     * Maps a shard and checks its header.
+     *
+     * @param shard shard file
+     * @return a reader positioned before the first record
+     * @throws IOException if the file cannot be read or is not a shard
+     */
+    public static TrainingDataReader open(Path shard) throws IOException {
+        MappedByteBuffer map;
+        try (FileChannel channel = FileChannel.open(shard, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Shard " + shard + " is larger than 2 GiB");
+            }
+            map = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (map.remaining() < HEADER_BYTES || map.getInt() != TrainingDataWriter.MAGIC) {
+            throw new IOException(shard + " is not a training data shard");
+        }
+        short version = map.getShort();
+        if (version != TrainingDataWriter.VERSION) {
+            throw new IOException("Unsupported shard version " + version + " in " + shard);
+        }
+        short recordSize = map.getShort();
+        if (recordSize != TrainingRecord.SIZE) {
+            throw new IOException("Unexpected record size " + recordSize + " in " + shard);
+        }
+        return new TrainingDataReader(shard, map);
+    }
+
+    /**
+     * Lists the complete shards with a prefix in a directory, in the order
+     * they were written.
+     *
+     * @param directory directory to look in
+     * @param prefix shard name prefix given to the writer
+     * @return shard files, empty if the directory does not exist
+     * @throws IOException if the directory cannot be listed
+     */
+    public static List<Path> shards(Path directory, String prefix) throws IOException {
+        List<Path> shards = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return shards;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.startsWith(prefix + "-") && name.endsWith(TrainingDataWriter.EXTENSION);
+            }).sorted().forEach(shards::add);
+        }
+        return shards;
+    }
+
+    /**
+     * Moves to the next record.
+     *
+     * @return false once every record has been read
+     * @throws IOException if a frame is truncated or corrupt
+     */
+    public boolean next() throws IOException {
+        if (index + 1 < frameRecords) {
+            index++;
+            at += TrainingRecord.SIZE;
+            return true;
+        }
+        while (map.hasRemaining()) {
+            if (readFrame()) {
+                index = 0;
+                at = 0;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Inflates the next frame into the frame buffer.
+     *
+     * @return false if the frame holds no records
+     */
+    private boolean readFrame() throws IOException {
+        if (map.remaining() < FRAME_HEADER_BYTES) {
+            throw new IOException("Truncated frame header in " + file);
+        }
+        int records = map.getInt();
+        int length = map.getInt();
+        if (records < 0 || length < 0 || length > map.remaining()) {
+            throw new IOException("Truncated frame in " + file);
+        }
+        int bytes = records * TrainingRecord.SIZE;
+        if (frame.capacity() < bytes) {
+            frame = ByteBuffer.allocate(bytes);
+        }
+        frame.clear().limit(bytes);
+        inflater.reset();
+        inflater.setInput(map.slice(map.position(), length));
+        try {
+            while (frame.hasRemaining() && !inflater.finished()) {
+                if (inflater.inflate(frame) == 0 && inflater.needsInput()) {
+                    break;
+                }
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt frame in " + file + ": " + e.getMessage(), e);
+        }
+        if (frame.hasRemaining()) {
+            throw new IOException("Frame in " + file + " holds fewer records than its header says");
+        }
+        map.position(map.position() + length);
+        frameRecords = records;
+        return records > 0;
+    }
+
+    public long getGameId() {return frame.getLong(at + TrainingRecord.GAME_ID);}
+
+    public int getPieceIndex() {return frame.getInt(at + TrainingRecord.PIECE_INDEX);}
+
+    /**
+     * Gets the lines cleared in the whole game the record belongs to.
+     * @return final line count of the game
+     */
+    public int getGameLines() {return frame.getInt(at + TrainingRecord.GAME_LINES);}
+
+    /**
+     * Gets the pieces placed in the whole game the record belongs to.
+     * @return final piece count of the game
+     */
+    public int getGamePieces() {return frame.getInt(at + TrainingRecord.GAME_PIECES);}
+
+    /**
+     * Checks whether a cell of the stack was filled before the piece locked.
+     *
+     * @param x column
+     * @param y row, 0 at the top
+     * @return true if the cell was filled
+     */
+    public boolean isFilled(int x, int y) {
+        int bit = y * TrainingRecord.WIDTH + x;
+        long word = frame.getLong(at + TrainingRecord.BOARD + (bit >>> 6) * Long.BYTES);
+        return (word >>> (bit & 63) & 1) != 0;
+    }
+
+    /**
+     * Gets the filled columns of one row of the stack as a bit mask.
+     *
+     * @param y row, 0 at the top
+     * @return bit {@code c} set when column {@code c} was filled
+     */
+    public int row(int y) {
+        int bit = y * TrainingRecord.WIDTH;
+        int shift = bit & 63;
+        long word = frame.getLong(at + TrainingRecord.BOARD + (bit >>> 6) * Long.BYTES);
+        long mask = word >>> shift;
+        if (shift + TrainingRecord.WIDTH > 64) {
+            mask |= frame.getLong(at + TrainingRecord.BOARD + ((bit >>> 6) + 1) * Long.BYTES) << (64 - shift);
+        }
+        return (int) mask & ((1 << TrainingRecord.WIDTH) - 1);
+    }
+
+    public PieceShape getPiece() {return PieceShape.ofColor(frame.get(at + TrainingRecord.PIECE));}
+
+    /**
+     * Gets the piece in the hold slot when the placement was made.
+     * @return the held piece, or null if the slot was empty
+     */
+    public PieceShape getHold() {return shapeAt(TrainingRecord.HOLD);}
+
+    /**
+     * Gets one of the preview pieces.
+     *
+     * @param i position in the preview, 0 for the next piece
+     * @return the piece, or null past the end of the preview
+     */
+    public PieceShape getQueue(int i) {
+        if (i < 0 || i >= TrainingRecord.QUEUE_LENGTH) {
+            throw new IndexOutOfBoundsException("Queue index " + i);
+        }
+        return shapeAt(TrainingRecord.QUEUE + i);
+    }
+
+    /**
+     * Gets where the piece was placed.
+     * @return the placement, without hold
+     */
+    public Placement getPlacement() {
+        return new Placement(frame.get(at + TrainingRecord.ROTATION), frame.get(at + TrainingRecord.X),
+                frame.get(at + TrainingRecord.Y));
+    }
+
+    public int getLinesCleared() {return frame.get(at + TrainingRecord.LINES);}
+
+    public SimulationResult.EndReason getEndReason() {return END_REASONS[frame.get(at + TrainingRecord.END_REASON)];}
+
+    private PieceShape shapeAt(int offset) {
+        int color = frame.get(at + offset);
+        return color == 0 ? null : PieceShape.ofColor(color);
+    }
+
+    @Override
+    public void close() {
+        inflater.end();
+    }
+}
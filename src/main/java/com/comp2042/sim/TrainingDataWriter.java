@@ -0,0 +1,355 @@
+package com.comp2042.sim;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * Streams placement records to compressed shard files in a directory.
+ *
+ * <p>Games hand their finished records to {@link #append}, which only
+ * copies them into the buffer being filled. There are two buffers: when
+ * the one being filled is full it is swapped with the other, and a
+ * background thread compresses it and writes it out while games fill the
+ * fresh one. A game waits only if the disk falls a whole buffer behind.
+ *
+ * <p>A shard is named {@code prefix-NNNNN.tds} and holds a header, then
+ * one frame per written buffer:
+ *
+ * <pre>
+ * header:  int MAGIC, short VERSION, short record size
+ * frame:   int records, int compressed length, zlib-compressed records
+ * </pre>
+ *
+ * Each frame is compressed on its own, so a reader needs only one frame
+ * in memory at a time. A shard is written under a {@code .tmp} name and
+ * renamed when it is complete, so every {@code .tds} file is whole.
+ * Numbering continues after any shards already in the directory.
+ */
+public class TrainingDataWriter implements AutoCloseable {
+
+    /** Default number of records per shard file (64 MiB uncompressed). */
+    public static final int DEFAULT_RECORDS_PER_SHARD = 1 << 20;
+
+    static final int MAGIC = 0x54445331;
+    static final short VERSION = 1;
+    static final String EXTENSION = ".tds";
+
+    private static final int BUFFER_RECORDS = 1 << 14;
+
+    private final Path directory;
+    private final String prefix;
+    private final int recordsPerShard;
+    private final Object lock = new Object();
+    private final Thread thread;
+
+    // Guarded by lock
+    private ByteBuffer filling;
+    private ByteBuffer free;
+    private ByteBuffer full;
+    private boolean closed;
+    private long records;
+    private long bufferWaits;
+    private IOException failure;
+
+    // Only used by the writer thread
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private ByteBuffer compressed;
+    private FileChannel shard;
+    private Path shardFile;
+    private int shardIndex;
+    private int shardRecords;
+    private volatile int shards;
+
+    /**
+     * Creates a writer with the default shard size.
+     *
+     * @param directory directory for the shards, created if missing
+     * @param prefix start of every shard file name
+     * @throws IOException if the directory cannot be created or listed
+     */
+    public TrainingDataWriter(Path directory, String prefix) throws IOException {
+        this(directory, prefix, DEFAULT_RECORDS_PER_SHARD);
+    }
+
+    /**
+     * Creates a new TrainingDataWriter and starts its writer thread.
+     *
+     * @param directory directory for the shards, created if missing
+     * @param prefix start of every shard file name
+     * @param recordsPerShard records after which a new shard is started
+     * @throws IOException if the directory cannot be created or listed
+     */
+    public TrainingDataWriter(Path directory, String prefix, int recordsPerShard) throws IOException {
+        if (recordsPerShard < 1) {
+            throw new IllegalArgumentException("recordsPerShard must be at least 1");
+        }
+        if (prefix.isEmpty() || prefix.contains("/") || prefix.contains("\\")) {
+            throw new IllegalArgumentException("Invalid shard prefix '" + prefix + "'");
+        }
+        this.directory = directory;
+        this.prefix = prefix;
+        this.recordsPerShard = recordsPerShard;
+        Files.createDirectories(directory);
+        this.shardIndex = nextShardIndex(directory, prefix);
+
+        int bufferBytes = Math.min(BUFFER_RECORDS, recordsPerShard) * TrainingRecord.SIZE;
+        this.filling = ByteBuffer.allocate(bufferBytes);
+        this.free = ByteBuffer.allocate(bufferBytes);
+        this.compressed = ByteBuffer.allocate(bufferBytes + bufferBytes / 8 + 64);
+
+        this.thread = new Thread(this::writeLoop, "training-data-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Starts recording a game.
+     *
+     * @param gameId identifier stored in every record, such as the seed
+     * @return a recorder for the game's placements
+     */
+    public GameRecorder newGame(long gameId) {
+        return new GameRecorder(this, gameId);
+    }
+
+    /**
+     * Queues whole records for writing. Safe to call from any thread; the
+     * records of one call stay together and in order.
+     *
+     * @param source buffer holding the records from index 0
+     * @param length number of bytes, a multiple of the record size
+     */
+    void append(ByteBuffer source, int length) {
+        synchronized (lock) {
+            int offset = 0;
+            while (offset < length) {
+                checkOpen();
+                int chunk = Math.min(length - offset, filling.remaining());
+                filling.put(filling.position(), source, offset, chunk);
+                filling.position(filling.position() + chunk);
+                offset += chunk;
+                if (!filling.hasRemaining()) {
+                    swap();
+                }
+            }
+            records += length / TrainingRecord.SIZE;
+        }
+    }
+
+    /**
+     * Hands the full buffer to the writer thread and takes the other one,
+     * waiting for the writer to finish with it if necessary.
+     */
+    private void swap() {
+        while (free == null) {
+            bufferWaits++;
+            try {
+                lock.wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the training data writer", e);
+            }
+        }
+        full = filling;
+        filling = free;
+        free = null;
+        lock.notifyAll();
+    }
+
+    private void checkOpen() {
+        if (failure != null) {
+            throw new IllegalStateException("Training data writer failed", failure);
+        }
+        if (closed) {
+            throw new IllegalStateException("Training data writer is closed");
+        }
+    }
+
+    private void writeLoop() {
+        while (true) {
+            ByteBuffer buffer;
+            synchronized (lock) {
+                while (full == null && !closed) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        // Only close() ends the loop, so that no buffer is lost
+                    }
+                }
+                if (full == null) {
+                    break;
+                }
+                buffer = full;
+                full = null;
+            }
+            if (failure == null) {
+                try {
+                    writeFrame(buffer.flip());
+                } catch (IOException e) {
+                    synchronized (lock) {
+                        failure = e;
+                    }
+                }
+            }
+            synchronized (lock) {
+                free = buffer.clear();
+                lock.notifyAll();
+            }
+        }
+        try {
+            finishShard();
+        } catch (IOException e) {
+            synchronized (lock) {
+                failure = failure == null ? e : failure;
+            }
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private void writeFrame(ByteBuffer buffer) throws IOException {
+        int frameRecords = buffer.remaining() / TrainingRecord.SIZE;
+        if (shard != null && shardRecords + frameRecords > recordsPerShard) {
+            finishShard();
+        }
+        if (shard == null) {
+            openShard();
+        }
+
+        deflater.reset();
+        deflater.setInput(buffer);
+        deflater.finish();
+        compressed.clear().position(2 * Integer.BYTES);
+        while (!deflater.finished()) {
+            if (!compressed.hasRemaining()) {
+                ByteBuffer larger = ByteBuffer.allocate(compressed.capacity() * 2);
+                compressed = larger.put(compressed.flip());
+            }
+            deflater.deflate(compressed);
+        }
+        compressed.putInt(0, frameRecords);
+        compressed.putInt(Integer.BYTES, compressed.position() - 2 * Integer.BYTES);
+        writeFully(compressed.flip());
+        shardRecords += frameRecords;
+    }
+
+    private void openShard() throws IOException {
+        shardFile = directory.resolve(String.format("%s-%05d%s", prefix, shardIndex++, EXTENSION));
+        shard = FileChannel.open(tempFile(shardFile), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        shardRecords = 0;
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES + 2 * Short.BYTES);
+        header.putInt(MAGIC).putShort(VERSION).putShort((short) TrainingRecord.SIZE);
+        writeFully(header.flip());
+    }
+
+    private void finishShard() throws IOException {
+        if (shard == null) {return;}
+        shard.close();
+        shard = null;
+        try {
+            Files.move(tempFile(shardFile), shardFile, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile(shardFile), shardFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+        shards++;
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            shard.write(buffer);
+        }
+    }
+
+    private static int nextShardIndex(Path directory, String prefix) throws IOException {
+        int next = 0;
+        for (Path file : TrainingDataReader.shards(directory, prefix)) {
+            String name = file.getFileName().toString();
+            String number = name.substring(prefix.length() + 1, name.length() - EXTENSION.length());
+            try {
+                next = Math.max(next, Integer.parseInt(number) + 1);
+            } catch (NumberFormatException e) {
+                // Not one of ours; it cannot clash with a generated name
+            }
+        }
+        return next;
+    }
+
+    private static Path tempFile(Path file) {
+        return file.resolveSibling(file.getFileName() + ".tmp");
+    }
+
+    /**
+     * Writes the records still buffered, completes the last shard and
+     * stops the writer thread.
+     *
+     * @throws IOException if any shard could not be written
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            if (closed) {return;}
+            if (filling.position() > 0 && failure == null) {
+                swap();
+            }
+            closed = true;
+            lock.notifyAll();
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while closing the training data writer", e);
+        }
+        synchronized (lock) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of records appended so far.
+     * @return record count
+     */
+    public long getRecords() {
+        synchronized (lock) {
+            return records;
+        }
+    }
+
+    /**
+     * Gets how often a game had to wait because the writer thread was
+     * still busy with the other buffer.
+     * @return buffer waits
+     */
+    public long getBufferWaits() {
+        synchronized (lock) {
+            return bufferWaits;
+        }
+    }
+
+    /**
+     * Gets the number of complete shard files written.
+     * @return shard count
+     */
+    public int getShards() {return shards;}
+
+    /**
+     * Lists the complete shards written so far, in order.
+     * @return shard files
+     * @throws IOException if the directory cannot be listed
+     */
+    public List<Path> getShardFiles() throws IOException {
+        return TrainingDataReader.shards(directory, prefix);
+    }
+}
@@ -0,0 +1,58 @@
+package com.comp2042.sim;
+
+/**
+ * Layout of one fixed-width record in a training-data shard. Every record
+ * describes one placement: the position the player saw, what it did and
+ * how the game it belongs to ended. Values are big-endian.
+ *
+ * <pre>
+ * offset size
+ *      0    8  game id (the seed for simulated games)
+ *      8    4  index of the piece in the game, from 0
+ *     12    4  lines the whole game cleared
+ *     16    4  pieces the whole game placed
+ *     20   32  stack before the piece locks as four longs; cell (x, y)
+ *              is bit b % 64 of long b / 64 where b = y * 10 + x, and
+ *              row 0 is the top
+ *     52    1  piece colour code (1-7)
+ *     53    1  hold colour code, 0 when the hold slot is empty
+ *     54    5  next pieces, colour codes, 0 past the end of the preview
+ *     59    1  rotation index of the placement
+ *     60    1  x offset of the placement (signed)
+ *     61    1  y offset of the placement (signed)
+ *     62    1  lines the placement cleared
+ *     63    1  how the game ended, a {@link SimulationResult.EndReason} ordinal
+ * </pre>
+ */
+final class TrainingRecord {
+
+    /** Bytes per record. */
+    static final int SIZE = 64;
+
+    /** Board width the stack bitmask is laid out for. */
+    static final int WIDTH = GameSimulator.BOARD_WIDTH;
+
+    /** Board height the stack bitmask is laid out for. */
+    static final int HEIGHT = GameSimulator.BOARD_HEIGHT;
+
+    /** Number of preview pieces stored. */
+    static final int QUEUE_LENGTH = 5;
+
+    static final int GAME_ID = 0;
+    static final int PIECE_INDEX = 8;
+    static final int GAME_LINES = 12;
+    static final int GAME_PIECES = 16;
+    static final int BOARD = 20;
+    static final int BOARD_WORDS = 4;
+    static final int PIECE = 52;
+    static final int HOLD = 53;
+    static final int QUEUE = 54;
+    static final int ROTATION = 59;
+    static final int X = 60;
+    static final int Y = 61;
+    static final int LINES = 62;
+    static final int END_REASON = 63;
+
+    private TrainingRecord() {
+    }
+}
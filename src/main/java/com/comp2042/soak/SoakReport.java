@@ -0,0 +1,166 @@
+package com.comp2042.soak;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Time series of a soak run and the verdict on whether memory, threads
+ * and scheduled tasks stayed flat.
+ *
+ * <p>The first sample is taken before any piece is played and only shows
+ * the starting point; the verdict compares the rest. Retained heap is
+ * compared by its lowest value in the first and second half of the run,
+ * which ignores collections that happen to land mid-allocation, and
+ * threads by the most seen in the second half against the first played
+ * sample. A leak of a few objects per game therefore shows up once the run
+ * is long enough for it to outgrow the tolerance, and a thread that is
+ * never stopped shows up at once.
+ *
+ * <p>Tasks waiting on the runner's clock are compared by the most seen in
+ * each half. How many the game timers and effects hold depends on where
+ * in a game the sample lands, so the tolerance should cover those; a task
+ * that is scheduled again without cancelling the last one grows past it.
+ */
+public final class SoakReport {
+
+    private static final int MIN_SAMPLES = 4;
+
+    private final List<SoakSample> samples;
+    private final long heapToleranceBytes;
+    private final int threadTolerance;
+    private final int taskTolerance;
+
+    /**
+     * Creates a report.
+     *
+     * @param samples samples in the order they were taken, at least four
+     * @param heapToleranceBytes retained heap growth still treated as flat
+     * @param threadTolerance live thread growth still treated as flat
+     * @param taskTolerance pending task growth still treated as flat
+     */
+    public SoakReport(List<SoakSample> samples, long heapToleranceBytes, int threadTolerance, int taskTolerance) {
+        if (heapToleranceBytes < 0 || threadTolerance < 0 || taskTolerance < 0) {
+            throw new IllegalArgumentException("Tolerances must not be negative");
+        }
+        if (samples.size() < MIN_SAMPLES) {
+            throw new IllegalArgumentException("A verdict needs at least " + MIN_SAMPLES + " samples");
+        }
+        this.samples = Collections.unmodifiableList(new ArrayList<>(samples));
+        this.heapToleranceBytes = heapToleranceBytes;
+        this.threadTolerance = threadTolerance;
+        this.taskTolerance = taskTolerance;
+    }
+
+    /**
+     * Gets the samples.
+     * @return samples in the order they were taken
+     */
+    public List<SoakSample> getSamples() {return samples;}
+
+    /**
+     * Gets how much the retained heap grew from the first half of the run
+     * to the second.
+     * @return bytes, negative if it shrank
+     */
+    public long getRetainedGrowth() {
+        int middle = middle();
+        return minRetained(middle, samples.size()) - minRetained(1, middle);
+    }
+
+    /**
+     * Gets how many more threads were live in the second half of the run
+     * than when play started.
+     * @return thread count, negative if there were fewer
+     */
+    public int getThreadGrowth() {
+        int most = Integer.MIN_VALUE;
+        for (int i = middle(); i < samples.size(); i++) {
+            most = Math.max(most, samples.get(i).getLiveThreads());
+        }
+        return most - samples.get(1).getLiveThreads();
+    }
+
+    /**
+     * Gets how many more tasks waited on the clock in the second half of
+     * the run than in the first.
+     * @return task count, negative if there were fewer
+     */
+    public int getTaskGrowth() {
+        int middle = middle();
+        return maxPending(middle, samples.size()) - maxPending(1, middle);
+    }
+
+    private int middle() {
+        return 1 + (samples.size() - 1) / 2;
+    }
+
+    private long minRetained(int from, int to) {
+        long least = Long.MAX_VALUE;
+        for (int i = from; i < to; i++) {
+            least = Math.min(least, samples.get(i).getRetainedBytes());
+        }
+        return least;
+    }
+
+    private int maxPending(int from, int to) {
+        int most = 0;
+        for (int i = from; i < to; i++) {
+            most = Math.max(most, samples.get(i).getPendingTasks());
+        }
+        return most;
+    }
+
+    /**
+     * Gets why the run is not flat.
+     * @return one message per failed check; empty if memory, threads and
+     *         tasks stayed within the tolerances
+     */
+    public List<String> getFailures() {
+        List<String> failures = new ArrayList<>();
+        long heapGrowth = getRetainedGrowth();
+        if (heapGrowth > heapToleranceBytes) {
+            failures.add(String.format(Locale.ROOT, "Retained heap grew by %.1f MB (tolerance %.1f MB)",
+                    heapGrowth / 1e6, heapToleranceBytes / 1e6));
+        }
+        int threadGrowth = getThreadGrowth();
+        if (threadGrowth > threadTolerance) {
+            failures.add("Live threads grew by " + threadGrowth + " (tolerance " + threadTolerance + ")");
+        }
+        int taskGrowth = getTaskGrowth();
+        if (taskGrowth > taskTolerance) {
+            failures.add("Scheduled tasks grew by " + taskGrowth + " (tolerance " + taskTolerance + ")");
+        }
+        return failures;
+    }
+
+    /**
+     * Checks whether memory, threads and tasks stayed flat.
+     * @return true if there are no failures
+     */
+    public boolean isFlat() {return getFailures().isEmpty();}
+
+    /**
+     * Writes the samples as CSV with a header line.
+     *
+     * @param out where to write
+     * @throws IOException if writing fails
+     */
+    public void writeCsv(Appendable out) throws IOException {
+        out.append(SoakSample.CSV_HEADER).append('\n');
+        for (SoakSample sample : samples) {
+            out.append(sample.toCsvRow()).append('\n');
+        }
+    }
+
+    @Override
+    public String toString() {
+        String verdict = isFlat() ? "flat" : String.join("; ", getFailures());
+        SoakSample last = samples.get(samples.size() - 1);
+        return String.format(Locale.ROOT, "%d pieces, %d games in %.1f s: heap %+.1f MB, threads %+d, tasks %+d, %s",
+                last.getPieces(), last.getGames(), last.getElapsedMillis() / 1e3,
+                getRetainedGrowth() / 1e6, getThreadGrowth(), getTaskGrowth(), verdict);
+    }
+}
@@ -0,0 +1,311 @@
+package com.comp2042.soak;
+
+import com.comp2042.bot.Placement;
+import com.comp2042.bot.Player;
+import com.comp2042.bot.PlayerType;
+import com.comp2042.clock.VirtualGameClock;
+import com.comp2042.controller.GameController;
+import com.comp2042.controller.HeadlessGuiController;
+import com.comp2042.controller.InputEventListener;
+import com.comp2042.core.Board;
+import com.comp2042.event.EventSource;
+import com.comp2042.event.EventType;
+import com.comp2042.event.MoveEvent;
+import com.comp2042.model.GameMode;
+import com.comp2042.model.ViewData;
+import com.comp2042.sim.SimulationConfig;
+import com.comp2042.state.ComboDecay;
+import com.comp2042.state.GameState;
+import com.comp2042.state.ScoringManager;
+import com.comp2042.state.TimerManager;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Endurance harness that plays pieces through {@link GameController} with
+ * no window for as long as a kiosk would run, and samples the heap, the
+ * allocation rate and the live threads as it goes.
+ *
+ * <p>Pieces are chosen by a bot and entered as the UI enters them: the
+ * occasional hold, rotations and shifts through the controller's
+ * {@link InputEventListener}, a soft drop or two, then a hard drop. Games
+ * end on a top-out, on 40 lines in {@link GameMode#FORTY_LINES}, at two
+ * simulated minutes in {@link GameMode#TWO_MINUTES}, or on a random
+ * restart. After a number of games the harness goes back to the menu the
+ * way the application does: the controller, GUI controller, game state
+ * and scoring are dropped and built again for the next mode.
+ *
+ * <p>The timers run on a {@link VirtualGameClock} that moves
+ * {@link SimulationConfig#DEFAULT_MS_PER_PIECE} per piece, scheduled the
+ * way the game view schedules them: a {@link TimerManager} with its
+ * countdown, game timer, drop timer restarted after every lock and a lock
+ * delay per piece, and the {@link ComboDecay} of the combo meter and the
+ * board glow fed with the combo after every piece. Now and then the game
+ * is paused and resumed. Each sample records the tasks waiting on the
+ * clock, so a timer that is started again without stopping the last one
+ * shows up as growth.
+ *
+ * <p>Each sample forces a full collection first, so take them every
+ * hundred thousand pieces or more on long runs.
+ *
+ * <pre>
+ * SoakReport report = new SoakReport(new SoakRunner(PlayerType.GREEDY, 1, 50)
+ *         .run(20_000_000, 1_000_000, System.out::println), 16_000_000, 0);
+ * </pre>
+ */
+public final class SoakRunner {
+
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent DOWN = new MoveEvent(EventType.DOWN, EventSource.USER);
+
+    private static final int FORTY_LINES_GOAL = 40;
+    private static final long TWO_MINUTES_MS = 120_000;
+    private static final int HOLD_ONE_IN = 12;
+    private static final int RESTART_ONE_IN = 2000;
+    private static final int MAX_SOFT_DROPS = 2;
+    private static final int PAUSE_ONE_IN = 400;
+    private static final long PAUSE_MS = 5000;
+    private static final long COUNTDOWN_MS = 3500;
+
+    private final PlayerType playerType;
+    private final long seed;
+    private final int gamesPerMode;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    private SplittableRandom random;
+    private VirtualGameClock clock;
+    private Player player;
+    private HeadlessGuiController gui;
+    private GameController controller;
+    private GameState gameState;
+    private ScoringManager scoringManager;
+    private TimerManager timers;
+    private ComboDecay meterDecay;
+    private ComboDecay glowDecay;
+    private int modeIndex;
+    private int gamesInMode;
+    private long piecesInGame;
+    private long games;
+
+    /**
+     * Creates a soak runner.
+     *
+     * @param playerType bot that chooses the placements
+     * @param seed seed for the bot and the random holds, drops and restarts
+     * @param gamesPerMode games played before switching to the next mode
+     */
+    public SoakRunner(PlayerType playerType, long seed, int gamesPerMode) {
+        if (gamesPerMode < 1) {
+            throw new IllegalArgumentException("gamesPerMode must be at least 1");
+        }
+        this.playerType = playerType;
+        this.seed = seed;
+        this.gamesPerMode = gamesPerMode;
+    }
+
+    /**
+     * Plays pieces and samples the JVM before the first piece and after
+     * every {@code sampleEvery} pieces.
+     *
+     * @param pieces pieces to play
+     * @param sampleEvery pieces between samples
+     * @param onSample called with each sample as it is taken, or null
+     * @return the samples in order
+     */
+    public List<SoakSample> run(long pieces, long sampleEvery, Consumer<SoakSample> onSample) {
+        if (pieces < 1 || sampleEvery < 1) {
+            throw new IllegalArgumentException("pieces and sampleEvery must be positive");
+        }
+        random = new SplittableRandom(seed);
+        clock = new VirtualGameClock();
+        player = playerType.create(seed);
+        modeIndex = 0;
+        games = 0;
+        startMode();
+
+        List<SoakSample> samples = new ArrayList<>();
+        long startNanos = System.nanoTime();
+        long startAllocated = allocatedBytes();
+        long lastNanos = startNanos;
+        long lastAllocated = startAllocated;
+        for (long placed = 0; ; placed++) {
+            if (placed % sampleEvery == 0 || placed == pieces) {
+                long now = System.nanoTime();
+                long allocated = allocatedBytes();
+                double rate = allocated < 0 || now == lastNanos ? -1
+                        : (allocated - lastAllocated) * 1e9 / (now - lastNanos);
+                SoakSample sample = new SoakSample(placed, (now - startNanos) / 1_000_000,
+                        gameState.getCurrentGameMode(), games, retainedBytes(),
+                        allocated < 0 ? -1 : allocated - startAllocated, rate, threads.getThreadCount(),
+                        clock.getPendingCount());
+                samples.add(sample);
+                if (onSample != null) {onSample.accept(sample);}
+                lastNanos = System.nanoTime();
+                lastAllocated = allocatedBytes();
+            }
+            if (placed == pieces) {
+                stopTimers();
+                return samples;
+            }
+            playPiece();
+        }
+    }
+
+    // ========== Play ==========
+
+    private void startMode() {
+        if (timers != null) {stopTimers();}
+        GameMode mode = GameMode.values()[modeIndex];
+        gameState = new GameState();
+        gameState.setCurrentGameMode(mode);
+        gameState.resetScores();
+        scoringManager = new ScoringManager(gameState);
+        gui = new HeadlessGuiController();
+        gui.setGameState(gameState);
+        gui.setScoringManager(scoringManager);
+        controller = new GameController(gui);
+        timers = new TimerManager(gameState, null, clock);
+        meterDecay = new ComboDecay(clock, level -> {});
+        glowDecay = new ComboDecay(clock, level -> {});
+        gamesInMode = 0;
+        startGame();
+    }
+
+    private void startGame() {
+        piecesInGame = 0;
+        games++;
+        timers.startCountdown(text -> {}, () -> {
+            timers.startGameTimer();
+            startDropTimer();
+        });
+        clock.advance(COUNTDOWN_MS);
+    }
+
+    private void startDropTimer() {
+        timers.stopDropTimer();
+        timers.startDropTimer(gameState.getCurrentDropSpeed(), () -> {});
+    }
+
+    private void stopTimers() {
+        timers.stopAllTimers();
+        meterDecay.dispose();
+        glowDecay.dispose();
+    }
+
+    private void playPiece() {
+        Board board = controller.getBoard();
+        InputEventListener input = gui.getListener();
+        if (random.nextInt(HOLD_ONE_IN) == 0 && board.canHold()) {
+            controller.holdBrick();
+        }
+        Placement placement = player.choosePlacement(board);
+        if (placement != null) {
+            if (placement.isHold()) {controller.holdBrick();}
+            for (int i = 0; i < placement.getRotation(); i++) {
+                input.onRotateEvent(ROTATE);
+            }
+            int x = board.getViewData().getxPosition();
+            while (x != placement.getX()) {
+                ViewData view = x < placement.getX() ? input.onRightEvent(RIGHT) : input.onLeftEvent(LEFT);
+                if (view.getxPosition() == x) {break;}
+                x = view.getxPosition();
+            }
+        }
+        for (int i = random.nextInt(MAX_SOFT_DROPS + 1); i > 0; i--) {
+            input.onDownEvent(DOWN);
+            scoringManager.addSoftDropBonus(1);
+        }
+
+        timers.startLockDelay(() -> {});
+        int linesBefore = controller.getLinesCleared();
+        boolean alive = controller.hardDrop();
+        timers.stopLockDelay();
+        controller.incrementPiecesPlaced();
+        piecesInGame++;
+        int lines = controller.getLinesCleared() - linesBefore;
+        if (lines > 0) {
+            scoringManager.calculateTetrisScore(lines);
+        } else {
+            scoringManager.resetCombo();
+        }
+        int combo = gameState.getCurrentGameMode() == GameMode.TWO_MINUTES
+                ? gameState.getTwoMinutesCombo() : gameState.getNormalModeCombo();
+        meterDecay.set(combo);
+        glowDecay.set(combo);
+        startDropTimer();
+        clock.advance(SimulationConfig.DEFAULT_MS_PER_PIECE);
+        if (random.nextInt(PAUSE_ONE_IN) == 0) {pauseAndResume();}
+
+        GameMode mode = gameState.getCurrentGameMode();
+        boolean over = !alive
+                || mode == GameMode.FORTY_LINES && controller.getLinesCleared() >= FORTY_LINES_GOAL
+                || mode == GameMode.TWO_MINUTES
+                        && piecesInGame * SimulationConfig.DEFAULT_MS_PER_PIECE >= TWO_MINUTES_MS
+                || random.nextInt(RESTART_ONE_IN) == 0;
+        if (over) {endGame();}
+    }
+
+    private void pauseAndResume() {
+        timers.pauseGameTimer();
+        timers.pauseDropTimer();
+        meterDecay.pause();
+        glowDecay.pause();
+        clock.advance(PAUSE_MS);
+        timers.resumeGameTimer();
+        timers.resumeDropTimer();
+        meterDecay.resume();
+        glowDecay.resume();
+    }
+
+    private void endGame() {
+        timers.stopAllTimers();
+        meterDecay.reset();
+        glowDecay.reset();
+        gamesInMode++;
+        if (gamesInMode >= gamesPerMode) {
+            modeIndex = (modeIndex + 1) % GameMode.values().length;
+            startMode();
+            return;
+        }
+        gameState.resetScores();
+        controller.createNewGame();
+        startGame();
+    }
+
+    // ========== Sampling ==========
+
+    private long retainedBytes() {
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private long allocatedBytes() {
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the games started so far in the last run, restarts included.
+     * @return game count
+     */
+    public long getGames() {return games;}
+
+    /**
+     * Gets the clock the game timers and effects of the current run are
+     * scheduled on.
+     * @return the clock, or null before the first run
+     */
+    public VirtualGameClock getClock() {return clock;}
+}
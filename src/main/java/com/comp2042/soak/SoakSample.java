@@ -0,0 +1,105 @@
+package com.comp2042.soak;
+
+import com.comp2042.model.GameMode;
+
+import java.util.Locale;
+
+/**
+ * One point of a soak run's time series, taken after a full garbage
+ * collection so that the heap figure is what the game still holds on to.
+ */
+public final class SoakSample {
+
+    /** Column names of {@link #toCsvRow()}. */
+    public static final String CSV_HEADER =
+            "pieces,elapsed_ms,mode,games,retained_bytes,allocated_bytes,allocation_bytes_per_s,live_threads,pending_tasks";
+
+    private final long pieces;
+    private final long elapsedMillis;
+    private final GameMode mode;
+    private final long games;
+    private final long retainedBytes;
+    private final long allocatedBytes;
+    private final double allocationRate;
+    private final int liveThreads;
+    private final int pendingTasks;
+
+    SoakSample(long pieces, long elapsedMillis, GameMode mode, long games, long retainedBytes,
+               long allocatedBytes, double allocationRate, int liveThreads, int pendingTasks) {
+        this.pieces = pieces;
+        this.elapsedMillis = elapsedMillis;
+        this.mode = mode;
+        this.games = games;
+        this.retainedBytes = retainedBytes;
+        this.allocatedBytes = allocatedBytes;
+        this.allocationRate = allocationRate;
+        this.liveThreads = liveThreads;
+        this.pendingTasks = pendingTasks;
+    }
+
+    /**
+     * Gets the pieces placed when the sample was taken.
+     * @return piece count
+     */
+    public long getPieces() {return pieces;}
+
+    public long getElapsedMillis() {return elapsedMillis;}
+
+    /**
+     * Gets the mode being played when the sample was taken.
+     * @return game mode
+     */
+    public GameMode getMode() {return mode;}
+
+    /**
+     * Gets the games started so far, restarts included.
+     * @return game count
+     */
+    public long getGames() {return games;}
+
+    /**
+     * Gets the heap in use after a full collection.
+     * @return bytes
+     */
+    public long getRetainedBytes() {return retainedBytes;}
+
+    /**
+     * Gets the bytes the soak thread has allocated since the run started.
+     * @return bytes, or -1 if the JVM does not count them
+     */
+    public long getAllocatedBytes() {return allocatedBytes;}
+
+    /**
+     * Gets the soak thread's allocation rate since the previous sample.
+     * @return bytes per second, or -1 if the JVM does not count them
+     */
+    public double getAllocationRate() {return allocationRate;}
+
+    /**
+     * Gets the number of live threads in the JVM.
+     * @return thread count
+     */
+    public int getLiveThreads() {return liveThreads;}
+
+    /**
+     * Gets the number of game timer and effect tasks waiting on the
+     * runner's clock.
+     * @return task count
+     */
+    public int getPendingTasks() {return pendingTasks;}
+
+    /**
+     * Formats the sample as a line of CSV under {@link #CSV_HEADER}.
+     * @return the row, without a line break
+     */
+    public String toCsvRow() {
+        return String.format(Locale.ROOT, "%d,%d,%s,%d,%d,%d,%.0f,%d,%d", pieces, elapsedMillis, mode, games,
+                retainedBytes, allocatedBytes, allocationRate, liveThreads, pendingTasks);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%d pieces, %s, %.1f MB retained, %.1f MB/s allocated, %d threads, %d tasks",
+                pieces, mode, retainedBytes / 1e6, allocationRate / 1e6, liveThreads, pendingTasks);
+    }
+}
@@ -0,0 +1,124 @@
+package com.comp2042.state;
+
+import com.comp2042.clock.GameClock;
+import com.comp2042.clock.ScheduledTask;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Countdown of the combo shown by the combo meter and the board glow.
+ * Three seconds after the last combo change the level drops by one, and
+ * again every 1.2 seconds until it reaches zero. Pausing stops the
+ * countdown; resuming starts the three seconds again.
+ *
+ * <p>Both steps are tasks on a {@link GameClock}, and at most one is
+ * scheduled at a time: every change cancels the task before scheduling
+ * the next. The effects run on an {@code FxGameClock}, so the level is
+ * only changed on the JavaFX application thread; the soak runner drives
+ * the same class on a {@code VirtualGameClock} and counts its tasks.
+ */
+public class ComboDecay {
+
+    /** Time from the last combo change to the first decay step. */
+    public static final long START_DELAY_MS = 3000;
+
+    /** Time between decay steps. */
+    public static final long STEP_INTERVAL_MS = 1200;
+
+    private final GameClock clock;
+    private final IntConsumer onDecay;
+
+    private ScheduledTask task;
+    private int level;
+    private boolean paused;
+    private boolean disposed;
+
+    /**
+     * Creates a new ComboDecay.
+     *
+     * @param clock clock the steps are scheduled on
+     * @param onDecay called with the new level after every decay step
+     */
+    public ComboDecay(GameClock clock, IntConsumer onDecay) {
+        this.clock = clock;
+        this.onDecay = onDecay;
+    }
+
+    /**
+     * Sets the level after a combo change and starts the countdown again.
+     *
+     * @param level the new level; zero stops the countdown
+     */
+    public void set(int level) {
+        if (disposed) return;
+        this.level = Math.max(0, level);
+        schedule();
+    }
+
+    /**
+     * Stops the countdown, e.g. while the game is paused.
+     */
+    public void pause() {
+        paused = true;
+        cancelTask();
+    }
+
+    /**
+     * Starts the countdown again from the full start delay.
+     */
+    public void resume() {
+        paused = false;
+        schedule();
+    }
+
+    /**
+     * Sets the level to zero and clears the pause.
+     */
+    public void reset() {
+        level = 0;
+        paused = false;
+        cancelTask();
+    }
+
+    /**
+     * Stops the countdown for good.
+     */
+    public void dispose() {
+        disposed = true;
+        cancelTask();
+    }
+
+    /**
+     * Gets the current level.
+     * @return level, zero once it has fully decayed
+     */
+    public int getLevel() {return level;}
+
+    /**
+     * Checks whether a decay step is still to come.
+     * @return true while the countdown runs
+     */
+    public boolean isRunning() {return task != null && task.isActive();}
+
+    private void schedule() {
+        cancelTask();
+        if (level <= 0 || paused || disposed) return;
+        task = clock.schedule(START_DELAY_MS, () -> {
+            task = clock.repeat(STEP_INTERVAL_MS, GameClock.INDEFINITE, this::step);
+            step();
+        });
+    }
+
+    private void step() {
+        level--;
+        if (level <= 0) {cancelTask();}
+        onDecay.accept(level);
+    }
+
+    private void cancelTask() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+}
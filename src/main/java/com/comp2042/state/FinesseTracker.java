@@ -0,0 +1,91 @@
+package com.comp2042.state;
+
+/**
+ * Counts the key presses spent on the current piece and compares them with
+ * the fewest that reach where it locked.
+ *
+ * <p>Left and right count once per press, however far the key then
+ * repeats, so holding a key to the wall is one press like DAS on other
+ * games. Pieces that moved or rotated after a soft drop are not judged,
+ * because a tuck under an overhang can need more keys than the open
+ * board suggests, and neither are pieces placed with fewer presses than
+ * the minimum, which were moved by something other than the keyboard.
+ * Every call is constant time.
+ */
+public class FinesseTracker {
+
+    private int presses = 0;
+    private boolean softDropped = false;
+    private boolean tucked = false;
+
+    private int judgedPieces = 0;
+    private int faults = 0;
+    private int extraPresses = 0;
+
+    /**
+     * Records a left or right key event.
+     * @param newPress false for a repeat while the key stays down
+     */
+    public void onShift(boolean newPress) {
+        if (newPress) {count();}
+    }
+
+    /** Records a rotate key press. */
+    public void onRotate() {count();}
+
+    /** Records a soft drop. */
+    public void onSoftDrop() {softDropped = true;}
+
+    /** Starts counting for a new piece, after a lock or a hold. */
+    public void onNewPiece() {
+        presses = 0;
+        softDropped = false;
+        tucked = false;
+    }
+
+    private void count() {
+        presses++;
+        if (softDropped) {tucked = true;}
+    }
+
+    /**
+     * Judges the piece that is locking and starts counting for the next.
+     *
+     * @param minimumPresses fewest presses that reach the locked position,
+     *                       or negative if unknown
+     * @return true if the piece was a finesse fault
+     */
+    public boolean onLock(int minimumPresses) {
+        boolean fault = false;
+        if (minimumPresses >= 0 && !tucked && presses >= minimumPresses) {
+            judgedPieces++;
+            if (presses > minimumPresses) {
+                fault = true;
+                faults++;
+                extraPresses += presses - minimumPresses;
+            }
+        }
+        onNewPiece();
+        return fault;
+    }
+
+    /** Clears the counts for a new game. */
+    public void reset() {
+        onNewPiece();
+        judgedPieces = 0;
+        faults = 0;
+        extraPresses = 0;
+    }
+
+    public int getPresses() {return presses;}
+
+    public int getJudgedPieces() {return judgedPieces;}
+
+    public int getFaults() {return faults;}
+
+    /**
+     * Gets the presses spent beyond the minimum on faulty pieces.
+     * @return wasted presses
+     */
+    public int getExtraPresses() {return extraPresses;}
+}
@@ -48,11 +48,31 @@ public class GameState {
     private int twoMinutesScore = 0;
     private int twoMinutesCombo = 0;
     private boolean twoMinutesLastWasTetris = false;
-    private static int twoMinutesBestScore = 0;
 
     // 40 Lines Challenge
     private long fortyLinesBestTime = Long.MAX_VALUE;
 
+    // Finesse
+    private final FinesseTracker finesseTracker = new FinesseTracker();
+
+    // Records kept beyond this game state
+    private final SessionRecords records;
+
+    /**
+     * Creates a game state with records of its own, for headless games.
+     */
+    public GameState() {
+        this(new SessionRecords());
+    }
+
+    /**
+     * Creates a game state that keeps its bests in the given records.
+     * @param records records shared with later game states, such as {@link SessionRecords#session()}
+     */
+    public GameState(SessionRecords records) {
+        this.records = records;
+    }
+
     /**
      * Gets the current game mode.
      * @return the active GameMode
@@ -146,13 +166,16 @@ public class GameState {
     public void resetTwoMinutesCombo() { twoMinutesCombo = 0; }
     public boolean isTwoMinutesLastWasTetris() { return twoMinutesLastWasTetris; }
     public void setTwoMinutesLastWasTetris(boolean wasTetris) { twoMinutesLastWasTetris = wasTetris; }
-    public static int getTwoMinutesBestScore() { return twoMinutesBestScore; }
-    public static void setTwoMinutesBestScore(int score) { twoMinutesBestScore = score; }
+    public int getTwoMinutesBestScore() { return records.getTwoMinutesBestScore(); }
+    public void setTwoMinutesBestScore(int score) { records.setTwoMinutesBestScore(score); }
 
     // 40 Lines Challenge
     public long getFortyLinesBestTime() { return fortyLinesBestTime; }
     public void setFortyLinesBestTime(long time) { fortyLinesBestTime = time; }
 
+    // Finesse
+    public FinesseTracker getFinesseTracker() { return finesseTracker; }
+
     public void resetScores() {
         normalModeScore = 0;
         normalModeCombo = 0;
@@ -160,5 +183,6 @@ public class GameState {
         twoMinutesScore = 0;
         twoMinutesCombo = 0;
         twoMinutesLastWasTetris = false;
+        finesseTracker.reset();
     }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.comp2042.state;
+
+/**
+ * Records that last for the whole run of the application rather than one
+ * game scene. The game scene and its {@link GameState} are built again every
+ * time the player comes back from the menu, so bests kept on the game state
+ * itself would be lost; the game scene injects {@link #session()} instead.
+ * Headless games each get their own instance, so parallel simulations do
+ * not share anything.
+ */
+public final class SessionRecords {
+
+    private static final SessionRecords SESSION = new SessionRecords();
+
+    private int twoMinutesBestScore = 0;
+
+    /**
+     * Gets the records of the running application.
+     * @return the application-wide instance
+     */
+    public static SessionRecords session() { return SESSION; }
+
+    /**
+     * Gets the best 2-minute score this session.
+     * @return best score, 0 if none
+     */
+    public int getTwoMinutesBestScore() { return twoMinutesBestScore; }
+
+    /**
+     * Sets the best 2-minute score this session.
+     * @param score the new best score
+     */
+    public void setTwoMinutesBestScore(int score) { twoMinutesBestScore = score; }
+}
@@ -1,23 +1,26 @@
 package com.comp2042.state;
 
+import com.comp2042.clock.FxGameClock;
+import com.comp2042.clock.GameClock;
+import com.comp2042.clock.ScheduledTask;
 import com.comp2042.model.GameMode;
-import javafx.animation.AnimationTimer;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
 import javafx.scene.control.Label;
-import javafx.util.Duration;
 
-// Manages all game timers including drop timer, game timer, lock delay, and countdown
+import java.util.function.Consumer;
+
+// Manages all game timers including drop timer, game timer, lock delay, and countdown.
+// Time and scheduling come from a GameClock, so tests can run them on a VirtualGameClock.
 
 public class TimerManager {
-    private Timeline dropTimeline;
-    private AnimationTimer gameTimer;
-    private Timeline lockDelayTimeline;
-    private Timeline countdownTimeline;
+    private ScheduledTask dropTask;
+    private ScheduledTask gameTimerTask;
+    private ScheduledTask lockDelayTask;
+    private ScheduledTask countdownTask;
 
     private long gameStartTime;
-    private Label timeValueLabel;
-    private GameState gameState;
+    private final Consumer<String> timeDisplay;
+    private final GameState gameState;
+    private final GameClock clock;
 
     private static final long TWO_MINUTES_MS = 120 * 1000;
 
@@ -27,13 +30,24 @@ public class TimerManager {
     private boolean gameTimerPaused = false;
 
     /**
-     * Creates a new TimerManager.
+     * Creates a new TimerManager on the system clock and the JavaFX animation pulse.
      * @param gameState the game state to monitor
      * @param timeValueLabel the label to update with time display
      */
     public TimerManager(GameState gameState, Label timeValueLabel) {
+        this(gameState, timeValueLabel != null ? timeValueLabel::setText : null, new FxGameClock());
+    }
+
+    /**
+     * Creates a new TimerManager on the given clock.
+     * @param gameState the game state to monitor
+     * @param timeDisplay receives the formatted time on every frame, or null
+     * @param clock source of time and timers
+     */
+    public TimerManager(GameState gameState, Consumer<String> timeDisplay, GameClock clock) {
         this.gameState = gameState;
-        this.timeValueLabel = timeValueLabel;
+        this.timeDisplay = timeDisplay;
+        this.clock = clock;
     }
 
     /**
@@ -45,36 +59,32 @@ public class TimerManager {
     }
 
     public void startGameTimer() {
-        gameStartTime = System.currentTimeMillis() - pausedElapsedTime;
+        gameStartTime = clock.millis() - pausedElapsedTime;
         gameTimerPaused = false;
 
-        if (gameTimer != null) { gameTimer.stop(); }
+        if (gameTimerTask != null) { gameTimerTask.cancel(); }
 
-        gameTimer = new AnimationTimer() {
-            @Override
-            public void handle(long now) {
-                if (!gameTimerPaused && !gameState.isPaused()) {
-                    updateTimeDisplay();
-                }
+        gameTimerTask = clock.everyFrame(() -> {
+            if (!gameTimerPaused && !gameState.isPaused()) {
+                updateTimeDisplay();
             }
-        };
-        gameTimer.start();
+        });
     }
 
     public void stopGameTimer() {
-        if (gameTimer != null) {
-            pausedElapsedTime = System.currentTimeMillis() - gameStartTime;
-            gameTimer.stop();
+        if (gameTimerTask != null) {
+            pausedElapsedTime = clock.millis() - gameStartTime;
+            gameTimerTask.cancel();
         }
     }
 
     public void pauseGameTimer() {
-        pausedElapsedTime = System.currentTimeMillis() - gameStartTime;
+        pausedElapsedTime = clock.millis() - gameStartTime;
         gameTimerPaused = true;
     }
 
     public void resumeGameTimer() {
-        gameStartTime = System.currentTimeMillis() - pausedElapsedTime;
+        gameStartTime = clock.millis() - pausedElapsedTime;
         gameTimerPaused = false;
     }
 
@@ -84,22 +94,20 @@ public class TimerManager {
      * @param onTick callback to execute on each drop
      */
     public void startDropTimer(int speed, Runnable onTick) {
-        if (dropTimeline != null) { dropTimeline.stop(); }
-        dropTimeline = new Timeline(new KeyFrame(Duration.millis(speed), ae -> onTick.run()));
-        dropTimeline.setCycleCount(Timeline.INDEFINITE);
-        dropTimeline.play();
+        if (dropTask != null) { dropTask.cancel(); }
+        dropTask = clock.repeat(speed, GameClock.INDEFINITE, onTick);
     }
 
     public void stopDropTimer() {
-        if (dropTimeline != null) { dropTimeline.stop(); }
+        if (dropTask != null) { dropTask.cancel(); }
     }
 
     public void pauseDropTimer() {
-        if (dropTimeline != null) { dropTimeline.pause(); }
+        if (dropTask != null) { dropTask.pause(); }
     }
 
     public void resumeDropTimer() {
-        if (dropTimeline != null) { dropTimeline.play(); }
+        if (dropTask != null) { dropTask.resume(); }
     }
 
     /**
@@ -108,14 +116,12 @@ public class TimerManager {
      * @param onComplete callback when lock delay expires
      */
     public void startLockDelay(Runnable onComplete) {
-        if (lockDelayTimeline != null) { lockDelayTimeline.stop(); }
-        lockDelayTimeline = new Timeline(new KeyFrame(Duration.millis(gameState.getLockDelayMs()), ae -> onComplete.run()));
-        lockDelayTimeline.setCycleCount(1);
-        lockDelayTimeline.play();
+        if (lockDelayTask != null) { lockDelayTask.cancel(); }
+        lockDelayTask = clock.schedule(gameState.getLockDelayMs(), onComplete);
     }
 
     public void stopLockDelay() {
-        if (lockDelayTimeline != null) { lockDelayTimeline.stop(); }
+        if (lockDelayTask != null) { lockDelayTask.cancel(); }
     }
 
     /**
@@ -124,25 +130,32 @@ public class TimerManager {
      * @param onComplete callback when countdown finishes
      */
     public void startCountdown(Label countdownLabel, Runnable onComplete) {
+        startCountdown(countdownLabel::setText, onComplete);
+    }
+
+    /**
+     * Starts the pre-game countdown (3, 2, 1, GO!).
+     * The callback runs once, half a second after GO!, unless the countdown is stopped first.
+     * @param display receives each step of the countdown
+     * @param onComplete callback when countdown finishes
+     */
+    public void startCountdown(Consumer<String> display, Runnable onComplete) {
         final int[] count = {3};
-        countdownLabel.setText("3");
-        if (countdownTimeline != null) { countdownTimeline.stop(); }
+        display.accept("3");
+        if (countdownTask != null) { countdownTask.cancel(); }
 
-        countdownTimeline = new Timeline(new KeyFrame(Duration.seconds(1), event -> {
+        countdownTask = clock.repeat(1000, 3, () -> {
             count[0]--;
-            if (count[0] > 0) { countdownLabel.setText(String.valueOf(count[0])); }
+            if (count[0] > 0) { display.accept(String.valueOf(count[0])); }
             else {
-                countdownLabel.setText("GO!");
-                Timeline hideTimeline = new Timeline(new KeyFrame(Duration.millis(500), e -> onComplete.run()));
-                hideTimeline.play();
+                display.accept("GO!");
+                countdownTask = clock.schedule(500, onComplete);
             }
-        }));
-        countdownTimeline.setCycleCount(4);
-        countdownTimeline.play();
+        });
     }
 
     public void stopCountdown() {
-        if (countdownTimeline != null) { countdownTimeline.stop(); countdownTimeline = null; }
+        if (countdownTask != null) { countdownTask.cancel(); countdownTask = null; }
     }
 
     public void stopAllTimers() {
@@ -151,36 +164,40 @@ public class TimerManager {
 
     private void updateTimeDisplay() {
         if (gameState.isGameOver() || gameTimerPaused || gameState.isPaused()) return;
-        long elapsed = System.currentTimeMillis() - gameStartTime;
+        long elapsed = clock.millis() - gameStartTime;
 
         if (gameState.getCurrentGameMode() == GameMode.TWO_MINUTES) {
             long remaining = TWO_MINUTES_MS - elapsed;
             if (remaining <= 0) {
                 remaining = 0;
-                timeValueLabel.setText("0:00.00");
+                showTime("0:00.00");
                 if (!timeUpTriggered && onTimeUp != null) { timeUpTriggered = true; onTimeUp.run(); }
                 return;
             }
             int minutes = (int) (remaining / 60000);
             int seconds = (int) ((remaining % 60000) / 1000);
             int millis = (int) (remaining % 100);
-            timeValueLabel.setText(String.format("%d:%02d.%02d", minutes, seconds, millis));
+            showTime(String.format("%d:%02d.%02d", minutes, seconds, millis));
         } else {
             int minutes = (int) (elapsed / 60000);
             int seconds = (int) ((elapsed % 60000) / 1000);
             int millis = (int) (elapsed % 100);
-            timeValueLabel.setText(String.format("%d:%02d.%02d", minutes, seconds, millis));
+            showTime(String.format("%d:%02d.%02d", minutes, seconds, millis));
         }
     }
 
+    private void showTime(String text) {
+        if (timeDisplay != null) { timeDisplay.accept(text); }
+    }
+
     /**
      * Gets the elapsed time since game start.
      * @return elapsed time in milliseconds
      */
-    public long getElapsedTime() { return System.currentTimeMillis() - gameStartTime; }
+    public long getElapsedTime() { return clock.millis() - gameStartTime; }
 
     public void resetStartTime() {
-        gameStartTime = System.currentTimeMillis();
+        gameStartTime = clock.millis();
         pausedElapsedTime = 0;
         timeUpTriggered = false;
         gameTimerPaused = false;
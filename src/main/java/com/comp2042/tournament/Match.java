@@ -0,0 +1,59 @@
+package com.comp2042.tournament;
+
+import java.util.Objects;
+
+/**
+ * One scheduled game between two bots. In a battle the first bot places
+ * the first brick; in a sprint the order does not matter.
+ */
+public final class Match {
+
+    private final MatchFormat format;
+    private final String first;
+    private final String second;
+    private final long seed;
+
+    /**
+     * Creates a new Match.
+     *
+     * @param format kind of match
+     * @param first name of the first bot
+     * @param second name of the second bot
+     * @param seed seed of the piece sequence both bots get
+     */
+    public Match(MatchFormat format, String first, String second, long seed) {
+        if (first.equals(second)) {
+            throw new IllegalArgumentException("A bot cannot play itself");
+        }
+        this.format = format;
+        this.first = first;
+        this.second = second;
+        this.seed = seed;
+    }
+
+    public MatchFormat getFormat() {return format;}
+
+    public String getFirst() {return first;}
+
+    public String getSecond() {return second;}
+
+    public long getSeed() {return seed;}
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {return true;}
+        if (!(o instanceof Match other)) {return false;}
+        return seed == other.seed && format == other.format
+                && first.equals(other.first) && second.equals(other.second);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(format, first, second, seed);
+    }
+
+    @Override
+    public String toString() {
+        return format + " " + first + " vs " + second + " seed " + seed;
+    }
+}
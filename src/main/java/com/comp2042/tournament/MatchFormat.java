@@ -0,0 +1,23 @@
+package com.comp2042.tournament;
+
+/**
+ * Kinds of match a tournament can play between two bots.
+ */
+public enum MatchFormat {
+    SPRINT("Same-seed race to 40 lines, fewest pieces wins"),
+    BATTLE("Head-to-head game where cleared lines send garbage to the opponent");
+
+    private final String description;
+
+    MatchFormat(String description) {
+        this.description = description;
+    }
+
+    /**
+     * Gets the description of this format.
+     * @return short description
+     */
+    public String getDescription() {
+        return description;
+    }
+}
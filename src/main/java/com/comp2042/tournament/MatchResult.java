@@ -0,0 +1,95 @@
+package com.comp2042.tournament;
+
+import java.util.Locale;
+
+/**
+ * Outcome of a {@link Match}, with enough detail per side to check why it
+ * was won.
+ *
+ * <p>Results are stored one per line in the tournament checkpoint as
+ * tab-separated fields, see {@link #toLine()}.
+ */
+public final class MatchResult {
+
+    private final Match match;
+    private final double score;
+    private final int firstPieces;
+    private final int firstLines;
+    private final int secondPieces;
+    private final int secondLines;
+
+    /**
+     * Creates a new MatchResult.
+     *
+     * @param match the match played
+     * @param score points of the first bot: 1 for a win, 0.5 for a draw, 0 for a loss
+     * @param firstPieces bricks placed by the first bot
+     * @param firstLines lines cleared by the first bot
+     * @param secondPieces bricks placed by the second bot
+     * @param secondLines lines cleared by the second bot
+     */
+    public MatchResult(Match match, double score, int firstPieces, int firstLines,
+                       int secondPieces, int secondLines) {
+        if (score != 0 && score != 0.5 && score != 1) {
+            throw new IllegalArgumentException("score must be 0, 0.5 or 1");
+        }
+        this.match = match;
+        this.score = score;
+        this.firstPieces = firstPieces;
+        this.firstLines = firstLines;
+        this.secondPieces = secondPieces;
+        this.secondLines = secondLines;
+    }
+
+    public Match getMatch() {return match;}
+
+    /**
+     * Gets the points of the first bot; the second bot gets the rest of 1.
+     * @return 1, 0.5 or 0
+     */
+    public double getScore() {return score;}
+
+    public int getFirstPieces() {return firstPieces;}
+
+    public int getFirstLines() {return firstLines;}
+
+    public int getSecondPieces() {return secondPieces;}
+
+    public int getSecondLines() {return secondLines;}
+
+    /**
+     * Formats this result as one checkpoint line.
+     * @return format, bots, seed, score and per-side counts separated by tabs
+     */
+    public String toLine() {
+        return String.join("\t", match.getFormat().name(), match.getFirst(), match.getSecond(),
+                Long.toString(match.getSeed()), Double.toString(score),
+                Integer.toString(firstPieces), Integer.toString(firstLines),
+                Integer.toString(secondPieces), Integer.toString(secondLines));
+    }
+
+    /**
+     * Parses a line written by {@link #toLine()}.
+     *
+     * @param line checkpoint line
+     * @return the result
+     * @throws IllegalArgumentException if the line is malformed
+     */
+    public static MatchResult parse(String line) {
+        String[] fields = line.split("\t");
+        if (fields.length != 9) {
+            throw new IllegalArgumentException("Expected 9 fields: " + line);
+        }
+        Match match = new Match(MatchFormat.valueOf(fields[0]), fields[1], fields[2], Long.parseLong(fields[3]));
+        return new MatchResult(match, Double.parseDouble(fields[4]),
+                Integer.parseInt(fields[5]), Integer.parseInt(fields[6]),
+                Integer.parseInt(fields[7]), Integer.parseInt(fields[8]));
+    }
+
+    @Override
+    public String toString() {
+        String outcome = score == 1 ? match.getFirst() + " wins" : score == 0 ? match.getSecond() + " wins" : "draw";
+        return String.format(Locale.ROOT, "%s: %s (%d pieces/%d lines vs %d pieces/%d lines)",
+                match, outcome, firstPieces, firstLines, secondPieces, secondLines);
+    }
+}
@@ -0,0 +1,256 @@
+package com.comp2042.tournament;
+
+import com.comp2042.bot.Bot;
+import com.comp2042.bot.BotRegistry;
+import com.comp2042.bot.BudgetedPlayer;
+import com.comp2042.bot.Placement;
+import com.comp2042.bot.PlacementExecutor;
+import com.comp2042.bot.Player;
+import com.comp2042.core.Board;
+import com.comp2042.core.BoardSnapshot;
+import com.comp2042.core.SimpleBoard;
+import com.comp2042.sim.GameSimulator;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+/**
+ * Plays single {@link Match}es. Each match creates fresh bots and boards,
+ * so one runner can be shared by any number of threads.
+ *
+ * <p>A sprint plays both bots on the same seed until 40 lines, a top-out
+ * or the piece limit. A bot that reaches 40 lines beats one that does not;
+ * between two finishers fewer pieces wins, between two non-finishers more
+ * lines.
+ *
+ * <p>A battle alternates bricks between two boards dealt from the same
+ * seed. Clearing 2, 3 or 4 lines sends 1, 2 or 4 garbage rows, which first
+ * cancel garbage waiting to arrive on the sender's own board. Waiting
+ * garbage arrives after the next brick that clears nothing, all rows of one
+ * attack sharing a hole column drawn from the match seed. The first bot to
+ * top out loses; if both reach the piece limit, more garbage sent wins.
+ * Every step is determined by the seed and the bots' choices, so a battle
+ * between deterministic bots replays exactly.
+ */
+public class MatchRunner {
+
+    private static final int SPRINT_GOAL = 40;
+    private static final int[] ATTACK = {0, 0, 1, 2, 4};
+
+    private final int pieceLimit;
+    private final long budgetNanos;
+    private final Function<String, Bot> bots;
+
+    /**
+     * Creates a runner for the bots in the {@link BotRegistry}.
+     *
+     * @param pieceLimit bricks each bot places at most per match
+     * @param budgetNanos time per move, or 0 to let bots take as long as they like
+     */
+    public MatchRunner(int pieceLimit, long budgetNanos) {
+        this(pieceLimit, budgetNanos, BotRegistry::create);
+    }
+
+    /**
+     * Creates a new MatchRunner.
+     *
+     * @param pieceLimit bricks each bot places at most per match
+     * @param budgetNanos time per move, or 0 to let bots take as long as they like
+     * @param bots creates a fresh bot from its name
+     */
+    public MatchRunner(int pieceLimit, long budgetNanos, Function<String, Bot> bots) {
+        if (pieceLimit < 1) {
+            throw new IllegalArgumentException("pieceLimit must be at least 1");
+        }
+        if (budgetNanos < 0) {
+            throw new IllegalArgumentException("budgetNanos must not be negative");
+        }
+        this.pieceLimit = pieceLimit;
+        this.budgetNanos = budgetNanos;
+        this.bots = bots;
+    }
+
+    /**
+     * Gets the number of bricks each bot places at most per match.
+     * @return piece limit
+     */
+    public int getPieceLimit() {return pieceLimit;}
+
+    /**
+     * Gets the time per move.
+     * @return budget in nanoseconds, or 0 if unlimited
+     */
+    public long getBudgetNanos() {return budgetNanos;}
+
+    /**
+     * Plays a match.
+     *
+     * @param match the match
+     * @return its result
+     */
+    public MatchResult play(Match match) {
+        try (Side first = new Side(newPlayer(match.getFirst()), match.getSeed());
+             Side second = new Side(newPlayer(match.getSecond()), match.getSeed())) {
+            return switch (match.getFormat()) {
+                case SPRINT -> sprint(match, first, second);
+                case BATTLE -> battle(match, first, second);
+            };
+        }
+    }
+
+    private MatchResult sprint(Match match, Side first, Side second) {
+        for (Side side : new Side[] {first, second}) {
+            while (!side.toppedOut && side.pieces < pieceLimit && side.lines < SPRINT_GOAL) {
+                side.place();
+                side.spawn();
+            }
+        }
+        boolean firstDone = first.lines >= SPRINT_GOAL;
+        boolean secondDone = second.lines >= SPRINT_GOAL;
+        double score;
+        if (firstDone != secondDone) {
+            score = firstDone ? 1 : 0;
+        } else if (firstDone) {
+            score = compare(second.pieces, first.pieces);
+        } else {
+            score = compare(first.lines, second.lines);
+        }
+        return result(match, score, first, second);
+    }
+
+    private MatchResult battle(Match match, Side first, Side second) {
+        SplittableRandom holes = new SplittableRandom(match.getSeed());
+        Side mover = first;
+        Side other = second;
+        while (!first.toppedOut && !second.toppedOut
+                && (first.pieces < pieceLimit || second.pieces < pieceLimit)) {
+            if (mover.pieces < pieceLimit) {
+                int lines = mover.place();
+                int attack = ATTACK[Math.min(lines, ATTACK.length - 1)];
+                if (lines == 0) {
+                    mover.receiveGarbage();
+                } else {
+                    attack = mover.cancel(attack);
+                    if (attack > 0) {
+                        mover.sent += attack;
+                        other.incoming.add(new int[] {attack, holes.nextInt(GameSimulator.BOARD_WIDTH)});
+                    }
+                }
+                mover.spawn();
+            }
+            Side swap = mover;
+            mover = other;
+            other = swap;
+        }
+        double score;
+        if (first.toppedOut != second.toppedOut) {
+            score = first.toppedOut ? 0 : 1;
+        } else {
+            score = compare(first.sent, second.sent);
+        }
+        return result(match, score, first, second);
+    }
+
+    private static double compare(int first, int second) {
+        return first > second ? 1 : first < second ? 0 : 0.5;
+    }
+
+    private static MatchResult result(Match match, double score, Side first, Side second) {
+        return new MatchResult(match, score, first.pieces, first.lines, second.pieces, second.lines);
+    }
+
+    private Player newPlayer(String name) {
+        return budgetNanos > 0
+                ? new BudgetedPlayer(() -> bots.apply(name), budgetNanos)
+                : new UnlimitedPlayer(bots.apply(name));
+    }
+
+    /**
+     * Calls a bot directly on the match thread with no deadline.
+     */
+    private static final class UnlimitedPlayer implements Player, AutoCloseable {
+
+        private final Bot bot;
+
+        UnlimitedPlayer(Bot bot) {
+            this.bot = bot;
+        }
+
+        @Override
+        public Placement choosePlacement(Board board) {
+            return bot.choosePlacement(BoardSnapshot.of(board), Long.MAX_VALUE);
+        }
+
+        @Override
+        public void close() {
+            bot.close();
+        }
+    }
+
+    /**
+     * One bot's board and counters within a match.
+     */
+    private static final class Side implements AutoCloseable {
+
+        final Player player;
+        final SimpleBoard board;
+        final Deque<int[]> incoming = new ArrayDeque<>();
+        int pieces;
+        int lines;
+        int sent;
+        boolean toppedOut;
+
+        Side(Player player, long seed) {
+            this.player = player;
+            this.board = new SimpleBoard(GameSimulator.BOARD_WIDTH, GameSimulator.BOARD_HEIGHT, seed);
+            this.toppedOut = board.createNewBrick();
+        }
+
+        int place() {
+            Placement placement = player.choosePlacement(board);
+            if (placement != null) {
+                PlacementExecutor.execute(board, placement);
+            } else {
+                while (board.moveBrickDown()) {
+                    // Forfeited move: drop in place
+                }
+            }
+            board.mergeBrickToBackground();
+            pieces++;
+            int cleared = board.clearRows().getLinesRemoved();
+            lines += cleared;
+            return cleared;
+        }
+
+        int cancel(int attack) {
+            while (attack > 0 && !incoming.isEmpty()) {
+                int[] batch = incoming.peekFirst();
+                int cancelled = Math.min(attack, batch[0]);
+                attack -= cancelled;
+                batch[0] -= cancelled;
+                if (batch[0] == 0) {incoming.pollFirst();}
+            }
+            return attack;
+        }
+
+        void receiveGarbage() {
+            while (!incoming.isEmpty() && !toppedOut) {
+                int[] batch = incoming.pollFirst();
+                toppedOut = board.addGarbageRows(batch[0], batch[1]);
+            }
+        }
+
+        void spawn() {
+            if (!toppedOut) {
+                toppedOut = board.checkGameOver() || board.createNewBrick();
+            }
+        }
+
+        @Override
+        public void close() {
+            Player.closeQuietly(player);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.comp2042.tournament;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Elo ratings with 95% confidence intervals computed from a set of match
+ * results.
+ *
+ * <p>Ratings are the maximum-likelihood fit of the Bradley-Terry model
+ * behind Elo, found with Hunter's MM iteration, with a draw counting as
+ * half a win for each side. Unlike incremental Elo updates the fit does
+ * not depend on the order results arrive in, which matters when matches
+ * finish in whatever order the worker threads get to them. Every bot also
+ * gets one virtual draw against the same fixed reference opponent, which
+ * keeps the ratings of unbeaten or winless bots finite and pulls ratings
+ * based on a handful of games towards the middle. The table is shifted so
+ * the average rating is 1500.
+ *
+ * <p>The interval is 1.96 standard errors either side of the rating,
+ * each taken from the diagonal of the Fisher information. That ignores
+ * the covariance between opponents' ratings, so it is slightly too
+ * narrow when few bots play many games each.
+ */
+public final class RatingTable {
+
+    /** Average rating of the bots in a table. */
+    public static final double MEAN_RATING = 1500;
+
+    private static final double ELO_PER_NATURAL_UNIT = 400 / Math.log(10);
+    private static final double Z_95 = 1.96;
+    private static final double PRIOR_GAMES = 1;
+    private static final int MAX_ITERATIONS = 10_000;
+    private static final double TOLERANCE = 1e-10;
+
+    private final List<Row> rows;
+
+    private RatingTable(List<Row> rows) {
+        this.rows = rows;
+    }
+
+    /**
+     * One bot's line in the table.
+     */
+    public static final class Row {
+        private final String bot;
+        private final int games;
+        private final double points;
+        private final double rating;
+        private final double interval;
+
+        Row(String bot, int games, double points, double rating, double interval) {
+            this.bot = bot;
+            this.games = games;
+            this.points = points;
+            this.rating = rating;
+            this.interval = interval;
+        }
+
+        public String getBot() {return bot;}
+
+        public int getGames() {return games;}
+
+        /**
+         * Gets the points scored: one per win, half per draw.
+         * @return points
+         */
+        public double getPoints() {return points;}
+
+        public double getRating() {return rating;}
+
+        /**
+         * Gets the half-width of the 95% confidence interval.
+         * @return interval in rating points
+         */
+        public double getInterval() {return interval;}
+    }
+
+    /**
+     * Fits ratings to results.
+     *
+     * @param results results of any formats; every bot that appears is rated
+     * @return the table, best rating first
+     */
+    public static RatingTable of(Collection<MatchResult> results) {
+        Map<String, Integer> index = new LinkedHashMap<>();
+        for (MatchResult result : results) {
+            index.putIfAbsent(result.getMatch().getFirst(), index.size());
+            index.putIfAbsent(result.getMatch().getSecond(), index.size());
+        }
+        int n = index.size();
+        double[][] games = new double[n][n];
+        double[] points = new double[n];
+        int[] played = new int[n];
+        for (MatchResult result : results) {
+            int a = index.get(result.getMatch().getFirst());
+            int b = index.get(result.getMatch().getSecond());
+            games[a][b]++;
+            games[b][a]++;
+            points[a] += result.getScore();
+            points[b] += 1 - result.getScore();
+            played[a]++;
+            played[b]++;
+        }
+
+        double[] strength = fit(games, points);
+        double meanLog = 0;
+        for (double s : strength) {meanLog += Math.log(s);}
+        meanLog /= Math.max(1, n);
+
+        List<Row> rows = new ArrayList<>(n);
+        for (Map.Entry<String, Integer> entry : index.entrySet()) {
+            int i = entry.getValue();
+            // Fisher information of log-strength i, including the virtual game
+            double information = PRIOR_GAMES * strength[i] / Math.pow(strength[i] + 1, 2);
+            for (int j = 0; j < n; j++) {
+                if (games[i][j] > 0) {
+                    double p = strength[i] / (strength[i] + strength[j]);
+                    information += games[i][j] * p * (1 - p);
+                }
+            }
+            double rating = MEAN_RATING + ELO_PER_NATURAL_UNIT * (Math.log(strength[i]) - meanLog);
+            double interval = Z_95 * ELO_PER_NATURAL_UNIT / Math.sqrt(information);
+            rows.add(new Row(entry.getKey(), played[i], points[i], rating, interval));
+        }
+        rows.sort(Comparator.comparingDouble(Row::getRating).reversed());
+        return new RatingTable(rows);
+    }
+
+    /**
+     * Runs the MM iteration. The virtual opponent has strength 1.
+     */
+    private static double[] fit(double[][] games, double[] points) {
+        int n = points.length;
+        double[] strength = new double[n];
+        Arrays.fill(strength, 1.0);
+        double[] next = new double[n];
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            double change = 0;
+            for (int i = 0; i < n; i++) {
+                double wins = points[i] + PRIOR_GAMES / 2;
+                double denominator = PRIOR_GAMES / (strength[i] + 1);
+                for (int j = 0; j < n; j++) {
+                    if (games[i][j] > 0) {
+                        denominator += games[i][j] / (strength[i] + strength[j]);
+                    }
+                }
+                next[i] = wins / denominator;
+                change = Math.max(change, Math.abs(Math.log(next[i] / strength[i])));
+            }
+            System.arraycopy(next, 0, strength, 0, n);
+            if (change < TOLERANCE) {break;}
+        }
+        return strength;
+    }
+
+    /**
+     * Gets the rows, best rating first.
+     * @return table rows
+     */
+    public List<Row> getRows() {return rows;}
+
+    /**
+     * Finds a bot's row.
+     *
+     * @param bot bot name
+     * @return its row, or null if it played no rated match
+     */
+    public Row get(String bot) {
+        for (Row row : rows) {
+            if (row.getBot().equals(bot)) {return row;}
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        int width = "bot".length();
+        for (Row row : rows) {width = Math.max(width, row.getBot().length());}
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "%-4s %-" + width + "s %7s %8s %6s %8s%n",
+                "rank", "bot", "rating", "95% CI", "games", "score"));
+        int rank = 1;
+        for (Row row : rows) {
+            sb.append(String.format(Locale.ROOT, "%-4d %-" + width + "s %7.0f %8s %6d %7.1f%%%n",
+                    rank++, row.getBot(), row.getRating(), "+/-" + Math.round(row.getInterval()),
+                    row.getGames(), row.getGames() == 0 ? 0.0 : 100.0 * row.getPoints() / row.getGames()));
+        }
+        return sb.toString();
+    }
+}
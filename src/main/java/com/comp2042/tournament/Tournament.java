@@ -0,0 +1,214 @@
+package com.comp2042.tournament;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Round-robin between registered bots: every pair meets on every seed in
+ * every chosen format, on all cores.
+ *
+ * <p>Each match is its own task on a fixed pool fed from one shared queue,
+ * so a worker that finishes a short game takes the next match at once
+ * while another is still in a long one. Battles, which run longest, are
+ * queued first, and each pair plays a battle seed twice with the bots
+ * swapping who moves first. A sprint is one game per pair and seed, since
+ * each bot plays its own board.
+ *
+ * <p>With a checkpoint file, every finished match is appended as one line
+ * and flushed, so a stopped run loses only the matches in progress. A
+ * restarted run reads the file, skips the matches already in it and plays
+ * the rest. The first line records the piece limit and move budget, and a
+ * file written with other settings is refused.
+ */
+public class Tournament {
+
+    private static final String HEADER_PREFIX = "# tournament";
+
+    private final List<String> bots;
+    private final Set<MatchFormat> formats;
+    private final long firstSeed;
+    private final int seeds;
+    private final MatchRunner runner;
+    private final int parallelism;
+
+    private int failures;
+
+    /**
+     * Creates a new Tournament.
+     *
+     * @param bots names of at least two bots
+     * @param formats formats to play
+     * @param firstSeed first seed; seeds firstSeed..firstSeed+seeds-1 are used
+     * @param seeds number of seeds per pair and format
+     * @param runner plays the matches
+     * @param parallelism matches played at once
+     */
+    public Tournament(List<String> bots, Collection<MatchFormat> formats, long firstSeed, int seeds,
+                      MatchRunner runner, int parallelism) {
+        if (bots.size() < 2 || bots.stream().distinct().count() != bots.size()) {
+            throw new IllegalArgumentException("Need at least two different bots");
+        }
+        if (formats.isEmpty()) {
+            throw new IllegalArgumentException("Need at least one format");
+        }
+        if (seeds < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("seeds and parallelism must be at least 1");
+        }
+        this.bots = List.copyOf(bots);
+        this.formats = EnumSet.copyOf(formats);
+        this.firstSeed = firstSeed;
+        this.seeds = seeds;
+        this.runner = runner;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Lists every match of the tournament in the order they are queued.
+     * @return all matches
+     */
+    public List<Match> schedule() {
+        List<Match> matches = new ArrayList<>();
+        if (formats.contains(MatchFormat.BATTLE)) {
+            forEachPairAndSeed((a, b, seed) -> {
+                matches.add(new Match(MatchFormat.BATTLE, a, b, seed));
+                matches.add(new Match(MatchFormat.BATTLE, b, a, seed));
+            });
+        }
+        if (formats.contains(MatchFormat.SPRINT)) {
+            forEachPairAndSeed((a, b, seed) -> matches.add(new Match(MatchFormat.SPRINT, a, b, seed)));
+        }
+        return matches;
+    }
+
+    /**
+     * Plays every match that is not already in the checkpoint.
+     *
+     * @param checkpoint file to resume from and append to, or null
+     * @param progress called on the calling thread with each newly finished
+     *                 match, in completion order
+     * @return results of all scheduled matches that have been played, in
+     *         schedule order; matches whose bot threw are left out
+     * @throws IOException if the checkpoint cannot be read or written
+     */
+    public List<MatchResult> run(Path checkpoint, Consumer<MatchResult> progress) throws IOException {
+        Map<Match, MatchResult> done = checkpoint == null ? new LinkedHashMap<>() : load(checkpoint);
+        List<Match> matches = schedule();
+        List<Match> todo = new ArrayList<>();
+        for (Match match : matches) {
+            if (!done.containsKey(match)) {todo.add(match);}
+        }
+
+        failures = 0;
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+        try (BufferedWriter log = checkpoint == null ? null : Files.newBufferedWriter(checkpoint,
+                StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            CompletionService<MatchResult> completion = new ExecutorCompletionService<>(pool);
+            for (Match match : todo) {
+                completion.submit(() -> runner.play(match));
+            }
+            for (int i = 0; i < todo.size(); i++) {
+                MatchResult result;
+                try {
+                    result = completion.take().get();
+                } catch (ExecutionException e) {
+                    failures++;
+                    System.err.println("Match failed: " + e.getCause());
+                    continue;
+                }
+                done.put(result.getMatch(), result);
+                if (log != null) {
+                    log.write(result.toLine());
+                    log.newLine();
+                    log.flush();
+                }
+                progress.accept(result);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted; finished matches are in the checkpoint", e);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        List<MatchResult> results = new ArrayList<>();
+        for (Match match : matches) {
+            MatchResult result = done.get(match);
+            if (result != null) {results.add(result);}
+        }
+        return results;
+    }
+
+    /**
+     * Gets the number of matches of the last run that failed because a bot
+     * threw; they are played again when the run is resumed.
+     * @return failed matches
+     */
+    public int getFailures() {return failures;}
+
+    private Map<Match, MatchResult> load(Path checkpoint) throws IOException {
+        Map<Match, MatchResult> done = new LinkedHashMap<>();
+        String header = header();
+        if (!Files.exists(checkpoint) || Files.size(checkpoint) == 0) {
+            Files.writeString(checkpoint, header + System.lineSeparator(), StandardCharsets.UTF_8);
+            return done;
+        }
+        List<String> lines = Files.readAllLines(checkpoint, StandardCharsets.UTF_8);
+        if (!lines.get(0).equals(header)) {
+            throw new IllegalArgumentException("Checkpoint " + checkpoint + " was written with different settings: "
+                    + lines.get(0));
+        }
+        List<String> kept = new ArrayList<>();
+        kept.add(header);
+        for (int i = 1; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {continue;}
+            try {
+                MatchResult result = MatchResult.parse(line);
+                done.put(result.getMatch(), result);
+                kept.add(line);
+            } catch (IllegalArgumentException e) {
+                if (i < lines.size() - 1) {throw e;}
+                // Cut off mid-write by a crash; drop it and play the match again
+                System.err.println("Dropping incomplete last checkpoint line: " + line);
+                Files.write(checkpoint, kept, StandardCharsets.UTF_8);
+            }
+        }
+        return done;
+    }
+
+    private String header() {
+        return HEADER_PREFIX + " pieces=" + runner.getPieceLimit() + " budget-nanos=" + runner.getBudgetNanos();
+    }
+
+    private void forEachPairAndSeed(PairAction action) {
+        for (int s = 0; s < seeds; s++) {
+            for (int i = 0; i < bots.size(); i++) {
+                for (int j = i + 1; j < bots.size(); j++) {
+                    action.accept(bots.get(i), bots.get(j), firstSeed + s);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface PairAction {
+        void accept(String first, String second, long seed);
+    }
+}
@@ -0,0 +1,99 @@
+package com.comp2042.tuning;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size queue for many producer threads and one consumer thread that
+ * never takes a lock.
+ *
+ * <p>This is Dmitry Vyukov's bounded queue specialised to one consumer.
+ * Every slot carries a sequence number that says whose turn it is: a
+ * producer claims the next position with one compare-and-set on the tail,
+ * writes the element and then publishes it by advancing the slot's
+ * sequence; the consumer waits for that sequence, takes the element and
+ * hands the slot back to the producers a lap later. Producers only
+ * contend on the tail counter, and only for the few instructions of the
+ * claim.
+ *
+ * @param <E> element type
+ */
+final class BoundedMpscQueue<E> {
+
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+
+    /**
+     * Creates an empty queue.
+     *
+     * @param capacity maximum number of elements, rounded up to a power of two
+     */
+    BoundedMpscQueue(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {size <<= 1;}
+        this.elements = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds an element if there is room. Safe to call from any thread.
+     *
+     * @param element element to add, not null
+     * @return false if the queue is full
+     */
+    boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("element");
+        }
+        while (true) {
+            long position = tail.get();
+            int slot = (int) position & mask;
+            long turn = sequences.get(slot) - position;
+            if (turn == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements[slot] = element;
+                    sequences.set(slot, position + 1);
+                    return true;
+                }
+            } else if (turn < 0) {
+                // The consumer has not freed this slot from the previous lap
+                return false;
+            }
+            // Another producer claimed the position first; try the next one
+        }
+    }
+
+    /**
+     * Removes the oldest published element. Only one thread may call this.
+     *
+     * @return the element, or null if none is ready
+     */
+    @SuppressWarnings("unchecked")
+    E poll() {
+        int slot = (int) head & mask;
+        if (sequences.get(slot) != head + 1) {
+            return null;
+        }
+        E element = (E) elements[slot];
+        elements[slot] = null;
+        sequences.lazySet(slot, head + elements.length);
+        head++;
+        return element;
+    }
+
+    /**
+     * Gets the number of slots.
+     * @return capacity
+     */
+    int capacity() {return elements.length;}
+}
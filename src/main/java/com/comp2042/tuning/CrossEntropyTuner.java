@@ -0,0 +1,233 @@
+package com.comp2042.tuning;
+
+import com.comp2042.bot.EvaluationWeights;
+import com.comp2042.bot.HeuristicPlayer;
+import com.comp2042.bot.PlayerType;
+import com.comp2042.sim.GameSimulator;
+import com.comp2042.sim.SimulationConfig;
+import com.comp2042.sim.SimulationResult;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Tunes {@link EvaluationWeights} with the cross-entropy method.
+ *
+ * <p>Every generation samples a population of weight vectors from an
+ * independent normal distribution per weight, lets each one play the same
+ * seeded games with a {@link HeuristicPlayer}, and refits the
+ * distribution to the best candidates (plus some noise). Fitness is the
+ * average number of lines cleared per game.
+ *
+ * <p>All games of a generation are independent fork/join tasks, each with
+ * its own board, game state and player, so every core is kept busy and
+ * the only shared state is the result array slot each task writes once.
+ * Sampling uses a seed derived from the run seed and the generation, so a
+ * run resumed from a {@link TunerCheckpoint} repeats an uninterrupted run
+ * exactly.
+ */
+public class CrossEntropyTuner {
+
+    private final int parallelism;
+    private long lastPieces;
+    private long lastElapsedNanos;
+
+    /**
+     * Creates a tuner that uses every available core.
+     */
+    public CrossEntropyTuner() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new CrossEntropyTuner.
+     * @param parallelism number of worker threads
+     */
+    public CrossEntropyTuner(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Runs generations until {@code generations} have been completed,
+     * saving a checkpoint after each one.
+     *
+     * @param start state to continue from
+     * @param generations total generations wanted, including completed ones
+     * @param checkpoint file to save to after each generation, or null
+     * @param listener called with the state after each generation, or null
+     * @return the final state
+     * @throws IOException if a checkpoint cannot be written
+     */
+    public TunerCheckpoint run(TunerCheckpoint start, int generations, Path checkpoint,
+                               Consumer<TunerCheckpoint> listener) throws IOException {
+        TunerCheckpoint state = start;
+        while (state.getGeneration() < generations) {
+            state = step(state);
+            if (checkpoint != null) {
+                state.save(checkpoint);
+            }
+            if (listener != null) {
+                listener.accept(state);
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Runs one generation: sample, evaluate, refit.
+     *
+     * @param state state before the generation
+     * @return state after it
+     */
+    public TunerCheckpoint step(TunerCheckpoint state) {
+        TunerConfig config = state.getConfig();
+        int generation = state.getGeneration();
+        double[] mean = state.getMean();
+        double[] stdDev = state.getStdDev();
+
+        Random random = new Random(config.getSeed() * 0x9E3779B97F4A7C15L + generation);
+        double[][] samples = new double[config.getPopulation()][EvaluationWeights.FEATURE_COUNT];
+        EvaluationWeights[] population = new EvaluationWeights[samples.length];
+        for (int i = 0; i < samples.length; i++) {
+            for (int f = 0; f < EvaluationWeights.FEATURE_COUNT; f++) {
+                samples[i][f] = mean[f] + stdDev[f] * random.nextGaussian();
+            }
+            population[i] = EvaluationWeights.of(samples[i]);
+        }
+
+        // Every candidate plays the same games, so luck of the draw cancels out
+        long firstSeed = config.getSeed() + (long) generation * config.getGamesPerCandidate();
+        double[] fitness = evaluate(population, config, firstSeed);
+
+        Integer[] ranking = new Integer[population.length];
+        for (int i = 0; i < ranking.length; i++) {
+            ranking[i] = i;
+        }
+        Arrays.sort(ranking, Comparator.comparingDouble((Integer i) -> fitness[i]).reversed());
+
+        int elites = config.getEliteCount();
+        double[] newMean = new double[EvaluationWeights.FEATURE_COUNT];
+        double[] newStdDev = new double[EvaluationWeights.FEATURE_COUNT];
+        for (int f = 0; f < newMean.length; f++) {
+            double sum = 0;
+            for (int e = 0; e < elites; e++) {
+                sum += samples[ranking[e]][f];
+            }
+            newMean[f] = sum / elites;
+            double variance = 0;
+            for (int e = 0; e < elites; e++) {
+                double delta = samples[ranking[e]][f] - newMean[f];
+                variance += delta * delta;
+            }
+            newStdDev[f] = Math.sqrt(variance / elites + config.getNoise());
+        }
+
+        EvaluationWeights best = state.getBestWeights();
+        double bestFitness = state.getBestFitness();
+        if (best == null || fitness[ranking[0]] > bestFitness) {
+            best = population[ranking[0]];
+            bestFitness = fitness[ranking[0]];
+        }
+        return new TunerCheckpoint(config, generation + 1, newMean, newStdDev, best, bestFitness,
+                population, fitness);
+    }
+
+    /**
+     * Plays every candidate on the same seeds in parallel.
+     *
+     * @param candidates weights to evaluate
+     * @param config game settings
+     * @param firstSeed seed of the first game; games use consecutive seeds
+     * @return average lines cleared per game for each candidate
+     */
+    public double[] evaluate(EvaluationWeights[] candidates, TunerConfig config, long firstSeed) {
+        int games = config.getGamesPerCandidate();
+        int[] lines = new int[candidates.length * games];
+        LongAdder pieces = new LongAdder();
+        long startNanos = System.nanoTime();
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new GameRangeTask(candidates, config, firstSeed, lines, pieces, 0, lines.length));
+        } finally {
+            pool.shutdown();
+        }
+        lastElapsedNanos = System.nanoTime() - startNanos;
+        lastPieces = pieces.sum();
+
+        double[] fitness = new double[candidates.length];
+        for (int c = 0; c < candidates.length; c++) {
+            long sum = 0;
+            for (int g = 0; g < games; g++) {
+                sum += lines[c * games + g];
+            }
+            fitness[c] = (double) sum / games;
+        }
+        return fitness;
+    }
+
+    /**
+     * Gets the engine throughput of the last evaluation across all threads.
+     * @return pieces per second
+     */
+    public double getLastPiecesPerSecond() {
+        return lastElapsedNanos == 0 ? 0.0 : lastPieces * 1e9 / lastElapsedNanos;
+    }
+
+    public int getParallelism() {return parallelism;}
+
+    /**
+     * Splits a range of (candidate, game) slots in half until each task
+     * plays one game, so idle workers can steal the remaining halves.
+     */
+    private static final class GameRangeTask extends RecursiveAction {
+
+        private final EvaluationWeights[] candidates;
+        private final TunerConfig config;
+        private final long firstSeed;
+        private final int[] lines;
+        private final LongAdder pieces;
+        private final int from;
+        private final int to;
+
+        GameRangeTask(EvaluationWeights[] candidates, TunerConfig config, long firstSeed,
+                      int[] lines, LongAdder pieces, int from, int to) {
+            this.candidates = candidates;
+            this.config = config;
+            this.firstSeed = firstSeed;
+            this.lines = lines;
+            this.pieces = pieces;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (to > from) {
+                    int games = config.getGamesPerCandidate();
+                    SimulationConfig game = new SimulationConfig(config.getMode(), firstSeed + from % games,
+                            config.getPieceLimit(), PlayerType.HEURISTIC);
+                    SimulationResult result = new GameSimulator(game,
+                            new HeuristicPlayer(candidates[from / games])).run();
+                    lines[from] = result.getLines();
+                    pieces.add(result.getPieces());
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new GameRangeTask(candidates, config, firstSeed, lines, pieces, from, mid),
+                    new GameRangeTask(candidates, config, firstSeed, lines, pieces, mid, to));
+        }
+    }
+}
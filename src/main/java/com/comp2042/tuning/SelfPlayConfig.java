@@ -0,0 +1,77 @@
+package com.comp2042.tuning;
+
+/**
+ * Immutable settings for a {@link SelfPlayTrainer} run.
+ */
+public final class SelfPlayConfig {
+
+    public static final double DEFAULT_LEARNING_RATE = 0.01;
+    public static final double DEFAULT_DISCOUNT = 0.95;
+    public static final double DEFAULT_EXPLORATION = 0.05;
+    public static final int DEFAULT_PIECE_LIMIT = 2000;
+
+    private final int actors;
+    private final double learningRate;
+    private final double discount;
+    private final double exploration;
+    private final int pieceLimit;
+    private final long seed;
+
+    /**
+     * Creates a config with the default learning settings.
+     *
+     * @param actors threads generating games
+     * @param seed seed for the game seeds and exploration of every actor
+     */
+    public SelfPlayConfig(int actors, long seed) {
+        this(actors, DEFAULT_LEARNING_RATE, DEFAULT_DISCOUNT, DEFAULT_EXPLORATION, DEFAULT_PIECE_LIMIT, seed);
+    }
+
+    /**
+     * Creates a new SelfPlayConfig.
+     *
+     * @param actors threads generating games
+     * @param learningRate step size of each update, relative to the size of
+     *                     the feature vector
+     * @param discount weight of the next placement's value in the target
+     * @param exploration probability that an actor plays a random placement
+     * @param pieceLimit pieces after which a game is abandoned
+     * @param seed seed for the game seeds and exploration of every actor
+     */
+    public SelfPlayConfig(int actors, double learningRate, double discount, double exploration,
+                          int pieceLimit, long seed) {
+        if (actors < 1) {
+            throw new IllegalArgumentException("actors must be at least 1");
+        }
+        if (!(learningRate > 0 && learningRate <= 1)) {
+            throw new IllegalArgumentException("learningRate must be in (0, 1]");
+        }
+        if (!(discount >= 0 && discount < 1)) {
+            throw new IllegalArgumentException("discount must be in [0, 1)");
+        }
+        if (!(exploration >= 0 && exploration <= 1)) {
+            throw new IllegalArgumentException("exploration must be in [0, 1]");
+        }
+        if (pieceLimit < 1) {
+            throw new IllegalArgumentException("pieceLimit must be at least 1");
+        }
+        this.actors = actors;
+        this.learningRate = learningRate;
+        this.discount = discount;
+        this.exploration = exploration;
+        this.pieceLimit = pieceLimit;
+        this.seed = seed;
+    }
+
+    public int getActors() {return actors;}
+
+    public double getLearningRate() {return learningRate;}
+
+    public double getDiscount() {return discount;}
+
+    public double getExploration() {return exploration;}
+
+    public int getPieceLimit() {return pieceLimit;}
+
+    public long getSeed() {return seed;}
+}
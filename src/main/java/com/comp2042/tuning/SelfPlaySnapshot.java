@@ -0,0 +1,205 @@
+package com.comp2042.tuning;
+
+import com.comp2042.bot.EvaluationWeights;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * Weights and progress of a {@link SelfPlayTrainer} run.
+ *
+ * <p>The trainer learns one parameter per {@link EvaluationWeights}
+ * feature, applied to the feature divided by a fixed typical magnitude so
+ * that all of them learn at a similar pace, plus a constant term. The
+ * constant does not change which placement is best and is dropped by
+ * {@link #getWeights()}.
+ *
+ * <p>Snapshots are saved as a properties file, through a temporary file
+ * that is moved over the old one like a {@link TunerCheckpoint}.
+ */
+public final class SelfPlaySnapshot {
+
+    /** Number of learned parameters: one per feature and the constant. */
+    public static final int PARAMETER_COUNT = EvaluationWeights.FEATURE_COUNT + 1;
+
+    private static final int FORMAT_VERSION = 1;
+    private static final double[] FEATURE_SCALE = {10, 10, 50, 50, 10, 20};
+
+    private final long updates;
+    private final long games;
+    private final long lines;
+    private final double[] parameters;
+
+    /**
+     * Creates a new SelfPlaySnapshot.
+     *
+     * @param updates transitions learned from so far
+     * @param games games the actors finished
+     * @param lines lines cleared in those games
+     * @param parameters {@value #PARAMETER_COUNT} learned parameters
+     */
+    public SelfPlaySnapshot(long updates, long games, long lines, double[] parameters) {
+        if (parameters.length != PARAMETER_COUNT) {
+            throw new IllegalArgumentException("Expected " + PARAMETER_COUNT + " parameters");
+        }
+        this.updates = updates;
+        this.games = games;
+        this.lines = lines;
+        this.parameters = parameters.clone();
+    }
+
+    /**
+     * Creates the state of a run that starts by playing like existing
+     * weights. Hand-tuned weights are not values in lines, so they are
+     * scaled down until the largest parameter is 1; that keeps the choice
+     * of placement and spares the learner from first shrinking them by
+     * orders of magnitude.
+     *
+     * @param weights starting weights
+     * @return snapshot with no progress
+     */
+    public static SelfPlaySnapshot initial(EvaluationWeights weights) {
+        double[] values = weights.toArray();
+        double[] parameters = new double[PARAMETER_COUNT];
+        double largest = 0;
+        for (int f = 0; f < values.length; f++) {
+            parameters[f] = values[f] * FEATURE_SCALE[f];
+            largest = Math.max(largest, Math.abs(parameters[f]));
+        }
+        for (int f = 0; f < values.length && largest > 0; f++) {
+            parameters[f] /= largest;
+        }
+        return new SelfPlaySnapshot(0, 0, 0, parameters);
+    }
+
+    /**
+     * Writes the learner's inputs for a placement: every feature divided by
+     * its scale, then the constant 1.
+     *
+     * @param features unweighted feature values in {@link EvaluationWeights} order
+     * @param from index of the first feature
+     * @param out destination for {@value #PARAMETER_COUNT} inputs
+     * @param offset index of the first input
+     */
+    static void scale(double[] features, int from, double[] out, int offset) {
+        for (int f = 0; f < EvaluationWeights.FEATURE_COUNT; f++) {
+            out[offset + f] = features[from + f] / FEATURE_SCALE[f];
+        }
+        out[offset + EvaluationWeights.FEATURE_COUNT] = 1;
+    }
+
+    public long getUpdates() {return updates;}
+
+    public long getGames() {return games;}
+
+    public long getLines() {return lines;}
+
+    /**
+     * Gets the average lines cleared per finished game.
+     * @return mean lines, or NaN before the first game
+     */
+    public double getMeanLines() {return games == 0 ? Double.NaN : (double) lines / games;}
+
+    public double[] getParameters() {return parameters.clone();}
+
+    /**
+     * Gets the learned weights for {@link com.comp2042.bot.HeuristicPlayer}
+     * and the other weighted players.
+     * @return weights in unscaled feature units
+     */
+    public EvaluationWeights getWeights() {
+        double[] values = new double[EvaluationWeights.FEATURE_COUNT];
+        for (int f = 0; f < values.length; f++) {
+            values[f] = parameters[f] / FEATURE_SCALE[f];
+        }
+        return EvaluationWeights.of(values);
+    }
+
+    /**
+     * Writes this snapshot, replacing any previous file.
+     *
+     * @param file destination
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path file) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("version", Integer.toString(FORMAT_VERSION));
+        properties.setProperty("updates", Long.toString(updates));
+        properties.setProperty("games", Long.toString(games));
+        properties.setProperty("lines", Long.toString(lines));
+        properties.setProperty("parameters", join(parameters));
+        properties.setProperty("weights", join(getWeights().toArray()));
+
+        Path absolute = file.toAbsolutePath();
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            properties.store(writer, "Self-play value function snapshot");
+        }
+        try {
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads a snapshot written by {@link #save(Path)}.
+     *
+     * @param file snapshot file
+     * @return the snapshot
+     * @throws IOException if the file cannot be read or is not a snapshot
+     */
+    public static SelfPlaySnapshot load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        try {
+            int version = Integer.parseInt(require(properties, "version"));
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported snapshot version " + version);
+            }
+            String[] parts = require(properties, "parameters").split(",");
+            double[] parameters = new double[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                parameters[i] = Double.parseDouble(parts[i].trim());
+            }
+            return new SelfPlaySnapshot(
+                    Long.parseLong(require(properties, "updates")),
+                    Long.parseLong(require(properties, "games")),
+                    Long.parseLong(require(properties, "lines")),
+                    parameters);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Malformed snapshot " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static String require(Properties properties, String key) throws IOException {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            throw new IOException("Snapshot is missing " + key);
+        }
+        return value.trim();
+    }
+
+    private static String join(double[] values) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {builder.append(',');}
+            builder.append(values[i]);
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "SelfPlaySnapshot[updates=" + updates + ", games=" + games + ", " + getWeights() + "]";
+    }
+}
@@ -0,0 +1,351 @@
+package com.comp2042.tuning;
+
+import com.comp2042.bot.BitBoard;
+import com.comp2042.bot.PieceShape;
+import com.comp2042.bot.PlacementExecutor;
+import com.comp2042.bot.PlacementFeatures;
+import com.comp2042.core.SimpleBoard;
+import com.comp2042.model.ViewData;
+import com.comp2042.sim.GameSimulator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Learns evaluation weights by temporal-difference learning from
+ * self-play.
+ *
+ * <p>The value of a placement is a linear function of its
+ * {@link com.comp2042.bot.EvaluationWeights} features, so the greedy policy
+ * is exactly {@link com.comp2042.bot.HeuristicPlayer} with the learned
+ * weights. The reward of a placement is the number of lines it clears,
+ * and the learner makes one SARSA(0) update per placement: it moves the
+ * value towards the reward plus the discounted value of the placement the
+ * actor made next, or towards the reward alone when the game topped out.
+ * Steps are divided by the squared length of the input vector, so the
+ * learning rate does not depend on how large the features are, and the
+ * error is clipped to one line: bootstrapping from its own greedy choices
+ * otherwise lets the value run away exponentially, because the placements
+ * with the largest feature values look best exactly when their weights
+ * are too high.
+ *
+ * <p>Actor threads play games on {@link SimpleBoard}s, choosing the best
+ * placement under the latest published weights and a random one with the
+ * exploration probability. They pack their transitions into batches and
+ * hand them to the calling thread, the only learner, through a
+ * {@link BoundedMpscQueue}. The learner publishes a fresh copy of the
+ * weights after every batch through a volatile field that the actors only
+ * read, so nothing written by one thread is contended by another apart
+ * from the queue's tail counter, touched once per batch. Actors that find
+ * the queue full wait, which keeps them at most one queue length ahead of
+ * the weights.
+ *
+ * <p>Actors run concurrently, so unlike the {@link CrossEntropyTuner} a
+ * run is not repeatable move for move.
+ */
+public class SelfPlayTrainer {
+
+    /** Transitions per batch handed from an actor to the learner. */
+    static final int BATCH_SIZE = 256;
+
+    private static final int QUEUE_CAPACITY = 64;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final int INPUTS = SelfPlaySnapshot.PARAMETER_COUNT;
+    private static final double MAX_ERROR = 1;
+
+    private final SelfPlayConfig config;
+
+    private volatile double[] published;
+    private volatile boolean stopping;
+    private long lastTransitions;
+    private long lastElapsedNanos;
+    private long queueFullWaits;
+
+    /**
+     * Creates a new SelfPlayTrainer.
+     * @param config settings of the run
+     */
+    public SelfPlayTrainer(SelfPlayConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Trains until {@code updates} transitions have been learned from in
+     * total, including those of the starting snapshot.
+     *
+     * @param start snapshot to continue from
+     * @param updates total transitions wanted
+     * @param snapshotEvery transitions between snapshots
+     * @param snapshotFile file to save every snapshot to, or null
+     * @param listener called with every snapshot, or null
+     * @return the final snapshot
+     * @throws IOException if a snapshot cannot be written
+     */
+    public SelfPlaySnapshot run(SelfPlaySnapshot start, long updates, long snapshotEvery, Path snapshotFile,
+                                Consumer<SelfPlaySnapshot> listener) throws IOException {
+        if (snapshotEvery < 1) {
+            throw new IllegalArgumentException("snapshotEvery must be at least 1");
+        }
+        double[] weights = start.getParameters();
+        long done = start.getUpdates();
+        long games = start.getGames();
+        long lines = start.getLines();
+        if (done >= updates) {
+            return start;
+        }
+
+        BoundedMpscQueue<Batch> queue = new BoundedMpscQueue<>(QUEUE_CAPACITY);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        published = weights.clone();
+        stopping = false;
+        List<Actor> actors = new ArrayList<>();
+        SplittableRandom seeds = new SplittableRandom(config.getSeed() ^ start.getUpdates());
+        for (int i = 0; i < config.getActors(); i++) {
+            Actor actor = new Actor(queue, failure, seeds.split());
+            Thread thread = new Thread(actor, "self-play-actor-" + i);
+            thread.setDaemon(true);
+            actor.thread = thread;
+            actors.add(actor);
+            thread.start();
+        }
+
+        SelfPlaySnapshot snapshot = start;
+        long nextSnapshot = Math.min(updates, (done / snapshotEvery + 1) * snapshotEvery);
+        long startNanos = System.nanoTime();
+        long startUpdates = done;
+        try {
+            while (done < updates) {
+                Batch batch = queue.poll();
+                if (batch == null) {
+                    if (failure.get() != null) {
+                        throw new IllegalStateException("Self-play actor failed", failure.get());
+                    }
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                    continue;
+                }
+                int count = (int) Math.min(batch.size, updates - done);
+                learn(weights, batch, count);
+                published = weights.clone();
+                done += count;
+                games += batch.games;
+                lines += batch.lines;
+
+                if (done >= nextSnapshot) {
+                    snapshot = new SelfPlaySnapshot(done, games, lines, weights);
+                    lastTransitions = done - startUpdates;
+                    lastElapsedNanos = System.nanoTime() - startNanos;
+                    if (snapshotFile != null) {
+                        snapshot.save(snapshotFile);
+                    }
+                    if (listener != null) {
+                        listener.accept(snapshot);
+                    }
+                    nextSnapshot = Math.min(updates, nextSnapshot + snapshotEvery);
+                }
+            }
+        } finally {
+            stopping = true;
+            queueFullWaits = 0;
+            for (Actor actor : actors) {
+                LockSupport.unpark(actor.thread);
+                try {
+                    actor.thread.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                queueFullWaits += actor.fullWaits;
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Applies the semi-gradient TD updates of a batch in order.
+     */
+    private void learn(double[] weights, Batch batch, int count) {
+        double discount = config.getDiscount();
+        double rate = config.getLearningRate();
+        for (int t = 0; t < count; t++) {
+            int at = t * INPUTS;
+            double value = dot(weights, batch.inputs, at);
+            double target = batch.rewards[t];
+            if (!batch.terminal[t]) {
+                target += discount * dot(weights, batch.nextInputs, at);
+            }
+            double norm = 0;
+            for (int i = 0; i < INPUTS; i++) {
+                norm += batch.inputs[at + i] * batch.inputs[at + i];
+            }
+            double error = Math.max(-MAX_ERROR, Math.min(MAX_ERROR, target - value));
+            double step = rate * error / norm;
+            for (int i = 0; i < INPUTS; i++) {
+                weights[i] += step * batch.inputs[at + i];
+            }
+        }
+    }
+
+    private static double dot(double[] weights, double[] inputs, int at) {
+        double sum = 0;
+        for (int i = 0; i < INPUTS; i++) {
+            sum += weights[i] * inputs[at + i];
+        }
+        return sum;
+    }
+
+    /**
+     * Gets the learning throughput of the run so far, measured at the last
+     * snapshot.
+     * @return transitions per second
+     */
+    public double getLastTransitionsPerSecond() {
+        return lastElapsedNanos == 0 ? 0.0 : lastTransitions * 1e9 / lastElapsedNanos;
+    }
+
+    /**
+     * Gets how often actors of the last run found the queue full and had
+     * to wait for the learner.
+     * @return full-queue waits
+     */
+    public long getQueueFullWaits() {return queueFullWaits;}
+
+    /**
+     * Transitions from one actor, plus the games it finished meanwhile.
+     */
+    private static final class Batch {
+        final double[] inputs = new double[BATCH_SIZE * INPUTS];
+        final double[] nextInputs = new double[BATCH_SIZE * INPUTS];
+        final double[] rewards = new double[BATCH_SIZE];
+        final boolean[] terminal = new boolean[BATCH_SIZE];
+        int size;
+        int games;
+        long lines;
+    }
+
+    /**
+     * Plays games and sends their transitions until the trainer stops.
+     */
+    private final class Actor implements Runnable {
+
+        private final BoundedMpscQueue<Batch> queue;
+        private final AtomicReference<Throwable> failure;
+        private final SplittableRandom random;
+        private final PlacementFeatures placements = new PlacementFeatures();
+        private final BitBoard bits = new BitBoard(GameSimulator.BOARD_WIDTH, GameSimulator.BOARD_HEIGHT);
+        private final double[] features = new double[INPUTS];
+        private final double[] previous = new double[INPUTS];
+
+        Thread thread;
+        long fullWaits;
+        private Batch batch = new Batch();
+
+        Actor(BoundedMpscQueue<Batch> queue, AtomicReference<Throwable> failure, SplittableRandom random) {
+            this.queue = queue;
+            this.failure = failure;
+            this.random = random;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!stopping) {
+                    playGame();
+                }
+            } catch (Throwable t) {
+                failure.compareAndSet(null, t);
+            }
+        }
+
+        private void playGame() {
+            SimpleBoard board = new SimpleBoard(GameSimulator.BOARD_WIDTH, GameSimulator.BOARD_HEIGHT,
+                    random.nextLong());
+            boolean over = board.createNewBrick();
+            boolean started = false;
+            int reward = 0;
+            int pieces = 0;
+            while (!over && pieces < config.getPieceLimit() && !stopping) {
+                double[] weights = published;
+                bits.load(board.getBoardMatrix());
+                ViewData view = board.getViewData();
+                int count = placements.generate(bits, PieceShape.of(board.getCurrentBrick()),
+                        view.getxPosition(), view.getyPosition());
+                if (count == 0) {
+                    over = true;
+                    break;
+                }
+                int choice = random.nextDouble() < config.getExploration()
+                        ? random.nextInt(count) : best(weights, count);
+                placements.copyFeatures(choice, features, 0);
+                SelfPlaySnapshot.scale(features, 0, features, 0);
+                if (started) {
+                    add(previous, reward, features, false);
+                }
+                System.arraycopy(features, 0, previous, 0, INPUTS);
+                started = true;
+
+                PlacementExecutor.execute(board, placements.placement(choice));
+                board.mergeBrickToBackground();
+                pieces++;
+                reward = board.clearRows().getLinesRemoved();
+                over = board.checkGameOver() || board.createNewBrick();
+            }
+            if (stopping) {return;}
+            if (over && started) {
+                add(previous, reward, null, true);
+            }
+            batch.games++;
+            batch.lines += board.getLinesCleared();
+        }
+
+        /**
+         * Finds the placement with the highest value, breaking ties at
+         * random rather than always favouring the leftmost placement.
+         */
+        private int best(double[] weights, int count) {
+            int best = 0;
+            int ties = 0;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < count; i++) {
+                placements.copyFeatures(i, features, 0);
+                SelfPlaySnapshot.scale(features, 0, features, 0);
+                double value = dot(weights, features, 0);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = i;
+                    ties = 1;
+                } else if (value == bestValue && random.nextInt(++ties) == 0) {
+                    best = i;
+                }
+            }
+            return best;
+        }
+
+        private void add(double[] inputs, int reward, double[] nextInputs, boolean terminal) {
+            int t = batch.size++;
+            System.arraycopy(inputs, 0, batch.inputs, t * INPUTS, INPUTS);
+            if (nextInputs != null) {
+                System.arraycopy(nextInputs, 0, batch.nextInputs, t * INPUTS, INPUTS);
+            }
+            batch.rewards[t] = reward;
+            batch.terminal[t] = terminal;
+            if (batch.size == BATCH_SIZE) {
+                send();
+            }
+        }
+
+        private void send() {
+            while (!queue.offer(batch)) {
+                if (stopping) {return;}
+                fullWaits++;
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+            batch = new Batch();
+        }
+    }
+}
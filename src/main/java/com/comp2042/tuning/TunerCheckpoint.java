@@ -0,0 +1,241 @@
+package com.comp2042.tuning;
+
+import com.comp2042.bot.EvaluationWeights;
+import com.comp2042.model.GameMode;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Complete state of a tuning run after a number of generations: the
+ * sampling distribution, the best weights seen so far and the last
+ * evaluated population.
+ *
+ * <p>Checkpoints are saved as a properties file. Doubles are written with
+ * {@link Double#toString(double)}, which reads back exactly, and
+ * candidates are sampled from a seed derived from the generation number,
+ * so a resumed run continues exactly as an uninterrupted one would.
+ * Saving writes a temporary file first and then moves it over the old
+ * checkpoint, so a crash never leaves a half-written file behind.
+ */
+public final class TunerCheckpoint {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final TunerConfig config;
+    private final int generation;
+    private final double[] mean;
+    private final double[] stdDev;
+    private final EvaluationWeights bestWeights;
+    private final double bestFitness;
+    private final EvaluationWeights[] population;
+    private final double[] fitness;
+
+    /**
+     * Creates a new TunerCheckpoint.
+     *
+     * @param config settings of the run
+     * @param generation generations completed
+     * @param mean mean of every weight
+     * @param stdDev standard deviation of every weight
+     * @param bestWeights best candidate evaluated so far, or null before the first generation
+     * @param bestFitness fitness of {@code bestWeights}
+     * @param population candidates of the last generation
+     * @param fitness fitness of each candidate of the last generation
+     */
+    public TunerCheckpoint(TunerConfig config, int generation, double[] mean, double[] stdDev,
+                           EvaluationWeights bestWeights, double bestFitness,
+                           EvaluationWeights[] population, double[] fitness) {
+        if (mean.length != EvaluationWeights.FEATURE_COUNT || stdDev.length != EvaluationWeights.FEATURE_COUNT) {
+            throw new IllegalArgumentException("Expected " + EvaluationWeights.FEATURE_COUNT + " weights");
+        }
+        if (population.length != fitness.length) {
+            throw new IllegalArgumentException("Every candidate needs a fitness");
+        }
+        this.config = config;
+        this.generation = generation;
+        this.mean = mean.clone();
+        this.stdDev = stdDev.clone();
+        this.bestWeights = bestWeights;
+        this.bestFitness = bestFitness;
+        this.population = population.clone();
+        this.fitness = fitness.clone();
+    }
+
+    /**
+     * Creates the state of a run before its first generation.
+     *
+     * @param config settings of the run
+     * @param initialMean weights the distribution is centred on
+     * @return generation-zero checkpoint
+     */
+    public static TunerCheckpoint initial(TunerConfig config, EvaluationWeights initialMean) {
+        double[] stdDev = new double[EvaluationWeights.FEATURE_COUNT];
+        Arrays.fill(stdDev, config.getInitialStdDev());
+        return new TunerCheckpoint(config, 0, initialMean.toArray(), stdDev, null,
+                Double.NEGATIVE_INFINITY, new EvaluationWeights[0], new double[0]);
+    }
+
+    public TunerConfig getConfig() {return config;}
+
+    /**
+     * Gets the number of generations completed.
+     * @return generation count
+     */
+    public int getGeneration() {return generation;}
+
+    public double[] getMean() {return mean.clone();}
+
+    public double[] getStdDev() {return stdDev.clone();}
+
+    /**
+     * Gets the mean of the distribution as weights, which is usually the
+     * most robust result of a run.
+     * @return mean weights
+     */
+    public EvaluationWeights getMeanWeights() {return EvaluationWeights.of(mean);}
+
+    /**
+     * Gets the single best candidate evaluated so far.
+     * @return best weights, or null before the first generation
+     */
+    public EvaluationWeights getBestWeights() {return bestWeights;}
+
+    public double getBestFitness() {return bestFitness;}
+
+    public EvaluationWeights[] getPopulation() {return population.clone();}
+
+    public double[] getFitness() {return fitness.clone();}
+
+    /**
+     * Gets the average fitness of the last generation.
+     * @return mean fitness, or NaN before the first generation
+     */
+    public double getMeanFitness() {
+        return fitness.length == 0 ? Double.NaN : Arrays.stream(fitness).average().orElse(Double.NaN);
+    }
+
+    /**
+     * Writes this checkpoint, replacing any previous file.
+     *
+     * @param file destination
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path file) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("version", Integer.toString(FORMAT_VERSION));
+        properties.setProperty("config.mode", config.getMode().name());
+        properties.setProperty("config.population", Integer.toString(config.getPopulation()));
+        properties.setProperty("config.eliteFraction", Double.toString(config.getEliteFraction()));
+        properties.setProperty("config.gamesPerCandidate", Integer.toString(config.getGamesPerCandidate()));
+        properties.setProperty("config.pieceLimit", Integer.toString(config.getPieceLimit()));
+        properties.setProperty("config.initialStdDev", Double.toString(config.getInitialStdDev()));
+        properties.setProperty("config.noise", Double.toString(config.getNoise()));
+        properties.setProperty("config.seed", Long.toString(config.getSeed()));
+        properties.setProperty("generation", Integer.toString(generation));
+        properties.setProperty("mean", join(mean));
+        properties.setProperty("stdDev", join(stdDev));
+        properties.setProperty("best.fitness", Double.toString(bestFitness));
+        if (bestWeights != null) {
+            properties.setProperty("best.weights", join(bestWeights.toArray()));
+        }
+        properties.setProperty("population.size", Integer.toString(population.length));
+        for (int i = 0; i < population.length; i++) {
+            properties.setProperty("population." + i + ".weights", join(population[i].toArray()));
+            properties.setProperty("population." + i + ".fitness", Double.toString(fitness[i]));
+        }
+
+        Path absolute = file.toAbsolutePath();
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            properties.store(writer, "Evaluation weight tuner checkpoint");
+        }
+        try {
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads a checkpoint written by {@link #save(Path)}.
+     *
+     * @param file checkpoint file
+     * @return the checkpoint
+     * @throws IOException if the file cannot be read or is not a checkpoint
+     */
+    public static TunerCheckpoint load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        try {
+            int version = Integer.parseInt(require(properties, "version"));
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported checkpoint version " + version);
+            }
+            TunerConfig config = new TunerConfig(
+                    GameMode.valueOf(require(properties, "config.mode").toUpperCase(Locale.ROOT)),
+                    Integer.parseInt(require(properties, "config.population")),
+                    Double.parseDouble(require(properties, "config.eliteFraction")),
+                    Integer.parseInt(require(properties, "config.gamesPerCandidate")),
+                    Integer.parseInt(require(properties, "config.pieceLimit")),
+                    Double.parseDouble(require(properties, "config.initialStdDev")),
+                    Double.parseDouble(require(properties, "config.noise")),
+                    Long.parseLong(require(properties, "config.seed")));
+
+            String best = properties.getProperty("best.weights");
+            int size = Integer.parseInt(require(properties, "population.size"));
+            EvaluationWeights[] population = new EvaluationWeights[size];
+            double[] fitness = new double[size];
+            for (int i = 0; i < size; i++) {
+                population[i] = EvaluationWeights.of(split(require(properties, "population." + i + ".weights")));
+                fitness[i] = Double.parseDouble(require(properties, "population." + i + ".fitness"));
+            }
+            return new TunerCheckpoint(config,
+                    Integer.parseInt(require(properties, "generation")),
+                    split(require(properties, "mean")),
+                    split(require(properties, "stdDev")),
+                    best == null ? null : EvaluationWeights.of(split(best)),
+                    Double.parseDouble(require(properties, "best.fitness")),
+                    population, fitness);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Malformed checkpoint " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static String require(Properties properties, String key) throws IOException {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            throw new IOException("Checkpoint is missing " + key);
+        }
+        return value.trim();
+    }
+
+    private static String join(double[] values) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {builder.append(',');}
+            builder.append(values[i]);
+        }
+        return builder.toString();
+    }
+
+    private static double[] split(String value) {
+        String[] parts = value.split(",");
+        double[] values = new double[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Double.parseDouble(parts[i].trim());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,100 @@
+package com.comp2042.tuning;
+
+import com.comp2042.model.GameMode;
+
+/**
+ * Immutable settings for a {@link CrossEntropyTuner} run. They are stored
+ * in every checkpoint, so a resumed run keeps evaluating candidates the
+ * same way.
+ */
+public final class TunerConfig {
+
+    public static final int DEFAULT_POPULATION = 50;
+    public static final double DEFAULT_ELITE_FRACTION = 0.2;
+    public static final int DEFAULT_GAMES_PER_CANDIDATE = 8;
+    public static final int DEFAULT_PIECE_LIMIT = 1000;
+    public static final double DEFAULT_INITIAL_STD_DEV = 2.0;
+    public static final double DEFAULT_NOISE = 0.1;
+
+    private final GameMode mode;
+    private final int population;
+    private final double eliteFraction;
+    private final int gamesPerCandidate;
+    private final int pieceLimit;
+    private final double initialStdDev;
+    private final double noise;
+    private final long seed;
+
+    /**
+     * Creates a config with the default sizes.
+     * @param seed seed for sampling candidates and choosing game seeds
+     */
+    public TunerConfig(long seed) {
+        this(GameMode.NORMAL, DEFAULT_POPULATION, DEFAULT_ELITE_FRACTION, DEFAULT_GAMES_PER_CANDIDATE,
+                DEFAULT_PIECE_LIMIT, DEFAULT_INITIAL_STD_DEV, DEFAULT_NOISE, seed);
+    }
+
+    /**
+     * Creates a new TunerConfig.
+     *
+     * @param mode game mode whose end conditions apply to every game
+     * @param population candidates sampled per generation
+     * @param eliteFraction share of the best candidates the next distribution is fitted to
+     * @param gamesPerCandidate games each candidate plays per generation
+     * @param pieceLimit maximum pieces per game
+     * @param initialStdDev starting standard deviation of every weight
+     * @param noise variance added to every weight after each update, so the
+     *              search does not collapse onto one point too early
+     * @param seed seed for sampling candidates and choosing game seeds
+     */
+    public TunerConfig(GameMode mode, int population, double eliteFraction, int gamesPerCandidate,
+                       int pieceLimit, double initialStdDev, double noise, long seed) {
+        if (population < 2) {
+            throw new IllegalArgumentException("population must be at least 2");
+        }
+        if (!(eliteFraction > 0 && eliteFraction <= 1)) {
+            throw new IllegalArgumentException("eliteFraction must be in (0, 1]");
+        }
+        if (gamesPerCandidate < 1) {
+            throw new IllegalArgumentException("gamesPerCandidate must be at least 1");
+        }
+        if (pieceLimit < 1) {
+            throw new IllegalArgumentException("pieceLimit must be at least 1");
+        }
+        if (initialStdDev < 0 || noise < 0) {
+            throw new IllegalArgumentException("initialStdDev and noise must not be negative");
+        }
+        this.mode = mode;
+        this.population = population;
+        this.eliteFraction = eliteFraction;
+        this.gamesPerCandidate = gamesPerCandidate;
+        this.pieceLimit = pieceLimit;
+        this.initialStdDev = initialStdDev;
+        this.noise = noise;
+        this.seed = seed;
+    }
+
+    public GameMode getMode() {return mode;}
+
+    public int getPopulation() {return population;}
+
+    public double getEliteFraction() {return eliteFraction;}
+
+    /**
+     * Gets the number of candidates the distribution is refitted to.
+     * @return elite count, at least 1
+     */
+    public int getEliteCount() {
+        return Math.max(1, (int) Math.ceil(population * eliteFraction));
+    }
+
+    public int getGamesPerCandidate() {return gamesPerCandidate;}
+
+    public int getPieceLimit() {return pieceLimit;}
+
+    public double getInitialStdDev() {return initialStdDev;}
+
+    public double getNoise() {return noise;}
+
+    public long getSeed() {return seed;}
+}
@@ -1,13 +1,13 @@
 package com.comp2042.ui.effect;
 
+import com.comp2042.clock.FxGameClock;
+import com.comp2042.clock.GameClock;
+import com.comp2042.state.ComboDecay;
 import javafx.application.Platform;
 import javafx.scene.layout.GridPane;
 import javafx.scene.paint.Color;
 import javafx.scene.effect.DropShadow;
 
-import java.util.Timer;
-import java.util.TimerTask;
-
 /**
  * Board glow effect matching combo meter behavior
  */
@@ -16,21 +16,25 @@ public class BoardGlowEffect {
     private GridPane gamePanel;
     private DropShadow glow;
 
-    private int targetCombo = 0;
-    private int displayCombo = 0;
-    private boolean isPaused = false;
     private boolean isDisposed = false;
 
-    private Timer decayTimer;
+    private final ComboDecay decay;
 
-    private static final long DECAY_START_DELAY = 3000;
-    private static final long DECAY_STEP_INTERVAL = 1200;
+    /**
+     * Creates a new BoardGlowEffect on the JavaFX animation pulse.
+     * @param gamePanel the game panel to apply glow to
+     */
+    public BoardGlowEffect(GridPane gamePanel) {this(gamePanel, new FxGameClock());}
 
     /**
      * Creates a new BoardGlowEffect.
      * @param gamePanel the game panel to apply glow to
+     * @param clock clock the decay steps are scheduled on
      */
-    public BoardGlowEffect(GridPane gamePanel) {this.gamePanel = gamePanel;}
+    public BoardGlowEffect(GridPane gamePanel, GameClock clock) {
+        this.gamePanel = gamePanel;
+        this.decay = new ComboDecay(clock, level -> runOnFx(() -> applyGlow(level)));
+    }
 
     /**
      * Updates glow intensity based on combo.
@@ -38,70 +42,14 @@ public class BoardGlowEffect {
      */
     public void updateGlow(int combo) {
         if (isDisposed) return;
-        targetCombo = Math.max(0, Math.min(combo, 15));
-        displayCombo = targetCombo;
-        stopDecayTimer();
-        runOnFx(() -> applyGlow(displayCombo));
-        if (!isPaused && targetCombo > 0) {startDecayTimer();}
+        int level = Math.max(0, Math.min(combo, 15));
+        decay.set(level);
+        runOnFx(() -> applyGlow(level));
     }
 
-    public void pauseDecay() {
-        isPaused = true;
-        stopDecayTimer();
-    }
+    public void pauseDecay() {decay.pause();}
 
-    public void resumeDecay() {
-        isPaused = false;
-        if (targetCombo > 0) {
-            startDecayTimer();
-        }
-    }
-
-    private void startDecayTimer() {
-        stopDecayTimer();
-        if (targetCombo <= 0 || isDisposed || isPaused) return;
-        decayTimer = new Timer(true);
-        decayTimer.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                if (isDisposed || isPaused) {
-                    cancel();
-                    return;
-                }
-                startDecayLoop();
-            }
-        }, DECAY_START_DELAY);
-    }
-
-    private void startDecayLoop() {
-        stopDecayTimer();
-        if (targetCombo <= 0 || isDisposed || isPaused) return;
-        decayTimer = new Timer(true);
-        decayTimer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                if (isDisposed || isPaused) {
-                    cancel();
-                    return;
-                }
-                if (targetCombo > 0) {
-                    targetCombo--;
-                    displayCombo = targetCombo;
-                    runOnFx(() -> applyGlow(displayCombo));
-                }
-                if (targetCombo <= 0) {
-                    cancel();
-                }
-            }
-        }, 0, DECAY_STEP_INTERVAL);
-    }
-
-    private void stopDecayTimer() {
-        if (decayTimer != null) {
-            decayTimer.cancel();
-            decayTimer = null;
-        }
-    }
+    public void resumeDecay() {decay.resume();}
 
     private void applyGlow(int combo) {
         if (gamePanel == null || isDisposed) return;
@@ -128,10 +76,7 @@ public class BoardGlowEffect {
     }
 
     public void reset() {
-        targetCombo = 0;
-        displayCombo = 0;
-        isPaused = false;
-        stopDecayTimer();
+        decay.reset();
         runOnFx(() -> {
             if (gamePanel != null) gamePanel.setEffect(null);
             glow = null;
@@ -140,7 +85,7 @@ public class BoardGlowEffect {
 
     public void dispose() {
         isDisposed = true;
-        stopDecayTimer();
+        decay.dispose();
         if (gamePanel != null) gamePanel.setEffect(null);
         gamePanel = null;
         glow = null;
@@ -1,5 +1,8 @@
 package com.comp2042.ui.effect;
 
+import com.comp2042.clock.FxGameClock;
+import com.comp2042.clock.GameClock;
+import com.comp2042.clock.ScheduledTask;
 import javafx.application.Platform;
 import javafx.geometry.Pos;
 import javafx.scene.control.Label;
@@ -9,9 +12,6 @@ import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
 import javafx.scene.effect.DropShadow;
 
-import java.util.Timer;
-import java.util.TimerTask;
-
 public class ComboAnimationManager {
 
     private GridPane gamePanel;
@@ -19,17 +19,33 @@ public class ComboAnimationManager {
     private Label comboLabel;
     private StackPane textContainer;
 
+    private final GameClock clock;
+    private ScheduledTask bounceTask;
+    private ScheduledTask hideTask;
+
     private double originalY = 0;
     private boolean isDisposed = false;
     private boolean isBouncing = false;
 
     /**
-     * Creates a new ComboAnimationManager.
+     * Creates a new ComboAnimationManager on the JavaFX animation pulse.
      *
      * @param gamePanel game panel for shake effects
      * @param effectsLayer layer for text effects
      */
     public ComboAnimationManager(GridPane gamePanel, Pane effectsLayer) {
+        this(gamePanel, effectsLayer, new FxGameClock());
+    }
+
+    /**
+     * Creates a new ComboAnimationManager.
+     *
+     * @param gamePanel game panel for shake effects
+     * @param effectsLayer layer for text effects
+     * @param clock clock the bounce and text steps are scheduled on
+     */
+    public ComboAnimationManager(GridPane gamePanel, Pane effectsLayer, GameClock clock) {
+        this.clock = clock;
         this.gamePanel = gamePanel;
         this.effectsLayer = effectsLayer;
         if (gamePanel != null) {
@@ -95,31 +111,23 @@ public class ComboAnimationManager {
 
         gamePanel.setTranslateY(originalY + s);
 
-        Timer timer = new Timer(true);
-        timer.schedule(new TimerTask() {
-            int step = 0;
-            @Override
-            public void run() {
-                runOnFx(() -> {
-                    if (isDisposed || gamePanel == null) {
-                        isBouncing = false;
-                        cancel();
-                        return;
-                    }
-
-                    switch (step) {
-                        case 0: gamePanel.setTranslateY(originalY - s * 0.4); break;
-                        case 1: gamePanel.setTranslateY(originalY + s * 0.15); break;
-                        case 2:
-                            gamePanel.setTranslateY(originalY);
-                            isBouncing = false;
-                            cancel();
-                            break;
-                    }
-                    step++;
-                });
+        int[] step = {0};
+        bounceTask = clock.repeat(40, 3, () -> runOnFx(() -> {
+            if (isDisposed || gamePanel == null) {
+                isBouncing = false;
+                return;
+            }
+
+            switch (step[0]) {
+                case 0 -> gamePanel.setTranslateY(originalY - s * 0.4);
+                case 1 -> gamePanel.setTranslateY(originalY + s * 0.15);
+                default -> {
+                    gamePanel.setTranslateY(originalY);
+                    isBouncing = false;
+                }
             }
-        }, 40, 40);
+            step[0]++;
+        }));
     }
 
     private void showText(int combo) {
@@ -135,17 +143,12 @@ public class ComboAnimationManager {
 
         if (textContainer != null) textContainer.toFront();
 
-        Timer timer = new Timer(true);
-        timer.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                runOnFx(() -> {
-                    if (comboLabel != null && !isDisposed) {
-                        comboLabel.setVisible(false);
-                    }
-                });
+        if (hideTask != null) hideTask.cancel();
+        hideTask = clock.schedule(600, () -> runOnFx(() -> {
+            if (comboLabel != null && !isDisposed) {
+                comboLabel.setVisible(false);
             }
-        }, 600);
+        }));
     }
 
     private String getText(int combo) {
@@ -165,6 +168,8 @@ public class ComboAnimationManager {
     }
 
     public void stopAllAnimations() {
+        if (bounceTask != null) bounceTask.cancel();
+        if (hideTask != null) hideTask.cancel();
         if (gamePanel != null) gamePanel.setTranslateY(originalY);
         if (comboLabel != null) comboLabel.setVisible(false);
         isBouncing = false;
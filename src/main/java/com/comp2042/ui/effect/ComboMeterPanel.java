@@ -1,5 +1,9 @@
 package com.comp2042.ui.effect;
 
+import com.comp2042.clock.FxGameClock;
+import com.comp2042.clock.GameClock;
+import com.comp2042.clock.ScheduledTask;
+import com.comp2042.state.ComboDecay;
 import javafx.application.Platform;
 import javafx.geometry.Pos;
 import javafx.scene.layout.StackPane;
@@ -8,29 +12,40 @@ import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.effect.DropShadow;
 
-import java.util.Timer;
-import java.util.TimerTask;
-
 public class ComboMeterPanel extends VBox {
 
     private Rectangle fillBar;
     private Rectangle border;
 
-    private int targetCombo = 0;
     private int displayCombo = 0;
-    private boolean isPaused = false;
     private boolean isDisposed = false;
 
-    private Timer decayTimer;
-    private Timer animTimer;
+    private final GameClock clock;
+    private final ComboDecay decay;
+    private ScheduledTask animTask;
 
     private static final double BAR_WIDTH = 10;
     private static final double BAR_HEIGHT = 220;
-    private static final long DECAY_START_DELAY = 3000;  // 3 seconds before decay starts
-    private static final long DECAY_STEP_INTERVAL = 1200; // 1.2 seconds per decay step
     private static final long ANIM_STEP_INTERVAL = 80;   // Animation step for smooth movement
 
+    /**
+     * Creates a combo meter on the JavaFX animation pulse.
+     */
     public ComboMeterPanel() {
+        this(new FxGameClock());
+    }
+
+    /**
+     * Creates a combo meter whose animation and decay run on a clock.
+     *
+     * @param clock clock the animation and decay steps are scheduled on
+     */
+    public ComboMeterPanel(GameClock clock) {
+        this.clock = clock;
+        this.decay = new ComboDecay(clock, level -> {
+            displayCombo = level;
+            runOnFx(() -> updateVisuals(level));
+        });
         setAlignment(Pos.CENTER);
         setStyle("-fx-background-color: transparent;");
         setMinWidth(BAR_WIDTH + 6);
@@ -74,106 +89,46 @@ public class ComboMeterPanel extends VBox {
      */
     public void updateCombo(int combo) {
         if (isDisposed) return;
-        targetCombo = Math.max(0, Math.min(combo, 15));
-        // Stop decay - player is active
-        stopDecayTimer();
+        // Start decay again (will step after 3 seconds of no updates)
+        decay.set(Math.max(0, Math.min(combo, 15)));
         // Animate toward target
         animateToTarget();
-        // Start decay timer (will trigger after 3 seconds of no updates)
-        if (!isPaused && targetCombo > 0) {
-            startDecayTimer();
-        }
     }
 
     private void animateToTarget() {
         stopAnimTimer();
-        if (displayCombo == targetCombo) {
+        if (displayCombo == decay.getLevel()) {
             updateVisuals(displayCombo);
             return;
         }
-        animTimer = new Timer(true);
-        animTimer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                if (isDisposed) {
-                    cancel();
-                    return;
-                }
-                if (displayCombo < targetCombo) {
-                    displayCombo++;
-                } else if (displayCombo > targetCombo) {
-                    displayCombo--;
-                }
-                runOnFx(() -> updateVisuals(displayCombo));
-                if (displayCombo == targetCombo) {
-                    cancel();
-                }
-            }
-        }, 0, ANIM_STEP_INTERVAL);
-    }
-
-    public void pauseDecay() {
-        isPaused = true;
-        stopDecayTimer();
-    }
-
-    public void resumeDecay() {
-        isPaused = false;
-        if (targetCombo > 0) {
-            startDecayTimer();
+        animStep();
+        if (displayCombo != decay.getLevel()) {
+            animTask = clock.repeat(ANIM_STEP_INTERVAL, GameClock.INDEFINITE, this::animStep);
         }
     }
 
-    private void startDecayTimer() {
-        stopDecayTimer();
-        if (targetCombo <= 0 || isDisposed || isPaused) return;
-        decayTimer = new Timer(true);
-        decayTimer.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                if (isDisposed || isPaused) {
-                    cancel();
-                    return;
-                }
-                startDecayLoop();
-            }
-        }, DECAY_START_DELAY);
+    private void animStep() {
+        int target = decay.getLevel();
+        if (displayCombo < target) {
+            displayCombo++;
+        } else if (displayCombo > target) {
+            displayCombo--;
+        }
+        int shown = displayCombo;
+        runOnFx(() -> updateVisuals(shown));
+        if (displayCombo == target) {
+            stopAnimTimer();
+        }
     }
 
-    private void startDecayLoop() {
-        stopDecayTimer();
-        if (targetCombo <= 0 || isDisposed || isPaused) return;
-        decayTimer = new Timer(true);
-        decayTimer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                if (isDisposed || isPaused) {
-                    cancel();
-                    return;
-                }
-                if (targetCombo > 0) {
-                    targetCombo--;
-                    displayCombo = targetCombo;
-                    runOnFx(() -> updateVisuals(displayCombo));
-                }
-                if (targetCombo <= 0) {
-                    cancel();
-                }
-            }
-        }, 0, DECAY_STEP_INTERVAL);
-    }
+    public void pauseDecay() {decay.pause();}
 
-    private void stopDecayTimer() {
-        if (decayTimer != null) {
-            decayTimer.cancel();
-            decayTimer = null;
-        }
-    }
+    public void resumeDecay() {decay.resume();}
 
     private void stopAnimTimer() {
-        if (animTimer != null) {
-            animTimer.cancel();
-            animTimer = null;
+        if (animTask != null) {
+            animTask.cancel();
+            animTask = null;
         }
     }
 
@@ -213,17 +168,15 @@ public class ComboMeterPanel extends VBox {
     }
 
     public void reset() {
-        targetCombo = 0;
         displayCombo = 0;
-        isPaused = false;
-        stopDecayTimer();
+        decay.reset();
         stopAnimTimer();
         runOnFx(() -> updateVisuals(0));
     }
 
     public void dispose() {
         isDisposed = true;
-        stopDecayTimer();
+        decay.dispose();
         stopAnimTimer();
     }
 
@@ -3,7 +3,9 @@ package com.comp2042.ui.handlers;
 import com.comp2042.event.*;
 import com.comp2042.state.GameState;
 import com.comp2042.ui.initialization.GuiController;
+import com.comp2042.ui.logic.AutoPlayHandler;
 import com.comp2042.ui.logic.GameLogicHandler;
+import com.comp2042.ui.logic.PerfectClearHintHandler;
 import com.comp2042.ui.manager.GameFlowManager;
 import com.comp2042.ui.effect.ComboMeterPanel;
 import com.comp2042.ui.panel.PauseMenuPanel;
@@ -25,6 +27,9 @@ import javafx.scene.layout.StackPane;
  *     <li>Managing lock delay resets during piece movement</li>
  *     <li>Handling pause menu visibility and game state transitions</li>
  *     <li>Coordinating restart operations with UI cleanup</li>
+ *     <li>Toggling the built-in auto-player</li>
+ *     <li>Showing perfect clear hints</li>
+ *     <li>Toggling the placement hint mode</li>
  * </ul>
  *
  * @author [Your Name]
@@ -36,6 +41,8 @@ import javafx.scene.layout.StackPane;
 public class InputCallbackHandler {
 
     private final GuiController controller;
+    private final AutoPlayHandler autoPlayHandler;
+    private final PerfectClearHintHandler hintHandler;
 
     /**
      * Constructs a new InputCallbackHandler with the specified GUI controller.
@@ -45,6 +52,8 @@ public class InputCallbackHandler {
      */
     public InputCallbackHandler(GuiController controller) {
         this.controller = controller;
+        this.autoPlayHandler = new AutoPlayHandler(controller);
+        this.hintHandler = new PerfectClearHintHandler(controller);
     }
 
     public void setupInputCallbacks() {
@@ -77,11 +86,27 @@ public class InputCallbackHandler {
 
             @Override
             public void onRestartWithCountdown() {handleCountdownRestart();}
+
+            @Override
+            public void onToggleAutoPlay() {autoPlayHandler.toggle();}
+
+            @Override
+            public void onRequestHint() {hintHandler.showHint();}
+
+            @Override
+            public void onTogglePlacementHint() {getLogicHandler().togglePlacementHint();}
         });
 
         setupKeyEventHandlers();
     }
 
+    /**
+     * Stops the perfect clear search thread when the game view is left.
+     */
+    public void dispose() {
+        hintHandler.dispose();
+    }
+
     /**
      * Handles horizontal movement of the current piece.
      * <p>
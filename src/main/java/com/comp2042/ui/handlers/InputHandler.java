@@ -1,5 +1,6 @@
 package com.comp2042.ui.handlers;
 
+import com.comp2042.state.FinesseTracker;
 import com.comp2042.state.GameState;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
@@ -27,6 +28,9 @@ import java.util.Set;
  *     <tr><td>Hold Piece</td><td>SHIFT</td><td>C</td></tr>
  *     <tr><td>Pause/Resume</td><td>P</td><td>ESCAPE</td></tr>
  *     <tr><td>Restart</td><td>N</td><td>-</td></tr>
+ *     <tr><td>Toggle Auto-Play</td><td>B</td><td>-</td></tr>
+ *     <tr><td>Perfect Clear Hint</td><td>H</td><td>-</td></tr>
+ *     <tr><td>Toggle Placement Hint</td><td>G</td><td>-</td></tr>
  * </table>
  *
  * <p>The handler respects the current game state and will ignore or modify
@@ -46,6 +50,15 @@ public class InputHandler {
     /** Flag to track if the hold key is currently pressed to prevent repeated hold actions. */
     private boolean holdKeyPressed = false;
 
+    /** Flag to track if the auto-play key is currently pressed to prevent repeated toggling. */
+    private boolean autoPlayKeyPressed = false;
+
+    /** Flag to track if the hint key is currently pressed to prevent repeated searches. */
+    private boolean hintKeyPressed = false;
+
+    /** Flag to track if the placement hint key is currently pressed to prevent repeated toggles. */
+    private boolean placementHintKeyPressed = false;
+
     /** Set of currently pressed keys for tracking multiple simultaneous key presses. */
     private Set<KeyCode> pressedKeys = new HashSet<>();
 
@@ -146,6 +159,15 @@ public class InputHandler {
         if (keyEvent.getCode() == KeyCode.SHIFT || keyEvent.getCode() == KeyCode.C) {
             holdKeyPressed = false;
         }
+        if (keyEvent.getCode() == KeyCode.B) {
+            autoPlayKeyPressed = false;
+        }
+        if (keyEvent.getCode() == KeyCode.H) {
+            hintKeyPressed = false;
+        }
+        if (keyEvent.getCode() == KeyCode.G) {
+            placementHintKeyPressed = false;
+        }
     }
 
     /**
@@ -154,34 +176,43 @@ public class InputHandler {
      * Handles the following actions:
      * </p>
      * <ul>
-     *     <li><b>Move Left</b> (LEFT/A): Continuous movement allowed</li>
+     *     <li><b>Move Left</b> (LEFT/A): Continuous movement allowed; a held key
+     *         counts as one press for finesse</li>
      *     <li><b>Move Right</b> (RIGHT/D): Continuous movement allowed</li>
      *     <li><b>Rotate</b> (UP/W): Single press only, must release to rotate again</li>
      *     <li><b>Soft Drop</b> (DOWN/S): Continuous movement allowed</li>
      *     <li><b>Hold</b> (SHIFT/C): Single press only, must release to hold again</li>
      *     <li><b>Hard Drop</b> (SPACE): Single press only, must release to drop again</li>
+     *     <li><b>Auto-Play</b> (B): Single press only, toggles the built-in player</li>
+     *     <li><b>Hint</b> (H): Single press only, shows the next perfect clear placement</li>
+     *     <li><b>Placement Hint</b> (G): Single press only, toggles the suggested placement outline</li>
      * </ul>
      *
      * @param keyEvent the {@link KeyEvent} to process; will be consumed if handled
      */
     private void handleGameplayInput(KeyEvent keyEvent) {
         KeyCode code = keyEvent.getCode();
-        pressedKeys.add(code);
+        boolean newPress = pressedKeys.add(code);
+        FinesseTracker finesse = gameState.getFinesseTracker();
 
         if (code == KeyCode.LEFT || code == KeyCode.A) {
+            finesse.onShift(newPress);
             if (callback != null) callback.onMoveLeft();
             keyEvent.consume();
         }
         if (code == KeyCode.RIGHT || code == KeyCode.D) {
+            finesse.onShift(newPress);
             if (callback != null) callback.onMoveRight();
             keyEvent.consume();
         }
         if ((code == KeyCode.UP || code == KeyCode.W) && !rotateKeyPressed) {
             rotateKeyPressed = true;
+            finesse.onRotate();
             if (callback != null) callback.onRotate();
             keyEvent.consume();
         }
         if (code == KeyCode.DOWN || code == KeyCode.S) {
+            finesse.onSoftDrop();
             if (callback != null) callback.onSoftDrop();
             keyEvent.consume();
         }
@@ -195,6 +226,21 @@ public class InputHandler {
             if (callback != null) callback.onHardDrop();
             keyEvent.consume();
         }
+        if (code == KeyCode.B && !autoPlayKeyPressed) {
+            autoPlayKeyPressed = true;
+            if (callback != null) callback.onToggleAutoPlay();
+            keyEvent.consume();
+        }
+        if (code == KeyCode.H && !hintKeyPressed) {
+            hintKeyPressed = true;
+            if (callback != null) callback.onRequestHint();
+            keyEvent.consume();
+        }
+        if (code == KeyCode.G && !placementHintKeyPressed) {
+            placementHintKeyPressed = true;
+            if (callback != null) callback.onTogglePlacementHint();
+            keyEvent.consume();
+        }
     }
 
     /**
@@ -302,5 +348,32 @@ public class InputHandler {
          * </p>
          */
         void onRestartWithCountdown();
+
+        /**
+         * Called when the player toggles the built-in auto-player.
+         * <p>
+         * Triggered by B key press during gameplay. Does nothing by default.
+         * </p>
+         */
+        default void onToggleAutoPlay() {
+        }
+
+        /**
+         * Called when the player asks for a perfect clear hint.
+         * <p>
+         * Triggered by H key press during gameplay. Does nothing by default.
+         * </p>
+         */
+        default void onRequestHint() {
+        }
+
+        /**
+         * Called when the player toggles the placement hint mode.
+         * <p>
+         * Triggered by G key press during gameplay. Does nothing by default.
+         * </p>
+         */
+        default void onTogglePlacementHint() {
+        }
     }
 }
\ No newline at end of file
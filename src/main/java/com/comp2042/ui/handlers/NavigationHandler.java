@@ -70,6 +70,7 @@ public class NavigationHandler {
      * This method loads the main menu FXML file and replaces the current scene
      * with the main menu scene. The new scene is configured with the predefined
      * menu dimensions ({@value #MENU_WIDTH} x {@value #MENU_HEIGHT} pixels).
+     * The game view is disposed first, stopping its background threads.
      * </p>
      *
      * <p>If navigation fails (e.g., FXML file not found or loading error),
@@ -78,6 +79,7 @@ public class NavigationHandler {
      * @see #handleNavigationError(Exception)
      */
     public void goToMainMenu() {
+        controller.disposeGameView();
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource(MAIN_MENU_FXML));
             Parent menuRoot = loader.load();
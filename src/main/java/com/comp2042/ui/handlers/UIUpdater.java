@@ -49,6 +49,7 @@ public class UIUpdater {
     private final GameState gameState;
     private Label scoreValue, bestScoreValue, bestTimeLabel;
     private Label piecesValue, linesValue, linesLabel, timeValue, timeLabel;
+    private Label finesseValue;
     private VBox scoreBox, bestScoreBox, bestTimeBox, scoreDisplayContainer;
     private Region scoreSeparator;
 
@@ -114,6 +115,15 @@ public class UIUpdater {
         if (pendingGameMode != null) { configureForGameMode(pendingGameMode); pendingGameMode = null; }
     }
 
+    /**
+     * Binds the label that shows the number of finesse faults.
+     *
+     * @param finesseValue the label for displaying finesse faults
+     */
+    public void bindFinesseLabel(Label finesseValue) {
+        this.finesseValue = finesseValue;
+    }
+
     /**
      * Configures the UI layout for the specified game mode.
      * <p>
@@ -194,6 +204,19 @@ public class UIUpdater {
         if (time != null && timeValue != null) { timeValue.setText(time); }
     }
 
+    /**
+     * Updates the finesse fault count display.
+     * <p>
+     * This method is null-safe and will do nothing if the finesse label
+     * hasn't been bound.
+     * </p>
+     *
+     * @param faults pieces placed with more key presses than necessary
+     */
+    public void updateFinesse(int faults) {
+        if (finesseValue != null) { finesseValue.setText(String.valueOf(faults)); }
+    }
+
     /**
      * Resets all statistics displays to their initial values for the specified game mode.
      * <p>
@@ -212,6 +235,7 @@ public class UIUpdater {
     public void resetStats(GameMode mode) {
         if (piecesValue != null) { piecesValue.setText("0"); }
         if (linesValue != null) { linesValue.setText("0"); }
+        if (finesseValue != null) { finesseValue.setText("0"); }
         if (scoreValue != null) { scoreValue.setText("0"); }
         if (timeValue != null) {
             if (mode == GameMode.TWO_MINUTES) { timeValue.setText("2:00"); }
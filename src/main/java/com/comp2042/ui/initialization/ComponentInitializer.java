@@ -1,6 +1,7 @@
 package com.comp2042.ui.initialization;
 
 import com.comp2042.state.GameState;
+import com.comp2042.state.SessionRecords;
 import com.comp2042.ui.render.GameRenderer;
 import com.comp2042.ui.handlers.InputHandler;
 import com.comp2042.ui.handlers.UIUpdater;
@@ -23,7 +24,7 @@ public class ComponentInitializer {
 
     // Initializes all core game components.
     public void initializeComponents() {
-        GameState gameState = new GameState();
+        GameState gameState = new GameState(SessionRecords.session());
         controller.setGameState(gameState);
 
         GameRenderer renderer = new GameRenderer(
@@ -150,6 +150,7 @@ public class GameViewController {
                 controller.getTimeValue(),
                 controller.getTimeLabel()
         );
+        controller.getUiUpdater().bindFinesseLabel(controller.getFinesseValue());
     }
 
     private void setupTimerCallbacks() {
@@ -35,7 +35,7 @@ public class GuiController implements Initializable {
     @FXML private StackPane countdownPanel;
     @FXML private Label countdownLabel, timeValue;
     @FXML private Label scoreValue, bestScoreValue, bestTimeLabel;
-    @FXML private Label piecesValue, linesValue, linesLabel, timeLabel;
+    @FXML private Label piecesValue, linesValue, linesLabel, timeLabel, finesseValue;
     @FXML private VBox scoreDisplayContainer, scoreBox, bestScoreBox, bestTimeBox;
     @FXML private Region scoreSeparator;
     @FXML private Pane effectsLayer;
@@ -121,6 +121,17 @@ public class GuiController implements Initializable {
         gameViewController.handleGameOver();
     }
 
+    /**
+     * Releases the background threads of the game view before the scene
+     * is replaced.
+     */
+    public void disposeGameView() {
+        inputCallbackHandler.dispose();
+        if (logicHandler != null) {
+            logicHandler.dispose();
+        }
+    }
+
     /**
      * Refreshes the game's background based on the current board matrix.
      *
@@ -202,6 +213,9 @@ public class GuiController implements Initializable {
     /** @return the label showing lines cleared */
     public Label getLinesValue() { return linesValue; }
 
+    /** @return the label showing finesse faults */
+    public Label getFinesseValue() { return finesseValue; }
+
     /** @return the label for "Lines" title */
     public Label getLinesLabel() { return linesLabel; }
 
@@ -0,0 +1,167 @@
+package com.comp2042.ui.logic;
+
+import com.comp2042.bot.AutoPlayer;
+import com.comp2042.bot.HeuristicPlayer;
+import com.comp2042.controller.GameController;
+import com.comp2042.controller.InputEventListener;
+import com.comp2042.core.Board;
+import com.comp2042.event.MoveEvent;
+import com.comp2042.model.DownData;
+import com.comp2042.model.ViewData;
+import com.comp2042.state.GameState;
+import com.comp2042.ui.initialization.GuiController;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.util.Duration;
+
+/**
+ * Plays the game with the built-in {@link HeuristicPlayer} at a pace a
+ * human can follow.
+ * <p>
+ * Every tick lets {@link AutoPlayer#step} send one input (rotate, shift or
+ * hard drop) to an {@link InputEventListener} that forwards it to the
+ * same {@link GameLogicHandler} methods the keyboard uses, so rendering,
+ * scoring, lock delay and line clears behave exactly as for a human player.
+ * Ticks are skipped while the game is paused, counting down or over.
+ * </p>
+ */
+public class AutoPlayHandler {
+
+    private static final double TICK_MS = 80;
+
+    private final GuiController controller;
+    private final AutoPlayer autoPlayer = new AutoPlayer(new HeuristicPlayer());
+    private final LogicInput input;
+
+    private Timeline timeline;
+
+    /**
+     * Creates an auto-play handler for a game view.
+     *
+     * @param controller the GUI controller providing the game components
+     */
+    public AutoPlayHandler(GuiController controller) {
+        this.controller = controller;
+        this.input = new LogicInput(controller);
+    }
+
+    /**
+     * Starts auto-play if it is stopped, otherwise stops it.
+     */
+    public void toggle() {
+        if (isRunning()) {
+            stop();
+        } else {
+            start();
+        }
+    }
+
+    /**
+     * Starts sending inputs on every tick.
+     */
+    public void start() {
+        if (isRunning()) {return;}
+        autoPlayer.reset();
+        timeline = new Timeline(new KeyFrame(Duration.millis(TICK_MS), ae -> tick()));
+        timeline.setCycleCount(Timeline.INDEFINITE);
+        timeline.play();
+    }
+
+    /**
+     * Stops auto-play. The current brick stays under player control.
+     */
+    public void stop() {
+        if (timeline != null) {
+            timeline.stop();
+            timeline = null;
+        }
+    }
+
+    /**
+     * Checks whether auto-play is active.
+     *
+     * @return {@code true} if inputs are being sent
+     */
+    public boolean isRunning() {
+        return timeline != null;
+    }
+
+    private void tick() {
+        // The game view was replaced, e.g. by returning to the main menu
+        if (controller.getGamePanel().getScene() == null) {
+            stop();
+            return;
+        }
+
+        GameState gameState = controller.getGameState();
+        GameController gameController = controller.getGameController();
+        if (gameController == null || gameState.isPaused() || gameState.isGameOver()
+                || gameState.isCountdownActive() || gameState.isChallengeCompleted()) {
+            return;
+        }
+
+        GameLogicHandler logicHandler = controller.getLogicHandler();
+        Board board = gameController.getBoard();
+        switch (autoPlayer.step(input, board)) {
+            case HOLD -> logicHandler.handleHold(() -> {
+                controller.getGameViewController().updateHoldDisplay();
+                controller.updateNextDisplay();
+            });
+            case HARD_DROP -> logicHandler.handleHardDrop();
+            default -> { }
+        }
+    }
+
+    /**
+     * Listener that plays the auto-player's inputs through the game logic
+     * handler, the way the keyboard does, rather than moving the board
+     * behind the renderer's back. The handler and board are looked up on
+     * each input, so one listener serves the view for its whole life.
+     */
+    private static final class LogicInput implements InputEventListener {
+
+        private final GuiController controller;
+
+        LogicInput(GuiController controller) {
+            this.controller = controller;
+        }
+
+        @Override
+        public DownData onDownEvent(MoveEvent event) {
+            controller.getLogicHandler().moveDown(event);
+            return new DownData(null, board().getViewData());
+        }
+
+        @Override
+        public ViewData onLeftEvent(MoveEvent event) {
+            controller.getLogicHandler().moveBrickHorizontally(-1);
+            return board().getViewData();
+        }
+
+        @Override
+        public ViewData onRightEvent(MoveEvent event) {
+            controller.getLogicHandler().moveBrickHorizontally(1);
+            return board().getViewData();
+        }
+
+        @Override
+        public ViewData onRotateEvent(MoveEvent event) {
+            controller.getLogicHandler().attemptRotation();
+            return board().getViewData();
+        }
+
+        /**
+         * Starts a new game on the board and clears the hints of the old
+         * one. Auto-play never asks for this itself.
+         */
+        @Override
+        public void createNewGame() {
+            controller.getGameController().createNewGame();
+            controller.getLogicHandler().onNewGame();
+        }
+
+        private Board board() {
+            return controller.getGameController().getBoard();
+        }
+    }
+}
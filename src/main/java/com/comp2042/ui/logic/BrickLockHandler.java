@@ -1,9 +1,13 @@
 package com.comp2042.ui.logic;
 
+import com.comp2042.bot.FinesseTable;
+import com.comp2042.bot.PieceShape;
+import com.comp2042.brick.Brick;
 import com.comp2042.controller.GameController;
 import com.comp2042.core.Board;
 import com.comp2042.event.*;
 import com.comp2042.model.ClearRow;
+import com.comp2042.model.ViewData;
 import com.comp2042.state.*;
 import com.comp2042.ui.handlers.UIUpdater;
 import com.comp2042.ui.render.GameRenderer;
@@ -22,9 +26,11 @@ public class BrickLockHandler {
     private final GameProgressHandler progressHandler;
     private final ComboEffectHandler comboHandler;
     private final ShadowCalculator shadowCalculator;
+    private final FinesseTable finesseTable;
 
     private GameController gameController;
     private BrickMovementHandler movementHandler;
+    private PlacementHintHandler placementHintHandler;
 
     private Runnable onGameOver;
     private Runnable onUpdateNextDisplay;
@@ -55,6 +61,8 @@ public class BrickLockHandler {
         this.progressHandler = progressHandler;
         this.comboHandler = comboHandler;
         this.shadowCalculator = shadowCalculator;
+        // Built here, during game view setup, so the first lock does not pay for it
+        this.finesseTable = FinesseTable.standard();
     }
 
     /**
@@ -75,6 +83,15 @@ public class BrickLockHandler {
         this.movementHandler = handler;
     }
 
+    /**
+     * Assigns the placement hint handler told about every spawned brick.
+     *
+     * @param handler the placement hint handler.
+     */
+    public void setPlacementHintHandler(PlacementHintHandler handler) {
+        this.placementHintHandler = handler;
+    }
+
     /**
      * Sets a callback to trigger when a game over condition occurs.
      *
@@ -156,6 +173,7 @@ public class BrickLockHandler {
             return;
         }
 
+        judgeFinesse(board);
         board.mergeBrickToBackground();
         if (gameController != null) {
             gameController.incrementPiecesPlaced();
@@ -169,6 +187,9 @@ public class BrickLockHandler {
         if (board.checkGameOver()) {
             movementHandler.setProcessing(false);
             movementHandler.setPieceJustSpawned(false);
+            if (placementHintHandler != null) {
+                placementHintHandler.cancel();
+            }
             if (onGameOver != null) {
                 onGameOver.run();
             }
@@ -177,6 +198,28 @@ public class BrickLockHandler {
         spawnNewBrick(board);
     }
 
+    /**
+     * Compares the keys spent on the locking brick with the fewest that
+     * reach its position and shows the fault count. This is one table
+     * read, so it adds nothing noticeable to the lock.
+     *
+     * @param board the board with the brick in its final position.
+     */
+    private void judgeFinesse(Board board) {
+        Brick brick = board.getCurrentBrick();
+        if (brick == null) {
+            return;
+        }
+        FinesseTracker finesse = gameState.getFinesseTracker();
+        ViewData view = board.getViewData();
+        PieceShape piece = PieceShape.of(brick);
+        int rotation = piece.rotationOf(view.getBrickData());
+        int minimum = rotation < 0 ? -1
+                : finesseTable.minimumPresses(piece, rotation, view.getxPosition());
+        finesse.onLock(minimum);
+        uiUpdater.updateFinesse(finesse.getFaults());
+    }
+
     /**
      * Handles line clear events by awarding score, updating combo state,
      * applying visual effects, and adjusting speed progression.
@@ -234,6 +277,11 @@ public class BrickLockHandler {
     private void spawnNewBrick(Board board) {
         board.createNewBrick();
         movementHandler.setPieceJustSpawned(true);
+        renderer.clearHint();
+        renderer.clearPlacementHint();
+        if (placementHintHandler != null) {
+            placementHintHandler.onBrickSpawned(board);
+        }
 
         renderer.refreshGameBackground(board.getBoardMatrix());
         movementHandler.updateDisplay(board);
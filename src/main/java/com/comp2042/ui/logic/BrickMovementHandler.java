@@ -26,6 +26,7 @@ public class BrickMovementHandler {
 
     private GameController gameController;
     private BrickLockHandler lockHandler;
+    private PlacementHintHandler placementHintHandler;
 
     private boolean isProcessing = false;
     private boolean pieceJustSpawned = false;
@@ -68,6 +69,15 @@ public class BrickMovementHandler {
         this.lockHandler = lockHandler;
     }
 
+    /**
+     * Sets the placement hint handler told about bricks that come out of hold.
+     *
+     * @param handler the placement hint handler.
+     */
+    public void setPlacementHintHandler(PlacementHintHandler handler) {
+        this.placementHintHandler = handler;
+    }
+
     /**
      * Retrieves the active game board through the game controller.
      *
@@ -294,13 +304,19 @@ public class BrickMovementHandler {
 
         if (gameController.holdBrick()) {
             gameState.setHoldUsedThisTurn(true);
+            gameState.getFinesseTracker().onNewPiece();
             pieceJustSpawned = true;
+            renderer.clearHint();
+            renderer.clearPlacementHint();
 
             if (callback != null) {
                 callback.run();
             }
 
             Board board = getBoard();
+            if (placementHintHandler != null) {
+                placementHintHandler.onBrickSpawned(board);
+            }
             if (board != null) {
                 updateDisplay(board);
             }
@@ -308,7 +324,7 @@ public class BrickMovementHandler {
     }
 
     /**
-     * Updates the rendering of the brick, background, and shadow.
+     * Updates the rendering of the brick, background, shadow and hints.
      *
      * @param board the board containing the active brick.
      */
@@ -325,6 +341,8 @@ public class BrickMovementHandler {
         renderer.refreshGameBackground(matrix);
         int shadowY = shadowCalculator.calculateShadowY(data, matrix);
         if (shadowY != data.getyPosition()) {renderer.renderShadow(data, shadowY, matrix);}
+        renderer.renderPlacementHint(matrix);
+        renderer.renderHint(matrix);
         renderer.refreshBrick(data);
     }
 
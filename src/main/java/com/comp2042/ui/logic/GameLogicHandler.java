@@ -29,6 +29,7 @@ public class GameLogicHandler {
     private ComboEffectHandler comboHandler;
     private GameProgressHandler progressHandler;
     private ShadowCalculator shadowCalculator;
+    private PlacementHintHandler placementHintHandler;
 
     private Runnable onGameOver;
     private Runnable onChallengeComplete40Lines;
@@ -64,9 +65,13 @@ public class GameLogicHandler {
         lockHandler = new BrickLockHandler(gameState, timerManager, renderer, uiUpdater,
                 scoringManager, progressHandler, comboHandler, shadowCalculator);
 
+        placementHintHandler = new PlacementHintHandler(this::showPlacementHint);
+
         // Set cross-references
         movementHandler.setLockHandler(lockHandler);
         lockHandler.setMovementHandler(movementHandler);
+        movementHandler.setPlacementHintHandler(placementHintHandler);
+        lockHandler.setPlacementHintHandler(placementHintHandler);
     }
 
     /**
@@ -180,6 +185,54 @@ public class GameLogicHandler {
         movementHandler.handleHold(callback);
     }
 
+    /**
+     * Shows the perfect clear hint over the board until the next brick spawns.
+     *
+     * @param cells {x, y} board cells to highlight, or null to remove the hint
+     */
+    public void showHint(int[][] cells) {
+        if (isDisposed) return;
+        renderer.setHintCells(cells);
+        if (gameController != null) {
+            movementHandler.updateDisplay(gameController.getBoard());
+        }
+    }
+
+    /**
+     * Shows the placement hint over the board until the next brick spawns.
+     * It is drawn on its own layer, so it leaves the perfect clear hint alone.
+     *
+     * @param cells {x, y} board cells to highlight, or null to remove the hint
+     */
+    public void showPlacementHint(int[][] cells) {
+        if (isDisposed) return;
+        renderer.setPlacementHintCells(cells);
+        if (gameController != null) {
+            movementHandler.updateDisplay(gameController.getBoard());
+        }
+    }
+
+    /**
+     * Turns the placement hint mode on or off.
+     */
+    public void togglePlacementHint() {
+        if (isDisposed || gameController == null) return;
+        placementHintHandler.toggle(gameController.getBoard());
+    }
+
+    /**
+     * Removes the hints left from the previous game and, in hint mode,
+     * plans the first brick of the new one.
+     */
+    public void onNewGame() {
+        if (isDisposed) return;
+        renderer.clearHint();
+        renderer.clearPlacementHint();
+        if (gameController != null) {
+            placementHintHandler.onBrickSpawned(gameController.getBoard());
+        }
+    }
+
     public void resetLockDelay() {
         lockHandler.resetLockDelay();
     }
@@ -205,4 +258,16 @@ public class GameLogicHandler {
         return movementHandler.isPieceJustSpawned();
     }
 
+    /**
+     * Stops every sub-handler and the placement hint search thread. Calls
+     * made after this are ignored.
+     */
+    public void dispose() {
+        if (isDisposed) return;
+        isDisposed = true;
+        movementHandler.dispose();
+        lockHandler.dispose();
+        placementHintHandler.dispose();
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.comp2042.ui.logic;
+
+import com.comp2042.bot.BackgroundPlanner;
+import com.comp2042.bot.PerfectClearSolution;
+import com.comp2042.bot.PerfectClearSolver;
+import com.comp2042.controller.GameController;
+import com.comp2042.core.Board;
+import com.comp2042.core.MatrixOperations;
+import com.comp2042.state.GameState;
+import com.comp2042.ui.initialization.GuiController;
+import javafx.application.Platform;
+
+import java.util.Arrays;
+
+/**
+ * Shows where the current brick goes in a perfect clear, if the visible
+ * pieces allow one.
+ * <p>
+ * The {@link PerfectClearSolver} looks at the board, the current brick,
+ * the hold slot and the five previews. The first placement of the
+ * solution it finds is highlighted until the next brick spawns or the
+ * brick is held; when the first step uses hold, the highlighted cells are
+ * those of the piece played after holding.
+ * </p>
+ * <p>
+ * The search runs on a {@link BackgroundPlanner} thread, so the FX thread
+ * never waits for it. Asking again interrupts the search still running,
+ * and a solution that arrives after the brick has locked or been held is
+ * dropped.
+ * </p>
+ */
+public class PerfectClearHintHandler {
+
+    private final GuiController controller;
+    private final PerfectClearSolver solver = new PerfectClearSolver();
+    private final BackgroundPlanner planner = BackgroundPlanner.ofCells(board -> {
+        PerfectClearSolution solution = solver.solve(board);
+        return solution == null ? null : solution.getCells(0);
+    }, Platform::runLater);
+
+    /**
+     * Creates a hint handler for a game view.
+     *
+     * @param controller the GUI controller providing the game components
+     */
+    public PerfectClearHintHandler(GuiController controller) {
+        this.controller = controller;
+    }
+
+    /**
+     * Starts searching for a perfect clear. When the search ends, its first
+     * placement is highlighted, or the hint is removed if there is none.
+     */
+    public void showHint() {
+        GameState gameState = controller.getGameState();
+        GameController gameController = controller.getGameController();
+        if (gameController == null || gameState.isPaused() || gameState.isGameOver()
+                || gameState.isCountdownActive() || gameState.isChallengeCompleted()) {
+            return;
+        }
+
+        Board board = gameController.getBoard();
+        int[][] stack = MatrixOperations.copy(board.getBoardMatrix());
+        boolean canHold = board.canHold();
+        planner.request(board, cells -> {
+            // A lock changes the stack and a hold uses up canHold
+            if (board.canHold() == canHold && Arrays.deepEquals(stack, board.getBoardMatrix())) {
+                controller.getLogicHandler().showHint(cells);
+            }
+        });
+    }
+
+    /**
+     * Cancels the running search and stops its thread.
+     */
+    public void dispose() {
+        planner.close();
+    }
+}
@@ -0,0 +1,84 @@
+package com.comp2042.ui.logic;
+
+import com.comp2042.bot.BackgroundPlanner;
+import com.comp2042.bot.BeamSearchPlayer;
+import com.comp2042.core.Board;
+import javafx.application.Platform;
+
+import java.util.function.Consumer;
+
+/**
+ * Optional hint mode that outlines where the {@link BeamSearchPlayer}
+ * would put the falling brick.
+ * <p>
+ * The search runs on a {@link BackgroundPlanner} thread as soon as a brick
+ * spawns or is swapped with the hold slot, and its result is posted back
+ * with {@link Platform#runLater}. The FX thread only copies the board when
+ * asking and never waits for the search, and a result that arrives after
+ * the brick has locked or been held is dropped.
+ * </p>
+ */
+public class PlacementHintHandler {
+
+    private final Consumer<int[][]> display;
+    private final BackgroundPlanner planner = new BackgroundPlanner(new BeamSearchPlayer(), Platform::runLater);
+
+    private boolean enabled;
+
+    /**
+     * Creates a hint handler.
+     *
+     * @param display shows the hint cells, or removes the hint when given null
+     */
+    public PlacementHintHandler(Consumer<int[][]> display) {
+        this.display = display;
+    }
+
+    /**
+     * Turns hint mode on, planning the current brick right away, or off,
+     * removing the hint.
+     *
+     * @param board the board holding the current brick
+     */
+    public void toggle(Board board) {
+        enabled = !enabled;
+        if (enabled) {
+            onBrickSpawned(board);
+        } else {
+            planner.cancel();
+            display.accept(null);
+        }
+    }
+
+    /**
+     * Checks whether hint mode is on.
+     *
+     * @return {@code true} if spawned bricks are planned
+     */
+    public boolean isEnabled() {return enabled;}
+
+    /**
+     * Starts planning a brick that has just spawned or come out of hold,
+     * cancelling the search for the previous one.
+     *
+     * @param board the board holding the new brick
+     */
+    public void onBrickSpawned(Board board) {
+        if (!enabled || board == null) {return;}
+        planner.request(board, display);
+    }
+
+    /**
+     * Cancels the running search, e.g. when the game ends.
+     */
+    public void cancel() {
+        planner.cancel();
+    }
+
+    /**
+     * Cancels the running search and stops its thread.
+     */
+    public void dispose() {
+        planner.close();
+    }
+}
@@ -96,16 +96,16 @@ public class ChallengeCompletionManager {
         gameState.setGameOver(true);
 
         int finalScore = gameState.getTwoMinutesScore();
-        boolean isNewBest = finalScore > GameState.getTwoMinutesBestScore();
+        boolean isNewBest = finalScore > gameState.getTwoMinutesBestScore();
 
         if (isNewBest) {
-            GameState.setTwoMinutesBestScore(finalScore);
+            gameState.setTwoMinutesBestScore(finalScore);
             uiUpdater.updateBestScoreDisplay(finalScore);
         }
 
         int linesCleared = gameController.getLinesCleared();
-        String previousBest = (GameState.getTwoMinutesBestScore() > 0 && !isNewBest) ?
-                String.valueOf(GameState.getTwoMinutesBestScore()) : null;
+        String previousBest = (gameState.getTwoMinutesBestScore() > 0 && !isNewBest) ?
+                String.valueOf(gameState.getTwoMinutesBestScore()) : null;
 
         TwoMinutesCompletionPanel panel = new TwoMinutesCompletionPanel(
                 finalScore, linesCleared, isNewBest, previousBest);
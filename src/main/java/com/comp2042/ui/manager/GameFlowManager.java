@@ -186,6 +186,7 @@ public class GameFlowManager {
         if (hideGameOverPanelCallback != null) { hideGameOverPanelCallback.run(); }
         renderer.clearBrickDisplay();
         gameController.createNewGame();
+        logicHandler.onNewGame();
         renderer.refreshGameBackground(gameController.getBoard().getBoardMatrix());
         timerManager.resetStartTime();
         uiUpdater.resetStats(gameState.getCurrentGameMode());
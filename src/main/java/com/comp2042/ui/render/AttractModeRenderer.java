@@ -0,0 +1,136 @@
+package com.comp2042.ui.render;
+
+import com.comp2042.model.ViewData;
+import com.comp2042.sim.AttractModeGame;
+import javafx.animation.AnimationTimer;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+
+/**
+ * Draws an {@link AttractModeGame} into a single {@link Canvas} behind the
+ * main menu.
+ * <p>
+ * One brick is placed every 90 ms, several times human speed, and the
+ * canvas is only redrawn after a step, as at most 250 filled rectangles.
+ * A heuristic decision and one redraw together stay well under a
+ * millisecond, so the menu keeps its frame rate. Frames are
+ * skipped while the window is hidden or minimised, and the timer stops
+ * for good once the canvas leaves the window, e.g. when a game starts.
+ * </p>
+ */
+public class AttractModeRenderer {
+
+    private static final int CELL_SIZE = 24;
+    private static final long STEP_NANOS = 90_000_000L;
+    private static final double BOARD_OPACITY = 0.22;
+
+    private final AttractModeGame game;
+    private final Canvas canvas;
+    private final AnimationTimer timer;
+
+    private long lastStep;
+    private boolean shown;
+
+    /**
+     * Creates a renderer for a fresh attract-mode game.
+     *
+     * @param seed seed of the first game
+     */
+    public AttractModeRenderer(long seed) {
+        this.game = new AttractModeGame(seed);
+        int[][] matrix = game.getBoardMatrix();
+        this.canvas = new Canvas(matrix[0].length * CELL_SIZE, matrix.length * CELL_SIZE);
+        this.canvas.setOpacity(BOARD_OPACITY);
+        this.canvas.setMouseTransparent(true);
+        this.timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                onFrame(now);
+            }
+        };
+        draw();
+    }
+
+    /**
+     * Gets the canvas to place behind the menu.
+     * @return the canvas
+     */
+    public Canvas getCanvas() {return canvas;}
+
+    /**
+     * Gets the game being played, e.g. to read its engine check results.
+     * @return the attract-mode game
+     */
+    public AttractModeGame getGame() {return game;}
+
+    /**
+     * Starts playing and drawing.
+     */
+    public void start() {
+        lastStep = 0;
+        timer.start();
+    }
+
+    /**
+     * Stops playing and drawing.
+     */
+    public void stop() {
+        timer.stop();
+    }
+
+    private void onFrame(long now) {
+        Scene scene = canvas.getScene();
+        Window window = scene == null ? null : scene.getWindow();
+        if (window == null) {
+            if (shown) {
+                // The menu has been replaced
+                stop();
+            }
+            return;
+        }
+        shown = true;
+        if (!window.isShowing() || (window instanceof Stage stage && stage.isIconified())) {
+            lastStep = now;
+            return;
+        }
+        if (lastStep == 0) {
+            lastStep = now;
+            return;
+        }
+        if (now - lastStep < STEP_NANOS) {
+            return;
+        }
+        lastStep = now;
+        game.step();
+        draw();
+    }
+
+    private void draw() {
+        GraphicsContext graphics = canvas.getGraphicsContext2D();
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+
+        int[][] matrix = game.getBoardMatrix();
+        for (int row = 0; row < matrix.length; row++) {
+            for (int col = 0; col < matrix[row].length; col++) {
+                fillCell(graphics, matrix[row][col], col, row);
+            }
+        }
+
+        ViewData view = game.getViewData();
+        int[][] brick = view.getBrickData();
+        for (int row = 0; row < brick.length; row++) {
+            for (int col = 0; col < brick[row].length; col++) {
+                fillCell(graphics, brick[row][col], view.getxPosition() + col, view.getyPosition() + row);
+            }
+        }
+    }
+
+    private static void fillCell(GraphicsContext graphics, int value, int col, int row) {
+        if (value == 0 || row < 0) {return;}
+        graphics.setFill(GameRenderer.getFillColor(value));
+        graphics.fillRect(col * CELL_SIZE + 1, row * CELL_SIZE + 1, CELL_SIZE - 2, CELL_SIZE - 2);
+    }
+}
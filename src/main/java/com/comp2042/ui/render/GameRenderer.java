@@ -23,6 +23,8 @@ public class GameRenderer {
     private Rectangle[][] nextRectangles1, nextRectangles2, nextRectangles3, nextRectangles4, nextRectangles5;
     private GridPane gamePanel;
     private GridPane brickPanel;
+    private int[][] hintCells;
+    private int[][] placementHintCells;
 
     private int boardWidth;
     private int boardHeight;
@@ -270,6 +272,69 @@ public class GameRenderer {
         }
     }
 
+    /**
+     * Sets the cells outlined by the perfect clear hint. The hint is drawn
+     * by {@link #renderHint(int[][])} until it is cleared.
+     *
+     * @param cells {x, y} board cells, or null for no hint
+     */
+    public void setHintCells(int[][] cells) {this.hintCells = cells;}
+
+    /**
+     * Removes the perfect clear hint.
+     */
+    public void clearHint() {this.hintCells = null;}
+
+    /**
+     * Renders the perfect clear hint over empty cells. Like the shadow, it
+     * is drawn on top of the background and disappears on the next board
+     * refresh unless drawn again.
+     *
+     * @param boardMatrix the current board matrix
+     */
+    public void renderHint(int[][] boardMatrix) {
+        if (hintCells == null || boardMatrix == null || displayMatrix == null) {return;}
+        for (int[] cell : hintCells) {
+            int boardCol = cell[0];
+            int boardRow = cell[1];
+            if (isValidGridPosition(boardCol, boardRow) && boardMatrix[boardRow][boardCol] == 0) {
+                displayMatrix[boardRow][boardCol].setFill(Color.rgb(255, 255, 255, 0.35));
+            }
+        }
+    }
+
+    /**
+     * Sets the cells of the placement hint, the second ghost showing where
+     * the bot would put the brick. It has its own layer, so it and the
+     * perfect clear hint can be shown at the same time.
+     *
+     * @param cells {x, y} board cells, or null for no placement hint
+     */
+    public void setPlacementHintCells(int[][] cells) {this.placementHintCells = cells;}
+
+    /**
+     * Removes the placement hint.
+     */
+    public void clearPlacementHint() {this.placementHintCells = null;}
+
+    /**
+     * Renders the placement hint over empty cells, tinted so it can be
+     * told apart from the shadow and the perfect clear hint, which is
+     * drawn after it.
+     *
+     * @param boardMatrix the current board matrix
+     */
+    public void renderPlacementHint(int[][] boardMatrix) {
+        if (placementHintCells == null || boardMatrix == null || displayMatrix == null) {return;}
+        for (int[] cell : placementHintCells) {
+            int boardCol = cell[0];
+            int boardRow = cell[1];
+            if (isValidGridPosition(boardCol, boardRow) && boardMatrix[boardRow][boardCol] == 0) {
+                displayMatrix[boardRow][boardCol].setFill(Color.rgb(0, 191, 255, 0.3));
+            }
+        }
+    }
+
     public void clearBrickDisplay() {
         if (brickRectangles != null) {
             for (Rectangle[] row : brickRectangles) {
@@ -280,7 +345,14 @@ public class GameRenderer {
         }
     }
 
-    private Paint getFillColor(int value) {
+    /**
+     * Gets the colour of a brick value, shared by every renderer so the
+     * board, previews and attract mode cannot drift apart.
+     *
+     * @param value brick colour value, 0 for an empty cell
+     * @return the fill colour
+     */
+    static Paint getFillColor(int value) {
         return switch (value) {
             case 0 -> Color.TRANSPARENT;
             case 1 -> Color.CYAN;
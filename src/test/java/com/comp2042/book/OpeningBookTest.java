@@ -0,0 +1,171 @@
+package com.comp2042.book;
+
+import com.comp2042.bot.BitBoard;
+import com.comp2042.bot.HeuristicPlayer;
+import com.comp2042.bot.PieceShape;
+import com.comp2042.bot.PlayerType;
+import com.comp2042.model.GameMode;
+import com.comp2042.sim.GameSimulator;
+import com.comp2042.sim.SimulationConfig;
+import com.comp2042.sim.SimulationResult;
+import com.comp2042.sim.TrainingDataReader;
+import com.comp2042.sim.TrainingDataWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for OpeningBook, OpeningBookBuilder and BookPlayer - opening book from game records
+class OpeningBookTest {
+
+    private static final SimulationConfig CONFIG =
+            new SimulationConfig(GameMode.FORTY_LINES, 500L, 400, PlayerType.HEURISTIC);
+    private static final int GAMES = 6;
+
+    /**
+     * Records {@link #GAMES} sprint games into shards of at most 50 records,
+     * alternating a heuristic player that finishes them with a greedy one
+     * that tops out first.
+     */
+    private static List<SimulationResult> recordGames(Path directory) throws IOException {
+        List<SimulationResult> results = new ArrayList<>();
+        try (TrainingDataWriter writer = new TrainingDataWriter(directory, "games", 50)) {
+            for (int i = 0; i < GAMES; i++) {
+                SimulationConfig config = new SimulationConfig(GameMode.FORTY_LINES, CONFIG.getSeed() + i,
+                        CONFIG.getPieceLimit(), i % 2 == 0 ? PlayerType.HEURISTIC : PlayerType.GREEDY);
+                results.add(new GameSimulator(config, null, writer).run());
+            }
+        }
+        return results;
+    }
+
+    // ========== Lookup ==========
+
+    @Test
+    @DisplayName("A book built from a game replays that game's opening")
+    void replaysRecordedOpening() throws IOException {
+        Path directory = Files.createTempDirectory("opening-book");
+        try {
+            // Given a book of the first 10 pieces of recorded games
+            List<SimulationResult> recorded = recordGames(directory);
+            Path file = directory.resolve("openings.book");
+            new OpeningBookBuilder(10, 5, 40, 1).build(TrainingDataReader.shards(directory, "games"), file);
+            OpeningBook book = OpeningBook.open(file);
+
+            // When the first game is replayed from the book
+            BookPlayer player = new BookPlayer(book, new HeuristicPlayer());
+            SimulationResult replay = new GameSimulator(CONFIG, player).run();
+
+            // Then the book places the first 10 pieces and the game does not change
+            assertEquals(10, player.getBookMoves());
+            assertEquals(recorded.get(0).getPieces(), replay.getPieces());
+            assertEquals(recorded.get(0).getLines(), replay.getLines());
+            assertEquals(recorded.get(0).getScore(), replay.getScore());
+        } finally {
+            deleteTree(directory);
+        }
+    }
+
+    @Test
+    @DisplayName("Positions count the games that reached them and the games that succeeded")
+    void countsGamesAndSuccesses() throws IOException {
+        Path directory = Files.createTempDirectory("opening-book");
+        try {
+            // Given a book of only the first piece, keyed without the preview
+            List<SimulationResult> recorded = recordGames(directory);
+            Path file = directory.resolve("first.book");
+            OpeningBookBuilder builder = new OpeningBookBuilder(1, 0, 40, 1);
+            builder.build(TrainingDataReader.shards(directory, "games"), file);
+            OpeningBook book = OpeningBook.open(file);
+
+            // When every first piece is looked up on the empty board
+            BitBoard empty = new BitBoard(GameSimulator.BOARD_WIDTH, GameSimulator.BOARD_HEIGHT);
+            int games = 0;
+            int successes = 0;
+            int positions = 0;
+            for (int color = 1; color <= 7; color++) {
+                int slot = book.find(empty, PieceShape.ofColor(color), null, List.of());
+                if (slot < 0) {continue;}
+                positions++;
+                games += book.getGames(slot);
+                successes += book.getSuccesses(slot);
+                int moveGames = 0;
+                for (int i = 0; i < book.getMoveCount(slot); i++) {
+                    moveGames += book.getMoveGames(slot, i);
+                    assertTrue(i == 0 || book.getMoveGames(slot, i) <= book.getMoveGames(slot, i - 1),
+                            "Most played moves first");
+                }
+                assertEquals(book.getGames(slot), moveGames, "No more than four moves recorded here");
+            }
+
+            // Then every game is counted once and successes match the recorded outcomes
+            long won = recorded.stream().filter(r -> r.getLines() >= 40).count();
+            assertTrue(won > 0 && won < GAMES, "Both outcomes recorded");
+            assertEquals(GAMES, games);
+            assertEquals(won, successes);
+            assertEquals(positions, book.getPositions());
+            assertEquals(GAMES, book.getTotalGames());
+            assertEquals(GAMES, builder.getRecords());
+            assertEquals(-1, book.find(empty, PieceShape.ofColor(1), PieceShape.ofColor(2), List.of()),
+                    "A position with a held piece was never recorded");
+        } finally {
+            deleteTree(directory);
+        }
+    }
+
+    // ========== Builder ==========
+
+    @Test
+    @DisplayName("Building in parallel writes the same file as one thread")
+    void parallelBuildIsDeterministic() throws IOException {
+        Path directory = Files.createTempDirectory("opening-book");
+        try {
+            recordGames(directory);
+            List<Path> shards = TrainingDataReader.shards(directory, "games");
+            assertTrue(shards.size() > 3, "Enough shards to split");
+
+            Path sequential = directory.resolve("sequential.book");
+            Path parallel = directory.resolve("parallel.book");
+            int positions = new OpeningBookBuilder(20, 2, 40, 1).build(shards, sequential);
+            assertEquals(positions, new OpeningBookBuilder(20, 2, 40, 3).build(shards, parallel));
+
+            assertEquals(-1L, Files.mismatch(sequential, parallel), "Files differ");
+            OpeningBook book = OpeningBook.open(parallel);
+            assertEquals(positions, book.getPositions());
+            assertTrue(book.getSlots() >= 2 * positions, "Table stays at most half full");
+            assertEquals(2, book.getQueueLength());
+            assertEquals(20, book.getMaxPieces());
+        } finally {
+            deleteTree(directory);
+        }
+    }
+
+    @Test
+    @DisplayName("Files that are not books are rejected")
+    void rejectsOtherFiles() throws IOException {
+        Path file = Files.createTempFile("not-a-book", ".book");
+        try {
+            Files.writeString(file, "hello, world");
+
+            assertThrows(IOException.class, () -> OpeningBook.open(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void deleteTree(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
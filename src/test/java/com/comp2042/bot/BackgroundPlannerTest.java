@@ -0,0 +1,170 @@
+package com.comp2042.bot;
+
+import com.comp2042.core.Board;
+import com.comp2042.core.BoardSnapshot;
+import com.comp2042.core.SimpleBoard;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for BackgroundPlanner and BoardSnapshot - off-thread planning with stale results dropped
+class BackgroundPlannerTest {
+
+    private static Board newBoard(long seed) {
+        Board board = new SimpleBoard(10, 25, seed);
+        board.newGame();
+        return board;
+    }
+
+    /** Delivery executor that queues consumers until the test runs them, like Platform.runLater. */
+    private static final class QueuedExecutor implements Executor {
+        private final BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+
+        @Override
+        public void execute(Runnable task) {tasks.add(task);}
+
+        Runnable next() throws InterruptedException {
+            Runnable task = tasks.poll(10, TimeUnit.SECONDS);
+            assertNotNull(task, "Expected a delivery");
+            return task;
+        }
+    }
+
+    // ========== Snapshot ==========
+
+    @Test
+    @DisplayName("Snapshot keeps the state it was taken with")
+    void snapshotIsDetached() {
+        // Given
+        Board board = newBoard(2L);
+        BoardSnapshot snapshot = BoardSnapshot.of(board);
+        int x = board.getViewData().getxPosition();
+
+        // When - the game moves on
+        board.moveBrickRight();
+        board.holdCurrentBrick();
+
+        // Then
+        assertEquals(x, snapshot.getViewData().getxPosition());
+        assertTrue(snapshot.canHold());
+        assertEquals(5, snapshot.getNextBricksData(5).size());
+        assertEquals(2, snapshot.getNextBricksData(2).size());
+        assertEquals(1, snapshot.getDealtFromBagData().size());
+    }
+
+    @Test
+    @DisplayName("Snapshot refuses to change the game")
+    void snapshotIsReadOnly() {
+        BoardSnapshot snapshot = BoardSnapshot.of(newBoard(2L));
+
+        assertThrows(UnsupportedOperationException.class, snapshot::moveBrickDown);
+        assertThrows(UnsupportedOperationException.class, snapshot::holdCurrentBrick);
+        assertThrows(UnsupportedOperationException.class, snapshot::createNewBrick);
+    }
+
+    // ========== Planning ==========
+
+    @Test
+    @DisplayName("Delivers the cells of the player's placement")
+    void deliversPlacementCells() throws Exception {
+        // Given
+        Board board = newBoard(3L);
+        Placement expected = new HeuristicPlayer().choosePlacement(board);
+        QueuedExecutor delivery = new QueuedExecutor();
+        int[][][] received = new int[1][][];
+
+        try (BackgroundPlanner planner = new BackgroundPlanner(new HeuristicPlayer(), delivery)) {
+            // When
+            planner.request(board, cells -> received[0] = cells);
+            delivery.next().run();
+        }
+
+        // Then - the cells are where the brick ends up when the placement is played
+        PlacementExecutor.execute(board, expected);
+        board.mergeBrickToBackground();
+        int[][] matrix = board.getBoardMatrix();
+        assertEquals(4, received[0].length);
+        for (int[] cell : received[0]) {
+            assertNotEquals(0, matrix[cell[1]][cell[0]], "Cell " + cell[0] + "," + cell[1]);
+        }
+    }
+
+    @Test
+    @DisplayName("A cells search runs on the search thread and its result is delivered")
+    void deliversSearchCells() throws Exception {
+        // Given
+        int[][] expected = {{0, 24}, {1, 24}, {2, 24}, {3, 24}};
+        QueuedExecutor delivery = new QueuedExecutor();
+        String[] searchThread = new String[1];
+        int[][][] received = new int[1][][];
+
+        try (BackgroundPlanner planner = BackgroundPlanner.ofCells(game -> {
+            searchThread[0] = Thread.currentThread().getName();
+            return expected;
+        }, delivery)) {
+            // When
+            planner.request(newBoard(6L), cells -> received[0] = cells);
+            delivery.next().run();
+        }
+
+        // Then
+        assertNotEquals(Thread.currentThread().getName(), searchThread[0]);
+        assertSame(expected, received[0]);
+    }
+
+    @Test
+    @DisplayName("A newer request drops the result of the older one")
+    void staleResultIsDropped() throws Exception {
+        // Given - a player that waits until the test lets it finish
+        CountDownLatch release = new CountDownLatch(1);
+        Player slow = game -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new HeuristicPlayer().choosePlacement(game);
+        };
+        QueuedExecutor delivery = new QueuedExecutor();
+        List<String> received = new ArrayList<>();
+
+        try (BackgroundPlanner planner = new BackgroundPlanner(slow, delivery)) {
+            Board board = newBoard(4L);
+
+            // When - the first search is superseded while it runs
+            planner.request(board, cells -> received.add("first"));
+            planner.request(board, cells -> received.add("second"));
+            release.countDown();
+
+            // Then
+            delivery.next().run();
+            assertEquals(List.of("second"), received);
+        }
+    }
+
+    @Test
+    @DisplayName("A result already posted is not shown after a cancel")
+    void cancelledAfterPosting() throws Exception {
+        QueuedExecutor delivery = new QueuedExecutor();
+        List<int[][]> received = new ArrayList<>();
+
+        try (BackgroundPlanner planner = new BackgroundPlanner(new HeuristicPlayer(), delivery)) {
+            planner.request(newBoard(5L), received::add);
+            Runnable posted = delivery.next();
+
+            planner.cancel();
+            posted.run();
+        }
+
+        assertTrue(received.isEmpty());
+    }
+}
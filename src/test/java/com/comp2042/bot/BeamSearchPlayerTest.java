@@ -0,0 +1,164 @@
+package com.comp2042.bot;
+
+import com.comp2042.core.Board;
+import com.comp2042.core.SimpleBoard;
+import com.comp2042.model.GameMode;
+import com.comp2042.sim.GameSimulator;
+import com.comp2042.sim.SimulationConfig;
+import com.comp2042.sim.SimulationResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for BeamSearchPlayer and TranspositionTable
+class BeamSearchPlayerTest {
+
+    private static Board newBoard(long seed) {
+        Board board = new SimpleBoard(10, 25, seed);
+        board.newGame();
+        return board;
+    }
+
+    /** Plays pieces with PlacementExecutor, the same way GameSimulator does. */
+    private static int play(Board board, Player player, int pieces) {
+        int lines = 0;
+        for (int i = 0; i < pieces; i++) {
+            Placement placement = player.choosePlacement(board);
+            assertNotNull(placement, "Should find a placement at piece " + i);
+            PlacementExecutor.execute(board, placement);
+            assertEquals(placement.getX(), board.getViewData().getxPosition(), "X at piece " + i);
+            assertEquals(placement.getY(), board.getViewData().getyPosition(), "Y at piece " + i);
+            board.mergeBrickToBackground();
+            lines += board.clearRows().getLinesRemoved();
+            if (board.checkGameOver() || board.createNewBrick()) {
+                fail("Topped out at piece " + i);
+            }
+        }
+        return lines;
+    }
+
+    // ========== Play ==========
+
+    @Test
+    @DisplayName("Placements, including held ones, land where planned")
+    void placementsAreExecutable() {
+        BeamSearchPlayer player = new BeamSearchPlayer(EvaluationWeights.DEFAULT, 8, 50_000_000L);
+        int lines = play(newBoard(3L), player, 150);
+
+        assertTrue(lines >= 50, "Should clear lines, got " + lines);
+    }
+
+    @Test
+    @DisplayName("Uses hold when it helps")
+    void usesHold() {
+        BeamSearchPlayer player = new BeamSearchPlayer(EvaluationWeights.DEFAULT, 8, 50_000_000L);
+        Board board = newBoard(8L);
+        int holds = 0;
+        for (int i = 0; i < 100; i++) {
+            Placement placement = player.choosePlacement(board);
+            if (placement.isHold()) {holds++;}
+            PlacementExecutor.execute(board, placement);
+            board.mergeBrickToBackground();
+            board.clearRows();
+            assertFalse(board.createNewBrick(), "Topped out at piece " + i);
+        }
+        assertTrue(holds > 0, "Expected at least one hold in 100 pieces");
+    }
+
+    @Test
+    @DisplayName("Searches through the whole preview queue given time")
+    void searchesFullDepth() {
+        BeamSearchPlayer player = new BeamSearchPlayer(EvaluationWeights.DEFAULT, 4, 1_000_000_000L);
+        player.choosePlacement(newBoard(1L));
+
+        assertEquals(6, player.getLastDepth(), "Current brick plus five previews");
+        assertTrue(player.getLastNodes() > 0);
+    }
+
+    @Test
+    @DisplayName("Zero budget still returns a one-piece decision")
+    void zeroBudgetDegrades() {
+        BeamSearchPlayer player = new BeamSearchPlayer(EvaluationWeights.DEFAULT, 32, 0L);
+        Placement placement = player.choosePlacement(newBoard(1L));
+
+        assertNotNull(placement);
+        assertTrue(player.getLastDepth() <= 2, "Only the first layer fits in the budget");
+    }
+
+    @Test
+    @DisplayName("A caller's deadline earlier than the budget cuts the search short")
+    void deadlineBeforeBudget() {
+        // Given - a budget long enough for the whole queue
+        BeamSearchPlayer player = new BeamSearchPlayer(EvaluationWeights.DEFAULT, 4, 1_000_000_000L);
+
+        // When - the caller wants the move now
+        Placement placement = player.choosePlacement(newBoard(1L), System.nanoTime());
+
+        // Then
+        assertNotNull(placement);
+        assertTrue(player.getLastDepth() <= 2, "Only the first layer fits before the deadline");
+    }
+
+    @Test
+    @DisplayName("Beam player plays a long simulated game")
+    void longSimulation() {
+        SimulationResult result = new GameSimulator(
+                new SimulationConfig(GameMode.NORMAL, 2L, 300, PlayerType.BEAM)).run();
+
+        assertFalse(result.isToppedOut());
+        assertEquals(300, result.getPieces());
+    }
+
+    @Test
+    @DisplayName("AutoPlayer sends hold before moving the swapped brick")
+    void autoPlayerHolds() {
+        Board board = newBoard(4L);
+        Player holdFirst = game -> new Placement(0, game.getViewData().getxPosition(), 0, true);
+        AutoPlayer autoPlayer = new AutoPlayer(holdFirst);
+
+        assertEquals(BotAction.HOLD, autoPlayer.nextAction(board));
+        board.holdCurrentBrick();
+        assertNotEquals(BotAction.HOLD, autoPlayer.nextAction(board), "Should not hold twice");
+    }
+
+    // ========== Transposition Table ==========
+
+    @Test
+    @DisplayName("Table reports repeated keys until cleared")
+    void tableDeduplicates() {
+        TranspositionTable table = new TranspositionTable(4);
+
+        assertTrue(table.add(42L));
+        assertFalse(table.add(42L));
+        table.clear();
+        assertTrue(table.add(42L), "Cleared table should accept the key again");
+    }
+
+    @Test
+    @DisplayName("Table keeps the latest value per key until cleared")
+    void tableStoresValues() {
+        TranspositionTable table = new TranspositionTable(4);
+
+        assertEquals(-1, table.get(42L));
+        table.put(42L, 3);
+        table.put(58L, 5);
+        table.put(42L, 7);
+
+        assertEquals(7, table.get(42L), "A second put should replace the value");
+        assertEquals(5, table.get(58L));
+        assertTrue(table.contains(42L));
+        table.clear();
+        assertEquals(-1, table.get(42L), "Cleared table should forget values");
+    }
+
+    @Test
+    @DisplayName("Full table accepts keys without growing")
+    void tableDegradesWhenFull() {
+        TranspositionTable table = new TranspositionTable(2);
+        for (long key = 0; key < 100; key++) {
+            table.add(key * 4);
+        }
+        assertEquals(4, table.capacity());
+        assertTrue(table.add(1_000L), "Unrecordable keys are treated as new");
+    }
+}
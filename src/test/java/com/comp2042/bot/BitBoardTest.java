@@ -0,0 +1,129 @@
+package com.comp2042.bot;
+
+import com.comp2042.brick.Brick;
+import com.comp2042.brick.pieces.*;
+import com.comp2042.core.MatrixOperations;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Random;
+
+// Tests for BitBoard - must agree with MatrixOperations on every rule
+class BitBoardTest {
+
+    private static final Brick[] BRICKS = {
+            new IBrick(), new JBrick(), new LBrick(), new OBrick(), new SBrick(), new TBrick(), new ZBrick()
+    };
+
+    private static int[][] randomMatrix(Random random, int width, int height) {
+        int[][] matrix = new int[height][width];
+        for (int row = height / 2; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                if (random.nextInt(3) == 0) {
+                    matrix[row][col] = 1 + random.nextInt(7);
+                }
+            }
+        }
+        return matrix;
+    }
+
+    // ========== Collision ==========
+
+    @Test
+    @DisplayName("Collisions match MatrixOperations.intersect on random boards")
+    void collisionsMatchIntersect() {
+        Random random = new Random(7);
+        for (int trial = 0; trial < 20; trial++) {
+            int[][] matrix = randomMatrix(random, 10, 25);
+            BitBoard board = BitBoard.fromMatrix(matrix);
+
+            for (Brick brick : BRICKS) {
+                PieceShape piece = PieceShape.of(brick);
+                List<int[][]> shapes = brick.getShapeMatrix();
+                for (int rotation = 0; rotation < shapes.size(); rotation++) {
+                    for (int x = -4; x <= 10; x++) {
+                        for (int y = -3; y <= 25; y++) {
+                            assertEquals(MatrixOperations.intersect(matrix, shapes.get(rotation), x, y),
+                                    board.collides(piece, rotation, x, y),
+                                    "Mismatch for color " + piece.getColor() + " r" + rotation + " at " + x + "," + y);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Cells above the board only collide with the walls")
+    void aboveBoardChecksWallsOnly() {
+        BitBoard board = new BitBoard(10, 25);
+        PieceShape i = PieceShape.ofColor(1);
+
+        assertFalse(board.collides(i, 0, 3, -3), "Inside the walls above the board is free");
+        assertTrue(board.collides(i, 0, 7, -3), "Sticking out of the right wall collides");
+    }
+
+    // ========== Placing ==========
+
+    @Test
+    @DisplayName("Placing matches merge and clear rows")
+    void placeMatchesMergeAndClear() {
+        Random random = new Random(3);
+        for (int trial = 0; trial < 50; trial++) {
+            int[][] matrix = randomMatrix(random, 10, 25);
+            Brick brick = BRICKS[random.nextInt(BRICKS.length)];
+            PieceShape piece = PieceShape.of(brick);
+            BitBoard board = BitBoard.fromMatrix(matrix);
+
+            int rotation = random.nextInt(piece.getRotations());
+            int x = random.nextInt(8);
+            if (board.collides(piece, rotation, x, 0)) {continue;}
+            int y = board.dropY(piece, rotation, x, 0);
+
+            int[][] merged = MatrixOperations.merge(matrix, brick.getShapeMatrix().get(rotation), x, y);
+            var clear = MatrixOperations.checkRemoving(merged);
+            int lines = board.place(piece, rotation, x, y);
+
+            assertEquals(clear.getLinesRemoved(), lines, "Lines cleared should match");
+            assertEquals(BitBoard.fromMatrix(clear.getNewMatrix()).topRow(), board.topRow());
+            for (int row = 0; row < 25; row++) {
+                assertEquals(BitBoard.fromMatrix(clear.getNewMatrix()).row(row), board.row(row), "Row " + row);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Eroded cells count the piece cells removed by the clear")
+    void erodedCells() {
+        int[][] matrix = new int[25][10];
+        for (int col = 0; col < 9; col++) {
+            matrix[24][col] = 1;
+            matrix[23][col] = 1;
+        }
+        BitBoard board = BitBoard.fromMatrix(matrix);
+        PieceShape i = PieceShape.ofColor(1);
+
+        // Vertical I in the last column fills rows 21-24
+        int lines = board.place(i, 1, 8, 21);
+
+        assertEquals(2, lines);
+        assertEquals(2, board.getLastErodedCells());
+    }
+
+    // ========== Spawning ==========
+
+    @Test
+    @DisplayName("Spawn height rises when the top rows are occupied")
+    void spawnHeight() {
+        BitBoard board = new BitBoard(10, 25);
+        assertEquals(-1, board.spawnY());
+        assertEquals(3, board.spawnX());
+
+        int[][] matrix = new int[25][10];
+        matrix[1][0] = 1;
+        board.load(matrix);
+        assertEquals(-2, board.spawnY());
+    }
+}
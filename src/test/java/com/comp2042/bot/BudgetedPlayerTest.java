@@ -0,0 +1,176 @@
+package com.comp2042.bot;
+
+import com.comp2042.core.Board;
+import com.comp2042.core.BoardSnapshot;
+import com.comp2042.core.SimpleBoard;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for BudgetedPlayer and BotRegistry - ServiceLoader bots under per-move deadlines
+class BudgetedPlayerTest {
+
+    private static final long BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private static Board newBoard(long seed) {
+        Board board = new SimpleBoard(10, 25, seed);
+        board.newGame();
+        return board;
+    }
+
+    /** Bot that sleeps, optionally ignoring interrupts, before dropping in place. */
+    private static final class SleepyBot implements Bot {
+        private final long sleepMillis;
+        private final boolean stubborn;
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        volatile boolean closed;
+
+        SleepyBot(long sleepMillis, boolean stubborn) {
+            this.sleepMillis = sleepMillis;
+            this.stubborn = stubborn;
+        }
+
+        @Override
+        public String getName() {return "sleepy";}
+
+        @Override
+        public Placement choosePlacement(BoardSnapshot board, long deadlineNanos) {
+            long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sleepMillis);
+            while (System.nanoTime() < end) {
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    if (!stubborn) {return null;}
+                }
+            }
+            return new Placement(0, board.getViewData().getxPosition(), 0);
+        }
+
+        @Override
+        public void close() {closed = true;}
+    }
+
+    // ========== Registry ==========
+
+    @Test
+    @DisplayName("Built-in players are registered as bots")
+    void registryListsBuiltIns() {
+        List<String> names = BotRegistry.names();
+
+        assertTrue(names.containsAll(List.of("random", "greedy", "heuristic", "beam", "parallel", "monte_carlo")),
+                names.toString());
+    }
+
+    @Test
+    @DisplayName("Registry creates a fresh bot per call and rejects unknown names")
+    void registryCreates() {
+        Bot first = BotRegistry.create("HEURISTIC");
+        Bot second = BotRegistry.create("heuristic");
+
+        assertEquals("heuristic", first.getName());
+        assertNotSame(first, second);
+        assertThrows(IllegalArgumentException.class, () -> BotRegistry.create("no-such-bot"));
+    }
+
+    // ========== Budgets ==========
+
+    @Test
+    @DisplayName("A registered bot plays within its budget and its latency is recorded")
+    void registeredBotPlays() {
+        // Given
+        Board board = newBoard(1L);
+
+        try (BudgetedPlayer player = new BudgetedPlayer(() -> BotRegistry.create("heuristic"), BUDGET_NANOS * 20)) {
+            // When
+            Placement placement = player.choosePlacement(board);
+
+            // Then
+            assertNotNull(placement);
+            assertEquals(0, player.getOverruns());
+            assertEquals(1, player.getLatency().getCount());
+        }
+    }
+
+    @Test
+    @DisplayName("A late bot is interrupted and forfeits the move")
+    void lateBotForfeits() throws InterruptedException {
+        // Given
+        SleepyBot bot = new SleepyBot(5_000, false);
+        Board board = newBoard(2L);
+
+        try (BudgetedPlayer player = new BudgetedPlayer(() -> bot, BUDGET_NANOS)) {
+            // When
+            long start = System.nanoTime();
+            Placement placement = player.choosePlacement(board);
+            long waited = System.nanoTime() - start;
+
+            // Then
+            assertNull(placement);
+            assertEquals(1, player.getOverruns());
+            assertTrue(waited < TimeUnit.SECONDS.toNanos(2), "waited " + waited + " ns");
+            assertTrue(bot.interrupted.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    @DisplayName("A bot that ignores the interrupt loses its thread instead of stalling the next move")
+    void stubbornBotIsAbandoned() {
+        // Given
+        List<SleepyBot> created = new ArrayList<>();
+        Board board = newBoard(3L);
+
+        try (BudgetedPlayer player = new BudgetedPlayer(() -> {
+            SleepyBot bot = new SleepyBot(2_000, true);
+            created.add(bot);
+            return bot;
+        }, BUDGET_NANOS)) {
+            // When - two moves in a row, the first still running
+            player.choosePlacement(board);
+            long start = System.nanoTime();
+            player.choosePlacement(board);
+            long waited = System.nanoTime() - start;
+
+            // Then
+            assertEquals(2, player.getOverruns());
+            assertEquals(1, player.getAbandonedThreads());
+            assertTrue(waited < TimeUnit.SECONDS.toNanos(1), "waited " + waited + " ns");
+
+            // And - the stuck bot was closed and replaced by a fresh one
+            assertEquals(2, created.size());
+            assertTrue(created.get(0).closed);
+            assertSame(created.get(1), player.getBot());
+        }
+    }
+
+    @Test
+    @DisplayName("A bot that throws forfeits the move and the next move still runs")
+    void failingBot() {
+        // Given
+        Bot bot = new Bot() {
+            private int moves;
+
+            @Override
+            public String getName() {return "flaky";}
+
+            @Override
+            public Placement choosePlacement(BoardSnapshot board, long deadlineNanos) {
+                if (moves++ == 0) {throw new IllegalStateException("first move");}
+                return new Placement(0, board.getViewData().getxPosition(), 0);
+            }
+        };
+        Board board = newBoard(4L);
+
+        try (BudgetedPlayer player = new BudgetedPlayer(() -> bot, BUDGET_NANOS * 20)) {
+            assertNull(player.choosePlacement(board));
+            assertNotNull(player.choosePlacement(board));
+            assertEquals(1, player.getFailures());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.comp2042.bot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+// Tests for FinesseTable - fewest key presses on an open board
+class FinesseTableTest {
+
+    private static final FinesseTable TABLE = FinesseTable.standard();
+    private static final PieceShape T = PieceShape.ofLetter('T');
+
+    // ========== Known Entries ==========
+
+    @Test
+    @DisplayName("Dropping where the piece spawns needs no keys")
+    void spawnNeedsNoKeys() {
+        int spawnX = new BitBoard(10, 25).spawnX();
+
+        assertEquals(0, TABLE.minimumPresses(T, 0, spawnX));
+        assertEquals(List.of(), TABLE.keys(T, 0, spawnX));
+    }
+
+    @Test
+    @DisplayName("Neighbouring columns are one tap and the walls one DAS")
+    void tapsAndDas() {
+        assertEquals(List.of(FinesseTable.Key.LEFT), TABLE.keys(T, 0, 2));
+        assertEquals(List.of(FinesseTable.Key.RIGHT), TABLE.keys(T, 0, 4));
+        assertEquals(List.of(FinesseTable.Key.DAS_LEFT), TABLE.keys(T, 0, 0));
+        assertEquals(List.of(FinesseTable.Key.DAS_RIGHT), TABLE.keys(T, 0, 7));
+        assertEquals(2, TABLE.minimumPresses(T, 0, 1), "DAS then tap back");
+    }
+
+    @Test
+    @DisplayName("The single rotate key costs one press per quarter turn")
+    void rotationsCostPresses() {
+        assertEquals(1, TABLE.minimumPresses(T, 1, 3));
+        assertEquals(3, TABLE.minimumPresses(T, 3, 3));
+    }
+
+    @Test
+    @DisplayName("Positions outside the board are unreachable")
+    void outsideIsUnreachable() {
+        assertEquals(-1, TABLE.minimumPresses(T, 0, -1));
+        assertNull(TABLE.keys(T, 0, 9));
+        assertEquals(-1, TABLE.minimumPresses(PieceShape.ofLetter('O'), 1, 3), "O has one rotation");
+    }
+
+    // ========== Sequences ==========
+
+    @Test
+    @DisplayName("Every stored sequence reaches its position in the stored number of presses")
+    void sequencesReachTheirPositions() {
+        BitBoard board = new BitBoard(10, 25);
+        int y = BitBoard.DEFAULT_SPAWN_Y;
+        int positions = 0;
+        for (char letter : "IJLOSTZ".toCharArray()) {
+            PieceShape piece = PieceShape.ofLetter(letter);
+            for (int rotation = 0; rotation < piece.getRotations(); rotation++) {
+                for (int x = -4; x < 14; x++) {
+                    List<FinesseTable.Key> keys = TABLE.keys(piece, rotation, x);
+                    if (keys == null) {
+                        assertTrue(board.collides(piece, rotation, x, y), letter + " " + rotation + "," + x);
+                        continue;
+                    }
+                    positions++;
+                    int r = 0;
+                    int at = board.spawnX();
+                    for (FinesseTable.Key key : keys) {
+                        switch (key) {
+                            case LEFT -> at--;
+                            case RIGHT -> at++;
+                            case DAS_LEFT -> {
+                                while (!board.collides(piece, r, at - 1, y)) {at--;}
+                            }
+                            case DAS_RIGHT -> {
+                                while (!board.collides(piece, r, at + 1, y)) {at++;}
+                            }
+                            case ROTATE -> {
+                                at = board.rotate(piece, r, at, y);
+                                r = (r + 1) % piece.getRotations();
+                            }
+                        }
+                        assertFalse(board.collides(piece, r, at, y));
+                    }
+                    assertEquals(rotation, r, letter + " rotation");
+                    assertEquals(x, at, letter + " column");
+                    assertEquals(keys.size(), TABLE.minimumPresses(piece, rotation, x));
+                }
+            }
+        }
+        assertEquals(162, positions, "Every column of every rotation is reachable");
+    }
+}
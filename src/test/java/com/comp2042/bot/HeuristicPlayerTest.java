@@ -0,0 +1,148 @@
+package com.comp2042.bot;
+
+import com.comp2042.core.Board;
+import com.comp2042.core.SimpleBoard;
+import com.comp2042.model.GameMode;
+import com.comp2042.sim.GameSimulator;
+import com.comp2042.sim.SimulationConfig;
+import com.comp2042.sim.SimulationResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for HeuristicPlayer and AutoPlayer
+class HeuristicPlayerTest {
+
+    private static SimulationResult play(PlayerType player, long seed, int pieces) {
+        return new GameSimulator(new SimulationConfig(GameMode.NORMAL, seed, pieces, player)).run();
+    }
+
+    // ========== Play Strength ==========
+
+    @Test
+    @DisplayName("Heuristic player survives a long game")
+    void survivesLongGame() {
+        SimulationResult result = play(PlayerType.HEURISTIC, 1L, 500);
+
+        assertFalse(result.isToppedOut(), "Should not top out within 500 pieces");
+        assertTrue(result.getLines() >= 180, "Should clear most of its pieces, got " + result.getLines());
+    }
+
+    @Test
+    @DisplayName("Heuristic player outlasts the greedy player")
+    void beatsGreedy() {
+        SimulationResult greedy = play(PlayerType.GREEDY, 5L, 500);
+        SimulationResult heuristic = play(PlayerType.HEURISTIC, 5L, 500);
+
+        assertTrue(heuristic.getLines() > greedy.getLines(),
+                "Heuristic " + heuristic.getLines() + " lines vs greedy " + greedy.getLines());
+    }
+
+    // ========== Decisions ==========
+
+    @Test
+    @DisplayName("Chosen placement is reached by PlacementExecutor")
+    void placementIsExecutable() {
+        Board board = new SimpleBoard(10, 25, 9L);
+        board.newGame();
+        HeuristicPlayer player = new HeuristicPlayer();
+
+        for (int piece = 0; piece < 100; piece++) {
+            Placement placement = player.choosePlacement(board);
+            assertNotNull(placement);
+            PlacementExecutor.execute(board, placement);
+            assertEquals(placement.getX(), board.getViewData().getxPosition(), "X at piece " + piece);
+            assertEquals(placement.getY(), board.getViewData().getyPosition(), "Y at piece " + piece);
+
+            board.mergeBrickToBackground();
+            board.clearRows();
+            if (board.createNewBrick()) {
+                fail("Topped out at piece " + piece);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A decision evaluates at most one placement per rotation and column")
+    void decisionWorkIsBounded() {
+        Board board = new SimpleBoard(10, 25, 4L);
+        board.newGame();
+        HeuristicPlayer player = new HeuristicPlayer();
+
+        for (int piece = 0; piece < 200; piece++) {
+            Placement placement = player.choosePlacement(board);
+            int evaluated = player.getLastEvaluatedCount();
+            assertTrue(evaluated >= 1 && evaluated <= 4 * 10, "Evaluated " + evaluated + " at piece " + piece);
+
+            PlacementExecutor.execute(board, placement);
+            board.mergeBrickToBackground();
+            board.clearRows();
+            if (board.createNewBrick()) {
+                fail("Topped out at piece " + piece);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Weighted placement features pick the heuristic player's placement")
+    void placementFeaturesMatchEvaluator() {
+        Board board = new SimpleBoard(10, 25, 6L);
+        board.newGame();
+        HeuristicPlayer player = new HeuristicPlayer();
+        PlacementFeatures features = new PlacementFeatures();
+        double[] weights = EvaluationWeights.DEFAULT.toArray();
+
+        for (int piece = 0; piece < 50; piece++) {
+            BitBoard bits = BitBoard.fromMatrix(board.getBoardMatrix());
+            int count = features.generate(bits, PieceShape.of(board.getCurrentBrick()),
+                    board.getViewData().getxPosition(), board.getViewData().getyPosition());
+            int best = 0;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < count; i++) {
+                double score = 0;
+                for (int f = 0; f < EvaluationWeights.FEATURE_COUNT; f++) {
+                    score += weights[f] * features.feature(i, f);
+                }
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = i;
+                }
+            }
+
+            Placement expected = player.choosePlacement(board);
+            assertEquals(expected.getRotation(), features.placement(best).getRotation(), "Rotation at piece " + piece);
+            assertEquals(expected.getX(), features.placement(best).getX(), "X at piece " + piece);
+            PlacementExecutor.execute(board, expected);
+            board.mergeBrickToBackground();
+            assertEquals(features.lines(best), board.clearRows().getLinesRemoved(), "Lines at piece " + piece);
+            assertFalse(board.createNewBrick(), "Topped out at piece " + piece);
+        }
+    }
+
+    // ========== AutoPlayer ==========
+
+    @Test
+    @DisplayName("AutoPlayer rotates, shifts and then asks for a hard drop")
+    void autoPlayerSequence() {
+        Board board = new SimpleBoard(10, 25, 2L);
+        board.newGame();
+        Placement target = new HeuristicPlayer().choosePlacement(board);
+        AutoPlayer autoPlayer = new AutoPlayer(new HeuristicPlayer());
+
+        int rotations = 0;
+        BotAction action;
+        int steps = 0;
+        while ((action = autoPlayer.nextAction(board)) != BotAction.HARD_DROP) {
+            switch (action) {
+                case ROTATE -> {board.rotateLeftBrick(); rotations++;}
+                case LEFT -> board.moveBrickLeft();
+                case RIGHT -> board.moveBrickRight();
+                default -> { }
+            }
+            assertTrue(++steps < 20, "Should finish within a few inputs");
+        }
+
+        assertEquals(target.getRotation(), rotations);
+        assertEquals(target.getX(), board.getViewData().getxPosition());
+    }
+}
@@ -0,0 +1,54 @@
+package com.comp2042.bot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for LatencyHistogram - log-linear buckets and percentiles
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Every value falls in a bucket whose bounds contain it")
+    void bucketBounds() {
+        for (long value : new long[] {0, 1, 7, 8, 15, 16, 17, 1000, 123_456_789, Long.MAX_VALUE / 3}) {
+            int index = LatencyHistogram.indexOf(value);
+            assertTrue(LatencyHistogram.lowerBound(index) <= value, "lower bound of " + value);
+            assertTrue(LatencyHistogram.lowerBound(index + 1) > value, "upper bound of " + value);
+        }
+    }
+
+    @Test
+    @DisplayName("Percentiles are within one bucket of the recorded values")
+    void percentiles() {
+        // Given - 1..1000 microseconds
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        // Then
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMax());
+        assertEquals(500_500, histogram.getMean(), 1e-6);
+        assertEquals(500_000, histogram.percentile(0.5), 500_000 * 0.125);
+        assertEquals(990_000, histogram.percentile(0.99), 990_000 * 0.125);
+        assertEquals(1_000_000, histogram.percentile(1.0));
+    }
+
+    @Test
+    @DisplayName("Adding histograms combines their records")
+    void add() {
+        LatencyHistogram fast = new LatencyHistogram();
+        LatencyHistogram slow = new LatencyHistogram();
+        fast.record(10);
+        slow.record(10_000);
+        slow.record(20_000);
+
+        fast.add(slow);
+
+        assertEquals(3, fast.getCount());
+        assertEquals(20_000, fast.getMax());
+        assertEquals(0, new LatencyHistogram().percentile(0.5));
+    }
+}
@@ -0,0 +1,174 @@
+package com.comp2042.bot;
+
+import com.comp2042.core.Board;
+import com.comp2042.core.SimpleBoard;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for MonteCarloPlayer and BagSampler
+class MonteCarloPlayerTest {
+
+    private static Board newBoard(long seed) {
+        Board board = new SimpleBoard(10, 25, seed);
+        board.newGame();
+        return board;
+    }
+
+    private static void apply(Board board, Placement placement) {
+        PlacementExecutor.execute(board, placement);
+        assertEquals(placement.getX(), board.getViewData().getxPosition());
+        assertEquals(placement.getY(), board.getViewData().getyPosition());
+        board.mergeBrickToBackground();
+        board.clearRows();
+        assertFalse(board.checkGameOver() || board.createNewBrick(), "Should not top out");
+    }
+
+    private static int colorOf(char letter) {
+        return PieceShape.ofLetter(letter).getColor();
+    }
+
+    // ========== Bag Sampling ==========
+
+    @Test
+    @DisplayName("Remaining pieces are the ones the current bag has not dealt")
+    void remainingPieces() {
+        int[] stream = {colorOf('T'), colorOf('I'), colorOf('L'), colorOf('J'), colorOf('S'), colorOf('Z'),
+                colorOf('O'), colorOf('S'), colorOf('I')};
+
+        int remaining = BagSampler.remaining(stream, stream.length);
+
+        assertEquals(5, Integer.bitCount(remaining));
+        assertEquals(0, remaining & 1 << (colorOf('S') - 1));
+        assertEquals(0, remaining & 1 << (colorOf('I') - 1));
+        assertEquals(0, BagSampler.remaining(stream, 7), "A finished bag leaves nothing over");
+    }
+
+    @Test
+    @DisplayName("Sampled continuation finishes the bag, then deals whole bags")
+    void sampledBags() {
+        // Given - two pieces of the bag already dealt
+        int[] stream = new int[30];
+        stream[0] = colorOf('I');
+        stream[1] = colorOf('O');
+        int remaining = BagSampler.remaining(stream, 2);
+
+        // When
+        BagSampler.fill(stream, 2, stream.length, remaining, new SplittableRandom(9L));
+
+        // Then - every window of seven starting on a bag boundary holds all seven pieces
+        for (int bag = 0; bag + 7 <= stream.length; bag += 7) {
+            int seen = 0;
+            for (int i = bag; i < bag + 7; i++) {
+                seen |= 1 << (stream[i] - 1);
+            }
+            assertEquals(0x7F, seen, "Bag starting at " + bag);
+        }
+    }
+
+    @Test
+    @DisplayName("Board reports the pieces dealt from the current bag")
+    void boardReportsBag() {
+        Board board = newBoard(4L);
+
+        List<int[][]> dealt = board.getDealtFromBagData();
+
+        assertEquals(1, dealt.size(), "Only the current brick has been dealt");
+        assertEquals(PieceShape.of(board.getCurrentBrick()), PieceShape.of(dealt.get(0)));
+    }
+
+    // ========== Play ==========
+
+    @Test
+    @DisplayName("Placements, including held ones, land where planned")
+    void placementsAreExecutable() {
+        try (MonteCarloPlayer player = new MonteCarloPlayer(EvaluationWeights.DEFAULT, 2, 4, 8, 6, 1L)) {
+            Board board = newBoard(3L);
+            for (int i = 0; i < 60; i++) {
+                Placement placement = player.choosePlacement(board);
+                assertNotNull(placement, "Should find a placement at piece " + i);
+                apply(board, placement);
+            }
+            assertTrue(player.getLastPieces() > 0);
+            assertTrue(player.getLastPiecesPerMillisecond() > 0);
+        }
+    }
+
+    @Test
+    @DisplayName("A passed deadline skips the rollouts and a distant one changes nothing")
+    void deadlineSkipsRollouts() {
+        try (MonteCarloPlayer plain = new MonteCarloPlayer(EvaluationWeights.DEFAULT, 2, 4, 8, 6, 1L);
+             MonteCarloPlayer timed = new MonteCarloPlayer(EvaluationWeights.DEFAULT, 2, 4, 8, 6, 1L);
+             MonteCarloPlayer rushed = new MonteCarloPlayer(EvaluationWeights.DEFAULT, 2, 4, 8, 6, 1L)) {
+            Board board = newBoard(3L);
+
+            // When
+            Placement expected = plain.choosePlacement(board);
+            Placement distant = timed.choosePlacement(board, System.nanoTime() + 60_000_000_000L);
+            Placement passed = rushed.choosePlacement(board, System.nanoTime() - 1);
+
+            // Then - the distant deadline plays every rollout, the passed one none
+            assertEquals(expected.toString(), distant.toString());
+            assertEquals(plain.getLastPieces(), timed.getLastPieces());
+            assertNotNull(passed);
+            assertEquals(0, rushed.getLastPieces());
+        }
+    }
+
+    @Test
+    @DisplayName("Chooses the same move on any number of threads")
+    void sameMoveForAnyThreadCount() {
+        try (MonteCarloPlayer single = new MonteCarloPlayer(EvaluationWeights.DEFAULT, 1, 5, 12, 8, 7L);
+             MonteCarloPlayer parallel = new MonteCarloPlayer(EvaluationWeights.DEFAULT, 4, 5, 12, 8, 7L)) {
+            Board board = newBoard(5L);
+            for (int i = 0; i < 12; i++) {
+                // When
+                Placement expected = single.choosePlacement(board);
+                Placement actual = parallel.choosePlacement(board);
+
+                // Then
+                assertEquals(single.getLastPieces(), parallel.getLastPieces());
+                assertEquals(expected.getRotation(), actual.getRotation(), "Rotation at piece " + i);
+                assertEquals(expected.getX(), actual.getX(), "X at piece " + i);
+                assertEquals(expected.getY(), actual.getY(), "Y at piece " + i);
+                assertEquals(expected.isHold(), actual.isHold(), "Hold at piece " + i);
+                apply(board, expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Default players share the common pool and closing one leaves it running")
+    void defaultPlayersSharePool() {
+        // Given: two default players, as BatchSimulator creates one per game
+        MonteCarloPlayer first = new MonteCarloPlayer(1L);
+        MonteCarloPlayer second = new MonteCarloPlayer(2L);
+        assertEquals(ForkJoinPool.getCommonPoolParallelism(), first.getParallelism());
+
+        // When: one game finishes
+        first.close();
+
+        // Then: the other still plays
+        assertNotNull(second.choosePlacement(newBoard(2L)));
+        assertFalse(ForkJoinPool.commonPool().isShutdown());
+        second.close();
+    }
+
+    @Test
+    @DisplayName("Rejects invalid settings")
+    void rejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new MonteCarloPlayer(EvaluationWeights.DEFAULT, 0, 4, 8, 6, 1L));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MonteCarloPlayer(EvaluationWeights.DEFAULT, 1, 0, 8, 6, 1L));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MonteCarloPlayer(EvaluationWeights.DEFAULT, 1, 4, 0, 6, 1L));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MonteCarloPlayer(EvaluationWeights.DEFAULT, 1, 4, 8, -1, 1L));
+    }
+}
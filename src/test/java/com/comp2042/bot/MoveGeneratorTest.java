@@ -0,0 +1,194 @@
+package com.comp2042.bot;
+
+import com.comp2042.brick.Brick;
+import com.comp2042.brick.BrickGenerator;
+import com.comp2042.brick.pieces.*;
+import com.comp2042.core.Board;
+import com.comp2042.core.SimpleBoard;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+
+// Tests for MoveGenerator - reachable placements and input paths
+class MoveGeneratorTest {
+
+    private static final int WIDTH = 10;
+    private static final int HEIGHT = 25;
+
+    private final MoveGenerator generator = new MoveGenerator(WIDTH, HEIGHT);
+
+    /** Board whose generator deals the same brick type forever. */
+    private static Board boardDealing(Supplier<Brick> brick) {
+        Supplier<BrickGenerator> factory = () -> new BrickGenerator() {
+            private Brick next = brick.get();
+
+            @Override
+            public Brick getBrick() {
+                Brick current = next;
+                next = brick.get();
+                return current;
+            }
+
+            @Override
+            public List<Brick> getNextBricks(int count) {
+                List<Brick> bricks = new ArrayList<>();
+                for (int i = 0; i < count; i++) {bricks.add(brick.get());}
+                return bricks;
+            }
+        };
+        Board board = new SimpleBoard(WIDTH, HEIGHT, factory);
+        board.newGame();
+        return board;
+    }
+
+    private int generate(Board board) {
+        return generator.generate(BitBoard.fromMatrix(board.getBoardMatrix()),
+                PieceShape.of(board.getCurrentBrick()), 0,
+                board.getViewData().getxPosition(), board.getViewData().getyPosition());
+    }
+
+    /** Plays a path on the real board and returns where the brick rests before locking. */
+    private static int[] replay(Board board, List<BotAction> path) {
+        int rotation = 0;
+        int rotations = board.getCurrentBrick().getShapeMatrix().size();
+        for (BotAction action : path) {
+            switch (action) {
+                case LEFT -> assertTrue(board.moveBrickLeft(), "Left should succeed");
+                case RIGHT -> assertTrue(board.moveBrickRight(), "Right should succeed");
+                case SOFT_DROP -> assertTrue(board.moveBrickDown(), "Soft drop should succeed");
+                case ROTATE -> {
+                    assertTrue(board.rotateLeftBrick(), "Rotate should succeed");
+                    rotation = (rotation + 1) % rotations;
+                }
+                case HARD_DROP -> {
+                    while (board.moveBrickDown()) { }
+                }
+            }
+        }
+        return new int[] {rotation, board.getViewData().getxPosition(), board.getViewData().getyPosition()};
+    }
+
+    // ========== Empty Board ==========
+
+    @Test
+    @DisplayName("Empty board has one placement per rotation and column")
+    void emptyBoardCounts() {
+        assertEquals(17, generate(boardDealing(IBrick::new)), "I");
+        assertEquals(9, generate(boardDealing(OBrick::new)), "O");
+        assertEquals(34, generate(boardDealing(TBrick::new)), "T");
+        assertEquals(34, generate(boardDealing(JBrick::new)), "J");
+        assertEquals(34, generate(boardDealing(LBrick::new)), "L");
+    }
+
+    @Test
+    @DisplayName("Plain drop needs no more than rotations, shifts and a hard drop")
+    void plainDropPathIsShort() {
+        Board board = boardDealing(TBrick::new);
+        int count = generate(board);
+
+        for (int i = 0; i < count; i++) {
+            for (BotAction action : generator.getPath(i)) {
+                assertNotEquals(BotAction.SOFT_DROP, action, "Empty board never needs a soft drop");
+            }
+        }
+    }
+
+    // ========== Tucks ==========
+
+    @Test
+    @DisplayName("Finds a tuck under an overhang")
+    void findsTuck() {
+        Board board = boardDealing(OBrick::new);
+        int[][] matrix = board.getBoardMatrix();
+        // Roof over columns 0-3 at row 22, open below
+        for (int col = 0; col < 4; col++) {
+            matrix[22][col] = 1;
+        }
+
+        int count = generate(board);
+        int tuck = -1;
+        for (int i = 0; i < count; i++) {
+            // O shape fills rows and columns 1-2 of its matrix: cells (0-1, 23-24)
+            if (generator.getX(i) == -1 && generator.getY(i) == 22) {
+                tuck = i;
+            }
+        }
+        assertTrue(tuck >= 0, "Should find the O tucked under the roof");
+        assertTrue(generator.getPath(tuck).contains(BotAction.SOFT_DROP), "A tuck needs a soft drop");
+
+        int[] rest = replay(board, generator.getPath(tuck));
+        assertEquals(generator.getX(tuck), rest[1]);
+        assertEquals(generator.getY(tuck), rest[2]);
+    }
+
+    // ========== Agreement With The Engine ==========
+
+    @Test
+    @DisplayName("Every path replays on SimpleBoard to its placement")
+    void pathsReplayOnEngine() {
+        Random random = new Random(11);
+        List<Supplier<Brick>> bricks = List.of(
+                IBrick::new, JBrick::new, LBrick::new, OBrick::new, SBrick::new, TBrick::new, ZBrick::new
+        );
+
+        for (int trial = 0; trial < 14; trial++) {
+            Supplier<Brick> brick = bricks.get(trial % bricks.size());
+            long seed = random.nextLong();
+            int count = generate(randomBoard(brick, seed));
+            assertTrue(count > 0);
+
+            for (int i = 0; i < count; i++) {
+                Board board = randomBoard(brick, seed);
+                int[] rest = replay(board, generator.getPath(i));
+                assertEquals(generator.getRotation(i), rest[0], "Rotation of placement " + i);
+                assertEquals(generator.getX(i), rest[1], "X of placement " + i);
+                assertEquals(generator.getY(i), rest[2], "Y of placement " + i);
+            }
+        }
+    }
+
+    private static Board randomBoard(Supplier<Brick> brick, long seed) {
+        Board board = boardDealing(brick);
+        Random random = new Random(seed);
+        int[][] matrix = board.getBoardMatrix();
+        for (int row = 14; row < HEIGHT; row++) {
+            for (int col = 0; col < WIDTH; col++) {
+                if (random.nextInt(5) < 2) {matrix[row][col] = 1;}
+            }
+        }
+        return board;
+    }
+
+    @Test
+    @DisplayName("Includes every straight-drop placement")
+    void includesDropPlacements() {
+        Board board = randomBoard(SBrick::new, 5L);
+        int count = generate(board);
+        Set<Placement> found = new HashSet<>();
+        for (int i = 0; i < count; i++) {found.add(generator.getPlacement(i));}
+
+        List<Placement> drops = DropPlacements.enumerate(board.getBoardMatrix(), board.getCurrentBrick(),
+                board.getViewData().getyPosition());
+        assertFalse(drops.isEmpty());
+        for (Placement drop : drops) {
+            assertTrue(found.contains(drop), "Missing " + drop);
+        }
+    }
+
+    @Test
+    @DisplayName("Blocked start position yields no placements")
+    void blockedStart() {
+        BitBoard board = new BitBoard(WIDTH, HEIGHT);
+        PieceShape piece = PieceShape.ofColor(6);
+
+        assertEquals(0, generator.generate(board, piece, 0, -3, 0));
+        assertEquals(0, generator.getCount());
+    }
+}
@@ -0,0 +1,179 @@
+package com.comp2042.bot;
+
+import com.comp2042.core.Board;
+import com.comp2042.core.SimpleBoard;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for ParallelSearchPlayer, StripedTranspositionTable and SearchBenchmark
+class ParallelSearchPlayerTest {
+
+    private static final long GENEROUS_BUDGET = 5_000_000_000L;
+
+    private static Board newBoard(long seed) {
+        Board board = new SimpleBoard(10, 25, seed);
+        board.newGame();
+        return board;
+    }
+
+    private static void apply(Board board, Placement placement) {
+        PlacementExecutor.execute(board, placement);
+        assertEquals(placement.getX(), board.getViewData().getxPosition());
+        assertEquals(placement.getY(), board.getViewData().getyPosition());
+        board.mergeBrickToBackground();
+        board.clearRows();
+        assertFalse(board.checkGameOver() || board.createNewBrick(), "Should not top out");
+    }
+
+    // ========== Play ==========
+
+    @Test
+    @DisplayName("Placements, including held ones, land where planned")
+    void placementsAreExecutable() {
+        try (ParallelSearchPlayer player = new ParallelSearchPlayer(EvaluationWeights.DEFAULT, 2, 4, 5_000_000L)) {
+            Board board = newBoard(3L);
+            for (int i = 0; i < 60; i++) {
+                Placement placement = player.choosePlacement(board);
+                assertNotNull(placement, "Should find a placement at piece " + i);
+                apply(board, placement);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Searches through the whole preview queue given time")
+    void searchesFullDepth() {
+        try (ParallelSearchPlayer player = new ParallelSearchPlayer(EvaluationWeights.DEFAULT, 2, 2, GENEROUS_BUDGET)) {
+            player.choosePlacement(newBoard(1L));
+
+            assertEquals(6, player.getLastDepth(), "Current brick plus five previews");
+            assertTrue(player.getLastNodes() > 0);
+        }
+    }
+
+    @Test
+    @DisplayName("Zero budget still returns a one-piece decision")
+    void zeroBudgetDegrades() {
+        try (ParallelSearchPlayer player = new ParallelSearchPlayer(EvaluationWeights.DEFAULT, 2, 8, 0L)) {
+            Placement placement = player.choosePlacement(newBoard(1L));
+
+            assertNotNull(placement);
+            assertEquals(1, player.getLastDepth());
+        }
+    }
+
+    @Test
+    @DisplayName("Completed searches choose the same move on any number of threads")
+    void sameMoveForAnyThreadCount() {
+        // Given - two players that both finish every depth
+        try (ParallelSearchPlayer single = new ParallelSearchPlayer(EvaluationWeights.DEFAULT, 1, 3, GENEROUS_BUDGET);
+             ParallelSearchPlayer parallel = new ParallelSearchPlayer(EvaluationWeights.DEFAULT, 4, 3, GENEROUS_BUDGET)) {
+            Board board = newBoard(5L);
+            for (int i = 0; i < 8; i++) {
+                // When
+                Placement expected = single.choosePlacement(board);
+                Placement actual = parallel.choosePlacement(board);
+
+                // Then
+                assertEquals(single.getLastDepth(), parallel.getLastDepth());
+                assertEquals(expected.getRotation(), actual.getRotation(), "Rotation at piece " + i);
+                assertEquals(expected.getX(), actual.getX(), "X at piece " + i);
+                assertEquals(expected.getY(), actual.getY(), "Y at piece " + i);
+                assertEquals(expected.isHold(), actual.isHold(), "Hold at piece " + i);
+                apply(board, expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Default players share the common pool and closing one leaves it running")
+    void defaultPlayersSharePool() {
+        // Given: two default players, as BatchSimulator creates one per game
+        ParallelSearchPlayer first = new ParallelSearchPlayer();
+        ParallelSearchPlayer second = new ParallelSearchPlayer();
+        assertEquals(ForkJoinPool.getCommonPoolParallelism(), first.getParallelism());
+
+        // When: one game finishes
+        first.close();
+
+        // Then: the other still searches
+        assertNotNull(second.choosePlacement(newBoard(2L)));
+        assertFalse(ForkJoinPool.commonPool().isShutdown());
+        second.close();
+    }
+
+    @Test
+    @DisplayName("Rejects invalid settings")
+    void rejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParallelSearchPlayer(EvaluationWeights.DEFAULT, 0, 8, 1L));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParallelSearchPlayer(EvaluationWeights.DEFAULT, 1, 0, 1L));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParallelSearchPlayer(EvaluationWeights.DEFAULT, 1, 8, -1L));
+    }
+
+    // ========== Striped Transposition Table ==========
+
+    @Test
+    @DisplayName("Table accepts a position again only with a better score")
+    void tableKeepsBestScore() {
+        StripedTranspositionTable table = new StripedTranspositionTable(2, 4);
+
+        assertTrue(table.offer(42L, 1.0, 0));
+        assertFalse(table.offer(42L, 1.0, 0), "Same score from the same branch");
+        assertFalse(table.offer(42L, 0.5, 0), "Worse score");
+        assertTrue(table.offer(42L, 2.0, 0), "Better score");
+    }
+
+    @Test
+    @DisplayName("Equal scores go to the lower-numbered branch")
+    void tableBreaksTiesByBranch() {
+        StripedTranspositionTable table = new StripedTranspositionTable(2, 4);
+
+        assertTrue(table.offer(7L, 1.0, 5));
+        assertTrue(table.offer(7L, 1.0, 2), "Lower branch takes over");
+        assertFalse(table.offer(7L, 1.0, 5), "Higher branch no longer owns it");
+    }
+
+    @Test
+    @DisplayName("Cleared or full table accepts keys")
+    void tableClearAndFull() {
+        StripedTranspositionTable table = new StripedTranspositionTable(0, 2);
+        assertTrue(table.offer(1L, 0.0, 0));
+        table.clear();
+        assertTrue(table.offer(1L, 0.0, 0), "Cleared table forgets keys");
+
+        for (long key = 0; key < 100; key++) {
+            table.offer(key * 4, 0.0, 0);
+        }
+        assertEquals(4, table.capacity());
+        assertTrue(table.offer(1_000L, 0.0, 0), "Unrecordable keys are treated as new");
+    }
+
+    // ========== Benchmark ==========
+
+    @Test
+    @DisplayName("Benchmark reports one row per thread count on the same positions")
+    void benchmarkRows() {
+        // Given
+        SearchBenchmark benchmark = new SearchBenchmark(new int[]{1, 2}, 1_000_000L, 3);
+
+        // When
+        List<SearchBenchmark.Row> rows = benchmark.run(new long[]{1L, 2L});
+
+        // Then
+        assertEquals(2, rows.size());
+        assertEquals(1, rows.get(0).getThreads());
+        assertEquals(2, rows.get(1).getThreads());
+        assertEquals(6, rows.get(0).getDecisions());
+        assertEquals(rows.get(0).getDecisions(), rows.get(1).getDecisions());
+        assertEquals(1.0, rows.get(0).getSpeedup(), 1e-9);
+        assertTrue(rows.get(1).getMeanDepth() >= 1.0);
+    }
+}
@@ -0,0 +1,289 @@
+package com.comp2042.bot;
+
+import com.comp2042.brick.Brick;
+import com.comp2042.brick.BrickGenerator;
+import com.comp2042.brick.pieces.*;
+import com.comp2042.core.Board;
+import com.comp2042.core.SimpleBoard;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Tests for PerfectClearSolver - finding, replaying and enumerating perfect clears
+class PerfectClearSolverTest {
+
+    private static final int WIDTH = 10;
+    private static final int HEIGHT = 25;
+
+    private final PerfectClearSolver solver = new PerfectClearSolver();
+
+    private static Brick brickFor(char letter) {
+        return switch (letter) {
+            case 'I' -> new IBrick();
+            case 'J' -> new JBrick();
+            case 'L' -> new LBrick();
+            case 'O' -> new OBrick();
+            case 'S' -> new SBrick();
+            case 'T' -> new TBrick();
+            default -> new ZBrick();
+        };
+    }
+
+    /** Board whose generator deals the given letters, then I bricks. */
+    private static Board boardDealing(String letters) {
+        BrickGenerator generator = new BrickGenerator() {
+            private int dealt;
+
+            @Override
+            public Brick getBrick() {
+                return brickFor(dealt < letters.length() ? letters.charAt(dealt++) : 'I');
+            }
+
+            @Override
+            public List<Brick> getNextBricks(int count) {
+                List<Brick> bricks = new ArrayList<>();
+                for (int i = 0; i < count; i++) {
+                    int at = dealt + i;
+                    bricks.add(brickFor(at < letters.length() ? letters.charAt(at) : 'I'));
+                }
+                return bricks;
+            }
+        };
+        Board board = new SimpleBoard(WIDTH, HEIGHT, () -> generator);
+        board.newGame();
+        return board;
+    }
+
+    /** Plays every step of a solution on the real board. */
+    private static void replay(Board board, PerfectClearSolution solution) {
+        for (int step = 0; step < solution.size(); step++) {
+            for (BotAction action : solution.getInputs(step)) {
+                switch (action) {
+                    case HOLD -> assertTrue(board.holdCurrentBrick(), "Hold should succeed");
+                    case LEFT -> assertTrue(board.moveBrickLeft(), "Left should succeed");
+                    case RIGHT -> assertTrue(board.moveBrickRight(), "Right should succeed");
+                    case SOFT_DROP -> assertTrue(board.moveBrickDown(), "Soft drop should succeed");
+                    case ROTATE -> assertTrue(board.rotateLeftBrick(), "Rotate should succeed");
+                    case HARD_DROP -> {
+                        while (board.moveBrickDown()) { }
+                        board.mergeBrickToBackground();
+                        board.clearRows();
+                        assertFalse(board.createNewBrick(), "Solution should not top out");
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean isEmpty(int[][] matrix) {
+        for (int[] row : matrix) {
+            for (int cell : row) {
+                if (cell != 0) {return false;}
+            }
+        }
+        return true;
+    }
+
+    private static BitBoard stack(String... rows) {
+        int[][] matrix = new int[HEIGHT][WIDTH];
+        for (int r = 0; r < rows.length; r++) {
+            for (int c = 0; c < WIDTH; c++) {
+                matrix[HEIGHT - rows.length + r][c] = rows[r].charAt(c) == '#' ? 8 : 0;
+            }
+        }
+        return BitBoard.fromMatrix(matrix);
+    }
+
+    // ========== Finding Solutions ==========
+
+    @Test
+    @DisplayName("Finds a two-line perfect clear from an empty board")
+    void twoLineFromEmpty() {
+        PerfectClearSolution solution = solver.findFirst(new BitBoard(WIDTH, HEIGHT), "IIOOLJT", null);
+
+        assertNotNull(solution);
+        assertEquals(2, solution.getHeight());
+        assertEquals(5, solution.size());
+    }
+
+    @Test
+    @DisplayName("Finds a four-line perfect clear opening quickly")
+    void fourLineOpening() {
+        // Given - first bag plus four pieces of the second, as after two previews refills
+        solver.findFirst(new BitBoard(WIDTH, HEIGHT), "TILJSZOTILJ", null);
+
+        // When
+        long start = System.nanoTime();
+        PerfectClearSolution solution = solver.findFirst(new BitBoard(WIDTH, HEIGHT), "TILJSZOTILJ", null);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        // Then - the bound is loose so slow build machines pass too
+        assertNotNull(solution);
+        assertEquals(4, solution.getHeight());
+        assertEquals(10, solution.size());
+        assertTrue(millis < 2_000, "Took " + millis + " ms");
+    }
+
+    @Test
+    @DisplayName("Uses the held piece")
+    void usesHold() {
+        PerfectClearSolution solution = solver.findFirst(new BitBoard(WIDTH, HEIGHT), "OOLJT",
+                PieceShape.ofLetter('I'));
+
+        assertNotNull(solution);
+        assertEquals(5, solution.size());
+        assertTrue(solution.getPlacements().stream().anyMatch(Placement::isHold));
+        assertTrue(solution.getPieces().indexOf('I') >= 0, solution.toString());
+    }
+
+    @Test
+    @DisplayName("Finishes an existing stack")
+    void finishesStack() {
+        BitBoard board = stack("####....##", "####....##");
+
+        PerfectClearSolution solution = solver.findFirst(board, "OO", null);
+
+        assertNotNull(solution);
+        assertEquals(2, solution.getHeight());
+        assertEquals(2, solution.size());
+    }
+
+    // ========== Pruning ==========
+
+    @Test
+    @DisplayName("No solution when no height leaves a multiple of four empty cells")
+    void cellCountParity() {
+        BitBoard board = stack("#########.");
+
+        assertNull(solver.findFirst(board, "IIIIIIIIII", null));
+    }
+
+    @Test
+    @DisplayName("No solution when column parity cannot be fixed by the queue")
+    void columnParity() {
+        // Given - a well in an odd column that only an upright I can fill
+        BitBoard board = stack("#.########", "#.########", "#.########", "#.########");
+
+        // Then - O, S and Z pieces never change the column balance
+        assertNull(solver.findFirst(board, "OSZOSZ", null));
+        assertNotNull(solver.findFirst(board, "OI", null));
+    }
+
+    @Test
+    @DisplayName("No solution when the queue runs out")
+    void queueTooShort() {
+        assertNull(solver.findFirst(new BitBoard(WIDTH, HEIGHT), "IOL", null));
+        // The held piece can only be played by holding a queue piece instead
+        assertNull(solver.findFirst(new BitBoard(WIDTH, HEIGHT), "OOLJ", PieceShape.ofLetter('I')));
+    }
+
+    // ========== Agreement With The Engine ==========
+
+    @Test
+    @DisplayName("Four-line solution replays on SimpleBoard to an empty board")
+    void fourLineReplaysOnEngine() {
+        Board board = boardDealing("TILJSZOTILJ");
+        PerfectClearSolution solution = solver.findFirst(new BitBoard(WIDTH, HEIGHT), "TILJSZOTILJ", null);
+
+        replay(board, solution);
+
+        assertTrue(isEmpty(board.getBoardMatrix()));
+    }
+
+    @Test
+    @DisplayName("Hint for a running game uses the previews and replays to an empty board")
+    void solvesRunningGame() {
+        // Given
+        Board board = boardDealing("IIOOLJT");
+
+        // When
+        PerfectClearSolution solution = solver.solve(board);
+
+        // Then
+        assertNotNull(solution);
+        assertEquals(4, solution.getCells(0).length);
+        replay(board, solution);
+        assertTrue(isEmpty(board.getBoardMatrix()));
+    }
+
+    @Test
+    @DisplayName("Hint starts from where the current brick has moved to")
+    void solvesMovedBrick() {
+        Board board = boardDealing("IIOOLJT");
+        board.moveBrickLeft();
+        board.rotateLeftBrick();
+        board.moveBrickDown();
+
+        PerfectClearSolution solution = solver.solve(board);
+
+        assertNotNull(solution);
+        replay(board, solution);
+        assertTrue(isEmpty(board.getBoardMatrix()));
+    }
+
+    @Test
+    @DisplayName("An interrupted solve gives up without a solution")
+    void interruptedSolveGivesUp() {
+        // Given - a game that has a perfect clear
+        Board board = boardDealing("IIOOLJT");
+
+        // When - the solving thread has been interrupted
+        Thread.currentThread().interrupt();
+        PerfectClearSolution solution;
+        try {
+            solution = solver.solve(board);
+        } finally {
+            Thread.interrupted();
+        }
+
+        // Then
+        assertNull(solution);
+        assertNotNull(solver.solve(board));
+    }
+
+    // ========== Enumeration ==========
+
+    @Test
+    @DisplayName("Parallel enumeration lists the same solutions as one thread")
+    void parallelMatchesSequential() {
+        BitBoard board = new BitBoard(WIDTH, HEIGHT);
+
+        List<PerfectClearSolution> one = new PerfectClearSolver(1, 4).findAll(board, "IIOOLJT", null, 1000);
+        List<PerfectClearSolution> four = new PerfectClearSolver(4, 4).findAll(board, "IIOOLJT", null, 1000);
+
+        assertTrue(one.size() > 1);
+        assertEquals(one.toString(), four.toString());
+    }
+
+    @Test
+    @DisplayName("Enumeration stops at the limit")
+    void enumerationLimit() {
+        assertEquals(3, new PerfectClearSolver(4, 4)
+                .findAll(new BitBoard(WIDTH, HEIGHT), "IIOOLJT", null, 3).size());
+    }
+
+    @Test
+    @DisplayName("Rejects invalid settings")
+    void rejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new PerfectClearSolver(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new PerfectClearSolver(1, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> solver.findAll(new BitBoard(WIDTH, HEIGHT), "IO", null, 0));
+    }
+
+    // ========== Shapes ==========
+
+    @Test
+    @DisplayName("rotationOf recognises every rotation of a brick")
+    void rotationOf() {
+        Brick brick = new TBrick();
+        PieceShape shape = PieceShape.of(brick);
+        for (int r = 0; r < brick.getShapeMatrix().size(); r++) {
+            assertEquals(r, shape.rotationOf(brick.getShapeMatrix().get(r)));
+        }
+        assertEquals(-1, shape.rotationOf(new IBrick().getShapeMatrix().get(0)));
+    }
+}
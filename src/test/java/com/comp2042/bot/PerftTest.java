@@ -0,0 +1,170 @@
+package com.comp2042.bot;
+
+import com.comp2042.brick.Brick;
+import com.comp2042.brick.pieces.*;
+import com.comp2042.core.MatrixOperations;
+import com.comp2042.model.ClearRow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Tests for Perft - pinned counts for the reference positions
+class PerftTest {
+
+    // ========== Known Counts ==========
+
+    @Test
+    @DisplayName("Empty board counts")
+    void emptyCounts() {
+        assertCounts(PerftPosition.EMPTY, 34, 596, 5542);
+    }
+
+    @Test
+    @DisplayName("Overhang counts include tucks")
+    void overhangCounts() {
+        assertCounts(PerftPosition.OVERHANG, 13, 517, 9696);
+    }
+
+    @Test
+    @DisplayName("T-spin slot counts include kick spins")
+    void tSpinSlotCounts() {
+        assertCounts(PerftPosition.TSPIN_SLOT, 37, 1357, 24040);
+    }
+
+    @Test
+    @DisplayName("Tall stack counts stop at top-outs")
+    void tallStackCounts() {
+        assertCounts(PerftPosition.TALL_STACK, 17, 153, 1519);
+    }
+
+    private static void assertCounts(PerftPosition position, long... expected) {
+        Perft perft = new Perft();
+        for (int depth = 1; depth <= expected.length; depth++) {
+            assertEquals(expected[depth - 1], perft.run(position, depth, false).getLeaves(),
+                    position + " perft(" + depth + ")");
+        }
+    }
+
+    @Test
+    @DisplayName("Depth zero counts the start position")
+    void depthZero() {
+        assertEquals(1, new Perft().run(PerftPosition.EMPTY, 0, false).getLeaves());
+    }
+
+    @Test
+    @DisplayName("Different piece orders can reach the same board")
+    void distinctBoards() {
+        PerftResult result = new Perft().run(PerftPosition.TSPIN_SLOT, 2, true);
+
+        assertEquals(1357, result.getLeaves());
+        assertEquals(915, result.getDistinctBoards());
+    }
+
+    // ========== Parallel ==========
+
+    @Test
+    @DisplayName("Parallel perft matches the sequential count")
+    void parallelMatchesSequential() {
+        PerftResult sequential = new Perft(1).run(PerftPosition.OVERHANG, 3, true);
+        PerftResult parallel = new Perft(4).run(PerftPosition.OVERHANG, 3, true);
+
+        assertEquals(sequential.getLeaves(), parallel.getLeaves());
+        assertEquals(sequential.getNodes(), parallel.getNodes());
+        assertEquals(sequential.getDistinctBoards(), parallel.getDistinctBoards());
+        assertEquals(4, parallel.getThreads());
+    }
+
+    // ========== Independent Reference ==========
+
+    @Test
+    @DisplayName("Counts agree with a matrix-based reference search")
+    void agreesWithMatrixReference() {
+        for (PerftPosition position : PerftPosition.values()) {
+            int[][] matrix = toMatrix(position.createBoard());
+            long expected = referencePerft(matrix, position.getPieces(), 2);
+            assertEquals(expected, new Perft().run(position, 2, false).getLeaves(), position.name());
+        }
+    }
+
+    private static int[][] toMatrix(BitBoard board) {
+        int[][] matrix = new int[board.getHeight()][board.getWidth()];
+        for (int y = 0; y < board.getHeight(); y++) {
+            for (int x = 0; x < board.getWidth(); x++) {
+                matrix[y][x] = board.isFilled(x, y) ? 1 : 0;
+            }
+        }
+        return matrix;
+    }
+
+    private static Brick brickOf(char letter) {
+        return switch (letter) {
+            case 'I' -> new IBrick();
+            case 'J' -> new JBrick();
+            case 'L' -> new LBrick();
+            case 'O' -> new OBrick();
+            case 'S' -> new SBrick();
+            case 'T' -> new TBrick();
+            default -> new ZBrick();
+        };
+    }
+
+    /** Plain BFS with MatrixOperations and the engine's rotation rule. */
+    private static long referencePerft(int[][] matrix, String pieces, int depth) {
+        if (depth == 0) {return 1;}
+        int width = matrix[0].length;
+        boolean nearTop = false;
+        for (int x = 0; x < width; x++) {
+            nearTop |= matrix[0][x] != 0 || matrix[1][x] != 0;
+        }
+        for (int x = 0; x < width; x++) {
+            if (matrix[0][x] != 0) {return 0;}
+        }
+        List<int[][]> shapes = brickOf(pieces.charAt(0)).getShapeMatrix();
+        int spawnX = width / 2 - 2;
+        int spawnY = nearTop ? -2 : -1;
+        if (MatrixOperations.intersect(matrix, shapes.get(0), spawnX, spawnY + 1)
+                || MatrixOperations.intersect(matrix, shapes.get(0), spawnX, spawnY)) {
+            return 0;
+        }
+
+        Set<List<Integer>> seen = new HashSet<>();
+        Set<List<Integer>> rests = new HashSet<>();
+        Deque<int[]> queue = new ArrayDeque<>();
+        queue.add(new int[] {0, spawnX, spawnY});
+        seen.add(List.of(0, spawnX, spawnY));
+        while (!queue.isEmpty()) {
+            int[] s = queue.poll();
+            int y = s[2];
+            while (!MatrixOperations.intersect(matrix, shapes.get(s[0]), s[1], y + 1)) {y++;}
+            rests.add(List.of(s[0], s[1], y));
+
+            int next = (s[0] + 1) % shapes.size();
+            int[] kicks = {0, -1, -2, -3, 1, 2, 3};
+            int[][] moves = {{s[0], s[1] - 1, s[2]}, {s[0], s[1] + 1, s[2]}, {s[0], s[1], s[2] + 1}, null};
+            for (int kick : kicks) {
+                if (!MatrixOperations.intersect(matrix, shapes.get(next), s[1] + kick, s[2])) {
+                    moves[3] = new int[] {next, s[1] + kick, s[2]};
+                    break;
+                }
+            }
+            for (int[] m : moves) {
+                if (m == null || MatrixOperations.intersect(matrix, shapes.get(m[0]), m[1], m[2])) {continue;}
+                if (seen.add(List.of(m[0], m[1], m[2]))) {queue.add(m);}
+            }
+        }
+
+        long leaves = 0;
+        for (List<Integer> rest : rests) {
+            int[][] merged = MatrixOperations.merge(matrix, shapes.get(rest.get(0)), rest.get(1), rest.get(2));
+            ClearRow clear = MatrixOperations.checkRemoving(merged);
+            leaves += referencePerft(clear.getNewMatrix(), pieces.substring(1), depth - 1);
+        }
+        return leaves;
+    }
+}
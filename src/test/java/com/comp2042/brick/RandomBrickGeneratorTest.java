@@ -6,6 +6,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.RepeatedTest;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.HashSet;
 import java.util.Set;
@@ -288,6 +289,32 @@ class RandomBrickGeneratorTest {
         assertEquals(7, new HashSet<>(bag2).size(), "Bag 2 should have all 7 types");
     }
 
+    @Test
+    @DisplayName("Seeded: Same seed produces the same sequence")
+    void seededSameSeedSameSequence() {
+        // Given: Two generators with the same seed
+        RandomBrickGenerator gen1 = new RandomBrickGenerator(42L);
+        RandomBrickGenerator gen2 = new RandomBrickGenerator(42L);
+        // Then: Every brick matches
+        for (int i = 0; i < 50; i++) {
+            assertEquals(getBrickType(gen1.getBrick()), getBrickType(gen2.getBrick()),
+                    String.format("Brick %d should match for equal seeds", i + 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Seeded: Seeded generator keeps 7-bag property")
+    void seededKeepsSevenBagProperty() {
+        // Given: A seeded generator
+        RandomBrickGenerator seeded = new RandomBrickGenerator(7L);
+        // Then: First bag has all types
+        Set<String> bagTypes = new HashSet<>();
+        for (int i = 0; i < 7; i++) {
+            bagTypes.add(getBrickType(seeded.getBrick()));
+        }
+        assertEquals(7, bagTypes.size(), "Seeded bag should contain all 7 types");
+    }
+
     // ========== Integration Tests ==========
 
     @Test
@@ -377,6 +404,40 @@ class RandomBrickGeneratorTest {
         assertTrue(allTypes.contains("ZBrick"), "Should have Z brick");
     }
 
+    // ========== Bag State ==========
+
+    @Test
+    @DisplayName("getDealtFromBag() lists the bricks dealt from the current bag")
+    void dealtFromBagTracksCurrentBag() {
+        // Given: A fresh generator has dealt nothing
+        assertTrue(generator.getDealtFromBag().isEmpty());
+
+        // When: Deal three bricks
+        List<String> dealt = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            dealt.add(getBrickType(generator.getBrick()));
+        }
+
+        // Then: They are reported in dealing order
+        List<Brick> reported = generator.getDealtFromBag();
+        assertEquals(3, reported.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(dealt.get(i), getBrickType(reported.get(i)));
+        }
+    }
+
+    @Test
+    @DisplayName("getDealtFromBag() starts over with each new bag")
+    void dealtFromBagResetsPerBag() {
+        for (int i = 0; i < 7; i++) {
+            generator.getBrick();
+        }
+        assertTrue(generator.getDealtFromBag().isEmpty(), "Next brick starts a new bag");
+
+        generator.getBrick();
+        assertEquals(1, generator.getDealtFromBag().size());
+    }
+
     // ========== Helper Methods ==========
     private String getBrickType(Brick brick) {
         return brick.getClass().getSimpleName();
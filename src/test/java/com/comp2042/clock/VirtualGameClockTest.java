@@ -0,0 +1,109 @@
+package com.comp2042.clock;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for VirtualGameClock - manually advanced time, ordering, pause and cancel
+class VirtualGameClockTest {
+
+    // ========== Ordering ==========
+
+    @Test
+    @DisplayName("Tasks run in due order, ties in schedule order, and read their due time")
+    void tasksRunInDueOrder() {
+        VirtualGameClock clock = new VirtualGameClock(1000, 16);
+        List<String> runs = new ArrayList<>();
+
+        clock.schedule(300, () -> runs.add("b@" + clock.millis()));
+        clock.schedule(100, () -> runs.add("a@" + clock.millis()));
+        clock.schedule(300, () -> runs.add("c@" + clock.millis()));
+
+        assertEquals(0, clock.advance(99));
+        assertEquals(3, clock.advance(1000));
+        assertEquals(List.of("a@1100", "b@1300", "c@1300"), runs);
+        assertEquals(2099, clock.millis());
+        assertEquals(0, clock.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("Tasks scheduled by a task run in the same advance when they fall due")
+    void nestedTasksRunInSameAdvance() {
+        VirtualGameClock clock = new VirtualGameClock();
+        List<Long> runs = new ArrayList<>();
+
+        clock.schedule(100, () -> clock.schedule(50, () -> runs.add(clock.millis())));
+
+        clock.advance(150);
+        assertEquals(List.of(150L), runs);
+        assertThrows(IllegalStateException.class, () -> {
+            clock.schedule(1, () -> clock.advance(1));
+            clock.advance(1);
+        });
+    }
+
+    // ========== Repeats ==========
+
+    @Test
+    @DisplayName("Repeats run their cycle count and frames come every frame period")
+    void repeatsAndFrames() {
+        VirtualGameClock clock = new VirtualGameClock();
+        int[] counts = new int[2];
+
+        ScheduledTask limited = clock.repeat(1000, 3, () -> counts[0]++);
+        ScheduledTask frames = clock.everyFrame(() -> counts[1]++);
+        clock.advance(10_000);
+
+        assertEquals(3, counts[0]);
+        assertFalse(limited.isActive());
+        assertEquals(625, counts[1]);
+        assertTrue(frames.isActive());
+        assertThrows(IllegalArgumentException.class, () -> clock.repeat(0, 1, () -> {}));
+        assertThrows(IllegalArgumentException.class, () -> clock.repeat(10, 0, () -> {}));
+        assertThrows(IllegalArgumentException.class, () -> clock.advance(-1));
+    }
+
+    // ========== Pause and Cancel ==========
+
+    @Test
+    @DisplayName("Resume carries on from where the period was paused")
+    void pauseKeepsPosition() {
+        // Given a drop every 800 ms paused 500 ms into its first period
+        VirtualGameClock clock = new VirtualGameClock();
+        List<Long> drops = new ArrayList<>();
+        ScheduledTask drop = clock.repeat(800, GameClock.INDEFINITE, () -> drops.add(clock.millis()));
+        clock.advance(500);
+        drop.pause();
+
+        // When a long pause passes
+        clock.advance(60_000);
+        assertTrue(drops.isEmpty());
+        assertEquals(0, clock.getPendingCount());
+
+        // Then the drop comes 300 ms after resuming, and every 800 ms after that
+        drop.resume();
+        clock.advance(1100);
+        assertEquals(List.of(60_800L, 61_600L), drops);
+    }
+
+    @Test
+    @DisplayName("A cancelled task never runs again, even if resumed")
+    void cancelIsFinal() {
+        VirtualGameClock clock = new VirtualGameClock();
+        int[] runs = new int[1];
+        ScheduledTask task = clock.repeat(100, GameClock.INDEFINITE, () -> runs[0]++);
+
+        clock.advance(250);
+        task.pause();
+        task.cancel();
+        task.resume();
+        clock.advance(1000);
+
+        assertEquals(2, runs[0]);
+        assertFalse(task.isActive());
+    }
+}
@@ -266,6 +266,36 @@ class SimpleBoardTest {
         assertEquals(1, board.getLinesCleared(), "Lines cleared should be 1");
     }
 
+    @Test
+    @DisplayName("addGarbageRows() pushes the stack up and adds rows with one hole")
+    void addGarbageRowsPushesStackUp() {
+        // Given: One cell on the floor
+        board.getBoardMatrix()[HEIGHT - 1][0] = 1;
+
+        // When: Two garbage rows with the hole in column 3
+        boolean overflow = board.addGarbageRows(2, 3);
+
+        // Then: Cell moved up two rows, garbage below with the hole
+        int[][] matrix = board.getBoardMatrix();
+        assertFalse(overflow, "Nothing should be pushed off the top");
+        assertEquals(1, matrix[HEIGHT - 3][0]);
+        for (int row = HEIGHT - 2; row < HEIGHT; row++) {
+            for (int col = 0; col < WIDTH; col++) {
+                assertEquals(col == 3 ? 0 : SimpleBoard.GARBAGE_COLOR, matrix[row][col]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("addGarbageRows() reports a stack pushed off the top")
+    void addGarbageRowsReportsOverflow() {
+        // Given: A cell in the top row
+        board.getBoardMatrix()[0][5] = 1;
+
+        // Then: Any garbage pushes it out
+        assertTrue(board.addGarbageRows(1, 0));
+    }
+
     // ========== Hold Function ==========
 
     @Test
@@ -0,0 +1,242 @@
+package com.comp2042.fumen;
+
+import com.comp2042.bot.PieceShape;
+import com.comp2042.bot.PlayerType;
+import com.comp2042.core.SimpleBoard;
+import com.comp2042.model.GameMode;
+import com.comp2042.sim.GameSimulator;
+import com.comp2042.sim.SimulationConfig;
+import com.comp2042.sim.TrainingDataReader;
+import com.comp2042.sim.TrainingDataWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for FumenReader, FumenWriter, FumenField and FumenConverter - fumen import and export
+class FumenTest {
+
+    private static void deleteTree(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    // ========== Format ==========
+
+    @Test
+    @DisplayName("An empty page is the well-known empty fumen")
+    void emptyPage() {
+        FumenWriter writer = new FumenWriter();
+        writer.addPage(new FumenField(), null, null);
+        assertEquals("v115@vhAAgH", writer.toString());
+
+        FumenReader reader = new FumenReader("https://fumen.zui.jp/?v115@vhAAgH");
+        assertTrue(reader.next());
+        assertTrue(reader.getField().isEmpty());
+        assertNull(reader.getOperation());
+        assertEquals("", reader.getComment());
+        assertFalse(reader.next());
+    }
+
+    @Test
+    @DisplayName("A piece is stored at its fumen centre")
+    void piecePosition() {
+        FumenOperation flatI = new FumenOperation(FumenPiece.I, FumenOperation.Rotation.SPAWN, 4, 0);
+        FumenWriter writer = new FumenWriter();
+        writer.addPage(new FumenField(), flatI, null);
+        assertEquals("v115@vhARQJ", writer.toString());
+
+        FumenReader reader = new FumenReader("v115@vhARQJ");
+        assertTrue(reader.next());
+        assertEquals(flatI, reader.getOperation());
+    }
+
+    @Test
+    @DisplayName("Every piece and rotation survives the format and is found from its cells")
+    void everyOrientationRoundTrips() {
+        for (FumenPiece piece : FumenPiece.values()) {
+            if (!piece.isMino()) {continue;}
+            for (FumenOperation.Rotation rotation : FumenOperation.Rotation.values()) {
+                FumenOperation operation = new FumenOperation(piece, rotation, 4, 10);
+                FumenWriter writer = new FumenWriter();
+                writer.addPage(new FumenField(), operation, null);
+                FumenReader reader = new FumenReader(writer.toString());
+                assertTrue(reader.next());
+                assertEquals(operation, reader.getOperation());
+
+                int[] xs = new int[4];
+                int[] ys = new int[4];
+                for (int mino = 0; mino < 4; mino++) {
+                    xs[mino] = operation.getCellX(mino);
+                    ys[mino] = operation.getCellY(mino);
+                }
+                FumenOperation found = FumenOperation.ofCells(piece, xs, ys);
+                assertNotNull(found, operation.toString());
+                FumenField expected = new FumenField();
+                expected.put(operation);
+                FumenField actual = new FumenField();
+                actual.put(found);
+                assertEquals(expected, actual, operation.toString());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A locked piece clears its line before the next page")
+    void lockClearsLines() {
+        // Given a bottom row with a four-wide gap and an I filling it
+        FumenField field = FumenField.parse("T........./XXX....XXX");
+        FumenWriter writer = new FumenWriter();
+        writer.addPage(field, new FumenOperation(FumenPiece.I, FumenOperation.Rotation.SPAWN, 4, 0), "clear");
+        writer.addPage(null, null);
+
+        // When the pages are read back
+        FumenReader reader = new FumenReader(writer.toString());
+        assertTrue(reader.next());
+        assertEquals("T........./XXX....XXX", reader.getField().toString());
+        assertTrue(reader.isLock());
+        assertTrue(reader.next());
+
+        // Then the row is gone and the comment carries over
+        assertEquals("T.........", reader.getField().toString());
+        assertEquals("clear", reader.getComment());
+        assertFalse(reader.next());
+    }
+
+    @Test
+    @DisplayName("Long replays with repeated pages and comments survive a round trip")
+    void textRoundTrip() {
+        StringBuilder text = new StringBuilder("#%u30C6%u30C8%u30EA%u30B9%20%3B%23");
+        for (int page = 1; page < 250; page++) {
+            text.append(';');
+            if (page % 100 == 0) {text.append("ZZ......../.ZZ.....XX@T,spawn,8,1#page%20").append(page);}
+        }
+        String fumen = FumenConverter.toFumen(text);
+
+        assertEquals(text.toString(), FumenConverter.toText(fumen));
+        FumenReader reader = new FumenReader(fumen);
+        assertTrue(reader.next());
+        assertEquals("\u30C6\u30C8\u30EA\u30B9 ;#", reader.getComment());
+    }
+
+    // ========== Boards ==========
+
+    @Test
+    @DisplayName("A puzzle loads into a board at the bottom with brick colours")
+    void loadsIntoBoard() {
+        SimpleBoard board = new SimpleBoard(GameSimulator.BOARD_WIDTH, GameSimulator.BOARD_HEIGHT, 3L);
+        board.newGame();
+        FumenReader reader = new FumenReader(FumenConverter.toFumen("I........./XXXXXXXX.."));
+        assertTrue(reader.next());
+
+        reader.getField().copyTo(board);
+
+        int[][] matrix = board.getBoardMatrix();
+        int bottom = matrix.length - 1;
+        assertEquals(PieceShape.ofLetter('I').getColor(), matrix[bottom - 1][0]);
+        assertEquals(SimpleBoard.GARBAGE_COLOR, matrix[bottom][7]);
+        assertEquals(0, matrix[bottom][8]);
+        assertEquals(0, matrix[bottom - 2][0]);
+
+        FumenField back = new FumenField();
+        back.load(matrix);
+        assertEquals(reader.getField(), back);
+    }
+
+    // ========== Conversion ==========
+
+    @Test
+    @DisplayName("Parallel batches give the same strings as one at a time")
+    void parallelBatch() {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            StringBuilder line = new StringBuilder();
+            for (int row = 0; row < i % 7; row++) {
+                if (row > 0) {line.append('/');}
+                line.append("XXXXXXXXXX", 0, 9 - row).append('.').append("SSSSSSSSS", 0, row);
+            }
+            line.append("@L,left,").append(i % 8 + 1).append(",19#entry%20").append(i);
+            lines.add(line.toString());
+        }
+
+        List<String> fumens = new FumenConverter(3).toFumen(lines);
+        List<String> back = new FumenConverter(2).toText(fumens);
+
+        for (int i = 0; i < lines.size(); i++) {
+            assertEquals(FumenConverter.toFumen(lines.get(i)), fumens.get(i));
+            assertEquals(lines.get(i), back.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Recorded games export as fumen whose pages match the records")
+    void exportsRecordedGames() throws IOException {
+        Path directory = Files.createTempDirectory("fumen-export");
+        try {
+            try (TrainingDataWriter writer = new TrainingDataWriter(directory, "games", 100)) {
+                for (int i = 0; i < 3; i++) {
+                    SimulationConfig config = new SimulationConfig(GameMode.NORMAL, 70L + i, 120, PlayerType.GREEDY);
+                    new GameSimulator(config, null, writer).run();
+                }
+            }
+            List<Path> shards = TrainingDataReader.shards(directory, "games");
+
+            List<String> games = FumenConverter.exportGames(shards);
+
+            assertEquals(3, games.size());
+            FumenReader fumen = null;
+            int pages = 0;
+            int[][] matrix = new int[GameSimulator.BOARD_HEIGHT][GameSimulator.BOARD_WIDTH];
+            for (Path shard : shards) {
+                try (TrainingDataReader reader = TrainingDataReader.open(shard)) {
+                    while (reader.next()) {
+                        if (reader.getPieceIndex() == 0) {
+                            if (fumen != null) {assertFalse(fumen.next(), "Every page was recorded");}
+                            fumen = new FumenReader(games.remove(0));
+                        }
+                        // A game is cut off where its stack no longer fits the fumen field
+                        if (!fumen.next()) {continue;}
+                        pages++;
+                        fumen.getField().copyTo(matrix);
+                        for (int y = 0; y < matrix.length; y++) {
+                            int mask = 0;
+                            for (int x = 0; x < matrix[y].length; x++) {
+                                if (matrix[y][x] != 0) {mask |= 1 << x;}
+                            }
+                            assertEquals(reader.row(y), mask, "Row " + y);
+                        }
+                        assertEquals(reader.getPiece().getLetter(), fumen.getOperation().getPiece().getLetter());
+                    }
+                }
+            }
+            assertTrue(pages > 100, "Most placements exported, got " + pages);
+        } finally {
+            deleteTree(directory);
+        }
+    }
+
+    @Test
+    @DisplayName("Malformed input is rejected with the entry it came from")
+    void rejectsMalformedInput() {
+        assertThrows(IllegalArgumentException.class, () -> new FumenReader("v110@7eAAgH"));
+        assertThrows(IllegalArgumentException.class, () -> new FumenReader("v115@vhA").next());
+        assertThrows(IllegalArgumentException.class, () -> new FumenReader("v115@vh!AgH").next());
+        assertThrows(IllegalArgumentException.class, () -> FumenConverter.toFumen("XXXX"));
+        assertThrows(IllegalArgumentException.class, () -> FumenConverter.toFumen("@T,spawn,0,0"));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> new FumenConverter(2).toText(List.of("v115@vhAAgH", "v115@vhAAgH", "junk")));
+        assertTrue(e.getMessage().contains("Entry 3"), e.getMessage());
+    }
+}
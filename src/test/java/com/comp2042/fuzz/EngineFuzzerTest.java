@@ -0,0 +1,100 @@
+package com.comp2042.fuzz;
+
+import com.comp2042.core.SimpleBoard;
+import com.comp2042.sim.GameSimulator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for EngineFuzzer and ReferenceBoard - differential checks against the frozen rules
+class EngineFuzzerTest {
+
+    /**
+     * Board with the early negative-x check BrickMover once had: bricks whose
+     * left column is empty cannot reach the left wall.
+     */
+    private static final class EarlyLeftWallBoard extends SimpleBoard {
+
+        EarlyLeftWallBoard(long seed) {
+            super(GameSimulator.BOARD_WIDTH, GameSimulator.BOARD_HEIGHT, seed);
+        }
+
+        @Override
+        public boolean moveBrickLeft() {
+            return getViewData().getxPosition() > 0 && super.moveBrickLeft();
+        }
+    }
+
+    // ========== Agreement ==========
+
+    @Test
+    @DisplayName("The production board agrees with the reference on random play")
+    void productionAgrees() {
+        FuzzResult result = new EngineFuzzer(2).run(0, 60, 1000);
+
+        assertNull(result.getDivergence(), String.valueOf(result.getDivergence()));
+        assertEquals(60, result.getCases());
+        assertEquals(60_000, result.getSteps());
+    }
+
+    @Test
+    @DisplayName("Steps are drawn the same way for a seed and cover every action")
+    void stepsAreReproducible() {
+        int[] steps = EngineFuzzer.generate(5, 5000);
+
+        assertTrue(Arrays.equals(steps, EngineFuzzer.generate(5, 5000)));
+        boolean[] seen = new boolean[EngineFuzzer.Action.values().length];
+        for (int step : steps) {
+            seen[EngineFuzzer.actionOf(step).ordinal()] = true;
+        }
+        for (EngineFuzzer.Action action : EngineFuzzer.Action.values()) {
+            assertTrue(seen[action.ordinal()], action.name());
+        }
+        assertEquals("GARBAGE 3 hole 7", EngineFuzzer.describe(EngineFuzzer.garbage(3, 7)));
+    }
+
+    // ========== Divergences ==========
+
+    @Test
+    @DisplayName("A changed rule is found and shrunk to a minimal repro")
+    void mutantIsShrunk() {
+        EngineFuzzer fuzzer = new EngineFuzzer(2, EarlyLeftWallBoard::new);
+
+        // When the mutant is fuzzed
+        FuzzResult result = fuzzer.run(0, 50, 1000);
+
+        // Then the divergence is short and every step is needed
+        Divergence divergence = result.getDivergence();
+        assertNotNull(divergence);
+        assertTrue(divergence.getLength() <= 12, divergence.describeSteps());
+        assertNotNull(fuzzer.check(divergence.getSeed(), divergence.getSteps()));
+        int[] steps = divergence.getSteps();
+        for (int skip = 0; skip < steps.length; skip++) {
+            int[] fewer = new int[steps.length - 1];
+            System.arraycopy(steps, 0, fewer, 0, skip);
+            System.arraycopy(steps, skip + 1, fewer, skip, fewer.length - skip);
+            assertNull(fuzzer.check(divergence.getSeed(), fewer), "Step " + skip + " can be removed");
+        }
+        assertEquals(EngineFuzzer.Action.LEFT, EngineFuzzer.actionOf(steps[steps.length - 1]));
+    }
+
+    @Test
+    @DisplayName("A hand-written sequence pins the difference it shows")
+    void handWrittenSequence() {
+        EngineFuzzer fuzzer = new EngineFuzzer(1, EarlyLeftWallBoard::new);
+        int[] steps = new int[8];
+        Arrays.fill(steps, EngineFuzzer.step(EngineFuzzer.Action.LEFT));
+
+        Divergence divergence = null;
+        for (long seed = 0; divergence == null && seed < 20; seed++) {
+            divergence = fuzzer.check(seed, steps);
+        }
+
+        assertNotNull(divergence);
+        assertTrue(divergence.getDescription().startsWith("result"), divergence.getDescription());
+        assertNull(new EngineFuzzer(1).check(divergence.getSeed(), steps));
+    }
+}
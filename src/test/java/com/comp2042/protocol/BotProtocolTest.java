@@ -0,0 +1,100 @@
+package com.comp2042.protocol;
+
+import com.comp2042.bot.BotAction;
+import com.comp2042.bot.Placement;
+import com.comp2042.core.Board;
+import com.comp2042.core.SimpleBoard;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for BotProtocol - encoding and decoding of the line-delimited JSON messages
+class BotProtocolTest {
+
+    // ========== Round trips ==========
+
+    @Test
+    @DisplayName("Suggest carries the board, current brick, hold and queue")
+    void suggestRoundTrip() {
+        // Given
+        Board board = new SimpleBoard(10, 25, 7L);
+        board.newGame();
+        board.holdCurrentBrick();
+
+        // When
+        BotMessage message = BotProtocol.parse(BotProtocol.suggest(42, board));
+
+        // Then
+        assertEquals(BotMessage.Type.SUGGEST, message.getType());
+        assertEquals(42, message.getMove());
+        assertArrayEquals(board.getBoardMatrix(), message.getBoard());
+        assertEquals(board.getViewData().getxPosition(), message.getX());
+        assertEquals(board.getViewData().getyPosition(), message.getY());
+        assertEquals(0, message.getRotation());
+        assertNotEquals(0, message.getHold());
+        assertFalse(message.canHold());
+        assertEquals(5, message.getQueue().length());
+    }
+
+    @Test
+    @DisplayName("Placement and input suggestions decode to what was encoded")
+    void suggestionRoundTrip() {
+        // Given
+        Placement placement = new Placement(3, -1, 22, true);
+        List<BotAction> inputs = List.of(BotAction.HOLD, BotAction.ROTATE, BotAction.LEFT, BotAction.HARD_DROP);
+
+        // When
+        BotMessage byPlacement = BotProtocol.parse(BotProtocol.suggestion(5, placement));
+        BotMessage byInputs = BotProtocol.parse(BotProtocol.suggestion(6, inputs));
+
+        // Then
+        assertEquals(placement, byPlacement.getPlacement());
+        assertNull(byPlacement.getInputs());
+        assertEquals(inputs, byInputs.getInputs());
+        assertNull(byInputs.getPlacement());
+        assertEquals(6, byInputs.getMove());
+    }
+
+    @Test
+    @DisplayName("Handshake messages keep their fields, including escaped text")
+    void handshakeMessages() {
+        BotMessage info = BotProtocol.parse(BotProtocol.info("name \"quoted\"\n", null));
+        BotMessage rules = BotProtocol.parse(BotProtocol.rules(10, 25));
+        BotMessage error = BotProtocol.parse(BotProtocol.error("back\\slash"));
+
+        assertEquals("name \"quoted\"\n", info.getName());
+        assertNull(info.getAuthor());
+        assertEquals(10, rules.getWidth());
+        assertEquals(25, rules.getHeight());
+        assertEquals("back\\slash", error.getReason());
+        assertEquals(BotMessage.Type.READY, BotProtocol.parse(BotProtocol.ready()).getType());
+        assertEquals(BotMessage.Type.QUIT, BotProtocol.parse(BotProtocol.quit()).getType());
+    }
+
+    // ========== Malformed input ==========
+
+    @Test
+    @DisplayName("Unknown fields and whitespace are accepted")
+    void lenientParsing() {
+        BotMessage message = BotProtocol.parse(
+                " { \"move\" : 3 , \"extra\" : [1, 2.5, {\"a\": null}], \"type\" : \"suggestion\","
+                        + " \"inputs\" : [ \"Hard_Drop\" ] } ");
+
+        assertEquals(3, message.getMove());
+        assertEquals(List.of(BotAction.HARD_DROP), message.getInputs());
+    }
+
+    @Test
+    @DisplayName("Malformed lines are rejected with IllegalArgumentException")
+    void malformedLines() {
+        assertThrows(IllegalArgumentException.class, () -> BotProtocol.parse("{\"type\":\"ready\""));
+        assertThrows(IllegalArgumentException.class, () -> BotProtocol.parse("[1,2]"));
+        assertThrows(IllegalArgumentException.class, () -> BotProtocol.parse("{\"type\":\"dance\"}"));
+        assertThrows(IllegalArgumentException.class, () -> BotProtocol.parse("{\"type\":\"suggestion\",\"move\":1}"));
+        assertThrows(IllegalArgumentException.class,
+                () -> BotProtocol.parse("{\"type\":\"suggestion\",\"move\":1,\"inputs\":[\"jump\"]}"));
+    }
+}
@@ -0,0 +1,213 @@
+package com.comp2042.protocol;
+
+import com.comp2042.bot.BotAction;
+import com.comp2042.bot.Placement;
+import com.comp2042.bot.PlayerType;
+import com.comp2042.core.Board;
+import com.comp2042.core.SimpleBoard;
+import com.comp2042.model.GameMode;
+import com.comp2042.sim.GameSimulator;
+import com.comp2042.sim.SimulationConfig;
+import com.comp2042.sim.SimulationResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for ExternalBot and EchoBot - handshake, moves, timeouts and throughput over pipes
+class ExternalBotTest {
+
+    private static final int PIPE_SIZE = 1 << 16;
+
+    /** Both ends of a bot connection made of in-memory pipes. */
+    private static final class Pipes {
+        final PipedInputStream fromBot = new PipedInputStream(PIPE_SIZE);
+        final PipedInputStream toBot = new PipedInputStream(PIPE_SIZE);
+        final PipedOutputStream botOut;
+        final PipedOutputStream gameOut;
+
+        Pipes() throws IOException {
+            botOut = new PipedOutputStream(fromBot);
+            gameOut = new PipedOutputStream(toBot);
+        }
+
+        BufferedReader botReader() {
+            return new BufferedReader(new InputStreamReader(toBot, StandardCharsets.UTF_8));
+        }
+
+        Writer botWriter() {
+            return new BufferedWriter(new OutputStreamWriter(botOut, StandardCharsets.UTF_8));
+        }
+
+        ExternalBot connect(long timeoutMillis) throws IOException {
+            return new ExternalBot(fromBot, gameOut, timeoutMillis);
+        }
+    }
+
+    private static Pipes startEchoBot(boolean inputs) throws IOException {
+        Pipes pipes = new Pipes();
+        Thread thread = new Thread(() -> {
+            try {
+                new EchoBot(inputs).run(pipes.botReader(), pipes.botWriter());
+                pipes.botOut.close();
+            } catch (IOException e) {
+                // Game side closed the pipes
+            }
+        }, "echo-bot");
+        thread.setDaemon(true);
+        thread.start();
+        return pipes;
+    }
+
+    private static Board newBoard(long seed) {
+        Board board = new SimpleBoard(10, 25, seed);
+        board.newGame();
+        return board;
+    }
+
+    private static void send(Writer out, String line) throws IOException {
+        out.write(line);
+        out.write('\n');
+        out.flush();
+    }
+
+    // ========== Handshake ==========
+
+    @Test
+    @DisplayName("Handshake reads the bot's name")
+    void handshake() throws IOException {
+        try (ExternalBot bot = startEchoBot(false).connect(1000)) {
+            assertEquals("echo", bot.getName());
+            assertEquals("CWK2025DMS", bot.getAuthor());
+        }
+    }
+
+    @Test
+    @DisplayName("A bot that refuses the rules fails the handshake")
+    void refusedRules() throws IOException {
+        // Given
+        Pipes pipes = new Pipes();
+        Writer bot = pipes.botWriter();
+        send(bot, BotProtocol.info("picky", null));
+        send(bot, BotProtocol.error("only 4-wide boards"));
+
+        // When / Then
+        IOException error = assertThrows(IOException.class, () -> pipes.connect(1000));
+        assertTrue(error.getMessage().contains("only 4-wide boards"));
+    }
+
+    // ========== Moves ==========
+
+    @Test
+    @DisplayName("Placement replies land where the echo bot said")
+    void placementReply() throws IOException {
+        // Given
+        Board board = newBoard(3L);
+
+        try (ExternalBot bot = startEchoBot(false).connect(1000)) {
+            // When
+            BotMove move = bot.requestMove(board);
+
+            // Then
+            assertNotNull(move);
+            Placement placement = move.getPlacement();
+            move.applyTo(board);
+            assertEquals(placement.getX(), board.getViewData().getxPosition());
+            assertEquals(placement.getY(), board.getViewData().getyPosition());
+        }
+    }
+
+    @Test
+    @DisplayName("Input replies are replayed exactly and reduce to the same placement")
+    void inputReply() throws IOException {
+        // Given
+        Board played = newBoard(4L);
+        Board planned = newBoard(4L);
+
+        try (ExternalBot bot = startEchoBot(true).connect(1000)) {
+            BotMove move = bot.requestMove(played);
+            assertEquals(List.of(BotAction.HARD_DROP), move.getInputs());
+
+            // When
+            int dropped = move.applyTo(played);
+            Placement placement = bot.choosePlacement(planned);
+
+            // Then
+            assertTrue(dropped > 0);
+            assertEquals(played.getViewData().getyPosition(), placement.getY());
+            assertEquals(played.getViewData().getxPosition(), placement.getX());
+        }
+    }
+
+    @Test
+    @DisplayName("A complete game can be played through the protocol")
+    void fullGame() throws IOException {
+        SimulationConfig config = new SimulationConfig(GameMode.NORMAL, 5L, 200, PlayerType.GREEDY);
+        try (ExternalBot bot = startEchoBot(false).connect(1000)) {
+            SimulationResult result = new GameSimulator(config, bot).run();
+
+            assertTrue(result.getPieces() > 0);
+            assertEquals(0, bot.getTimeouts());
+        }
+    }
+
+    // ========== Timeouts ==========
+
+    @Test
+    @DisplayName("A slow reply forfeits its move and is skipped when it arrives late")
+    void timeoutAndStaleReply() throws IOException {
+        // Given
+        Pipes pipes = new Pipes();
+        Writer botSide = pipes.botWriter();
+        send(botSide, BotProtocol.info("slow", null));
+        send(botSide, BotProtocol.ready());
+
+        try (ExternalBot bot = pipes.connect(50)) {
+            Board board = newBoard(6L);
+
+            // When - move 1 gets no answer in time
+            assertNull(bot.requestMove(board));
+
+            // Then - the late answer to move 1 is dropped, the answer to move 2 is used
+            send(botSide, BotProtocol.suggestion(1, new Placement(0, 0, 0)));
+            send(botSide, BotProtocol.suggestion(2, new Placement(1, 4, 20)));
+            BotMove move = bot.requestMove(board);
+            assertEquals(new Placement(1, 4, 20), move.getPlacement());
+            assertEquals(1, bot.getTimeouts());
+            assertEquals(1, bot.getStaleReplies());
+        }
+    }
+
+    @Test
+    @DisplayName("Thousands of moves per second pass through the pipes")
+    void throughput() throws IOException {
+        // Given
+        Board board = newBoard(8L);
+        int moves = 2000;
+
+        try (ExternalBot bot = startEchoBot(false).connect(1000)) {
+            long start = System.nanoTime();
+
+            // When
+            for (int i = 0; i < moves; i++) {
+                assertNotNull(bot.requestMove(board));
+            }
+
+            // Then
+            double seconds = (System.nanoTime() - start) / 1e9;
+            assertEquals(0, bot.getTimeouts());
+            assertTrue(seconds < 10, "2000 moves took " + seconds + " s");
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.comp2042.replay;
+
+import com.comp2042.bot.PlayerType;
+import com.comp2042.model.GameMode;
+import com.comp2042.sim.GameSimulator;
+import com.comp2042.sim.SimulationConfig;
+import com.comp2042.sim.TrainingDataReader;
+import com.comp2042.sim.TrainingDataWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for ReplayIndex, ReplayIndexBuilder and CellPattern - pattern search over recorded positions
+class ReplayIndexTest {
+
+    private static final String[] PATTERNS = {"X../.../X.X", "X.X", "XX/..", "XXXXXXXXX.", "X?X/.X.", "X"};
+
+    private Path directory;
+    private List<int[]> boards;
+
+    /**
+     * Records greedy and random games into shards of at most 100 records
+     * and keeps every stack for checking the index against.
+     */
+    private void recordGames() throws IOException {
+        directory = Files.createTempDirectory("replay-index");
+        try (TrainingDataWriter writer = new TrainingDataWriter(directory, "games", 100)) {
+            for (int i = 0; i < 8; i++) {
+                SimulationConfig config = new SimulationConfig(GameMode.NORMAL, 40L + i, 150,
+                        i % 2 == 0 ? PlayerType.GREEDY : PlayerType.RANDOM);
+                new GameSimulator(config, null, writer).run();
+            }
+        }
+        boards = new ArrayList<>();
+        for (Path shard : TrainingDataReader.shards(directory, "games")) {
+            try (TrainingDataReader reader = TrainingDataReader.open(shard)) {
+                while (reader.next()) {boards.add(rows(reader));}
+            }
+        }
+    }
+
+    private void deleteGames() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static int[] rows(TrainingDataReader reader) {
+        int[] rows = new int[GameSimulator.BOARD_HEIGHT];
+        for (int y = 0; y < rows.length; y++) {rows[y] = reader.row(y);}
+        return rows;
+    }
+
+    /** Checks every position directly, the answer the index must give. */
+    private int[] scan(CellPattern pattern) {
+        return IntStream.range(0, boards.size())
+                .filter(p -> pattern.matchesAnywhere(boards.get(p), GameSimulator.BOARD_WIDTH))
+                .toArray();
+    }
+
+    private Path buildIndex(String name, int parallelism) throws IOException {
+        Path index = directory.resolve(name);
+        int positions = new ReplayIndexBuilder(3, parallelism)
+                .build(TrainingDataReader.shards(directory, "games"), index);
+        assertEquals(boards.size(), positions);
+        return index;
+    }
+
+    // ========== Search ==========
+
+    @Test
+    @DisplayName("Every pattern finds exactly the positions a full scan finds")
+    void matchesFullScan() throws IOException {
+        recordGames();
+        try (ReplayIndex index = ReplayIndex.open(buildIndex("scan", 1), 3)) {
+            for (String text : PATTERNS) {
+                CellPattern pattern = CellPattern.parse(text);
+                int[] expected = scan(pattern);
+
+                SearchResult result = index.search(pattern, Integer.MAX_VALUE);
+
+                assertArrayEquals(expected, result.getPositions(), text);
+                assertTrue(result.isComplete());
+                assertEquals(expected.length, index.count(pattern));
+            }
+        } finally {
+            deleteGames();
+        }
+    }
+
+    @Test
+    @DisplayName("A limited search returns the first matches in order and says it stopped")
+    void limitReturnsFirstMatches() throws IOException {
+        recordGames();
+        try (ReplayIndex index = ReplayIndex.open(buildIndex("limit", 1), 2)) {
+            CellPattern pattern = CellPattern.parse("XX/..");
+            int[] expected = scan(pattern);
+            assertTrue(expected.length > 10, "Common pattern");
+
+            SearchResult result = index.search(pattern, 10);
+
+            assertArrayEquals(Arrays.copyOf(expected, 10), result.getPositions());
+            assertFalse(result.isComplete());
+        } finally {
+            deleteGames();
+        }
+    }
+
+    @Test
+    @DisplayName("A match is located in its shard")
+    void locatesMatches() throws IOException {
+        recordGames();
+        try (ReplayIndex index = ReplayIndex.open(buildIndex("locate", 1), 1)) {
+            CellPattern pattern = CellPattern.parse("X../.../X.X");
+            int[] found = index.search(pattern, 5).getPositions();
+            assertTrue(found.length > 0, "The games hold a slot");
+            for (int position : found) {
+                // When the record is read back from the shard the index names
+                int[] rows;
+                try (TrainingDataReader reader = TrainingDataReader.open(index.getShard(position))) {
+                    for (int i = 0; i <= index.getRecordIndex(position); i++) {
+                        assertTrue(reader.next());
+                    }
+                    rows = rows(reader);
+                }
+
+                // Then it holds the pattern
+                assertTrue(pattern.matchesAnywhere(rows, GameSimulator.BOARD_WIDTH), "Position " + position);
+                assertArrayEquals(boards.get(position), rows);
+            }
+        } finally {
+            deleteGames();
+        }
+    }
+
+    @Test
+    @DisplayName("Patterns taller than the grams are rejected")
+    void rejectsTallPatterns() throws IOException {
+        recordGames();
+        try (ReplayIndex index = ReplayIndex.open(buildIndex("tall", 1), 1)) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> index.search(CellPattern.parse("X/X/X/X"), 10));
+        } finally {
+            deleteGames();
+        }
+    }
+
+    // ========== Builder ==========
+
+    @Test
+    @DisplayName("Building in parallel writes the same files as one thread")
+    void parallelBuildIsDeterministic() throws IOException {
+        recordGames();
+        try {
+            Path sequential = buildIndex("sequential", 1);
+            Path parallel = buildIndex("parallel", 3);
+
+            assertEquals(-1L, Files.mismatch(sequential.resolve(ReplayIndex.GRAMS_FILE),
+                    parallel.resolve(ReplayIndex.GRAMS_FILE)));
+            assertEquals(-1L, Files.mismatch(sequential.resolve(ReplayIndex.POSTINGS_FILE),
+                    parallel.resolve(ReplayIndex.POSTINGS_FILE)));
+        } finally {
+            deleteGames();
+        }
+    }
+
+    // ========== Patterns ==========
+
+    @Test
+    @DisplayName("Pattern cells are filled, empty or either")
+    void patternCells() {
+        CellPattern slot = CellPattern.parse("X..", "...", "X.X");
+        int[] board = {0b000, 0b001, 0b000, 0b101};
+
+        assertTrue(slot.matchesAt(board, 1, 0));
+        assertFalse(slot.matchesAt(board, 0, 0));
+        assertTrue(CellPattern.parse("???/X.X").matchesAt(board, 2, 0));
+        assertEquals(CellPattern.parse("X../.../X.X"), slot);
+        assertEquals("X../.../X.X", slot.toString());
+    }
+
+    @Test
+    @DisplayName("Malformed patterns are rejected")
+    void rejectsMalformedPatterns() {
+        assertThrows(IllegalArgumentException.class, () -> CellPattern.parse("..", "??"));
+        assertThrows(IllegalArgumentException.class, () -> CellPattern.parse("X#"));
+        assertThrows(IllegalArgumentException.class, () -> CellPattern.parse("X", ".."));
+    }
+}
@@ -0,0 +1,74 @@
+package com.comp2042.sim;
+
+import com.comp2042.bot.HeuristicPlayer;
+import com.comp2042.bot.Placement;
+import com.comp2042.bot.RandomPlayer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for AttractModeGame - the endless menu game and its engine checks
+class AttractModeGameTest {
+
+    @Test
+    @DisplayName("Plays on without failed engine checks")
+    void playsCleanly() {
+        AttractModeGame game = new AttractModeGame(1L);
+
+        for (int i = 0; i < 500; i++) {
+            game.step();
+        }
+
+        assertEquals(500, game.getPieces());
+        assertEquals(0, game.getFailures(), game.getLastFailure());
+        assertNull(game.getLastFailure());
+    }
+
+    @Test
+    @DisplayName("Starts the next game when the stack tops out")
+    void restartsAfterTopOut() {
+        // Given - random drops top out quickly
+        AttractModeGame game = new AttractModeGame(new RandomPlayer(3L), 5L, AttractModeGame.DEFAULT_PIECE_LIMIT);
+
+        // When
+        for (int i = 0; i < 300; i++) {
+            game.step();
+        }
+
+        // Then
+        assertTrue(game.getGames() > 1, "Games: " + game.getGames());
+        assertEquals(0, game.getFailures(), game.getLastFailure());
+    }
+
+    @Test
+    @DisplayName("Starts the next game at the piece limit")
+    void restartsAtPieceLimit() {
+        AttractModeGame game = new AttractModeGame(new HeuristicPlayer(), 1L, 10);
+
+        for (int i = 0; i < 25; i++) {
+            game.step();
+        }
+
+        assertEquals(3, game.getGames());
+    }
+
+    @Test
+    @DisplayName("Reports a brick that does not land where planned")
+    void reportsMisplacedBrick() {
+        // Given - a player whose plan can never be met
+        AttractModeGame game = new AttractModeGame(board -> new Placement(0, -20, 0, false), 1L, 100);
+
+        // When
+        game.step();
+
+        // Then
+        assertEquals(1, game.getFailures());
+        assertTrue(game.getLastFailure().contains("instead of (-20,0)"), game.getLastFailure());
+    }
+
+    @Test
+    @DisplayName("Rejects a piece limit below one")
+    void rejectsPieceLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new AttractModeGame(new HeuristicPlayer(), 1L, 0));
+    }
+}
@@ -0,0 +1,77 @@
+package com.comp2042.sim;
+
+import com.comp2042.bot.PlayerType;
+import com.comp2042.model.GameMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for BatchSimulator - concurrent headless games
+class BatchSimulatorTest {
+
+    private static final SimulationConfig CONFIG =
+            new SimulationConfig(GameMode.NORMAL, 100L, 60, PlayerType.GREEDY);
+
+    @Test
+    @DisplayName("Batch plays the requested number of games")
+    void playsRequestedGames() {
+        BatchSummary summary = new BatchSimulator(2).run(CONFIG, 12);
+
+        assertEquals(12, summary.getGames());
+        assertEquals(2, summary.getParallelism());
+    }
+
+    @Test
+    @DisplayName("Parallel totals match a sequential run of the same seeds")
+    void parallelMatchesSequential() {
+        BatchSummary sequential = new BatchSimulator(1).run(CONFIG, 16);
+        BatchSummary parallel = new BatchSimulator(4).run(CONFIG, 16);
+
+        assertEquals(sequential.getPieces(), parallel.getPieces(), "Pieces should match");
+        assertEquals(sequential.getLines(), parallel.getLines(), "Lines should match");
+        assertEquals(sequential.getScore(), parallel.getScore(), "Score should match");
+        assertEquals(sequential.getToppedOut(), parallel.getToppedOut(), "Top-outs should match");
+        assertEquals(sequential.getMaxScore(), parallel.getMaxScore(), "Max score should match");
+    }
+
+    @Test
+    @DisplayName("Totals equal the sum of individual games")
+    void totalsEqualSumOfGames() {
+        long pieces = 0;
+        long lines = 0;
+        for (int i = 0; i < 5; i++) {
+            SimulationResult result = new GameSimulator(CONFIG.withSeed(CONFIG.getSeed() + i)).run();
+            pieces += result.getPieces();
+            lines += result.getLines();
+        }
+
+        BatchSummary summary = new BatchSimulator(3).run(CONFIG, 5);
+
+        assertEquals(pieces, summary.getPieces());
+        assertEquals(lines, summary.getLines());
+    }
+
+    @Test
+    @DisplayName("Top-out rate is a fraction of games")
+    void topOutRateIsFraction() {
+        SimulationConfig randomConfig = new SimulationConfig(GameMode.NORMAL, 1L, 10_000, PlayerType.RANDOM);
+        BatchSummary summary = new BatchSimulator(2).run(randomConfig, 4);
+
+        assertEquals(1.0, summary.getTopOutRate(), 1e-9, "Random players always top out");
+    }
+
+    @Test
+    @DisplayName("Empty batch produces zero totals")
+    void emptyBatch() {
+        BatchSummary summary = new BatchSimulator(2).run(CONFIG, 0);
+
+        assertEquals(0, summary.getGames());
+        assertEquals(0.0, summary.getMeanLines(), 0.0);
+    }
+
+    @Test
+    @DisplayName("Parallelism below one is rejected")
+    void invalidParallelismRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchSimulator(0));
+    }
+}
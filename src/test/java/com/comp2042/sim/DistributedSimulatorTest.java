@@ -0,0 +1,156 @@
+package com.comp2042.sim;
+
+import com.comp2042.bot.PlayerType;
+import com.comp2042.model.GameMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for DistributedSimulator and SimulationWorker - batches on workers over loopback TCP
+class DistributedSimulatorTest {
+
+    private static final SimulationConfig CONFIG =
+            new SimulationConfig(GameMode.NORMAL, 100L, 60, PlayerType.GREEDY);
+
+    private static void assertSameTotals(BatchSummary expected, BatchSummary actual) {
+        assertEquals(expected.getGames(), actual.getGames(), "Games should match");
+        assertEquals(expected.getPieces(), actual.getPieces(), "Pieces should match");
+        assertEquals(expected.getLines(), actual.getLines(), "Lines should match");
+        assertEquals(expected.getScore(), actual.getScore(), "Score should match");
+        assertEquals(expected.getToppedOut(), actual.getToppedOut(), "Top-outs should match");
+        assertEquals(expected.getMaxScore(), actual.getMaxScore(), "Max score should match");
+    }
+
+    private static Future<?> startWorker(ExecutorService threads, int port, int slots) {
+        return threads.submit(() -> {
+            new SimulationWorker("localhost", port, slots).run(5000);
+            return null;
+        });
+    }
+
+    // ========== Batches ==========
+
+    @Test
+    @DisplayName("Workers on loopback produce the same totals as a local batch")
+    void matchesLocalBatch() throws Exception {
+        BatchSummary local = new BatchSimulator(1).run(CONFIG, 18);
+        ExecutorService threads = Executors.newCachedThreadPool();
+        try (DistributedSimulator coordinator = new DistributedSimulator(0, 4)) {
+            Future<?> first = startWorker(threads, coordinator.getPort(), 2);
+            Future<?> second = startWorker(threads, coordinator.getPort(), 1);
+
+            BatchSummary distributed = coordinator.run(CONFIG, 18);
+
+            assertSameTotals(local, distributed);
+            first.get(10, TimeUnit.SECONDS);
+            second.get(10, TimeUnit.SECONDS);
+            assertEquals(0, coordinator.getLostWorkers());
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Jobs of a worker that disconnects are played by another")
+    void requeuesJobsOfLostWorker() throws Exception {
+        BatchSummary local = new BatchSimulator(1).run(CONFIG, 10);
+        ExecutorService threads = Executors.newCachedThreadPool();
+        try (DistributedSimulator coordinator = new DistributedSimulator(0, 2)) {
+            Future<BatchSummary> run = threads.submit(() -> coordinator.run(CONFIG, 10));
+
+            // Given - a worker that takes two jobs and dies without answering
+            try (Socket crashing = new Socket("localhost", coordinator.getPort())) {
+                DataOutputStream out = new DataOutputStream(crashing.getOutputStream());
+                SimulationWire.writeHello(out, 2);
+                out.flush();
+                DataInputStream in = new DataInputStream(crashing.getInputStream());
+                for (int i = 0; i < 2; i++) {
+                    assertEquals(SimulationWire.JOB, in.readByte());
+                    SimulationWire.readJob(in);
+                }
+            }
+
+            // When - a healthy worker joins
+            Future<?> worker = startWorker(threads, coordinator.getPort(), 1);
+
+            // Then
+            assertSameTotals(local, run.get(30, TimeUnit.SECONDS));
+            worker.get(10, TimeUnit.SECONDS);
+            assertEquals(1, coordinator.getLostWorkers());
+            assertEquals(2, coordinator.getRequeuedJobs());
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("A connection that is not a worker does not disturb the run")
+    void ignoresForeignConnections() throws Exception {
+        BatchSummary local = new BatchSimulator(1).run(CONFIG, 4);
+        ExecutorService threads = Executors.newCachedThreadPool();
+        try (DistributedSimulator coordinator = new DistributedSimulator(0, 1)) {
+            Future<BatchSummary> run = threads.submit(() -> coordinator.run(CONFIG, 4));
+            try (Socket stranger = new Socket("localhost", coordinator.getPort())) {
+                OutputStream out = stranger.getOutputStream();
+                out.write("GET / HTTP/1.0\r\n\r\n".getBytes());
+                out.flush();
+            }
+
+            Future<?> worker = startWorker(threads, coordinator.getPort(), 2);
+
+            assertSameTotals(local, run.get(30, TimeUnit.SECONDS));
+            worker.get(10, TimeUnit.SECONDS);
+            assertEquals(0, coordinator.getLostWorkers());
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    // ========== Wire Format ==========
+
+    @Test
+    @DisplayName("Jobs and results survive the binary encoding")
+    void wireRoundTrip() throws IOException {
+        SimulationWire.Job job = new SimulationWire.Job(7,
+                new SimulationConfig(GameMode.TWO_MINUTES, -3L, 50, PlayerType.HEURISTIC, 250), 2);
+        SimulationResult[] results = {
+                new GameSimulator(job.config).run(),
+                new GameSimulator(job.config.withSeed(-2L)).run()
+        };
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        SimulationWire.writeJob(out, job);
+        SimulationWire.writeResult(out, job.id, results);
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(SimulationWire.JOB, in.readByte());
+        SimulationWire.Job decoded = SimulationWire.readJob(in);
+        assertEquals(SimulationWire.RESULT, in.readByte());
+        assertEquals(7, in.readInt());
+        SimulationResult[] decodedResults = SimulationWire.readResults(in, decoded);
+
+        assertEquals(GameMode.TWO_MINUTES, decoded.config.getMode());
+        assertEquals(PlayerType.HEURISTIC, decoded.config.getPlayerType());
+        assertEquals(250, decoded.config.getMsPerPiece());
+        assertEquals(2, decoded.games);
+        for (int i = 0; i < results.length; i++) {
+            assertEquals(OutputFormat.CSV.format(List.of(results[i])),
+                    OutputFormat.CSV.format(List.of(decodedResults[i])));
+        }
+        assertEquals(-1, in.read(), "Nothing should be left over");
+    }
+}
@@ -0,0 +1,147 @@
+package com.comp2042.sim;
+
+import com.comp2042.bot.GreedyPlayer;
+import com.comp2042.bot.Player;
+import com.comp2042.bot.PlayerType;
+import com.comp2042.model.GameMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+// Tests for GameSimulator - headless games
+class GameSimulatorTest {
+
+    private SimulationResult play(GameMode mode, long seed, int pieces, PlayerType player) {
+        return new GameSimulator(new SimulationConfig(mode, seed, pieces, player)).run();
+    }
+
+    // ========== Determinism ==========
+
+    @Test
+    @DisplayName("Same seed and player replay the same game")
+    void sameSeedSameGame() {
+        SimulationResult first = play(GameMode.NORMAL, 11L, 200, PlayerType.GREEDY);
+        SimulationResult second = play(GameMode.NORMAL, 11L, 200, PlayerType.GREEDY);
+
+        assertEquals(first.getPieces(), second.getPieces(), "Pieces should match");
+        assertEquals(first.getLines(), second.getLines(), "Lines should match");
+        assertEquals(first.getScore(), second.getScore(), "Score should match");
+        assertEquals(first.getEndReason(), second.getEndReason(), "End reason should match");
+    }
+
+    @Test
+    @DisplayName("Random player is reproducible from its seed")
+    void randomPlayerReproducible() {
+        SimulationResult first = play(GameMode.NORMAL, 3L, 100, PlayerType.RANDOM);
+        SimulationResult second = play(GameMode.NORMAL, 3L, 100, PlayerType.RANDOM);
+
+        assertEquals(first.getPieces(), second.getPieces());
+        assertEquals(first.getScore(), second.getScore());
+    }
+
+    // ========== End Conditions ==========
+
+    @Test
+    @DisplayName("Game stops at the piece limit")
+    void stopsAtPieceLimit() {
+        SimulationResult result = play(GameMode.NORMAL, 1L, 5, PlayerType.GREEDY);
+
+        assertEquals(5, result.getPieces(), "Should place exactly 5 pieces");
+        assertEquals(SimulationResult.EndReason.PIECE_LIMIT, result.getEndReason());
+    }
+
+    @Test
+    @DisplayName("Zero piece limit places nothing")
+    void zeroPieceLimit() {
+        SimulationResult result = play(GameMode.NORMAL, 1L, 0, PlayerType.GREEDY);
+
+        assertEquals(0, result.getPieces());
+        assertEquals(0, result.getSimulatedMillis());
+    }
+
+    @Test
+    @DisplayName("Simulated time advances per piece")
+    void simulatedTimeAdvancesPerPiece() {
+        SimulationResult result = new GameSimulator(
+                new SimulationConfig(GameMode.NORMAL, 1L, 10, PlayerType.GREEDY, 250)).run();
+
+        assertEquals(result.getPieces() * 250L, result.getSimulatedMillis());
+    }
+
+    @Test
+    @DisplayName("Two minutes mode ends on simulated time, not wall time")
+    void twoMinutesEndsOnSimulatedTime() {
+        // 60 seconds per piece: time is up after two pieces
+        SimulationResult result = new GameSimulator(
+                new SimulationConfig(GameMode.TWO_MINUTES, 1L, 1000, PlayerType.GREEDY, 60_000)).run();
+
+        assertEquals(2, result.getPieces());
+        assertEquals(SimulationResult.EndReason.TIME_UP, result.getEndReason());
+    }
+
+    @Test
+    @DisplayName("Random player eventually tops out")
+    void randomPlayerTopsOut() {
+        SimulationResult result = play(GameMode.NORMAL, 1L, 10_000, PlayerType.RANDOM);
+
+        assertTrue(result.isToppedOut(), "Random drops should fill the board");
+        assertTrue(result.getPieces() < 10_000);
+    }
+
+    // ========== Output ==========
+
+    @Test
+    @DisplayName("CSV output has a header and one row per game")
+    void csvOutputRows() {
+        SimulationResult result = play(GameMode.NORMAL, 1L, 3, PlayerType.GREEDY);
+        String csv = OutputFormat.CSV.format(List.of(result, result));
+        String[] lines = csv.split("\n");
+
+        assertEquals(3, lines.length, "Header plus two rows");
+        assertTrue(lines[0].startsWith("mode,seed,player"));
+        assertTrue(lines[1].startsWith("NORMAL,1,GREEDY,PIECE_LIMIT,3,"));
+    }
+
+    @Test
+    @DisplayName("JSON output for one game is a single object")
+    void jsonOutputSingleObject() {
+        SimulationResult result = play(GameMode.FORTY_LINES, 9L, 3, PlayerType.GREEDY);
+        String json = OutputFormat.JSON.format(List.of(result)).trim();
+
+        assertTrue(json.startsWith("{") && json.endsWith("}"));
+        assertTrue(json.contains("\"mode\": \"FORTY_LINES\""));
+        assertTrue(json.contains("\"seed\": 9"));
+        assertTrue(json.contains("\"pieces\": 3"));
+    }
+
+    @Test
+    @DisplayName("Invalid config is rejected")
+    void invalidConfigRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SimulationConfig(GameMode.NORMAL, 1L, -1, PlayerType.GREEDY));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SimulationConfig(GameMode.NORMAL, 1L, 10, PlayerType.GREEDY, 0));
+    }
+
+    @Test
+    @DisplayName("A supplied player is used instead of the config's player type")
+    void suppliedPlayerIsUsed() {
+        // Given - a player that counts its decisions
+        int[] decisions = new int[1];
+        Player greedy = new GreedyPlayer();
+        Player counting = board -> {
+            decisions[0]++;
+            return greedy.choosePlacement(board);
+        };
+        SimulationConfig config = new SimulationConfig(GameMode.NORMAL, 1L, 12, PlayerType.RANDOM);
+
+        // When
+        SimulationResult result = new GameSimulator(config, counting).run();
+
+        // Then
+        assertEquals(12, decisions[0]);
+        assertEquals(play(GameMode.NORMAL, 1L, 12, PlayerType.GREEDY).getLines(), result.getLines());
+    }
+}
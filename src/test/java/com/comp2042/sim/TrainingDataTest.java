@@ -0,0 +1,213 @@
+package com.comp2042.sim;
+
+import com.comp2042.bot.PieceShape;
+import com.comp2042.bot.PlayerType;
+import com.comp2042.core.SimpleBoard;
+import com.comp2042.model.GameMode;
+import com.comp2042.model.ViewData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for TrainingDataWriter and TrainingDataReader - placement record shards
+class TrainingDataTest {
+
+    private static final SimulationConfig CONFIG =
+            new SimulationConfig(GameMode.NORMAL, 300L, 120, PlayerType.GREEDY);
+
+    // ========== Round trip ==========
+
+    @Test
+    @DisplayName("Every placement of simulated games is read back with its game's outcome")
+    void recordsEveryPlacement() throws IOException {
+        Path directory = Files.createTempDirectory("training-data");
+        try {
+            // Given games recorded into shards of at most 50 records
+            Map<Long, SimulationResult> results = new HashMap<>();
+            try (TrainingDataWriter writer = new TrainingDataWriter(directory, "games", 50)) {
+                for (int i = 0; i < 4; i++) {
+                    SimulationResult result = new GameSimulator(CONFIG.withSeed(300L + i), null, writer).run();
+                    results.put(result.getSeed(), result);
+                }
+            }
+
+            // When every shard is scanned
+            List<Path> shards = TrainingDataReader.shards(directory, "games");
+            Map<Long, Integer> pieces = new HashMap<>();
+            Map<Long, Integer> lines = new HashMap<>();
+            for (Path shard : shards) {
+                try (TrainingDataReader reader = TrainingDataReader.open(shard)) {
+                    while (reader.next()) {
+                        long game = reader.getGameId();
+                        SimulationResult result = results.get(game);
+                        assertNotNull(result, "Unknown game " + game);
+                        assertEquals(pieces.getOrDefault(game, 0).intValue(), reader.getPieceIndex(),
+                                "Pieces in order");
+                        assertEquals(result.getPieces(), reader.getGamePieces());
+                        assertEquals(result.getLines(), reader.getGameLines());
+                        assertEquals(result.getEndReason(), reader.getEndReason());
+                        assertNotNull(reader.getPiece());
+                        assertNotNull(reader.getQueue(0), "The preview is never empty");
+                        pieces.merge(game, 1, Integer::sum);
+                        lines.merge(game, reader.getLinesCleared(), Integer::sum);
+                    }
+                }
+            }
+
+            // Then the records add up to the games
+            int total = results.values().stream().mapToInt(SimulationResult::getPieces).sum();
+            assertEquals((total + 49) / 50, shards.size(), "Shards rotate every 50 records");
+            for (SimulationResult result : results.values()) {
+                assertEquals(result.getPieces(), pieces.get(result.getSeed()).intValue());
+                assertEquals(result.getLines(), lines.get(result.getSeed()).intValue());
+            }
+        } finally {
+            deleteTree(directory);
+        }
+    }
+
+    @Test
+    @DisplayName("A record holds the stack, piece, preview and placement of the board")
+    void recordMatchesBoard() throws IOException {
+        Path directory = Files.createTempDirectory("training-data");
+        try {
+            // Given a board with garbage and the brick moved down a few rows
+            SimpleBoard board = new SimpleBoard(GameSimulator.BOARD_WIDTH, GameSimulator.BOARD_HEIGHT, 7L);
+            board.addGarbageRows(3, 4);
+            board.createNewBrick();
+            board.moveBrickDown();
+            board.moveBrickDown();
+            int[][] matrix = board.getBoardMatrix();
+            ViewData view = board.getViewData();
+            PieceShape piece = PieceShape.of(board.getCurrentBrick());
+            PieceShape next = PieceShape.of(board.getNextBricksData(1).get(0));
+
+            // When it is recorded
+            try (TrainingDataWriter writer = new TrainingDataWriter(directory, "board")) {
+                GameRecorder recorder = writer.newGame(42L);
+                recorder.record(board);
+                recorder.finish(SimulationResult.EndReason.PIECE_LIMIT);
+            }
+
+            // Then the reader sees the same position
+            try (TrainingDataReader reader = TrainingDataReader.open(
+                    TrainingDataReader.shards(directory, "board").get(0))) {
+                assertTrue(reader.next());
+                assertEquals(42L, reader.getGameId());
+                for (int y = 0; y < GameSimulator.BOARD_HEIGHT; y++) {
+                    int mask = 0;
+                    for (int x = 0; x < GameSimulator.BOARD_WIDTH; x++) {
+                        assertEquals(matrix[y][x] != 0, reader.isFilled(x, y), "Cell " + x + "," + y);
+                        if (matrix[y][x] != 0) {mask |= 1 << x;}
+                    }
+                    assertEquals(mask, reader.row(y), "Row " + y);
+                }
+                assertEquals(piece, reader.getPiece());
+                assertNull(reader.getHold());
+                assertEquals(next, reader.getQueue(0));
+                assertEquals(view.getxPosition(), reader.getPlacement().getX());
+                assertEquals(view.getyPosition(), reader.getPlacement().getY());
+                assertEquals(SimulationResult.EndReason.PIECE_LIMIT, reader.getEndReason());
+                assertFalse(reader.next());
+            }
+        } finally {
+            deleteTree(directory);
+        }
+    }
+
+    // ========== Writer ==========
+
+    @Test
+    @DisplayName("Parallel batch games are all recorded")
+    void batchRecordsAllGames() throws IOException {
+        Path directory = Files.createTempDirectory("training-data");
+        try {
+            BatchSummary summary;
+            TrainingDataWriter writer = new TrainingDataWriter(directory, "batch");
+            try (writer) {
+                summary = new BatchSimulator(3).run(CONFIG, 9, writer);
+            }
+            long records = writer.getRecords();
+
+            long read = 0;
+            for (Path shard : TrainingDataReader.shards(directory, "batch")) {
+                try (TrainingDataReader reader = TrainingDataReader.open(shard)) {
+                    while (reader.next()) {read++;}
+                }
+            }
+            assertEquals(summary.getPieces(), records);
+            assertEquals(summary.getPieces(), read);
+        } finally {
+            deleteTree(directory);
+        }
+    }
+
+    @Test
+    @DisplayName("A second writer continues the shard numbering")
+    void numberingContinues() throws IOException {
+        Path directory = Files.createTempDirectory("training-data");
+        try {
+            for (int run = 0; run < 2; run++) {
+                try (TrainingDataWriter writer = new TrainingDataWriter(directory, "runs")) {
+                    new GameSimulator(CONFIG, null, writer).run();
+                }
+            }
+
+            List<Path> shards = TrainingDataReader.shards(directory, "runs");
+            assertEquals(2, shards.size());
+            assertEquals("runs-00000.tds", shards.get(0).getFileName().toString());
+            assertEquals("runs-00001.tds", shards.get(1).getFileName().toString());
+        } finally {
+            deleteTree(directory);
+        }
+    }
+
+    @Test
+    @DisplayName("A finished recorder rejects further placements")
+    void finishedRecorderRejectsRecords() throws IOException {
+        Path directory = Files.createTempDirectory("training-data");
+        try (TrainingDataWriter writer = new TrainingDataWriter(directory, "done")) {
+            SimpleBoard board = new SimpleBoard(GameSimulator.BOARD_WIDTH, GameSimulator.BOARD_HEIGHT, 1L);
+            board.createNewBrick();
+            GameRecorder recorder = writer.newGame(1L);
+            recorder.finish(SimulationResult.EndReason.TOPPED_OUT);
+
+            assertThrows(IllegalStateException.class, () -> recorder.record(board));
+        } finally {
+            deleteTree(directory);
+        }
+    }
+
+    // ========== Reader ==========
+
+    @Test
+    @DisplayName("Files that are not shards are rejected")
+    void rejectsOtherFiles() throws IOException {
+        Path file = Files.createTempFile("not-a-shard", ".tds");
+        try {
+            Files.writeString(file, "hello, world");
+
+            assertThrows(IOException.class, () -> TrainingDataReader.open(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void deleteTree(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
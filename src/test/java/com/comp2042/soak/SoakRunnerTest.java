@@ -0,0 +1,147 @@
+package com.comp2042.soak;
+
+import com.comp2042.bot.PlayerType;
+import com.comp2042.clock.GameClock;
+import com.comp2042.model.GameMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Timer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for SoakRunner and SoakReport - headless endurance runs and the flat memory, thread and task verdict
+class SoakRunnerTest {
+
+    private static SoakSample sample(long pieces, long retainedBytes, int liveThreads) {
+        return sample(pieces, retainedBytes, liveThreads, 3);
+    }
+
+    private static SoakSample sample(long pieces, long retainedBytes, int liveThreads, int pendingTasks) {
+        return new SoakSample(pieces, pieces / 10, GameMode.NORMAL, pieces / 50, retainedBytes, pieces * 1000,
+                1e6, liveThreads, pendingTasks);
+    }
+
+    // ========== Runs ==========
+
+    @Test
+    @DisplayName("A short soak restarts games, changes mode and stays flat")
+    void shortSoakIsFlat() {
+        SoakRunner runner = new SoakRunner(PlayerType.RANDOM, 3, 2);
+
+        List<SoakSample> samples = runner.run(6000, 1000, null);
+
+        assertEquals(7, samples.size());
+        assertEquals(0, samples.get(0).getPieces());
+        assertEquals(6000, samples.get(6).getPieces());
+        assertTrue(runner.getGames() >= 6, "Played " + runner.getGames() + " games");
+        assertTrue(runner.getClock().millis() >= 6000 * 500L, "Clock at " + runner.getClock().millis());
+        for (SoakSample sample : samples.subList(1, 6)) {
+            assertTrue(sample.getPendingTasks() >= 2, sample.toString());
+        }
+        assertEquals(0, runner.getClock().getPendingCount());
+        SoakReport report = new SoakReport(samples, 16_000_000, 0, 4);
+        assertTrue(report.isFlat(), report.toString());
+    }
+
+    @Test
+    @DisplayName("Timers left running during a soak fail the thread check")
+    void leakedTimersAreCaught() {
+        List<Timer> leaked = new ArrayList<>();
+        try {
+            // Given an effect that starts a timer per event and never cancels it
+            SoakRunner runner = new SoakRunner(PlayerType.RANDOM, 4, 5);
+
+            // When it runs alongside the game
+            List<SoakSample> samples = runner.run(4000, 1000, sample -> leaked.add(new Timer(true)));
+
+            // Then the report names the growth
+            SoakReport report = new SoakReport(samples, 16_000_000, 0, 4);
+            assertFalse(report.isFlat());
+            assertTrue(report.getThreadGrowth() >= 2, report.toString());
+            assertTrue(report.getFailures().get(0).startsWith("Live threads"), report.getFailures().toString());
+        } finally {
+            for (Timer timer : leaked) {timer.cancel();}
+        }
+    }
+
+    @Test
+    @DisplayName("Clock tasks left running during a soak fail the task check")
+    void leakedTasksAreCaught() {
+        // Given an effect that starts repeating tasks on the game clock and never cancels them
+        SoakRunner runner = new SoakRunner(PlayerType.RANDOM, 5, 5);
+
+        // When it runs alongside the game
+        List<SoakSample> samples = runner.run(4000, 1000, sample -> {
+            for (int i = 0; i < 10; i++) {
+                runner.getClock().repeat(40, GameClock.INDEFINITE, () -> {});
+            }
+        });
+
+        // Then the report names the growth, and only the leaked tasks outlive the run
+        SoakReport report = new SoakReport(samples, 16_000_000, 0, 4);
+        assertFalse(report.isFlat());
+        assertTrue(report.getTaskGrowth() >= 10, report.toString());
+        assertTrue(report.getFailures().get(0).startsWith("Scheduled tasks"), report.getFailures().toString());
+        assertEquals(samples.size() * 10, runner.getClock().getPendingCount());
+    }
+
+    // ========== Reports ==========
+
+    @Test
+    @DisplayName("Retained heap growth beyond the tolerance fails the verdict")
+    void heapGrowthFails() {
+        List<SoakSample> samples = new ArrayList<>();
+        for (int i = 0; i <= 8; i++) {
+            samples.add(sample(i * 1000L, 40_000_000L + i * 5_000_000L, 12));
+        }
+
+        SoakReport report = new SoakReport(samples, 10_000_000, 0, 0);
+
+        assertEquals(20_000_000, report.getRetainedGrowth());
+        assertEquals(0, report.getThreadGrowth());
+        assertEquals(0, report.getTaskGrowth());
+        assertEquals(List.of("Retained heap grew by 20.0 MB (tolerance 10.0 MB)"), report.getFailures());
+        assertTrue(new SoakReport(samples, 20_000_000, 0, 0).isFlat());
+    }
+
+    @Test
+    @DisplayName("Pending task growth beyond the tolerance fails the verdict")
+    void taskGrowthFails() {
+        // Given samples whose pending tasks swing between 1 and 4 and then climb to 9
+        List<SoakSample> samples = new ArrayList<>();
+        int[] pending = {0, 1, 4, 2, 4, 6, 9, 8, 9};
+        for (int i = 0; i < pending.length; i++) {
+            samples.add(sample(i * 1000L, 40_000_000, 12, pending[i]));
+        }
+
+        // When a report compares the halves
+        SoakReport report = new SoakReport(samples, 0, 0, 4);
+
+        // Then the most in the second half is five above the most in the first
+        assertEquals(5, report.getTaskGrowth());
+        assertEquals(List.of("Scheduled tasks grew by 5 (tolerance 4)"), report.getFailures());
+        assertTrue(new SoakReport(samples, 0, 0, 5).isFlat());
+    }
+
+    @Test
+    @DisplayName("The time series is written as CSV and short runs are refused")
+    void writesCsv() throws IOException {
+        List<SoakSample> samples = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            samples.add(sample(i * 500L, 30_000_000, 9));
+        }
+        StringBuilder csv = new StringBuilder();
+
+        new SoakReport(samples, 0, 0, 0).writeCsv(csv);
+
+        String[] lines = csv.toString().split("\n");
+        assertEquals(5, lines.length);
+        assertEquals(SoakSample.CSV_HEADER, lines[0]);
+        assertEquals("1500,150,NORMAL,30,30000000,1500000,1000000,9,3", lines[4]);
+        assertThrows(IllegalArgumentException.class, () -> new SoakReport(samples.subList(0, 3), 0, 0, 0));
+    }
+}
@@ -0,0 +1,91 @@
+package com.comp2042.state;
+
+import com.comp2042.clock.VirtualGameClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for ComboDecay - the combo countdown shared by the combo meter and board glow
+class ComboDecayTest {
+
+    private VirtualGameClock clock;
+    private List<Integer> levels;
+    private ComboDecay decay;
+
+    @BeforeEach
+    void setUp() {
+        clock = new VirtualGameClock();
+        levels = new ArrayList<>();
+        decay = new ComboDecay(clock, levels::add);
+    }
+
+    // ========== Countdown ==========
+
+    @Test
+    @DisplayName("The level drops after the start delay and then every step until zero")
+    void decaysToZero() {
+        // Given a combo of 3
+        decay.set(3);
+
+        // When the start delay has not quite passed
+        clock.advance(ComboDecay.START_DELAY_MS - 1);
+        assertTrue(levels.isEmpty());
+
+        // Then the steps come one interval apart and stop at zero
+        clock.advance(1 + 2 * ComboDecay.STEP_INTERVAL_MS);
+        assertEquals(List.of(2, 1, 0), levels);
+        assertEquals(0, decay.getLevel());
+        assertFalse(decay.isRunning());
+        assertEquals(0, clock.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("Every combo change replaces the pending step instead of adding one")
+    void changesKeepOneTask() {
+        // Given many combo changes in quick succession
+        for (int combo = 1; combo <= 50; combo++) {
+            decay.set(combo);
+            clock.advance(100);
+        }
+
+        // Then only one task waits, and the countdown starts from the last change
+        assertEquals(1, clock.getPendingCount());
+        assertTrue(levels.isEmpty());
+        decay.set(0);
+        assertEquals(0, clock.getPendingCount());
+        assertFalse(decay.isRunning());
+    }
+
+    // ========== Pause and Dispose ==========
+
+    @Test
+    @DisplayName("Resuming starts the full delay again and a disposed decay schedules nothing")
+    void pauseResumeAndDispose() {
+        // Given a combo paused midway through its start delay
+        decay.set(2);
+        clock.advance(2000);
+        decay.pause();
+        clock.advance(60_000);
+        assertTrue(levels.isEmpty());
+        assertEquals(0, clock.getPendingCount());
+
+        // When it resumes, the next step is a full start delay away
+        decay.resume();
+        clock.advance(ComboDecay.START_DELAY_MS - 1);
+        assertTrue(levels.isEmpty());
+        clock.advance(1);
+        assertEquals(List.of(1), levels);
+
+        // Then disposing cancels the rest and ignores later changes
+        decay.dispose();
+        decay.set(5);
+        clock.advance(60_000);
+        assertEquals(List.of(1), levels);
+        assertEquals(0, clock.getPendingCount());
+    }
+}
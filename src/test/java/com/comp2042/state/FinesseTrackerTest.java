@@ -0,0 +1,126 @@
+package com.comp2042.state;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for FinesseTracker - per-piece key counting and fault detection
+ */
+class FinesseTrackerTest {
+
+    private FinesseTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new FinesseTracker();
+    }
+
+    // ========== Judging ==========
+
+    @Test
+    @DisplayName("A piece placed with the fewest presses is not a fault")
+    void minimumIsNotFault() {
+        tracker.onShift(true);
+        tracker.onRotate();
+
+        assertFalse(tracker.onLock(2));
+        assertEquals(1, tracker.getJudgedPieces());
+        assertEquals(0, tracker.getFaults());
+    }
+
+    @Test
+    @DisplayName("Extra presses are a fault and are counted")
+    void extraPressesAreFault() {
+        tracker.onShift(true);
+        tracker.onShift(true);
+        tracker.onShift(true);
+
+        assertTrue(tracker.onLock(1));
+        assertEquals(1, tracker.getFaults());
+        assertEquals(2, tracker.getExtraPresses());
+    }
+
+    @Test
+    @DisplayName("Repeats of a held key count as one press")
+    void heldKeyIsOnePress() {
+        tracker.onShift(true);
+        tracker.onShift(false);
+        tracker.onShift(false);
+
+        assertEquals(1, tracker.getPresses());
+        assertFalse(tracker.onLock(1));
+    }
+
+    @Test
+    @DisplayName("Counting starts again after every lock")
+    void countsPerPiece() {
+        tracker.onRotate();
+        tracker.onLock(1);
+
+        assertEquals(0, tracker.getPresses());
+        assertFalse(tracker.onLock(0));
+        assertEquals(2, tracker.getJudgedPieces());
+    }
+
+    // ========== Pieces Not Judged ==========
+
+    @Test
+    @DisplayName("Moving after a soft drop is a tuck and is not judged")
+    void tucksAreNotJudged() {
+        tracker.onSoftDrop();
+        tracker.onShift(true);
+        tracker.onShift(true);
+
+        assertFalse(tracker.onLock(0));
+        assertEquals(0, tracker.getJudgedPieces());
+    }
+
+    @Test
+    @DisplayName("Soft dropping after the last move is still judged")
+    void softDropAfterMovesIsJudged() {
+        tracker.onShift(true);
+        tracker.onShift(true);
+        tracker.onSoftDrop();
+
+        assertTrue(tracker.onLock(1));
+    }
+
+    @Test
+    @DisplayName("Pieces with fewer presses than the minimum were not placed by keys")
+    void fewerPressesNotJudged() {
+        assertFalse(tracker.onLock(2));
+        assertEquals(0, tracker.getJudgedPieces());
+    }
+
+    @Test
+    @DisplayName("Holding starts a new piece")
+    void holdStartsNewPiece() {
+        tracker.onShift(true);
+        tracker.onShift(true);
+        tracker.onNewPiece();
+        tracker.onShift(true);
+
+        assertFalse(tracker.onLock(1));
+    }
+
+    // ========== Reset ==========
+
+    @Test
+    @DisplayName("Resetting the game state scores clears the finesse counts")
+    void resetScoresClearsFinesse() {
+        GameState gameState = new GameState();
+        FinesseTracker finesse = gameState.getFinesseTracker();
+        finesse.onShift(true);
+        finesse.onShift(true);
+        finesse.onLock(0);
+
+        gameState.resetScores();
+
+        assertEquals(0, finesse.getFaults());
+        assertEquals(0, finesse.getJudgedPieces());
+        assertEquals(0, finesse.getExtraPresses());
+    }
+}
@@ -0,0 +1,38 @@
+package com.comp2042.state;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for SessionRecords - bests shared by the game states of one session
+class SessionRecordsTest {
+
+    // ========== Sharing ==========
+
+    @Test
+    @DisplayName("Two Minutes best score survives a new game scene")
+    void twoMinutesBestScoreSurvivesNewGameScene() {
+        // Given: A game scene built on the session records
+        SessionRecords records = new SessionRecords();
+        GameState firstScene = new GameState(records);
+        // When: Set best, then go back to the menu and load the game scene again
+        firstScene.setTwoMinutesBestScore(5000);
+        GameState nextScene = new GameState(records);
+        // Then: Best is still there
+        assertEquals(5000, nextScene.getTwoMinutesBestScore(), "Best should persist across game scenes");
+        assertEquals(5000, records.getTwoMinutesBestScore(), "Best should be kept on the records");
+    }
+
+    @Test
+    @DisplayName("Separate records keep separate bests")
+    void separateRecordsDoNotShare() {
+        // Given: Two game states on their own records
+        GameState first = new GameState(new SessionRecords());
+        GameState second = new GameState(new SessionRecords());
+        // When: Set best on the first
+        first.setTwoMinutesBestScore(5000);
+        // Then: The second is unaffected
+        assertEquals(0, second.getTwoMinutesBestScore(), "Separate records should not share best score");
+    }
+}
@@ -1,10 +1,17 @@
 package com.comp2042.state;
 
+import com.comp2042.clock.GameClock;
+import com.comp2042.clock.ScheduledTask;
+import com.comp2042.clock.VirtualGameClock;
+import com.comp2042.core.SimpleBoard;
 import com.comp2042.model.GameMode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -609,4 +616,191 @@ class TimerManagerTest {
             assertTrue(elapsed >= 0, "Should work when game is over");
         }, "Should handle game over state");
     }
-}
\ No newline at end of file
+
+    // ========== Virtual Clock Tests ==========
+
+    @Test
+    @DisplayName("Countdown steps once a second and completes once, half a second after GO!")
+    void countdownRunsOnVirtualClock() {
+        VirtualGameClock clock = new VirtualGameClock();
+        TimerManager manager = new TimerManager(gameState, null, clock);
+        List<String> shown = new ArrayList<>();
+        List<Long> completed = new ArrayList<>();
+
+        manager.startCountdown(text -> shown.add(text + "@" + clock.millis()), () -> completed.add(clock.millis()));
+        clock.advance(10_000);
+
+        assertEquals(List.of("3@0", "2@1000", "1@2000", "GO!@3000"), shown);
+        assertEquals(List.of(3500L), completed);
+    }
+
+    @Test
+    @DisplayName("Stopping the countdown after GO! cancels its completion")
+    void stopCountdownAfterGoCancelsCompletion() {
+        VirtualGameClock clock = new VirtualGameClock();
+        TimerManager manager = new TimerManager(gameState, null, clock);
+        int[] completed = new int[1];
+
+        manager.startCountdown(text -> {}, () -> completed[0]++);
+        clock.advance(3200);
+        manager.stopCountdown();
+        clock.advance(10_000);
+
+        assertEquals(0, completed[0]);
+        assertEquals(0, clock.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("Lock delay restarts on each reset and expires 500ms after the last one")
+    void lockDelayResetsOnVirtualClock() {
+        // Given: a landed piece whose lock delay is reset three times, 400ms apart
+        VirtualGameClock clock = new VirtualGameClock();
+        TimerManager manager = new TimerManager(gameState, null, clock);
+        List<Long> locks = new ArrayList<>();
+        manager.startLockDelay(() -> locks.add(clock.millis()));
+        for (int i = 0; i < 3; i++) {
+            clock.advance(400);
+            manager.stopLockDelay();
+            manager.startLockDelay(() -> locks.add(clock.millis()));
+        }
+
+        // When: the player stops touching it
+        clock.advance(499);
+        assertTrue(locks.isEmpty(), "Should not lock before the delay runs out");
+        clock.advance(1);
+
+        // Then: it locks exactly once
+        clock.advance(5000);
+        assertEquals(List.of(1700L), locks);
+    }
+
+    @Test
+    @DisplayName("Pausing on a virtual clock freezes the game time and the drop phase")
+    void pauseFreezesTimeOnVirtualClock() {
+        VirtualGameClock clock = new VirtualGameClock();
+        TimerManager manager = new TimerManager(gameState, null, clock);
+        List<Long> drops = new ArrayList<>();
+        manager.resetStartTime();
+        manager.startDropTimer(800, () -> drops.add(clock.millis()));
+
+        clock.advance(1000);
+        manager.pauseGameTimer();
+        manager.pauseDropTimer();
+        clock.advance(30_000);
+        manager.resumeGameTimer();
+        manager.resumeDropTimer();
+        clock.advance(1000);
+
+        assertEquals(2000, manager.getElapsedTime());
+        assertEquals(List.of(800L, 31_600L), drops);
+    }
+
+    @Test
+    @DisplayName("A whole two-minute game with lock delay resets runs in virtual time, the same way every time")
+    void twoMinuteGameRunsOnVirtualClock() {
+        // When: the same game is played twice
+        TimedGame first = new TimedGame(7).play();
+        TimedGame second = new TimedGame(7).play();
+
+        // Then: time runs out once, 120s after the 3.5s countdown
+        assertEquals(List.of(123_500L), first.timeUps);
+        assertEquals(120_000, first.elapsedAtTimeUp);
+        assertEquals("0:00.00", first.lastDisplay);
+
+        // And: pieces locked after using their lock delay resets
+        assertTrue(first.locks.size() >= 5, "Locked " + first.locks.size() + " pieces");
+        for (int resets : first.resetsPerLock) {
+            assertEquals(first.state.getMaxLockResets(), resets);
+        }
+
+        // And: both runs match, and nothing is left scheduled
+        assertEquals(first.locks, second.locks);
+        assertEquals(0, first.clock.getPendingCount());
+    }
+
+    /**
+     * Plays a two-minute game the way GameFlowManager and BrickLockHandler drive
+     * TimerManager: a countdown, gravity from the drop timer, a lock delay when the
+     * piece lands, and a player who slides the piece every 100ms to reset the delay
+     * until the resets run out.
+     */
+    private static final class TimedGame {
+        final VirtualGameClock clock = new VirtualGameClock();
+        final GameState state = new GameState();
+        final TimerManager timers;
+        final SimpleBoard board;
+        final List<Long> locks = new ArrayList<>();
+        final List<Integer> resetsPerLock = new ArrayList<>();
+        final List<Long> timeUps = new ArrayList<>();
+        long elapsedAtTimeUp;
+        String lastDisplay;
+        private ScheduledTask player;
+        private boolean slideLeft;
+
+        TimedGame(long seed) {
+            state.setCurrentGameMode(GameMode.TWO_MINUTES);
+            timers = new TimerManager(state, text -> lastDisplay = text, clock);
+            board = new SimpleBoard(10, 25, seed);
+            board.createNewBrick();
+            timers.setOnTimeUp(() -> {
+                timeUps.add(clock.millis());
+                elapsedAtTimeUp = timers.getElapsedTime();
+                state.setGameOver(true);
+                timers.stopAllTimers();
+                player.cancel();
+            });
+        }
+
+        TimedGame play() {
+            timers.startCountdown(text -> {}, () -> {
+                timers.startGameTimer();
+                timers.resetStartTime();
+                timers.startDropTimer(state.getCurrentDropSpeed(), this::gravity);
+                player = clock.repeat(100, GameClock.INDEFINITE, this::slide);
+            });
+            clock.advance(130_000);
+            return this;
+        }
+
+        private void gravity() {
+            if (!board.moveBrickDown() && !state.isLockDelayActive()) {
+                state.setLockDelayActive(true);
+                timers.startLockDelay(this::lock);
+            }
+        }
+
+        private void slide() {
+            if (!state.isLockDelayActive()) {
+                return;
+            }
+            boolean moved = slideLeft ? board.moveBrickLeft() : board.moveBrickRight();
+            slideLeft = !slideLeft;
+            if (!moved) {
+                return;
+            }
+            if (state.getLockDelayResetCount() < state.getMaxLockResets()) {
+                state.incrementLockDelayResetCount();
+                timers.stopLockDelay();
+                timers.startLockDelay(this::lock);
+            } else {
+                lock();
+            }
+        }
+
+        private void lock() {
+            if (state.isGameOver()) {
+                return;
+            }
+            board.mergeBrickToBackground();
+            board.clearRows();
+            locks.add(clock.millis());
+            resetsPerLock.add(state.getLockDelayResetCount());
+            state.setLockDelayActive(false);
+            state.resetLockDelayCount();
+            timers.stopLockDelay();
+            board.createNewBrick();
+            timers.stopDropTimer();
+            timers.startDropTimer(state.getCurrentDropSpeed(), this::gravity);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.comp2042.tournament;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for RatingTable - Bradley-Terry Elo fit and confidence intervals
+class RatingTableTest {
+
+    private static List<MatchResult> results(String a, String b, int winsA, int draws, int winsB) {
+        List<MatchResult> results = new ArrayList<>();
+        long seed = 0;
+        for (int i = 0; i < winsA; i++) {results.add(result(a, b, 1.0, seed++));}
+        for (int i = 0; i < draws; i++) {results.add(result(a, b, 0.5, seed++));}
+        for (int i = 0; i < winsB; i++) {results.add(result(a, b, 0.0, seed++));}
+        return results;
+    }
+
+    private static MatchResult result(String a, String b, double score, long seed) {
+        return new MatchResult(new Match(MatchFormat.BATTLE, a, b, seed), score, 0, 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("Even results give equal ratings around 1500")
+    void evenResults() {
+        RatingTable table = RatingTable.of(results("a", "b", 10, 5, 10));
+
+        assertEquals(1500, table.get("a").getRating(), 1e-6);
+        assertEquals(1500, table.get("b").getRating(), 1e-6);
+        assertEquals(25, table.get("a").getGames());
+        assertEquals(12.5, table.get("a").getPoints());
+    }
+
+    @Test
+    @DisplayName("Rating gap follows the Elo expected score")
+    void gapMatchesExpectedScore() {
+        // Given - a scores 75%, which Elo expects at a gap of about 191
+        RatingTable table = RatingTable.of(results("a", "b", 750, 0, 250));
+
+        // Then - the virtual draws pull the gap in only slightly
+        double gap = table.get("a").getRating() - table.get("b").getRating();
+        assertEquals(191, gap, 2);
+        assertEquals("a", table.getRows().get(0).getBot());
+    }
+
+    @Test
+    @DisplayName("Unbeaten bots get a finite rating and more games narrow the interval")
+    void unbeatenAndIntervals() {
+        RatingTable few = RatingTable.of(results("a", "b", 4, 0, 0));
+        RatingTable many = RatingTable.of(results("a", "b", 40, 40, 40));
+
+        assertTrue(Double.isFinite(few.get("a").getRating()));
+        assertTrue(few.get("a").getRating() > few.get("b").getRating());
+        assertTrue(many.get("a").getInterval() < few.get("a").getInterval());
+    }
+
+    @Test
+    @DisplayName("Ratings do not depend on the order results arrive in")
+    void orderIndependent() {
+        List<MatchResult> results = new ArrayList<>(results("a", "b", 6, 2, 3));
+        results.addAll(results("b", "c", 5, 1, 1));
+        results.addAll(results("c", "a", 2, 0, 4));
+        RatingTable ordered = RatingTable.of(results);
+        Collections.reverse(results);
+        RatingTable reversed = RatingTable.of(results);
+
+        for (String bot : List.of("a", "b", "c")) {
+            assertEquals(ordered.get(bot).getRating(), reversed.get(bot).getRating(), 1e-6);
+        }
+        assertNull(ordered.get("d"));
+    }
+}
@@ -0,0 +1,115 @@
+package com.comp2042.tournament;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for Tournament and MatchRunner - scheduling, match rules and checkpoint resume
+class TournamentTest {
+
+    private static final List<String> BOTS = List.of("random", "greedy", "heuristic");
+
+    private static Tournament newTournament(int seeds) {
+        return new Tournament(BOTS, EnumSet.allOf(MatchFormat.class), 1, seeds, new MatchRunner(200, 0), 2);
+    }
+
+    // ========== Schedule ==========
+
+    @Test
+    @DisplayName("Every pair plays each battle seed both ways and each sprint seed once")
+    void scheduleCoversEveryPair() {
+        List<Match> schedule = newTournament(2).schedule();
+
+        // 3 pairs x 2 seeds x (2 battles + 1 sprint)
+        assertEquals(18, schedule.size());
+        assertEquals(MatchFormat.BATTLE, schedule.get(0).getFormat(), "Long battles are queued first");
+        assertTrue(schedule.contains(new Match(MatchFormat.BATTLE, "greedy", "random", 2)));
+        assertTrue(schedule.contains(new Match(MatchFormat.SPRINT, "random", "heuristic", 1)));
+        assertEquals(schedule.size(), schedule.stream().distinct().count());
+    }
+
+    @Test
+    @DisplayName("A tournament needs two different bots")
+    void rejectsSingleBot() {
+        MatchRunner runner = new MatchRunner(10, 0);
+        assertThrows(IllegalArgumentException.class,
+                () -> new Tournament(List.of("greedy"), EnumSet.allOf(MatchFormat.class), 1, 1, runner, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Tournament(List.of("greedy", "greedy"), EnumSet.allOf(MatchFormat.class), 1, 1, runner, 1));
+    }
+
+    // ========== Matches ==========
+
+    @Test
+    @DisplayName("Matches replay exactly and the stronger bot wins both formats")
+    void matchesAreDeterministic() {
+        MatchRunner runner = new MatchRunner(300, 0);
+        Match battle = new Match(MatchFormat.BATTLE, "random", "heuristic", 3);
+        Match sprint = new Match(MatchFormat.SPRINT, "heuristic", "random", 3);
+
+        MatchResult first = runner.play(battle);
+        MatchResult again = runner.play(battle);
+
+        assertEquals(first.toLine(), again.toLine());
+        assertEquals(0.0, first.getScore());
+        assertEquals(1.0, runner.play(sprint).getScore());
+    }
+
+    @Test
+    @DisplayName("Result lines parse back to the same result")
+    void resultLineRoundTrip() {
+        MatchResult result = new MatchResult(new Match(MatchFormat.SPRINT, "a", "b", -7), 0.5, 100, 40, 100, 40);
+
+        assertEquals(result.toLine(), MatchResult.parse(result.toLine()).toLine());
+        assertThrows(IllegalArgumentException.class, () -> MatchResult.parse("SPRINT\ta\tb"));
+    }
+
+    // ========== Checkpoint ==========
+
+    @Test
+    @DisplayName("A resumed tournament plays only the missing matches")
+    void resumeFromCheckpoint() throws IOException {
+        Path file = Files.createTempFile("tournament", ".tsv");
+        Files.delete(file);
+        try {
+            // Given - a finished one-seed tournament
+            List<MatchResult> firstRun = newTournament(1).run(file, result -> { });
+            assertEquals(9, firstRun.size());
+
+            // When - the same tournament extended to two seeds
+            List<MatchResult> played = new ArrayList<>();
+            List<MatchResult> secondRun = newTournament(2).run(file, played::add);
+
+            // Then
+            assertEquals(9, played.size());
+            assertTrue(played.stream().allMatch(result -> result.getMatch().getSeed() == 2));
+            assertEquals(18, secondRun.size());
+            assertEquals(19, Files.readAllLines(file).size(), "Header plus one line per match");
+            RatingTable table = RatingTable.of(secondRun);
+            assertEquals("heuristic", table.getRows().get(0).getBot());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("A checkpoint from other settings is refused")
+    void checkpointSettingsMustMatch() throws IOException {
+        Path file = Files.createTempFile("tournament", ".tsv");
+        try {
+            Files.writeString(file, "# tournament pieces=5 budget-nanos=0\n");
+
+            assertThrows(IllegalArgumentException.class, () -> newTournament(1).run(file, result -> { }));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.comp2042.tuning;
+
+import com.comp2042.bot.EvaluationWeights;
+import com.comp2042.model.GameMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for CrossEntropyTuner and TunerCheckpoint - weight tuning on the batch simulator
+class CrossEntropyTunerTest {
+
+    private static final TunerConfig SMALL =
+            new TunerConfig(GameMode.NORMAL, 6, 0.5, 2, 40, 1.0, 0.1, 7L);
+
+    // ========== Tuning ==========
+
+    @Test
+    @DisplayName("A generation evaluates the whole population and refits the distribution")
+    void stepRefits() {
+        // Given
+        TunerCheckpoint start = TunerCheckpoint.initial(SMALL, EvaluationWeights.DEFAULT);
+
+        // When
+        TunerCheckpoint next = new CrossEntropyTuner(2).step(start);
+
+        // Then
+        assertEquals(1, next.getGeneration());
+        assertEquals(6, next.getPopulation().length);
+        assertEquals(6, next.getFitness().length);
+        assertNotNull(next.getBestWeights());
+        assertNotEquals(EvaluationWeights.DEFAULT, next.getMeanWeights(), "Mean should move to the elites");
+        for (double stdDev : next.getStdDev()) {
+            assertTrue(stdDev >= Math.sqrt(SMALL.getNoise()), "Noise keeps the spread open");
+        }
+    }
+
+    @Test
+    @DisplayName("Parallel evaluation matches a single thread")
+    void parallelMatchesSequential() {
+        EvaluationWeights[] candidates = {
+                EvaluationWeights.DEFAULT,
+                new EvaluationWeights(-1, 1, -1, -1, -1, -1),
+                new EvaluationWeights(0, 0, 0, 0, 0, 0)
+        };
+
+        double[] sequential = new CrossEntropyTuner(1).evaluate(candidates, SMALL, 3L);
+        double[] parallel = new CrossEntropyTuner(4).evaluate(candidates, SMALL, 3L);
+
+        assertArrayEquals(sequential, parallel);
+    }
+
+    @Test
+    @DisplayName("Fitness rewards weights that clear lines")
+    void fitnessRanksWeights() {
+        TunerConfig config = new TunerConfig(GameMode.NORMAL, 2, 0.5, 2, 200, 1.0, 0.1, 1L);
+        EvaluationWeights[] candidates = {
+                EvaluationWeights.DEFAULT,
+                new EvaluationWeights(0, 0, 0, 0, 0, 0)
+        };
+
+        double[] fitness = new CrossEntropyTuner(2).evaluate(candidates, config, 1L);
+
+        assertTrue(fitness[0] > fitness[1], "El-Tetris weights should beat all-zero weights");
+    }
+
+    @Test
+    @DisplayName("A resumed run continues exactly like an uninterrupted one")
+    void resumeIsExact() throws IOException {
+        Path file = Files.createTempFile("tuner", ".properties");
+        try {
+            // Given - one run straight through and one stopped after a generation
+            CrossEntropyTuner tuner = new CrossEntropyTuner(2);
+            TunerCheckpoint start = TunerCheckpoint.initial(SMALL, EvaluationWeights.DEFAULT);
+            TunerCheckpoint straight = tuner.run(start, 2, null, null);
+            tuner.run(start, 1, file, null);
+
+            // When
+            TunerCheckpoint resumed = tuner.run(TunerCheckpoint.load(file), 2, file, null);
+
+            // Then
+            assertEquals(2, resumed.getGeneration());
+            assertArrayEquals(straight.getMean(), resumed.getMean());
+            assertArrayEquals(straight.getStdDev(), resumed.getStdDev());
+            assertEquals(straight.getBestWeights(), resumed.getBestWeights());
+            assertEquals(2, TunerCheckpoint.load(file).getGeneration(), "Checkpoint saved after every generation");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    // ========== Checkpoint ==========
+
+    @Test
+    @DisplayName("Checkpoint round-trips every value exactly")
+    void checkpointRoundTrip() throws IOException {
+        Path file = Files.createTempFile("tuner", ".properties");
+        try {
+            TunerCheckpoint original = new CrossEntropyTuner(1).step(
+                    TunerCheckpoint.initial(SMALL, EvaluationWeights.DEFAULT));
+            original.save(file);
+
+            TunerCheckpoint loaded = TunerCheckpoint.load(file);
+
+            assertEquals(original.getGeneration(), loaded.getGeneration());
+            assertArrayEquals(original.getMean(), loaded.getMean());
+            assertArrayEquals(original.getStdDev(), loaded.getStdDev());
+            assertArrayEquals(original.getFitness(), loaded.getFitness());
+            assertArrayEquals(original.getPopulation(), loaded.getPopulation());
+            assertEquals(original.getBestFitness(), loaded.getBestFitness());
+            assertEquals(SMALL.getPopulation(), loaded.getConfig().getPopulation());
+            assertEquals(SMALL.getSeed(), loaded.getConfig().getSeed());
+            assertFalse(Files.exists(file.resolveSibling(file.getFileName() + ".tmp")), "Temp file is moved away");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Initial checkpoint without a best candidate round-trips")
+    void initialCheckpointRoundTrip() throws IOException {
+        Path file = Files.createTempFile("tuner", ".properties");
+        try {
+            TunerCheckpoint.initial(SMALL, EvaluationWeights.DEFAULT).save(file);
+
+            TunerCheckpoint loaded = TunerCheckpoint.load(file);
+
+            assertEquals(0, loaded.getGeneration());
+            assertNull(loaded.getBestWeights());
+            assertEquals(EvaluationWeights.DEFAULT, loaded.getMeanWeights());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Malformed checkpoint is reported as an IOException")
+    void malformedCheckpoint() throws IOException {
+        Path file = Files.createTempFile("tuner", ".properties");
+        try {
+            Files.writeString(file, "version=1\ngeneration=3\n");
+
+            assertThrows(IOException.class, () -> TunerCheckpoint.load(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Config rejects invalid sizes")
+    void configValidation() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TunerConfig(GameMode.NORMAL, 1, 0.5, 1, 10, 1, 0, 1L));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TunerConfig(GameMode.NORMAL, 10, 0, 1, 10, 1, 0, 1L));
+        assertEquals(3, new TunerConfig(GameMode.NORMAL, 10, 0.25, 1, 10, 1, 0, 1L).getEliteCount());
+    }
+}
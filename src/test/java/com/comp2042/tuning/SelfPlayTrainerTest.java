@@ -0,0 +1,133 @@
+package com.comp2042.tuning;
+
+import com.comp2042.bot.EvaluationWeights;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for SelfPlayTrainer - TD self-play, the actor/learner queue and snapshots
+class SelfPlayTrainerTest {
+
+    // ========== Queue ==========
+
+    @Test
+    @DisplayName("Queue is first-in first-out and refuses elements when full")
+    void queueBounded() {
+        BoundedMpscQueue<Integer> queue = new BoundedMpscQueue<>(3);
+        assertEquals(4, queue.capacity(), "Capacity rounds up to a power of two");
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertFalse(queue.offer(4));
+        assertEquals(Integer.valueOf(0), queue.poll());
+        assertTrue(queue.offer(4));
+        for (int i = 1; i <= 4; i++) {
+            assertEquals(Integer.valueOf(i), queue.poll());
+        }
+        assertNull(queue.poll());
+    }
+
+    @Test
+    @DisplayName("Queue delivers every element of concurrent producers once, in each producer's order")
+    void queueConcurrentProducers() throws InterruptedException {
+        BoundedMpscQueue<long[]> queue = new BoundedMpscQueue<>(16);
+        int producers = 4;
+        int perProducer = 5_000;
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    long[] element = {producer, i};
+                    while (!queue.offer(element)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            thread.setDaemon(true);
+            threads.add(thread);
+            thread.start();
+        }
+
+        int[] next = new int[producers];
+        Set<long[]> seen = new HashSet<>();
+        int received = 0;
+        long deadline = System.nanoTime() + 30_000_000_000L;
+        while (received < producers * perProducer && System.nanoTime() < deadline) {
+            long[] element = queue.poll();
+            if (element == null) {
+                Thread.yield();
+                continue;
+            }
+            assertTrue(seen.add(element), "Element delivered twice");
+            assertEquals(next[(int) element[0]]++, element[1], "Producer order");
+            received++;
+        }
+        assertEquals(producers * perProducer, received);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(queue.poll());
+    }
+
+    // ========== Training ==========
+
+    @Test
+    @DisplayName("Training learns from the requested transitions and saves snapshots")
+    void trainsAndSnapshots() throws IOException {
+        Path file = Files.createTempFile("self-play", ".properties");
+        try {
+            SelfPlayTrainer trainer = new SelfPlayTrainer(new SelfPlayConfig(2, 1L));
+            AtomicInteger snapshots = new AtomicInteger();
+
+            SelfPlaySnapshot result = trainer.run(SelfPlaySnapshot.initial(EvaluationWeights.DEFAULT), 20_000, 5_000, file, snapshot -> snapshots.incrementAndGet());
+
+            assertEquals(20_000, result.getUpdates());
+            assertEquals(4, snapshots.get());
+            assertTrue(result.getGames() > 0, "Exploring actors should finish games");
+            for (double parameter : result.getParameters()) {
+                assertTrue(Double.isFinite(parameter));
+            }
+            assertNotEquals(0.0, result.getParameters()[SelfPlaySnapshot.PARAMETER_COUNT - 1],
+                    "The constant term should have learned something");
+
+            SelfPlaySnapshot saved = SelfPlaySnapshot.load(file);
+            assertArrayEquals(result.getParameters(), saved.getParameters());
+            assertEquals(result.getGames(), saved.getGames());
+            assertSame(saved, trainer.run(saved, 20_000, 5_000, null, null), "Nothing left to learn");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Starting weights are only scaled, which keeps every decision")
+    void startingWeightsKeepDirection() {
+        SelfPlaySnapshot snapshot = SelfPlaySnapshot.initial(EvaluationWeights.DEFAULT);
+
+        double[] expected = EvaluationWeights.DEFAULT.toArray();
+        double[] actual = snapshot.getWeights().toArray();
+        double ratio = actual[0] / expected[0];
+        assertTrue(ratio > 0);
+        for (int f = 0; f < expected.length; f++) {
+            assertEquals(expected[f] * ratio, actual[f], 1e-12 * Math.abs(actual[f]));
+        }
+        double largest = 0;
+        for (double parameter : snapshot.getParameters()) {
+            largest = Math.max(largest, Math.abs(parameter));
+        }
+        assertEquals(1.0, largest, 1e-12);
+        assertThrows(IllegalArgumentException.class, () -> new SelfPlaySnapshot(0, 0, 0, new double[3]));
+    }
+}
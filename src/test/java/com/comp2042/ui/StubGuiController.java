@@ -1,15 +1,15 @@
 package com.comp2042.ui;
 
+import com.comp2042.controller.HeadlessGuiController;
 import com.comp2042.controller.InputEventListener;
 import com.comp2042.model.ViewData;
-import com.comp2042.ui.initialization.GuiController;
-import javafx.beans.property.IntegerProperty;
 
 /**
  * Stub GuiController for testing without JavaFX dependencies.
- * All methods do nothing - just allows GameController to be instantiated.
+ * Draws nothing, like {@link HeadlessGuiController}, and records which
+ * calls GameController made.
  */
-public class StubGuiController extends GuiController {
+public class StubGuiController extends HeadlessGuiController {
 
     private boolean gameOverCalled = false;
     private boolean refreshCalled = false;
@@ -20,26 +20,15 @@ public class StubGuiController extends GuiController {
 
     // ========== Override Methods ==========
 
-    @Override
-    public void initialize(java.net.URL location, java.util.ResourceBundle resources) {
-        // Do nothing - avoid JavaFX initialization
-    }
-
     @Override
     public void setEventListener(InputEventListener listener) {
         this.setEventListenerCalled = true;
-        // Do nothing else - avoid JavaFX initialization
+        super.setEventListener(listener);
     }
 
     @Override
     public void initGameView(int[][] boardMatrix, ViewData brick) {
         this.initGameViewCalled = true;
-        // Do nothing else - avoid JavaFX initialization
-    }
-
-    @Override
-    public void bindScore(IntegerProperty prop) {
-        // Do nothing
     }
 
     @Override